@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.config.annotation.web.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.compression.Compressor;
+import org.apache.geode.compression.SnappyCompressor;
+import org.apache.geode.internal.cache.CachePerfStats;
+import org.apache.geode.internal.cache.InternalCache;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.offheap.OffHeapMemoryStats;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.data.gemfire.config.annotation.PeerCacheConfigurer;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireIntegrationTests;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+/**
+ * Integration tests asserting that {@link Session} state stored in an embedded peer cache {@link Region} configured
+ * with a {@link Compressor} and off-heap storage using {@link EnableGemFireHttpSession} is kept compressed
+ * and outside the JVM heap.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.compression.Compressor
+ * @see org.apache.geode.compression.SnappyCompressor
+ * @see org.springframework.data.gemfire.config.annotation.PeerCacheApplication
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.AbstractGemFireIntegrationTests
+ * @see org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession
+ * @see org.springframework.test.annotation.DirtiesContext
+ * @see org.springframework.test.context.ContextConfiguration
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @see org.springframework.test.context.web.WebAppConfiguration
+ * @since 2.1.3
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@DirtiesContext
+@WebAppConfiguration
+public class CompressedOffHeapSessionRegionIntegrationTests extends AbstractGemFireIntegrationTests {
+
+	private static final int SESSION_COUNT = 100;
+
+	private static final int SESSION_ATTRIBUTE_LENGTH = 16 * 1024;
+
+	private static final String GEMFIRE_LOG_LEVEL = "error";
+	private static final String SESSION_REGION_NAME = "CompressedOffHeapSessions";
+
+	private static String newText(int length) {
+
+		StringBuilder text = new StringBuilder(length);
+
+		while (text.length() < length) {
+			text.append("<tr><td class=\"item\">").append(text.length() % 101).append("</td></tr>");
+		}
+
+		return text.toString();
+	}
+
+	@Test
+	public void sessionRegionIsCompressedAndStoredOffHeap() {
+
+		Region<Object, Session> sessionRegion = this.gemfireCache.getRegion(SESSION_REGION_NAME);
+
+		assertRegion(sessionRegion, SESSION_REGION_NAME, DataPolicy.PARTITION);
+		assertThat(sessionRegion.getAttributes().getCompressor()).isInstanceOf(SnappyCompressor.class);
+		assertThat(sessionRegion.getAttributes().getOffHeap()).isTrue();
+	}
+
+	@Test
+	public void sessionStateIsCompressedAndStoredOutsideTheHeap() {
+
+		Region<Object, Session> sessionRegion = this.gemfireCache.getRegion(SESSION_REGION_NAME);
+
+		CachePerfStats regionStats = ((LocalRegion) sessionRegion).getRegionPerfStats();
+
+		OffHeapMemoryStats offHeapStats = ((InternalCache) this.gemfireCache).getOffHeapStore().getStats();
+
+		long preCompressedBytes = regionStats.getTotalPreCompressedBytes();
+		long postCompressedBytes = regionStats.getTotalPostCompressedBytes();
+		long offHeapUsedMemory = offHeapStats.getUsedMemory();
+
+		String text = newText(SESSION_ATTRIBUTE_LENGTH);
+
+		for (int count = 0; count < SESSION_COUNT; count++) {
+
+			Session session = createSession();
+
+			session.setAttribute("cart", text);
+
+			save(touch(session));
+
+			assertThat(this.<Session>get(session.getId()).<String>getAttribute("cart")).isEqualTo(text);
+		}
+
+		long uncompressedSize = regionStats.getTotalPreCompressedBytes() - preCompressedBytes;
+		long compressedSize = regionStats.getTotalPostCompressedBytes() - postCompressedBytes;
+		long offHeapSize = offHeapStats.getUsedMemory() - offHeapUsedMemory;
+
+		assertThat(uncompressedSize).isGreaterThanOrEqualTo((long) SESSION_COUNT * SESSION_ATTRIBUTE_LENGTH);
+		assertThat(compressedSize).isLessThan(uncompressedSize / 4);
+		assertThat(offHeapSize).isGreaterThan(0L);
+		assertThat(offHeapSize).isLessThan(uncompressedSize / 4);
+	}
+
+	@PeerCacheApplication(name = "CompressedOffHeapSessionRegionIntegrationTests", logLevel = GEMFIRE_LOG_LEVEL)
+	@EnableGemFireHttpSession(regionName = SESSION_REGION_NAME, compressorBeanName = "sessionCompressor",
+		offHeap = true)
+	static class SpringSessionGemFireConfiguration {
+
+		@Bean
+		PeerCacheConfigurer offHeapMemorySizeConfigurer() {
+			return (beanName, cacheFactoryBean) ->
+				cacheFactoryBean.getProperties().setProperty("off-heap-memory-size", "64m");
+		}
+
+		@Bean
+		Compressor sessionCompressor() {
+			return new SnappyCompressor();
+		}
+	}
+}
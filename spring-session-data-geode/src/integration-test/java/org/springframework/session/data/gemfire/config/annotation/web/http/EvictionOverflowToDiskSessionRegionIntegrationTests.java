@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.config.annotation.web.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAlgorithm;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.internal.cache.DiskRegionStats;
+import org.apache.geode.internal.cache.PartitionedRegion;
+
+import org.springframework.data.gemfire.config.annotation.EnableDiskStore;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.data.gemfire.eviction.EvictionPolicyType;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireIntegrationTests;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+/**
+ * Integration tests asserting that the least recently used {@link Session Sessions} stored in an embedded peer cache
+ * {@link Region} configured with eviction using {@link EnableGemFireHttpSession} overflow to disk
+ * and are transparently read back from disk when accessed.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.EvictionAttributes
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.config.annotation.EnableDiskStore
+ * @see org.springframework.data.gemfire.config.annotation.PeerCacheApplication
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.AbstractGemFireIntegrationTests
+ * @see org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession
+ * @see org.springframework.test.annotation.DirtiesContext
+ * @see org.springframework.test.context.ContextConfiguration
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @see org.springframework.test.context.web.WebAppConfiguration
+ * @since 2.1.3
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@DirtiesContext
+@WebAppConfiguration
+public class EvictionOverflowToDiskSessionRegionIntegrationTests extends AbstractGemFireIntegrationTests {
+
+	private static final int EVICTION_MAXIMUM = 10;
+	private static final int SESSION_COUNT = 100;
+
+	private static final String DISK_STORE_NAME = "SessionOverflowDiskStore";
+	private static final String GEMFIRE_LOG_LEVEL = "error";
+	private static final String SESSION_REGION_NAME = "OverflowingSessions";
+
+	@Test
+	public void sessionRegionOverflowsLeastRecentlyUsedSessionsToDisk() {
+
+		Region<Object, Session> sessionRegion = this.gemfireCache.getRegion(SESSION_REGION_NAME);
+
+		assertRegion(sessionRegion, SESSION_REGION_NAME, DataPolicy.PARTITION);
+		assertThat(sessionRegion.getAttributes().getDiskStoreName()).isEqualTo(DISK_STORE_NAME);
+
+		EvictionAttributes evictionAttributes = sessionRegion.getAttributes().getEvictionAttributes();
+
+		assertThat(evictionAttributes.getAction()).isEqualTo(EvictionAction.OVERFLOW_TO_DISK);
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionAlgorithm.LRU_ENTRY);
+		assertThat(evictionAttributes.getMaximum()).isEqualTo(EVICTION_MAXIMUM);
+	}
+
+	@Test
+	public void evictedSessionsAreReadBackFromDisk() {
+
+		Region<Object, Session> sessionRegion = this.gemfireCache.getRegion(SESSION_REGION_NAME);
+
+		DiskRegionStats diskRegionStats = ((PartitionedRegion) sessionRegion).getDiskRegionStats();
+
+		List<String> sessionIds = new ArrayList<>(SESSION_COUNT);
+
+		for (int count = 0; count < SESSION_COUNT; count++) {
+
+			Session session = createSession();
+
+			session.setAttribute("count", count);
+			session.setAttribute("user", "user" + count);
+
+			save(touch(session));
+
+			sessionIds.add(session.getId());
+		}
+
+		assertThat(diskRegionStats.getNumOverflowOnDisk()).isGreaterThan(0L);
+		assertThat(diskRegionStats.getNumEntriesInVM()).isLessThan((long) SESSION_COUNT);
+
+		for (int count = 0; count < SESSION_COUNT; count++) {
+
+			Session session = get(sessionIds.get(count));
+
+			assertThat(session).isNotNull();
+			assertThat(session.<Integer>getAttribute("count")).isEqualTo(count);
+			assertThat(session.<String>getAttribute("user")).isEqualTo("user" + count);
+		}
+
+		assertThat(diskRegionStats.getNumOverflowOnDisk()).isGreaterThan(0L);
+	}
+
+	@PeerCacheApplication(name = "EvictionOverflowToDiskSessionRegionIntegrationTests", logLevel = GEMFIRE_LOG_LEVEL)
+	@EnableDiskStore(name = DISK_STORE_NAME, diskDirectories = @EnableDiskStore.DiskDirectory(location = "build"))
+	@EnableGemFireHttpSession(regionName = SESSION_REGION_NAME, diskStoreName = DISK_STORE_NAME,
+		evictionMaximum = EVICTION_MAXIMUM, evictionPolicyType = EvictionPolicyType.ENTRY_COUNT)
+	static class SpringSessionGemFireConfiguration { }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.config.annotation.web.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.gemfire.config.annotation.EnableDiskStore;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.mock.env.MockPropertySource;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Integration tests asserting that {@link Session Sessions} stored in a persistent, partitioned embedded peer cache
+ * {@link Region} configured with asynchronous disk writes using {@link EnableGemFireHttpSession} survive
+ * a restart of the cache and that {@link Session Sessions} that expired while the cache was down are invalidated
+ * immediately after recovery.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.context.annotation.AnnotationConfigApplicationContext
+ * @see org.springframework.data.gemfire.config.annotation.EnableDiskStore
+ * @see org.springframework.data.gemfire.config.annotation.PeerCacheApplication
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class PersistentSessionRegionRestartIntegrationTests {
+
+	private static final int SESSION_COUNT = 50;
+
+	private static final String DISK_STORE_DIRECTORY = "build/persistent-sessions";
+	private static final String DISK_STORE_NAME = "PersistentSessionsDiskStore";
+	private static final String GEMFIRE_LOG_LEVEL = "error";
+	private static final String MAX_INACTIVE_INTERVAL_PROPERTY =
+		"spring.session.data.gemfire.session.expiration.max-inactive-interval-seconds";
+	private static final String SESSION_REGION_NAME = "PersistentSessions";
+
+	private ConfigurableApplicationContext applicationContext;
+
+	@Before
+	public void setup() {
+		deleteDiskStoreFiles();
+	}
+
+	@After
+	public void tearDown() {
+		close();
+		deleteDiskStoreFiles();
+	}
+
+	private void deleteDiskStoreFiles() {
+
+		FileSystemUtils.deleteRecursively(new File(DISK_STORE_DIRECTORY));
+
+		// PDX type metadata is persisted to the DEFAULT DiskStore in the working directory
+		Arrays.stream(Optional.ofNullable(new File(".").listFiles()).orElseGet(() -> new File[0]))
+			.filter(file -> file.getName().startsWith("BACKUPDEFAULT") || file.getName().startsWith("DRLK_IFDEFAULT"))
+			.forEach(File::delete);
+	}
+
+	private void close() {
+		Optional.ofNullable(this.applicationContext).ifPresent(ConfigurableApplicationContext::close);
+		this.applicationContext = null;
+	}
+
+	private void start(int maxInactiveIntervalInSeconds) {
+
+		AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+
+		applicationContext.getEnvironment().getPropertySources().addFirst(new MockPropertySource("TestProperties")
+			.withProperty(MAX_INACTIVE_INTERVAL_PROPERTY, String.valueOf(maxInactiveIntervalInSeconds)));
+
+		applicationContext.register(SpringSessionGemFireConfiguration.class);
+		applicationContext.refresh();
+
+		this.applicationContext = applicationContext;
+	}
+
+	private void restart(int maxInactiveIntervalInSeconds) {
+		close();
+		start(maxInactiveIntervalInSeconds);
+	}
+
+	@SuppressWarnings("unchecked")
+	private SessionRepository<Session> getSessionRepository() {
+		return this.applicationContext.getBean(SessionRepository.class);
+	}
+
+	private Region<Object, Session> getSessionRegion() {
+		return this.applicationContext.getBean(GemFireCache.class).getRegion(SESSION_REGION_NAME);
+	}
+
+	private boolean waitForInvalidation(String sessionId, long timeout) throws InterruptedException {
+
+		long timeoutTime = System.currentTimeMillis() + timeout;
+
+		while (getSessionRegion().get(sessionId) != null && System.currentTimeMillis() < timeoutTime) {
+			TimeUnit.MILLISECONDS.sleep(100L);
+		}
+
+		return getSessionRegion().get(sessionId) == null;
+	}
+
+	@Test
+	public void sessionsSurviveRestart() {
+
+		start(3600);
+
+		Region<Object, Session> sessionRegion = getSessionRegion();
+
+		assertThat(sessionRegion.getAttributes().getDataPolicy()).isEqualTo(DataPolicy.PERSISTENT_PARTITION);
+		assertThat(sessionRegion.getAttributes().getDiskStoreName()).isEqualTo(DISK_STORE_NAME);
+		assertThat(sessionRegion.getAttributes().isDiskSynchronous()).isFalse();
+
+		List<String> sessionIds = new ArrayList<>(SESSION_COUNT);
+
+		for (int count = 0; count < SESSION_COUNT; count++) {
+
+			Session session = getSessionRepository().createSession();
+
+			session.setAttribute("count", count);
+			session.setAttribute("user", "user" + count);
+
+			getSessionRepository().save(session);
+
+			sessionIds.add(session.getId());
+		}
+
+		restart(3600);
+
+		assertThat(getSessionRegion().size()).isEqualTo(SESSION_COUNT);
+
+		for (int count = 0; count < SESSION_COUNT; count++) {
+
+			Session session = getSessionRepository().findById(sessionIds.get(count));
+
+			assertThat(session).isNotNull();
+			assertThat(session.<Integer>getAttribute("count")).isEqualTo(count);
+			assertThat(session.<String>getAttribute("user")).isEqualTo("user" + count);
+		}
+	}
+
+	@Test
+	public void sessionsExpiredWhileDownAreInvalidatedAfterRecovery() throws InterruptedException {
+
+		int maxInactiveIntervalInSeconds = 4;
+
+		start(maxInactiveIntervalInSeconds);
+
+		Session session = getSessionRepository().createSession();
+
+		session.setAttribute("user", "jonDoe");
+
+		getSessionRepository().save(session);
+
+		close();
+
+		TimeUnit.SECONDS.sleep(maxInactiveIntervalInSeconds + 1);
+
+		start(maxInactiveIntervalInSeconds);
+
+		// Expires before a full idle timeout elapses from the time of recovery
+		assertThat(waitForInvalidation(session.getId(),
+			TimeUnit.SECONDS.toMillis(maxInactiveIntervalInSeconds) / 2)).isTrue();
+	}
+
+	@PeerCacheApplication(name = "PersistentSessionRegionRestartIntegrationTests", logLevel = GEMFIRE_LOG_LEVEL)
+	@EnableDiskStore(name = DISK_STORE_NAME, autoCompact = true, compactionThreshold = 75, maxOplogSize = 16,
+		queueSize = 1000, timeInterval = 250,
+		diskDirectories = @EnableDiskStore.DiskDirectory(location = DISK_STORE_DIRECTORY))
+	@EnableGemFireHttpSession(regionName = SESSION_REGION_NAME, diskStoreName = DISK_STORE_NAME,
+		diskSynchronous = false, serverRegionShortcut = RegionShortcut.PARTITION_PERSISTENT)
+	static class SpringSessionGemFireConfiguration { }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.config.annotation.web.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.Region;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionHelper;
+
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireIntegrationTests;
+import org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+/**
+ * Integration tests asserting that {@link Session Sessions} stored in an embedded peer cache {@link Region} configured
+ * with principal routing using {@link EnableGemFireHttpSession} are colocated by principal and are found
+ * by principal name.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.config.annotation.PeerCacheApplication
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.AbstractGemFireIntegrationTests
+ * @see org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession
+ * @see org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 2.1.3
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@DirtiesContext
+@WebAppConfiguration
+public class PrincipalRoutingSessionRegionIntegrationTests extends AbstractGemFireIntegrationTests {
+
+	private static final int SESSIONS_PER_PRINCIPAL = 10;
+
+	private static final String GEMFIRE_LOG_LEVEL = "error";
+	private static final String SESSION_REGION_NAME = "PrincipalRoutedSessions";
+
+	private int bucketIdOf(String sessionId) {
+		return PartitionedRegionHelper.getHashKey((PartitionedRegion) getSessionRegion(), Operation.GET, sessionId,
+			null, null);
+	}
+
+	private Session login(String principalName) {
+
+		Session session = save(touch(createSession()));
+
+		String anonymousSessionId = session.getId();
+
+		assertThat(PrincipalRoutingPartitionResolver.routingKeyOf(anonymousSessionId)).isNotPresent();
+
+		session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, principalName);
+
+		save(session);
+
+		assertThat(session.getId()).isNotEqualTo(anonymousSessionId);
+		assertThat(PrincipalRoutingPartitionResolver.isRoutedBy(session.getId(), principalName)).isTrue();
+
+		return session;
+	}
+
+	@Test
+	public void sessionRegionIsConfiguredWithPrincipalRoutingPartitionResolver() {
+
+		assertRegion(getSessionRegion(), SESSION_REGION_NAME, DataPolicy.PARTITION);
+
+		assertThat(getSessionRegion().getAttributes().getPartitionAttributes().getPartitionResolver())
+			.isInstanceOf(PrincipalRoutingPartitionResolver.class);
+	}
+
+	@Test
+	public void sessionsOfPrincipalAreColocatedAndFoundByPrincipalName() {
+
+		Set<String> jonDoeSessionIds = IntStream.range(0, SESSIONS_PER_PRINCIPAL)
+			.mapToObj(count -> login("jonDoe").getId())
+			.collect(Collectors.toSet());
+
+		Set<String> janeDoeSessionIds = IntStream.range(0, SESSIONS_PER_PRINCIPAL)
+			.mapToObj(count -> login("janeDoe").getId())
+			.collect(Collectors.toSet());
+
+		assertThat(jonDoeSessionIds.stream().map(this::bucketIdOf).distinct().count()).isEqualTo(1L);
+		assertThat(janeDoeSessionIds.stream().map(this::bucketIdOf).distinct().count()).isEqualTo(1L);
+
+		Map<String, Session> jonDoeSessions =
+			this.gemfireSessionRepository.findByPrincipalName("jonDoe");
+
+		assertThat(jonDoeSessions.keySet()).containsExactlyInAnyOrderElementsOf(jonDoeSessionIds);
+
+		Map<String, Session> janeDoeSessions =
+			this.gemfireSessionRepository.findByPrincipalName("janeDoe");
+
+		assertThat(janeDoeSessions.keySet()).containsExactlyInAnyOrderElementsOf(janeDoeSessionIds);
+
+		assertThat(this.gemfireSessionRepository.findByPrincipalName("pieDoe")).isEmpty();
+	}
+
+	@Test
+	public void routedSessionRetainsStateAndId() {
+
+		Session session = login("cookieDoe");
+
+		String sessionId = session.getId();
+
+		session.setAttribute("cart", "cookies");
+
+		save(touch(session));
+
+		assertThat(session.getId()).isEqualTo(sessionId);
+
+		Session loadedSession = get(sessionId);
+
+		assertThat(loadedSession).isNotNull();
+		assertThat(loadedSession.<String>getAttribute("cart")).isEqualTo("cookies");
+		assertThat(loadedSession.<String>getAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME))
+			.isEqualTo("cookieDoe");
+	}
+
+	@PeerCacheApplication(name = "PrincipalRoutingSessionRegionIntegrationTests", logLevel = GEMFIRE_LOG_LEVEL)
+	@EnableGemFireHttpSession(regionName = SESSION_REGION_NAME, principalRoutingEnabled = true)
+	static class SpringSessionGemFireConfiguration { }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.config.annotation.web.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireIntegrationTests;
+import org.springframework.session.data.gemfire.support.ColdSession;
+import org.springframework.session.data.gemfire.support.SessionTieringManager;
+import org.springframework.session.events.AbstractSessionEvent;
+import org.springframework.session.events.SessionDeletedEvent;
+import org.springframework.session.events.SessionExpiredEvent;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+/**
+ * Integration tests asserting that idle {@link Session Sessions} stored in an embedded peer cache {@link Region}
+ * configured with {@link EnableGemFireHttpSession#demotionIdleTimeoutSeconds()} are demoted to the cold
+ * {@link Region} and promoted back when accessed, without publishing {@link Session} lifecycle events,
+ * are found by principal name and publish a {@link SessionExpiredEvent} when expiring from the cold {@link Region}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.config.annotation.PeerCacheApplication
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.AbstractGemFireIntegrationTests
+ * @see org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession
+ * @see org.springframework.session.data.gemfire.support.SessionTieringManager
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 2.1.3
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@DirtiesContext
+@WebAppConfiguration
+public class SessionTieringIntegrationTests extends AbstractGemFireIntegrationTests {
+
+	private static final long DEMOTION_TIMEOUT = 10000L;
+
+	private static final String GEMFIRE_LOG_LEVEL = "error";
+	private static final String SESSION_REGION_NAME = "TieredSessions";
+
+	@Autowired
+	private SessionEventListener sessionEventListener;
+
+	@Autowired
+	private SessionTieringManager sessionTieringManager;
+
+	@Before
+	public void setup() {
+
+		assertThat(this.sessionTieringManager.isEnabled()).isTrue();
+		assertThat(this.gemfireSessionRepository.isSessionTieringEnabled()).isTrue();
+
+		this.sessionEventListener.getSessionEvent();
+	}
+
+	private Region<Object, Object> getColdRegion() {
+		return this.sessionTieringManager.getColdRegion();
+	}
+
+	private Session demoted(Session session) {
+
+		String sessionId = session.getId();
+
+		assertThat(waitOn(() -> !getSessionRegion().containsKey(sessionId), DEMOTION_TIMEOUT)).isTrue();
+		assertThat(getColdRegion().containsKey(sessionId)).isTrue();
+		assertThat(getColdRegion().get(sessionId)).isInstanceOf(ColdSession.class);
+
+		return session;
+	}
+
+	@Test
+	public void coldRegionIsColocatedWithSessionRegion() {
+
+		assertRegion(getColdRegion(), SessionTieringManager.coldRegionName(SESSION_REGION_NAME),
+			DataPolicy.PARTITION);
+
+		assertThat(getColdRegion().getAttributes().getPartitionAttributes().getColocatedWith())
+			.isEqualTo(getSessionRegion().getFullPath());
+	}
+
+	@Test
+	public void idleSessionIsDemotedAndPromotedWithoutSessionEvents() {
+
+		Session session = createSession();
+
+		session.setAttribute("cart", "cookies");
+
+		save(touch(session));
+
+		assertThat(this.sessionEventListener.<AbstractSessionEvent>getSessionEvent()).isNotNull();
+
+		demoted(session);
+
+		assertThat(this.sessionEventListener.<AbstractSessionEvent>getSessionEvent()).isNull();
+
+		Session promotedSession = get(session.getId());
+
+		assertThat(promotedSession).isNotNull();
+		assertThat(promotedSession.getId()).isEqualTo(session.getId());
+		assertThat(promotedSession.<String>getAttribute("cart")).isEqualTo("cookies");
+		assertThat(getSessionRegion().containsKey(session.getId())).isTrue();
+		assertThat(getColdRegion().containsKey(session.getId())).isFalse();
+		assertThat(this.sessionEventListener.<AbstractSessionEvent>getSessionEvent()).isNull();
+	}
+
+	@Test
+	public void deleteDemotedSession() {
+
+		Session session = save(touch(createSession()));
+
+		demoted(session);
+
+		this.sessionEventListener.getSessionEvent();
+
+		delete(session);
+
+		AbstractSessionEvent sessionEvent = this.sessionEventListener.getSessionEvent();
+
+		assertThat(sessionEvent).isInstanceOf(SessionDeletedEvent.class);
+		assertThat(sessionEvent.getSessionId()).isEqualTo(session.getId());
+		assertThat(getColdRegion().containsKey(session.getId())).isFalse();
+		assertThat(this.<Session>get(session.getId())).isNull();
+	}
+
+	@Test
+	public void findDemotedSessionByPrincipalName() {
+
+		Session session = createSession();
+
+		session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "jonDoe");
+
+		save(touch(session));
+
+		demoted(session);
+
+		assertThat(((ColdSession) getColdRegion().get(session.getId())).getPrincipalName()).isEqualTo("jonDoe");
+
+		Map<String, Session> sessions = this.gemfireSessionRepository
+			.findByIndexNameAndIndexValue(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "jonDoe");
+
+		assertThat(sessions).containsOnlyKeys(session.getId());
+		assertThat(getSessionRegion().containsKey(session.getId())).isTrue();
+		assertThat(getColdRegion().containsKey(session.getId())).isFalse();
+	}
+
+	@Test
+	public void demotedSessionExpiresWithSessionExpiredEvent() {
+
+		Session session = createSession();
+
+		session.setMaxInactiveInterval(Duration.ofSeconds(4L));
+
+		save(touch(session));
+
+		demoted(session);
+
+		this.sessionEventListener.getSessionEvent();
+
+		AbstractSessionEvent sessionEvent = this.sessionEventListener.waitForSessionEvent(DEMOTION_TIMEOUT);
+
+		assertThat(sessionEvent).isInstanceOf(SessionExpiredEvent.class);
+		assertThat(sessionEvent.getSessionId()).isEqualTo(session.getId());
+		assertThat(getColdRegion().containsKey(session.getId())).isFalse();
+		assertThat(this.<Session>get(session.getId())).isNull();
+	}
+
+	@PeerCacheApplication(name = "SessionTieringIntegrationTests", logLevel = GEMFIRE_LOG_LEVEL)
+	@EnableGemFireHttpSession(regionName = SESSION_REGION_NAME, demotionIdleTimeoutSeconds = 1)
+	@SuppressWarnings("unused")
+	static class SpringSessionGemFireConfiguration {
+
+		@Bean
+		SessionEventListener sessionEventListener() {
+			return new SessionEventListener();
+		}
+	}
+}
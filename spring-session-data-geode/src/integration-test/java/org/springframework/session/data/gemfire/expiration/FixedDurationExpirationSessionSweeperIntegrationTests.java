@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.expiration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.query.Index;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireIntegrationTests;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession;
+import org.springframework.session.data.gemfire.expiration.config.FixedDurationExpirationSessionRepositoryBeanPostProcessor;
+import org.springframework.session.data.gemfire.expiration.support.FixedDurationExpirationSessionSweeper;
+import org.springframework.session.data.gemfire.function.ExpireSessionsByCreationTimeFunction;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+/**
+ * Integration tests asserting that the {@link FixedDurationExpirationSessionSweeper} started by
+ * the {@link FixedDurationExpirationSessionRepositoryBeanPostProcessor} removes {@link Session Sessions}
+ * created more than the fixed {@link Duration} ago from an embedded peer cache
+ * {@link DataPolicy#PARTITION} {@link org.apache.geode.cache.Region} storing {@link Session Sessions} as PDX.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.PeerCacheApplication
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.AbstractGemFireIntegrationTests
+ * @see org.springframework.session.data.gemfire.expiration.config.FixedDurationExpirationSessionRepositoryBeanPostProcessor
+ * @see org.springframework.session.data.gemfire.expiration.support.FixedDurationExpirationSessionSweeper
+ * @see org.springframework.session.data.gemfire.function.ExpireSessionsByCreationTimeFunction
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 2.1.3
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@DirtiesContext
+@WebAppConfiguration
+public class FixedDurationExpirationSessionSweeperIntegrationTests extends AbstractGemFireIntegrationTests {
+
+	private static final Duration EXPIRATION_TIMEOUT = Duration.ofHours(1L);
+
+	private static final String GEMFIRE_LOG_LEVEL = "error";
+
+	@Autowired
+	private FixedDurationExpirationSessionRepositoryBeanPostProcessor sessionRepositoryBeanPostProcessor;
+
+	private FixedDurationExpirationSessionSweeper sessionSweeper;
+
+	@Before
+	public void setup() {
+
+		assertThat(this.sessionRepositoryBeanPostProcessor.getSessionSweepers()).hasSize(1);
+
+		this.sessionSweeper = this.sessionRepositoryBeanPostProcessor.getSessionSweepers().get(0);
+	}
+
+	private Session newSession(long creationTime) {
+
+		long now = System.currentTimeMillis();
+
+		return GemFireSession.from(UUID.randomUUID().toString(), creationTime, now,
+			Duration.ofHours(2L).toMillis());
+	}
+
+	@Test
+	public void sweepRemovesSessionsCreatedBeforeExpirationTimeout() {
+
+		assertThat(this.sessionSweeper.isEnabled()).isTrue();
+
+		long now = System.currentTimeMillis();
+
+		List<Session> expiredSessions = new ArrayList<>();
+
+		for (int count = 0; count < 25; count++) {
+			expiredSessions.add(save(newSession(now - EXPIRATION_TIMEOUT.toMillis() - 60000L - count)));
+		}
+
+		Session activeSession = save(newSession(now - EXPIRATION_TIMEOUT.toMillis() + 60000L));
+
+		this.sessionSweeper.setBatchSize(10);
+
+		assertThat(this.sessionSweeper.sweep()).isEqualTo(25L);
+		assertThat(this.sessionSweeper.getLastReapedCount()).isEqualTo(25L);
+		assertThat(this.sessionSweeper.getReapedCount()).isEqualTo(25L);
+		assertThat(this.sessionSweeper.getSweepCount()).isEqualTo(1L);
+
+		expiredSessions.forEach(session -> assertThat(getSessionRegion().containsKey(session.getId())).isFalse());
+
+		assertThat(getSessionRegion().containsKey(activeSession.getId())).isTrue();
+
+		Index creationTimeIndex = getGemFireCache().getQueryService()
+			.getIndex(getSessionRegion(), ExpireSessionsByCreationTimeFunction.CREATION_TIME_INDEX_NAME);
+
+		assertThat(creationTimeIndex).isNotNull();
+		assertThat(creationTimeIndex.getIndexedExpression()).isEqualTo("creationTimeInMillis");
+
+		assertThat(this.sessionSweeper.sweep()).isZero();
+		assertThat(this.sessionSweeper.getLastReapedCount()).isZero();
+		assertThat(this.sessionSweeper.getReapedCount()).isEqualTo(25L);
+		assertThat(this.sessionSweeper.getSweepCount()).isEqualTo(2L);
+	}
+
+	@PeerCacheApplication(name = "FixedDurationExpirationSessionSweeperIntegrationTests", logLevel = GEMFIRE_LOG_LEVEL)
+	@EnableGemFireHttpSession(regionName = "FixedDurationSessions")
+	@SuppressWarnings("unused")
+	static class SpringSessionGemFireConfiguration {
+
+		@Bean
+		static FixedDurationExpirationSessionRepositoryBeanPostProcessor fixedDurationExpirationBeanPostProcessor() {
+			return new FixedDurationExpirationSessionRepositoryBeanPostProcessor(EXPIRATION_TIMEOUT);
+		}
+	}
+}
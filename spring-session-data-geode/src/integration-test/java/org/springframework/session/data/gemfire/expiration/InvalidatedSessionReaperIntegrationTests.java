@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.expiration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireIntegrationTests;
+import org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession;
+import org.springframework.session.data.gemfire.expiration.support.InvalidatedSessionReaper;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+/**
+ * Integration tests asserting that the {@link InvalidatedSessionReaper} destroys the entries of invalidated
+ * {@link Session Sessions} in an embedded peer cache {@link DataPolicy#PARTITION}
+ * {@link org.apache.geode.cache.Region}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.PeerCacheApplication
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.AbstractGemFireIntegrationTests
+ * @see org.springframework.session.data.gemfire.expiration.support.InvalidatedSessionReaper
+ * @see org.springframework.session.data.gemfire.function.DestroyInvalidatedSessionsFunction
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 2.1.3
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@DirtiesContext
+@WebAppConfiguration
+public class InvalidatedSessionReaperIntegrationTests extends AbstractGemFireIntegrationTests {
+
+	private static final String GEMFIRE_LOG_LEVEL = "error";
+
+	@Autowired
+	private InvalidatedSessionReaper sessionReaper;
+
+	@Test
+	public void reapDestroysInvalidatedSessionEntries() {
+
+		assertThat(this.sessionReaper.isEnabled()).isTrue();
+
+		List<Session> invalidatedSessions = new ArrayList<>();
+		List<Session> validSessions = new ArrayList<>();
+
+		for (int count = 0; count < 25; count++) {
+
+			Session session = save(createSession());
+
+			if (count % 5 == 0) {
+				validSessions.add(session);
+			}
+			else {
+				getSessionRegion().invalidate(session.getId());
+				invalidatedSessions.add(session);
+			}
+		}
+
+		assertThat(getSessionRegion().keySet()).hasSize(25);
+
+		this.sessionReaper.setBatchSize(15);
+
+		assertThat(this.sessionReaper.reap()).isEqualTo(15L);
+		assertThat(this.sessionReaper.reap()).isEqualTo(5L);
+		assertThat(this.sessionReaper.getLastReapedCount()).isEqualTo(5L);
+		assertThat(this.sessionReaper.getReapedCount()).isEqualTo(20L);
+		assertThat(this.sessionReaper.getReapCount()).isEqualTo(2L);
+
+		invalidatedSessions.forEach(session -> assertThat(getSessionRegion().containsKey(session.getId())).isFalse());
+		validSessions.forEach(session -> assertThat(getSessionRegion().containsValueForKey(session.getId())).isTrue());
+
+		assertThat(getSessionRegion().keySet()).hasSize(5);
+		assertThat(this.sessionReaper.reap()).isZero();
+	}
+
+	@PeerCacheApplication(name = "InvalidatedSessionReaperIntegrationTests", logLevel = GEMFIRE_LOG_LEVEL)
+	@EnableGemFireHttpSession(regionName = "InvalidatedSessions")
+	@SuppressWarnings("unused")
+	static class SpringSessionGemFireConfiguration {
+
+		@Bean
+		InvalidatedSessionReaper invalidatedSessionReaper(GemFireCache gemfireCache) {
+			return new InvalidatedSessionReaper(gemfireCache, "InvalidatedSessions");
+		}
+	}
+}
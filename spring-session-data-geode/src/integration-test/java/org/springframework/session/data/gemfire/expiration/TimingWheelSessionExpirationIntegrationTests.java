@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.expiration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.config.annotation.ClientCacheApplication;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireIntegrationTests;
+import org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession;
+import org.springframework.session.data.gemfire.expiration.support.TimingWheelSessionExpirer;
+import org.springframework.session.events.AbstractSessionEvent;
+import org.springframework.session.events.SessionExpiredEvent;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Integration tests asserting that {@link Session Sessions} stored in a client
+ * {@link ClientRegionShortcut#LOCAL} {@link org.apache.geode.cache.Region} configured with
+ * {@link EnableGemFireHttpSession#timingWheelExpirationEnabled()} are expired by the
+ * {@link TimingWheelSessionExpirer}, publishing a {@link SessionExpiredEvent}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.ClientCacheApplication
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.AbstractGemFireIntegrationTests
+ * @see org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession
+ * @see org.springframework.session.data.gemfire.expiration.support.TimingWheelSessionExpirer
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 2.1.3
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@DirtiesContext
+public class TimingWheelSessionExpirationIntegrationTests extends AbstractGemFireIntegrationTests {
+
+	private static final long EXPIRATION_TIMEOUT = 10000L;
+
+	@Autowired
+	private SessionEventListener sessionEventListener;
+
+	@Autowired
+	private TimingWheelSessionExpirer timingWheelSessionExpirer;
+
+	@Before
+	public void setup() {
+
+		assertThat(this.timingWheelSessionExpirer.isEnabled()).isTrue();
+
+		this.sessionEventListener.getSessionEvent();
+	}
+
+	@Test
+	public void sessionsRegionIsNotConfiguredWithEntryIdleTimeoutExpiration() {
+
+		ExpirationAttributes entryIdleTimeout = getSessionRegion().getAttributes().getEntryIdleTimeout();
+
+		assertThat(getSessionRegion().getAttributes().getStatisticsEnabled()).isFalse();
+		assertThat(getSessionRegion().getAttributes().getCustomEntryIdleTimeout()).isNull();
+		assertThat(entryIdleTimeout.getTimeout()).isZero();
+	}
+
+	@Test
+	public void sessionExpiresAndPublishesSessionExpiredEvent() {
+
+		Session session = save(touch(createSession()));
+
+		assertThat(this.sessionEventListener.<AbstractSessionEvent>getSessionEvent()).isNotNull();
+
+		AbstractSessionEvent sessionEvent = this.sessionEventListener.waitForSessionEvent(EXPIRATION_TIMEOUT);
+
+		assertThat(sessionEvent).isInstanceOf(SessionExpiredEvent.class);
+		assertThat(sessionEvent.getSessionId()).isEqualTo(session.getId());
+		assertThat(getSessionRegion().containsValueForKey(session.getId())).isFalse();
+		assertThat(this.<Session>get(session.getId())).isNull();
+	}
+
+	@ClientCacheApplication(logLevel = "error")
+	@EnableGemFireHttpSession(
+		clientRegionShortcut = ClientRegionShortcut.LOCAL,
+		maxInactiveIntervalInSeconds = 1,
+		poolName = "DEFAULT",
+		timingWheelExpirationEnabled = true
+	)
+	@SuppressWarnings("unused")
+	static class TestConfiguration {
+
+		@Bean
+		SessionEventListener sessionEventListener() {
+			return new SessionEventListener();
+		}
+	}
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.config.annotation.CacheServerApplication;
+import org.springframework.data.gemfire.config.annotation.CacheServerConfigurer;
+import org.springframework.data.gemfire.config.annotation.ClientCacheApplication;
+import org.springframework.data.gemfire.config.annotation.ClientCacheConfigurer;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.data.gemfire.support.ConnectionEndpoint;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession;
+
+/**
+ * JMH benchmarks measuring the {@link GemFireOperationsSessionRepository} operations, {@literal createSession},
+ * {@literal findById}, {@literal save} and {@literal findByIndexNameAndIndexValue}, against an embedded peer cache
+ * and against a client cache, using either a {@link ClientRegionShortcut#PROXY} or
+ * a {@link ClientRegionShortcut#CACHING_PROXY} Session {@link org.apache.geode.cache.Region},
+ * connected to a cache server.
+ *
+ * Saving a modified {@link Session} and saving an unmodified {@link Session} measure the cost of dirty checking
+ * and of preparing the {@link Session} for serialization.  Creating and saving a new {@link Session} on
+ * a {@link ClientRegionShortcut#CACHING_PROXY} client additionally includes registering interest in the new
+ * {@link Session}.  The contended benchmarks save modified {@link Session Sessions} from 8 threads, either all
+ * accessing the same {@link Session} or each accessing a random {@link Session}.
+ *
+ * An Apache Geode JVM hosts either a peer cache or a client cache, but not both.  Therefore, for the client
+ * topologies, the cache server is started in a separate JVM on the same host by the benchmark trial.
+ *
+ * Run with {@literal ./gradlew :spring-session-data-geode:jmh}.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.springframework.session.data.gemfire.GemFireOperationsSessionRepository
+ * @see org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession
+ * @since 2.1.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@SuppressWarnings("unused")
+public class SessionRepositoryBenchmark {
+
+	private static final int PRINCIPAL_COUNT = 100;
+	private static final int SESSION_COUNT = 1000;
+
+	private static final long SERVER_START_TIMEOUT = TimeUnit.SECONDS.toMillis(60L);
+
+	private static final String ATTRIBUTE_NAME = "counter";
+	private static final String SERVER_PORT_PROPERTY = "spring.session.data.gemfire.benchmark.server.port";
+
+	public enum Topology {
+
+		PEER(PeerCacheConfiguration.class),
+		CLIENT_PROXY(ProxyClientCacheConfiguration.class),
+		CLIENT_CACHING_PROXY(CachingProxyClientCacheConfiguration.class);
+
+		private final Class<?> configuration;
+
+		Topology(Class<?> configuration) {
+			this.configuration = configuration;
+		}
+
+		boolean isClient() {
+			return !PEER.equals(this);
+		}
+	}
+
+	public enum SessionAccess {
+		ONE_SESSION,
+		MANY_SESSIONS
+	}
+
+	@State(Scope.Benchmark)
+	public static class SessionRepositoryState {
+
+		@Param({ "PEER", "CLIENT_PROXY", "CLIENT_CACHING_PROXY" })
+		Topology topology;
+
+		private ConfigurableApplicationContext applicationContext;
+
+		private Process serverProcess;
+
+		private final Queue<String> createdSessionIds = new ConcurrentLinkedQueue<>();
+
+		GemFireOperationsSessionRepository sessionRepository;
+
+		String[] sessionIds;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+
+			if (this.topology.isClient()) {
+				this.serverProcess = startServer();
+			}
+
+			this.applicationContext = new AnnotationConfigApplicationContext(this.topology.configuration);
+			this.sessionRepository = this.applicationContext.getBean(GemFireOperationsSessionRepository.class);
+			this.sessionIds = new String[SESSION_COUNT];
+
+			for (int index = 0; index < this.sessionIds.length; index++) {
+
+				Session session = this.sessionRepository.createSession();
+
+				session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME,
+					principalName(index % PRINCIPAL_COUNT));
+				session.setAttribute(ATTRIBUTE_NAME, 0);
+
+				this.sessionRepository.save(session);
+				this.sessionIds[index] = session.getId();
+			}
+		}
+
+		private Process startServer() throws IOException, InterruptedException {
+
+			int port = findAvailablePort();
+
+			System.setProperty(SERVER_PORT_PROPERTY, String.valueOf(port));
+
+			String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+
+			Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+				String.format("-D%s=%d", SERVER_PORT_PROPERTY, port), CacheServerConfiguration.class.getName())
+				.inheritIO()
+				.start();
+
+			waitForServer(process, port);
+
+			return process;
+		}
+
+		private int findAvailablePort() throws IOException {
+
+			try (ServerSocket serverSocket = new ServerSocket(0)) {
+				return serverSocket.getLocalPort();
+			}
+		}
+
+		private void waitForServer(Process process, int port) throws InterruptedException {
+
+			long timeout = System.currentTimeMillis() + SERVER_START_TIMEOUT;
+
+			while (System.currentTimeMillis() < timeout) {
+
+				if (!process.isAlive()) {
+					throw new IllegalStateException(String.format("Cache server exited with [%d]",
+						process.exitValue()));
+				}
+
+				try (Socket socket = new Socket()) {
+					socket.connect(new InetSocketAddress("localhost", port), 500);
+					return;
+				}
+				catch (IOException ignore) {
+					Thread.sleep(500L);
+				}
+			}
+
+			process.destroyForcibly();
+
+			throw new IllegalStateException(String.format("Cache server failed to start on port [%d] in %d ms",
+				port, SERVER_START_TIMEOUT));
+		}
+
+		String principalName(int index) {
+			return String.format("principal%d", index);
+		}
+
+		String randomPrincipalName() {
+			return principalName(ThreadLocalRandom.current().nextInt(PRINCIPAL_COUNT));
+		}
+
+		String randomSessionId() {
+			return this.sessionIds[ThreadLocalRandom.current().nextInt(this.sessionIds.length)];
+		}
+
+		@TearDown(Level.Iteration)
+		public void deleteCreatedSessions() {
+
+			for (String sessionId = this.createdSessionIds.poll(); sessionId != null;
+					sessionId = this.createdSessionIds.poll()) {
+
+				this.sessionRepository.deleteById(sessionId);
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() throws InterruptedException {
+
+			if (this.applicationContext != null) {
+				this.applicationContext.close();
+			}
+
+			if (this.serverProcess != null) {
+				this.serverProcess.destroy();
+				this.serverProcess.waitFor(30L, TimeUnit.SECONDS);
+			}
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class SessionContentionState {
+
+		@Param({ "ONE_SESSION", "MANY_SESSIONS" })
+		SessionAccess sessionAccess;
+
+		private SessionRepositoryState sessionRepositoryState;
+
+		@Setup(Level.Trial)
+		public void setup(SessionRepositoryState sessionRepositoryState) {
+			this.sessionRepositoryState = sessionRepositoryState;
+		}
+
+		String sessionId() {
+
+			return SessionAccess.ONE_SESSION.equals(this.sessionAccess)
+				? this.sessionRepositoryState.sessionIds[0]
+				: this.sessionRepositoryState.randomSessionId();
+		}
+	}
+
+	private static Session saveModifiedSession(GemFireOperationsSessionRepository sessionRepository,
+			String sessionId) {
+
+		Session session = sessionRepository.findById(sessionId);
+
+		session.setAttribute(ATTRIBUTE_NAME, ThreadLocalRandom.current().nextInt());
+		sessionRepository.save(session);
+
+		return session;
+	}
+
+	@Benchmark
+	public Session createSession(SessionRepositoryState state) {
+		return state.sessionRepository.createSession();
+	}
+
+	@Benchmark
+	public Session createAndSaveSession(SessionRepositoryState state) {
+
+		Session session = state.sessionRepository.createSession();
+
+		session.setAttribute(ATTRIBUTE_NAME, 0);
+		state.sessionRepository.save(session);
+		state.createdSessionIds.add(session.getId());
+
+		return session;
+	}
+
+	@Benchmark
+	public Session findById(SessionRepositoryState state) {
+		return state.sessionRepository.findById(state.randomSessionId());
+	}
+
+	@Benchmark
+	public Map<String, Session> findByPrincipalName(SessionRepositoryState state) {
+
+		return state.sessionRepository.findByIndexNameAndIndexValue(
+			FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, state.randomPrincipalName());
+	}
+
+	@Benchmark
+	public Session saveModifiedSession(SessionRepositoryState state) {
+		return saveModifiedSession(state.sessionRepository, state.randomSessionId());
+	}
+
+	@Benchmark
+	public Session saveUnmodifiedSession(SessionRepositoryState state) {
+
+		Session session = state.sessionRepository.findById(state.randomSessionId());
+
+		state.sessionRepository.save(session);
+
+		return session;
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Session saveModifiedSessionWithContention(SessionRepositoryState state,
+			SessionContentionState contentionState) {
+
+		return saveModifiedSession(state.sessionRepository, contentionState.sessionId());
+	}
+
+	@PeerCacheApplication(name = "SessionRepositoryBenchmark", logLevel = "error")
+	@EnableGemFireHttpSession
+	static class PeerCacheConfiguration { }
+
+	abstract static class AbstractClientCacheConfiguration {
+
+		@Bean
+		ClientCacheConfigurer serverClientCacheConfigurer() {
+
+			return (beanName, clientCacheFactoryBean) -> clientCacheFactoryBean.setServers(
+				new ConnectionEndpoint[] { new ConnectionEndpoint("localhost", Integer.getInteger(SERVER_PORT_PROPERTY)) });
+		}
+	}
+
+	@ClientCacheApplication(logLevel = "error", subscriptionEnabled = true)
+	@EnableGemFireHttpSession(clientRegionShortcut = ClientRegionShortcut.PROXY, poolName = "DEFAULT")
+	static class ProxyClientCacheConfiguration extends AbstractClientCacheConfiguration { }
+
+	@ClientCacheApplication(logLevel = "error", subscriptionEnabled = true)
+	@EnableGemFireHttpSession(clientRegionShortcut = ClientRegionShortcut.CACHING_PROXY, poolName = "DEFAULT")
+	static class CachingProxyClientCacheConfiguration extends AbstractClientCacheConfiguration { }
+
+	@CacheServerApplication(name = "SessionRepositoryBenchmarkServer", logLevel = "error")
+	@EnableGemFireHttpSession
+	static class CacheServerConfiguration {
+
+		public static void main(String[] args) {
+
+			AnnotationConfigApplicationContext applicationContext =
+				new AnnotationConfigApplicationContext(CacheServerConfiguration.class);
+
+			applicationContext.registerShutdownHook();
+		}
+
+		@Bean
+		CacheServerConfigurer serverPortCacheServerConfigurer() {
+			return (beanName, cacheServerFactoryBean) ->
+				cacheServerFactoryBean.setPort(Integer.getInteger(SERVER_PORT_PROPERTY));
+		}
+	}
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.DeltaCapableGemFireSession;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.session.data.gemfire.serialization.data.provider.DataSerializableSessionAttributesSerializer;
+import org.springframework.session.data.gemfire.serialization.data.provider.DataSerializableSessionSerializer;
+import org.springframework.session.data.gemfire.serialization.pdx.provider.PdxSerializableSessionSerializer;
+import org.springframework.session.data.gemfire.serialization.pdx.support.PdxSerializerSessionSerializerAdapter;
+
+/**
+ * JMH benchmarks measuring the serialization of a {@link Session} with the {@link DataSerializableSessionSerializer},
+ * the {@link DataSerializableSessionAttributesSerializer} and the {@link PdxSerializableSessionSerializer},
+ * along with {@link DeltaCapableGemFireSession#toDelta(DataOutput)} and
+ * {@link DeltaCapableGemFireSession#fromDelta(java.io.DataInput)}.
+ *
+ * The shape of the {@link Session} is parameterized by the number of attributes, the size of each attribute value
+ * and whether the {@link Session} stores a Spring Security {@literal SecurityContext}.  The delta benchmarks are
+ * further parameterized by the fraction of attributes changed.  Serialization is performed through
+ * the {@link DataSerializer}, as Apache Geode does when storing or distributing a {@link Session}.
+ *
+ * Throughput is reported in operations per second and the {@literal serializedBytes} secondary result reports
+ * the bytes produced per operation.  The allocation rate per operation ({@literal gc.alloc.rate.norm})
+ * is reported by the GC profiler configured in the build.
+ *
+ * Each benchmark runs in a forked JVM so that the {@link DataSerializer DataSerializers} registered
+ * for the DataSerialization benchmarks do not take precedence over PDX in the PDX benchmarks.
+ *
+ * Run with {@literal ./gradlew :spring-session-data-geode:jmh}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.DataSerializer
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.DeltaCapableGemFireSession
+ * @see org.springframework.session.data.gemfire.serialization.data.provider.DataSerializableSessionAttributesSerializer
+ * @see org.springframework.session.data.gemfire.serialization.data.provider.DataSerializableSessionSerializer
+ * @see org.springframework.session.data.gemfire.serialization.pdx.provider.PdxSerializableSessionSerializer
+ * @since 2.1.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@SuppressWarnings("unused")
+public class SessionSerializationBenchmark {
+
+	private static final Duration MAX_INACTIVE_INTERVAL = Duration.ofMinutes(30L);
+
+	private static final String SECURITY_CONTEXT_ATTRIBUTE_NAME =
+		HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY;
+
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class SerializationOutput {
+
+		private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+
+		private final DataOutputStream out = new DataOutputStream(this.buffer);
+
+		public long serializedBytes;
+
+		DataOutput reset() {
+			this.buffer.reset();
+			return this.out;
+		}
+
+		int record() {
+			this.serializedBytes = this.buffer.size();
+			return this.buffer.size();
+		}
+	}
+
+	public abstract static class AbstractSessionState {
+
+		@Param({ "5", "50" })
+		int attributeCount;
+
+		@Param({ "16", "1024" })
+		int attributeValueSize;
+
+		@Param({ "false", "true" })
+		boolean securityContext;
+
+		List<String> attributeNames = new ArrayList<>();
+
+		<T extends GemFireSession<?>> T initialize(T session) {
+
+			session.setMaxInactiveInterval(MAX_INACTIVE_INTERVAL);
+
+			for (int index = 0; index < this.attributeCount; index++) {
+
+				String attributeName = String.format("attribute%d", index);
+
+				this.attributeNames.add(attributeName);
+				session.setAttribute(attributeName, newAttributeValue());
+			}
+
+			if (this.securityContext) {
+				session.setAttribute(SECURITY_CONTEXT_ATTRIBUTE_NAME, newSecurityContext());
+			}
+
+			return session;
+		}
+
+		String newAttributeValue() {
+
+			char[] value = new char[this.attributeValueSize];
+
+			for (int index = 0; index < value.length; index++) {
+				value[index] = (char) ('a' + ThreadLocalRandom.current().nextInt(26));
+			}
+
+			return new String(value);
+		}
+
+		SecurityContextImpl newSecurityContext() {
+
+			User user = new User("jonDoe", "p@55w0rd!",
+				AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN"));
+
+			return new SecurityContextImpl(
+				new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+		}
+
+		byte[] serialize(Object value) throws IOException {
+
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+			DataSerializer.writeObject(value, new DataOutputStream(buffer));
+
+			return buffer.toByteArray();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class DataSerializationState extends AbstractSessionState {
+
+		DeltaCapableGemFireSession session;
+
+		byte[] serializedSession;
+		byte[] serializedSessionAttributes;
+
+		@Setup(Level.Trial)
+		public void setup() throws IOException {
+
+			DataSerializableSessionSerializer.register();
+
+			this.session = initialize(new DeltaCapableGemFireSession(UUID.randomUUID().toString()));
+			this.serializedSession = serialize(this.session);
+			this.serializedSessionAttributes = serialize(this.session.getAttributes());
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class PdxSerializationState extends AbstractSessionState {
+
+		private Cache cache;
+
+		GemFireSession<?> session;
+
+		byte[] serializedSession;
+
+		@Setup(Level.Trial)
+		public void setup() throws IOException {
+
+			this.cache = new CacheFactory()
+				.set("log-level", "error")
+				.setPdxSerializer(new PdxSerializerSessionSerializerAdapter<>(new PdxSerializableSessionSerializer()))
+				.create();
+
+			this.session = initialize(GemFireSession.from(UUID.randomUUID().toString(), System.currentTimeMillis(),
+				System.currentTimeMillis(), MAX_INACTIVE_INTERVAL.toMillis()));
+
+			this.serializedSession = serialize(this.session);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			this.cache.close();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class DeltaState extends AbstractSessionState {
+
+		@Param({ "0.1", "0.5", "1.0" })
+		double changedAttributeFraction;
+
+		DeltaCapableGemFireSession session;
+
+		byte[] delta;
+
+		@Setup(Level.Trial)
+		public void setup() throws IOException {
+
+			DataSerializableSessionSerializer.register();
+
+			this.session = initialize(new DeltaCapableGemFireSession(UUID.randomUUID().toString()));
+			this.session.commit();
+
+			List<String> changedAttributeNames = new ArrayList<>(this.attributeNames);
+
+			Collections.shuffle(changedAttributeNames);
+
+			int changedAttributeCount = (int) Math.ceil(this.attributeCount * this.changedAttributeFraction);
+
+			changedAttributeNames.subList(0, changedAttributeCount)
+				.forEach(attributeName -> this.session.setAttribute(attributeName, newAttributeValue()));
+
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+			this.session.toDelta(new DataOutputStream(buffer));
+
+			this.delta = buffer.toByteArray();
+		}
+	}
+
+	private static DataInputStream newDataInput(byte[] bytes) {
+		return new DataInputStream(new ByteArrayInputStream(bytes));
+	}
+
+	@Benchmark
+	public int dataSerializableSessionSerialization(DataSerializationState state, SerializationOutput output)
+			throws IOException {
+
+		DataSerializer.writeObject(state.session, output.reset());
+
+		return output.record();
+	}
+
+	@Benchmark
+	public Object dataSerializableSessionDeserialization(DataSerializationState state)
+			throws ClassNotFoundException, IOException {
+
+		return DataSerializer.readObject(newDataInput(state.serializedSession));
+	}
+
+	@Benchmark
+	public int dataSerializableSessionAttributesSerialization(DataSerializationState state,
+			SerializationOutput output) throws IOException {
+
+		DataSerializer.writeObject(state.session.getAttributes(), output.reset());
+
+		return output.record();
+	}
+
+	@Benchmark
+	public Object dataSerializableSessionAttributesDeserialization(DataSerializationState state)
+			throws ClassNotFoundException, IOException {
+
+		return DataSerializer.readObject(newDataInput(state.serializedSessionAttributes));
+	}
+
+	@Benchmark
+	public int pdxSerializableSessionSerialization(PdxSerializationState state, SerializationOutput output)
+			throws IOException {
+
+		DataSerializer.writeObject(state.session, output.reset());
+
+		return output.record();
+	}
+
+	@Benchmark
+	public Object pdxSerializableSessionDeserialization(PdxSerializationState state)
+			throws ClassNotFoundException, IOException {
+
+		return DataSerializer.readObject(newDataInput(state.serializedSession));
+	}
+
+	@Benchmark
+	public int toDelta(DeltaState state, SerializationOutput output) throws IOException {
+
+		state.session.toDelta(output.reset());
+
+		return output.record();
+	}
+
+	@Benchmark
+	public Object fromDelta(DeltaState state) throws IOException {
+
+		state.session.fromDelta(newDataInput(state.delta));
+
+		return state.session;
+	}
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.ExpirationAction;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.cache.client.ClientRegionFactory;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+/**
+ * JMH benchmarks comparing the {@link TimingWheelSessionExpirer} with Apache Geode entry idle timeout expiration
+ * (native expiration) of {@link Session Sessions} stored in a client {@link ClientRegionShortcut#LOCAL}
+ * {@link Region}.
+ *
+ * {@link #accessSession(SessionRegionState)} measures the overhead of each strategy when reading and saving
+ * a {@link Session}, which, with native expiration, maintains entry statistics and, with the timing wheel,
+ * reschedules the {@link Session}.  {@link #expireSessions(ExpiringSessionRegionState)} measures the time until
+ * all {@link Session Sessions}, stored with a {@literal 1 second} timeout, have expired and been invalidated.
+ *
+ * Run with {@literal ./gradlew :spring-session-data-geode:jmh}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.client.ClientCache
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.springframework.session.data.gemfire.expiration.support.TimingWheelSessionExpirer
+ * @since 2.1.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@SuppressWarnings("unused")
+public class TimingWheelExpirationBenchmark {
+
+	private static final Duration MAX_INACTIVE_INTERVAL = Duration.ofMinutes(30L);
+
+	private static final Duration SHORT_MAX_INACTIVE_INTERVAL = Duration.ofSeconds(1L);
+
+	public enum ExpirationStrategy {
+		NATIVE,
+		TIMING_WHEEL
+	}
+
+	@State(Scope.Benchmark)
+	public static class ClientCacheState {
+
+		private ClientCache clientCache;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.clientCache = new ClientCacheFactory().set("log-level", "error").create();
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			this.clientCache.close();
+		}
+	}
+
+	public abstract static class AbstractSessionRegionState {
+
+		@Param({ "NATIVE", "TIMING_WHEEL" })
+		ExpirationStrategy expirationStrategy;
+
+		@Param({ "10000", "100000" })
+		int sessionCount;
+
+		Region<Object, Object> sessions;
+
+		TimingWheelSessionExpirer sessionExpirer;
+
+		void createSessionRegion(ClientCache clientCache, String regionName, Duration maxInactiveInterval) {
+
+			ClientRegionFactory<Object, Object> regionFactory =
+				clientCache.createClientRegionFactory(ClientRegionShortcut.LOCAL);
+
+			if (ExpirationStrategy.NATIVE.equals(this.expirationStrategy)) {
+				regionFactory.setStatisticsEnabled(true);
+				regionFactory.setEntryIdleTimeout(new ExpirationAttributes((int) maxInactiveInterval.getSeconds(),
+					ExpirationAction.INVALIDATE));
+			}
+
+			this.sessions = regionFactory.create(regionName);
+
+			if (ExpirationStrategy.TIMING_WHEEL.equals(this.expirationStrategy)) {
+				this.sessionExpirer = new TimingWheelSessionExpirer(clientCache, regionName);
+				this.sessionExpirer.afterPropertiesSet();
+			}
+		}
+
+		MapSession newSession(String id, Duration maxInactiveInterval) {
+
+			MapSession session = new MapSession(id);
+
+			session.setAttribute("attribute", "value");
+			session.setLastAccessedTime(Instant.now());
+			session.setMaxInactiveInterval(maxInactiveInterval);
+
+			return session;
+		}
+
+		void destroySessionRegion() {
+
+			if (this.sessionExpirer != null) {
+				this.sessionExpirer.destroy();
+			}
+
+			this.sessions.localDestroyRegion();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class SessionRegionState extends AbstractSessionRegionState {
+
+		private String[] sessionIds;
+
+		@Setup(Level.Trial)
+		public void setup(ClientCacheState clientCacheState) {
+
+			createSessionRegion(clientCacheState.clientCache, "Sessions", MAX_INACTIVE_INTERVAL);
+
+			this.sessionIds = new String[this.sessionCount];
+
+			for (int index = 0; index < this.sessionCount; index++) {
+				this.sessionIds[index] = UUID.randomUUID().toString();
+				this.sessions.put(this.sessionIds[index], newSession(this.sessionIds[index], MAX_INACTIVE_INTERVAL));
+			}
+		}
+
+		String randomSessionId() {
+			return this.sessionIds[ThreadLocalRandom.current().nextInt(this.sessionIds.length)];
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			destroySessionRegion();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class ExpiringSessionRegionState extends AbstractSessionRegionState {
+
+		private volatile CountDownLatch expiredSessions;
+
+		@Setup(Level.Trial)
+		public void setup(ClientCacheState clientCacheState) {
+
+			createSessionRegion(clientCacheState.clientCache, "ExpiringSessions", SHORT_MAX_INACTIVE_INTERVAL);
+
+			this.sessions.getAttributesMutator().addCacheListener(new CacheListenerAdapter<Object, Object>() {
+
+				@Override
+				public void afterInvalidate(EntryEvent<Object, Object> event) {
+					ExpiringSessionRegionState.this.expiredSessions.countDown();
+				}
+			});
+		}
+
+		@Setup(Level.Invocation)
+		public void storeSessions() {
+
+			this.expiredSessions = new CountDownLatch(this.sessionCount);
+
+			for (int index = 0; index < this.sessionCount; index++) {
+				String sessionId = UUID.randomUUID().toString();
+				this.sessions.put(sessionId, newSession(sessionId, SHORT_MAX_INACTIVE_INTERVAL));
+			}
+		}
+
+		@TearDown(Level.Invocation)
+		public void clearSessions() {
+			this.sessions.clear();
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			destroySessionRegion();
+		}
+	}
+
+	@Benchmark
+	public Object accessSession(SessionRegionState state) {
+
+		String sessionId = state.randomSessionId();
+
+		MapSession session = (MapSession) state.sessions.get(sessionId);
+
+		session.setLastAccessedTime(Instant.now());
+
+		return state.sessions.put(sessionId, session);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Measurement(iterations = 10, batchSize = 1)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 2, batchSize = 1)
+	public long expireSessions(ExpiringSessionRegionState state) throws InterruptedException {
+
+		state.expiredSessions.await();
+
+		return state.expiredSessions.getCount();
+	}
+}
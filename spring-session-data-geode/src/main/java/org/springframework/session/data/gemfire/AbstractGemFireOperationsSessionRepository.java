@@ -29,13 +29,18 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.apache.geode.DataSerializable;
 import org.apache.geode.DataSerializer;
@@ -43,6 +48,7 @@ import org.apache.geode.Delta;
 import org.apache.geode.InvalidDeltaException;
 import org.apache.geode.cache.EntryEvent;
 import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.util.CacheListenerAdapter;
 
@@ -51,16 +57,18 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.data.gemfire.GemfireAccessor;
 import org.springframework.data.gemfire.GemfireOperations;
-import org.springframework.expression.Expression;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
 import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
+import org.springframework.session.data.gemfire.serialization.data.support.ChunkedValue;
 import org.springframework.session.data.gemfire.support.GemFireUtils;
 import org.springframework.session.data.gemfire.support.IsDirtyPredicate;
+import org.springframework.session.data.gemfire.support.NegativeLookupCache;
+import org.springframework.session.data.gemfire.support.PrincipalNameResolver;
+import org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver;
 import org.springframework.session.data.gemfire.support.SessionIdHolder;
 import org.springframework.session.data.gemfire.support.SessionUtils;
 import org.springframework.session.events.AbstractSessionEvent;
@@ -70,6 +78,7 @@ import org.springframework.session.events.SessionDestroyedEvent;
 import org.springframework.session.events.SessionExpiredEvent;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -98,6 +107,7 @@ import org.slf4j.LoggerFactory;
  * @see org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession
  * @see org.springframework.session.data.gemfire.support.DeltaAwareDirtyPredicate
  * @see org.springframework.session.data.gemfire.support.IsDirtyPredicate
+ * @see org.springframework.session.data.gemfire.support.PrincipalNameResolver
  * @see org.springframework.session.data.gemfire.support.SessionIdHolder
  * @see org.springframework.session.events.AbstractSessionEvent
  * @see org.springframework.session.events.SessionCreatedEvent
@@ -109,13 +119,23 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractGemFireOperationsSessionRepository
 		implements ApplicationEventPublisherAware, FindByIndexNameSessionRepository<Session> {
 
+	public static final String MIGRATION_CALLBACK_ARGUMENT = "SpringSessionShardMigration";
+	public static final String TIERING_CALLBACK_ARGUMENT = "SpringSessionTiering";
+
+	private static final boolean DEFAULT_OPTIMISTIC_CONCURRENCY_ENABLED =
+		GemFireHttpSessionConfiguration.DEFAULT_OPTIMISTIC_CONCURRENCY_ENABLED;
 	private static final boolean DEFAULT_REGISTER_INTEREST_DURABILITY = false;
 	private static final boolean DEFAULT_REGISTER_INTEREST_ENABLED = false;
 	private static final boolean DEFAULT_REGISTER_INTEREST_RECEIVE_VALUES = true;
+	private static final boolean DEFAULT_SAVE_EMPTY_NEW_SESSIONS =
+		GemFireHttpSessionConfiguration.DEFAULT_SAVE_EMPTY_NEW_SESSIONS;
 
 	// TODO - use non-static variable
 	private static final AtomicBoolean usingDataSerialization = new AtomicBoolean(false);
 
+	private static final PrincipalNameResolver DEFAULT_PRINCIPAL_NAME_RESOLVER =
+		GemFireHttpSessionConfiguration.DEFAULT_PRINCIPAL_NAME_RESOLVER;
+
 	private static final Duration DEFAULT_MAX_INACTIVE_INTERVAL =
 		Duration.ofSeconds(GemFireHttpSessionConfiguration.DEFAULT_MAX_INACTIVE_INTERVAL_IN_SECONDS);
 
@@ -124,18 +144,28 @@ public abstract class AbstractGemFireOperationsSessionRepository
 	private static final IsDirtyPredicate DEFAULT_IS_DIRTY_PREDICATE =
 		GemFireHttpSessionConfiguration.DEFAULT_IS_DIRTY_PREDICATE;
 
+	private boolean optimisticConcurrencyEnabled = DEFAULT_OPTIMISTIC_CONCURRENCY_ENABLED;
+	private boolean principalRoutingEnabled;
 	private boolean registerInterestEnabled = DEFAULT_REGISTER_INTEREST_ENABLED;
+	private boolean saveEmptyNewSessions = DEFAULT_SAVE_EMPTY_NEW_SESSIONS;
+	private boolean sessionTieringEnabled;
 
 	private ApplicationEventPublisher applicationEventPublisher = event -> {};
 
 	private Duration maxInactiveInterval = DEFAULT_MAX_INACTIVE_INTERVAL;
 
+	private Function<String, List<Session>> demotedSessionsFinder;
+
 	private final GemfireOperations template;
 
 	private IsDirtyPredicate dirtyPredicate = DEFAULT_IS_DIRTY_PREDICATE;
 
 	private final Logger logger = newLogger();
 
+	private PrincipalNameResolver principalNameResolver = DEFAULT_PRINCIPAL_NAME_RESOLVER;
+
+	private NegativeLookupCache negativeLookupCache;
+
 	private final Region<Object, Session> sessions;
 
 	private SessionEventHandlerCacheListenerAdapter sessionEventHandler;
@@ -321,6 +351,35 @@ public abstract class AbstractGemFireOperationsSessionRepository
 		return this.logger;
 	}
 
+	/**
+	 * Configures the {@link NegativeLookupCache} used to remember {@link Session#getId() Session IDs}
+	 * for which a lookup recently found no {@link Session}.
+	 *
+	 * Setting the {@link NegativeLookupCache} to {@literal null} disables negative lookup caching.
+	 *
+	 * A remembered miss is only forgotten early when this repository observes the {@link Session} being created.
+	 * For {@link Session Sessions} created by other clients, the {@link NegativeLookupCache#getTimeToLive()
+	 * time-to-live} is the only consistency bound.
+	 *
+	 * @param negativeLookupCache {@link NegativeLookupCache} used to answer repeated lookups
+	 * for unknown {@link Session Sessions} locally.
+	 * @see org.springframework.session.data.gemfire.support.NegativeLookupCache
+	 */
+	public void setNegativeLookupCache(@Nullable NegativeLookupCache negativeLookupCache) {
+		this.negativeLookupCache = negativeLookupCache;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the configured {@link NegativeLookupCache}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link NegativeLookupCache}.
+	 * @see org.springframework.session.data.gemfire.support.NegativeLookupCache
+	 * @see java.util.Optional
+	 */
+	public Optional<NegativeLookupCache> getNegativeLookupCache() {
+		return Optional.ofNullable(this.negativeLookupCache);
+	}
+
 	/**
 	 * Sets the {@link Duration maximum interval} in which a {@link Session} can remain inactive
 	 * before the {@link Session} is considered expired.
@@ -373,6 +432,110 @@ public abstract class AbstractGemFireOperationsSessionRepository
 			.orElse(0);
 	}
 
+	/**
+	 * Sets whether {@link Session Sessions} are saved conditionally, based on the {@link GemFireSession#getVersion()}
+	 * of the {@link Session} when the {@link Session} was loaded.
+	 *
+	 * When enabled, a save that conflicts with a concurrent save of the same {@link Session} is resolved by
+	 * an attribute-level, three-way merge rather than last-writer-wins.  A save that keeps conflicting fails with
+	 * an {@link org.springframework.dao.OptimisticLockingFailureException}, and a save fails when
+	 * the {@link org.springframework.session.data.gemfire.function.ConditionalSaveSessionFunction}
+	 * is not registered on the servers.
+	 *
+	 * @param optimisticConcurrencyEnabled boolean value indicating whether {@link Session Sessions}
+	 * are saved conditionally.
+	 * @see org.springframework.session.data.gemfire.function.ConditionalSaveSessionFunction
+	 */
+	public void setOptimisticConcurrencyEnabled(boolean optimisticConcurrencyEnabled) {
+		this.optimisticConcurrencyEnabled = optimisticConcurrencyEnabled;
+	}
+
+	/**
+	 * Determines whether {@link Session Sessions} are saved conditionally, based on the
+	 * {@link GemFireSession#getVersion()} of the {@link Session} when the {@link Session} was loaded.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are saved conditionally.
+	 * @see #setOptimisticConcurrencyEnabled(boolean)
+	 */
+	public boolean isOptimisticConcurrencyEnabled() {
+		return this.optimisticConcurrencyEnabled;
+	}
+
+	/**
+	 * Sets whether new {@link Session Sessions} that were never modified and have no attributes are saved.
+	 *
+	 * When set to {@literal false}, a {@link Session} created by {@link #createSession()} is not persisted
+	 * until the first {@link Session} attribute is set, which prevents anonymous traffic (e.g. health checks
+	 * or bots) from filling the {@link Session Sessions} {@link Region} with empty {@link Session Sessions}.
+	 *
+	 * @param saveEmptyNewSessions boolean value indicating whether new, empty {@link Session Sessions} are saved.
+	 * @see GemFireSession#isNew()
+	 */
+	public void setSaveEmptyNewSessions(boolean saveEmptyNewSessions) {
+		this.saveEmptyNewSessions = saveEmptyNewSessions;
+	}
+
+	/**
+	 * Determines whether new {@link Session Sessions} that were never modified and have no attributes are saved.
+	 *
+	 * Defaults to {@literal true}.
+	 *
+	 * @return a boolean value indicating whether new, empty {@link Session Sessions} are saved.
+	 * @see #setSaveEmptyNewSessions(boolean)
+	 */
+	public boolean isSaveEmptyNewSessions() {
+		return this.saveEmptyNewSessions;
+	}
+
+	/**
+	 * Sets whether idle {@link Session Sessions} are demoted to a cold {@link Region} by the peer members
+	 * storing {@link Session} state, in which case deleting a {@link Session} that is not found
+	 * in the {@link Session Sessions} {@link Region} also deletes the demoted {@link Session}.
+	 *
+	 * @param sessionTieringEnabled boolean value indicating whether idle {@link Session Sessions} are demoted.
+	 * @see org.springframework.session.data.gemfire.support.SessionTieringManager
+	 */
+	public void setSessionTieringEnabled(boolean sessionTieringEnabled) {
+		this.sessionTieringEnabled = sessionTieringEnabled;
+	}
+
+	/**
+	 * Determines whether idle {@link Session Sessions} are demoted to a cold {@link Region}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether idle {@link Session Sessions} are demoted.
+	 * @see #setSessionTieringEnabled(boolean)
+	 */
+	public boolean isSessionTieringEnabled() {
+		return this.sessionTieringEnabled;
+	}
+
+	/**
+	 * Configures the {@link Function} used to find the {@link Session Sessions} of a principal that were demoted
+	 * to the cold {@link Session} tier, by {@link String principal name}.
+	 *
+	 * The {@link Function} is registered when {@link #setSessionTieringEnabled(boolean) Session tiering} is enabled.
+	 *
+	 * @param demotedSessionsFinder {@link Function} finding the demoted {@link Session Sessions} of a principal.
+	 * @see org.springframework.session.data.gemfire.support.SessionTieringManager
+	 */
+	public void setDemotedSessionsFinder(@Nullable Function<String, List<Session>> demotedSessionsFinder) {
+		this.demotedSessionsFinder = demotedSessionsFinder;
+	}
+
+	/**
+	 * Returns the configured {@link Function} used to find the demoted {@link Session Sessions} of a principal.
+	 *
+	 * @return an {@link Optional} {@link Function} used to find the demoted {@link Session Sessions} of a principal.
+	 * @see #setDemotedSessionsFinder(Function)
+	 */
+	public Optional<Function<String, List<Session>>> getDemotedSessionsFinder() {
+		return Optional.ofNullable(this.demotedSessionsFinder);
+	}
+
 	/**
 	 * Determines whether {@link Region} {@literal register interest} is enabled
 	 * in the current Apache Geode / Pivotal GemFire configuration.
@@ -450,6 +613,85 @@ public abstract class AbstractGemFireOperationsSessionRepository
 		return usingDataSerialization.get();
 	}
 
+	/**
+	 * Determines whether the given {@link EntryEvent} was caused by removing a {@link Session} migrated
+	 * to another shard, which is neither a deletion nor an expiration of the {@link Session}.
+	 *
+	 * @param event {@link EntryEvent} to evaluate.
+	 * @return a boolean value indicating whether the given {@link EntryEvent} was caused by removing
+	 * a migrated {@link Session}.
+	 * @see org.springframework.session.data.gemfire.support.ShardedSessionRepository
+	 * @see #MIGRATION_CALLBACK_ARGUMENT
+	 */
+	public static boolean isMigrationEvent(@Nullable EntryEvent<?, ?> event) {
+		return event != null && MIGRATION_CALLBACK_ARGUMENT.equals(event.getCallbackArgument());
+	}
+
+	/**
+	 * Determines whether the given {@link EntryEvent} was caused by demoting or promoting a {@link Session},
+	 * rather than by a change in the lifecycle of the {@link Session}.
+	 *
+	 * @param event {@link EntryEvent} to evaluate.
+	 * @return a boolean value indicating whether the {@link EntryEvent} was caused by tiering.
+	 * @see org.springframework.session.data.gemfire.support.SessionTieringManager
+	 * @see #TIERING_CALLBACK_ARGUMENT
+	 */
+	public static boolean isTieringEvent(@Nullable EntryEvent<?, ?> event) {
+
+		return event != null
+			&& (TIERING_CALLBACK_ARGUMENT.equals(event.getCallbackArgument())
+				|| Optional.ofNullable(event.getOperation()).filter(Operation::isLoad).isPresent());
+	}
+
+	/**
+	 * Sets the {@link PrincipalNameResolver} used by {@link GemFireSession GemFireSessions} to resolve
+	 * the principal name from the Spring Security {@literal SecurityContext}.
+	 *
+	 * @param principalNameResolver {@link PrincipalNameResolver} used to resolve the principal name;
+	 * if {@literal null}, then the default {@link PrincipalNameResolver} is used.
+	 * @see org.springframework.session.data.gemfire.support.PrincipalNameResolver
+	 */
+	public void setPrincipalNameResolver(@Nullable PrincipalNameResolver principalNameResolver) {
+
+		this.principalNameResolver = principalNameResolver != null
+			? principalNameResolver
+			: DEFAULT_PRINCIPAL_NAME_RESOLVER;
+	}
+
+	/**
+	 * Returns the configured {@link PrincipalNameResolver} used by {@link GemFireSession GemFireSessions}
+	 * to resolve the principal name from the Spring Security {@literal SecurityContext}.
+	 *
+	 * @return the configured {@link PrincipalNameResolver}.
+	 * @see org.springframework.session.data.gemfire.support.PrincipalNameResolver
+	 */
+	protected PrincipalNameResolver getPrincipalNameResolver() {
+		return this.principalNameResolver;
+	}
+
+	/**
+	 * Sets whether {@link GemFireSession GemFireSessions} are routed by principal, colocating all
+	 * {@link Session Sessions} of the same principal in a single bucket of the partitioned {@link Session Sessions}
+	 * {@link Region}.
+	 *
+	 * @param principalRoutingEnabled boolean value indicating whether {@link Session Sessions} are routed
+	 * by principal.
+	 * @see org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver
+	 */
+	public void setPrincipalRoutingEnabled(boolean principalRoutingEnabled) {
+		this.principalRoutingEnabled = principalRoutingEnabled;
+	}
+
+	/**
+	 * Determines whether {@link GemFireSession GemFireSessions} are routed by principal.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are routed by principal.
+	 * @see org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver
+	 */
+	protected boolean isPrincipalRoutingEnabled() {
+		return this.principalRoutingEnabled;
+	}
+
 	/**
 	 * Commits the given {@link Session}.
 	 *
@@ -475,10 +717,29 @@ public abstract class AbstractGemFireOperationsSessionRepository
 			.filter(GemFireSession.class::isInstance)
 			.map(GemFireSession.class::cast)
 			.map(it -> it.configureWith(getMaxInactiveInterval()))
-			.<Session>map(it -> it.configureWith(getIsDirtyPredicate()))
+			.map(it -> it.configureWith(getIsDirtyPredicate()))
+			.map(it -> it.configureWith(getPrincipalNameResolver()))
+			.map(it -> it.routeByPrincipal(isPrincipalRoutingEnabled()))
+			.<Session>map(it -> it.trackBaseAttributeValues(isTrackingBaseAttributeValues()))
 			.orElse(session);
 	}
 
+	/**
+	 * Determines whether the {@link GemFireSession GemFireSessions} handed out by this {@link SessionRepository}
+	 * remember the values of their attributes before they were changed.
+	 *
+	 * The base attribute values are only needed to merge a conflicting, conditional save of a {@link Session},
+	 * which is only performed when {@link #isOptimisticConcurrencyEnabled() optimistic concurrency} is enabled
+	 * and PDX is used.
+	 *
+	 * @return a boolean value indicating whether the base attribute values are remembered.
+	 * @see #isOptimisticConcurrencyEnabled()
+	 * @see #isUsingDataSerialization()
+	 */
+	private boolean isTrackingBaseAttributeValues() {
+		return isOptimisticConcurrencyEnabled() && !isUsingDataSerialization();
+	}
+
 	/**
 	 * Deletes the given {@link Session} from Apache Geode / Pivotal GemFire.
 	 *
@@ -638,26 +899,44 @@ public abstract class AbstractGemFireOperationsSessionRepository
 			super(session);
 		}
 
+		protected DeltaCapableGemFireSession(String id, long creationTime, long lastAccessedTime,
+				long maxInactiveIntervalInMillis) {
+
+			super(id, creationTime, lastAccessedTime, maxInactiveIntervalInMillis);
+		}
+
 		@Override
-		protected DeltaCapableGemFireSessionAttributes newSessionAttributes(Object lock) {
+		protected DeltaCapableGemFireSessionAttributes newSessionAttributes(Lock lock) {
 
 			return new DeltaCapableGemFireSessionAttributes(lock)
 				.configureWith(getIsDirtyPredicate());
 		}
 
-		public synchronized void toDelta(DataOutput out) throws IOException {
+		public void toDelta(DataOutput out) throws IOException {
 
 			out.writeUTF(getId());
-			out.writeLong(getLastAccessedTime().toEpochMilli());
-			out.writeLong(getMaxInactiveInterval().getSeconds());
+			out.writeLong(getLastAccessedTimeInMillis());
+			out.writeLong(getMaxInactiveIntervalInSeconds());
 			getAttributes().toDelta(out);
 		}
 
-		public synchronized void fromDelta(DataInput in) throws IOException {
+		public void fromDelta(DataInput in) throws IOException {
+
+			String id = in.readUTF();
+			Instant lastAccessedTime = Instant.ofEpochMilli(in.readLong());
+			Duration maxInactiveInterval = Duration.ofSeconds(in.readLong());
+
+			getLock().lock();
+
+			try {
+				setId(id);
+				setLastAccessedTime(lastAccessedTime);
+				setMaxInactiveInterval(maxInactiveInterval);
+			}
+			finally {
+				getLock().unlock();
+			}
 
-			setId(in.readUTF());
-			setLastAccessedTime(Instant.ofEpochMilli(in.readLong()));
-			setMaxInactiveInterval(Duration.ofSeconds(in.readLong()));
 			getAttributes().fromDelta(in);
 		}
 	}
@@ -666,6 +945,12 @@ public abstract class AbstractGemFireOperationsSessionRepository
 	 * {@link GemFireSession} is a Abstract Data Type (ADT) for a Spring {@link Session} that stores and manages
 	 * {@link Session} state in Apache Geode or Pivotal GemFire.
 	 *
+	 * Modifications are serialized by a {@link Lock}, but reads are lock-free.  The state of this {@link GemFireSession}
+	 * is published through {@literal volatile} fields and the {@link Session} attributes are kept in
+	 * an {@link GemFireSessionAttributes#getMap() immutable snapshot} that is replaced (copy-on-write)
+	 * on every modification.  Therefore, this {@link GemFireSession} can be serialized, and saved, from
+	 * a different {@link Thread} without blocking the {@link Thread Threads} that continue to use it.
+	 *
 	 * @see java.lang.Comparable
 	 * @see org.springframework.session.Session
 	 * @see org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSessionAttributes
@@ -678,6 +963,11 @@ public abstract class AbstractGemFireOperationsSessionRepository
 
 		protected static final String SPRING_SECURITY_CONTEXT = "SPRING_SECURITY_CONTEXT";
 
+		/**
+		 * Value of the time fields representing a {@literal null} {@link Instant}.
+		 */
+		private static final long NO_TIME = Long.MIN_VALUE;
+
 		/**
 		 * Factory method used to construct a new, default instance of {@link GemFireSession}.
 		 *
@@ -688,9 +978,13 @@ public abstract class AbstractGemFireOperationsSessionRepository
 		@SuppressWarnings("unchecked")
 		public static <T extends GemFireSessionAttributes> GemFireSession<T> create() {
 
-			return isUsingDataSerialization()
+			GemFireSession<T> session = isUsingDataSerialization()
 				? (GemFireSession<T>) new DeltaCapableGemFireSession()
-				: new GemFireSession();
+				: new GemFireSession<>();
+
+			session.newSession = true;
+
+			return session;
 		}
 
 		/**
@@ -701,11 +995,83 @@ public abstract class AbstractGemFireOperationsSessionRepository
 		 * @see org.springframework.session.Session
 		 * @see #isUsingDataSerialization()
 		 */
-		public static GemFireSession copy(@NonNull Session session) {
+		@SuppressWarnings("unchecked")
+		public static <T extends GemFireSessionAttributes> GemFireSession<T> copy(@NonNull Session session) {
+
+			return isUsingDataSerialization()
+				? (GemFireSession<T>) new DeltaCapableGemFireSession(session)
+				: new GemFireSession<>(session);
+		}
+
+		/**
+		 * Factory method used to construct a new instance of {@link GemFireSession} directly from
+		 * the given {@link Session} state, as read by a {@link Session} de-serializer.
+		 *
+		 * @param id {@link String} containing the unique identifier for the {@link Session}.
+		 * @param creationTime {@link Long} containing the time, in milliseconds since the epoch,
+		 * when the {@link Session} was created.
+		 * @param lastAccessedTime {@link Long} containing the time, in milliseconds since the epoch,
+		 * when the {@link Session} was last accessed.
+		 * @param maxInactiveIntervalInMillis {@link Long} containing the maximum number of milliseconds
+		 * the {@link Session} can remain inactive before expiration.
+		 * @return a new {@link GemFireSession} initialized with the given {@link Session} state.
+		 * @see #isUsingDataSerialization()
+		 */
+		@SuppressWarnings("unchecked")
+		public static <T extends GemFireSessionAttributes> GemFireSession<T> from(String id, long creationTime,
+				long lastAccessedTime, long maxInactiveIntervalInMillis) {
 
 			return isUsingDataSerialization()
-				? new DeltaCapableGemFireSession(session)
-				: new GemFireSession(session);
+				? (GemFireSession<T>) new DeltaCapableGemFireSession(id, creationTime, lastAccessedTime,
+					maxInactiveIntervalInMillis)
+				: new GemFireSession<>(id, creationTime, lastAccessedTime, maxInactiveIntervalInMillis);
+		}
+
+		/**
+		 * Copy (i.e. clone) the given {@link GemFireSession} preserving the type and the state of
+		 * the {@link GemFireSession} as tracked by this framework, such as the configured {@link IsDirtyPredicate}
+		 * and whether the {@link GemFireSession} currently has a delta.
+		 *
+		 * The returned {@link GemFireSession} shares no mutable state with the given {@link GemFireSession}
+		 * (other than the {@link Session} attribute values themselves), and therefore can be safely handed
+		 * to a different caller, on a different {@link Thread}.
+		 *
+		 * @param session {@link GemFireSession} to copy/clone.
+		 * @return a new instance of {@link GemFireSession} copied from the given {@link GemFireSession}.
+		 * @throws IllegalArgumentException if {@link GemFireSession} is {@literal null}.
+		 * @see #copy(Session)
+		 */
+		@SuppressWarnings("unchecked")
+		public static <T extends GemFireSessionAttributes> GemFireSession<T> copyOf(
+				@NonNull GemFireSession<?> session) {
+
+			Assert.notNull(session, "Session is required");
+
+			session.getLock().lock();
+
+			try {
+				GemFireSession<T> sessionCopy = (session instanceof DeltaCapableGemFireSession
+					? (GemFireSession<T>) new DeltaCapableGemFireSession(session)
+					: new GemFireSession<T>(session))
+						.configureWith(session.getIsDirtyPredicate());
+
+				if (!session.getAttributes().hasDelta()) {
+					sessionCopy.getAttributes().commit();
+				}
+
+				sessionCopy.delta = session.delta;
+				sessionCopy.newSession = session.newSession;
+				sessionCopy.principalRoutingEnabled = session.principalRoutingEnabled;
+				sessionCopy.principalNameResolver = session.principalNameResolver;
+				sessionCopy.getAttributes().setTrackBaseAttributeValues(
+					session.getAttributes().isTrackingBaseAttributeValues());
+				sessionCopy.getAttributes().copyBaseAttributeValuesFrom(session.getAttributes());
+
+				return sessionCopy;
+			}
+			finally {
+				session.getLock().unlock();
+			}
 		}
 
 		/**
@@ -718,25 +1084,31 @@ public abstract class AbstractGemFireOperationsSessionRepository
 		 * @see #copy(Session)
 		 */
 		@SuppressWarnings("unchecked")
-		public static GemFireSession from(@NonNull Session session) {
-			return session instanceof GemFireSession ? (GemFireSession) session : copy(session);
+		public static <T extends GemFireSessionAttributes> GemFireSession<T> from(@NonNull Session session) {
+			return session instanceof GemFireSession ? (GemFireSession<T>) session : copy(session);
 		}
 
-		private transient boolean delta = true;
+		private transient volatile boolean delta = true;
+		private transient volatile boolean newSession = false;
+		private transient volatile boolean principalRoutingEnabled = false;
+
+		private volatile long version;
 
-		private Duration maxInactiveInterval;
+		private volatile long maxInactiveIntervalInMillis;
 
-		private final Instant creationTime;
+		private final long creationTime;
 
-		private Instant lastAccessedTime;
+		private volatile long lastAccessedTime;
 
-		private transient IsDirtyPredicate dirtyPredicate = DEFAULT_IS_DIRTY_PREDICATE;
+		private volatile String id;
 
-		private transient final SpelExpressionParser parser = new SpelExpressionParser();
+		private transient volatile PrincipalNameResolver principalNameResolver = DEFAULT_PRINCIPAL_NAME_RESOLVER;
 
-		private String id;
+		private transient volatile ResolvedPrincipalName resolvedPrincipalName;
 
-		private transient final T sessionAttributes = newSessionAttributes(this);
+		private transient final Lock lock = new ReentrantLock();
+
+		private transient final T sessionAttributes = newSessionAttributes(this.lock);
 
 		/**
 		 * Constructs a new, default instance of {@link GemFireSession} initialized with
@@ -754,7 +1126,7 @@ public abstract class AbstractGemFireOperationsSessionRepository
 		 * the given {@link Session#getId() Session Identifier}.
 		 *
 		 * Additionally, the {@link #creationTime} is set to {@link Instant#now()}, {@link #lastAccessedTime}
-		 * is set to {@link #creationTime} and the {@link #maxInactiveInterval} is set to {@link Duration#ZERO}.
+		 * is set to {@link #creationTime} and the {@link #maxInactiveIntervalInMillis} is set to {@literal 0}.
 		 *
 		 * @param id {@link String} containing the unique identifier for this {@link Session}.
 		 * @see #validateSessionId(String)
@@ -762,9 +1134,9 @@ public abstract class AbstractGemFireOperationsSessionRepository
 		protected GemFireSession(String id) {
 
 			this.id = validateSessionId(id);
-			this.creationTime = Instant.now();
+			this.creationTime = System.currentTimeMillis();
 			this.lastAccessedTime = this.creationTime;
-			this.maxInactiveInterval = Duration.ZERO;
+			this.maxInactiveIntervalInMillis = 0L;
 		}
 
 		/**
@@ -779,43 +1151,108 @@ public abstract class AbstractGemFireOperationsSessionRepository
 			Assert.notNull(session, "Session is required");
 
 			this.id = session.getId();
-			this.creationTime = session.getCreationTime();
-			this.lastAccessedTime = session.getLastAccessedTime();
-			this.maxInactiveInterval = session.getMaxInactiveInterval();
+			this.creationTime = toEpochMilli(session.getCreationTime());
+			this.lastAccessedTime = toEpochMilli(session.getLastAccessedTime());
+			this.maxInactiveIntervalInMillis = toMillis(session.getMaxInactiveInterval());
 			this.sessionAttributes.from(session);
+
+			if (session instanceof GemFireSession) {
+				this.version = ((GemFireSession) session).getVersion();
+			}
+		}
+
+		/**
+		 * Constructs a new instance of {@link GemFireSession} initialized with the given {@link Session} state.
+		 *
+		 * @param id {@link String} containing the unique identifier for this {@link Session}.
+		 * @param creationTime {@link Long} containing the time, in milliseconds since the epoch,
+		 * when this {@link Session} was created.
+		 * @param lastAccessedTime {@link Long} containing the time, in milliseconds since the epoch,
+		 * when this {@link Session} was last accessed.
+		 * @param maxInactiveIntervalInMillis {@link Long} containing the maximum number of milliseconds
+		 * this {@link Session} can remain inactive before expiration.
+		 * @see #validateSessionId(String)
+		 */
+		protected GemFireSession(String id, long creationTime, long lastAccessedTime,
+				long maxInactiveIntervalInMillis) {
+
+			this.id = validateSessionId(id);
+			this.creationTime = creationTime;
+			this.lastAccessedTime = lastAccessedTime;
+			this.maxInactiveIntervalInMillis = maxInactiveIntervalInMillis;
+		}
+
+		private static long toEpochMilli(@Nullable Instant time) {
+			return time != null ? time.toEpochMilli() : NO_TIME;
+		}
+
+		@Nullable
+		private static Instant toInstant(long epochMilli) {
+			return epochMilli != NO_TIME ? Instant.ofEpochMilli(epochMilli) : null;
+		}
+
+		private static long toMillis(@Nullable Duration duration) {
+			return duration != null ? duration.toMillis() : 0L;
 		}
 
 		/**
 		 * Constructs a new {@link GemFireSessionAttributes} object to store and manage Session attributes.
 		 *
-		 * @param lock {@link Object} used as the mutex for concurrent access and Thread-safety.
+		 * @param lock {@link Lock} used as the mutex for concurrent access and Thread-safety.
 		 * @return the new {@link GemFireSessionAttributes}.
+		 * @see java.util.concurrent.locks.Lock
 		 * @see GemFireSessionAttributes
 		 * @see #getIsDirtyPredicate()
 		 */
 		@SuppressWarnings("unchecked")
-		protected T newSessionAttributes(Object lock) {
+		protected T newSessionAttributes(Lock lock) {
 
 			return (T) new GemFireSessionAttributes(lock)
 				.configureWith(getIsDirtyPredicate());
 		}
 
+		/**
+		 * Returns the {@link Lock} guarding modifications of this {@link GemFireSession} and its attributes
+		 * from concurrent access by multiple {@link Thread Threads}.
+		 *
+		 * A {@link Lock} is used rather than an {@link Object} monitor so that {@link Thread Threads} blocked on
+		 * the {@link Lock} do not pin the carrier {@link Thread} when running on virtual {@link Thread Threads}.
+		 *
+		 * @return the {@link Lock} guarding modifications of this {@link GemFireSession}.
+		 * @see java.util.concurrent.locks.Lock
+		 */
+		protected Lock getLock() {
+			return this.lock;
+		}
+
 		/**
 		 * Change the {@link String identifier} of this {@link Session}.
 		 *
+		 * When {@link Session Sessions} are routed by principal and the principal is known, the new
+		 * {@link String identifier} is prefixed with the routing key of the principal.
+		 *
 		 * @return the new {@link String identifier} of of this {@link Session}.
-		 * @see #generateSessionId()
+		 * @see #generateSessionId(String)
 		 * @see #triggerDelta()
 		 * @see #getId()
 		 */
 		@Override
-		public synchronized String changeSessionId() {
+		public String changeSessionId() {
+
+			String principalName = this.principalRoutingEnabled ? getPrincipalName() : null;
+
+			getLock().lock();
 
-			this.id = generateSessionId();
+			try {
+				this.id = generateSessionId(principalName);
 
-			triggerDelta();
+				triggerDelta();
 
-			return getId();
+				return getId();
+			}
+			finally {
+				getLock().unlock();
+			}
 		}
 
 		/**
@@ -829,6 +1266,21 @@ public abstract class AbstractGemFireOperationsSessionRepository
 			return UUID.randomUUID().toString();
 		}
 
+		/**
+		 * Generates a {@link String unique identifier} (ID) routed by the given principal, if any.
+		 *
+		 * @param principalName {@link String} containing the name of the principal; may be {@literal null}.
+		 * @return a new {@link String unique identifier (ID)}.
+		 * @see org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver#newSessionId(String)
+		 * @see #generateSessionId()
+		 */
+		private static String generateSessionId(@Nullable String principalName) {
+
+			return StringUtils.hasText(principalName)
+				? PrincipalRoutingPartitionResolver.newSessionId(principalName)
+				: generateSessionId();
+		}
+
 		/**
 		 * Validates the given {@link Session} {@link String identifier} (ID) is set and valid.
 		 *
@@ -843,9 +1295,37 @@ public abstract class AbstractGemFireOperationsSessionRepository
 			return id;
 		}
 
-		protected synchronized void commit() {
-			this.delta = false;
-			getAttributes().commit();
+		/**
+		 * Commits this {@link GemFireSession}, clearing all changes (i.e. the delta) tracked so far.
+		 *
+		 * Subsequent changes alone make up the next delta, for instance, when the
+		 * {@link org.springframework.session.data.gemfire.function.SessionAttributeOperationFunction}
+		 * modifies a single attribute of the stored {@link Session} on the server.
+		 */
+		public void commit() {
+
+			getLock().lock();
+
+			try {
+				this.delta = false;
+				this.newSession = false;
+				getAttributes().commit();
+			}
+			finally {
+				getLock().unlock();
+			}
+		}
+
+		/**
+		 * Determines whether this {@link GemFireSession} was {@link #create() created} by the application
+		 * and has not yet been saved.
+		 *
+		 * @return a boolean value indicating whether this {@link GemFireSession} is new.
+		 * @see #create()
+		 * @see #commit()
+		 */
+		public boolean isNew() {
+			return this.newSession;
 		}
 
 		/**
@@ -859,32 +1339,87 @@ public abstract class AbstractGemFireOperationsSessionRepository
 		 * @see GemFireSessionAttributes#hasDelta()
 		 * @see #getAttributes()
 		 */
-		public synchronized boolean hasDelta() {
+		public boolean hasDelta() {
 			return this.delta || getAttributes().hasDelta();
 		}
 
-		protected synchronized void triggerDelta() {
+		protected void triggerDelta() {
 			triggerDelta(true);
 		}
 
-		protected synchronized void triggerDelta(boolean delta) {
-			this.delta |= delta;
+		protected void triggerDelta(boolean delta) {
+
+			getLock().lock();
+
+			try {
+				this.delta |= delta;
+			}
+			finally {
+				getLock().unlock();
+			}
+		}
+
+		/**
+		 * Merges the state of the given, concurrently saved {@link Session} into this {@link GemFireSession}.
+		 *
+		 * This is a three-way, attribute-level merge using the {@link Session} attribute values as they were
+		 * when this {@link GemFireSession} was loaded (the base) to determine which attributes were changed
+		 * locally.  Attributes changed locally are kept.  All other attributes are replaced by the attributes
+		 * of the given {@link Session}.  The {@link #getLastAccessedTime() last accessed time} is set to
+		 * the latest of both {@link Session Sessions} and the {@link #getVersion() version} is set to
+		 * the {@link #getVersion() version} of the given {@link Session}.
+		 *
+		 * @param storedSession {@link Session} that was concurrently saved.
+		 * @return the number of attributes changed both locally and in the given {@link Session}
+		 * for which the local change was kept.
+		 * @see GemFireSessionAttributes#merge(Session)
+		 */
+		protected int merge(@NonNull Session storedSession) {
+
+			Assert.notNull(storedSession, "Session is required");
+
+			getLock().lock();
+
+			try {
+				Instant storedLastAccessedTime = storedSession.getLastAccessedTime();
+
+				if (storedLastAccessedTime != null && storedLastAccessedTime.toEpochMilli() > this.lastAccessedTime) {
+					this.lastAccessedTime = storedLastAccessedTime.toEpochMilli();
+				}
+
+				setVersion(from(storedSession).getVersion());
+
+				return getAttributes().merge(storedSession);
+			}
+			finally {
+				getLock().unlock();
+			}
 		}
 
-		synchronized void setId(String id) {
+		void setId(String id) {
 			this.id = validateSessionId(id);
 		}
 
-		public synchronized String getId() {
+		public String getId() {
 			return this.id;
 		}
 
 		public void setAttribute(String attributeName, Object attributeValue) {
 			getAttributes().setAttribute(attributeName, attributeValue);
+			clearResolvedPrincipalNameIfSecurityContext(attributeName);
 		}
 
 		public void removeAttribute(String attributeName) {
 			getAttributes().removeAttribute(attributeName);
+			clearResolvedPrincipalNameIfSecurityContext(attributeName);
+		}
+
+		// The SecurityContext may have been modified in place before being set again
+		private void clearResolvedPrincipalNameIfSecurityContext(String attributeName) {
+
+			if (SPRING_SECURITY_CONTEXT.equals(attributeName)) {
+				this.resolvedPrincipalName = null;
+			}
 		}
 
 		public <T> T getAttribute(String attributeName) {
@@ -899,38 +1434,48 @@ public abstract class AbstractGemFireOperationsSessionRepository
 			return this.sessionAttributes;
 		}
 
-		public synchronized Instant getCreationTime() {
-			return this.creationTime;
+		public Instant getCreationTime() {
+			return toInstant(this.creationTime);
 		}
 
-		public synchronized boolean isExpired() {
-
-			Instant lastAccessedTime = getLastAccessedTime();
+		/**
+		 * Returns the time, in milliseconds since the epoch, when this {@link GemFireSession} was created
+		 * without allocating an {@link Instant}.
+		 *
+		 * @return the time, in milliseconds since the epoch, when this {@link GemFireSession} was created.
+		 * @see #getCreationTime()
+		 */
+		public long getCreationTimeInMillis() {
+			return this.creationTime;
+		}
 
-			Duration maxInactiveInterval = getMaxInactiveInterval();
+		public boolean isExpired() {
 
-			return isExpirationEnabled(maxInactiveInterval)
-				&& Instant.now().minus(maxInactiveInterval).isAfter(lastAccessedTime);
-		}
+			long lastAccessedTime = this.lastAccessedTime;
 
-		private boolean isExpirationDisabled(Duration duration) {
-			return duration == null || duration.isNegative() || duration.isZero();
-		}
+			long maxInactiveIntervalInMillis = this.maxInactiveIntervalInMillis;
 
-		private boolean isExpirationEnabled(Duration duration) {
-			return !isExpirationDisabled(duration);
+			return maxInactiveIntervalInMillis > 0L && lastAccessedTime != NO_TIME
+				&& System.currentTimeMillis() - maxInactiveIntervalInMillis > lastAccessedTime;
 		}
 
-		protected synchronized void setIsDirtyPredicate(IsDirtyPredicate dirtyPredicate) {
-
-			this.dirtyPredicate = dirtyPredicate;
+		/**
+		 * Sets the {@link IsDirtyPredicate} of this {@link GemFireSession}, which is held by, and shared with,
+		 * the {@link #getAttributes() Session attributes}.
+		 *
+		 * @param dirtyPredicate {@link IsDirtyPredicate} used to determine whether attributes are dirty.
+		 */
+		protected void setIsDirtyPredicate(IsDirtyPredicate dirtyPredicate) {
 			getAttributes().configureWith(dirtyPredicate);
 		}
 
-		protected synchronized IsDirtyPredicate getIsDirtyPredicate() {
+		protected IsDirtyPredicate getIsDirtyPredicate() {
+
+			// The Session attributes are null while this GemFireSession is being constructed
+			T sessionAttributes = getAttributes();
 
-			return this.dirtyPredicate != null
-				? this.dirtyPredicate
+			return sessionAttributes != null
+				? sessionAttributes.getIsDirtyPredicate()
 				: DEFAULT_IS_DIRTY_PREDICATE;
 		}
 
@@ -938,57 +1483,136 @@ public abstract class AbstractGemFireOperationsSessionRepository
 			return lastAccessedTime != null;
 		}
 
-		public synchronized void setLastAccessedTime(Instant lastAccessedTime) {
+		public void setLastAccessedTime(Instant lastAccessedTime) {
 
-			if (isLastAccessedTimeValid(lastAccessedTime)) {
+			getLock().lock();
 
-				triggerDelta(!ObjectUtils.nullSafeEquals(this.lastAccessedTime, lastAccessedTime));
+			try {
+				if (isLastAccessedTimeValid(lastAccessedTime)) {
 
-				this.lastAccessedTime = lastAccessedTime;
+					long lastAccessedTimeInMillis = lastAccessedTime.toEpochMilli();
+
+					triggerDelta(this.lastAccessedTime != lastAccessedTimeInMillis);
+
+					this.lastAccessedTime = lastAccessedTimeInMillis;
+				}
+			}
+			finally {
+				getLock().unlock();
 			}
 		}
 
-		public synchronized Instant getLastAccessedTime() {
+		public Instant getLastAccessedTime() {
+			return toInstant(this.lastAccessedTime);
+		}
+
+		/**
+		 * Returns the time, in milliseconds since the epoch, when this {@link GemFireSession} was last accessed
+		 * without allocating an {@link Instant}.
+		 *
+		 * @return the time, in milliseconds since the epoch, when this {@link GemFireSession} was last accessed.
+		 * @see #getLastAccessedTime()
+		 */
+		public long getLastAccessedTimeInMillis() {
 			return this.lastAccessedTime;
 		}
 
-		public synchronized void setMaxInactiveInterval(Duration maxInactiveInterval) {
+		public void setMaxInactiveInterval(Duration maxInactiveInterval) {
 
-			triggerDelta(!ObjectUtils.nullSafeEquals(this.maxInactiveInterval, maxInactiveInterval));
+			getLock().lock();
 
-			this.maxInactiveInterval = maxInactiveInterval;
-		}
+			try {
+				long maxInactiveIntervalInMillis = toMillis(maxInactiveInterval);
 
-		public synchronized Duration getMaxInactiveInterval() {
+				triggerDelta(this.maxInactiveIntervalInMillis != maxInactiveIntervalInMillis);
 
-			return this.maxInactiveInterval != null
-				? this.maxInactiveInterval
-				: Duration.ZERO;
+				this.maxInactiveIntervalInMillis = maxInactiveIntervalInMillis;
+			}
+			finally {
+				getLock().unlock();
+			}
 		}
 
-		public synchronized void setPrincipalName(String principalName) {
-			setAttribute(PRINCIPAL_NAME_INDEX_NAME, principalName);
+		public Duration getMaxInactiveInterval() {
+			return Duration.ofMillis(this.maxInactiveIntervalInMillis);
 		}
 
-		public synchronized String getPrincipalName() {
-
-			String principalName = getAttribute(PRINCIPAL_NAME_INDEX_NAME);
-
-			if (principalName == null) {
+		/**
+		 * Returns the maximum number of seconds this {@link GemFireSession} can remain inactive before expiration
+		 * without allocating a {@link Duration}.
+		 *
+		 * @return the maximum number of seconds this {@link GemFireSession} can remain inactive before expiration.
+		 * @see #getMaxInactiveInterval()
+		 */
+		public long getMaxInactiveIntervalInSeconds() {
+			return Math.floorDiv(this.maxInactiveIntervalInMillis, 1000L);
+		}
+
+		/**
+		 * Sets the {@link Long version} of this {@link GemFireSession}, incremented on every conditional save.
+		 *
+		 * @param version {@link Long} value specifying the version of this {@link GemFireSession}.
+		 */
+		public void setVersion(long version) {
+			this.version = version;
+		}
+
+		/**
+		 * Returns the {@link Long version} of this {@link GemFireSession}, incremented on every conditional save.
+		 *
+		 * @return the {@link Long version} of this {@link GemFireSession}.
+		 */
+		public long getVersion() {
+			return this.version;
+		}
+
+		public void setPrincipalName(String principalName) {
+			setAttribute(PRINCIPAL_NAME_INDEX_NAME, principalName);
+		}
 
-				Object authentication = getAttribute(SPRING_SECURITY_CONTEXT);
+		public String getPrincipalName() {
 
-				if (authentication != null) {
+			String principalName = getAttribute(PRINCIPAL_NAME_INDEX_NAME);
 
-					Expression expression = this.parser.parseExpression("authentication?.name");
+			if (principalName == null) {
 
-					principalName = expression.getValue(authentication, String.class);
+				Object securityContext = getAttribute(SPRING_SECURITY_CONTEXT);
+
+				if (securityContext != null) {
+					principalName = resolvePrincipalName(securityContext);
 				}
 			}
 
 			return principalName;
 		}
 
+		/**
+		 * Resolves the principal name from the given Spring Security {@literal SecurityContext} using
+		 * the configured {@link PrincipalNameResolver}.
+		 *
+		 * The resolved principal name is cached until the {@literal SecurityContext} of this {@link GemFireSession}
+		 * is replaced, set again or removed.
+		 *
+		 * @param securityContext Spring Security {@literal SecurityContext} stored in this {@link GemFireSession}.
+		 * @return the resolved principal name.
+		 * @see #configureWith(PrincipalNameResolver)
+		 */
+		private String resolvePrincipalName(Object securityContext) {
+
+			ResolvedPrincipalName resolvedPrincipalName = this.resolvedPrincipalName;
+
+			if (resolvedPrincipalName == null || resolvedPrincipalName.securityContext != securityContext) {
+
+				String principalName = this.principalNameResolver.resolvePrincipalName(securityContext);
+
+				resolvedPrincipalName = new ResolvedPrincipalName(securityContext, principalName);
+
+				this.resolvedPrincipalName = resolvedPrincipalName;
+			}
+
+			return resolvedPrincipalName.principalName;
+		}
+
 		/**
 		 * Builder method to configure the {@link Duration max inactive interval} before this {@link GemFireSession}
 		 * will expire.
@@ -1019,6 +1643,59 @@ public abstract class AbstractGemFireOperationsSessionRepository
 			return this;
 		}
 
+		/**
+		 * Builder method to configure the {@link PrincipalNameResolver} used to resolve the principal name from
+		 * the Spring Security {@literal SecurityContext} stored in this {@link GemFireSession}.
+		 *
+		 * @param principalNameResolver {@link PrincipalNameResolver} used to resolve the principal name;
+		 * if {@literal null}, then the default {@link PrincipalNameResolver} is used.
+		 * @return this {@link GemFireSession}.
+		 * @see org.springframework.session.data.gemfire.support.PrincipalNameResolver
+		 */
+		public GemFireSession<T> configureWith(@Nullable PrincipalNameResolver principalNameResolver) {
+
+			PrincipalNameResolver resolvedPrincipalNameResolver = principalNameResolver != null
+				? principalNameResolver
+				: DEFAULT_PRINCIPAL_NAME_RESOLVER;
+
+			if (this.principalNameResolver != resolvedPrincipalNameResolver) {
+				this.principalNameResolver = resolvedPrincipalNameResolver;
+				this.resolvedPrincipalName = null;
+			}
+
+			return this;
+		}
+
+		/**
+		 * Builder method to configure whether this {@link GemFireSession} is routed by principal when
+		 * its {@link #changeSessionId() ID changes}.
+		 *
+		 * @param principalRoutingEnabled boolean value indicating whether this {@link GemFireSession} is routed
+		 * by principal.
+		 * @return this {@link GemFireSession}.
+		 * @see org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver
+		 * @see #changeSessionId()
+		 */
+		public GemFireSession<T> routeByPrincipal(boolean principalRoutingEnabled) {
+			this.principalRoutingEnabled = principalRoutingEnabled;
+			return this;
+		}
+
+		/**
+		 * Builder method to configure whether this {@link GemFireSession} remembers the values of its attributes
+		 * before they were changed, as required to {@link #merge(Session) merge} a concurrently saved
+		 * {@link Session}.
+		 *
+		 * @param trackBaseAttributeValues boolean value indicating whether the base attribute values
+		 * are remembered.
+		 * @return this {@link GemFireSession}.
+		 * @see GemFireSessionAttributes#setTrackBaseAttributeValues(boolean)
+		 */
+		public GemFireSession<T> trackBaseAttributeValues(boolean trackBaseAttributeValues) {
+			getAttributes().setTrackBaseAttributeValues(trackBaseAttributeValues);
+			return this;
+		}
+
 		@SuppressWarnings("all")
 		@Override
 		public int compareTo(Session session) {
@@ -1052,103 +1729,170 @@ public abstract class AbstractGemFireOperationsSessionRepository
 		}
 
 		@Override
-		public synchronized String toString() {
+		public String toString() {
 
 			return String.format(GEMFIRE_SESSION_TO_STRING, getClass().getName(), getId(), getCreationTime(),
 				getLastAccessedTime(), getMaxInactiveInterval(), getPrincipalName());
 		}
+
+		/**
+		 * Immutable pair of a Spring Security {@literal SecurityContext} and the principal name resolved from it,
+		 * published as a unit to avoid a lock on the read path.
+		 */
+		private static final class ResolvedPrincipalName {
+
+			private final Object securityContext;
+
+			private final String principalName;
+
+			private ResolvedPrincipalName(Object securityContext, String principalName) {
+				this.securityContext = securityContext;
+				this.principalName = principalName;
+			}
+		}
 	}
 
 	public static class DeltaCapableGemFireSessionAttributes extends GemFireSessionAttributes implements Delta {
 
-		private transient final Set<String> sessionAttributeDeltas = new HashSet<>();
+		// Allocated on the first change since most Sessions held by a client are never modified
+		private transient Set<String> sessionAttributeDeltas;
 
 		public DeltaCapableGemFireSessionAttributes() { }
 
-		public DeltaCapableGemFireSessionAttributes(Object lock) {
+		public DeltaCapableGemFireSessionAttributes(Lock lock) {
 			super(lock);
 		}
 
 		Set<String> getSessionAttributeDeltas() {
 
-			synchronized (getLock()) {
-				return this.sessionAttributeDeltas;
-			}
+			return this.sessionAttributeDeltas != null
+				? this.sessionAttributeDeltas
+				: Collections.emptySet();
 		}
 
 		@Override
 		protected BiFunction<String, Object, Boolean> sessionAttributesChangeInterceptor() {
 
 			return (attributeName, attributeValue) -> {
-				getSessionAttributeDeltas().add(attributeName);
+				if (this.sessionAttributeDeltas == null) {
+					this.sessionAttributeDeltas = new HashSet<>();
+				}
+
+				this.sessionAttributeDeltas.add(attributeName);
 				return true;
 			};
 		}
 
+		@Override
+		protected void attributesLoaded(Set<String> attributeNames) {
+
+			if (this.sessionAttributeDeltas == null) {
+				this.sessionAttributeDeltas = new HashSet<>(attributeNames);
+			}
+			else {
+				this.sessionAttributeDeltas.addAll(attributeNames);
+			}
+		}
+
 		public void toDelta(DataOutput out) throws IOException {
 
-			synchronized (getLock()) {
+			Map<String, Object> sessionAttributeDeltas = getSessionAttributeDeltaValues();
 
-				Set<String> sessionAttributeDeltas = getSessionAttributeDeltas();
+			out.writeInt(sessionAttributeDeltas.size());
 
-				out.writeInt(sessionAttributeDeltas.size());
+			for (Map.Entry<String, Object> sessionAttributeDelta : sessionAttributeDeltas.entrySet()) {
+				out.writeUTF(sessionAttributeDelta.getKey());
+				writeObject(sessionAttributeDelta.getValue(), out);
+			}
+		}
 
-				for (String attributeName : sessionAttributeDeltas) {
-					out.writeUTF(attributeName);
-					writeObject(getAttribute(attributeName), out);
-				}
+		/**
+		 * Returns the current values of all changed attributes, keyed by attribute name, captured atomically
+		 * so the delta can be written without holding the {@link #getLock() lock}.
+		 *
+		 * @return a {@link Map} of the current values of all changed attributes.
+		 */
+		private Map<String, Object> getSessionAttributeDeltaValues() {
+
+			getLock().lock();
+
+			try {
+				Map<String, Object> sessionAttributes = getMap();
+
+				Map<String, Object> sessionAttributeDeltaValues = new LinkedHashMap<>();
+
+				getSessionAttributeDeltas().forEach(attributeName ->
+					sessionAttributeDeltaValues.put(attributeName, sessionAttributes.get(attributeName)));
+
+				return sessionAttributeDeltaValues;
+			}
+			finally {
+				getLock().unlock();
 			}
 		}
 
 		protected void writeObject(Object value, DataOutput out) throws IOException {
-			DataSerializer.writeObject(value, out);
+			ChunkedValue.writeObject(value, out, DataSerializer::writeObject);
 		}
 
 		@Override
 		public boolean hasDelta() {
 
-			synchronized (getLock()) {
+			getLock().lock();
+
+			try {
 				return !getSessionAttributeDeltas().isEmpty();
 			}
+			finally {
+				getLock().unlock();
+			}
 		}
 
 		public void fromDelta(DataInput in) throws InvalidDeltaException, IOException {
 
-			synchronized (getLock()) {
-				try {
+			Map<String, Object> deltas;
 
-					int count = in.readInt();
+			try {
 
-					Map<String, Object> deltas = new HashMap<>(count);
+				int count = in.readInt();
 
-					while (count-- > 0) {
-						deltas.put(in.readUTF(), readObject(in));
-					}
+				deltas = new HashMap<>(count);
 
-					Set<String> sessionAttributeDeltas = getSessionAttributeDeltas();
-
-					deltas.forEach((key, value) -> {
-						setAttribute(key, value);
-						sessionAttributeDeltas.remove(key);
-					});
-				}
-				catch (ClassNotFoundException cause) {
-					throw new InvalidDeltaException("Class type in data not found", cause);
+				while (count-- > 0) {
+					deltas.put(in.readUTF(), readObject(in));
 				}
 			}
+			catch (ClassNotFoundException cause) {
+				throw new InvalidDeltaException("Class type in data not found", cause);
+			}
+
+			getLock().lock();
+
+			try {
+				setAttributes(deltas, false);
+				getSessionAttributeDeltas().removeAll(deltas.keySet());
+			}
+			finally {
+				getLock().unlock();
+			}
 		}
 
 		protected <T> T readObject(DataInput in) throws ClassNotFoundException, IOException {
-			return DataSerializer.readObject(in);
+			return ChunkedValue.unwrap(DataSerializer.readObject(in));
 		}
 
 		@Override
 		protected void commit() {
 
-			synchronized (getLock()) {
-				getSessionAttributeDeltas().clear();
+			getLock().lock();
+
+			try {
+				this.sessionAttributeDeltas = null;
 				super.commit();
 			}
+			finally {
+				getLock().unlock();
+			}
 		}
 	}
 
@@ -1171,142 +1915,330 @@ public abstract class AbstractGemFireOperationsSessionRepository
 			return new GemFireSessionAttributes();
 		}
 
-		public static GemFireSessionAttributes create(Object lock) {
+		public static GemFireSessionAttributes create(Lock lock) {
 			return new GemFireSessionAttributes(lock);
 		}
 
-		private transient boolean delta = false;
+		private transient volatile boolean delta = false;
+		private transient volatile boolean trackBaseAttributeValues = false;
+
+		private transient volatile IsDirtyPredicate dirtyPredicate = DEFAULT_IS_DIRTY_PREDICATE;
 
-		private transient IsDirtyPredicate dirtyPredicate = DEFAULT_IS_DIRTY_PREDICATE;
+		private transient Map<String, Object> baseAttributeValues;
 
-		private transient final Map<String, Object> sessionAttributes = new HashMap<>();
+		private transient volatile Map<String, Object> sessionAttributes = Collections.emptyMap();
 
-		private transient final Object lock;
+		private transient final Lock lock;
 
 		/**
 		 * Constructs a new instance of {@link GemFireSessionAttributes}.
 		 */
 		protected GemFireSessionAttributes() {
-			this.lock = this;
+			this(null);
 		}
 
 		/**
-		 * Constructs a new instance of {@link GemFireSessionAttributes} initialized with the given {@link Object lock}
+		 * Constructs a new instance of {@link GemFireSessionAttributes} initialized with the given {@link Lock}
 		 * to use to guard against concurrent access by multiple {@link Thread Threads}.
 		 *
-		 * @param lock {@link Object} used as the {@literal mutex} to guard the operations of this object
-		 * from concurrent access by multiple {@link Thread Threads}.
+		 * @param lock {@link Lock} used as the {@literal mutex} to guard the operations of this object
+		 * from concurrent access by multiple {@link Thread Threads}; a new {@link ReentrantLock} is used
+		 * if {@literal null}.
 		 */
-		protected GemFireSessionAttributes(@Nullable Object lock) {
-			this.lock = lock != null ? lock : this;
+		protected GemFireSessionAttributes(@Nullable Lock lock) {
+			this.lock = lock != null ? lock : new ReentrantLock();
 		}
 
 		/**
-		 * Returns a reference to the internal, {@link Session} attributes data structure.
+		 * Returns an immutable snapshot of the {@link Session} attributes.
+		 *
+		 * The snapshot is never modified; every modification of the {@link Session} attributes publishes
+		 * a new snapshot.  Therefore, the snapshot can be read and serialized without holding
+		 * the {@link #getLock() lock}.
 		 *
-		 * @return a reference to the internal, {@link Session} attributes data structure.
+		 * @return an immutable snapshot of the {@link Session} attributes.
 		 * @see java.util.Map
 		 */
-		Map<String, Object> getMap() {
+		public Map<String, Object> getMap() {
 			return this.sessionAttributes;
 		}
 
 		/**
-		 * Returns the {@link Object} used as the {@literal lock} guarding the methods of this object
-		 * from concurrent access by multiple {@link Thread Threads}.
+		 * Modifies a copy of the current snapshot of the {@link Session} attributes with the given {@link Function}
+		 * and publishes the copy as the new, immutable snapshot.
+		 *
+		 * Must be called while holding the {@link #getLock() lock}.
+		 *
+		 * @param <R> {@link Class type} of the result.
+		 * @param modification {@link Function} modifying the copy of the {@link Session} attributes.
+		 * @return the result of the given {@link Function}.
+		 */
+		private <R> R modify(Function<Map<String, Object>, R> modification) {
+
+			Map<String, Object> sessionAttributes = new HashMap<>(this.sessionAttributes);
+
+			R result = modification.apply(sessionAttributes);
+
+			this.sessionAttributes = Collections.unmodifiableMap(sessionAttributes);
+
+			return result;
+		}
+
+		/**
+		 * Returns the {@link Lock} guarding the methods of this object from concurrent access
+		 * by multiple {@link Thread Threads}.
 		 *
-		 * @return the {@link Object lock} guarding the methods of this object from concurrent access
+		 * @return the {@link Lock} guarding the methods of this object from concurrent access
 		 * by multiple {@link Thread Threads}.
+		 * @see java.util.concurrent.locks.Lock
 		 */
-		public Object getLock() {
+		public Lock getLock() {
 			return this.lock;
 		}
 
 		protected void setIsDirtyPredicate(IsDirtyPredicate dirtyPredicate) {
-
-			synchronized (getLock()) {
-				this.dirtyPredicate = dirtyPredicate;
-			}
+			this.dirtyPredicate = dirtyPredicate;
 		}
 
 		protected IsDirtyPredicate getIsDirtyPredicate() {
 
-			synchronized (getLock()) {
-				return this.dirtyPredicate != null
-					? this.dirtyPredicate
-					: DEFAULT_IS_DIRTY_PREDICATE;
+			IsDirtyPredicate dirtyPredicate = this.dirtyPredicate;
+
+			return dirtyPredicate != null
+				? dirtyPredicate
+				: DEFAULT_IS_DIRTY_PREDICATE;
+		}
+
+		/**
+		 * Sets whether the values of attributes before they were first changed since the last {@link #commit()}
+		 * are remembered.
+		 *
+		 * Only the {@link Session Sessions} saved by a client {@link SessionRepository} using optimistic concurrency
+		 * need the base attribute values, therefore they are not remembered by default.  Disabling tracking
+		 * forgets any remembered base attribute values.
+		 *
+		 * @param trackBaseAttributeValues boolean value indicating whether base attribute values are remembered.
+		 * @see #getBaseAttributeValues()
+		 */
+		protected void setTrackBaseAttributeValues(boolean trackBaseAttributeValues) {
+
+			getLock().lock();
+
+			try {
+				this.trackBaseAttributeValues = trackBaseAttributeValues;
+
+				if (!trackBaseAttributeValues) {
+					this.baseAttributeValues = null;
+				}
 			}
+			finally {
+				getLock().unlock();
+			}
+		}
+
+		/**
+		 * Determines whether the values of attributes before they were first changed are remembered.
+		 *
+		 * Defaults to {@literal false}.
+		 *
+		 * @return a boolean value indicating whether base attribute values are remembered.
+		 * @see #setTrackBaseAttributeValues(boolean)
+		 */
+		protected boolean isTrackingBaseAttributeValues() {
+			return this.trackBaseAttributeValues;
 		}
 
 		public Object setAttribute(String attributeName, Object attributeValue) {
 
-			synchronized (getLock()) {
+			getLock().lock();
+
+			try {
 				return attributeValue != null
 					? doSetAttribute(attributeName, attributeValue)
 					: removeAttribute(attributeName);
 			}
+			finally {
+				getLock().unlock();
+			}
 		}
 
 		private Object doSetAttribute(String attributeName, Object attributeValue) {
 
-			Map<String, Object> sessionAttributes = getMap();
+			Object previousAttributeValue = modify(sessionAttributes -> sessionAttributes.put(attributeName, attributeValue));
 
-			Object previousAttributeValue = sessionAttributes.put(attributeName, attributeValue);
-
-			this.delta |= getIsDirtyPredicate().isDirty(previousAttributeValue, attributeValue)
+			boolean dirty = getIsDirtyPredicate().isDirty(previousAttributeValue, attributeValue)
 				&& sessionAttributesChangeInterceptor().apply(attributeName, attributeValue);
 
+			if (dirty) {
+				rememberBaseAttributeValue(attributeName, previousAttributeValue);
+			}
+
+			this.delta |= dirty;
+
 			return previousAttributeValue;
 		}
 
 		public Object removeAttribute(String attributeName) {
 
-			synchronized (getLock()) {
+			getLock().lock();
 
+			try {
 				Map<String, Object> sessionAttributes = getMap();
 
-				this.delta |= sessionAttributes.containsKey(attributeName)
+				boolean dirty = sessionAttributes.containsKey(attributeName)
 					&& sessionAttributesChangeInterceptor().apply(attributeName, null);
 
-				return sessionAttributes.remove(attributeName);
+				if (dirty) {
+					rememberBaseAttributeValue(attributeName, sessionAttributes.get(attributeName));
+				}
+
+				this.delta |= dirty;
+
+				return sessionAttributes.containsKey(attributeName)
+					? modify(attributes -> attributes.remove(attributeName))
+					: null;
+			}
+			finally {
+				getLock().unlock();
 			}
 		}
 
-		@SuppressWarnings("unchecked")
-		public <T> T getAttribute(String attributeName) {
+		/**
+		 * Remembers the value of the {@link String named} attribute before it was first changed since
+		 * the last {@link #commit()}, if {@link #isTrackingBaseAttributeValues() tracking} is enabled.
+		 * A {@literal null} value indicates the attribute was not present.
+		 *
+		 * @param attributeName {@link String} containing the name of the changed attribute.
+		 * @param baseAttributeValue {@link Object} value of the attribute before the change.
+		 */
+		private void rememberBaseAttributeValue(String attributeName, Object baseAttributeValue) {
+
+			if (!isTrackingBaseAttributeValues()) {
+				return;
+			}
 
-			synchronized (getLock()) {
-				return (T) getMap().get(attributeName);
+			if (this.baseAttributeValues == null) {
+				this.baseAttributeValues = new HashMap<>();
+			}
+
+			if (!this.baseAttributeValues.containsKey(attributeName)) {
+				this.baseAttributeValues.put(attributeName, baseAttributeValue);
 			}
 		}
 
-		public Set<String> getAttributeNames() {
+		/**
+		 * Returns the values of all attributes changed since the last {@link #commit()} as they were
+		 * before the first change, keyed by attribute name.
+		 *
+		 * @return an unmodifiable {@link Map} of the base values of all changed attributes.
+		 */
+		Map<String, Object> getBaseAttributeValues() {
 
-			synchronized (getLock()) {
-				return Collections.unmodifiableSet(getMap().keySet());
+			getLock().lock();
+
+			try {
+				return this.baseAttributeValues != null
+					? Collections.unmodifiableMap(new HashMap<>(this.baseAttributeValues))
+					: Collections.emptyMap();
+			}
+			finally {
+				getLock().unlock();
 			}
 		}
 
-		@Override
-		@SuppressWarnings("all")
-		public Set<Entry<String, Object>> entrySet() {
+		void copyBaseAttributeValuesFrom(GemFireSessionAttributes sessionAttributes) {
 
-			synchronized (getLock()) {
+			Map<String, Object> baseAttributeValues = sessionAttributes.getBaseAttributeValues();
 
-				return new AbstractSet<Entry<String, Object>>() {
+			getLock().lock();
 
-					@Override
-					public Iterator<Entry<String, Object>> iterator() {
-						return Collections.unmodifiableMap(GemFireSessionAttributes.this.getMap())
-							.entrySet().iterator();
-					}
+			try {
+				this.baseAttributeValues = baseAttributeValues.isEmpty() ? null : new HashMap<>(baseAttributeValues);
+			}
+			finally {
+				getLock().unlock();
+			}
+		}
+
+		/**
+		 * Merges the attributes of the given, concurrently saved {@link Session} into this object.
+		 *
+		 * Attributes changed since the last {@link #commit()} are kept.  All other attributes are replaced by,
+		 * or removed according to, the attributes of the given {@link Session}.  The merge does not record
+		 * any changes.
+		 *
+		 * @param storedSession {@link Session} that was concurrently saved.
+		 * @return the number of attributes changed both locally and in the given {@link Session}
+		 * for which the local change was kept.
+		 */
+		protected int merge(@NonNull Session storedSession) {
+
+			getLock().lock();
 
-					@Override
-					public int size() {
-						return GemFireSessionAttributes.this.getMap().size();
+			try {
+				Map<String, Object> baseAttributeValues = this.baseAttributeValues != null
+					? this.baseAttributeValues
+					: Collections.emptyMap();
+
+				return modify(sessionAttributes -> {
+
+					Set<String> attributeNames = new HashSet<>(sessionAttributes.keySet());
+
+					attributeNames.addAll(storedSession.getAttributeNames());
+
+					int conflicts = 0;
+
+					for (String attributeName : attributeNames) {
+
+						Object storedAttributeValue = storedSession.getAttribute(attributeName);
+
+						if (baseAttributeValues.containsKey(attributeName)) {
+							if (!ObjectUtils.nullSafeEquals(storedAttributeValue, baseAttributeValues.get(attributeName))
+									&& !ObjectUtils.nullSafeEquals(storedAttributeValue, sessionAttributes.get(attributeName))) {
+								conflicts++;
+							}
+						}
+						else if (storedAttributeValue != null) {
+							sessionAttributes.put(attributeName, storedAttributeValue);
+						}
+						else {
+							sessionAttributes.remove(attributeName);
+						}
 					}
-				};
+
+					return conflicts;
+				});
 			}
+			finally {
+				getLock().unlock();
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		public <T> T getAttribute(String attributeName) {
+			return (T) getMap().get(attributeName);
+		}
+
+		public Set<String> getAttributeNames() {
+			return getMap().keySet();
+		}
+
+		@Override
+		@SuppressWarnings("all")
+		public Set<Entry<String, Object>> entrySet() {
+
+			return new AbstractSet<Entry<String, Object>>() {
+
+				@Override
+				public Iterator<Entry<String, Object>> iterator() {
+					return GemFireSessionAttributes.this.getMap().entrySet().iterator();
+				}
+
+				@Override
+				public int size() {
+					return GemFireSessionAttributes.this.getMap().size();
+				}
+			};
 		}
 
 		protected BiFunction<String, Object, Boolean> sessionAttributesChangeInterceptor() {
@@ -1315,8 +2247,14 @@ public abstract class AbstractGemFireOperationsSessionRepository
 
 		protected void commit() {
 
-			synchronized (getLock()) {
+			getLock().lock();
+
+			try {
 				this.delta = false;
+				this.baseAttributeValues = null;
+			}
+			finally {
+				getLock().unlock();
 			}
 		}
 
@@ -1328,40 +2266,132 @@ public abstract class AbstractGemFireOperationsSessionRepository
 
 		public void from(Session session) {
 
-			synchronized (getLock()) {
-				session.getAttributeNames().forEach(attributeName ->
-					setAttribute(attributeName, session.getAttribute(attributeName)));
-			}
+			Map<String, Object> attributes = new HashMap<>();
+
+			session.getAttributeNames().forEach(attributeName ->
+				attributes.put(attributeName, session.getAttribute(attributeName)));
+
+			setAttributes(attributes);
 		}
 
 		public void from(Map<String, Object> map) {
+			setAttributes(map);
+		}
 
-			synchronized (getLock()) {
-				map.forEach(this::setAttribute);
-			}
+		/**
+		 * Sets all of the given attributes, publishing a single, new snapshot of the {@link Session} attributes.
+		 *
+		 * Like {@link #setAttribute(String, Object)}, each attribute is evaluated with the configured
+		 * {@link IsDirtyPredicate} and an attribute with a {@literal null} value is removed.
+		 *
+		 * @param attributes {@link Map} of attributes to set.
+		 * @see #setAttribute(String, Object)
+		 */
+		protected void setAttributes(@NonNull Map<String, Object> attributes) {
+			setAttributes(attributes, true);
 		}
 
-		public void from(GemFireSessionAttributes sessionAttributes) {
+		/**
+		 * Sets all of the given attributes, publishing a single, new snapshot of the {@link Session} attributes,
+		 * optionally without remembering the base attribute values.
+		 *
+		 * Changes received from another member or server (e.g. a delta) do not originate from the application
+		 * and are never saved from this object, therefore their base values must not be remembered.
+		 *
+		 * @param attributes {@link Map} of attributes to set.
+		 * @param rememberBaseAttributeValues boolean value indicating whether the base attribute values
+		 * of the changed attributes are remembered.
+		 * @see #setAttributes(Map)
+		 */
+		void setAttributes(@NonNull Map<String, Object> attributes, boolean rememberBaseAttributeValues) {
+
+			if (!attributes.isEmpty()) {
+
+				getLock().lock();
+
+				try {
+					modify(sessionAttributes -> {
+
+						attributes.forEach((attributeName, attributeValue) -> {
+
+							boolean present = sessionAttributes.containsKey(attributeName);
+
+							Object previousAttributeValue = attributeValue != null
+								? sessionAttributes.put(attributeName, attributeValue)
+								: sessionAttributes.remove(attributeName);
+
+							boolean dirty = (attributeValue != null
+								? getIsDirtyPredicate().isDirty(previousAttributeValue, attributeValue)
+								: present)
+								&& sessionAttributesChangeInterceptor().apply(attributeName, attributeValue);
 
-			synchronized (getLock()) {
-				sessionAttributes.getAttributeNames().forEach(attributeName ->
-					setAttribute(attributeName, sessionAttributes.getAttribute(attributeName)));
+							if (dirty && rememberBaseAttributeValues) {
+								rememberBaseAttributeValue(attributeName, previousAttributeValue);
+							}
+
+							this.delta |= dirty;
+						});
+
+						return null;
+					});
+				}
+				finally {
+					getLock().unlock();
+				}
 			}
 		}
 
-		public boolean hasDelta() {
+		/**
+		 * Loads the given attributes in bulk, publishing a single, new snapshot of the {@link Session} attributes.
+		 *
+		 * Unlike {@link #from(Map)}, the attribute values are not evaluated with the configured
+		 * {@link IsDirtyPredicate}.  Instead, all loaded attributes are recorded as changed at once.  This is used by
+		 * {@link Session} de-serializers to populate newly constructed {@link Session} attributes.
+		 *
+		 * @param attributes {@link Map} of attributes to load; must not contain {@literal null} values.
+		 * @see #attributesLoaded(Set)
+		 */
+		public void load(@NonNull Map<String, Object> attributes) {
+
+			if (!attributes.isEmpty()) {
 
-			synchronized (getLock()) {
-				return this.delta;
+				getLock().lock();
+
+				try {
+					Map<String, Object> sessionAttributes = new HashMap<>(this.sessionAttributes);
+
+					sessionAttributes.putAll(attributes);
+
+					this.sessionAttributes = Collections.unmodifiableMap(sessionAttributes);
+					this.delta = true;
+
+					attributesLoaded(attributes.keySet());
+				}
+				finally {
+					getLock().unlock();
+				}
 			}
+		}
+
+		/**
+		 * Callback invoked, while holding the {@link #getLock() lock}, after the {@link String named} attributes
+		 * have been {@link #load(Map) loaded} in bulk.
+		 *
+		 * @param attributeNames {@link Set} of {@link String names} of the loaded attributes.
+		 */
+		protected void attributesLoaded(Set<String> attributeNames) { }
+
+		public void from(GemFireSessionAttributes sessionAttributes) {
+			setAttributes(sessionAttributes.getMap());
+		}
 
+		public boolean hasDelta() {
+			return this.delta;
 		}
+
 		@Override
 		public String toString() {
-
-			synchronized (getLock()) {
-				return getMap().toString();
-			}
+			return getMap().toString();
 		}
 	}
 
@@ -1401,6 +2431,8 @@ public abstract class AbstractGemFireOperationsSessionRepository
 		/**
 		 * Callback method triggered when an entry is created (put) in the {@link Session} cache {@link Region}.
 		 *
+		 * Promoting a tiered {@link Session} does not create the {@link Session}.
+		 *
 		 * @param event {@link EntryEvent} containing the details of the cache operation.
 		 * @see org.springframework.session.events.SessionCreatedEvent
 		 * @see org.springframework.session.Session
@@ -1409,16 +2441,39 @@ public abstract class AbstractGemFireOperationsSessionRepository
 		 * @see #publishEvent(ApplicationEvent)
 		 * @see #toSession(Object, Object)
 		 * @see #forget(Object)
+		 * @see #invalidateNegativeLookup(EntryEvent)
 		 */
 		@Override
 		public void afterCreate(EntryEvent<Object, Session> event) {
 
+			invalidateNegativeLookup(event);
+
 			Optional.ofNullable(event)
+				.filter(it -> !isTieringEvent(it))
 				.filter(this::remember)
 				.ifPresent(it -> getSessionRepository()
 					.publishEvent(newSessionCreatedEvent(toSession(it.getNewValue(), it.getKey()))));
 		}
 
+		/**
+		 * Forgets any lookup miss remembered by the {@link NegativeLookupCache} for the {@link Session#getId() ID}
+		 * of the {@link Session} created in the cache {@link Region}, if the {@link NegativeLookupCache} is configured.
+		 *
+		 * Only create events delivered to this cache member invalidate a miss.  A client not receiving events
+		 * for {@link Session Sessions} created by other clients relies on the time-to-live alone.
+		 *
+		 * @param event {@link EntryEvent} containing the details of the cache operation.
+		 * @see org.springframework.session.data.gemfire.support.NegativeLookupCache#invalidate(Object)
+		 * @see AbstractGemFireOperationsSessionRepository#getNegativeLookupCache()
+		 */
+		private void invalidateNegativeLookup(@Nullable EntryEvent<Object, Session> event) {
+
+			if (event != null) {
+				this.sessionRepository.getNegativeLookupCache()
+					.ifPresent(negativeLookupCache -> negativeLookupCache.invalidate(event.getKey()));
+			}
+		}
+
 		/**
 		 * Causes Session deleted events to be published to the Spring application context.
 		 *
@@ -1440,6 +2495,9 @@ public abstract class AbstractGemFireOperationsSessionRepository
 		/**
 		 * Callback method triggered when an entry is destroyed (removed) in the {@link Session} cache {@link Region}.
 		 *
+		 * Demoting a tiered {@link Session} does not destroy the {@link Session}.  Removing a {@link Session}
+		 * migrated to another shard only forgets the {@link Session}.
+		 *
 		 * @param event {@link EntryEvent} containing the details of the cache operation.
 		 * @see org.springframework.session.events.SessionDestroyedEvent
 		 * @see org.springframework.session.Session
@@ -1453,7 +2511,9 @@ public abstract class AbstractGemFireOperationsSessionRepository
 		public void afterDestroy(EntryEvent<Object, Session> event) {
 
 			Optional.ofNullable(event)
+				.filter(it -> !isTieringEvent(it))
 				.filter(this::forget)
+				.filter(it -> !isMigrationEvent(it))
 				.ifPresent(it -> getSessionRepository()
 					.publishEvent(newSessionDestroyedEvent(toSession(event.getOldValue(), it.getKey()))));
 		}
@@ -16,17 +16,37 @@
 
 package org.springframework.session.data.gemfire;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.FunctionService;
 import org.apache.geode.cache.query.SelectResults;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.gemfire.GemfireOperations;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
+import org.springframework.session.data.gemfire.function.ConditionalSaveSessionFunction;
+import org.springframework.session.data.gemfire.function.FindSessionsByPrincipalNameFunction;
+import org.springframework.session.data.gemfire.function.SessionAttributeOperationFunction;
+import org.springframework.session.data.gemfire.function.SessionAttributeOperationFunction.AttributeComputation;
+import org.springframework.session.data.gemfire.function.SessionAttributeOperationFunction.Operation;
+import org.springframework.session.data.gemfire.support.NegativeLookupCache;
+import org.springframework.session.data.gemfire.support.NegativeLookupCache.MissSource;
+import org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * The {@link GemFireOperationsSessionRepository} class is a Spring {@link SessionRepository} implementation
@@ -49,6 +69,18 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
 	protected static final String FIND_SESSIONS_BY_PRINCIPAL_NAME_QUERY =
 		"SELECT s FROM %1$s s WHERE s.principalName = $1";
 
+	// Maximum number of conditional save attempts before saving a conflicting Session fails.
+	protected static final int MAX_CONDITIONAL_SAVE_ATTEMPTS = 3;
+
+	// Time, in milliseconds, during which Sessions are queried on all members after the routed Function failed.
+	protected static final long FIND_BY_PRINCIPAL_NAME_FUNCTION_RETRY_INTERVAL_IN_MILLIS =
+		TimeUnit.SECONDS.toMillis(30);
+
+	private final AtomicLong attributeConflictCount = new AtomicLong(0L);
+	private final AtomicLong saveConflictCount = new AtomicLong(0L);
+
+	private volatile long findByPrincipalNameFunctionRetryTime = 0L;
+
 	/**
 	 * Constructs a new instance of {@link GemFireOperationsSessionRepository} initialized with
 	 * the required {@link GemfireOperations} object used to perform data access operations
@@ -61,6 +93,27 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
 		super(template);
 	}
 
+	/**
+	 * Returns the number of {@link Session} attributes changed concurrently by conflicting saves
+	 * for which the local change was kept.
+	 *
+	 * @return the number of conflicting {@link Session} attribute changes.
+	 * @see #isOptimisticConcurrencyEnabled()
+	 */
+	public long getAttributeConflictCount() {
+		return this.attributeConflictCount.get();
+	}
+
+	/**
+	 * Returns the number of conditional saves that conflicted with a concurrent save of the same {@link Session}.
+	 *
+	 * @return the number of conflicting conditional saves.
+	 * @see #isOptimisticConcurrencyEnabled()
+	 */
+	public long getSaveConflictCount() {
+		return this.saveConflictCount.get();
+	}
+
 	/**
 	 * Constructs a new {@link Session} instance backed by GemFire.
 	 *
@@ -88,25 +141,63 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
 	 * @see #getSessionsTemplate()
 	 * @see #prepare(Session)
 	 * @see #delete(Session)
+	 * @see #getNegativeLookupCache()
 	 */
 	@Nullable
 	public Session findById(String sessionId) {
 
+		Optional<NegativeLookupCache> negativeLookupCache = getNegativeLookupCache();
+
+		negativeLookupCache.ifPresent(NegativeLookupCache::recordLookup);
+
+		if (negativeLookupCache.filter(it -> it.isMissing(sessionId)).isPresent()) {
+			negativeLookupCache.ifPresent(it -> it.recordMiss(MissSource.NEGATIVE_LOOKUP_CACHE));
+			return null;
+		}
+
 		Session storedSession = getSessionsTemplate().get(sessionId);
 
 		if (storedSession != null) {
-			storedSession = storedSession.isExpired()
-				? delete(storedSession)
-				: prepare(GemFireSession.from(storedSession));
+			if (storedSession.isExpired()) {
+				storedSession = delete(storedSession);
+				rememberMiss(negativeLookupCache, sessionId, MissSource.EXPIRED_SESSION);
+			}
+			else {
+				storedSession = prepare(GemFireSession.from(storedSession));
+			}
+		}
+		else {
+			rememberMiss(negativeLookupCache, sessionId, MissSource.SESSIONS_REGION);
 		}
 
 		return storedSession;
 	}
 
+	/**
+	 * Records the lookup miss from the given {@link MissSource source} and remembers the {@link String Session ID}
+	 * in the {@link NegativeLookupCache}, if configured.
+	 *
+	 * @param negativeLookupCache {@link Optional} {@link NegativeLookupCache}.
+	 * @param sessionId {@link String} containing the {@link Session#getId() ID} of the missing {@link Session}.
+	 * @param missSource {@link MissSource} identifying where the miss was determined.
+	 * @see org.springframework.session.data.gemfire.support.NegativeLookupCache
+	 */
+	private void rememberMiss(Optional<NegativeLookupCache> negativeLookupCache, String sessionId,
+			MissSource missSource) {
+
+		negativeLookupCache.ifPresent(it -> {
+			it.recordMiss(missSource);
+			it.remember(sessionId);
+		});
+	}
+
 	/**
 	 * Finds all available {@link Session Sessions} with the particular attribute indexed by {@link String name}
 	 * having the given {@link Object value}.
 	 *
+	 * When {@link Session Sessions} are routed by principal, {@link Session Sessions} are found by principal name
+	 * on the single member hosting the bucket in which all {@link Session Sessions} of the principal are colocated.
+	 *
 	 * @param indexName {@link String name} of the indexed {@link Session} attribute.
 	 * (e.g. {@link org.springframework.session.FindByIndexNameSessionRepository#PRINCIPAL_NAME_INDEX_NAME}).
 	 * @param indexValue {@link Object value} of the indexed {@link Session} attribute to search on
@@ -118,20 +209,132 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
 	 * @see #getSessionsTemplate()
 	 * @see #prepareQuery(String)
 	 * @see #prepare(Session)
+	 * @see #findByRoutedPrincipalName(String)
+	 * @see #findDemotedSessionsByPrincipalName(String)
 	 */
 	@Override
 	public Map<String, Session> findByIndexNameAndIndexValue(String indexName, String indexValue) {
 
-		SelectResults<Session> results = getSessionsTemplate().find(prepareQuery(indexName), indexValue);
+		List<Session> results = isFindByRoutedPrincipalName(indexName, indexValue)
+			? findByRoutedPrincipalName(indexValue)
+			: null;
+
+		if (results == null) {
+			SelectResults<Session> selectResults = getSessionsTemplate().find(prepareQuery(indexName), indexValue);
+			results = selectResults.asList();
+
+			if (PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
+				results = new ArrayList<>(results);
+				results.addAll(findDemotedSessionsByPrincipalName(indexValue));
+			}
+		}
 
 		Map<String, Session> sessions = new HashMap<>(results.size());
 
-		results.asList().forEach(session ->
+		results.forEach(session ->
 			sessions.put(session.getId(), prepare(session)));
 
 		return sessions;
 	}
 
+	private boolean isFindByRoutedPrincipalName(String indexName, String indexValue) {
+
+		return isPrincipalRoutingEnabled()
+			&& PRINCIPAL_NAME_INDEX_NAME.equals(indexName)
+			&& StringUtils.hasText(indexValue)
+			&& isFindByPrincipalNameFunctionAvailable(System.currentTimeMillis());
+	}
+
+	/**
+	 * Determines whether the {@link FindSessionsByPrincipalNameFunction} is executed at the given time.
+	 *
+	 * After the {@link FindSessionsByPrincipalNameFunction} failed, {@link Session Sessions} are queried on all
+	 * members until {@link #FIND_BY_PRINCIPAL_NAME_FUNCTION_RETRY_INTERVAL_IN_MILLIS} has elapsed, after which
+	 * the {@link FindSessionsByPrincipalNameFunction} is executed again.  Therefore, a transient failure,
+	 * such as a member departing during the execution, does not disable the routed lookup permanently.
+	 *
+	 * @param now {@link Long} containing the current time in milliseconds since the epoch.
+	 * @return a boolean value indicating whether the {@link FindSessionsByPrincipalNameFunction} is executed.
+	 * @see #findByRoutedPrincipalName(String)
+	 */
+	protected boolean isFindByPrincipalNameFunctionAvailable(long now) {
+		return now >= this.findByPrincipalNameFunctionRetryTime;
+	}
+
+	/**
+	 * Finds all {@link Session Sessions} of the principal by executing the {@link FindSessionsByPrincipalNameFunction}
+	 * on the bucket identified by the routing key of the principal.
+	 *
+	 * @param principalName {@link String} containing the name of the principal.
+	 * @return a {@link List} of the {@link Session Sessions} of the principal, or {@literal null} if
+	 * the {@link FindSessionsByPrincipalNameFunction} could not be executed.
+	 * @see org.springframework.session.data.gemfire.function.FindSessionsByPrincipalNameFunction
+	 * @see org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver#routingKeyFor(String)
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	protected List<Session> findByRoutedPrincipalName(String principalName) {
+
+		try {
+
+			Object results = executeFindByRoutedPrincipalName(principalName);
+
+			List<Session> sessions = new ArrayList<>();
+
+			if (results instanceof List) {
+				((List<Object>) results).stream()
+					.filter(List.class::isInstance)
+					.forEach(result -> sessions.addAll((List<Session>) result));
+			}
+
+			return sessions;
+		}
+		catch (FunctionException cause) {
+
+			this.findByPrincipalNameFunctionRetryTime =
+				System.currentTimeMillis() + FIND_BY_PRINCIPAL_NAME_FUNCTION_RETRY_INTERVAL_IN_MILLIS;
+
+			getLogger().warn(String.format("Function [%1$s] failed; Sessions will be queried on all members"
+				+ " for the next %2$d ms", FindSessionsByPrincipalNameFunction.ID,
+					FIND_BY_PRINCIPAL_NAME_FUNCTION_RETRY_INTERVAL_IN_MILLIS), cause);
+
+			return null;
+		}
+	}
+
+	/**
+	 * Executes the {@link FindSessionsByPrincipalNameFunction} on the bucket identified by the routing key
+	 * of the principal.
+	 *
+	 * @param principalName {@link String} containing the name of the principal.
+	 * @return the results of the {@link FindSessionsByPrincipalNameFunction}.
+	 * @throws FunctionException if the {@link FindSessionsByPrincipalNameFunction} could not be executed.
+	 * @see org.springframework.session.data.gemfire.function.FindSessionsByPrincipalNameFunction
+	 */
+	protected Object executeFindByRoutedPrincipalName(String principalName) {
+
+		return FunctionService.onRegion(getSessionsRegion())
+			.withFilter(Collections.singleton(PrincipalRoutingPartitionResolver.routingKeyFor(principalName)))
+			.setArguments(new Object[] { principalName })
+			.execute(FindSessionsByPrincipalNameFunction.ID)
+			.getResult();
+	}
+
+	/**
+	 * Finds all {@link Session Sessions} of the principal that were demoted to the cold {@link Session} tier
+	 * using the {@link #getDemotedSessionsFinder() demoted Sessions finder}, if configured.
+	 *
+	 * @param principalName {@link String} containing the name of the principal.
+	 * @return a {@link List} of the demoted {@link Session Sessions} of the principal; never {@literal null}.
+	 * @see #setDemotedSessionsFinder(java.util.function.Function)
+	 */
+	protected List<Session> findDemotedSessionsByPrincipalName(String principalName) {
+
+		return getDemotedSessionsFinder()
+			.map(demotedSessionsFinder -> demotedSessionsFinder.apply(principalName))
+			.orElseGet(Collections::emptyList);
+	}
+
 	/**
 	 * Prepares the appropriate Pivotal GemFire OQL query based on the indexed Session attribute
 	 * name.
@@ -168,19 +371,21 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
 	/**
 	 * Saves the specified {@link Session} to Apache Geode or Pivotal GemFire.
 	 *
-	 * Warning, the save method should never be called asynchronously and concurrently, from a separate Thread,
-	 * while the caller continues to modify the given {@link Session} from the forking Thread
-	 * or data loss can occur!  There is a reason why this method is blocking!
+	 * A {@link GemFireSession} is saved from an immutable snapshot of its attributes, therefore this method
+	 * may be called from a separate Thread while the caller continues to use the given {@link Session}.
+	 * However, changes made to the {@link Session} while the save is in progress may not be included
+	 * in the saved state and are only persisted by a subsequent save.
 	 *
 	 * @param session the {@link Session} to save.
 	 * @see org.springframework.data.gemfire.GemfireOperations#put(Object, Object)
 	 * @see org.springframework.session.Session
 	 * @see #isNonNullAndDirty(Session)
+	 * @see #isSaveable(Session)
 	 * @see #doSave(Session)
 	 */
 	public void save(@Nullable Session session) {
 
-		if (isNonNullAndDirty(session)) {
+		if (isNonNullAndDirty(session) && isSaveable(session)) {
 			doSave(session);
 		}
 	}
@@ -209,6 +414,25 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
 		return Objects.nonNull(session) && isDirty(session);
 	}
 
+	/**
+	 * Determines whether the given {@link Session} should be saved.
+	 *
+	 * A {@link GemFireSession#isNew() new} {@link Session} having no attributes is not saved when
+	 * {@link #isSaveEmptyNewSessions() saving empty new Sessions} is disabled.
+	 *
+	 * @param session {@link Session} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Session} should be saved.
+	 * @see AbstractGemFireOperationsSessionRepository.GemFireSession#isNew()
+	 * @see #isSaveEmptyNewSessions()
+	 */
+	private boolean isSaveable(@NonNull Session session) {
+
+		return isSaveEmptyNewSessions()
+			|| !(session instanceof GemFireSession)
+			|| !((GemFireSession) session).isNew()
+			|| !session.getAttributeNames().isEmpty();
+	}
+
 	/**
 	 * Performs the actual {@link Session} save operation, persisting the {@link Session} state to eitehr Apache Geode
 	 * or Pivotal GemFire!
@@ -216,26 +440,318 @@ public class GemFireOperationsSessionRepository extends AbstractGemFireOperation
 	 * @param session {@link Session} to save.
 	 * @see org.springframework.data.gemfire.GemfireTemplate#put(Object, Object)
 	 * @see org.springframework.session.Session
+	 * @see #isConditionallySaveable(Session)
+	 * @see #doConditionalSave(GemFireSession)
 	 * @see #commit(Session)
 	 */
 	void doSave(@NonNull Session session) {
 
+		// Route Session By Principal
+		if (isPrincipalRoutingEnabled()) {
+			routeByPrincipal(session);
+		}
+
 		// Save Session As GemFireSession
-		getSessionsTemplate().put(session.getId(), GemFireSession.from(session));
+		if (isConditionallySaveable(session)) {
+			doConditionalSave((GemFireSession<?>) session);
+		}
+		else {
+			getSessionsTemplate().put(session.getId(), GemFireSession.from(session));
+		}
+
+		// Forget any previous lookup miss for the Session ID
+		getNegativeLookupCache().ifPresent(negativeLookupCache -> negativeLookupCache.invalidate(session.getId()));
 
 		// Commit Session
 		commit(session);
 	}
 
+	/**
+	 * Changes the {@link Session#getId() ID} of the given {@link Session} if the {@link Session} has a principal
+	 * and is not yet routed by the principal.
+	 *
+	 * Spring Security changes the {@link Session#getId() Session ID} on login before the principal is stored in
+	 * the {@link Session}, therefore the {@link Session} is routed by principal the first time it is saved after login.
+	 * As with any {@link Session#changeSessionId() change} of the {@link Session#getId() Session ID}, the state
+	 * stored under the previous {@link Session#getId() ID} is left to expire.
+	 *
+	 * @param session {@link Session} to route by principal.
+	 * @see org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver#isRoutedBy(String, String)
+	 * @see GemFireSession#changeSessionId()
+	 */
+	private void routeByPrincipal(@NonNull Session session) {
+
+		if (session instanceof GemFireSession) {
+
+			GemFireSession<?> gemfireSession = ((GemFireSession<?>) session).routeByPrincipal(true);
+
+			if (!PrincipalRoutingPartitionResolver.isRoutedBy(gemfireSession.getId(),
+					gemfireSession.getPrincipalName())) {
+
+				gemfireSession.changeSessionId();
+			}
+		}
+	}
+
+	/**
+	 * Determines whether the given {@link Session} is saved conditionally.
+	 *
+	 * Versioning is only carried by the PDX serialization format; DataSerialization already sends
+	 * attribute-level deltas.
+	 *
+	 * @param session {@link Session} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Session} is saved conditionally.
+	 * @see #isOptimisticConcurrencyEnabled()
+	 * @see #isUsingDataSerialization()
+	 */
+	private boolean isConditionallySaveable(@NonNull Session session) {
+
+		return isOptimisticConcurrencyEnabled()
+			&& !isUsingDataSerialization()
+			&& session instanceof GemFireSession;
+	}
+
+	/**
+	 * Saves the given {@link GemFireSession} only if the version of the stored {@link Session} is the version
+	 * of the {@link GemFireSession} when it was loaded.
+	 *
+	 * On conflict, the stored {@link Session} is merged into the given {@link GemFireSession} and the save
+	 * is retried, up to {@link #MAX_CONDITIONAL_SAVE_ATTEMPTS} times.  The {@link GemFireSession} is never saved
+	 * unconditionally, since doing so would overwrite the changes of the concurrent save.
+	 *
+	 * @param session {@link GemFireSession} to save.
+	 * @throws OptimisticLockingFailureException if the {@link GemFireSession} still conflicts with
+	 * a concurrent save after {@link #MAX_CONDITIONAL_SAVE_ATTEMPTS} attempts.
+	 * @throws FunctionException if the {@link ConditionalSaveSessionFunction} could not be executed.
+	 * @see #executeConditionalSave(GemFireSession, long)
+	 * @see GemFireSession#merge(Session)
+	 */
+	private void doConditionalSave(@NonNull GemFireSession<?> session) {
+
+		for (int attempt = 1; attempt <= MAX_CONDITIONAL_SAVE_ATTEMPTS; attempt++) {
+
+			long expectedVersion = session.getVersion();
+
+			session.setVersion(expectedVersion + 1);
+
+			Object result;
+
+			try {
+				result = executeConditionalSave(session, expectedVersion);
+			}
+			catch (FunctionException cause) {
+				session.setVersion(expectedVersion);
+				throw cause;
+			}
+
+			if (Boolean.TRUE.equals(result)) {
+				return;
+			}
+
+			session.setVersion(expectedVersion);
+
+			if (result instanceof Session) {
+				this.saveConflictCount.incrementAndGet();
+				this.attributeConflictCount.addAndGet(session.merge((Session) result));
+			}
+		}
+
+		throw new OptimisticLockingFailureException(String.format(
+			"Failed to save Session [%1$s] after %2$d attempts conflicting with concurrent saves",
+			session.getId(), MAX_CONDITIONAL_SAVE_ATTEMPTS));
+	}
+
+	/**
+	 * Executes the {@link ConditionalSaveSessionFunction} on the {@link Session Sessions} {@link org.apache.geode.cache.Region}
+	 * to save the given {@link GemFireSession}.
+	 *
+	 * @param session {@link GemFireSession} to save.
+	 * @param expectedVersion {@link Long version} of the {@link GemFireSession} when it was loaded.
+	 * @return {@link Boolean#TRUE} if the {@link GemFireSession} was saved, otherwise the stored {@link Session}.
+	 * @throws FunctionException if the {@link ConditionalSaveSessionFunction} could not be executed.
+	 * @see org.springframework.session.data.gemfire.function.ConditionalSaveSessionFunction
+	 * @see org.apache.geode.cache.execute.FunctionService#onRegion(org.apache.geode.cache.Region)
+	 */
+	protected Object executeConditionalSave(@NonNull GemFireSession<?> session, long expectedVersion) {
+
+		return executeSessionFunction(ConditionalSaveSessionFunction.ID, session.getId(),
+			expectedVersion, session);
+	}
+
+	/**
+	 * Atomically adds the given {@link Long delta} to the {@link Number numeric} value of the {@link String named}
+	 * attribute of the {@link Session} with the given {@link Session#getId() ID}, on the server.
+	 *
+	 * A missing attribute is treated as {@literal 0}.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() ID} of the {@link Session}.
+	 * @param attributeName {@link String} containing the name of the attribute.
+	 * @param delta {@link Long} value to add to the attribute value.
+	 * @return the new {@link Long value} of the attribute or {@literal null} if the {@link Session} does not exist.
+	 * @see SessionAttributeOperationFunction.Operation#INCREMENT
+	 * @see #executeAttributeOperation(String, Operation, String, Object)
+	 */
+	@Nullable
+	public Long incrementAttribute(String sessionId, String attributeName, long delta) {
+		return (Long) executeAttributeOperation(sessionId, Operation.INCREMENT, attributeName, delta);
+	}
+
+	/**
+	 * Atomically sets the {@link String named} attribute of the {@link Session} with the given
+	 * {@link Session#getId() ID} to the given {@link Object value}, on the server, if the attribute is not present.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() ID} of the {@link Session}.
+	 * @param attributeName {@link String} containing the name of the attribute.
+	 * @param value {@link Object} value to set.
+	 * @return the current {@link Object value} of the attribute or {@literal null} if the attribute was set
+	 * or the {@link Session} does not exist.
+	 * @see SessionAttributeOperationFunction.Operation#PUT_IF_ABSENT
+	 * @see #executeAttributeOperation(String, Operation, String, Object)
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> T putIfAbsentAttribute(String sessionId, String attributeName, Object value) {
+		return (T) executeAttributeOperation(sessionId, Operation.PUT_IF_ABSENT, attributeName, value);
+	}
+
+	/**
+	 * Atomically adds the given {@link Object element} to the {@link java.util.Set} value of the {@link String named}
+	 * attribute of the {@link Session} with the given {@link Session#getId() ID}, on the server.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() ID} of the {@link Session}.
+	 * @param attributeName {@link String} containing the name of the attribute.
+	 * @param element {@link Object} to add to the {@link java.util.Set}.
+	 * @return {@link Boolean#TRUE} if the {@link java.util.Set} changed or {@literal null}
+	 * if the {@link Session} does not exist.
+	 * @see SessionAttributeOperationFunction.Operation#ADD_TO_SET
+	 * @see #executeAttributeOperation(String, Operation, String, Object)
+	 */
+	@Nullable
+	public Boolean addToSetAttribute(String sessionId, String attributeName, Object element) {
+		return (Boolean) executeAttributeOperation(sessionId, Operation.ADD_TO_SET, attributeName, element);
+	}
+
+	/**
+	 * Atomically computes the {@link String named} attribute of the {@link Session} with the given
+	 * {@link Session#getId() ID} from the current value, on the server.
+	 *
+	 * The {@link AttributeComputation} is serialized and executed on the server and therefore its class
+	 * must be available on the classpath of the servers.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() ID} of the {@link Session}.
+	 * @param attributeName {@link String} containing the name of the attribute.
+	 * @param computation {@link AttributeComputation} computing the new value from the current value.
+	 * @return the new {@link Object value} of the attribute or {@literal null} if the attribute was removed
+	 * or the {@link Session} does not exist.
+	 * @see SessionAttributeOperationFunction.Operation#COMPUTE
+	 * @see #executeAttributeOperation(String, Operation, String, Object)
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> T computeAttribute(String sessionId, String attributeName, AttributeComputation computation) {
+
+		Assert.notNull(computation, "AttributeComputation is required");
+
+		return (T) executeAttributeOperation(sessionId, Operation.COMPUTE, attributeName, computation);
+	}
+
+	/**
+	 * Executes the {@link SessionAttributeOperationFunction} on the {@link Session Sessions}
+	 * {@link org.apache.geode.cache.Region} to perform the given {@link Operation} on a single attribute
+	 * of the {@link Session} in place, without transferring the {@link Session}.
+	 *
+	 * A {@link Session} loaded by the caller does not reflect the result of the {@link Operation} and must not
+	 * overwrite the attribute when saved, either by not changing the attribute or by enabling
+	 * {@link #isOptimisticConcurrencyEnabled() optimistic concurrency}.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() ID} of the {@link Session}.
+	 * @param operation {@link Operation} to perform.
+	 * @param attributeName {@link String} containing the name of the attribute.
+	 * @param operand {@link Object} operand of the {@link Operation}.
+	 * @return the {@link Object result} of the {@link Operation} or {@literal null}
+	 * if the {@link Session} does not exist.
+	 * @throws IllegalArgumentException if the {@link Session#getId() Session ID} or attribute name is not specified.
+	 * @see org.springframework.session.data.gemfire.function.SessionAttributeOperationFunction
+	 */
+	@Nullable
+	protected Object executeAttributeOperation(String sessionId, @NonNull Operation operation, String attributeName,
+			@Nullable Object operand) {
+
+		Assert.hasText(sessionId, "Session ID is required");
+		Assert.hasText(attributeName, "Attribute name is required");
+
+		return executeSessionFunction(SessionAttributeOperationFunction.ID, sessionId,
+			operation, attributeName, operand);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object executeSessionFunction(String functionId, String sessionId, Object... arguments) {
+
+		Object results = FunctionService.onRegion(getSessionsRegion())
+			.withFilter(Collections.singleton(sessionId))
+			.setArguments(arguments)
+			.execute(functionId)
+			.getResult();
+
+		return results instanceof List
+			? ((List<Object>) results).stream().findFirst().orElse(null)
+			: results;
+	}
+
 	/**
 	 * Deletes (removes) any existing {@link Session} from GemFire. This operation
 	 * also results in a SessionDeletedEvent.
 	 *
+	 * When {@link #isSessionTieringEnabled() Session tiering} is enabled, a {@link Session} not found
+	 * in the {@link Session Sessions} {@link Region} may have been demoted, in which case the {@link Session}
+	 * is promoted by reading the {@link Session} before the {@link Session} is removed.
+	 *
 	 * @param sessionId a String indicating the ID of the Session to remove from GemFire.
 	 * @see org.springframework.data.gemfire.GemfireOperations#remove(Object)
 	 * @see #handleDeleted(String, Session)
+	 * @see #isSessionTieringEnabled()
 	 */
 	public void deleteById(String sessionId) {
-		handleDeleted(sessionId, getSessionsTemplate().<Object, Session>remove(sessionId));
+
+		Session session = getSessionsTemplate().remove(sessionId);
+
+		if (session == null && isSessionTieringEnabled() && getSessionsTemplate().get(sessionId) != null) {
+			session = getSessionsTemplate().remove(sessionId);
+		}
+
+		handleDeleted(sessionId, session);
+	}
+
+	/**
+	 * Removes the {@link Session} that was migrated to another {@link SessionRepository}, for example,
+	 * by the {@link org.springframework.session.data.gemfire.support.ShardedSessionRepository},
+	 * without publishing a SessionDeletedEvent.
+	 *
+	 * The {@link Session} is destroyed with the {@link #MIGRATION_CALLBACK_ARGUMENT},
+	 * which the {@link SessionEventHandlerCacheListenerAdapter} ignores.
+	 *
+	 * @param sessionId a String indicating the ID of the migrated Session to remove from GemFire.
+	 * @see #isMigrationEvent(org.apache.geode.cache.EntryEvent)
+	 * @see #isSessionTieringEnabled()
+	 * @see #unregisterInterest(Object)
+	 */
+	public void deleteMigratedById(String sessionId) {
+
+		if (!destroyMigrated(sessionId) && isSessionTieringEnabled() && getSessionsTemplate().get(sessionId) != null) {
+			destroyMigrated(sessionId);
+		}
+
+		unregisterInterest(sessionId);
+	}
+
+	private boolean destroyMigrated(String sessionId) {
+
+		try {
+			getSessionsRegion().destroy(sessionId, MIGRATION_CALLBACK_ARGUMENT);
+			return true;
+		}
+		catch (EntryNotFoundException ignore) {
+			return false;
+		}
 	}
 }
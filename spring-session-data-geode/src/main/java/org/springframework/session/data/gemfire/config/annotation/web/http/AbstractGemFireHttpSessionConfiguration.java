@@ -195,6 +195,10 @@ public abstract class AbstractGemFireHttpSessionConfiguration extends SpringHttp
 		return cachePropertyName("client.region.shortcut");
 	}
 
+	protected String demotionIdleTimeoutSecondsPropertyName() {
+		return sessionPropertyName("region.demotion.idle-timeout-seconds");
+	}
+
 	protected String exposeConfigurationAsPropertiesPropertyName() {
 		return sessionPropertyName("configuration.expose");
 	}
@@ -207,30 +211,98 @@ public abstract class AbstractGemFireHttpSessionConfiguration extends SpringHttp
 		return sessionPropertyName("attributes.indexed");
 	}
 
+	protected String invalidatedSessionReapBatchSizePropertyName() {
+		return sessionPropertyName("region.invalidated-sessions.reap-batch-size");
+	}
+
+	protected String invalidatedSessionReapIntervalSecondsPropertyName() {
+		return sessionPropertyName("region.invalidated-sessions.reap-interval-seconds");
+	}
+
 	protected String maxInactiveIntervalInSecondsPropertyName() {
 		return sessionPropertyName("expiration.max-inactive-interval-seconds");
 	}
 
+	protected String negativeLookupCacheMaximumSizePropertyName() {
+		return sessionPropertyName("negative-lookup-cache.maximum-size");
+	}
+
+	protected String negativeLookupCacheTimeToLiveInSecondsPropertyName() {
+		return sessionPropertyName("negative-lookup-cache.time-to-live-seconds");
+	}
+
+	protected String optimisticConcurrencyEnabledPropertyName() {
+		return sessionPropertyName("optimistic-concurrency.enabled");
+	}
+
+	protected String principalRoutingEnabledPropertyName() {
+		return sessionPropertyName("principal-routing.enabled");
+	}
+
 	protected String poolNamePropertyName() {
 		return cachePropertyName("client.pool.name");
 	}
 
+	protected String saveEmptyNewSessionsPropertyName() {
+		return sessionPropertyName("save-empty-new-sessions");
+	}
+
 	protected String serverRegionShortcutPropertyName() {
 		return cachePropertyName("server.region.shortcut");
 	}
 
+	protected String sessionAttributeChunkingThresholdPropertyName() {
+		return sessionPropertyName("attributes.chunking.threshold");
+	}
+
+	protected String sessionAttributeCompressionCodecBeanNamePropertyName() {
+		return sessionPropertyName("attributes.compression.codec.bean-name");
+	}
+
+	protected String sessionAttributeCompressionThresholdPropertyName() {
+		return sessionPropertyName("attributes.compression.threshold");
+	}
+
 	protected String sessionExpirationPolicyBeanNamePropertyName() {
 		return sessionPropertyName("expiration.bean-name");
 	}
 
+	protected String sessionRegionCompressorBeanNamePropertyName() {
+		return sessionPropertyName("region.compressor.bean-name");
+	}
+
+	protected String sessionRegionDiskStoreNamePropertyName() {
+		return sessionPropertyName("region.disk-store.name");
+	}
+
+	protected String sessionRegionDiskSynchronousPropertyName() {
+		return sessionPropertyName("region.disk-store.synchronous");
+	}
+
+	protected String sessionRegionEvictionMaximumPropertyName() {
+		return sessionPropertyName("region.eviction.maximum");
+	}
+
+	protected String sessionRegionEvictionPolicyTypePropertyName() {
+		return sessionPropertyName("region.eviction.policy");
+	}
+
 	protected String sessionRegionNamePropertyName() {
 		return sessionPropertyName("region.name");
 	}
 
+	protected String sessionRegionOffHeapPropertyName() {
+		return sessionPropertyName("region.off-heap");
+	}
+
 	protected String sessionSerializerBeanNamePropertyName() {
 		return sessionPropertyName("serializer.bean-name");
 	}
 
+	protected String timingWheelExpirationEnabledPropertyName() {
+		return sessionPropertyName("expiration.timing-wheel.enabled");
+	}
+
 	/**
 	 * Resolves the value for the given property identified by {@link String name} from the Spring {@link Environment}
 	 * as an instance of the specified {@link Class type}.
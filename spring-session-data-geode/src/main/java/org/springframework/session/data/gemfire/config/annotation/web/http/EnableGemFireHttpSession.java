@@ -32,14 +32,18 @@ import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientRegionShortcut;
 import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.util.ObjectSizer;
+import org.apache.geode.compression.Compressor;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.env.Environment;
+import org.springframework.data.gemfire.eviction.EvictionPolicyType;
 import org.springframework.session.Session;
 import org.springframework.session.data.gemfire.config.annotation.web.http.support.SpringSessionGemFireConfigurer;
 import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
 import org.springframework.session.data.gemfire.serialization.SessionSerializer;
+import org.springframework.session.data.gemfire.serialization.data.support.CompressionCodec;
 import org.springframework.session.web.http.SessionRepositoryFilter;
 
 /**
@@ -92,9 +96,12 @@ import org.springframework.session.web.http.SessionRepositoryFilter;
  * @see org.apache.geode.cache.Region
  * @see org.apache.geode.cache.client.ClientCache
  * @see org.apache.geode.cache.client.Pool
+ * @see org.apache.geode.cache.util.ObjectSizer
+ * @see org.apache.geode.compression.Compressor
  * @see org.springframework.context.annotation.Configuration
  * @see org.springframework.context.annotation.Import
  * @see org.springframework.core.env.Environment
+ * @see org.springframework.data.gemfire.eviction.EvictionPolicyType
  * @see org.springframework.session.Session
  * @see org.springframework.session.config.annotation.web.http.EnableSpringHttpSession
  * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration
@@ -110,6 +117,63 @@ import org.springframework.session.web.http.SessionRepositoryFilter;
 @Import(GemFireHttpSessionConfiguration.class)
 public @interface EnableGemFireHttpSession {
 
+	/**
+	 * Defines the size, in bytes, of a serialized {@link Session} attribute value above which the value
+	 * is written in chunks, so that serializing a large value never requires a single, large allocation.
+	 *
+	 * Defaults to {@literal 262144} bytes ({@literal 256 KB}).
+	 *
+	 * The chunking threshold is a JVM-wide setting shared by all Spring Session configurations in the JVM.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.attributes.chunking.threshold}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the size, in bytes, of a serialized {@link Session} attribute value
+	 * above which the value is written in chunks.
+	 * @see org.springframework.session.data.gemfire.serialization.data.support.ChunkedValue
+	 */
+	int attributeChunkingThreshold() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_ATTRIBUTE_CHUNKING_THRESHOLD;
+
+	/**
+	 * Defines the name of the bean referring to the {@link CompressionCodec} used to compress serialized
+	 * {@link Session} attribute values.
+	 *
+	 * The {@link Object bean} referred to by its {@link String name} must be of type {@link CompressionCodec}.
+	 * Only {@link Session} attribute values that serialize to at least the {@link #attributeCompressionThreshold()
+	 * compression threshold} are compressed.
+	 *
+	 * Defaults to unset, which disables compression of {@link Session} attribute values.
+	 *
+	 * The {@link CompressionCodec} is a JVM-wide setting shared by all Spring Session configurations in the JVM.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.attributes.compression.codec.bean-name}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return a {@link String} containing the bean name of the configured {@link CompressionCodec}.
+	 * @see org.springframework.session.data.gemfire.serialization.data.support.CompressedValue
+	 * @see org.springframework.session.data.gemfire.serialization.data.support.CompressionCodec
+	 */
+	String attributeCompressionCodecBeanName()
+		default GemFireHttpSessionConfiguration.DEFAULT_SESSION_ATTRIBUTE_COMPRESSION_CODEC_BEAN_NAME;
+
+	/**
+	 * Defines the minimum size, in bytes, of a serialized {@link Session} attribute value to be compressed
+	 * with the {@link #attributeCompressionCodecBeanName() configured} {@link CompressionCodec}.
+	 *
+	 * Defaults to {@literal 4096} bytes.
+	 *
+	 * The compression threshold is a JVM-wide setting shared by all Spring Session configurations in the JVM.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.attributes.compression.threshold}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the minimum size, in bytes, of a serialized {@link Session} attribute value
+	 * to be compressed.
+	 * @see org.springframework.session.data.gemfire.serialization.data.support.CompressedValue
+	 */
+	int attributeCompressionThreshold()
+		default GemFireHttpSessionConfiguration.DEFAULT_SESSION_ATTRIBUTE_COMPRESSION_THRESHOLD;
+
 	/**
 	 * Defines the {@link ClientCache} {@link Region} data management policy.
 	 *
@@ -124,6 +188,122 @@ public @interface EnableGemFireHttpSession {
 	 */
 	ClientRegionShortcut clientRegionShortcut() default ClientRegionShortcut.PROXY;
 
+	/**
+	 * Defines the name of the bean referring to the {@link Compressor} used to compress {@link Session} state
+	 * stored in the (client)cache {@link Region}.
+	 *
+	 * The {@link Object bean} referred to by its {@link String name} must be of type {@link Compressor}.
+	 * The {@link Compressor} only applies to a {@link Region} storing {@link Session} state locally; it is ignored
+	 * for a {@literal PROXY} {@link Region}.
+	 *
+	 * Defaults to unset.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.compressor.bean-name} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a {@link String} containing the bean name of the configured {@link Compressor}.
+	 * @see org.apache.geode.compression.Compressor
+	 */
+	String compressorBeanName() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_COMPRESSOR_BEAN_NAME;
+
+	/**
+	 * Defines the length of time in seconds that a {@link Session} must remain idle before it is demoted
+	 * from the (hot) {@link Region} to the colocated, cold {@link Region}, in which the {@link Session} is stored
+	 * in a compressed, serialized form.
+	 *
+	 * A demoted {@link Session} is promoted back to the (hot) {@link Region} transparently when it is next accessed.
+	 * Tiering only applies to a peer cache {@link Region} storing {@link Session} state locally; it is ignored
+	 * on clients.  A value of {@literal 0} or less disables tiering.
+	 *
+	 * Defaults to {@literal 0} (disabled).
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.demotion.idle-timeout-seconds}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the length of time in seconds that a {@link Session} must remain idle
+	 * before it is demoted.
+	 * @see org.springframework.session.data.gemfire.support.SessionTieringManager
+	 */
+	int demotionIdleTimeoutSeconds() default GemFireHttpSessionConfiguration.DEFAULT_DEMOTION_IDLE_TIMEOUT_SECONDS;
+
+	/**
+	 * Defines the name of the {@literal DiskStore} to which the (client)cache {@link Region} overflows
+	 * {@link Session} state when {@link #evictionPolicyType() eviction} is configured.
+	 *
+	 * The {@literal DiskStore} must be declared separately, for example with Spring Data for Apache Geode's
+	 * {@literal @EnableDiskStore} annotation.  The {@literal DiskStore} only applies to a {@link Region} storing
+	 * {@link Session} state locally; it is ignored for a {@literal PROXY} {@link Region}.
+	 *
+	 * Defaults to unset, using the {@literal DEFAULT} {@literal DiskStore}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.disk-store.name} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a {@link String} containing the name of the {@literal DiskStore} used by the {@link Region}.
+	 */
+	String diskStoreName() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_DISK_STORE_NAME;
+
+	/**
+	 * Determines whether writes of {@link Session} state to the {@link #diskStoreName() DiskStore} are synchronous.
+	 *
+	 * Set to {@literal false} for a persistent {@link Region}, e.g. {@link RegionShortcut#PARTITION_PERSISTENT},
+	 * to queue disk writes and flush them asynchronously according to the queue size and time interval
+	 * of the {@literal DiskStore}.  Only applies to a {@link Region} storing {@link Session} state locally;
+	 * it is ignored for a {@literal PROXY} {@link Region}.
+	 *
+	 * Defaults to {@literal true}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.disk-store.synchronous} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether disk writes are synchronous.
+	 * @see #diskStoreName()
+	 */
+	boolean diskSynchronous() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_DISK_SYNCHRONOUS;
+
+	/**
+	 * Defines the threshold at which the (client)cache {@link Region} begins to overflow the least recently used
+	 * {@link Session Sessions} to disk.
+	 *
+	 * The threshold is the maximum number of {@link Session Sessions} for {@link EvictionPolicyType#ENTRY_COUNT}
+	 * and the maximum size in megabytes for {@link EvictionPolicyType#MEMORY_SIZE}.  A value of {@literal 0} or less
+	 * uses the Apache Geode default.
+	 *
+	 * The threshold is ignored for {@link EvictionPolicyType#HEAP_PERCENTAGE}, which evicts when the cache-wide
+	 * {@literal eviction-heap-percentage} of the {@link org.apache.geode.cache.control.ResourceManager} is reached.
+	 * That setting is shared by every {@link Region} in the cache and must be configured on the cache itself.
+	 *
+	 * Defaults to {@literal 0}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.eviction.maximum} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return an integer value specifying the eviction threshold.
+	 * @see #evictionPolicyType()
+	 */
+	int evictionMaximum() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_EVICTION_MAXIMUM;
+
+	/**
+	 * Defines the Least Recently Used (LRU) {@link EvictionPolicyType eviction policy} of the (client)cache
+	 * {@link Region} used to store {@link Session} state.
+	 *
+	 * Evicted {@link Session Sessions} are always overflowed to the {@link #diskStoreName() DiskStore} rather than
+	 * destroyed, and are faulted back into memory when accessed.  {@link EvictionPolicyType#HEAP_PERCENTAGE}
+	 * and {@link EvictionPolicyType#MEMORY_SIZE} size {@link Session Sessions} with a cheap, estimating
+	 * {@link ObjectSizer}.  Eviction only applies to a {@link Region} storing {@link Session} state locally;
+	 * it is ignored for a {@literal PROXY} {@link Region}.
+	 *
+	 * Defaults to {@link EvictionPolicyType#NONE}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.eviction.policy} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return the {@link EvictionPolicyType} of the {@link Region}.
+	 * @see org.springframework.data.gemfire.eviction.EvictionPolicyType
+	 * @see #evictionMaximum()
+	 */
+	EvictionPolicyType evictionPolicyType() default EvictionPolicyType.NONE;
+
 	/**
 	 * Determines whether the configuration for Spring Session using Apache Geode or Pivotal GemFire should be exposed
 	 * in the Spring {@link Environment} as {@link Properties}.
@@ -166,6 +346,37 @@ public @interface EnableGemFireHttpSession {
 	 */
 	String[] indexableSessionAttributes() default {};
 
+	/**
+	 * Defines the maximum number of invalidated {@link Session} entries destroyed by a single reap
+	 * on each member hosting the {@link Session Sessions} {@link Region}.
+	 *
+	 * Defaults to {@literal 10000}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.invalidated-sessions.reap-batch-size}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the maximum number of invalidated {@link Session} entries destroyed
+	 * by a single reap on each member.
+	 * @see org.springframework.session.data.gemfire.expiration.support.InvalidatedSessionReaper
+	 */
+	int invalidatedSessionReapBatchSize() default GemFireHttpSessionConfiguration.DEFAULT_INVALIDATED_SESSION_REAP_BATCH_SIZE;
+
+	/**
+	 * Defines the interval in seconds between reaps of the {@link Session} entries invalidated by expiration,
+	 * which leave the key and entry overhead in the {@link Session Sessions} {@link Region}.
+	 *
+	 * A value of {@literal 0} or less disables reaping.
+	 *
+	 * Defaults to {@literal 0} (disabled).
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.invalidated-sessions.reap-interval-seconds}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the interval in seconds between reaps of invalidated {@link Session} entries.
+	 * @see org.springframework.session.data.gemfire.expiration.support.InvalidatedSessionReaper
+	 */
+	int invalidatedSessionReapIntervalSeconds() default GemFireHttpSessionConfiguration.DEFAULT_INVALIDATED_SESSION_REAP_INTERVAL_SECONDS;
+
 	/**
 	 * Defines the maximum interval in seconds that a {@link Session} can remain inactive before it expires.
 	 *
@@ -178,6 +389,80 @@ public @interface EnableGemFireHttpSession {
 	 */
 	int maxInactiveIntervalInSeconds() default 1800;
 
+	/**
+	 * Defines the maximum number of unknown {@link Session} IDs remembered by the negative lookup cache.
+	 *
+	 * This attribute only applies when the negative lookup cache is enabled by setting
+	 * {@link #negativeLookupCacheTimeToLiveInSeconds()} to a value greater than {@literal 0}.
+	 *
+	 * Defaults to {@literal 10000}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.negative-lookup-cache.maximum-size} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return an integer value defining the maximum number of unknown {@link Session} IDs remembered
+	 * by the negative lookup cache.
+	 * @see org.springframework.session.data.gemfire.support.NegativeLookupCache
+	 */
+	int negativeLookupCacheMaximumSize() default GemFireHttpSessionConfiguration.DEFAULT_NEGATIVE_LOOKUP_CACHE_MAXIMUM_SIZE;
+
+	/**
+	 * Defines the length of time in seconds that a lookup for an unknown {@link Session} ID is remembered
+	 * and answered locally, without a round trip to the cluster, by the negative lookup cache.
+	 *
+	 * A value of {@literal 0} or less disables the negative lookup cache.  Remembered {@link Session} IDs are
+	 * only forgotten early when this client observes the {@link Session} with the same ID being created.
+	 * For {@link Session Sessions} created by other clients, the time-to-live is the only consistency bound,
+	 * therefore the time-to-live should be kept to a few seconds.
+	 *
+	 * Defaults to {@literal 2} seconds.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.negative-lookup-cache.time-to-live-seconds}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return an integer value defining the length of time in seconds that a lookup for an unknown {@link Session}
+	 * is remembered.
+	 * @see org.springframework.session.data.gemfire.support.NegativeLookupCache
+	 */
+	int negativeLookupCacheTimeToLiveInSeconds() default GemFireHttpSessionConfiguration.DEFAULT_NEGATIVE_LOOKUP_CACHE_TIME_TO_LIVE_IN_SECONDS;
+
+	/**
+	 * Determines whether {@link Session} state is stored in off-heap memory by the (client)cache {@link Region}.
+	 *
+	 * Off-heap memory must be allocated for the cache with the {@literal off-heap-memory-size} Apache Geode
+	 * or Pivotal GemFire property.  Only applies to a {@link Region} storing {@link Session} state locally;
+	 * it is ignored for a {@literal PROXY} {@link Region}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.region.off-heap} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} state is stored in off-heap memory.
+	 */
+	boolean offHeap() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_OFF_HEAP;
+
+	/**
+	 * Determines whether {@link Session Sessions} are saved conditionally using optimistic concurrency control.
+	 *
+	 * When set to {@literal true}, each save compares the version of the {@link Session} when it was loaded
+	 * with the version currently stored on the server.  A conflicting, concurrent save of the same {@link Session}
+	 * is resolved with an attribute-level merge in which attributes changed by the current request win, instead of
+	 * overwriting all changes made by the concurrent request.
+	 *
+	 * Only applies when {@link Session Sessions} are serialized with PDX.  A save that still conflicts after
+	 * repeated merges fails with an {@link org.springframework.dao.OptimisticLockingFailureException}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.optimistic-concurrency.enabled} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are saved conditionally.
+	 */
+	boolean optimisticConcurrencyEnabled()
+		default GemFireHttpSessionConfiguration.DEFAULT_OPTIMISTIC_CONCURRENCY_ENABLED;
+
 	/**
 	 * Specifies the name of the specific {@link Pool} used by the {@link ClientCache} {@link Region}
 	 * (i.e. {@literal ClusteredSpringSessions}) when performing cache data access operations.
@@ -195,6 +480,28 @@ public @interface EnableGemFireHttpSession {
 	 */
 	String poolName() default GemFireHttpSessionConfiguration.DEFAULT_POOL_NAME;
 
+	/**
+	 * Determines whether {@link Session Sessions} are routed by principal, colocating all {@link Session Sessions}
+	 * of the same principal in a single bucket of the partitioned {@link Session Sessions} {@link Region}.
+	 *
+	 * When set to {@literal true}, the {@link Session#getId() Session ID} is prefixed with a routing key derived from
+	 * the principal name the first time the {@link Session} is saved after login, and the {@link Region} is configured
+	 * with a {@link org.apache.geode.cache.PartitionResolver} routing {@link Session Sessions} by the routing key.
+	 * Finding {@link Session Sessions} by principal name is then performed on a single member.
+	 *
+	 * Must be configured consistently on clients and servers.  Only applies to a {@literal PARTITION} {@link Region}
+	 * on the server.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.principal-routing.enabled} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are routed by principal.
+	 * @see org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver
+	 */
+	boolean principalRoutingEnabled() default GemFireHttpSessionConfiguration.DEFAULT_PRINCIPAL_ROUTING_ENABLED;
+
 	/**
 	 * Defines the {@link String name} of the (client)cache {@link Region} used to store {@link Session} state.
 	 *
@@ -209,6 +516,22 @@ public @interface EnableGemFireHttpSession {
 	 */
 	String regionName() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_NAME;
 
+	/**
+	 * Determines whether new {@link Session Sessions} that were never modified and have no attributes are saved.
+	 *
+	 * When set to {@literal false}, a new {@link Session} is not persisted until the first {@link Session} attribute
+	 * is set, which prevents anonymous traffic, such as health checks or bots, from filling the {@link Session}
+	 * {@link Region} with empty {@link Session Sessions}.
+	 *
+	 * Defaults to {@literal true}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.save-empty-new-sessions} in Spring Boot
+	 * {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether new, empty {@link Session Sessions} are saved.
+	 */
+	boolean saveEmptyNewSessions() default GemFireHttpSessionConfiguration.DEFAULT_SAVE_EMPTY_NEW_SESSIONS;
+
 	/**
 	 * Defines the {@link Cache} {@link Region} data management policy.
 	 *
@@ -256,4 +579,28 @@ public @interface EnableGemFireHttpSession {
 	 */
 	String sessionSerializerBeanName() default GemFireHttpSessionConfiguration.DEFAULT_SESSION_SERIALIZER_BEAN_NAME;
 
+	/**
+	 * Determines whether {@link Session Sessions} stored locally in a client
+	 * {@link org.apache.geode.cache.client.ClientRegionShortcut#LOCAL} or
+	 * {@link org.apache.geode.cache.client.ClientRegionShortcut#CACHING_PROXY} {@link Region} are expired by
+	 * a hierarchical timing wheel, driven by the {@link Session#getLastAccessedTime() last accessed time}
+	 * of the {@link Session} and the configured
+	 * {@link org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy}, rather than by
+	 * {@link Region} entry idle timeout expiration, which requires statistics to be enabled on the {@link Region}.
+	 *
+	 * Expired {@link Session Sessions} are invalidated in batches and publish the same events.  This setting
+	 * is ignored on peers and for client {@link org.apache.geode.cache.client.ClientRegionShortcut#PROXY}
+	 * {@link Region Regions}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.session.data.gemfire.session.expiration.timing-wheel.enabled}
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return a boolean value indicating whether client {@link Session Sessions} stored locally
+	 * are expired by a timing wheel.
+	 * @see org.springframework.session.data.gemfire.expiration.support.TimingWheelSessionExpirer
+	 */
+	boolean timingWheelExpirationEnabled() default GemFireHttpSessionConfiguration.DEFAULT_TIMING_WHEEL_EXPIRATION_ENABLED;
+
 }
@@ -32,15 +32,22 @@ import javax.annotation.PostConstruct;
 
 import org.apache.geode.DataSerializer;
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.DiskStore;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAttributes;
 import org.apache.geode.cache.ExpirationAction;
 import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.PartitionAttributes;
+import org.apache.geode.cache.PartitionAttributesFactory;
+import org.apache.geode.cache.PartitionResolver;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientRegionShortcut;
 import org.apache.geode.cache.client.Pool;
+import org.apache.geode.compression.Compressor;
 import org.apache.geode.pdx.PdxSerializer;
 
 import org.springframework.beans.BeansException;
@@ -68,7 +75,10 @@ import org.springframework.data.gemfire.GemfireUtils;
 import org.springframework.data.gemfire.IndexFactoryBean;
 import org.springframework.data.gemfire.IndexType;
 import org.springframework.data.gemfire.RegionAttributesFactoryBean;
+import org.springframework.data.gemfire.client.ClientCacheFactoryBean;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.data.gemfire.eviction.EvictionAttributesFactoryBean;
+import org.springframework.data.gemfire.eviction.EvictionPolicyType;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.lang.NonNull;
@@ -81,10 +91,21 @@ import org.springframework.session.data.gemfire.config.annotation.web.http.suppo
 import org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionCacheTypeAwareRegionFactoryBean;
 import org.springframework.session.data.gemfire.config.annotation.web.http.support.SpringSessionGemFireConfigurer;
 import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+import org.springframework.session.data.gemfire.function.ConditionalSaveSessionFunction;
+import org.springframework.session.data.gemfire.function.DestroyInvalidatedSessionsFunction;
+import org.springframework.session.data.gemfire.function.ExpireSessionsByCreationTimeFunction;
+import org.springframework.session.data.gemfire.function.FindSessionsByPrincipalNameFunction;
+import org.springframework.session.data.gemfire.function.SessionAttributeOperationFunction;
+import org.springframework.session.data.gemfire.function.SessionFunctionRegistrar;
 import org.springframework.session.data.gemfire.expiration.config.SessionExpirationTimeoutAwareBeanPostProcessor;
+import org.springframework.session.data.gemfire.expiration.support.InvalidatedSessionReaper;
 import org.springframework.session.data.gemfire.expiration.support.SessionExpirationPolicyCustomExpiryAdapter;
+import org.springframework.session.data.gemfire.expiration.support.TimingWheelSessionExpirer;
 import org.springframework.session.data.gemfire.serialization.SessionSerializer;
 import org.springframework.session.data.gemfire.serialization.data.provider.DataSerializableSessionSerializer;
+import org.springframework.session.data.gemfire.serialization.data.support.ChunkedValue;
+import org.springframework.session.data.gemfire.serialization.data.support.CompressedValue;
+import org.springframework.session.data.gemfire.serialization.data.support.CompressionCodec;
 import org.springframework.session.data.gemfire.serialization.data.support.DataSerializerSessionSerializerAdapter;
 import org.springframework.session.data.gemfire.serialization.pdx.provider.PdxSerializableSessionSerializer;
 import org.springframework.session.data.gemfire.serialization.pdx.support.ComposablePdxSerializer;
@@ -92,6 +113,12 @@ import org.springframework.session.data.gemfire.serialization.pdx.support.PdxSer
 import org.springframework.session.data.gemfire.support.DeltaAwareDirtyPredicate;
 import org.springframework.session.data.gemfire.support.GemFireUtils;
 import org.springframework.session.data.gemfire.support.IsDirtyPredicate;
+import org.springframework.session.data.gemfire.support.NegativeLookupCache;
+import org.springframework.session.data.gemfire.support.PrincipalNameResolver;
+import org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver;
+import org.springframework.session.data.gemfire.support.SecurityContextPrincipalNameResolver;
+import org.springframework.session.data.gemfire.support.SessionObjectSizer;
+import org.springframework.session.data.gemfire.support.SessionTieringManager;
 import org.springframework.util.StringUtils;
 
 /**
@@ -111,6 +138,7 @@ import org.springframework.util.StringUtils;
  * @see org.apache.geode.cache.client.ClientCache
  * @see org.apache.geode.cache.client.ClientRegionShortcut
  * @see org.apache.geode.cache.client.Pool
+ * @see org.apache.geode.compression.Compressor
  * @see org.apache.geode.pdx.PdxSerializer
  * @see org.springframework.beans.factory.config.BeanPostProcessor
  * @see org.springframework.context.annotation.Bean
@@ -156,11 +184,66 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 */
 	public static final boolean DEFAULT_USE_DATA_SERIALIZATION = false;
 
+	/**
+	 * Default length of time in seconds that a {@link Session} must remain idle before it is demoted;
+	 * {@literal 0} disables tiering.
+	 */
+	public static final int DEFAULT_DEMOTION_IDLE_TIMEOUT_SECONDS = 0;
+
+	/**
+	 * Default maximum number of invalidated {@link Session} entries destroyed by a single reap on each member.
+	 */
+	public static final int DEFAULT_INVALIDATED_SESSION_REAP_BATCH_SIZE = InvalidatedSessionReaper.DEFAULT_BATCH_SIZE;
+
+	/**
+	 * Default interval in seconds between reaps of invalidated {@link Session} entries; {@literal 0} disables reaping.
+	 */
+	public static final int DEFAULT_INVALIDATED_SESSION_REAP_INTERVAL_SECONDS = 0;
+
+	/**
+	 * Default size, in bytes, of a serialized {@link Session} attribute value above which the value is written
+	 * in chunks.
+	 */
+	public static final int DEFAULT_SESSION_ATTRIBUTE_CHUNKING_THRESHOLD = ChunkedValue.DEFAULT_CHUNKING_THRESHOLD;
+
+	/**
+	 * Default minimum size, in bytes, of a serialized {@link Session} attribute value to be compressed.
+	 */
+	public static final int DEFAULT_SESSION_ATTRIBUTE_COMPRESSION_THRESHOLD =
+		CompressedValue.DEFAULT_COMPRESSION_THRESHOLD;
+
 	/**
 	 * Default maximum interval in seconds in which a {@link Session} can remain inactive before it expires.
 	 */
 	public static final int DEFAULT_MAX_INACTIVE_INTERVAL_IN_SECONDS = (int) TimeUnit.MINUTES.toSeconds(30);
 
+	/**
+	 * Default maximum number of unknown {@link Session} IDs remembered by the negative lookup cache.
+	 */
+	public static final int DEFAULT_NEGATIVE_LOOKUP_CACHE_MAXIMUM_SIZE = NegativeLookupCache.DEFAULT_MAXIMUM_SIZE;
+
+	/**
+	 * Default time-to-live in seconds of the negative lookup cache, which bounds how long a {@link Session} created
+	 * by another client may be reported missing.
+	 */
+	public static final int DEFAULT_NEGATIVE_LOOKUP_CACHE_TIME_TO_LIVE_IN_SECONDS = 2;
+
+	/**
+	 * Indicates whether {@link Session Sessions} are saved conditionally using optimistic concurrency control.
+	 */
+	public static final boolean DEFAULT_OPTIMISTIC_CONCURRENCY_ENABLED = false;
+
+	/**
+	 * Indicates whether {@link Session Sessions} are routed by principal.
+	 */
+	public static final boolean DEFAULT_PRINCIPAL_ROUTING_ENABLED = false;
+
+	/**
+	 * Indicates whether client {@link Session Sessions} stored locally are expired by a timing wheel
+	 * rather than by {@link Region} entry idle timeout expiration.
+	 */
+	public static final boolean DEFAULT_TIMING_WHEEL_EXPIRATION_ENABLED = false;
+
 	/**
 	 * Key and Value class type constraints applied to the {@link Session} {@link Region}.
 	 */
@@ -179,6 +262,18 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 */
 	public static final IsDirtyPredicate DEFAULT_IS_DIRTY_PREDICATE = DeltaAwareDirtyPredicate.INSTANCE;
 
+	/**
+	 * Default {@link PrincipalNameResolver} strategy interface used to resolve the principal name
+	 * from the Spring Security {@literal SecurityContext} stored in the {@link Session}.
+	 */
+	public static final PrincipalNameResolver DEFAULT_PRINCIPAL_NAME_RESOLVER =
+		SecurityContextPrincipalNameResolver.INSTANCE;
+
+	/**
+	 * Indicates whether new {@link Session Sessions} that were never modified and have no attributes are saved.
+	 */
+	public static final boolean DEFAULT_SAVE_EMPTY_NEW_SESSIONS = true;
+
 	/**
 	 * Default {@link RegionShortcut} used to configure the data management policy of the {@link Cache} {@link Region}
 	 * that will store {@link Session} state.
@@ -188,24 +283,75 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	/**
 	 * {@link SpringSessionGemFireConfigurer} {@link Class Interface} {@link Method} {@link String Names}
 	 */
+	public static final String CONFIGURER_GET_ATTRIBUTE_CHUNKING_THRESHOLD_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getAttributeChunkingThreshold");
+
+	public static final String CONFIGURER_GET_ATTRIBUTE_COMPRESSION_CODEC_BEAN_NAME_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getAttributeCompressionCodecBeanName");
+
+	public static final String CONFIGURER_GET_ATTRIBUTE_COMPRESSION_THRESHOLD_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getAttributeCompressionThreshold");
+
 	public static final String CONFIGURER_GET_CLIENT_REGION_SHORTCUT_METHOD_NAME =
 		findByMethodName(SpringSessionGemFireConfigurer.class, "getClientRegionShortcut");
 
+	public static final String CONFIGURER_GET_COMPRESSOR_BEAN_NAME_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getCompressorBeanName");
+
+	public static final String CONFIGURER_GET_DEMOTION_IDLE_TIMEOUT_SECONDS_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getDemotionIdleTimeoutSeconds");
+
+	public static final String CONFIGURER_GET_DISK_STORE_NAME_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getDiskStoreName");
+
+	public static final String CONFIGURER_GET_DISK_SYNCHRONOUS_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getDiskSynchronous");
+
+	public static final String CONFIGURER_GET_EVICTION_MAXIMUM_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getEvictionMaximum");
+
+	public static final String CONFIGURER_GET_EVICTION_POLICY_TYPE_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getEvictionPolicyType");
+
 	public static final String CONFIGURER_GET_EXPOSE_CONFIGURATION_IN_PROPERTIES_METHOD_NAME =
 		findByMethodName(SpringSessionGemFireConfigurer.class, "getExposeConfigurationAsProperties");
 
 	public static final String CONFIGURER_GET_INDEXABLE_SESSION_ATTRIBUTES_METHOD_NAME =
 		findByMethodName(SpringSessionGemFireConfigurer.class, "getIndexableSessionAttributes");
 
+	public static final String CONFIGURER_GET_INVALIDATED_SESSION_REAP_BATCH_SIZE_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getInvalidatedSessionReapBatchSize");
+
+	public static final String CONFIGURER_GET_INVALIDATED_SESSION_REAP_INTERVAL_SECONDS_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getInvalidatedSessionReapIntervalSeconds");
+
 	public static final String CONFIGURER_GET_MAX_INACTIVE_INTERVAL_IN_SECONDS_METHOD_NAME =
 		findByMethodName(SpringSessionGemFireConfigurer.class, "getMaxInactiveIntervalInSeconds");
 
+	public static final String CONFIGURER_GET_NEGATIVE_LOOKUP_CACHE_MAXIMUM_SIZE_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getNegativeLookupCacheMaximumSize");
+
+	public static final String CONFIGURER_GET_NEGATIVE_LOOKUP_CACHE_TIME_TO_LIVE_IN_SECONDS_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getNegativeLookupCacheTimeToLiveInSeconds");
+
+	public static final String CONFIGURER_GET_OFF_HEAP_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getOffHeap");
+
+	public static final String CONFIGURER_GET_OPTIMISTIC_CONCURRENCY_ENABLED_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getOptimisticConcurrencyEnabled");
+
 	public static final String CONFIGURER_GET_POOL_NAME_METHOD_NAME =
 		findByMethodName(SpringSessionGemFireConfigurer.class, "getPoolName");
 
+	public static final String CONFIGURER_GET_PRINCIPAL_ROUTING_ENABLED_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getPrincipalRoutingEnabled");
+
 	public static final String CONFIGURER_GET_REGION_NAME_METHOD_NAME =
 		findByMethodName(SpringSessionGemFireConfigurer.class, "getRegionName");
 
+	public static final String CONFIGURER_GET_SAVE_EMPTY_NEW_SESSIONS_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getSaveEmptyNewSessions");
+
 	public static final String CONFIGURER_GET_SERVER_REGION_SHORTCUT_METHOD_NAME =
 		findByMethodName(SpringSessionGemFireConfigurer.class, "getServerRegionShortcut");
 
@@ -215,22 +361,62 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	public static final String CONFIGURER_GET_SESSION_SERIALIZER_BEAN_NAME_METHOD_NAME =
 		findByMethodName(SpringSessionGemFireConfigurer.class, "getSessionSerializerBeanName");
 
+	public static final String CONFIGURER_GET_TIMING_WHEEL_EXPIRATION_ENABLED_METHOD_NAME =
+		findByMethodName(SpringSessionGemFireConfigurer.class, "getTimingWheelExpirationEnabled");
+
 	/**
 	 * Name of the connection {@link Pool} used by the client {@link Region} to send {@link Session} state
 	 * to the cluster of  Apache Geode servers.
 	 */
 	public static final String DEFAULT_POOL_NAME = GemfireConstants.DEFAULT_GEMFIRE_POOL_NAME;
 
+	/**
+	 * Default name for the {@link CompressionCodec} bean used to compress serialized {@link Session} attribute values;
+	 * unset by default, which disables compression of {@link Session} attribute values.
+	 */
+	public static final String DEFAULT_SESSION_ATTRIBUTE_COMPRESSION_CODEC_BEAN_NAME = "";
+
 	/**
 	 * Default name for the {@link SessionExpirationPolicy} bean.
 	 */
 	public static final String DEFAULT_SESSION_EXPIRATION_POLICY_BEAN_NAME = "";
 
+	/**
+	 * Default name for the {@link Compressor} bean used to compress {@link Session} state; unset by default.
+	 */
+	public static final String DEFAULT_SESSION_REGION_COMPRESSOR_BEAN_NAME = "";
+
+	/**
+	 * Default name of the {@literal DiskStore} used by the (Client)Cache {@link Region}; unset by default,
+	 * using the {@literal DEFAULT} {@literal DiskStore}.
+	 */
+	public static final String DEFAULT_SESSION_REGION_DISK_STORE_NAME = "";
+
+	/**
+	 * Indicates whether the (Client)Cache {@link Region} writes {@link Session} state to disk synchronously.
+	 */
+	public static final boolean DEFAULT_SESSION_REGION_DISK_SYNCHRONOUS = true;
+
+	/**
+	 * Default eviction threshold of the (Client)Cache {@link Region}; {@literal 0} uses the Apache Geode default.
+	 */
+	public static final int DEFAULT_SESSION_REGION_EVICTION_MAXIMUM = 0;
+
+	/**
+	 * Default eviction policy of the (Client)Cache {@link Region}; {@link Session Sessions} are not evicted.
+	 */
+	public static final EvictionPolicyType DEFAULT_SESSION_REGION_EVICTION_POLICY_TYPE = EvictionPolicyType.NONE;
+
 	/**
 	 * Default name of (Client)Cache {@link Region} used to store {@link Session} state.
 	 */
 	public static final String DEFAULT_SESSION_REGION_NAME = "ClusteredSpringSessions";
 
+	/**
+	 * Indicates whether the (Client)Cache {@link Region} stores {@link Session} state in off-heap memory.
+	 */
+	public static final boolean DEFAULT_SESSION_REGION_OFF_HEAP = false;
+
 	/**
 	 * Set of defaults for {@link Session} serialization.
 	 */
@@ -251,18 +437,47 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	private boolean exposeConfigurationAsProperties = DEFAULT_EXPOSE_CONFIGURATION_AS_PROPERTIES;
 	private boolean usingDataSerialization = DEFAULT_USE_DATA_SERIALIZATION;
 
+	private int demotionIdleTimeoutSeconds = DEFAULT_DEMOTION_IDLE_TIMEOUT_SECONDS;
+	private int invalidatedSessionReapBatchSize = DEFAULT_INVALIDATED_SESSION_REAP_BATCH_SIZE;
+	private int invalidatedSessionReapIntervalSeconds = DEFAULT_INVALIDATED_SESSION_REAP_INTERVAL_SECONDS;
+	private int sessionAttributeChunkingThreshold = DEFAULT_SESSION_ATTRIBUTE_CHUNKING_THRESHOLD;
+	private int sessionAttributeCompressionThreshold = DEFAULT_SESSION_ATTRIBUTE_COMPRESSION_THRESHOLD;
 	private int maxInactiveIntervalInSeconds = DEFAULT_MAX_INACTIVE_INTERVAL_IN_SECONDS;
+	private int negativeLookupCacheMaximumSize = DEFAULT_NEGATIVE_LOOKUP_CACHE_MAXIMUM_SIZE;
+	private int negativeLookupCacheTimeToLiveInSeconds = DEFAULT_NEGATIVE_LOOKUP_CACHE_TIME_TO_LIVE_IN_SECONDS;
+	private int sessionRegionEvictionMaximum = DEFAULT_SESSION_REGION_EVICTION_MAXIMUM;
 
 	private ClientRegionShortcut clientRegionShortcut = DEFAULT_CLIENT_REGION_SHORTCUT;
 
+	private EvictionPolicyType sessionRegionEvictionPolicyType = DEFAULT_SESSION_REGION_EVICTION_POLICY_TYPE;
+
 	private IsDirtyPredicate dirtyPredicate = DEFAULT_IS_DIRTY_PREDICATE;
 
+	private PrincipalNameResolver principalNameResolver = DEFAULT_PRINCIPAL_NAME_RESOLVER;
+
+	private boolean optimisticConcurrencyEnabled = DEFAULT_OPTIMISTIC_CONCURRENCY_ENABLED;
+
+	private boolean principalRoutingEnabled = DEFAULT_PRINCIPAL_ROUTING_ENABLED;
+
+	private boolean saveEmptyNewSessions = DEFAULT_SAVE_EMPTY_NEW_SESSIONS;
+
+	private boolean sessionRegionDiskSynchronous = DEFAULT_SESSION_REGION_DISK_SYNCHRONOUS;
+
+	private boolean sessionRegionOffHeap = DEFAULT_SESSION_REGION_OFF_HEAP;
+
+	private boolean timingWheelExpirationEnabled = DEFAULT_TIMING_WHEEL_EXPIRATION_ENABLED;
+
 	private RegionShortcut serverRegionShortcut = DEFAULT_SERVER_REGION_SHORTCUT;
 
 	private String poolName = DEFAULT_POOL_NAME;
 
 	private String sessionExpirationPolicyBeanName = DEFAULT_SESSION_EXPIRATION_POLICY_BEAN_NAME;
 
+	private String sessionAttributeCompressionCodecBeanName = DEFAULT_SESSION_ATTRIBUTE_COMPRESSION_CODEC_BEAN_NAME;
+	private String sessionRegionCompressorBeanName = DEFAULT_SESSION_REGION_COMPRESSOR_BEAN_NAME;
+
+	private String sessionRegionDiskStoreName = DEFAULT_SESSION_REGION_DISK_STORE_NAME;
+
 	private String sessionRegionName = DEFAULT_SESSION_REGION_NAME;
 
 	private String sessionSerializerBeanName = DEFAULT_SESSION_SERIALIZER_BEAN_NAME;
@@ -425,6 +640,102 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 			: DEFAULT_IS_DIRTY_PREDICATE;
 	}
 
+	/**
+	 * Configures the {@link PrincipalNameResolver} strategy interface, as a bean from the Spring context, used to
+	 * resolve the principal name from the Spring Security {@literal SecurityContext} stored in the {@link Session}.
+	 *
+	 * @param principalNameResolver {@link PrincipalNameResolver} strategy interface bean used to resolve
+	 * the principal name.
+	 * @see org.springframework.session.data.gemfire.support.PrincipalNameResolver
+	 */
+	@Autowired(required = false)
+	public void setPrincipalNameResolver(PrincipalNameResolver principalNameResolver) {
+		this.principalNameResolver = principalNameResolver;
+	}
+
+	/**
+	 * Returns the configured {@link PrincipalNameResolver} strategy interface bean, declared in the Spring context,
+	 * used to resolve the principal name from the Spring Security {@literal SecurityContext}
+	 * stored in the {@link Session}.
+	 *
+	 * Defaults to {@link GemFireHttpSessionConfiguration#DEFAULT_PRINCIPAL_NAME_RESOLVER}.
+	 *
+	 * @return the configured {@link PrincipalNameResolver} strategy interface bean used to resolve
+	 * the principal name.
+	 * @see org.springframework.session.data.gemfire.support.PrincipalNameResolver
+	 */
+	public PrincipalNameResolver getPrincipalNameResolver() {
+
+		return this.principalNameResolver != null
+			? this.principalNameResolver
+			: DEFAULT_PRINCIPAL_NAME_RESOLVER;
+	}
+
+	/**
+	 * Sets the length of time in seconds that a {@link Session} must remain idle before it is demoted
+	 * to the cold {@link Region}.
+	 *
+	 * @param demotionIdleTimeoutSeconds integer value specifying the length of time in seconds that
+	 * a {@link Session} must remain idle before it is demoted; {@literal 0} or less disables tiering.
+	 * @see EnableGemFireHttpSession#demotionIdleTimeoutSeconds()
+	 */
+	public void setDemotionIdleTimeoutSeconds(int demotionIdleTimeoutSeconds) {
+		this.demotionIdleTimeoutSeconds = demotionIdleTimeoutSeconds;
+	}
+
+	/**
+	 * Gets the length of time in seconds that a {@link Session} must remain idle before it is demoted
+	 * to the cold {@link Region}.
+	 *
+	 * @return an integer value specifying the length of time in seconds that a {@link Session} must remain idle
+	 * before it is demoted; {@literal 0} or less indicates tiering is disabled.
+	 */
+	public int getDemotionIdleTimeoutSeconds() {
+		return this.demotionIdleTimeoutSeconds;
+	}
+
+	/**
+	 * Sets the maximum number of invalidated {@link Session} entries destroyed by a single reap on each member.
+	 *
+	 * @param invalidatedSessionReapBatchSize integer value specifying the maximum number of invalidated
+	 * {@link Session} entries destroyed by a single reap on each member.
+	 * @see EnableGemFireHttpSession#invalidatedSessionReapBatchSize()
+	 */
+	public void setInvalidatedSessionReapBatchSize(int invalidatedSessionReapBatchSize) {
+		this.invalidatedSessionReapBatchSize = invalidatedSessionReapBatchSize;
+	}
+
+	/**
+	 * Gets the maximum number of invalidated {@link Session} entries destroyed by a single reap on each member.
+	 *
+	 * @return an integer value specifying the maximum number of invalidated {@link Session} entries destroyed
+	 * by a single reap on each member.
+	 */
+	public int getInvalidatedSessionReapBatchSize() {
+		return this.invalidatedSessionReapBatchSize;
+	}
+
+	/**
+	 * Sets the interval in seconds between reaps of invalidated {@link Session} entries.
+	 *
+	 * @param invalidatedSessionReapIntervalSeconds integer value specifying the interval in seconds between reaps
+	 * of invalidated {@link Session} entries; {@literal 0} or less disables reaping.
+	 * @see EnableGemFireHttpSession#invalidatedSessionReapIntervalSeconds()
+	 */
+	public void setInvalidatedSessionReapIntervalSeconds(int invalidatedSessionReapIntervalSeconds) {
+		this.invalidatedSessionReapIntervalSeconds = invalidatedSessionReapIntervalSeconds;
+	}
+
+	/**
+	 * Gets the interval in seconds between reaps of invalidated {@link Session} entries.
+	 *
+	 * @return an integer value specifying the interval in seconds between reaps of invalidated {@link Session}
+	 * entries; {@literal 0} or less indicates reaping is disabled.
+	 */
+	public int getInvalidatedSessionReapIntervalSeconds() {
+		return this.invalidatedSessionReapIntervalSeconds;
+	}
+
 	/**
 	 * Sets the maximum interval in seconds in which a {@link Session} can remain inactive before it expires.
 	 *
@@ -446,6 +757,79 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 		return this.maxInactiveIntervalInSeconds;
 	}
 
+	/**
+	 * Sets the maximum number of unknown {@link Session} IDs remembered by the negative lookup cache.
+	 *
+	 * @param negativeLookupCacheMaximumSize integer value specifying the maximum number of unknown
+	 * {@link Session} IDs remembered by the negative lookup cache.
+	 * @see EnableGemFireHttpSession#negativeLookupCacheMaximumSize()
+	 */
+	public void setNegativeLookupCacheMaximumSize(int negativeLookupCacheMaximumSize) {
+		this.negativeLookupCacheMaximumSize = negativeLookupCacheMaximumSize;
+	}
+
+	/**
+	 * Gets the maximum number of unknown {@link Session} IDs remembered by the negative lookup cache.
+	 *
+	 * Defaults to {@link #DEFAULT_NEGATIVE_LOOKUP_CACHE_MAXIMUM_SIZE} if not set to a value greater than {@literal 0}.
+	 *
+	 * @return an integer value specifying the maximum number of unknown {@link Session} IDs remembered
+	 * by the negative lookup cache.
+	 */
+	public int getNegativeLookupCacheMaximumSize() {
+
+		return this.negativeLookupCacheMaximumSize > 0
+			? this.negativeLookupCacheMaximumSize
+			: DEFAULT_NEGATIVE_LOOKUP_CACHE_MAXIMUM_SIZE;
+	}
+
+	/**
+	 * Sets the length of time in seconds that a lookup for an unknown {@link Session} ID is remembered
+	 * by the negative lookup cache.
+	 *
+	 * @param negativeLookupCacheTimeToLiveInSeconds integer value specifying the length of time in seconds that
+	 * a lookup for an unknown {@link Session} is remembered; {@literal 0} or less disables the negative lookup cache.
+	 * @see EnableGemFireHttpSession#negativeLookupCacheTimeToLiveInSeconds()
+	 */
+	public void setNegativeLookupCacheTimeToLiveInSeconds(int negativeLookupCacheTimeToLiveInSeconds) {
+		this.negativeLookupCacheTimeToLiveInSeconds = negativeLookupCacheTimeToLiveInSeconds;
+	}
+
+	/**
+	 * Gets the length of time in seconds that a lookup for an unknown {@link Session} ID is remembered
+	 * by the negative lookup cache.
+	 *
+	 * @return an integer value specifying the length of time in seconds that a lookup for an unknown {@link Session}
+	 * is remembered; {@literal 0} or less indicates the negative lookup cache is disabled.
+	 */
+	public int getNegativeLookupCacheTimeToLiveInSeconds() {
+		return this.negativeLookupCacheTimeToLiveInSeconds;
+	}
+
+	/**
+	 * Sets whether {@link Session Sessions} are saved conditionally using optimistic concurrency control,
+	 * merging the attributes of conflicting, concurrent saves of the same {@link Session}.
+	 *
+	 * @param optimisticConcurrencyEnabled boolean value indicating whether {@link Session Sessions}
+	 * are saved conditionally.
+	 * @see EnableGemFireHttpSession#optimisticConcurrencyEnabled()
+	 */
+	public void setOptimisticConcurrencyEnabled(boolean optimisticConcurrencyEnabled) {
+		this.optimisticConcurrencyEnabled = optimisticConcurrencyEnabled;
+	}
+
+	/**
+	 * Determines whether {@link Session Sessions} are saved conditionally using optimistic concurrency control.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are saved conditionally.
+	 * @see EnableGemFireHttpSession#optimisticConcurrencyEnabled()
+	 */
+	public boolean isOptimisticConcurrencyEnabled() {
+		return this.optimisticConcurrencyEnabled;
+	}
+
 	/**
 	 * Sets the name of the {@link Pool} used by the client {@link Region} to send {@link Session}
 	 * to the cluster of servers during cache operations.
@@ -471,6 +855,52 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 			: DEFAULT_POOL_NAME;
 	}
 
+	/**
+	 * Sets whether {@link Session Sessions} are routed by principal, colocating all {@link Session Sessions}
+	 * of the same principal in a single bucket of the partitioned cache {@link Region}.
+	 *
+	 * @param principalRoutingEnabled boolean value indicating whether {@link Session Sessions}
+	 * are routed by principal.
+	 * @see EnableGemFireHttpSession#principalRoutingEnabled()
+	 */
+	public void setPrincipalRoutingEnabled(boolean principalRoutingEnabled) {
+		this.principalRoutingEnabled = principalRoutingEnabled;
+	}
+
+	/**
+	 * Determines whether {@link Session Sessions} are routed by principal.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are routed by principal.
+	 * @see EnableGemFireHttpSession#principalRoutingEnabled()
+	 */
+	public boolean isPrincipalRoutingEnabled() {
+		return this.principalRoutingEnabled;
+	}
+
+	/**
+	 * Sets whether new {@link Session Sessions} that were never modified and have no attributes are saved.
+	 *
+	 * @param saveEmptyNewSessions boolean value indicating whether new, empty {@link Session Sessions} are saved.
+	 * @see EnableGemFireHttpSession#saveEmptyNewSessions()
+	 */
+	public void setSaveEmptyNewSessions(boolean saveEmptyNewSessions) {
+		this.saveEmptyNewSessions = saveEmptyNewSessions;
+	}
+
+	/**
+	 * Determines whether new {@link Session Sessions} that were never modified and have no attributes are saved.
+	 *
+	 * Defaults to {@literal true}.
+	 *
+	 * @return a boolean value indicating whether new, empty {@link Session Sessions} are saved.
+	 * @see EnableGemFireHttpSession#saveEmptyNewSessions()
+	 */
+	public boolean isSaveEmptyNewSessions() {
+		return this.saveEmptyNewSessions;
+	}
+
 	/**
 	 * Sets the {@link RegionShortcut} used to configure the data management policy of the {@link Cache} {@link Region}
 	 * that will store {@link Session} state.
@@ -527,6 +957,204 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 			.filter(StringUtils::hasText);
 	}
 
+	/**
+	 * Sets the size, in bytes, of a serialized {@link Session} attribute value above which the value is written
+	 * in chunks.
+	 *
+	 * @param sessionAttributeChunkingThreshold integer value specifying the size, in bytes, of a serialized
+	 * {@link Session} attribute value above which the value is written in chunks.
+	 * @see EnableGemFireHttpSession#attributeChunkingThreshold()
+	 */
+	public void setSessionAttributeChunkingThreshold(int sessionAttributeChunkingThreshold) {
+		this.sessionAttributeChunkingThreshold = sessionAttributeChunkingThreshold;
+	}
+
+	/**
+	 * Gets the size, in bytes, of a serialized {@link Session} attribute value above which the value is written
+	 * in chunks.
+	 *
+	 * @return an integer value specifying the size, in bytes, of a serialized {@link Session} attribute value
+	 * above which the value is written in chunks.
+	 */
+	public int getSessionAttributeChunkingThreshold() {
+		return this.sessionAttributeChunkingThreshold;
+	}
+
+	/**
+	 * Sets the {@link String name} of the bean configured in the Spring application context implementing
+	 * the {@link CompressionCodec} used to compress serialized {@link Session} attribute values.
+	 *
+	 * @param sessionAttributeCompressionCodecBeanName {@link String} containing the name of the bean configured in
+	 * the Spring application context implementing the {@link CompressionCodec}.
+	 * @see EnableGemFireHttpSession#attributeCompressionCodecBeanName()
+	 */
+	public void setSessionAttributeCompressionCodecBeanName(String sessionAttributeCompressionCodecBeanName) {
+		this.sessionAttributeCompressionCodecBeanName = sessionAttributeCompressionCodecBeanName;
+	}
+
+	/**
+	 * Returns an {@link Optional} {@link String name} of the bean configured in the Spring application context
+	 * implementing the {@link CompressionCodec} used to compress serialized {@link Session} attribute values.
+	 *
+	 * @return an {@link Optional} {@link String name} of the bean configured in the Spring application context
+	 * implementing the {@link CompressionCodec}.
+	 * @see org.springframework.session.data.gemfire.serialization.data.support.CompressionCodec
+	 */
+	public Optional<String> getSessionAttributeCompressionCodecBeanName() {
+
+		return Optional.ofNullable(this.sessionAttributeCompressionCodecBeanName)
+			.filter(StringUtils::hasText);
+	}
+
+	/**
+	 * Sets the minimum size, in bytes, of a serialized {@link Session} attribute value to be compressed.
+	 *
+	 * @param sessionAttributeCompressionThreshold integer value specifying the minimum size, in bytes,
+	 * of a serialized {@link Session} attribute value to be compressed.
+	 * @see EnableGemFireHttpSession#attributeCompressionThreshold()
+	 */
+	public void setSessionAttributeCompressionThreshold(int sessionAttributeCompressionThreshold) {
+		this.sessionAttributeCompressionThreshold = sessionAttributeCompressionThreshold;
+	}
+
+	/**
+	 * Gets the minimum size, in bytes, of a serialized {@link Session} attribute value to be compressed.
+	 *
+	 * @return an integer value specifying the minimum size, in bytes, of a serialized {@link Session} attribute value
+	 * to be compressed.
+	 */
+	public int getSessionAttributeCompressionThreshold() {
+		return this.sessionAttributeCompressionThreshold;
+	}
+
+	/**
+	 * Sets the {@link String name} of the bean configured in the Spring application context implementing
+	 * the {@link Compressor} used to compress {@link Session} state stored in the (Client)Cache {@link Region}.
+	 *
+	 * @param sessionRegionCompressorBeanName {@link String} containing the name of the bean configured in
+	 * the Spring application context implementing the {@link Compressor}.
+	 * @see EnableGemFireHttpSession#compressorBeanName()
+	 */
+	public void setSessionRegionCompressorBeanName(String sessionRegionCompressorBeanName) {
+		this.sessionRegionCompressorBeanName = sessionRegionCompressorBeanName;
+	}
+
+	/**
+	 * Returns an {@link Optional} {@link String name} of the bean configured in the Spring application context
+	 * implementing the {@link Compressor} used to compress {@link Session} state stored in
+	 * the (Client)Cache {@link Region}.
+	 *
+	 * @return an {@link Optional} {@link String name} of the bean configured in the Spring application context
+	 * implementing the {@link Compressor}.
+	 * @see org.apache.geode.compression.Compressor
+	 */
+	public Optional<String> getSessionRegionCompressorBeanName() {
+
+		return Optional.ofNullable(this.sessionRegionCompressorBeanName)
+			.filter(StringUtils::hasText);
+	}
+
+	/**
+	 * Sets the name of the {@literal DiskStore} to which the (Client)Cache {@link Region} overflows
+	 * {@link Session} state.
+	 *
+	 * @param sessionRegionDiskStoreName {@link String} containing the name of the {@literal DiskStore}
+	 * used by the (Client)Cache {@link Region}.
+	 * @see EnableGemFireHttpSession#diskStoreName()
+	 */
+	public void setSessionRegionDiskStoreName(String sessionRegionDiskStoreName) {
+		this.sessionRegionDiskStoreName = sessionRegionDiskStoreName;
+	}
+
+	/**
+	 * Returns an {@link Optional} {@link String name} of the {@literal DiskStore} to which the (Client)Cache
+	 * {@link Region} overflows {@link Session} state.
+	 *
+	 * @return an {@link Optional} {@link String name} of the {@literal DiskStore} used by
+	 * the (Client)Cache {@link Region}.
+	 * @see EnableGemFireHttpSession#diskStoreName()
+	 */
+	public Optional<String> getSessionRegionDiskStoreName() {
+
+		return Optional.ofNullable(this.sessionRegionDiskStoreName)
+			.filter(StringUtils::hasText);
+	}
+
+	/**
+	 * Sets whether the (Client)Cache {@link Region} writes {@link Session} state to disk synchronously.
+	 *
+	 * @param sessionRegionDiskSynchronous boolean value indicating whether disk writes are synchronous.
+	 * @see EnableGemFireHttpSession#diskSynchronous()
+	 */
+	public void setSessionRegionDiskSynchronous(boolean sessionRegionDiskSynchronous) {
+		this.sessionRegionDiskSynchronous = sessionRegionDiskSynchronous;
+	}
+
+	/**
+	 * Determines whether the (Client)Cache {@link Region} writes {@link Session} state to disk synchronously.
+	 *
+	 * Defaults to {@literal true}.
+	 *
+	 * @return a boolean value indicating whether disk writes are synchronous.
+	 * @see EnableGemFireHttpSession#diskSynchronous()
+	 */
+	public boolean isSessionRegionDiskSynchronous() {
+		return this.sessionRegionDiskSynchronous;
+	}
+
+	/**
+	 * Sets the threshold at which the (Client)Cache {@link Region} begins to overflow the least recently used
+	 * {@link Session Sessions} to disk.
+	 *
+	 * @param sessionRegionEvictionMaximum integer value specifying the eviction threshold.
+	 * @see EnableGemFireHttpSession#evictionMaximum()
+	 */
+	public void setSessionRegionEvictionMaximum(int sessionRegionEvictionMaximum) {
+		this.sessionRegionEvictionMaximum = sessionRegionEvictionMaximum;
+	}
+
+	/**
+	 * Returns the threshold at which the (Client)Cache {@link Region} begins to overflow the least recently used
+	 * {@link Session Sessions} to disk.
+	 *
+	 * Defaults to {@literal 0}, using the Apache Geode default.
+	 *
+	 * @return an integer value specifying the eviction threshold.
+	 * @see EnableGemFireHttpSession#evictionMaximum()
+	 */
+	public int getSessionRegionEvictionMaximum() {
+		return this.sessionRegionEvictionMaximum;
+	}
+
+	/**
+	 * Sets the Least Recently Used (LRU) {@link EvictionPolicyType eviction policy} of the (Client)Cache
+	 * {@link Region} used to store {@link Session} state.
+	 *
+	 * @param sessionRegionEvictionPolicyType {@link EvictionPolicyType} of the (Client)Cache {@link Region}.
+	 * @see org.springframework.data.gemfire.eviction.EvictionPolicyType
+	 * @see EnableGemFireHttpSession#evictionPolicyType()
+	 */
+	public void setSessionRegionEvictionPolicyType(EvictionPolicyType sessionRegionEvictionPolicyType) {
+		this.sessionRegionEvictionPolicyType = sessionRegionEvictionPolicyType;
+	}
+
+	/**
+	 * Returns the Least Recently Used (LRU) {@link EvictionPolicyType eviction policy} of the (Client)Cache
+	 * {@link Region} used to store {@link Session} state.
+	 *
+	 * Defaults to {@link EvictionPolicyType#NONE}.
+	 *
+	 * @return the {@link EvictionPolicyType} of the (Client)Cache {@link Region}.
+	 * @see org.springframework.data.gemfire.eviction.EvictionPolicyType
+	 * @see EnableGemFireHttpSession#evictionPolicyType()
+	 */
+	public EvictionPolicyType getSessionRegionEvictionPolicyType() {
+
+		return this.sessionRegionEvictionPolicyType != null
+			? this.sessionRegionEvictionPolicyType
+			: DEFAULT_SESSION_REGION_EVICTION_POLICY_TYPE;
+	}
+
 	/**
 	 * Sets the name of the (Client)Cache {@link Region} used to store {@link Session} state.
 	 *
@@ -552,6 +1180,29 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 			: DEFAULT_SESSION_REGION_NAME;
 	}
 
+	/**
+	 * Sets whether the (Client)Cache {@link Region} stores {@link Session} state in off-heap memory.
+	 *
+	 * @param sessionRegionOffHeap boolean value indicating whether {@link Session} state is stored
+	 * in off-heap memory.
+	 * @see EnableGemFireHttpSession#offHeap()
+	 */
+	public void setSessionRegionOffHeap(boolean sessionRegionOffHeap) {
+		this.sessionRegionOffHeap = sessionRegionOffHeap;
+	}
+
+	/**
+	 * Determines whether the (Client)Cache {@link Region} stores {@link Session} state in off-heap memory.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} state is stored in off-heap memory.
+	 * @see EnableGemFireHttpSession#offHeap()
+	 */
+	public boolean isSessionRegionOffHeap() {
+		return this.sessionRegionOffHeap;
+	}
+
 	/**
 	 * Sets the {@link String bean name} of the Spring bean declared in the Spring application context
 	 * defining the serialization strategy for serializing the {@link Session}.
@@ -590,6 +1241,33 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 			: DEFAULT_SESSION_SERIALIZER_BEAN_NAME;
 	}
 
+	/**
+	 * Sets whether {@link Session Sessions} stored locally in a client {@literal LOCAL} or {@literal CACHING_PROXY}
+	 * {@link Region} are expired by a hierarchical timing wheel rather than by {@link Region} entry
+	 * idle timeout expiration.
+	 *
+	 * @param timingWheelExpirationEnabled boolean value indicating whether client {@link Session Sessions}
+	 * stored locally are expired by a timing wheel.
+	 * @see EnableGemFireHttpSession#timingWheelExpirationEnabled()
+	 */
+	public void setTimingWheelExpirationEnabled(boolean timingWheelExpirationEnabled) {
+		this.timingWheelExpirationEnabled = timingWheelExpirationEnabled;
+	}
+
+	/**
+	 * Determines whether {@link Session Sessions} stored locally in a client {@literal LOCAL}
+	 * or {@literal CACHING_PROXY} {@link Region} are expired by a hierarchical timing wheel.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether client {@link Session Sessions} stored locally
+	 * are expired by a timing wheel.
+	 * @see EnableGemFireHttpSession#timingWheelExpirationEnabled()
+	 */
+	public boolean isTimingWheelExpirationEnabled() {
+		return this.timingWheelExpirationEnabled;
+	}
+
 	/**
 	 * Set whether to use Apache Geode / Pivotal GemFire's DataSerialization framework
 	 * for {@link Session} de/serialization.
@@ -633,15 +1311,33 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 
 		// Apply configuration from {@link EnableGemFireHttpSession} annotation
 		// and well-known, documented {@link Properties}.
+		configureAttributeChunkingThreshold(enableGemFireHttpSessionAttributes);
+		configureAttributeCompressionCodecBeanName(enableGemFireHttpSessionAttributes);
+		configureAttributeCompressionThreshold(enableGemFireHttpSessionAttributes);
 		configureClientRegionShortcut(enableGemFireHttpSessionAttributes);
+		configureCompressorBeanName(enableGemFireHttpSessionAttributes);
+		configureDemotionIdleTimeoutSeconds(enableGemFireHttpSessionAttributes);
+		configureDiskStoreName(enableGemFireHttpSessionAttributes);
+		configureDiskSynchronous(enableGemFireHttpSessionAttributes);
+		configureEvictionMaximum(enableGemFireHttpSessionAttributes);
+		configureEvictionPolicyType(enableGemFireHttpSessionAttributes);
 		configureExposeConfigurationAsProperties(enableGemFireHttpSessionAttributes);
 		configureIndexedSessionAttributes(enableGemFireHttpSessionAttributes);
+		configureInvalidatedSessionReapBatchSize(enableGemFireHttpSessionAttributes);
+		configureInvalidatedSessionReapIntervalSeconds(enableGemFireHttpSessionAttributes);
 		configureMaxInactiveIntervalInSeconds(enableGemFireHttpSessionAttributes);
+		configureNegativeLookupCacheMaximumSize(enableGemFireHttpSessionAttributes);
+		configureNegativeLookupCacheTimeToLiveInSeconds(enableGemFireHttpSessionAttributes);
+		configureOffHeap(enableGemFireHttpSessionAttributes);
+		configureOptimisticConcurrencyEnabled(enableGemFireHttpSessionAttributes);
 		configurePoolName(enableGemFireHttpSessionAttributes);
+		configurePrincipalRoutingEnabled(enableGemFireHttpSessionAttributes);
+		configureSaveEmptyNewSessions(enableGemFireHttpSessionAttributes);
 		configureServerRegionShortcut(enableGemFireHttpSessionAttributes);
 		configureSessionExpirationPolicyBeanName(enableGemFireHttpSessionAttributes);
 		configureSessionRegionName(enableGemFireHttpSessionAttributes);
 		configureSessionSerializerBeanName(enableGemFireHttpSessionAttributes);
+		configureTimingWheelExpirationEnabled(enableGemFireHttpSessionAttributes);
 
 		// Apply configuration from {@link SpringSessionGemFireConfigurer}.
 		applySpringSessionGemFireConfigurer();
@@ -651,6 +1347,33 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 		exposeSpringSessionGemFireConfiguration();
 	}
 
+	private void configureAttributeChunkingThreshold(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultAttributeChunkingThreshold =
+			enableGemFireHttpSessionAttributes.getNumber("attributeChunkingThreshold").intValue();
+
+		setSessionAttributeChunkingThreshold(resolveProperty(sessionAttributeChunkingThresholdPropertyName(),
+			defaultAttributeChunkingThreshold));
+	}
+
+	private void configureAttributeCompressionCodecBeanName(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		String defaultAttributeCompressionCodecBeanName =
+			enableGemFireHttpSessionAttributes.getString("attributeCompressionCodecBeanName");
+
+		setSessionAttributeCompressionCodecBeanName(resolveProperty(
+			sessionAttributeCompressionCodecBeanNamePropertyName(), defaultAttributeCompressionCodecBeanName));
+	}
+
+	private void configureAttributeCompressionThreshold(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultAttributeCompressionThreshold =
+			enableGemFireHttpSessionAttributes.getNumber("attributeCompressionThreshold").intValue();
+
+		setSessionAttributeCompressionThreshold(resolveProperty(sessionAttributeCompressionThresholdPropertyName(),
+			defaultAttributeCompressionThreshold));
+	}
+
 	private void configureClientRegionShortcut(AnnotationAttributes enableGemFireHttpSessionAttributes) {
 
 		ClientRegionShortcut defaultClientRegionShortcut =
@@ -660,6 +1383,55 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 			ClientRegionShortcut.class, defaultClientRegionShortcut));
 	}
 
+	private void configureCompressorBeanName(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		String defaultCompressorBeanName = enableGemFireHttpSessionAttributes.getString("compressorBeanName");
+
+		setSessionRegionCompressorBeanName(resolveProperty(sessionRegionCompressorBeanNamePropertyName(),
+			defaultCompressorBeanName));
+	}
+
+	private void configureDemotionIdleTimeoutSeconds(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultDemotionIdleTimeoutSeconds =
+			enableGemFireHttpSessionAttributes.getNumber("demotionIdleTimeoutSeconds").intValue();
+
+		setDemotionIdleTimeoutSeconds(resolveProperty(demotionIdleTimeoutSecondsPropertyName(),
+			defaultDemotionIdleTimeoutSeconds));
+	}
+
+	private void configureDiskStoreName(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		String defaultDiskStoreName = enableGemFireHttpSessionAttributes.getString("diskStoreName");
+
+		setSessionRegionDiskStoreName(resolveProperty(sessionRegionDiskStoreNamePropertyName(), defaultDiskStoreName));
+	}
+
+	private void configureDiskSynchronous(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		boolean defaultDiskSynchronous =
+			Boolean.TRUE.equals(enableGemFireHttpSessionAttributes.getBoolean("diskSynchronous"));
+
+		setSessionRegionDiskSynchronous(resolveProperty(sessionRegionDiskSynchronousPropertyName(),
+			defaultDiskSynchronous));
+	}
+
+	private void configureEvictionMaximum(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultEvictionMaximum = enableGemFireHttpSessionAttributes.getNumber("evictionMaximum").intValue();
+
+		setSessionRegionEvictionMaximum(resolveProperty(sessionRegionEvictionMaximumPropertyName(),
+			defaultEvictionMaximum));
+	}
+
+	private void configureEvictionPolicyType(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		EvictionPolicyType defaultEvictionPolicyType = enableGemFireHttpSessionAttributes.getEnum("evictionPolicyType");
+
+		setSessionRegionEvictionPolicyType(resolveProperty(sessionRegionEvictionPolicyTypePropertyName(),
+			EvictionPolicyType.class, defaultEvictionPolicyType));
+	}
+
 	private void configureExposeConfigurationAsProperties(AnnotationAttributes enableGemFireHttpSessionAttributes) {
 
 		boolean defaultExposeConfigurationAsProperties = Boolean.TRUE
@@ -678,6 +1450,25 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 			resolveProperty(indexableSessionAttributesPropertyName(), defaultIndexedSessionAttributes)));
 	}
 
+	private void configureInvalidatedSessionReapBatchSize(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultInvalidatedSessionReapBatchSize =
+			enableGemFireHttpSessionAttributes.getNumber("invalidatedSessionReapBatchSize").intValue();
+
+		setInvalidatedSessionReapBatchSize(resolveProperty(invalidatedSessionReapBatchSizePropertyName(),
+			defaultInvalidatedSessionReapBatchSize));
+	}
+
+	private void configureInvalidatedSessionReapIntervalSeconds(
+			AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultInvalidatedSessionReapIntervalSeconds =
+			enableGemFireHttpSessionAttributes.getNumber("invalidatedSessionReapIntervalSeconds").intValue();
+
+		setInvalidatedSessionReapIntervalSeconds(resolveProperty(invalidatedSessionReapIntervalSecondsPropertyName(),
+			defaultInvalidatedSessionReapIntervalSeconds));
+	}
+
 	private void configureMaxInactiveIntervalInSeconds(AnnotationAttributes enableGemFireHttpSessionAttributes) {
 
 		Integer defaultMaxInactiveIntervalInSeconds =
@@ -687,11 +1478,63 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 			defaultMaxInactiveIntervalInSeconds));
 	}
 
+	private void configureNegativeLookupCacheMaximumSize(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultNegativeLookupCacheMaximumSize =
+			enableGemFireHttpSessionAttributes.getNumber("negativeLookupCacheMaximumSize").intValue();
+
+		setNegativeLookupCacheMaximumSize(resolveProperty(negativeLookupCacheMaximumSizePropertyName(),
+			defaultNegativeLookupCacheMaximumSize));
+	}
+
+	private void configureNegativeLookupCacheTimeToLiveInSeconds(
+			AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		Integer defaultNegativeLookupCacheTimeToLiveInSeconds =
+			enableGemFireHttpSessionAttributes.getNumber("negativeLookupCacheTimeToLiveInSeconds").intValue();
+
+		setNegativeLookupCacheTimeToLiveInSeconds(resolveProperty(negativeLookupCacheTimeToLiveInSecondsPropertyName(),
+			defaultNegativeLookupCacheTimeToLiveInSeconds));
+	}
+
+	private void configureOffHeap(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		boolean defaultOffHeap = Boolean.TRUE.equals(enableGemFireHttpSessionAttributes.getBoolean("offHeap"));
+
+		setSessionRegionOffHeap(resolveProperty(sessionRegionOffHeapPropertyName(), defaultOffHeap));
+	}
+
+	private void configureOptimisticConcurrencyEnabled(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		boolean defaultOptimisticConcurrencyEnabled = Boolean.TRUE
+			.equals(enableGemFireHttpSessionAttributes.getBoolean("optimisticConcurrencyEnabled"));
+
+		setOptimisticConcurrencyEnabled(resolveProperty(optimisticConcurrencyEnabledPropertyName(),
+			defaultOptimisticConcurrencyEnabled));
+	}
+
 	private void configurePoolName(AnnotationAttributes enableGemFireHttpSessionAttributes) {
 
-		String defaultPoolName = enableGemFireHttpSessionAttributes.getString("poolName");
+		String defaultPoolName = enableGemFireHttpSessionAttributes.getString("poolName");
+
+		setPoolName(resolveProperty(poolNamePropertyName(), defaultPoolName));
+	}
+
+	private void configurePrincipalRoutingEnabled(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		boolean defaultPrincipalRoutingEnabled = Boolean.TRUE
+			.equals(enableGemFireHttpSessionAttributes.getBoolean("principalRoutingEnabled"));
+
+		setPrincipalRoutingEnabled(resolveProperty(principalRoutingEnabledPropertyName(),
+			defaultPrincipalRoutingEnabled));
+	}
+
+	private void configureSaveEmptyNewSessions(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		boolean defaultSaveEmptyNewSessions = Boolean.TRUE
+			.equals(enableGemFireHttpSessionAttributes.getBoolean("saveEmptyNewSessions"));
 
-		setPoolName(resolveProperty(poolNamePropertyName(), defaultPoolName));
+		setSaveEmptyNewSessions(resolveProperty(saveEmptyNewSessionsPropertyName(), defaultSaveEmptyNewSessions));
 	}
 
 	private void configureServerRegionShortcut(AnnotationAttributes enableGemFireHttpSessionAttributes) {
@@ -728,6 +1571,15 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 			defaultSessionSerializerBeanName));
 	}
 
+	private void configureTimingWheelExpirationEnabled(AnnotationAttributes enableGemFireHttpSessionAttributes) {
+
+		boolean defaultTimingWheelExpirationEnabled = Boolean.TRUE
+			.equals(enableGemFireHttpSessionAttributes.getBoolean("timingWheelExpirationEnabled"));
+
+		setTimingWheelExpirationEnabled(resolveProperty(timingWheelExpirationEnabledPropertyName(),
+			defaultTimingWheelExpirationEnabled));
+	}
+
 	/**
 	 * Applies configuration from a single {@link SpringSessionGemFireConfigurer} bean
 	 * declared in the Spring {@link ApplicationContext}.
@@ -738,15 +1590,33 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	void applySpringSessionGemFireConfigurer() {
 
 		resolveSpringSessionGemFireConfigurer()
+			.map(this::applyAttributeChunkingThreshold)
+			.map(this::applyAttributeCompressionCodecBeanName)
+			.map(this::applyAttributeCompressionThreshold)
 			.map(this::applyClientRegionShortcut)
+			.map(this::applyCompressorBeanName)
+			.map(this::applyDemotionIdleTimeoutSeconds)
+			.map(this::applyDiskStoreName)
+			.map(this::applyDiskSynchronous)
+			.map(this::applyEvictionMaximum)
+			.map(this::applyEvictionPolicyType)
 			.map(this::applyExposeConfigurationAsProperties)
 			.map(this::applyIndexableSessionAttributes)
+			.map(this::applyInvalidatedSessionReapBatchSize)
+			.map(this::applyInvalidatedSessionReapIntervalSeconds)
 			.map(this::applyMaxInactiveIntervalInSeconds)
+			.map(this::applyNegativeLookupCacheMaximumSize)
+			.map(this::applyNegativeLookupCacheTimeToLiveInSeconds)
+			.map(this::applyOffHeap)
+			.map(this::applyOptimisticConcurrencyEnabled)
 			.map(this::applyPoolName)
+			.map(this::applyPrincipalRoutingEnabled)
+			.map(this::applySaveEmptyNewSessions)
 			.map(this::applyServerRegionShortcut)
 			.map(this::applySessionExpirationPolicyBeanName)
 			.map(this::applySessionRegionName)
-			.map(this::applySessionSerializerBeanName);
+			.map(this::applySessionSerializerBeanName)
+			.map(this::applyTimingWheelExpirationEnabled);
 	}
 
 	private Optional<SpringSessionGemFireConfigurer> resolveSpringSessionGemFireConfigurer() {
@@ -780,6 +1650,32 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 		return configurer;
 	}
 
+	private SpringSessionGemFireConfigurer applyAttributeChunkingThreshold(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_ATTRIBUTE_CHUNKING_THRESHOLD_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getAttributeChunkingThreshold,
+					this::setSessionAttributeChunkingThreshold);
+	}
+
+	private SpringSessionGemFireConfigurer applyAttributeCompressionCodecBeanName(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_ATTRIBUTE_COMPRESSION_CODEC_BEAN_NAME_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getAttributeCompressionCodecBeanName,
+					this::setSessionAttributeCompressionCodecBeanName);
+	}
+
+	private SpringSessionGemFireConfigurer applyAttributeCompressionThreshold(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_ATTRIBUTE_COMPRESSION_THRESHOLD_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getAttributeCompressionThreshold,
+					this::setSessionAttributeCompressionThreshold);
+	}
+
 	private SpringSessionGemFireConfigurer applyClientRegionShortcut(SpringSessionGemFireConfigurer configurer) {
 
 		return applySpringSessionGemFireConfigurerConfiguration(configurer,
@@ -787,6 +1683,48 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 				SpringSessionGemFireConfigurer::getClientRegionShortcut, this::setClientRegionShortcut);
 	}
 
+	private SpringSessionGemFireConfigurer applyCompressorBeanName(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_COMPRESSOR_BEAN_NAME_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getCompressorBeanName, this::setSessionRegionCompressorBeanName);
+	}
+
+	private SpringSessionGemFireConfigurer applyDemotionIdleTimeoutSeconds(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_DEMOTION_IDLE_TIMEOUT_SECONDS_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getDemotionIdleTimeoutSeconds, this::setDemotionIdleTimeoutSeconds);
+	}
+
+	private SpringSessionGemFireConfigurer applyDiskStoreName(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_DISK_STORE_NAME_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getDiskStoreName, this::setSessionRegionDiskStoreName);
+	}
+
+	private SpringSessionGemFireConfigurer applyDiskSynchronous(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_DISK_SYNCHRONOUS_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getDiskSynchronous, this::setSessionRegionDiskSynchronous);
+	}
+
+	private SpringSessionGemFireConfigurer applyEvictionMaximum(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_EVICTION_MAXIMUM_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getEvictionMaximum, this::setSessionRegionEvictionMaximum);
+	}
+
+	private SpringSessionGemFireConfigurer applyEvictionPolicyType(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_EVICTION_POLICY_TYPE_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getEvictionPolicyType, this::setSessionRegionEvictionPolicyType);
+	}
+
 	private <T> SpringSessionGemFireConfigurer applyExposeConfigurationAsProperties(SpringSessionGemFireConfigurer configurer) {
 
 		return applySpringSessionGemFireConfigurerConfiguration(configurer,
@@ -801,6 +1739,24 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 				SpringSessionGemFireConfigurer::getIndexableSessionAttributes, this::setIndexableSessionAttributes);
 	}
 
+	private SpringSessionGemFireConfigurer applyInvalidatedSessionReapBatchSize(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_INVALIDATED_SESSION_REAP_BATCH_SIZE_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getInvalidatedSessionReapBatchSize,
+					this::setInvalidatedSessionReapBatchSize);
+	}
+
+	private SpringSessionGemFireConfigurer applyInvalidatedSessionReapIntervalSeconds(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_INVALIDATED_SESSION_REAP_INTERVAL_SECONDS_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getInvalidatedSessionReapIntervalSeconds,
+					this::setInvalidatedSessionReapIntervalSeconds);
+	}
+
 	private SpringSessionGemFireConfigurer applyMaxInactiveIntervalInSeconds(SpringSessionGemFireConfigurer configurer) {
 
 		return applySpringSessionGemFireConfigurerConfiguration(configurer,
@@ -808,6 +1764,40 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 				SpringSessionGemFireConfigurer::getMaxInactiveIntervalInSeconds, this::setMaxInactiveIntervalInSeconds);
 	}
 
+	private SpringSessionGemFireConfigurer applyNegativeLookupCacheMaximumSize(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_NEGATIVE_LOOKUP_CACHE_MAXIMUM_SIZE_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getNegativeLookupCacheMaximumSize,
+					this::setNegativeLookupCacheMaximumSize);
+	}
+
+	private SpringSessionGemFireConfigurer applyNegativeLookupCacheTimeToLiveInSeconds(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_NEGATIVE_LOOKUP_CACHE_TIME_TO_LIVE_IN_SECONDS_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getNegativeLookupCacheTimeToLiveInSeconds,
+					this::setNegativeLookupCacheTimeToLiveInSeconds);
+	}
+
+	private SpringSessionGemFireConfigurer applyOffHeap(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_OFF_HEAP_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getOffHeap, this::setSessionRegionOffHeap);
+	}
+
+	private SpringSessionGemFireConfigurer applyOptimisticConcurrencyEnabled(
+			SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_OPTIMISTIC_CONCURRENCY_ENABLED_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getOptimisticConcurrencyEnabled,
+					this::setOptimisticConcurrencyEnabled);
+	}
+
 	private SpringSessionGemFireConfigurer applyPoolName(SpringSessionGemFireConfigurer configurer) {
 
 		return applySpringSessionGemFireConfigurerConfiguration(configurer,
@@ -815,6 +1805,20 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 				SpringSessionGemFireConfigurer::getPoolName, this::setPoolName);
 	}
 
+	private SpringSessionGemFireConfigurer applyPrincipalRoutingEnabled(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_PRINCIPAL_ROUTING_ENABLED_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getPrincipalRoutingEnabled, this::setPrincipalRoutingEnabled);
+	}
+
+	private SpringSessionGemFireConfigurer applySaveEmptyNewSessions(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_SAVE_EMPTY_NEW_SESSIONS_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getSaveEmptyNewSessions, this::setSaveEmptyNewSessions);
+	}
+
 	private SpringSessionGemFireConfigurer applyServerRegionShortcut(SpringSessionGemFireConfigurer configurer) {
 
 		return applySpringSessionGemFireConfigurerConfiguration(configurer,
@@ -843,6 +1847,14 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 				SpringSessionGemFireConfigurer::getSessionSerializerBeanName, this::setSessionSerializerBeanName);
 	}
 
+	private SpringSessionGemFireConfigurer applyTimingWheelExpirationEnabled(SpringSessionGemFireConfigurer configurer) {
+
+		return applySpringSessionGemFireConfigurerConfiguration(configurer,
+			CONFIGURER_GET_TIMING_WHEEL_EXPIRATION_ENABLED_METHOD_NAME,
+				SpringSessionGemFireConfigurer::getTimingWheelExpirationEnabled,
+					this::setTimingWheelExpirationEnabled);
+	}
+
 	/**
 	 * Exposes the configuration of Spring Session using either Apache Geode or Pivotal GemFire as {@link Properties}
 	 * in the Spring {@link Environment}.
@@ -874,6 +1886,9 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 					properties.setProperty(clientRegionShortcutPropertyName(),
 						getClientRegionShortcut().name());
 
+					properties.setProperty(demotionIdleTimeoutSecondsPropertyName(),
+						String.valueOf(getDemotionIdleTimeoutSeconds()));
+
 					properties.setProperty(exposeConfigurationAsPropertiesPropertyName(),
 						String.valueOf(isExposeConfigurationAsProperties()));
 
@@ -884,13 +1899,62 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 					properties.setProperty(indexedSessionAttributesPropertyName(),
 						StringUtils.arrayToCommaDelimitedString(getIndexableSessionAttributes()));
 
+					properties.setProperty(invalidatedSessionReapBatchSizePropertyName(),
+						String.valueOf(getInvalidatedSessionReapBatchSize()));
+
+					properties.setProperty(invalidatedSessionReapIntervalSecondsPropertyName(),
+						String.valueOf(getInvalidatedSessionReapIntervalSeconds()));
+
 					properties.setProperty(maxInactiveIntervalInSecondsPropertyName(),
 						String.valueOf(getMaxInactiveIntervalInSeconds()));
 
+					properties.setProperty(negativeLookupCacheMaximumSizePropertyName(),
+						String.valueOf(getNegativeLookupCacheMaximumSize()));
+
+					properties.setProperty(negativeLookupCacheTimeToLiveInSecondsPropertyName(),
+						String.valueOf(getNegativeLookupCacheTimeToLiveInSeconds()));
+
+					properties.setProperty(optimisticConcurrencyEnabledPropertyName(),
+						String.valueOf(isOptimisticConcurrencyEnabled()));
+
 					properties.setProperty(poolNamePropertyName(), getPoolName());
 
+					properties.setProperty(principalRoutingEnabledPropertyName(),
+						String.valueOf(isPrincipalRoutingEnabled()));
+
+					properties.setProperty(sessionAttributeChunkingThresholdPropertyName(),
+						String.valueOf(getSessionAttributeChunkingThreshold()));
+
+					getSessionAttributeCompressionCodecBeanName()
+						.ifPresent(it -> properties.setProperty(sessionAttributeCompressionCodecBeanNamePropertyName(),
+							it));
+
+					properties.setProperty(sessionAttributeCompressionThresholdPropertyName(),
+						String.valueOf(getSessionAttributeCompressionThreshold()));
+
+					getSessionRegionCompressorBeanName()
+						.ifPresent(it -> properties.setProperty(sessionRegionCompressorBeanNamePropertyName(), it));
+
+					getSessionRegionDiskStoreName()
+						.ifPresent(it -> properties.setProperty(sessionRegionDiskStoreNamePropertyName(), it));
+
+					properties.setProperty(sessionRegionDiskSynchronousPropertyName(),
+						String.valueOf(isSessionRegionDiskSynchronous()));
+
+					properties.setProperty(sessionRegionEvictionMaximumPropertyName(),
+						String.valueOf(getSessionRegionEvictionMaximum()));
+
+					properties.setProperty(sessionRegionEvictionPolicyTypePropertyName(),
+						getSessionRegionEvictionPolicyType().name());
+
 					properties.setProperty(sessionRegionNamePropertyName(), getSessionRegionName());
 
+					properties.setProperty(sessionRegionOffHeapPropertyName(),
+						String.valueOf(isSessionRegionOffHeap()));
+
+					properties.setProperty(saveEmptyNewSessionsPropertyName(),
+						String.valueOf(isSaveEmptyNewSessions()));
+
 					properties.setProperty(serverRegionShortcutPropertyName(),
 						getServerRegionShortcut().name());
 
@@ -898,6 +1962,9 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 						.ifPresent(it -> properties.setProperty(sessionExpirationPolicyBeanNamePropertyName(), it));
 
 					properties.setProperty(sessionSerializerBeanNamePropertyName(), getSessionSerializerBeanName());
+
+					properties.setProperty(timingWheelExpirationEnabledPropertyName(),
+						String.valueOf(isTimingWheelExpirationEnabled()));
 				});
 		}
 	}
@@ -905,6 +1972,36 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	@PostConstruct
 	public void init() {
 		getBeanFactory().registerAlias(getSessionSerializerBeanName(), SESSION_SERIALIZER_BEAN_ALIAS);
+		configureSessionAttributeChunking();
+		configureSessionAttributeCompression();
+	}
+
+	/**
+	 * Applies the configured chunking threshold to the serialization of {@link Session} attribute values.
+	 *
+	 * The chunking threshold is static, so the last configuration initialized in the JVM wins.
+	 *
+	 * @see org.springframework.session.data.gemfire.serialization.data.support.ChunkedValue
+	 * @see #getSessionAttributeChunkingThreshold()
+	 */
+	void configureSessionAttributeChunking() {
+		ChunkedValue.setChunkingThreshold(getSessionAttributeChunkingThreshold());
+	}
+
+	/**
+	 * Applies the configured {@link CompressionCodec} and compression threshold to the compression
+	 * of serialized {@link Session} attribute values.
+	 *
+	 * The {@link CompressionCodec} is left unchanged when no {@link CompressionCodec} bean is configured.
+	 * Both settings are static, so the last configuration initialized in the JVM wins.
+	 *
+	 * @see org.springframework.session.data.gemfire.serialization.data.support.CompressedValue
+	 * @see #getSessionAttributeCompressionCodecBeanName()
+	 * @see #getSessionAttributeCompressionThreshold()
+	 */
+	void configureSessionAttributeCompression() {
+		CompressedValue.setCompressionThreshold(getSessionAttributeCompressionThreshold());
+		resolveSessionAttributeCompressionCodec().ifPresent(CompressedValue::setCompressionCodec);
 	}
 
 	@Bean
@@ -928,6 +2025,7 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 					SessionSerializer sessionSerializer = resolveSessionSerializer();
 
 					configureSerialization((CacheFactoryBean) bean, sessionSerializer);
+					configurePdxPersistence((CacheFactoryBean) bean);
 				}
 
 				return bean;
@@ -957,6 +2055,99 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 		return Optional.empty();
 	}
 
+	private Optional<CompressionCodec> resolveSessionAttributeCompressionCodec() {
+
+		Optional<String> sessionAttributeCompressionCodecBeanName = getSessionAttributeCompressionCodecBeanName();
+
+		if (sessionAttributeCompressionCodecBeanName.isPresent()) {
+			if (getApplicationContext().containsBean(sessionAttributeCompressionCodecBeanName.get())) {
+				return Optional.of(getApplicationContext()
+					.getBean(sessionAttributeCompressionCodecBeanName.get(), CompressionCodec.class));
+			}
+			else {
+
+				String logMessage = "No Bean with name [{}] and type [{}] was configured;"
+					+ " Session attribute values will not be compressed";
+
+				getLogger().warn(logMessage, sessionAttributeCompressionCodecBeanName.get(),
+					CompressionCodec.class.getName());
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	private Optional<Compressor> resolveSessionRegionCompressor() {
+
+		Optional<String> sessionRegionCompressorBeanName = getSessionRegionCompressorBeanName();
+
+		if (sessionRegionCompressorBeanName.isPresent()) {
+			if (getApplicationContext().containsBean(sessionRegionCompressorBeanName.get())) {
+				return Optional.of(getApplicationContext()
+					.getBean(sessionRegionCompressorBeanName.get(), Compressor.class));
+			}
+			else {
+
+				String logMessage = "No Bean with name [{}] and type [{}] was configured;"
+					+ " Session state stored in Region [{}] will not be compressed";
+
+				getLogger().warn(logMessage, sessionRegionCompressorBeanName.get(),
+					Compressor.class.getName(), getSessionRegionName());
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	private Optional<String> resolveSessionRegionDiskStoreName() {
+
+		Optional<String> sessionRegionDiskStoreName = getSessionRegionDiskStoreName();
+
+		// A DiskStore declared as a bean must be created before the Region using the DiskStore
+		sessionRegionDiskStoreName
+			.filter(getApplicationContext()::containsBean)
+			.ifPresent(diskStoreName -> getApplicationContext().getBean(diskStoreName, DiskStore.class));
+
+		return sessionRegionDiskStoreName;
+	}
+
+	private Optional<EvictionAttributes> resolveSessionRegionEvictionAttributes() {
+
+		EvictionPolicyType evictionPolicyType = getSessionRegionEvictionPolicyType();
+
+		if (!EvictionPolicyType.NONE.equals(evictionPolicyType)) {
+
+			EvictionAttributesFactoryBean evictionAttributes = new EvictionAttributesFactoryBean();
+
+			evictionAttributes.setAction(EvictionAction.OVERFLOW_TO_DISK);
+			evictionAttributes.setObjectSizer(SessionObjectSizer.INSTANCE);
+			evictionAttributes.setType(evictionPolicyType);
+
+			int evictionMaximum = getSessionRegionEvictionMaximum();
+
+			if (evictionMaximum > 0 && !EvictionPolicyType.HEAP_PERCENTAGE.equals(evictionPolicyType)) {
+				evictionAttributes.setThreshold(evictionMaximum);
+			}
+
+			evictionAttributes.afterPropertiesSet();
+
+			return Optional.ofNullable(evictionAttributes.getObject());
+		}
+
+		return Optional.empty();
+	}
+
+	private void logIgnoredEvictionHeapPercentage() {
+
+		int evictionMaximum = getSessionRegionEvictionMaximum();
+
+		if (EvictionPolicyType.HEAP_PERCENTAGE.equals(getSessionRegionEvictionPolicyType()) && evictionMaximum > 0) {
+			getLogger().warn("Session Region eviction maximum [{}] is ignored for the {} eviction policy;"
+				+ " configure the cache-wide eviction-heap-percentage on the ResourceManager instead",
+					evictionMaximum, EvictionPolicyType.HEAP_PERCENTAGE);
+		}
+	}
+
 	private SessionSerializer resolveSessionSerializer() {
 		return getApplicationContext().getBean(SESSION_SERIALIZER_BEAN_ALIAS, SessionSerializer.class);
 	}
@@ -998,6 +2189,19 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 		}
 	}
 
+	private void configurePdxPersistence(CacheFactoryBean cacheFactoryBean) {
+
+		// PDX type metadata must be persistent in a peer member storing PDX serialized Sessions on disk
+		boolean pdxPersistenceRequired = !(cacheFactoryBean instanceof ClientCacheFactoryBean)
+			&& cacheFactoryBean.getPdxSerializer() != null
+			&& cacheFactoryBean.getPdxPersistent() == null
+			&& GemFireUtils.isPersistent(getServerRegionShortcut());
+
+		if (pdxPersistenceRequired) {
+			cacheFactoryBean.setPdxPersistent(true);
+		}
+	}
+
 	/**
 	 * {@link SessionSerializer} bean implemented with Apache Geode/Pivotal GemFire DataSerialization framework.
 	 *
@@ -1026,6 +2230,10 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 * Defines the {@link Region} used to store and manage {@link Session} state in either a client-server
 	 * or peer-to-peer (p2p) topology.
 	 *
+	 * A {@link Compressor}, off-heap storage of {@link Session} state and the {@literal DiskStore} to which
+	 * evicted {@link Session Sessions} overflow are configured on the basis that the cache {@link Region}
+	 * stores data locally, i.e. is not a proxy on either the client or server.
+	 *
 	 * @param gemfireCache reference to the {@link GemFireCache}.
 	 * @param sessionRegionAttributes {@link RegionAttributes} used to configure the {@link Region}.
 	 * @return a {@link SessionCacheTypeAwareRegionFactoryBean} used to configure and initialize
@@ -1036,6 +2244,10 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 * @see #getPoolName()
 	 * @see #getServerRegionShortcut()
 	 * @see #getSessionRegionName()
+	 * @see #getSessionRegionCompressorBeanName()
+	 * @see #isSessionRegionOffHeap()
+	 * @see #getSessionRegionDiskStoreName()
+	 * @see #isLocalDataStorageConfigured(GemFireCache)
 	 */
 	@Bean(name = DEFAULT_SESSION_REGION_NAME)
 	public SessionCacheTypeAwareRegionFactoryBean<Object, Session> sessionRegion(GemFireCache gemfireCache,
@@ -1051,6 +2263,13 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 		sessionRegion.setRegionName(getSessionRegionName());
 		sessionRegion.setServerRegionShortcut(getServerRegionShortcut());
 
+		if (isLocalDataStorageConfigured(gemfireCache)) {
+			resolveSessionRegionCompressor().ifPresent(sessionRegion::setCompressor);
+			sessionRegion.setOffHeap(isSessionRegionOffHeap());
+			resolveSessionRegionDiskStoreName().ifPresent(sessionRegion::setDiskStoreName);
+			logIgnoredEvictionHeapPercentage();
+		}
+
 		return sessionRegion;
 	}
 
@@ -1058,8 +2277,10 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 * Defines a {@link RegionAttributes} used to configure and initialize the cache {@link Region}
 	 * used to store {@link Session} state.
 	 *
-	 * Expiration is also configured for the {@link Region} on the basis that the cache {@link Region}
-	 * is a not a proxy on either the client or server.
+	 * Expiration, along with eviction overflowing the least recently used {@link Session Sessions} to disk,
+	 * is also configured for the {@link Region} on the basis that the cache {@link Region} is a not a proxy
+	 * on either the client or server.  Eviction is part of the {@link RegionAttributes} so that
+	 * the {@literal DiskStore} is applied to the {@link Region}.
 	 *
 	 * @param gemfireCache reference to the {@link GemFireCache}.
 	 * @return an instance of {@link RegionAttributes} used to configure and initialize cache {@link Region}
@@ -1068,6 +2289,10 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 * @see org.apache.geode.cache.GemFireCache
 	 * @see org.apache.geode.cache.PartitionAttributes
 	 * @see #isExpirationAllowed(GemFireCache)
+	 * @see #isTimingWheelExpirationConfigured(GemFireCache)
+	 * @see #getSessionRegionEvictionPolicyType()
+	 * @see #getSessionRegionEvictionMaximum()
+	 * @see #isPrincipalRoutingConfigured(GemFireCache)
 	 */
 	@Bean
 	@SuppressWarnings({ "unchecked", "deprecation" })
@@ -1078,7 +2303,11 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 		regionAttributes.setKeyConstraint(SESSION_REGION_KEY_CONSTRAINT);
 		regionAttributes.setValueConstraint(SESSION_REGION_VALUE_CONSTRAINT);
 
-		if (isExpirationAllowed(gemfireCache)) {
+		if (isTimingWheelExpirationConfigured(gemfireCache)) {
+			getLogger().info("Session expiration on Regions with a data management policy of {}"
+				+ " is managed by a timing wheel", getClientRegionShortcut());
+		}
+		else if (isExpirationAllowed(gemfireCache)) {
 
 			regionAttributes.setStatisticsEnabled(true);
 
@@ -1094,9 +2323,46 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 				GemfireUtils.isClient(gemfireCache) ? getClientRegionShortcut() : getServerRegionShortcut());
 		}
 
+		if (isLocalDataStorageConfigured(gemfireCache)) {
+			regionAttributes.setDiskSynchronous(isSessionRegionDiskSynchronous());
+			resolveSessionRegionEvictionAttributes().ifPresent(regionAttributes::setEvictionAttributes);
+		}
+
+		if (isPrincipalRoutingConfigured(gemfireCache)) {
+			regionAttributes.setPartitionAttributes(newPrincipalRoutingPartitionAttributes());
+		}
+
 		return regionAttributes;
 	}
 
+	/**
+	 * Determines whether the cache {@link Region} used to store and manage {@link Session} state routes
+	 * {@link Session Sessions} by principal, i.e. principal routing is enabled and the {@link Region}
+	 * is a {@literal PARTITION} {@link Region} on a peer, including an accessor ({@literal PARTITION_PROXY}),
+	 * which must use the same {@link org.apache.geode.cache.PartitionResolver} as the data stores.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return a boolean indicating whether the {@link Region} routes {@link Session Sessions} by principal.
+	 * @see GemFireUtils#isPartition(RegionShortcut)
+	 * @see #isPrincipalRoutingEnabled()
+	 */
+	boolean isPrincipalRoutingConfigured(GemFireCache gemfireCache) {
+
+		return isPrincipalRoutingEnabled()
+			&& !GemFireUtils.isClient(gemfireCache)
+			&& GemFireUtils.isPartition(getServerRegionShortcut());
+	}
+
+	@SuppressWarnings("unchecked")
+	private PartitionAttributes<Object, Session> newPrincipalRoutingPartitionAttributes() {
+
+		PartitionAttributesFactory<Object, Session> partitionAttributesFactory = new PartitionAttributesFactory<>();
+
+		partitionAttributesFactory.setPartitionResolver((PartitionResolver) new PrincipalRoutingPartitionResolver());
+
+		return partitionAttributesFactory.create();
+	}
+
 	/**
 	 * Determines whether expiration configuration is allowed to be set on the cache {@link Region}
 	 * used to store and manage {@link Session} state.
@@ -1109,6 +2375,37 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 	 * @see GemFireUtils#isProxy(RegionShortcut)
 	 */
 	boolean isExpirationAllowed(GemFireCache gemfireCache) {
+		return isLocalDataStorageConfigured(gemfireCache);
+	}
+
+	/**
+	 * Determines whether {@link Session Sessions} stored in the cache {@link Region} are expired by a timing wheel,
+	 * i.e. timing wheel expiration is enabled and the {@link Region} is a client {@link Region} storing
+	 * {@link Session} state locally.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return a boolean indicating whether {@link Session Sessions} are expired by a timing wheel.
+	 * @see #isTimingWheelExpirationEnabled()
+	 * @see #isLocalDataStorageConfigured(GemFireCache)
+	 */
+	boolean isTimingWheelExpirationConfigured(GemFireCache gemfireCache) {
+
+		return isTimingWheelExpirationEnabled()
+			&& GemFireUtils.isClient(gemfireCache)
+			&& isLocalDataStorageConfigured(gemfireCache);
+	}
+
+	/**
+	 * Determines whether the cache {@link Region} used to store and manage {@link Session} state
+	 * stores data locally, i.e. is not a proxy on either the client or server.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return a boolean indicating whether the {@link Region} stores {@link Session} state locally.
+	 * @see GemFireUtils#isClient(GemFireCache)
+	 * @see GemFireUtils#isProxy(ClientRegionShortcut)
+	 * @see GemFireUtils#isProxy(RegionShortcut)
+	 */
+	boolean isLocalDataStorageConfigured(GemFireCache gemfireCache) {
 
 		return !(GemFireUtils.isClient(gemfireCache)
 			? GemFireUtils.isProxy(getClientRegionShortcut())
@@ -1154,11 +2451,139 @@ public class GemFireHttpSessionConfiguration extends AbstractGemFireHttpSessionC
 
 		sessionRepository.setIsDirtyPredicate(getIsDirtyPredicate());
 		sessionRepository.setMaxInactiveIntervalInSeconds(getMaxInactiveIntervalInSeconds());
+		sessionRepository.setOptimisticConcurrencyEnabled(isOptimisticConcurrencyEnabled());
+		sessionRepository.setPrincipalNameResolver(getPrincipalNameResolver());
+		sessionRepository.setPrincipalRoutingEnabled(isPrincipalRoutingEnabled());
+		sessionRepository.setSaveEmptyNewSessions(isSaveEmptyNewSessions());
+		sessionRepository.setSessionTieringEnabled(getDemotionIdleTimeoutSeconds() > 0);
 		sessionRepository.setUseDataSerialization(isUsingDataSerialization());
 
+		if (sessionRepository.isSessionTieringEnabled()) {
+			sessionRepository.setDemotedSessionsFinder(SessionTieringManager.newDemotedSessionsFinder(gemfireOperations,
+				RegionUtils.toRegionPath(getSessionRegionName())));
+		}
+
+		newNegativeLookupCache().ifPresent(sessionRepository::setNegativeLookupCache);
+
 		return sessionRepository;
 	}
 
+	/**
+	 * Defines a bean registering the Apache Geode/Pivotal GemFire {@link org.apache.geode.cache.execute.Function Functions}
+	 * used by Spring Session on peer members of the cluster.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return a {@link SessionFunctionRegistrar} registering the Spring Session
+	 * {@link org.apache.geode.cache.execute.Function Functions}.
+	 * @see org.springframework.session.data.gemfire.function.ConditionalSaveSessionFunction
+	 * @see org.springframework.session.data.gemfire.function.DestroyInvalidatedSessionsFunction
+	 * @see org.springframework.session.data.gemfire.function.ExpireSessionsByCreationTimeFunction
+	 * @see org.springframework.session.data.gemfire.function.FindSessionsByPrincipalNameFunction
+	 * @see org.springframework.session.data.gemfire.function.SessionAttributeOperationFunction
+	 * @see org.springframework.session.data.gemfire.function.SessionFunctionRegistrar
+	 */
+	@Bean
+	public SessionFunctionRegistrar sessionFunctionRegistrar(GemFireCache gemfireCache) {
+		return new SessionFunctionRegistrar(gemfireCache, new ConditionalSaveSessionFunction(),
+			new FindSessionsByPrincipalNameFunction(), new SessionAttributeOperationFunction(),
+			new ExpireSessionsByCreationTimeFunction(), new DestroyInvalidatedSessionsFunction());
+	}
+
+	/**
+	 * Defines a bean demoting idle {@link Session Sessions} from the (hot) {@link Region} to the colocated,
+	 * cold {@link Region} and promoting them back when accessed.
+	 *
+	 * Tiering is only enabled on a peer cache when {@link #getDemotionIdleTimeoutSeconds()} is greater than
+	 * {@literal 0} and the {@link Region} stores {@link Session} state locally.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the {@link SessionTieringManager} managing the {@link Session} tiers.
+	 * @see org.springframework.session.data.gemfire.support.SessionTieringManager
+	 * @see #getDemotionIdleTimeoutSeconds()
+	 */
+	@Bean
+	@DependsOn(DEFAULT_SESSION_REGION_NAME)
+	public SessionTieringManager sessionTieringManager(GemFireCache gemfireCache) {
+
+		SessionTieringManager sessionTieringManager = new SessionTieringManager(gemfireCache, getSessionRegionName(),
+			Duration.ofSeconds(getDemotionIdleTimeoutSeconds()));
+
+		resolveSessionExpirationPolicy().ifPresent(sessionTieringManager::setSessionExpirationPolicy);
+
+		return sessionTieringManager;
+	}
+
+	/**
+	 * Defines a bean periodically destroying the {@link Session} entries invalidated by expiration
+	 * in the {@link Session Sessions} {@link Region}.
+	 *
+	 * Reaping is only enabled when {@link #getInvalidatedSessionReapIntervalSeconds()} is greater than
+	 * {@literal 0} and the {@link Region} is hosted by this peer or, on a client, backed by a {@literal Pool}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the {@link InvalidatedSessionReaper} destroying invalidated {@link Session} entries.
+	 * @see org.springframework.session.data.gemfire.expiration.support.InvalidatedSessionReaper
+	 * @see #getInvalidatedSessionReapIntervalSeconds()
+	 * @see #getInvalidatedSessionReapBatchSize()
+	 */
+	@Bean
+	@DependsOn(DEFAULT_SESSION_REGION_NAME)
+	public InvalidatedSessionReaper invalidatedSessionReaper(GemFireCache gemfireCache) {
+
+		InvalidatedSessionReaper invalidatedSessionReaper =
+			new InvalidatedSessionReaper(gemfireCache, getSessionRegionName());
+
+		invalidatedSessionReaper.setBatchSize(getInvalidatedSessionReapBatchSize());
+		invalidatedSessionReaper.setEnabled(getInvalidatedSessionReapIntervalSeconds() > 0);
+		invalidatedSessionReaper.setReapInterval(Duration.ofSeconds(getInvalidatedSessionReapIntervalSeconds()));
+
+		return invalidatedSessionReaper;
+	}
+
+	/**
+	 * Defines a bean expiring client {@link Session Sessions} stored locally using a hierarchical timing wheel.
+	 *
+	 * The timing wheel is only enabled on a client cache when {@link #isTimingWheelExpirationEnabled()}
+	 * is {@literal true} and the {@link Region} stores {@link Session} state locally, in which case
+	 * {@link Region} entry idle timeout expiration is not configured.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @return the {@link TimingWheelSessionExpirer} expiring client {@link Session Sessions}.
+	 * @see org.springframework.session.data.gemfire.expiration.support.TimingWheelSessionExpirer
+	 * @see #isTimingWheelExpirationConfigured(GemFireCache)
+	 */
+	@Bean
+	@DependsOn(DEFAULT_SESSION_REGION_NAME)
+	public TimingWheelSessionExpirer timingWheelSessionExpirer(GemFireCache gemfireCache) {
+
+		TimingWheelSessionExpirer timingWheelSessionExpirer =
+			new TimingWheelSessionExpirer(gemfireCache, getSessionRegionName());
+
+		timingWheelSessionExpirer.setEnabled(isTimingWheelExpirationConfigured(gemfireCache));
+
+		resolveSessionExpirationPolicy().ifPresent(timingWheelSessionExpirer::setSessionExpirationPolicy);
+
+		return timingWheelSessionExpirer;
+	}
+
+	/**
+	 * Constructs a new {@link NegativeLookupCache} if the negative lookup cache is enabled.
+	 *
+	 * @return an {@link Optional} {@link NegativeLookupCache} if the negative lookup cache is enabled.
+	 * @see org.springframework.session.data.gemfire.support.NegativeLookupCache
+	 * @see #getNegativeLookupCacheTimeToLiveInSeconds()
+	 * @see #getNegativeLookupCacheMaximumSize()
+	 */
+	Optional<NegativeLookupCache> newNegativeLookupCache() {
+
+		int timeToLiveInSeconds = getNegativeLookupCacheTimeToLiveInSeconds();
+
+		return timeToLiveInSeconds > 0
+			? Optional.of(new NegativeLookupCache(Duration.ofSeconds(timeToLiveInSeconds),
+				getNegativeLookupCacheMaximumSize()))
+			: Optional.empty();
+	}
+
 	/**
 	 * Defines a Pivotal GemFire Index bean on the Pivotal GemFire cache {@link Region} storing and managing Sessions,
 	 * specifically on the 'principalName' property for quick lookup of Sessions by 'principalName'.
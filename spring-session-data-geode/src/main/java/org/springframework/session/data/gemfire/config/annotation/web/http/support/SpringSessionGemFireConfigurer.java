@@ -25,11 +25,14 @@ import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientRegionShortcut;
 import org.apache.geode.cache.client.Pool;
+import org.apache.geode.compression.Compressor;
 
+import org.springframework.data.gemfire.eviction.EvictionPolicyType;
 import org.springframework.session.Session;
 import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
 import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
 import org.springframework.session.data.gemfire.serialization.SessionSerializer;
+import org.springframework.session.data.gemfire.serialization.data.support.CompressionCodec;
 
 /**
  * The {@link SpringSessionGemFireConfigurer} interface defines a contract for programmatically controlling
@@ -43,6 +46,8 @@ import org.springframework.session.data.gemfire.serialization.SessionSerializer;
  * @see org.apache.geode.cache.client.ClientCache
  * @see org.apache.geode.cache.client.ClientRegionShortcut
  * @see org.apache.geode.cache.client.Pool
+ * @see org.apache.geode.compression.Compressor
+ * @see org.springframework.data.gemfire.eviction.EvictionPolicyType
  * @see org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession
  * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration
  * @see org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy
@@ -52,6 +57,47 @@ import org.springframework.session.data.gemfire.serialization.SessionSerializer;
 @SuppressWarnings("unused")
 public interface SpringSessionGemFireConfigurer {
 
+	/**
+	 * Defines the size, in bytes, of a serialized {@link Session} attribute value above which the value
+	 * is written in chunks.
+	 *
+	 * Defaults to {@literal 262144} bytes ({@literal 256 KB}).
+	 *
+	 * @return an integer value defining the size, in bytes, of a serialized {@link Session} attribute value
+	 * above which the value is written in chunks.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_ATTRIBUTE_CHUNKING_THRESHOLD
+	 */
+	default int getAttributeChunkingThreshold() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_ATTRIBUTE_CHUNKING_THRESHOLD;
+	}
+
+	/**
+	 * Defines the name of the bean referring to the {@link CompressionCodec} used to compress serialized
+	 * {@link Session} attribute values.
+	 *
+	 * Defaults to unset, which disables compression of {@link Session} attribute values.
+	 *
+	 * @return a {@link String} containing the bean name of the configured {@link CompressionCodec}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_ATTRIBUTE_COMPRESSION_CODEC_BEAN_NAME
+	 * @see org.springframework.session.data.gemfire.serialization.data.support.CompressionCodec
+	 */
+	default String getAttributeCompressionCodecBeanName() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_ATTRIBUTE_COMPRESSION_CODEC_BEAN_NAME;
+	}
+
+	/**
+	 * Defines the minimum size, in bytes, of a serialized {@link Session} attribute value to be compressed.
+	 *
+	 * Defaults to {@literal 4096} bytes.
+	 *
+	 * @return an integer value defining the minimum size, in bytes, of a serialized {@link Session} attribute value
+	 * to be compressed.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_ATTRIBUTE_COMPRESSION_THRESHOLD
+	 */
+	default int getAttributeCompressionThreshold() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_ATTRIBUTE_COMPRESSION_THRESHOLD;
+	}
+
 	/**
 	 * Defines the {@link ClientCache} {@link Region} data management policy.
 	 *
@@ -66,6 +112,89 @@ public interface SpringSessionGemFireConfigurer {
 		return GemFireHttpSessionConfiguration.DEFAULT_CLIENT_REGION_SHORTCUT;
 	}
 
+	/**
+	 * Defines the name of the bean referring to the {@link Compressor} used to compress {@link Session} state
+	 * stored in the (client)cache {@link Region}.
+	 *
+	 * The {@link Object bean} referred to by its {@link String name} must be of type {@link Compressor}.
+	 *
+	 * Defaults to unset.
+	 *
+	 * @return a {@link String} containing the bean name of the configured {@link Compressor}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_COMPRESSOR_BEAN_NAME
+	 * @see org.apache.geode.compression.Compressor
+	 */
+	default String getCompressorBeanName() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_COMPRESSOR_BEAN_NAME;
+	}
+
+	/**
+	 * Defines the length of time in seconds that a {@link Session} must remain idle before it is demoted
+	 * to the cold {@link Region}.
+	 *
+	 * Defaults to {@literal 0} (disabled).
+	 *
+	 * @return an integer value defining the length of time in seconds that a {@link Session} must remain idle
+	 * before it is demoted.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_DEMOTION_IDLE_TIMEOUT_SECONDS
+	 */
+	default int getDemotionIdleTimeoutSeconds() {
+		return GemFireHttpSessionConfiguration.DEFAULT_DEMOTION_IDLE_TIMEOUT_SECONDS;
+	}
+
+	/**
+	 * Defines the name of the {@literal DiskStore} to which the (client)cache {@link Region} overflows
+	 * {@link Session} state when eviction is configured.
+	 *
+	 * Defaults to unset, using the {@literal DEFAULT} {@literal DiskStore}.
+	 *
+	 * @return a {@link String} containing the name of the {@literal DiskStore} used by the {@link Region}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_DISK_STORE_NAME
+	 */
+	default String getDiskStoreName() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_DISK_STORE_NAME;
+	}
+
+	/**
+	 * Determines whether writes of {@link Session} state to the {@literal DiskStore} are synchronous.
+	 *
+	 * Defaults to {@literal true}.
+	 *
+	 * @return a boolean value indicating whether disk writes are synchronous.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_DISK_SYNCHRONOUS
+	 */
+	default boolean getDiskSynchronous() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_DISK_SYNCHRONOUS;
+	}
+
+	/**
+	 * Defines the threshold at which the (client)cache {@link Region} begins to overflow the least recently used
+	 * {@link Session Sessions} to disk.
+	 *
+	 * Defaults to {@literal 0}, using the Apache Geode default for the {@link #getEvictionPolicyType()}.
+	 * Ignored for {@link EvictionPolicyType#HEAP_PERCENTAGE}, which uses the cache-wide eviction heap percentage.
+	 *
+	 * @return an integer value specifying the eviction threshold.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_EVICTION_MAXIMUM
+	 */
+	default int getEvictionMaximum() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_EVICTION_MAXIMUM;
+	}
+
+	/**
+	 * Defines the Least Recently Used (LRU) {@link EvictionPolicyType eviction policy} of the (client)cache
+	 * {@link Region} used to store {@link Session} state.
+	 *
+	 * Defaults to {@link EvictionPolicyType#NONE}.
+	 *
+	 * @return the {@link EvictionPolicyType} of the {@link Region}.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_EVICTION_POLICY_TYPE
+	 * @see org.springframework.data.gemfire.eviction.EvictionPolicyType
+	 */
+	default EvictionPolicyType getEvictionPolicyType() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_EVICTION_POLICY_TYPE;
+	}
+
 	/**
 	 * Determines whether the configuration for Spring Session using Apache Geode or Pivotal GemFire should be exposed
 	 * in the Spring {@link org.springframework.core.env.Environment} as {@link Properties}.
@@ -110,6 +239,31 @@ public interface SpringSessionGemFireConfigurer {
 		return GemFireHttpSessionConfiguration.DEFAULT_INDEXABLE_SESSION_ATTRIBUTES;
 	}
 
+	/**
+	 * Defines the maximum number of invalidated {@link Session} entries destroyed by a single reap on each member.
+	 *
+	 * Defaults to {@literal 10000}.
+	 *
+	 * @return an integer value defining the maximum number of invalidated {@link Session} entries destroyed
+	 * by a single reap on each member.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_INVALIDATED_SESSION_REAP_BATCH_SIZE
+	 */
+	default int getInvalidatedSessionReapBatchSize() {
+		return GemFireHttpSessionConfiguration.DEFAULT_INVALIDATED_SESSION_REAP_BATCH_SIZE;
+	}
+
+	/**
+	 * Defines the interval in seconds between reaps of invalidated {@link Session} entries.
+	 *
+	 * Defaults to {@literal 0} (disabled).
+	 *
+	 * @return an integer value defining the interval in seconds between reaps of invalidated {@link Session} entries.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_INVALIDATED_SESSION_REAP_INTERVAL_SECONDS
+	 */
+	default int getInvalidatedSessionReapIntervalSeconds() {
+		return GemFireHttpSessionConfiguration.DEFAULT_INVALIDATED_SESSION_REAP_INTERVAL_SECONDS;
+	}
+
 	/**
 	 * Defines the maximum interval in seconds that a {@link Session} can remain inactive before it expires.
 	 *
@@ -122,6 +276,59 @@ public interface SpringSessionGemFireConfigurer {
 		return GemFireHttpSessionConfiguration.DEFAULT_MAX_INACTIVE_INTERVAL_IN_SECONDS;
 	}
 
+	/**
+	 * Defines the maximum number of unknown {@link Session} IDs remembered by the negative lookup cache.
+	 *
+	 * Defaults to {@literal 10000}.
+	 *
+	 * @return an integer value defining the maximum number of unknown {@link Session} IDs remembered
+	 * by the negative lookup cache.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_NEGATIVE_LOOKUP_CACHE_MAXIMUM_SIZE
+	 */
+	default int getNegativeLookupCacheMaximumSize() {
+		return GemFireHttpSessionConfiguration.DEFAULT_NEGATIVE_LOOKUP_CACHE_MAXIMUM_SIZE;
+	}
+
+	/**
+	 * Defines the length of time in seconds that a lookup for an unknown {@link Session} ID is remembered
+	 * by the negative lookup cache.
+	 *
+	 * A value of {@literal 0} or less disables the negative lookup cache.
+	 *
+	 * Defaults to {@literal 2} seconds.
+	 *
+	 * @return an integer value defining the length of time in seconds that a lookup for an unknown {@link Session}
+	 * is remembered.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_NEGATIVE_LOOKUP_CACHE_TIME_TO_LIVE_IN_SECONDS
+	 */
+	default int getNegativeLookupCacheTimeToLiveInSeconds() {
+		return GemFireHttpSessionConfiguration.DEFAULT_NEGATIVE_LOOKUP_CACHE_TIME_TO_LIVE_IN_SECONDS;
+	}
+
+	/**
+	 * Determines whether {@link Session} state is stored in off-heap memory by the (client)cache {@link Region}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session} state is stored in off-heap memory.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SESSION_REGION_OFF_HEAP
+	 */
+	default boolean getOffHeap() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_OFF_HEAP;
+	}
+
+	/**
+	 * Determines whether {@link Session Sessions} are saved conditionally using optimistic concurrency control.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are saved conditionally.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_OPTIMISTIC_CONCURRENCY_ENABLED
+	 */
+	default boolean getOptimisticConcurrencyEnabled() {
+		return GemFireHttpSessionConfiguration.DEFAULT_OPTIMISTIC_CONCURRENCY_ENABLED;
+	}
+
 	/**
 	 * Specifies the name of the specific {@link Pool} used by the {@link ClientCache} {@link Region}
 	 * (i.e. {@literal ClusteredSpringSessions}) when performing cache data access operations.
@@ -139,6 +346,20 @@ public interface SpringSessionGemFireConfigurer {
 		return GemFireHttpSessionConfiguration.DEFAULT_POOL_NAME;
 	}
 
+	/**
+	 * Determines whether {@link Session Sessions} are routed by principal, colocating all {@link Session Sessions}
+	 * of the same principal in a single bucket of the partitioned {@link Session Sessions} cache
+	 * {@link org.apache.geode.cache.Region}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are routed by principal.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_PRINCIPAL_ROUTING_ENABLED
+	 */
+	default boolean getPrincipalRoutingEnabled() {
+		return GemFireHttpSessionConfiguration.DEFAULT_PRINCIPAL_ROUTING_ENABLED;
+	}
+
 	/**
 	 * Defines the {@link String name} of the (client)cache {@link Region} used to store {@link Session} state.
 	 *
@@ -153,6 +374,18 @@ public interface SpringSessionGemFireConfigurer {
 		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_NAME;
 	}
 
+	/**
+	 * Determines whether new {@link Session Sessions} that were never modified and have no attributes are saved.
+	 *
+	 * Defaults to {@literal true}.
+	 *
+	 * @return a boolean value indicating whether new, empty {@link Session Sessions} are saved.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_SAVE_EMPTY_NEW_SESSIONS
+	 */
+	default boolean getSaveEmptyNewSessions() {
+		return GemFireHttpSessionConfiguration.DEFAULT_SAVE_EMPTY_NEW_SESSIONS;
+	}
+
 	/**
 	 * Defines the {@link Cache} {@link Region} data management policy.
 	 *
@@ -199,4 +432,19 @@ public interface SpringSessionGemFireConfigurer {
 	default String getSessionSerializerBeanName() {
 		return GemFireHttpSessionConfiguration.DEFAULT_SESSION_SERIALIZER_BEAN_NAME;
 	}
+
+	/**
+	 * Determines whether {@link Session Sessions} stored locally in a client {@literal LOCAL}
+	 * or {@literal CACHING_PROXY} {@link Region} are expired by a hierarchical timing wheel
+	 * rather than by {@link Region} entry idle timeout expiration.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @return a boolean value indicating whether client {@link Session Sessions} stored locally
+	 * are expired by a timing wheel.
+	 * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration#DEFAULT_TIMING_WHEEL_EXPIRATION_ENABLED
+	 */
+	default boolean getTimingWheelExpirationEnabled() {
+		return GemFireHttpSessionConfiguration.DEFAULT_TIMING_WHEEL_EXPIRATION_ENABLED;
+	}
 }
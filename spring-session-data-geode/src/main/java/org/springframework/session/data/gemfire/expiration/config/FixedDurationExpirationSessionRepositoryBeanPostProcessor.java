@@ -17,13 +17,26 @@
 package org.springframework.session.data.gemfire.expiration.config;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.gemfire.GemfireAccessor;
+import org.springframework.data.gemfire.GemfireOperations;
+import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository;
 import org.springframework.session.data.gemfire.expiration.repository.FixedDurationExpirationSessionRepository;
+import org.springframework.session.data.gemfire.expiration.support.FixedDurationExpirationSessionSweeper;
 
 /**
  * The {@link FixedDurationExpirationSessionRepositoryBeanPostProcessor} class wraps an existing, data store specific,
@@ -31,19 +44,27 @@ import org.springframework.session.data.gemfire.expiration.repository.FixedDurat
  * with a provided {@link Duration} for the expiration timeout to implement lazy, fixed {@link Duration} expiration
  * on all {@link Session Sessions}.
  *
+ * When the wrapped {@link SessionRepository} stores {@link Session Sessions} in Apache Geode or Pivotal GemFire,
+ * a {@link FixedDurationExpirationSessionSweeper} configured with the same {@link Duration} is also started
+ * to eagerly remove the {@link Session Sessions} that are never accessed again.
+ *
  * @author John Blum
+ * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.beans.factory.config.BeanPostProcessor
  * @see org.springframework.session.Session
  * @see org.springframework.session.SessionRepository
  * @see org.springframework.session.data.gemfire.expiration.repository.FixedDurationExpirationSessionRepository
+ * @see org.springframework.session.data.gemfire.expiration.support.FixedDurationExpirationSessionSweeper
  * @see <a href="https://github.com/spring-projects/spring-session/issues/922">Absolute Session Timeouts</a>
  * @since 2.1.0
  */
 @SuppressWarnings("unused")
-public class FixedDurationExpirationSessionRepositoryBeanPostProcessor implements BeanPostProcessor {
+public class FixedDurationExpirationSessionRepositoryBeanPostProcessor implements BeanPostProcessor, DisposableBean {
 
 	private final Duration expirationTimeout;
 
+	private final List<FixedDurationExpirationSessionSweeper> sessionSweepers = new CopyOnWriteArrayList<>();
+
 	/**
 	 * Constructs a new instance of {@link FixedDurationExpirationSessionRepositoryBeanPostProcessor} initialized with
 	 * the given {@link Duration} to implement lazy, fixed {@link Duration} expiration policy
@@ -66,11 +87,72 @@ public class FixedDurationExpirationSessionRepositoryBeanPostProcessor implement
 		return this.expirationTimeout;
 	}
 
+	/**
+	 * Returns the {@link FixedDurationExpirationSessionSweeper FixedDurationExpirationSessionSweepers} started
+	 * for the processed {@link SessionRepository SessionRepositories}.
+	 *
+	 * @return an unmodifiable {@link List} of the started
+	 * {@link FixedDurationExpirationSessionSweeper FixedDurationExpirationSessionSweepers}.
+	 * @see org.springframework.session.data.gemfire.expiration.support.FixedDurationExpirationSessionSweeper
+	 */
+	public List<FixedDurationExpirationSessionSweeper> getSessionSweepers() {
+		return Collections.unmodifiableList(this.sessionSweepers);
+	}
+
 	@Nullable @Override @SuppressWarnings("unchecked")
 	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
 
-		return bean instanceof SessionRepository
-			? new FixedDurationExpirationSessionRepository<>((SessionRepository) bean, getExpirationTimeout())
-			: bean;
+		if (bean instanceof SessionRepository) {
+
+			newSessionSweeper((SessionRepository<?>) bean).ifPresent(sessionSweeper -> {
+				sessionSweeper.afterPropertiesSet();
+				this.sessionSweepers.add(sessionSweeper);
+			});
+
+			return new FixedDurationExpirationSessionRepository<>((SessionRepository) bean, getExpirationTimeout());
+		}
+
+		return bean;
+	}
+
+	/**
+	 * Constructs a new {@link FixedDurationExpirationSessionSweeper} for the {@link Session Sessions}
+	 * {@link Region} of the given {@link SessionRepository} if the {@link SessionRepository} stores
+	 * {@link Session Sessions} in Apache Geode or Pivotal GemFire and the {@link #getExpirationTimeout()
+	 * expiration timeout} is positive.
+	 *
+	 * @param sessionRepository {@link SessionRepository} to evaluate.
+	 * @return an {@link Optional} {@link FixedDurationExpirationSessionSweeper} for the {@link Session Sessions}
+	 * {@link Region} of the given {@link SessionRepository}.
+	 * @see org.springframework.session.data.gemfire.expiration.support.FixedDurationExpirationSessionSweeper
+	 */
+	protected Optional<FixedDurationExpirationSessionSweeper> newSessionSweeper(
+			@NonNull SessionRepository<?> sessionRepository) {
+
+		Duration expirationTimeout = getExpirationTimeout();
+
+		if (expirationTimeout != null && expirationTimeout.toMillis() > 0L
+				&& sessionRepository instanceof AbstractGemFireOperationsSessionRepository) {
+
+			GemfireOperations sessionsTemplate =
+				((AbstractGemFireOperationsSessionRepository) sessionRepository).getSessionsTemplate();
+
+			Region<Object, Object> sessions = sessionsTemplate instanceof GemfireAccessor
+				? ((GemfireAccessor) sessionsTemplate).getRegion()
+				: null;
+
+			if (sessions != null && sessions.getRegionService() instanceof GemFireCache) {
+
+				return Optional.of(new FixedDurationExpirationSessionSweeper(
+					(GemFireCache) sessions.getRegionService(), sessions.getFullPath(), expirationTimeout));
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	@Override
+	public void destroy() {
+		this.sessionSweepers.forEach(FixedDurationExpirationSessionSweeper::destroy);
 	}
 }
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.FunctionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.function.ExpireSessionsByCreationTimeFunction;
+import org.springframework.session.data.gemfire.support.GemFireUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link FixedDurationExpirationSessionSweeper} class periodically removes all {@link Session Sessions}
+ * created more than a fixed {@link Duration} ago from the {@link Session Sessions} {@link Region}
+ * by executing the {@link ExpireSessionsByCreationTimeFunction} on the servers (or peers) hosting
+ * the {@link Region}.
+ *
+ * The {@link org.springframework.session.data.gemfire.expiration.repository.FixedDurationExpirationSessionRepository}
+ * only expires a {@link Session} lazily, when the {@link Session} is read, at the cost of an additional round trip
+ * to delete the {@link Session}.  {@link Session Sessions} that are never read again remain stored until
+ * the {@link Session Sessions} are expired by idle timeout expiration.  This sweeper, configured with
+ * the same fixed {@link Duration}, removes those {@link Session Sessions} eagerly, in batches, on each member,
+ * using an Index on the {@link Session} creation time.
+ *
+ * The number of {@link Session Sessions} reaped by the last sweep and in total are recorded.
+ *
+ * @author John Blum
+ * @see java.time.Duration
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.FunctionService
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.expiration.repository.FixedDurationExpirationSessionRepository
+ * @see org.springframework.session.data.gemfire.function.ExpireSessionsByCreationTimeFunction
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class FixedDurationExpirationSessionSweeper implements InitializingBean, DisposableBean {
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	public static final Duration DEFAULT_SWEEP_INTERVAL = Duration.ofMinutes(1L);
+
+	protected static final String SWEEPER_THREAD_NAME = "spring-session-fixed-duration-sweeper";
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private final AtomicLong lastReapedCount = new AtomicLong(0L);
+	private final AtomicLong reapedCount = new AtomicLong(0L);
+	private final AtomicLong sweepCount = new AtomicLong(0L);
+
+	private Duration sweepInterval = DEFAULT_SWEEP_INTERVAL;
+
+	private final Duration expirationTimeout;
+
+	private final GemFireCache gemfireCache;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private volatile ScheduledExecutorService sweeperExecutor;
+
+	private final String sessionRegionName;
+
+	/**
+	 * Constructs a new instance of {@link FixedDurationExpirationSessionSweeper} initialized with the given
+	 * {@link GemFireCache}, name of the {@link Session Sessions} {@link Region} and fixed {@link Duration}
+	 * after which {@link Session Sessions} expire.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @param sessionRegionName {@link String} containing the name of the {@link Session Sessions} {@link Region}.
+	 * @param expirationTimeout {@link Duration} after the creation time of a {@link Session}
+	 * at which the {@link Session} expires.
+	 * @throws IllegalArgumentException if the {@link GemFireCache} is {@literal null}, the {@link Region} name
+	 * is not specified or the expiration timeout is not positive.
+	 */
+	public FixedDurationExpirationSessionSweeper(@NonNull GemFireCache gemfireCache, @NonNull String sessionRegionName,
+			@NonNull Duration expirationTimeout) {
+
+		Assert.notNull(gemfireCache, "GemFireCache is required");
+		Assert.hasText(sessionRegionName, "Session Region name is required");
+		Assert.isTrue(expirationTimeout != null && expirationTimeout.toMillis() > 0L,
+			() -> String.format("Expiration timeout [%s] must be greater than 0", expirationTimeout));
+
+		this.gemfireCache = gemfireCache;
+		this.sessionRegionName = sessionRegionName;
+		this.expirationTimeout = expirationTimeout;
+	}
+
+	/**
+	 * Configures the maximum number of {@link Session Sessions} removed in a single batch on each member.
+	 *
+	 * @param batchSize maximum number of {@link Session Sessions} removed in a single batch;
+	 * values less than {@literal 1} reset the batch size to the {@link #DEFAULT_BATCH_SIZE default}.
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+	}
+
+	/**
+	 * Returns the maximum number of {@link Session Sessions} removed in a single batch on each member.
+	 *
+	 * @return the maximum number of {@link Session Sessions} removed in a single batch on each member.
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Returns the fixed {@link Duration} after the creation time of a {@link Session} at which
+	 * the {@link Session} expires.
+	 *
+	 * @return the fixed {@link Duration} after which a {@link Session} expires.
+	 */
+	public Duration getExpirationTimeout() {
+		return this.expirationTimeout;
+	}
+
+	/**
+	 * Returns the number of {@link Session Sessions} reaped by the last sweep.
+	 *
+	 * @return the number of {@link Session Sessions} reaped by the last sweep.
+	 */
+	public long getLastReapedCount() {
+		return this.lastReapedCount.get();
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Returns the total number of {@link Session Sessions} reaped by all sweeps.
+	 *
+	 * @return the total number of {@link Session Sessions} reaped by all sweeps.
+	 */
+	public long getReapedCount() {
+		return this.reapedCount.get();
+	}
+
+	/**
+	 * Returns the {@link Session Sessions} {@link Region}.
+	 *
+	 * @return the {@link Session Sessions} {@link Region}, or {@literal null} if the {@link Region} does not exist.
+	 */
+	public @Nullable Region<Object, Object> getSessionRegion() {
+		return this.gemfireCache.getRegion(this.sessionRegionName);
+	}
+
+	/**
+	 * Returns the number of completed sweeps.
+	 *
+	 * @return the number of completed sweeps.
+	 */
+	public long getSweepCount() {
+		return this.sweepCount.get();
+	}
+
+	/**
+	 * Configures the {@link Duration} between sweeps.
+	 *
+	 * @param sweepInterval {@link Duration} between sweeps; {@literal null}, or less than {@literal 1 millisecond},
+	 * resets the interval to the {@link #DEFAULT_SWEEP_INTERVAL default}.
+	 */
+	public void setSweepInterval(@Nullable Duration sweepInterval) {
+		this.sweepInterval = sweepInterval != null && sweepInterval.toMillis() > 0L
+			? sweepInterval
+			: DEFAULT_SWEEP_INTERVAL;
+	}
+
+	/**
+	 * Returns the {@link Duration} between sweeps.
+	 *
+	 * @return the {@link Duration} between sweeps.
+	 */
+	public Duration getSweepInterval() {
+		return this.sweepInterval;
+	}
+
+	/**
+	 * Determines whether {@link Session Sessions} can be swept, i.e. the {@link Session Sessions} {@link Region}
+	 * exists and is either hosted by this peer member or, on a client, is backed by a {@literal Pool}
+	 * connected to the servers hosting the {@link Region}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} can be swept.
+	 */
+	public boolean isEnabled() {
+
+		Region<Object, Object> sessionRegion = getSessionRegion();
+
+		return sessionRegion != null
+			&& (GemFireUtils.isPeer(this.gemfireCache)
+				|| StringUtils.hasText(sessionRegion.getAttributes().getPoolName()));
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+
+		long sweepIntervalInMillis = getSweepInterval().toMillis();
+
+		this.sweeperExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+			Thread thread = new Thread(runnable, SWEEPER_THREAD_NAME);
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		this.sweeperExecutor.scheduleWithFixedDelay(this::runSweep,
+			sweepIntervalInMillis, sweepIntervalInMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void destroy() {
+
+		ScheduledExecutorService sweeperExecutor = this.sweeperExecutor;
+
+		if (sweeperExecutor != null) {
+			sweeperExecutor.shutdownNow();
+		}
+	}
+
+	private void runSweep() {
+
+		try {
+			sweep();
+		}
+		catch (RuntimeException cause) {
+			getLogger().warn("Failed to sweep Sessions", cause);
+		}
+	}
+
+	/**
+	 * Removes all {@link Session Sessions} created more than the {@link #getExpirationTimeout() expiration timeout}
+	 * ago by executing the {@link ExpireSessionsByCreationTimeFunction} on the {@link Session Sessions}
+	 * {@link Region}.
+	 *
+	 * @return the number of {@link Session Sessions} reaped by this sweep.
+	 * @see #sweep(long)
+	 */
+	public long sweep() {
+		return sweep(System.currentTimeMillis());
+	}
+
+	/**
+	 * Removes all {@link Session Sessions} expired at the given time.
+	 *
+	 * Nothing is swept unless this sweeper is {@link #isEnabled() enabled}, which is determined on each sweep
+	 * since the {@link Session Sessions} {@link Region} may be created after this sweeper is initialized.
+	 *
+	 * @param now time, in milliseconds since the epoch, at which {@link Session Sessions} are evaluated.
+	 * @return the number of {@link Session Sessions} reaped by this sweep.
+	 */
+	@SuppressWarnings("unchecked")
+	protected long sweep(long now) {
+
+		Region<Object, Object> sessionRegion = getSessionRegion();
+
+		if (!isEnabled() || sessionRegion == null || sessionRegion.isDestroyed()) {
+			return 0L;
+		}
+
+		long createdBefore = now - getExpirationTimeout().toMillis();
+
+		Object results = execute(sessionRegion, createdBefore, getBatchSize());
+
+		long reapedSessionCount = results instanceof List
+			? ((List<Object>) results).stream()
+				.filter(Number.class::isInstance)
+				.mapToLong(result -> ((Number) result).longValue())
+				.sum()
+			: 0L;
+
+		this.lastReapedCount.set(reapedSessionCount);
+		this.reapedCount.addAndGet(reapedSessionCount);
+		this.sweepCount.incrementAndGet();
+
+		getLogger().debug("Reaped [{}] Sessions created before [{}] from Region [{}]",
+			reapedSessionCount, createdBefore, this.sessionRegionName);
+
+		return reapedSessionCount;
+	}
+
+	/**
+	 * Executes the {@link ExpireSessionsByCreationTimeFunction} on the {@link Session Sessions} {@link Region}.
+	 *
+	 * @param sessionRegion {@link Session Sessions} {@link Region}.
+	 * @param createdBefore time, in milliseconds since the epoch, before which {@link Session Sessions} expire.
+	 * @param batchSize maximum number of {@link Session Sessions} removed in a single batch on each member.
+	 * @return the {@link Object results} of the {@link ExpireSessionsByCreationTimeFunction} from all members.
+	 * @see org.apache.geode.cache.execute.FunctionService#onRegion(Region)
+	 */
+	@SuppressWarnings("unchecked")
+	protected Object execute(Region<Object, Object> sessionRegion, long createdBefore, int batchSize) {
+
+		return FunctionService.onRegion(sessionRegion)
+			.setArguments(new Object[] { createdBefore, batchSize })
+			.execute(ExpireSessionsByCreationTimeFunction.ID)
+			.getResult();
+	}
+}
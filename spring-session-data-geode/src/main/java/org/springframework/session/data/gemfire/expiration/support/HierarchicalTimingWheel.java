@@ -0,0 +1,363 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link HierarchicalTimingWheel} class is a hierarchical timing wheel scheduling keys for expiration
+ * at a deadline, with constant time schedule, reschedule and cancel operations regardless of the number
+ * of scheduled keys.
+ *
+ * Time is divided into ticks.  The wheel consists of levels of {@literal 64} slots each, where a slot of the first
+ * level spans a single tick and a slot of each following level spans all the slots of the previous level.  A key
+ * is placed in the lowest level able to hold its deadline.  When the first level completes a revolution, the keys
+ * in the next slot of the following level are cascaded down to the lower levels.  Keys are returned by
+ * {@link #advance(long, int)} once the tick containing their deadline has fully elapsed, therefore a key expires
+ * no earlier than its deadline and at most one tick later.
+ *
+ * With the default {@literal 4} levels and a tick of {@literal 1 second}, the wheel spans about {@literal 194 days};
+ * keys with a later deadline are held in the last slot of the highest level until they come within range.
+ *
+ * This class is Thread-safe.
+ *
+ * @author John Blum
+ * @param <K> {@link Class type} of the scheduled keys.
+ * @see <a href="http://www.cs.columbia.edu/~nahum/w6998/papers/ton97-timing-wheels.pdf">Hashed and Hierarchical Timing Wheels</a>
+ * @since 2.1.3
+ */
+public class HierarchicalTimingWheel<K> {
+
+	public static final int DEFAULT_LEVELS = 4;
+
+	protected static final int WHEEL_BITS = 6;
+	protected static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+	protected static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+	private long currentTick;
+
+	private final long tickMillis;
+
+	private final Map<K, Timer<K>> timers = new HashMap<>();
+
+	private final Timer<K>[][] slots;
+
+	/**
+	 * Constructs a new instance of {@link HierarchicalTimingWheel} with the given {@link Duration tick}
+	 * and {@link #DEFAULT_LEVELS default number of levels}, starting at the given time.
+	 *
+	 * @param tick {@link Duration} of a single tick; must be at least {@literal 1 millisecond}.
+	 * @param startTime time, in milliseconds since the epoch, at which the wheel starts.
+	 * @throws IllegalArgumentException if the tick is {@literal null} or less than {@literal 1 millisecond}.
+	 */
+	public HierarchicalTimingWheel(@NonNull Duration tick, long startTime) {
+		this(tick, DEFAULT_LEVELS, startTime);
+	}
+
+	/**
+	 * Constructs a new instance of {@link HierarchicalTimingWheel} with the given {@link Duration tick}
+	 * and number of levels, starting at the given time.
+	 *
+	 * @param tick {@link Duration} of a single tick; must be at least {@literal 1 millisecond}.
+	 * @param levels number of levels; must be between {@literal 1} and {@literal 8}.
+	 * @param startTime time, in milliseconds since the epoch, at which the wheel starts.
+	 * @throws IllegalArgumentException if the tick is {@literal null} or less than {@literal 1 millisecond},
+	 * or the number of levels is out of range.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public HierarchicalTimingWheel(@NonNull Duration tick, int levels, long startTime) {
+
+		Assert.isTrue(tick != null && tick.toMillis() > 0, "Tick must be at least 1 millisecond");
+		Assert.isTrue(levels > 0 && levels <= 8, String.format("Levels [%d] must be between 1 and 8", levels));
+
+		this.tickMillis = tick.toMillis();
+		this.currentTick = Math.max(startTime, 0L) / this.tickMillis;
+		this.slots = new Timer[levels][WHEEL_SIZE];
+	}
+
+	/**
+	 * Returns the {@link Duration} of a single tick.
+	 *
+	 * @return the {@link Duration} of a single tick.
+	 */
+	public Duration getTick() {
+		return Duration.ofMillis(this.tickMillis);
+	}
+
+	/**
+	 * Returns the number of levels of this wheel.
+	 *
+	 * @return the number of levels of this wheel.
+	 */
+	public int getLevels() {
+		return this.slots.length;
+	}
+
+	/**
+	 * Returns the deadline at which the given key is scheduled to expire.
+	 *
+	 * @param key key to evaluate.
+	 * @return the deadline, in milliseconds since the epoch, at which the given key expires,
+	 * or {@literal null} if the key is not scheduled.
+	 */
+	public synchronized @Nullable Long getDeadline(@Nullable K key) {
+
+		Timer<K> timer = key != null ? this.timers.get(key) : null;
+
+		return timer != null ? timer.deadline : null;
+	}
+
+	/**
+	 * Determines whether the given key is scheduled.
+	 *
+	 * @param key key to evaluate.
+	 * @return a boolean value indicating whether the given key is scheduled.
+	 */
+	public synchronized boolean isScheduled(@Nullable K key) {
+		return key != null && this.timers.containsKey(key);
+	}
+
+	/**
+	 * Returns the number of scheduled keys.
+	 *
+	 * @return the number of scheduled keys.
+	 */
+	public synchronized int size() {
+		return this.timers.size();
+	}
+
+	/**
+	 * Schedules the given key to expire at the given deadline, replacing any previous deadline of the key.
+	 *
+	 * A deadline in the past expires the key on the next {@link #advance(long, int) advance}.
+	 *
+	 * @param key key to schedule.
+	 * @param deadline time, in milliseconds since the epoch, at which the key expires.
+	 * @throws IllegalArgumentException if the key is {@literal null}.
+	 */
+	public synchronized void schedule(@NonNull K key, long deadline) {
+
+		Assert.notNull(key, "Key is required");
+
+		Timer<K> timer = this.timers.get(key);
+
+		if (timer != null) {
+			unlink(timer);
+		}
+		else {
+			timer = new Timer<>(key);
+			this.timers.put(key, timer);
+		}
+
+		timer.deadline = deadline;
+
+		link(timer);
+	}
+
+	/**
+	 * Cancels the expiration of the given key.
+	 *
+	 * @param key key to cancel.
+	 * @return a boolean value indicating whether the key was scheduled.
+	 */
+	public synchronized boolean cancel(@Nullable K key) {
+
+		Timer<K> timer = key != null ? this.timers.remove(key) : null;
+
+		if (timer != null) {
+			unlink(timer);
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Cancels the expiration of all keys.
+	 */
+	public synchronized void clear() {
+
+		this.timers.clear();
+
+		for (Timer<K>[] level : this.slots) {
+			for (int index = 0; index < level.length; index++) {
+				level[index] = null;
+			}
+		}
+	}
+
+	/**
+	 * Advances the wheel to the given time, returning at most the given number of keys whose deadline has passed.
+	 *
+	 * Returned keys are no longer scheduled.  If more keys are due than the given maximum, the wheel stops
+	 * advancing at the tick containing the remaining keys, which are returned by the next call.
+	 *
+	 * @param now time, in milliseconds since the epoch, to which the wheel advances.
+	 * @param maximum maximum number of keys to return.
+	 * @return a {@link List} of expired keys.
+	 */
+	public synchronized List<K> advance(long now, int maximum) {
+
+		List<K> expiredKeys = new ArrayList<>(Math.min(Math.max(maximum, 0), this.timers.size()));
+
+		long targetTick = now / this.tickMillis;
+
+		while (this.currentTick < targetTick && expiredKeys.size() < maximum) {
+
+			int index = (int) (this.currentTick & WHEEL_MASK);
+
+			if (index == 0) {
+				cascade();
+			}
+
+			Timer<K> timer = this.slots[0][index];
+
+			while (timer != null && expiredKeys.size() < maximum) {
+
+				Timer<K> next = timer.next;
+
+				unlink(timer);
+
+				if (timer.deadline / this.tickMillis <= this.currentTick) {
+					this.timers.remove(timer.key);
+					expiredKeys.add(timer.key);
+				}
+				else {
+					link(timer);
+				}
+
+				timer = next;
+			}
+
+			if (this.slots[0][index] == null) {
+				this.currentTick++;
+			}
+		}
+
+		return expiredKeys;
+	}
+
+	/**
+	 * Cascades the keys in the current slot of each higher level whose lower levels completed a revolution.
+	 */
+	private void cascade() {
+
+		for (int level = this.slots.length - 1; level > 0; level--) {
+
+			long levelTicks = 1L << (level * WHEEL_BITS);
+
+			if (this.currentTick % levelTicks == 0) {
+
+				int index = (int) ((this.currentTick >>> (level * WHEEL_BITS)) & WHEEL_MASK);
+
+				Timer<K> timer = this.slots[level][index];
+
+				this.slots[level][index] = null;
+
+				while (timer != null) {
+
+					Timer<K> next = timer.next;
+
+					timer.previous = null;
+					timer.next = null;
+
+					link(timer);
+
+					timer = next;
+				}
+			}
+		}
+	}
+
+	private void link(Timer<K> timer) {
+
+		long deadlineTick = Math.max(timer.deadline / this.tickMillis, this.currentTick);
+		long delta = deadlineTick - this.currentTick;
+
+		int level = 0;
+
+		while (level < this.slots.length - 1 && delta >= 1L << ((level + 1) * WHEEL_BITS)) {
+			level++;
+		}
+
+		long maximumDelta = (1L << ((level + 1) * WHEEL_BITS)) - 1L;
+
+		if (delta > maximumDelta) {
+			deadlineTick = this.currentTick + maximumDelta;
+		}
+
+		int index = (int) ((deadlineTick >>> (level * WHEEL_BITS)) & WHEEL_MASK);
+
+		Timer<K> head = this.slots[level][index];
+
+		timer.level = level;
+		timer.index = index;
+		timer.previous = null;
+		timer.next = head;
+
+		if (head != null) {
+			head.previous = timer;
+		}
+
+		this.slots[level][index] = timer;
+	}
+
+	private void unlink(Timer<K> timer) {
+
+		if (timer.previous != null) {
+			timer.previous.next = timer.next;
+		}
+		else if (this.slots[timer.level][timer.index] == timer) {
+			this.slots[timer.level][timer.index] = timer.next;
+		}
+
+		if (timer.next != null) {
+			timer.next.previous = timer.previous;
+		}
+
+		timer.previous = null;
+		timer.next = null;
+	}
+
+	/**
+	 * Node of the doubly-linked list of keys scheduled in a slot.
+	 */
+	private static final class Timer<K> {
+
+		private final K key;
+
+		private int index;
+		private int level;
+
+		private long deadline;
+
+		private Timer<K> next;
+		private Timer<K> previous;
+
+		private Timer(K key) {
+			this.key = key;
+		}
+	}
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.FunctionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.function.DestroyInvalidatedSessionsFunction;
+import org.springframework.session.data.gemfire.support.GemFireUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link InvalidatedSessionReaper} class periodically destroys the entries of {@link Session Sessions}
+ * invalidated by expiration in the {@link Session Sessions} {@link Region} by executing
+ * the {@link DestroyInvalidatedSessionsFunction} on the servers (or peers) hosting the {@link Region}.
+ *
+ * {@link org.apache.geode.cache.ExpirationAction#INVALIDATE}, the default expiration action, removes
+ * the {@link Session} but leaves the key and entry overhead in the {@link Region}.  With high {@link Session} churn,
+ * millions of invalidated entries accumulate, which also slow down {@link Region} scans and queries.  This reaper
+ * destroys the invalidated entries, at most {@link #getBatchSize() batch size} entries on each member,
+ * every {@link #getReapInterval() reap interval}.
+ * The invalidated {@link Session Sessions} have already expired, so no Spring Session events are published when
+ * the entries are destroyed.
+ *
+ * The number of entries destroyed by the last reap and in total, along with the number of completed reaps,
+ * are recorded.
+ *
+ * @author John Blum
+ * @see java.time.Duration
+ * @see org.apache.geode.cache.ExpirationAction#INVALIDATE
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.FunctionService
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.function.DestroyInvalidatedSessionsFunction
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class InvalidatedSessionReaper implements InitializingBean, DisposableBean {
+
+	public static final int DEFAULT_BATCH_SIZE = 10000;
+
+	public static final Duration DEFAULT_REAP_INTERVAL = Duration.ofMinutes(1L);
+
+	protected static final String REAPER_THREAD_NAME = "spring-session-invalidated-session-reaper";
+
+	private boolean enabled = true;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private final AtomicLong lastReapedCount = new AtomicLong(0L);
+	private final AtomicLong reapCount = new AtomicLong(0L);
+	private final AtomicLong reapedCount = new AtomicLong(0L);
+
+	private Duration reapInterval = DEFAULT_REAP_INTERVAL;
+
+	private final GemFireCache gemfireCache;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private volatile ScheduledExecutorService reaperExecutor;
+
+	private final String sessionRegionName;
+
+	/**
+	 * Constructs a new instance of {@link InvalidatedSessionReaper} initialized with the given {@link GemFireCache}
+	 * and name of the {@link Session Sessions} {@link Region}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @param sessionRegionName {@link String} containing the name of the {@link Session Sessions} {@link Region}.
+	 * @throws IllegalArgumentException if the {@link GemFireCache} is {@literal null}
+	 * or the {@link Region} name is not specified.
+	 */
+	public InvalidatedSessionReaper(@NonNull GemFireCache gemfireCache, @NonNull String sessionRegionName) {
+
+		Assert.notNull(gemfireCache, "GemFireCache is required");
+		Assert.hasText(sessionRegionName, "Session Region name is required");
+
+		this.gemfireCache = gemfireCache;
+		this.sessionRegionName = sessionRegionName;
+	}
+
+	/**
+	 * Configures the maximum number of invalidated entries destroyed by a single reap on each member.
+	 *
+	 * @param batchSize maximum number of invalidated entries destroyed by a single reap on each member;
+	 * values less than {@literal 1} reset the batch size to the {@link #DEFAULT_BATCH_SIZE default}.
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+	}
+
+	/**
+	 * Returns the maximum number of invalidated entries destroyed by a single reap on each member.
+	 *
+	 * @return the maximum number of invalidated entries destroyed by a single reap on each member.
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Returns the number of invalidated entries destroyed by the last reap.
+	 *
+	 * @return the number of invalidated entries destroyed by the last reap.
+	 */
+	public long getLastReapedCount() {
+		return this.lastReapedCount.get();
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Returns the number of completed reaps.
+	 *
+	 * @return the number of completed reaps.
+	 */
+	public long getReapCount() {
+		return this.reapCount.get();
+	}
+
+	/**
+	 * Returns the total number of invalidated entries destroyed by all reaps.
+	 *
+	 * @return the total number of invalidated entries destroyed by all reaps.
+	 */
+	public long getReapedCount() {
+		return this.reapedCount.get();
+	}
+
+	/**
+	 * Configures whether invalidated entries are reaped.
+	 *
+	 * @param enabled boolean value indicating whether invalidated entries are reaped.
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Configures the {@link Duration} between reaps.
+	 *
+	 * @param reapInterval {@link Duration} between reaps; {@literal null}, or less than {@literal 1 millisecond},
+	 * resets the interval to the {@link #DEFAULT_REAP_INTERVAL default}.
+	 */
+	public void setReapInterval(@Nullable Duration reapInterval) {
+		this.reapInterval = reapInterval != null && reapInterval.toMillis() > 0L
+			? reapInterval
+			: DEFAULT_REAP_INTERVAL;
+	}
+
+	/**
+	 * Returns the {@link Duration} between reaps.
+	 *
+	 * @return the {@link Duration} between reaps.
+	 */
+	public Duration getReapInterval() {
+		return this.reapInterval;
+	}
+
+	/**
+	 * Returns the {@link Session Sessions} {@link Region}.
+	 *
+	 * @return the {@link Session Sessions} {@link Region}, or {@literal null} if the {@link Region} does not exist.
+	 */
+	public @Nullable Region<Object, Object> getSessionRegion() {
+		return this.gemfireCache.getRegion(this.sessionRegionName);
+	}
+
+	/**
+	 * Determines whether invalidated entries can be reaped, i.e. this reaper is {@link #setEnabled(boolean) enabled}
+	 * and the {@link Session Sessions} {@link Region} exists and is either hosted by this peer member or,
+	 * on a client, is backed by a {@literal Pool} connected to the servers hosting the {@link Region}.
+	 *
+	 * @return a boolean value indicating whether invalidated entries can be reaped.
+	 */
+	public boolean isEnabled() {
+
+		Region<Object, Object> sessionRegion = getSessionRegion();
+
+		return this.enabled
+			&& sessionRegion != null
+			&& (GemFireUtils.isPeer(this.gemfireCache)
+				|| StringUtils.hasText(sessionRegion.getAttributes().getPoolName()));
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+
+		if (this.enabled) {
+
+			long reapIntervalInMillis = getReapInterval().toMillis();
+
+			this.reaperExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+				Thread thread = new Thread(runnable, REAPER_THREAD_NAME);
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+
+			this.reaperExecutor.scheduleWithFixedDelay(this::runReap,
+				reapIntervalInMillis, reapIntervalInMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public void destroy() {
+
+		ScheduledExecutorService reaperExecutor = this.reaperExecutor;
+
+		if (reaperExecutor != null) {
+			reaperExecutor.shutdownNow();
+		}
+	}
+
+	private void runReap() {
+
+		try {
+			reap();
+		}
+		catch (RuntimeException cause) {
+			getLogger().warn("Failed to reap invalidated Sessions", cause);
+		}
+	}
+
+	/**
+	 * Destroys invalidated entries in the {@link Session Sessions} {@link Region} by executing
+	 * the {@link DestroyInvalidatedSessionsFunction} on the {@link Region}.
+	 *
+	 * Nothing is reaped unless this reaper is {@link #isEnabled() enabled}, which is determined on each reap
+	 * since the {@link Session Sessions} {@link Region} may be created after this reaper is initialized.
+	 *
+	 * @return the number of invalidated entries destroyed by this reap.
+	 */
+	@SuppressWarnings("unchecked")
+	public long reap() {
+
+		Region<Object, Object> sessionRegion = getSessionRegion();
+
+		if (!isEnabled() || sessionRegion == null || sessionRegion.isDestroyed()) {
+			return 0L;
+		}
+
+		Object results = execute(sessionRegion, getBatchSize());
+
+		long reapedEntryCount = results instanceof List
+			? ((List<Object>) results).stream()
+				.filter(Number.class::isInstance)
+				.mapToLong(result -> ((Number) result).longValue())
+				.sum()
+			: 0L;
+
+		this.lastReapedCount.set(reapedEntryCount);
+		this.reapedCount.addAndGet(reapedEntryCount);
+		this.reapCount.incrementAndGet();
+
+		getLogger().debug("Reaped [{}] invalidated Sessions from Region [{}]",
+			reapedEntryCount, this.sessionRegionName);
+
+		return reapedEntryCount;
+	}
+
+	/**
+	 * Executes the {@link DestroyInvalidatedSessionsFunction} on the {@link Session Sessions} {@link Region}.
+	 *
+	 * @param sessionRegion {@link Session Sessions} {@link Region}.
+	 * @param batchSize maximum number of invalidated entries destroyed on each member.
+	 * @return the {@link Object results} of the {@link DestroyInvalidatedSessionsFunction} from all members.
+	 * @see org.apache.geode.cache.execute.FunctionService#onRegion(Region)
+	 */
+	@SuppressWarnings("unchecked")
+	protected Object execute(Region<Object, Object> sessionRegion, int batchSize) {
+
+		return FunctionService.onRegion(sessionRegion)
+			.setArguments(new Object[] { batchSize })
+			.execute(DestroyInvalidatedSessionsFunction.ID)
+			.getResult();
+	}
+}
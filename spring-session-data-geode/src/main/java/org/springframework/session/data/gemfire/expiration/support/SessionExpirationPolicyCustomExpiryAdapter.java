@@ -17,7 +17,11 @@
 package org.springframework.session.data.gemfire.expiration.support;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.geode.cache.CustomExpiry;
 import org.apache.geode.cache.ExpirationAction;
@@ -36,6 +40,12 @@ import org.springframework.util.Assert;
  * implementation wrapping and adapting an instance of the {@link SessionExpirationPolicy} strategy interface
  * to plugin to and affect Apache Geode/Pivotal GemFire's expiration behavior.
  *
+ * When the {@link Session} is stored as a {@link PdxInstance}, the {@link SessionExpirationPolicy} is passed
+ * a read-only {@link Session} view reading the {@literal creationTime}, {@literal lastAccessedTime}
+ * and {@literal maxInactiveIntervalInSeconds} fields directly from the {@link PdxInstance}, so the {@link Session},
+ * including its attributes, is not deserialized each time the expiration of the {@link Session} is evaluated.
+ * {@link ExpirationAttributes}, which are immutable, are cached by expiration timeout.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.CustomExpiry
  * @see org.apache.geode.cache.ExpirationAction
@@ -52,6 +62,10 @@ public class SessionExpirationPolicyCustomExpiryAdapter implements CustomExpiry<
 	protected static final SessionExpirationPolicy.ExpirationAction DEFAULT_EXPIRATION_ACTION =
 		SessionExpirationPolicy.ExpirationAction.INVALIDATE;
 
+	protected static final int EXPIRATION_ATTRIBUTES_CACHE_MAXIMUM_SIZE = 4096;
+
+	private final ConcurrentMap<Integer, ExpirationAttributes> expirationAttributesCache = new ConcurrentHashMap<>();
+
 	private final SessionExpirationPolicy sessionExpirationPolicy;
 
 	/**
@@ -87,10 +101,44 @@ public class SessionExpirationPolicyCustomExpiryAdapter implements CustomExpiry<
 		return resolveSession(regionEntry)
 			.flatMap(getSessionExpirationPolicy()::determineExpirationTimeout)
 			.map(expirationTimeout ->
-				newExpirationAttributes(expirationTimeout, getSessionExpirationPolicy().getExpirationAction()))
+				resolveExpirationAttributes(expirationTimeout, getSessionExpirationPolicy().getExpirationAction()))
 			.orElse(null);
 	}
 
+	/**
+	 * Resolves the {@link ExpirationAttributes} for the given {@link Duration expiration timeout}
+	 * and action taken when the {@link Session} expires, returning cached {@link ExpirationAttributes}
+	 * for the same expiration timeout (in seconds) and action when available.
+	 *
+	 * At most {@link #EXPIRATION_ATTRIBUTES_CACHE_MAXIMUM_SIZE} distinct expiration timeouts are cached.
+	 *
+	 * @param expirationTimeout {@link Duration} specifying the expiration timeout.
+	 * @param expirationAction action taken when the {@link Session} expires.
+	 * @return the {@link ExpirationAttributes}.
+	 * @see #newExpirationAttributes(Duration, SessionExpirationPolicy.ExpirationAction)
+	 */
+	@NonNull
+	protected ExpirationAttributes resolveExpirationAttributes(@NonNull Duration expirationTimeout,
+			@Nullable SessionExpirationPolicy.ExpirationAction expirationAction) {
+
+		int expirationTimeoutInSeconds = toExpirationTimeoutInSeconds(expirationTimeout);
+
+		ExpirationAction gemfireExpirationAction = toGemFireExpirationAction(expirationAction);
+
+		ExpirationAttributes expirationAttributes = this.expirationAttributesCache.get(expirationTimeoutInSeconds);
+
+		if (expirationAttributes == null || !gemfireExpirationAction.equals(expirationAttributes.getAction())) {
+
+			expirationAttributes = newExpirationAttributes(expirationTimeoutInSeconds, gemfireExpirationAction);
+
+			if (this.expirationAttributesCache.size() < EXPIRATION_ATTRIBUTES_CACHE_MAXIMUM_SIZE) {
+				this.expirationAttributesCache.put(expirationTimeoutInSeconds, expirationAttributes);
+			}
+		}
+
+		return expirationAttributes;
+	}
+
 	/**
 	 * Constructs a new {@link ExpirationAttributes} initialized with the given {@link Duration expiration timeut}
 	 * and default {@link ExpirationAction#INVALIDATE expirtion action}.
@@ -122,10 +170,8 @@ public class SessionExpirationPolicyCustomExpiryAdapter implements CustomExpiry<
 	protected ExpirationAttributes newExpirationAttributes(@NonNull Duration expirationTimeout,
 			@Nullable SessionExpirationPolicy.ExpirationAction expirationAction) {
 
-		int expirationTimeoutInSeconds =
-			(int) Math.min(Integer.MAX_VALUE, Math.max(expirationTimeout.getSeconds(), 1));
-
-		return newExpirationAttributes(expirationTimeoutInSeconds, toGemFireExpirationAction(expirationAction));
+		return newExpirationAttributes(toExpirationTimeoutInSeconds(expirationTimeout),
+			toGemFireExpirationAction(expirationAction));
 	}
 
 	/**
@@ -145,6 +191,10 @@ public class SessionExpirationPolicyCustomExpiryAdapter implements CustomExpiry<
 		return new ExpirationAttributes(expirationTimeInSeconds, expirationAction);
 	}
 
+	private int toExpirationTimeoutInSeconds(Duration expirationTimeout) {
+		return (int) Math.min(Integer.MAX_VALUE, Math.max(expirationTimeout.getSeconds(), 1));
+	}
+
 	/**
 	 * Resolves an {@link Optional} {@link Session} object from the {@link Region.Entry#getValue() Region Entry Value}.
 	 *
@@ -166,7 +216,8 @@ public class SessionExpirationPolicyCustomExpiryAdapter implements CustomExpiry<
 	 * Resolves an {@link Optional} {@link Session} object from the given {@link Object} value.
 	 *
 	 * The {@link Object} may already be a {@link Session} or may possibly be a {@link PdxInstance}
-	 * if Apache Geode/Pivotal GemFire PDX serialization is enabled.
+	 * if Apache Geode/Pivotal GemFire PDX serialization is enabled, in which case a {@link PdxInstanceSession} view
+	 * is returned if the {@link PdxInstance} has the {@link Session} fields required to evaluate expiration.
 	 *
 	 * @param value {@link Object} to evaluate as a {@link Session}.
 	 * @return an {@link Optional} {@link Session} from the given {@link Object}.
@@ -178,7 +229,7 @@ public class SessionExpirationPolicyCustomExpiryAdapter implements CustomExpiry<
 	private Optional<Session> resolveSession(@Nullable Object value) {
 
 		return Optional.ofNullable(value instanceof Session ? (Session) value
-			: value instanceof PdxInstance ? (Session) ((PdxInstance) value).getObject()
+			: value instanceof PdxInstance ? PdxInstanceSession.from((PdxInstance) value)
 			: null);
 	}
 
@@ -205,4 +256,143 @@ public class SessionExpirationPolicyCustomExpiryAdapter implements CustomExpiry<
 				return ExpirationAction.INVALIDATE;
 		}
 	}
+
+	/**
+	 * The {@link PdxInstanceSession} class is a read-only {@link Session} view of a {@link Session} stored as
+	 * a {@link PdxInstance}, reading the {@link Session} state required to evaluate expiration directly from
+	 * the {@link PdxInstance} fields.
+	 *
+	 * The {@link Session} is only deserialized if the {@link Session} attributes are accessed.
+	 */
+	public static class PdxInstanceSession implements Session {
+
+		protected static final String CREATION_TIME_FIELD_NAME = "creationTime";
+		protected static final String ID_FIELD_NAME = "id";
+		protected static final String LAST_ACCESSED_TIME_FIELD_NAME = "lastAccessedTime";
+		protected static final String MAX_INACTIVE_INTERVAL_IN_SECONDS_FIELD_NAME = "maxInactiveIntervalInSeconds";
+
+		private final PdxInstance pdxInstance;
+
+		private volatile Session session;
+
+		/**
+		 * Returns a {@link Session} for the given {@link PdxInstance}, which is a {@link PdxInstanceSession} view
+		 * if the {@link PdxInstance} has the required {@link Session} fields, or the deserialized {@link Session}
+		 * otherwise.
+		 *
+		 * @param pdxInstance {@link PdxInstance} storing the {@link Session}.
+		 * @return a {@link Session} for the given {@link PdxInstance}, or {@literal null} if the {@link PdxInstance}
+		 * does not deserialize to a {@link Session}.
+		 */
+		@Nullable
+		public static Session from(@NonNull PdxInstance pdxInstance) {
+
+			if (isSession(pdxInstance)) {
+				return new PdxInstanceSession(pdxInstance);
+			}
+
+			Object value = pdxInstance.getObject();
+
+			return value instanceof Session ? (Session) value : null;
+		}
+
+		private static boolean isSession(PdxInstance pdxInstance) {
+
+			return pdxInstance.getField(CREATION_TIME_FIELD_NAME) instanceof Number
+				&& pdxInstance.getField(LAST_ACCESSED_TIME_FIELD_NAME) instanceof Number
+				&& pdxInstance.getField(MAX_INACTIVE_INTERVAL_IN_SECONDS_FIELD_NAME) instanceof Number;
+		}
+
+		/**
+		 * Constructs a new instance of {@link PdxInstanceSession} initialized with the given {@link PdxInstance}.
+		 *
+		 * @param pdxInstance {@link PdxInstance} storing the {@link Session}.
+		 */
+		protected PdxInstanceSession(@NonNull PdxInstance pdxInstance) {
+			this.pdxInstance = pdxInstance;
+		}
+
+		private long getLongField(String fieldName) {
+			return ((Number) this.pdxInstance.getField(fieldName)).longValue();
+		}
+
+		private Session getSession() {
+
+			Session session = this.session;
+
+			if (session == null) {
+				session = (Session) this.pdxInstance.getObject();
+				this.session = session;
+			}
+
+			return session;
+		}
+
+		@Override
+		public String getId() {
+
+			Object id = this.pdxInstance.getField(ID_FIELD_NAME);
+
+			return id instanceof String ? (String) id : getSession().getId();
+		}
+
+		@Override
+		public String changeSessionId() {
+			throw new UnsupportedOperationException(String.format("Session [%s] is read-only", getId()));
+		}
+
+		@Override
+		public <T> T getAttribute(String attributeName) {
+			return getSession().getAttribute(attributeName);
+		}
+
+		@Override
+		public Set<String> getAttributeNames() {
+			return getSession().getAttributeNames();
+		}
+
+		@Override
+		public void setAttribute(String attributeName, Object attributeValue) {
+			throw new UnsupportedOperationException(String.format("Session [%s] is read-only", getId()));
+		}
+
+		@Override
+		public void removeAttribute(String attributeName) {
+			throw new UnsupportedOperationException(String.format("Session [%s] is read-only", getId()));
+		}
+
+		@Override
+		public Instant getCreationTime() {
+			return Instant.ofEpochMilli(getLongField(CREATION_TIME_FIELD_NAME));
+		}
+
+		@Override
+		public void setLastAccessedTime(Instant lastAccessedTime) {
+			throw new UnsupportedOperationException(String.format("Session [%s] is read-only", getId()));
+		}
+
+		@Override
+		public Instant getLastAccessedTime() {
+			return Instant.ofEpochMilli(getLongField(LAST_ACCESSED_TIME_FIELD_NAME));
+		}
+
+		@Override
+		public void setMaxInactiveInterval(Duration maxInactiveInterval) {
+			throw new UnsupportedOperationException(String.format("Session [%s] is read-only", getId()));
+		}
+
+		@Override
+		public Duration getMaxInactiveInterval() {
+			return Duration.ofSeconds(getLongField(MAX_INACTIVE_INTERVAL_IN_SECONDS_FIELD_NAME));
+		}
+
+		@Override
+		public boolean isExpired() {
+
+			Duration maxInactiveInterval = getMaxInactiveInterval();
+
+			return !maxInactiveInterval.isNegative()
+				&& !Instant.now().minus(maxInactiveInterval).isBefore(getLastAccessedTime());
+		}
+	}
 }
@@ -0,0 +1,473 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.expiration.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionDestroyedException;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.apache.geode.pdx.PdxInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+import org.springframework.session.data.gemfire.support.GemFireUtils;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link TimingWheelSessionExpirer} class expires {@link Session Sessions} stored locally in a client
+ * {@link org.apache.geode.cache.client.ClientRegionShortcut#LOCAL} or
+ * {@link org.apache.geode.cache.client.ClientRegionShortcut#CACHING_PROXY} {@link Session Sessions} {@link Region}
+ * using a {@link HierarchicalTimingWheel}, rather than Apache Geode/Pivotal GemFire entry idle timeout expiration,
+ * which requires {@link org.apache.geode.cache.RegionAttributes#getStatisticsEnabled() statistics} to be enabled
+ * on the {@link Region} and tracks the expiration of each entry individually.
+ *
+ * Each {@link Session} is (re-)scheduled when stored in the {@link Region}, at the time determined by the
+ * {@link SessionExpirationPolicy}, if configured, or otherwise by the {@link Session#getLastAccessedTime()
+ * last accessed time} and {@link Session#getMaxInactiveInterval() maximum inactive interval} of the {@link Session}.
+ * On each tick, expired {@link Session Sessions} are invalidated (or destroyed, according to
+ * the {@link SessionExpirationPolicy#getExpirationAction() expiration action}) locally in batches,
+ * the same as Apache Geode/Pivotal GemFire expires entries in a client {@link Region}; therefore,
+ * the same {@link org.springframework.session.events.SessionExpiredEvent SessionExpiredEvents}
+ * (or {@link org.springframework.session.events.SessionDestroyedEvent SessionDestroyedEvents}) are published.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy
+ * @see org.springframework.session.data.gemfire.expiration.support.HierarchicalTimingWheel
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class TimingWheelSessionExpirer implements InitializingBean, DisposableBean {
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	public static final Duration DEFAULT_TICK = Duration.ofSeconds(1L);
+
+	protected static final String EXPIRATION_THREAD_NAME = "spring-session-expiration";
+
+	private boolean enabled = true;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private Duration tick = DEFAULT_TICK;
+
+	private final GemFireCache gemfireCache;
+
+	private volatile HierarchicalTimingWheel<Object> timingWheel;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private volatile ScheduledExecutorService expirationExecutor;
+
+	private SessionExpirationPolicy sessionExpirationPolicy;
+
+	private final String sessionRegionName;
+
+	/**
+	 * Constructs a new instance of {@link TimingWheelSessionExpirer} initialized with the given {@link GemFireCache}
+	 * and name of the {@link Session Sessions} {@link Region}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @param sessionRegionName {@link String} containing the name of the {@link Session Sessions} {@link Region}.
+	 * @throws IllegalArgumentException if the {@link GemFireCache} is {@literal null}
+	 * or the {@link Region} name is not specified.
+	 */
+	public TimingWheelSessionExpirer(@NonNull GemFireCache gemfireCache, @NonNull String sessionRegionName) {
+
+		Assert.notNull(gemfireCache, "GemFireCache is required");
+		Assert.hasText(sessionRegionName, "Session Region name is required");
+
+		this.gemfireCache = gemfireCache;
+		this.sessionRegionName = sessionRegionName;
+	}
+
+	/**
+	 * Configures the maximum number of {@link Session Sessions} expired in a single batch.
+	 *
+	 * @param batchSize maximum number of {@link Session Sessions} expired in a single batch;
+	 * values less than {@literal 1} reset the batch size to the {@link #DEFAULT_BATCH_SIZE default}.
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+	}
+
+	/**
+	 * Returns the maximum number of {@link Session Sessions} expired in a single batch.
+	 *
+	 * @return the maximum number of {@link Session Sessions} expired in a single batch.
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Configures whether {@link Session Sessions} are expired by the timing wheel.
+	 *
+	 * @param enabled boolean value indicating whether {@link Session Sessions} are expired by the timing wheel.
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Configures the {@link SessionExpirationPolicy} used to determine when a {@link Session} expires.
+	 *
+	 * If not configured, or the {@link SessionExpirationPolicy} does not determine an expiration timeout,
+	 * a {@link Session} expires after its {@link Session#getMaxInactiveInterval() maximum inactive interval}.
+	 *
+	 * @param sessionExpirationPolicy {@link SessionExpirationPolicy} used to determine when a {@link Session} expires.
+	 */
+	public void setSessionExpirationPolicy(@Nullable SessionExpirationPolicy sessionExpirationPolicy) {
+		this.sessionExpirationPolicy = sessionExpirationPolicy;
+	}
+
+	protected Optional<SessionExpirationPolicy> getSessionExpirationPolicy() {
+		return Optional.ofNullable(this.sessionExpirationPolicy);
+	}
+
+	/**
+	 * Returns the {@link Session Sessions} {@link Region}.
+	 *
+	 * @return the {@link Session Sessions} {@link Region}, or {@literal null} if the {@link Region} does not exist.
+	 */
+	public @Nullable Region<Object, Object> getSessionRegion() {
+		return this.gemfireCache.getRegion(this.sessionRegionName);
+	}
+
+	/**
+	 * Configures the {@link Duration} of a tick of the timing wheel, which is the granularity of expiration.
+	 *
+	 * @param tick {@link Duration} of a tick; {@literal null}, or less than {@literal 1 millisecond},
+	 * resets the tick to the {@link #DEFAULT_TICK default}.
+	 */
+	public void setTick(@Nullable Duration tick) {
+		this.tick = tick != null && tick.toMillis() > 0L ? tick : DEFAULT_TICK;
+	}
+
+	/**
+	 * Returns the {@link Duration} of a tick of the timing wheel.
+	 *
+	 * @return the {@link Duration} of a tick of the timing wheel.
+	 */
+	public Duration getTick() {
+		return this.tick;
+	}
+
+	/**
+	 * Returns the {@link HierarchicalTimingWheel} once the timing wheel has been initialized.
+	 *
+	 * @return the {@link HierarchicalTimingWheel}, or {@literal null} if the timing wheel is not enabled.
+	 */
+	protected @Nullable HierarchicalTimingWheel<Object> getTimingWheel() {
+		return this.timingWheel;
+	}
+
+	/**
+	 * Determines whether {@link Session Sessions} are expired by the timing wheel, i.e. the timing wheel is
+	 * {@link #setEnabled(boolean) enabled} and this member is a client storing {@link Session Sessions} locally.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are expired by the timing wheel.
+	 */
+	public boolean isEnabled() {
+
+		Region<Object, Object> sessionRegion = getSessionRegion();
+
+		return this.enabled
+			&& GemFireUtils.isClient(this.gemfireCache)
+			&& sessionRegion != null
+			&& sessionRegion.getAttributes().getDataPolicy().withStorage();
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+
+		if (isEnabled()) {
+
+			Region<Object, Object> sessionRegion = getSessionRegion();
+
+			this.timingWheel = new HierarchicalTimingWheel<>(getTick(), System.currentTimeMillis());
+
+			sessionRegion.getAttributesMutator().addCacheListener(new SchedulingCacheListener());
+
+			for (Object sessionId : new ArrayList<>(sessionRegion.keySet())) {
+				Optional.ofNullable(sessionRegion.getEntry(sessionId))
+					.ifPresent(entry -> schedule(entry.getKey(), entry.getValue()));
+			}
+
+			long tickInMillis = getTick().toMillis();
+
+			this.expirationExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+				Thread thread = new Thread(runnable, EXPIRATION_THREAD_NAME);
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+
+			this.expirationExecutor.scheduleWithFixedDelay(this::runExpiration,
+				tickInMillis, tickInMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public void destroy() {
+
+		ScheduledExecutorService expirationExecutor = this.expirationExecutor;
+
+		if (expirationExecutor != null) {
+			expirationExecutor.shutdownNow();
+		}
+	}
+
+	private void runExpiration() {
+
+		try {
+			expireSessions();
+		}
+		catch (RuntimeException cause) {
+			getLogger().warn("Failed to expire Sessions", cause);
+		}
+	}
+
+	/**
+	 * Expires all {@link Session Sessions} due for expiration, in batches of at most {@link #getBatchSize()}
+	 * {@link Session Sessions}.
+	 *
+	 * Each due {@link Session} is re-evaluated before it is expired, since the expiration time determined by
+	 * a {@link SessionExpirationPolicy} may change over time.  A {@link Session} that has not expired
+	 * is rescheduled.
+	 *
+	 * @return the number of expired {@link Session Sessions}.
+	 * @see #expireSessions(long)
+	 */
+	public int expireSessions() {
+		return expireSessions(System.currentTimeMillis());
+	}
+
+	/**
+	 * Expires all {@link Session Sessions} due for expiration at the given time.
+	 *
+	 * @param now time, in milliseconds since the epoch, at which {@link Session Sessions} are evaluated.
+	 * @return the number of expired {@link Session Sessions}.
+	 */
+	protected int expireSessions(long now) {
+
+		HierarchicalTimingWheel<Object> timingWheel = getTimingWheel();
+		Region<Object, Object> sessionRegion = getSessionRegion();
+
+		if (timingWheel == null || sessionRegion == null || sessionRegion.isDestroyed()) {
+			return 0;
+		}
+
+		int expiredSessionCount = 0;
+
+		for (List<Object> batch = timingWheel.advance(now, getBatchSize()); !batch.isEmpty();
+				batch = timingWheel.advance(now, getBatchSize())) {
+
+			for (Object sessionId : batch) {
+				if (expire(sessionRegion, sessionId, now)) {
+					expiredSessionCount++;
+				}
+			}
+		}
+
+		return expiredSessionCount;
+	}
+
+	/**
+	 * Expires the {@link Session} with the given {@link Session#getId() ID} if the {@link Session} has expired.
+	 *
+	 * @param sessionRegion {@link Session Sessions} {@link Region}.
+	 * @param sessionId {@link Session#getId() ID} of the {@link Session} to expire.
+	 * @param now current time, in milliseconds since the epoch.
+	 * @return a boolean value indicating whether the {@link Session} was expired.
+	 */
+	protected boolean expire(@NonNull Region<Object, Object> sessionRegion, @NonNull Object sessionId, long now) {
+
+		try {
+
+			Region.Entry<Object, Object> entry = sessionRegion.getEntry(sessionId);
+
+			Object value = entry != null ? entry.getValue() : null;
+
+			long expirationTime = expirationTimeOf(value);
+
+			if (expirationTime <= 0L) {
+				return false;
+			}
+			else if (expirationTime > now) {
+				getTimingWheel().schedule(sessionId, expirationTime);
+				return false;
+			}
+
+			if (isDestroyOnExpiration()) {
+				sessionRegion.localDestroy(sessionId);
+			}
+			else {
+				sessionRegion.localInvalidate(sessionId);
+			}
+
+			return true;
+		}
+		catch (EntryNotFoundException | RegionDestroyedException ignore) {
+			// The Session was deleted, or the Region was destroyed, while being expired
+			return false;
+		}
+	}
+
+	private boolean isDestroyOnExpiration() {
+
+		return getSessionExpirationPolicy()
+			.map(SessionExpirationPolicy::getExpirationAction)
+			.filter(SessionExpirationPolicy.ExpirationAction.DESTROY::equals)
+			.isPresent();
+	}
+
+	/**
+	 * Returns the time at which the given {@link Session} expires, as determined by
+	 * the {@link SessionExpirationPolicy}, if configured, or the {@link Session#getLastAccessedTime()
+	 * last accessed time} and {@link Session#getMaxInactiveInterval() maximum inactive interval}
+	 * of the {@link Session}.
+	 *
+	 * @param value {@link Session} value to evaluate; may be a {@link PdxInstance}.
+	 * @return the time, in milliseconds since the epoch, at which the {@link Session} expires;
+	 * {@literal 0} if the value is not a {@link Session} or the {@link Session} does not expire.
+	 */
+	protected long expirationTimeOf(@Nullable Object value) {
+
+		Session session = toSession(value);
+
+		if (session == null) {
+			return 0L;
+		}
+
+		return getSessionExpirationPolicy()
+			.flatMap(it -> it.determineExpirationTimeout(session))
+			.map(expirationTimeout -> System.currentTimeMillis() + Math.max(expirationTimeout.toMillis(), 0L))
+			.orElseGet(() -> session.getMaxInactiveInterval().isNegative() ? 0L
+				: session.getLastAccessedTime().plus(session.getMaxInactiveInterval()).toEpochMilli());
+	}
+
+	private @Nullable Session toSession(@Nullable Object value) {
+
+		Object resolvedValue = value instanceof PdxInstance ? ((PdxInstance) value).getObject() : value;
+
+		return resolvedValue instanceof Session ? (Session) resolvedValue : null;
+	}
+
+	/**
+	 * Schedules the {@link Session} with the given {@link Session#getId() ID} to expire, or cancels
+	 * the expiration of the {@link Session} if the {@link Session} does not expire.
+	 *
+	 * @param sessionId {@link Session#getId() ID} of the {@link Session} to schedule.
+	 * @param value {@link Session} value.
+	 */
+	protected void schedule(@Nullable Object sessionId, @Nullable Object value) {
+
+		HierarchicalTimingWheel<Object> timingWheel = getTimingWheel();
+
+		if (timingWheel != null && sessionId != null) {
+
+			long expirationTime = expirationTimeOf(value);
+
+			if (expirationTime > 0L) {
+				timingWheel.schedule(sessionId, expirationTime);
+			}
+			else {
+				timingWheel.cancel(sessionId);
+			}
+		}
+	}
+
+	/**
+	 * Cancels the expiration of the {@link Session} with the given {@link Session#getId() ID}.
+	 *
+	 * @param sessionId {@link Session#getId() ID} of the {@link Session}.
+	 */
+	protected void cancel(@Nullable Object sessionId) {
+		Optional.ofNullable(getTimingWheel()).ifPresent(timingWheel -> timingWheel.cancel(sessionId));
+	}
+
+	/**
+	 * {@link org.apache.geode.cache.CacheListener} scheduling {@link Session Sessions} as the {@link Session Sessions}
+	 * are stored in, and cancelling {@link Session Sessions} as the {@link Session Sessions} are removed from,
+	 * the {@link Session Sessions} {@link Region}.
+	 */
+	protected class SchedulingCacheListener extends CacheListenerAdapter<Object, Object> {
+
+		@Override
+		public void afterCreate(EntryEvent<Object, Object> event) {
+			schedule(event.getKey(), event.getNewValue());
+		}
+
+		@Override
+		public void afterUpdate(EntryEvent<Object, Object> event) {
+			schedule(event.getKey(), event.getNewValue());
+		}
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, Object> event) {
+			cancel(event.getKey());
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<Object, Object> event) {
+			cancel(event.getKey());
+		}
+
+		@Override
+		public void afterRegionClear(RegionEvent<Object, Object> event) {
+			Optional.ofNullable(getTimingWheel()).ifPresent(HierarchicalTimingWheel::clear);
+		}
+
+		@Override
+		public void afterRegionDestroy(RegionEvent<Object, Object> event) {
+			Optional.ofNullable(getTimingWheel()).ifPresent(HierarchicalTimingWheel::clear);
+		}
+
+		@Override
+		public void afterRegionInvalidate(RegionEvent<Object, Object> event) {
+			Optional.ofNullable(getTimingWheel()).ifPresent(HierarchicalTimingWheel::clear);
+		}
+	}
+}
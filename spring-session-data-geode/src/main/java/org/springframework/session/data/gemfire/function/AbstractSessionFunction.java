@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+
+/**
+ * The {@link AbstractSessionFunction} class is an abstract base class for Apache Geode/Pivotal GemFire
+ * {@link Function Functions} that read and write a single {@link Session} in the {@link Session Sessions}
+ * {@link Region} on the member hosting the primary copy of the {@link Session}.
+ *
+ * The {@link Session#getId() Session ID} is passed as the filter of the {@link Function} execution.
+ * All {@link AbstractSessionFunction Session Functions} share the same set of locks, local to the member,
+ * so that the {@link Function Functions} are atomic with respect to each other.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.springframework.session.Session
+ * @since 2.1.3
+ */
+public abstract class AbstractSessionFunction implements Function<Object[]> {
+
+	protected static final String VERSION_FIELD_NAME = "version";
+
+	private static final long serialVersionUID = 1L;
+
+	private static final int LOCK_STRIPES = 64;
+
+	private static final Lock[] LOCKS = new Lock[LOCK_STRIPES];
+
+	static {
+		for (int index = 0; index < LOCKS.length; index++) {
+			LOCKS[index] = new ReentrantLock();
+		}
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return false;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+
+	@Override
+	public void execute(FunctionContext<Object[]> functionContext) {
+
+		if (!(functionContext instanceof RegionFunctionContext)) {
+			throw new FunctionException(String.format("Function [%s] must be executed on a Region", getId()));
+		}
+
+		RegionFunctionContext regionFunctionContext = (RegionFunctionContext) functionContext;
+
+		Object sessionId = regionFunctionContext.getFilter().stream().findFirst()
+			.orElseThrow(() -> new FunctionException(String.format("Function [%s] requires the Session ID as the filter",
+				getId())));
+
+		Region<Object, Object> sessions = regionFunctionContext.getDataSet();
+
+		Object result;
+
+		Lock lock = lockFor(sessionId);
+
+		lock.lock();
+
+		try {
+			result = execute(sessions, sessionId, functionContext.getArguments());
+		}
+		finally {
+			lock.unlock();
+		}
+
+		functionContext.getResultSender().lastResult(result);
+	}
+
+	/**
+	 * Executes this {@link Function} on the {@link Session} with the given {@link Session#getId() ID} while holding
+	 * the lock for the {@link Session}.
+	 *
+	 * @param sessions {@link Region} storing {@link Session Sessions}.
+	 * @param sessionId {@link Object} identifying the {@link Session}.
+	 * @param arguments array of {@link Object arguments} passed to this {@link Function}.
+	 * @return the {@link Object result} of this {@link Function}.
+	 * @throws FunctionException if the arguments are invalid.
+	 */
+	protected abstract Object execute(Region<Object, Object> sessions, Object sessionId, Object[] arguments);
+
+	private Lock lockFor(Object sessionId) {
+		return LOCKS[Math.abs(sessionId.hashCode() % LOCKS.length)];
+	}
+
+	/**
+	 * Converts the given, stored {@link Session} into a {@link GemFireSession}, deserializing
+	 * the {@link Session} if necessary.
+	 *
+	 * @param storedSession {@link Object} containing the stored {@link Session}; may be a {@link PdxInstance}.
+	 * @return a {@link GemFireSession} for the stored {@link Session} or {@literal null}
+	 * if no {@link Session} is stored.
+	 * @throws FunctionException if the stored {@link Object} is not a {@link Session}.
+	 */
+	@Nullable
+	protected GemFireSession<?> toGemFireSession(@Nullable Object storedSession) {
+
+		Object session = storedSession instanceof PdxInstance
+			? ((PdxInstance) storedSession).getObject()
+			: storedSession;
+
+		if (session == null || session instanceof Session) {
+			return session != null ? GemFireSession.from((Session) session) : null;
+		}
+
+		throw new FunctionException(String.format("Object [%s] stored in the Sessions Region is not a Session",
+			session.getClass().getName()));
+	}
+
+	/**
+	 * Returns the {@link Long version} of the given, stored {@link Session}.
+	 *
+	 * @param storedSession {@link Object} containing the stored {@link Session}; may be a {@link PdxInstance}.
+	 * @return the {@link Long version} of the given, stored {@link Session}; {@literal 0} if the stored {@link Session}
+	 * is not versioned.
+	 */
+	protected long versionOf(@Nullable Object storedSession) {
+
+		if (storedSession instanceof GemFireSession) {
+			return ((GemFireSession) storedSession).getVersion();
+		}
+		else if (storedSession instanceof PdxInstance) {
+
+			PdxInstance pdxInstance = (PdxInstance) storedSession;
+
+			Object version = pdxInstance.hasField(VERSION_FIELD_NAME)
+				? pdxInstance.getField(VERSION_FIELD_NAME)
+				: null;
+
+			return version instanceof Number ? ((Number) version).longValue() : 0L;
+		}
+
+		return 0L;
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionException;
+
+import org.springframework.session.Session;
+
+/**
+ * The {@link ConditionalSaveSessionFunction} class is an Apache Geode/Pivotal GemFire {@link Function}
+ * that stores a {@link Session} in the {@link Session Sessions} {@link Region} only if the version of
+ * the currently stored {@link Session} matches the version expected by the caller.
+ *
+ * The {@link Function} is executed on the {@link Session Sessions} {@link Region} with the {@link Session#getId()}
+ * as the filter and an array of arguments containing the expected {@link Long version} followed by
+ * the {@link Session} to save.  The {@link Function} returns {@link Boolean#TRUE} if the {@link Session} was saved,
+ * otherwise it returns the currently stored {@link Session} so the caller can merge and retry.
+ *
+ * The compare and put is performed under a lock local to the member hosting the primary copy of the entry,
+ * which is where the {@link Function} executes since it {@link #optimizeForWrite() optimizes for write}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.function.AbstractSessionFunction
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class ConditionalSaveSessionFunction extends AbstractSessionFunction {
+
+	public static final String ID = "ConditionalSaveSessionFunction";
+
+	private static final long serialVersionUID = 1L;
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	protected Object execute(Region<Object, Object> sessions, Object sessionId, Object[] arguments) {
+
+		if (arguments == null || arguments.length != 2 || !(arguments[0] instanceof Long) || arguments[1] == null) {
+			throw new FunctionException(String.format("Function [%s] requires the expected version and the Session",
+				getId()));
+		}
+
+		return save(sessions, sessionId, arguments[1], (Long) arguments[0]);
+	}
+
+	/**
+	 * Puts the given {@link Session} into the given {@link Region} if the version of the currently stored
+	 * {@link Session} is equal to the expected version, or no {@link Session} is currently stored.
+	 *
+	 * @param sessions {@link Region} storing {@link Session Sessions}.
+	 * @param sessionId {@link Object} identifying the {@link Session}.
+	 * @param session {@link Session} to save.
+	 * @param expectedVersion {@link Long version} of the {@link Session} when it was loaded by the caller.
+	 * @return {@link Boolean#TRUE} if the {@link Session} was saved, otherwise the currently stored {@link Session}.
+	 */
+	protected Object save(Region<Object, Object> sessions, Object sessionId, Object session, long expectedVersion) {
+
+		Object storedSession = sessions.get(sessionId);
+
+		if (storedSession == null || versionOf(storedSession) == expectedVersion) {
+			sessions.put(sessionId, session);
+			return Boolean.TRUE;
+		}
+
+		return storedSession;
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+
+import org.springframework.session.Session;
+
+/**
+ * The {@link DestroyInvalidatedSessionsFunction} class is an Apache Geode/Pivotal GemFire {@link Function}
+ * that destroys the entries of {@link Session Sessions} invalidated by expiration in the {@link Session Sessions}
+ * {@link Region}, removing the key and entry overhead left behind by
+ * the {@link org.apache.geode.cache.ExpirationAction#INVALIDATE} expiration action.
+ *
+ * The {@link Function} is executed on the {@link Session Sessions} {@link Region} without a filter, with the maximum
+ * number of invalidated entries destroyed per execution as the argument.  On a partitioned {@link Region},
+ * the {@link Function} is executed on every member hosting primary buckets and only the local, primary buckets
+ * are scanned.  Each invalidated entry is removed with {@link Region#remove(Object, Object)} given a {@literal null}
+ * value, which only removes the entry if the entry is still invalid, so a {@link Session} saved concurrently
+ * with the same ID is never destroyed.
+ *
+ * The expiration (invalidate) event of a {@link Session} has already been dispatched to listeners, and queued
+ * for clients, by the time the entry is found invalid, so destroying the entry does not affect the delivery
+ * of the event.  The number of entries destroyed on the member is returned as the result.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.apache.geode.cache.partition.PartitionRegionHelper#getLocalDataForContext(RegionFunctionContext)
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.expiration.support.InvalidatedSessionReaper
+ * @since 2.1.3
+ */
+public class DestroyInvalidatedSessionsFunction implements Function<Object[]> {
+
+	public static final String ID = "DestroyInvalidatedSessionsFunction";
+
+	private static final long serialVersionUID = 1L;
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return true;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+
+	@Override
+	public void execute(FunctionContext<Object[]> functionContext) {
+
+		if (!(functionContext instanceof RegionFunctionContext)) {
+			throw new FunctionException(String.format("Function [%s] must be executed on a Region", getId()));
+		}
+
+		Object[] arguments = functionContext.getArguments();
+
+		if (arguments == null || arguments.length != 1 || !(arguments[0] instanceof Number)) {
+			throw new FunctionException(String.format("Function [%s] requires the batch size", getId()));
+		}
+
+		int batchSize = Math.max(((Number) arguments[0]).intValue(), 1);
+
+		functionContext.getResultSender().lastResult(destroy((RegionFunctionContext) functionContext, batchSize));
+	}
+
+	/**
+	 * Destroys at most the given number of invalidated entries from the local data of the {@link Session Sessions}
+	 * {@link Region} identified by the given {@link RegionFunctionContext}.
+	 *
+	 * @param regionFunctionContext {@link RegionFunctionContext} of the {@link Function} execution.
+	 * @param batchSize maximum number of invalidated entries destroyed.
+	 * @return the number of destroyed entries.
+	 * @see #resolveLocalData(RegionFunctionContext)
+	 */
+	protected int destroy(RegionFunctionContext regionFunctionContext, int batchSize) {
+
+		Region<Object, Object> sessions = resolveLocalData(regionFunctionContext);
+
+		int destroyedEntryCount = 0;
+
+		for (Object sessionId : sessions.keySet()) {
+
+			if (destroyedEntryCount >= batchSize) {
+				break;
+			}
+
+			if (!sessions.containsValueForKey(sessionId) && destroyIfInvalid(sessions, sessionId)) {
+				destroyedEntryCount++;
+			}
+		}
+
+		return destroyedEntryCount;
+	}
+
+	private boolean destroyIfInvalid(Region<Object, Object> sessions, Object sessionId) {
+
+		try {
+			return sessions.remove(sessionId, null);
+		}
+		catch (EntryNotFoundException ignore) {
+			return false;
+		}
+	}
+
+	/**
+	 * Resolves the local data of the {@link Session Sessions} {@link Region} to scan, which, for a partitioned
+	 * {@link Region}, is limited to the local, primary buckets.
+	 *
+	 * @param regionFunctionContext {@link RegionFunctionContext} of the {@link Function} execution.
+	 * @return the local data of the {@link Session Sessions} {@link Region}.
+	 * @see org.apache.geode.cache.partition.PartitionRegionHelper#getLocalDataForContext(RegionFunctionContext)
+	 */
+	protected Region<Object, Object> resolveLocalData(RegionFunctionContext regionFunctionContext) {
+
+		Region<Object, Object> sessions = regionFunctionContext.getDataSet();
+
+		return sessions.getAttributes().getDataPolicy().withPartitioning()
+			? PartitionRegionHelper.getLocalDataForContext(regionFunctionContext)
+			: sessions;
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryException;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.session.Session;
+
+/**
+ * The {@link ExpireSessionsByCreationTimeFunction} class is an Apache Geode/Pivotal GemFire {@link Function}
+ * that removes all {@link Session Sessions} created before a given time from the {@link Session Sessions}
+ * {@link Region}, implementing fixed duration expiration eagerly, on the server.
+ *
+ * The {@link Function} is executed on the {@link Session Sessions} {@link Region} without a filter, with the time,
+ * in milliseconds since the epoch, before which {@link Session Sessions} expire and the maximum number of
+ * {@link Session Sessions} removed per batch as arguments.  On a partitioned
+ * {@link Region}, the {@link Function} is executed on every member hosting primary buckets and only the local,
+ * primary buckets are queried.  The query is supported by an Index on the {@link Session} creation time,
+ * which is created by the {@link Function} the first time the {@link Function} is executed on a member.
+ * The {@literal creationTimeInMillis} property is used, which is both a property of deserialized
+ * {@link Session Sessions} and a field of {@link Session Sessions} stored as PDX.
+ *
+ * The number of {@link Session Sessions} removed on the member is returned as the result.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.apache.geode.cache.query.Query#execute(RegionFunctionContext, Object[])
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.expiration.support.FixedDurationExpirationSessionSweeper
+ * @since 2.1.3
+ */
+public class ExpireSessionsByCreationTimeFunction implements Function<Object[]> {
+
+	public static final String ID = "ExpireSessionsByCreationTimeFunction";
+
+	public static final String CREATION_TIME_INDEX_NAME = "creationTimeIndex";
+
+	protected static final String CREATION_TIME_INDEX_EXPRESSION = "creationTimeInMillis";
+
+	protected static final String FIND_SESSION_IDS_BY_CREATION_TIME_QUERY =
+		"SELECT DISTINCT s.id FROM %1$s s WHERE s.creationTimeInMillis < $1 LIMIT %2$d";
+
+	private static final long serialVersionUID = 1L;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Set<String> indexedRegionPaths = ConcurrentHashMap.newKeySet();
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return true;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	@Override
+	public void execute(FunctionContext<Object[]> functionContext) {
+
+		if (!(functionContext instanceof RegionFunctionContext)) {
+			throw new FunctionException(String.format("Function [%s] must be executed on a Region", getId()));
+		}
+
+		Object[] arguments = functionContext.getArguments();
+
+		if (arguments == null || arguments.length != 2
+				|| !(arguments[0] instanceof Number) || !(arguments[1] instanceof Number)) {
+
+			throw new FunctionException(String.format("Function [%s] requires the creation time before which"
+				+ " Sessions expire and the batch size", getId()));
+		}
+
+		long createdBefore = ((Number) arguments[0]).longValue();
+		int batchSize = Math.max(((Number) arguments[1]).intValue(), 1);
+
+		functionContext.getResultSender()
+			.lastResult(expire((RegionFunctionContext) functionContext, createdBefore, batchSize));
+	}
+
+	/**
+	 * Removes all {@link Session Sessions} created before the given time from the local data
+	 * of the {@link Session Sessions} {@link Region} identified by the given {@link RegionFunctionContext},
+	 * in batches of at most the given number of {@link Session Sessions}.
+	 *
+	 * @param regionFunctionContext {@link RegionFunctionContext} of the {@link Function} execution.
+	 * @param createdBefore time, in milliseconds since the epoch, before which {@link Session Sessions} expire.
+	 * @param batchSize maximum number of {@link Session Sessions} removed per batch.
+	 * @return the number of removed {@link Session Sessions}.
+	 * @throws FunctionException if the query fails.
+	 */
+	protected int expire(RegionFunctionContext regionFunctionContext, long createdBefore, int batchSize) {
+
+		Region<Object, Object> sessions = regionFunctionContext.getDataSet();
+
+		QueryService queryService = sessions.getRegionService().getQueryService();
+
+		ensureCreationTimeIndex(queryService, sessions);
+
+		Query query = queryService.newQuery(String.format(FIND_SESSION_IDS_BY_CREATION_TIME_QUERY,
+			sessions.getFullPath(), batchSize));
+
+		Object[] parameters = { createdBefore };
+
+		boolean partitioned = sessions.getAttributes().getDataPolicy().withPartitioning();
+
+		int expiredSessionCount = 0;
+
+		try {
+
+			SelectResults<?> sessionIds;
+
+			do {
+
+				sessionIds = partitioned
+					? (SelectResults<?>) query.execute(regionFunctionContext, parameters)
+					: (SelectResults<?>) query.execute(parameters);
+
+				for (Object sessionId : sessionIds) {
+					if (destroy(sessions, sessionId)) {
+						expiredSessionCount++;
+					}
+				}
+			}
+			while (sessionIds.size() >= batchSize);
+
+			return expiredSessionCount;
+		}
+		catch (QueryException cause) {
+			throw new FunctionException(String.format("Function [%s] failed to query the Sessions created before [%d]",
+				getId(), createdBefore), cause);
+		}
+	}
+
+	private boolean destroy(Region<Object, Object> sessions, Object sessionId) {
+
+		try {
+			sessions.destroy(sessionId);
+			return true;
+		}
+		catch (EntryNotFoundException ignore) {
+			return false;
+		}
+	}
+
+	/**
+	 * Creates the {@link #CREATION_TIME_INDEX_NAME creation time Index} on the {@link Session Sessions}
+	 * {@link Region} unless the Index already exists.
+	 *
+	 * Failure to create the Index is logged and the {@link Session Sessions} are queried without the Index.
+	 *
+	 * @param queryService {@link QueryService} used to create the Index.
+	 * @param sessions {@link Session Sessions} {@link Region}.
+	 */
+	protected void ensureCreationTimeIndex(QueryService queryService, Region<Object, Object> sessions) {
+
+		String regionPath = sessions.getFullPath();
+
+		if (!this.indexedRegionPaths.contains(regionPath)) {
+
+			synchronized (this.indexedRegionPaths) {
+
+				if (queryService.getIndex(sessions, CREATION_TIME_INDEX_NAME) == null) {
+					try {
+						queryService.createIndex(CREATION_TIME_INDEX_NAME, CREATION_TIME_INDEX_EXPRESSION, regionPath);
+					}
+					catch (QueryException | RuntimeException cause) {
+						getLogger().debug(String.format("Failed to create Index [%s] on Region [%s]",
+							CREATION_TIME_INDEX_NAME, regionPath), cause);
+					}
+				}
+
+				this.indexedRegionPaths.add(regionPath);
+			}
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryException;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.session.data.gemfire.support.SessionTieringManager;
+
+/**
+ * The {@link FindSessionsByPrincipalNameFunction} class is an Apache Geode/Pivotal GemFire {@link Function}
+ * that finds all {@link Session Sessions} of a principal in the {@link Session Sessions} {@link Region}
+ * when {@link Session Sessions} are routed by principal.
+ *
+ * The {@link Function} is executed on the {@link Session Sessions} {@link Region} with the routing key
+ * of the principal as the filter and the principal name as the only argument.  Since all {@link Session Sessions}
+ * of the principal are colocated in the bucket identified by the routing key, the query is only evaluated
+ * on that bucket, on a single member, rather than on every bucket in the cluster.
+ *
+ * When {@link Session} tiering is enabled, the colocated cold {@link Region} is queried as well and the demoted
+ * {@link Session Sessions} of the principal are promoted back into the {@link Session Sessions} {@link Region}
+ * by getting them.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.apache.geode.cache.query.Query#execute(RegionFunctionContext, Object[])
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver
+ * @see org.springframework.session.data.gemfire.support.SessionTieringManager
+ * @since 2.1.3
+ */
+public class FindSessionsByPrincipalNameFunction implements Function<Object[]> {
+
+	public static final String ID = "FindSessionsByPrincipalNameFunction";
+
+	protected static final String FIND_SESSIONS_BY_PRINCIPAL_NAME_QUERY =
+		"SELECT s FROM %1$s s WHERE s.principalName = $1";
+
+	private static final long serialVersionUID = 1L;
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return true;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+
+	@Override
+	public void execute(FunctionContext<Object[]> functionContext) {
+
+		if (!(functionContext instanceof RegionFunctionContext)) {
+			throw new FunctionException(String.format("Function [%s] must be executed on a Region", getId()));
+		}
+
+		RegionFunctionContext regionFunctionContext = (RegionFunctionContext) functionContext;
+
+		Object[] arguments = functionContext.getArguments();
+
+		if (arguments == null || arguments.length != 1 || !(arguments[0] instanceof String)) {
+			throw new FunctionException(String.format("Function [%s] requires the principal name", getId()));
+		}
+
+		functionContext.getResultSender().lastResult(find(regionFunctionContext, (String) arguments[0]));
+	}
+
+	/**
+	 * Queries the buckets of the {@link Session Sessions} {@link Region}, and the colocated cold {@link Region}
+	 * if present, identified by the filter of the given {@link RegionFunctionContext} for the {@link Session Sessions}
+	 * of the given principal.
+	 *
+	 * @param regionFunctionContext {@link RegionFunctionContext} of the {@link Function} execution.
+	 * @param principalName {@link String} containing the name of the principal.
+	 * @return a {@link List} of the {@link Session Sessions} of the principal.
+	 * @throws FunctionException if the query fails.
+	 * @see org.springframework.session.data.gemfire.support.SessionTieringManager#coldRegionName(String)
+	 */
+	protected List<Session> find(RegionFunctionContext regionFunctionContext, String principalName) {
+
+		Region<?, ?> sessions = regionFunctionContext.getDataSet();
+
+		try {
+
+			List<Session> principalSessions = new ArrayList<>();
+
+			for (Object result : query(regionFunctionContext, FIND_SESSIONS_BY_PRINCIPAL_NAME_QUERY,
+					sessions, principalName)) {
+
+				addSession(principalSessions, result);
+			}
+
+			Region<?, ?> coldSessions = sessions.getRegionService()
+				.getRegion(SessionTieringManager.coldRegionName(sessions.getFullPath()));
+
+			if (coldSessions != null) {
+				for (Object sessionId : query(regionFunctionContext,
+						SessionTieringManager.FIND_COLD_SESSION_IDS_BY_PRINCIPAL_NAME_QUERY, coldSessions, principalName)) {
+
+					addSession(principalSessions, sessions.get(sessionId));
+				}
+			}
+
+			return principalSessions;
+		}
+		catch (QueryException cause) {
+			throw new FunctionException(String.format("Function [%s] failed to query the Sessions of principal [%s]",
+				getId(), principalName), cause);
+		}
+	}
+
+	private SelectResults<?> query(RegionFunctionContext regionFunctionContext, String queryString,
+			Region<?, ?> region, String principalName) throws QueryException {
+
+		Query query = region.getRegionService().getQueryService()
+			.newQuery(String.format(queryString, region.getFullPath()));
+
+		return (SelectResults<?>) query.execute(regionFunctionContext, new Object[] { principalName });
+	}
+
+	private void addSession(List<Session> principalSessions, Object result) {
+
+		Object session = result instanceof PdxInstance ? ((PdxInstance) result).getObject() : result;
+
+		if (session instanceof Session) {
+			principalSessions.add(GemFireSession.from((Session) session));
+		}
+	}
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.WritablePdxInstance;
+
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.DeltaCapableGemFireSession;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.session.data.gemfire.serialization.data.support.ChunkedValue;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * The {@link SessionAttributeOperationFunction} class is an Apache Geode/Pivotal GemFire {@link Function}
+ * that atomically reads and modifies a single attribute of a {@link Session} on the member hosting
+ * the primary copy of the {@link Session}.
+ *
+ * The {@link Function} is executed on the {@link Session Sessions} {@link Region} with the {@link Session#getId()}
+ * as the filter and an array of arguments containing the {@link Operation}, the {@link String name}
+ * of the attribute and the {@link Object operand}.  The {@link Function} returns the result of the
+ * {@link Operation}, or {@literal null} if no {@link Session} with the given ID exists.
+ *
+ * Only the modified attribute is changed; the modified {@link Session} is put back into the {@link Region}
+ * with an incremented {@link GemFireSession#getVersion() version}.
+ *
+ * The stored {@link Session} is never modified in place.  A copy of the stored {@link Session}, starting from
+ * a clean delta, is modified and put, so that with Data Serialization, only the modified attribute is distributed
+ * as a delta by the {@link DeltaCapableGemFireSession} to the redundant copies.  With PDX, the stored
+ * {@link PdxInstance} is modified through a {@link WritablePdxInstance}, rewriting only the {@literal attributes},
+ * {@literal version} and, if affected, {@literal principalName} fields without deserializing the {@link Session};
+ * the modified attribute is stored uncompressed until the {@link Session} is saved again.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.pdx.WritablePdxInstance
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.function.AbstractSessionFunction
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class SessionAttributeOperationFunction extends AbstractSessionFunction {
+
+	public static final String ID = "SessionAttributeOperationFunction";
+
+	protected static final String ATTRIBUTES_FIELD_NAME = "attributes";
+	protected static final String PRINCIPAL_NAME_FIELD_NAME = "principalName";
+
+	private static final long serialVersionUID = 1L;
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	protected Object execute(Region<Object, Object> sessions, Object sessionId, Object[] arguments) {
+
+		if (arguments == null || arguments.length != 3 || !(arguments[0] instanceof Operation)
+				|| !(arguments[1] instanceof String)) {
+
+			throw new FunctionException(String.format(
+				"Function [%s] requires the operation, the attribute name and the operand", getId()));
+		}
+
+		Operation operation = (Operation) arguments[0];
+
+		String attributeName = (String) arguments[1];
+
+		Object storedSession = sessions.get(sessionId);
+
+		if (isWritable(storedSession)) {
+			return apply(sessions, sessionId, (PdxInstance) storedSession, operation, attributeName, arguments[2]);
+		}
+
+		GemFireSession<?> session = toGemFireSession(storedSession);
+
+		if (session == null) {
+			return null;
+		}
+
+		GemFireSession<?> sessionCopy = GemFireSession.copyOf(session);
+
+		sessionCopy.commit();
+
+		return apply(sessions, sessionId, sessionCopy, operation, attributeName, arguments[2]);
+	}
+
+	private Object apply(Region<Object, Object> sessions, Object sessionId, GemFireSession<?> session,
+			Operation operation, String attributeName, Object operand) {
+
+		Object currentValue = session.getAttribute(attributeName);
+
+		Object result = operation.apply(session, attributeName, operand);
+
+		if (!ObjectUtils.nullSafeEquals(currentValue, session.getAttribute(attributeName))) {
+			session.setVersion(session.getVersion() + 1);
+			sessions.put(sessionId, session);
+		}
+
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object apply(Region<Object, Object> sessions, Object sessionId, PdxInstance storedSession,
+			Operation operation, String attributeName, Object operand) {
+
+		Map<String, Object> attributes =
+			new HashMap<>((Map<String, Object>) storedSession.getField(ATTRIBUTES_FIELD_NAME));
+
+		Object currentValue = ChunkedValue.unwrap(attributes.get(attributeName));
+
+		GemFireSession<?> session = GemFireSession.from(sessionId.toString(), 0L, 0L, 0L);
+
+		if (currentValue != null) {
+			session.setAttribute(attributeName, currentValue);
+		}
+
+		Object result = operation.apply(session, attributeName, operand);
+
+		Object newValue = session.getAttribute(attributeName);
+
+		if (!ObjectUtils.nullSafeEquals(currentValue, newValue)) {
+
+			if (newValue != null) {
+				attributes.put(attributeName, newValue);
+			}
+			else {
+				attributes.remove(attributeName);
+			}
+
+			WritablePdxInstance writablePdxInstance = storedSession.createWriter();
+
+			writablePdxInstance.setField(ATTRIBUTES_FIELD_NAME, attributes);
+			writablePdxInstance.setField(VERSION_FIELD_NAME, versionOf(storedSession) + 1);
+
+			if (FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME.equals(attributeName)) {
+				writablePdxInstance.setField(PRINCIPAL_NAME_FIELD_NAME, newValue instanceof String ? newValue : null);
+			}
+
+			sessions.put(sessionId, writablePdxInstance);
+		}
+
+		return result;
+	}
+
+	private boolean isWritable(Object storedSession) {
+
+		if (storedSession instanceof PdxInstance) {
+
+			PdxInstance pdxInstance = (PdxInstance) storedSession;
+
+			return pdxInstance.hasField(VERSION_FIELD_NAME)
+				&& pdxInstance.hasField(PRINCIPAL_NAME_FIELD_NAME)
+				&& pdxInstance.getField(ATTRIBUTES_FIELD_NAME) instanceof Map;
+		}
+
+		return false;
+	}
+
+	/**
+	 * {@link FunctionalInterface Function} used to compute the new value of a {@link Session} attribute
+	 * from the current value, which is {@literal null} if the attribute is not present.  A {@literal null}
+	 * return value removes the attribute.
+	 *
+	 * The implementing class must be available on the classpath of the servers.
+	 */
+	@FunctionalInterface
+	public interface AttributeComputation extends UnaryOperator<Object>, Serializable { }
+
+	/**
+	 * Enumeration of the {@link Session} attribute operations.
+	 */
+	public enum Operation {
+
+		/**
+		 * Adds the {@link Number operand} to the {@link Number numeric} attribute value, treating a missing
+		 * attribute as {@literal 0}, and returns the new {@link Long value}.
+		 */
+		INCREMENT {
+
+			@Override
+			Object apply(GemFireSession<?> session, String attributeName, Object operand) {
+
+				Object value = session.getAttribute(attributeName);
+
+				if (!(operand instanceof Number) || !(value == null || value instanceof Number)) {
+					throw new FunctionException(String.format("Cannot increment attribute [%s] with value [%s] by [%s]",
+						attributeName, value, operand));
+				}
+
+				long newValue = (value != null ? ((Number) value).longValue() : 0L) + ((Number) operand).longValue();
+
+				session.setAttribute(attributeName, newValue);
+
+				return newValue;
+			}
+		},
+
+		/**
+		 * Sets the attribute to the {@link Object operand} if the attribute is not present and returns
+		 * the previous value, or {@literal null} if the attribute was set.
+		 */
+		PUT_IF_ABSENT {
+
+			@Override
+			Object apply(GemFireSession<?> session, String attributeName, Object operand) {
+
+				Object value = session.getAttribute(attributeName);
+
+				if (value == null) {
+					session.setAttribute(attributeName, operand);
+				}
+
+				return value;
+			}
+		},
+
+		/**
+		 * Adds the {@link Object operand} to the {@link Set} attribute value, creating the {@link Set}
+		 * if the attribute is not present, and returns {@link Boolean#TRUE} if the {@link Set} changed.
+		 */
+		ADD_TO_SET {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			Object apply(GemFireSession<?> session, String attributeName, Object operand) {
+
+				Object value = session.getAttribute(attributeName);
+
+				if (!(value == null || value instanceof Set)) {
+					throw new FunctionException(String.format("Attribute [%s] with value [%s] is not a Set",
+						attributeName, value));
+				}
+
+				if (value != null && ((Set<Object>) value).contains(operand)) {
+					return Boolean.FALSE;
+				}
+
+				Set<Object> newValue = value != null ? new HashSet<>((Set<Object>) value) : new HashSet<>();
+
+				newValue.add(operand);
+
+				session.setAttribute(attributeName, newValue);
+
+				return Boolean.TRUE;
+			}
+		},
+
+		/**
+		 * Sets the attribute to the value returned by the {@link AttributeComputation operand} and returns
+		 * the new value.
+		 */
+		COMPUTE {
+
+			@Override
+			Object apply(GemFireSession<?> session, String attributeName, Object operand) {
+
+				if (!(operand instanceof AttributeComputation)) {
+					throw new FunctionException(String.format("Cannot compute attribute [%s] with [%s]",
+						attributeName, operand));
+				}
+
+				Object newValue = ((AttributeComputation) operand).apply(session.getAttribute(attributeName));
+
+				if (newValue != null) {
+					session.setAttribute(attributeName, newValue);
+				}
+				else {
+					session.removeAttribute(attributeName);
+				}
+
+				return newValue;
+			}
+		};
+
+		abstract Object apply(GemFireSession<?> session, String attributeName, Object operand);
+
+	}
+}
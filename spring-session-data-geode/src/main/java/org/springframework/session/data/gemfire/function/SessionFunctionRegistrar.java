@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionService;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.NonNull;
+import org.springframework.session.data.gemfire.support.GemFireUtils;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link SessionFunctionRegistrar} class registers the Apache Geode/Pivotal GemFire {@link Function Functions}
+ * used by Spring Session with the {@link FunctionService} on peer members of the cluster, which is where
+ * the Sessions {@link org.apache.geode.cache.Region} is hosted and the {@link Function Functions}
+ * are executed.
+ *
+ * Nothing is registered in a {@link org.apache.geode.cache.client.ClientCache}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.FunctionService
+ * @see org.springframework.beans.factory.InitializingBean
+ * @since 2.1.3
+ */
+public class SessionFunctionRegistrar implements InitializingBean {
+
+	private final GemFireCache gemfireCache;
+
+	private final List<Function<?>> functions;
+
+	/**
+	 * Constructs a new instance of {@link SessionFunctionRegistrar} initialized with the given {@link GemFireCache}
+	 * and array of {@link Function Functions} to register.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @param functions array of {@link Function Functions} to register.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 */
+	public SessionFunctionRegistrar(@NonNull GemFireCache gemfireCache, Function<?>... functions) {
+
+		Assert.notNull(gemfireCache, "GemFireCache is required");
+
+		this.gemfireCache = gemfireCache;
+		this.functions = functions != null
+			? Collections.unmodifiableList(Arrays.asList(functions))
+			: Collections.emptyList();
+	}
+
+	/**
+	 * Returns the {@link Function Functions} registered by this registrar.
+	 *
+	 * @return the {@link Function Functions} registered by this registrar.
+	 */
+	public List<Function<?>> getFunctions() {
+		return this.functions;
+	}
+
+	/**
+	 * Returns a reference to the {@link GemFireCache}.
+	 *
+	 * @return a reference to the {@link GemFireCache}.
+	 */
+	protected GemFireCache getGemFireCache() {
+		return this.gemfireCache;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+
+		if (GemFireUtils.isPeer(getGemFireCache())) {
+			getFunctions().stream()
+				.filter(function -> !FunctionService.isRegistered(function.getId()))
+				.forEach(this::register);
+		}
+	}
+
+	/**
+	 * Registers the given {@link Function} with the {@link FunctionService}.
+	 *
+	 * @param function {@link Function} to register.
+	 */
+	protected void register(Function<?> function) {
+		FunctionService.registerFunction(function);
+	}
+}
@@ -16,8 +16,6 @@
 
 package org.springframework.session.data.gemfire.serialization;
 
-import java.util.Optional;
-
 /**
  * The {@link SessionSerializer} interface is a Service Provider Interface (SPI) for providers
  * needing to provide a custom implementation of their serialization strategy.
@@ -62,10 +60,6 @@ public interface SessionSerializer<T, IN, OUT> {
 	 * @see #canSerialize(Class)
 	 */
 	default boolean canSerialize(Object obj) {
-
-		return Optional.ofNullable(obj)
-			.map(Object::getClass)
-			.filter(this::canSerialize)
-			.isPresent();
+		return obj != null && canSerialize(obj.getClass());
 	}
 }
@@ -21,8 +21,6 @@ import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.Optional;
 
 import org.apache.geode.DataSerializer;
 
@@ -85,13 +83,12 @@ public abstract class AbstractDataSerializableSessionSerializer<T> extends DataS
 	@SuppressWarnings("unchecked")
 	public boolean toData(Object session, DataOutput out) throws IOException {
 
-		return Optional.ofNullable(session)
-			.filter(this::canSerialize)
-			.map(it -> {
-				serialize((T) session, out);
-				return true;
-			})
-			.orElse(false);
+		if (session != null && canSerialize(session)) {
+			serialize((T) session, out);
+			return true;
+		}
+
+		return false;
 	}
 
 	public void serializeObject(Object obj, DataOutput out) throws IOException {
@@ -115,9 +112,17 @@ public abstract class AbstractDataSerializableSessionSerializer<T> extends DataS
 	@SuppressWarnings("unchecked")
 	public boolean canSerialize(Class<?> type) {
 
-		return Arrays.stream(nullSafeArray(getSupportedClasses(), Class.class))
-			.filter(it -> type != null)
-			.anyMatch(supportedClass -> supportedClass.isAssignableFrom(type));
+		Class<?>[] supportedClasses = nullSafeArray(getSupportedClasses(), Class.class);
+
+		if (type != null) {
+			for (Class<?> supportedClass : supportedClasses) {
+				if (supportedClass.isAssignableFrom(type)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
 	}
 
 	protected <T> T safeRead(DataInput in, DataInputReader<T> reader) {
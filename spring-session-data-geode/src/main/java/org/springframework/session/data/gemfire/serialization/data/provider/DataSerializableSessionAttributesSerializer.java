@@ -17,25 +17,32 @@
 package org.springframework.session.data.gemfire.serialization.data.provider;
 
 import static org.springframework.data.gemfire.util.ArrayUtils.asArray;
-import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeSet;
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeMap;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.DeltaCapableGemFireSessionAttributes;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSessionAttributes;
 
 import java.io.DataInput;
 import java.io.DataOutput;
-import java.util.Set;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.apache.geode.DataSerializer;
 
 import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.serialization.SerializationException;
 import org.springframework.session.data.gemfire.serialization.SessionSerializer;
 import org.springframework.session.data.gemfire.serialization.data.AbstractDataSerializableSessionSerializer;
+import org.springframework.session.data.gemfire.serialization.data.support.ChunkedValue;
 
 /**
  * The {@link DataSerializableSessionAttributesSerializer} class is an implementation of the {@link SessionSerializer}
  * interface used to serialize a Spring {@link Session} attributes using the GemFire/Geode's Data Serialization
  * framework.
  *
+ * An attribute value whose serialized form exceeds the {@link ChunkedValue#getChunkingThreshold() chunking threshold}
+ * is streamed in fixed-size chunks as a {@link ChunkedValue}.  All other attribute values are written inline.
+ *
  * @author John Blum
  * @see java.io.DataInput
  * @see java.io.DataOutput
@@ -45,6 +52,7 @@ import org.springframework.session.data.gemfire.serialization.data.AbstractDataS
  * @see org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSessionAttributes
  * @see org.springframework.session.data.gemfire.serialization.SessionSerializer
  * @see org.springframework.session.data.gemfire.serialization.data.AbstractDataSerializableSessionSerializer
+ * @see org.springframework.session.data.gemfire.serialization.data.support.ChunkedValue
  * @since 2.0.0
  */
 @SuppressWarnings("unused")
@@ -87,28 +95,58 @@ public class DataSerializableSessionAttributesSerializer
 	@Override
 	public void serialize(GemFireSessionAttributes sessionAttributes, DataOutput out) {
 
-		synchronized (sessionAttributes.getLock()) {
+		Map<String, Object> sessionAttributesSnapshot = nullSafeMap(sessionAttributes.getMap());
+
+		safeWrite(out, output -> output.writeInt(sessionAttributesSnapshot.size()));
+
+		// Map.forEach(..) does not allocate an Iterator or Map.Entry per attribute
+		sessionAttributesSnapshot.forEach((attributeName, attributeValue) ->
+			serializeAttribute(attributeName, attributeValue, out));
+	}
 
-			Set<String> attributeNames = nullSafeSet(sessionAttributes.getAttributeNames());
+	private void serializeAttribute(String attributeName, Object attributeValue, DataOutput out) {
 
-			safeWrite(out, output -> output.writeInt(attributeNames.size()));
+		try {
+			out.writeUTF(attributeName);
 
-			attributeNames.forEach(attributeName -> {
-				safeWrite(out, output -> output.writeUTF(attributeName));
-				safeWrite(out, output -> serializeObject(sessionAttributes.getAttribute(attributeName), output));
-			});
+			if (ChunkedValue.isInline(attributeValue)) {
+				serializeObject(attributeValue, out);
+			}
+			else {
+				ChunkedValue.writeObject(attributeValue, out, this::serializeObject);
+			}
+		}
+		catch (IOException cause) {
+			throw new SerializationException(cause);
 		}
 	}
 
 	@Override
 	public GemFireSessionAttributes deserialize(DataInput in) {
 
-		GemFireSessionAttributes sessionAttributes = GemFireSessionAttributes.create();
+		try {
+			int count = in.readInt();
 
-		for (int count = safeRead(in, DataInput::readInt); count > 0; count--) {
-			sessionAttributes.setAttribute(safeRead(in, DataInput::readUTF), safeRead(in, this::deserializeObject));
-		}
+			Map<String, Object> attributes = new HashMap<>(count * 4 / 3 + 1);
+
+			while (count-- > 0) {
 
-		return sessionAttributes;
+				String attributeName = in.readUTF();
+				Object attributeValue = ChunkedValue.unwrap(deserializeObject(in));
+
+				if (attributeValue != null) {
+					attributes.put(attributeName, attributeValue);
+				}
+			}
+
+			GemFireSessionAttributes sessionAttributes = GemFireSessionAttributes.create();
+
+			sessionAttributes.load(attributes);
+
+			return sessionAttributes;
+		}
+		catch (ClassNotFoundException | IOException cause) {
+			throw new SerializationException(cause);
+		}
 	}
 }
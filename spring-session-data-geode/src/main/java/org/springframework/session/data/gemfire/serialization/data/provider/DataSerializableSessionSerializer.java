@@ -17,13 +17,14 @@
 package org.springframework.session.data.gemfire.serialization.data.provider;
 
 import static org.springframework.data.gemfire.util.ArrayUtils.asArray;
+import static org.springframework.session.FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME;
 
 import java.io.DataInput;
 import java.io.DataOutput;
-import java.time.Duration;
-import java.time.Instant;
+import java.io.IOException;
 import java.util.Collections;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.geode.DataSerializer;
 
@@ -31,15 +32,18 @@ import org.springframework.session.Session;
 import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.DeltaCapableGemFireSession;
 import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
 import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSessionAttributes;
+import org.springframework.session.data.gemfire.serialization.SerializationException;
 import org.springframework.session.data.gemfire.serialization.SessionSerializer;
 import org.springframework.session.data.gemfire.serialization.data.AbstractDataSerializableSessionSerializer;
-import org.springframework.session.data.gemfire.support.AbstractSession;
 import org.springframework.util.StringUtils;
 
 /**
  * The {@link DataSerializableSessionSerializer} class is an implementation of the {@link SessionSerializer} interface
  * used to serialize a Spring {@link Session} using the GemFire/Geode's Data Serialization framework.
  *
+ * The {@link Session} is written field by field and read directly into a new {@link GemFireSession}
+ * without any intermediate objects, and the {@link Session} attributes are loaded in bulk.
+ *
  * @author John Blum
  * @see java.io.DataInput
  * @see java.io.DataOutput
@@ -51,7 +55,6 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSessionAttributes
  * @see org.springframework.session.data.gemfire.serialization.SessionSerializer
  * @see org.springframework.session.data.gemfire.serialization.data.AbstractDataSerializableSessionSerializer
- * @see org.springframework.session.data.gemfire.support.AbstractSession
  * @since 2.0.0
  */
 @SuppressWarnings("unused")
@@ -95,66 +98,58 @@ public class DataSerializableSessionSerializer extends AbstractDataSerializableS
 	@Override
 	public void serialize(GemFireSession session, DataOutput out) {
 
-		synchronized (session) {
-
-			safeWrite(out, output -> output.writeUTF(session.getId()));
-			safeWrite(out, output -> output.writeLong(session.getCreationTime().toEpochMilli()));
-			safeWrite(out, output -> output.writeLong(session.getLastAccessedTime().toEpochMilli()));
-			safeWrite(out, output -> output.writeLong(session.getMaxInactiveInterval().getSeconds()));
+		try {
+			out.writeUTF(session.getId());
+			out.writeLong(session.getCreationTimeInMillis());
+			out.writeLong(session.getLastAccessedTimeInMillis());
+			out.writeLong(session.getMaxInactiveIntervalInSeconds());
 
 			String principalName = session.getPrincipalName();
 
 			int principalNameLength = StringUtils.hasText(principalName) ? principalName.length() : 0;
 
-			safeWrite(out, output -> output.writeInt(principalNameLength));
+			out.writeInt(principalNameLength);
 
 			if (principalNameLength > 0) {
-				safeWrite(out, output -> output.writeUTF(principalName));
+				out.writeUTF(principalName);
 			}
 
-			safeWrite(out, output -> serializeObject(session.getAttributes(), output));
+			serializeObject(session.getAttributes(), out);
+		}
+		catch (IOException cause) {
+			throw new SerializationException(cause);
 		}
 	}
 
 	@Override
 	public GemFireSession deserialize(DataInput in) {
 
-		GemFireSession session = GemFireSession.from(new AbstractSession() {
+		try {
+			String id = in.readUTF();
+			long creationTime = in.readLong();
+			long lastAccessedTime = in.readLong();
+			long maxInactiveIntervalInMillis = TimeUnit.SECONDS.toMillis(in.readLong());
 
-			@Override
-			public String getId() {
-				return safeRead(in, DataInput::readUTF);
-			}
+			GemFireSession session = GemFireSession.from(id, creationTime, lastAccessedTime, maxInactiveIntervalInMillis);
 
-			@Override
-			public Instant getCreationTime() {
-				return safeRead(in, in -> Instant.ofEpochMilli(in.readLong()));
-			}
+			String principalName = in.readInt() > 0 ? in.readUTF() : null;
 
-			@Override
-			public Instant getLastAccessedTime() {
-				return safeRead(in, in -> Instant.ofEpochMilli(in.readLong()));
-			}
+			GemFireSessionAttributes sessionAttributes = deserializeObject(in);
 
-			@Override
-			public Duration getMaxInactiveInterval() {
-				return safeRead(in, in -> Duration.ofSeconds(in.readLong()));
-			}
+			Map<String, Object> attributes = sessionAttributes != null
+				? sessionAttributes.getMap()
+				: Collections.emptyMap();
 
-			@Override
-			public Set<String> getAttributeNames() {
-				return Collections.emptySet();
-			}
-		});
+			session.getAttributes().load(attributes);
 
-		int principalNameLength = safeRead(in, DataInput::readInt);
+			if (principalName != null && !attributes.containsKey(PRINCIPAL_NAME_INDEX_NAME)) {
+				session.getAttributes().load(Collections.singletonMap(PRINCIPAL_NAME_INDEX_NAME, principalName));
+			}
 
-		if (principalNameLength > 0) {
-			session.setPrincipalName(safeRead(in, DataInput::readUTF));
+			return session;
+		}
+		catch (ClassNotFoundException | IOException cause) {
+			throw new SerializationException(cause);
 		}
-
-		session.getAttributes().from(this.<GemFireSessionAttributes>safeRead(in, this::deserializeObject));
-
-		return session;
 	}
 }
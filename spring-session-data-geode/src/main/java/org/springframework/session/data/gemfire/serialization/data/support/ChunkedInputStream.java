@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.serialization.data.support;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ChunkedInputStream} class is an {@link InputStream} reading the sequence of chunks
+ * written by a {@link ChunkedOutputStream} from a {@link DataInput}.
+ *
+ * The end of this stream is reached when the terminating chunk length of {@literal 0} is read.
+ * {@link #close() Closing} a {@link ChunkedInputStream} skips any remaining chunks so that the {@link DataInput}
+ * is positioned after the terminating chunk length, but does not close the underlying {@link DataInput}.
+ *
+ * @author John Blum
+ * @see java.io.DataInput
+ * @see java.io.InputStream
+ * @see org.springframework.session.data.gemfire.serialization.data.support.ChunkedOutputStream
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class ChunkedInputStream extends InputStream {
+
+	private boolean endOfChunks;
+
+	private int remaining;
+
+	private final DataInput in;
+
+	/**
+	 * Constructs a new instance of {@link ChunkedInputStream} reading chunks from the given {@link DataInput}.
+	 *
+	 * @param in {@link DataInput} to read the chunks from.
+	 * @throws IllegalArgumentException if {@link DataInput} is {@literal null}.
+	 */
+	public ChunkedInputStream(@NonNull DataInput in) {
+
+		Assert.notNull(in, "DataInput is required");
+
+		this.in = in;
+	}
+
+	private boolean hasRemaining() throws IOException {
+
+		if (this.remaining == 0 && !this.endOfChunks) {
+
+			int length = this.in.readInt();
+
+			if (length < 0) {
+				throw new IOException(String.format("Chunk length [%d] is not valid", length));
+			}
+
+			this.remaining = length;
+			this.endOfChunks = length == 0;
+		}
+
+		return this.remaining > 0;
+	}
+
+	@Override
+	public int available() {
+		return this.remaining;
+	}
+
+	@Override
+	public int read() throws IOException {
+
+		if (hasRemaining()) {
+			this.remaining--;
+			return this.in.readUnsignedByte();
+		}
+
+		return -1;
+	}
+
+	@Override
+	public int read(@NonNull byte[] bytes, int offset, int length) throws IOException {
+
+		if (offset < 0 || length < 0 || length > bytes.length - offset) {
+			throw new IndexOutOfBoundsException(String.format("Offset [%1$d] and length [%2$d] are not valid"
+				+ " for an array of length [%3$d]", offset, length, bytes.length));
+		}
+
+		if (length == 0) {
+			return 0;
+		}
+
+		if (hasRemaining()) {
+
+			int count = Math.min(length, this.remaining);
+
+			this.in.readFully(bytes, offset, count);
+			this.remaining -= count;
+
+			return count;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Skips all remaining chunks up to and including the terminating chunk length.
+	 *
+	 * @throws IOException if the remaining chunks could not be read.
+	 */
+	@Override
+	public void close() throws IOException {
+
+		while (hasRemaining()) {
+
+			int skipped = this.in.skipBytes(this.remaining);
+
+			if (skipped <= 0) {
+				this.in.readByte();
+				skipped = 1;
+			}
+
+			this.remaining -= skipped;
+		}
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.serialization.data.support;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.lang.NonNull;
+import org.springframework.session.data.gemfire.support.SerializationBuffer;
+import org.springframework.session.data.gemfire.support.SerializationBufferPool;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ChunkedOutputStream} class is an {@link OutputStream} writing bytes to a {@link DataOutput}
+ * as a sequence of chunks.
+ *
+ * Each chunk is written as an {@link Integer length} followed by at most {@link #getChunkSize() chunk size} bytes.
+ * The sequence of chunks is terminated by a chunk length of {@literal 0} when this stream is {@link #close() closed}.
+ * Therefore, a large value is streamed to the {@link DataOutput} in fixed-size pieces and never buffered as a single,
+ * contiguous byte array.  A {@link ChunkedOutputStream} is read with a {@link ChunkedInputStream}.
+ *
+ * Closing a {@link ChunkedOutputStream} does not close the underlying {@link DataOutput}.
+ *
+ * @author John Blum
+ * @see java.io.DataOutput
+ * @see java.io.OutputStream
+ * @see org.springframework.session.data.gemfire.serialization.data.support.ChunkedInputStream
+ * @see org.springframework.session.data.gemfire.support.SerializationBuffer
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class ChunkedOutputStream extends OutputStream {
+
+	public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+	private boolean closed;
+
+	private final int chunkSize;
+
+	private final DataOutput out;
+
+	private final SerializationBuffer buffer;
+
+	/**
+	 * Constructs a new instance of {@link ChunkedOutputStream} writing chunks of the {@link #DEFAULT_CHUNK_SIZE}
+	 * to the given {@link DataOutput}.
+	 *
+	 * @param out {@link DataOutput} to write the chunks to.
+	 * @throws IllegalArgumentException if {@link DataOutput} is {@literal null}.
+	 * @see #ChunkedOutputStream(DataOutput, int)
+	 */
+	public ChunkedOutputStream(@NonNull DataOutput out) {
+		this(out, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ChunkedOutputStream} writing chunks of the given {@link Integer size}
+	 * to the given {@link DataOutput}.
+	 *
+	 * @param out {@link DataOutput} to write the chunks to.
+	 * @param chunkSize maximum number of bytes in a chunk.
+	 * @throws IllegalArgumentException if {@link DataOutput} is {@literal null}
+	 * or the chunk size is less than {@literal 1}.
+	 * @see #ChunkedOutputStream(DataOutput, SerializationBuffer, int)
+	 */
+	public ChunkedOutputStream(@NonNull DataOutput out, int chunkSize) {
+		this(out, SerializationBufferPool.INSTANCE.acquire(), chunkSize);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ChunkedOutputStream} writing chunks of the given {@link Integer size}
+	 * to the given {@link DataOutput} and staging partial chunks in the given {@link SerializationBuffer}.
+	 *
+	 * Any bytes already written to the {@link SerializationBuffer} are written to the {@link DataOutput}
+	 * as the first chunks on the next write or when this stream is closed.  The {@link SerializationBuffer}
+	 * is {@link SerializationBuffer#close() closed} when this stream is {@link #close() closed}.
+	 *
+	 * @param out {@link DataOutput} to write the chunks to.
+	 * @param buffer {@link SerializationBuffer} used to stage partial chunks.
+	 * @param chunkSize maximum number of bytes in a chunk.
+	 * @throws IllegalArgumentException if {@link DataOutput} or {@link SerializationBuffer} is {@literal null},
+	 * or the chunk size is less than {@literal 1}.
+	 */
+	public ChunkedOutputStream(@NonNull DataOutput out, @NonNull SerializationBuffer buffer, int chunkSize) {
+
+		Assert.notNull(out, "DataOutput is required");
+		Assert.notNull(buffer, "SerializationBuffer is required");
+		Assert.isTrue(chunkSize > 0, () -> String.format("Chunk size [%d] must be greater than 0", chunkSize));
+
+		this.out = out;
+		this.buffer = buffer;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Returns the maximum number of bytes in a chunk.
+	 *
+	 * @return the maximum number of bytes in a chunk.
+	 */
+	public int getChunkSize() {
+		return this.chunkSize;
+	}
+
+	private void assertNotClosed() throws IOException {
+
+		if (this.closed) {
+			throw new IOException("Stream is closed");
+		}
+	}
+
+	private void writeBufferedChunks() throws IOException {
+
+		int size = this.buffer.size();
+
+		for (int offset = 0; offset < size; offset += this.chunkSize) {
+
+			int length = Math.min(this.chunkSize, size - offset);
+
+			this.out.writeInt(length);
+			this.buffer.writeTo(this.out, offset, length);
+		}
+
+		this.buffer.reset();
+	}
+
+	@Override
+	public void write(int value) throws IOException {
+
+		assertNotClosed();
+
+		if (this.buffer.size() >= this.chunkSize) {
+			writeBufferedChunks();
+		}
+
+		this.buffer.write(value);
+	}
+
+	@Override
+	public void write(@NonNull byte[] bytes, int offset, int length) throws IOException {
+
+		if (offset < 0 || length < 0 || length > bytes.length - offset) {
+			throw new IndexOutOfBoundsException(String.format("Offset [%1$d] and length [%2$d] are not valid"
+				+ " for an array of length [%3$d]", offset, length, bytes.length));
+		}
+
+		assertNotClosed();
+
+		while (length > 0) {
+
+			if (this.buffer.size() >= this.chunkSize) {
+				writeBufferedChunks();
+			}
+
+			if (this.buffer.size() == 0 && length >= this.chunkSize) {
+				// Write whole chunks directly from the caller's array without staging
+				this.out.writeInt(this.chunkSize);
+				this.out.write(bytes, offset, this.chunkSize);
+				offset += this.chunkSize;
+				length -= this.chunkSize;
+			}
+			else {
+
+				int count = Math.min(length, this.chunkSize - this.buffer.size());
+
+				this.buffer.write(bytes, offset, count);
+				offset += count;
+				length -= count;
+			}
+		}
+	}
+
+	/**
+	 * Writes any partial chunk followed by the terminating chunk length of {@literal 0}
+	 * and releases the {@link SerializationBuffer}.
+	 *
+	 * @throws IOException if the chunks could not be written.
+	 */
+	@Override
+	public void close() throws IOException {
+
+		if (!this.closed) {
+			try {
+				writeBufferedChunks();
+				this.out.writeInt(0);
+			}
+			finally {
+				this.closed = true;
+				this.buffer.close();
+			}
+		}
+	}
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.serialization.data.support;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.geode.DataSerializable;
+import org.apache.geode.DataSerializer;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ChunkedValue} class is a {@link DataSerializable} wrapper for a (large) value serialized
+ * as a sequence of chunks with a {@link ChunkedOutputStream}.
+ *
+ * The serialized form of a {@link ChunkedValue} is a version byte followed by the chunked, serialized bytes
+ * of the wrapped value.  {@link #writeObject(Object, DataOutput, ObjectWriter)} writes a value inline, exactly as
+ * the given {@link ObjectWriter} would, as long as the serialized value does not exceed the
+ * {@link #getChunkingThreshold() chunking threshold}.  A value exceeding the threshold is written in the serialized
+ * form of a {@link ChunkedValue} instead, without serializing the value a second time and without buffering more than
+ * the threshold in memory.  Therefore, a multi-megabyte {@link org.springframework.session.Session} attribute
+ * does not require a single, contiguous (i.e. humongous) byte array during serialization.
+ *
+ * Values read with {@link DataSerializer#readObject(DataInput)} must be {@link #unwrap(Object) unwrapped}.
+ *
+ * The chunking threshold is static and therefore applies to every
+ * {@link org.springframework.session.data.gemfire.serialization.SessionSerializer} in the JVM (i.e. class loader).
+ *
+ * @author John Blum
+ * @see org.apache.geode.DataSerializable
+ * @see org.apache.geode.DataSerializer
+ * @see org.springframework.session.data.gemfire.serialization.data.support.ChunkedInputStream
+ * @see org.springframework.session.data.gemfire.serialization.data.support.ChunkedOutputStream
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class ChunkedValue implements DataSerializable {
+
+	public static final int DEFAULT_CHUNKING_THRESHOLD = 256 * 1024;
+
+	private static final long serialVersionUID = 1L;
+
+	private static final byte VERSION = 1;
+
+	private static final AtomicInteger chunkingThreshold = new AtomicInteger(DEFAULT_CHUNKING_THRESHOLD);
+
+	private static final ChunkedValue HEADER = new ChunkedValue(null, true);
+
+	private final transient boolean header;
+
+	private Object value;
+
+	/**
+	 * Sets the size, in bytes, of a serialized value above which the value is written in chunks.
+	 *
+	 * This is a JVM-wide setting.
+	 *
+	 * @param threshold size, in bytes, of a serialized value above which the value is written in chunks.
+	 * @throws IllegalArgumentException if the threshold is less than {@literal 1}.
+	 * @see #DEFAULT_CHUNKING_THRESHOLD
+	 */
+	public static void setChunkingThreshold(int threshold) {
+
+		Assert.isTrue(threshold > 0,
+			() -> String.format("Chunking threshold [%d] must be greater than 0", threshold));
+
+		chunkingThreshold.set(threshold);
+	}
+
+	/**
+	 * Returns the size, in bytes, of a serialized value above which the value is written in chunks.
+	 *
+	 * Defaults to {@literal 256 KB}, which is below the G1 region size of most heaps, so that serializing
+	 * a large value never requires a humongous allocation.
+	 *
+	 * @return the size, in bytes, of a serialized value above which the value is written in chunks.
+	 * @see #DEFAULT_CHUNKING_THRESHOLD
+	 */
+	public static int getChunkingThreshold() {
+		return chunkingThreshold.get();
+	}
+
+	/**
+	 * Determines whether the given value is known to serialize to less than the {@link #getChunkingThreshold()
+	 * chunking threshold} and {@link CompressedValue#getCompressionThreshold() compression threshold}
+	 * without serializing the value.
+	 *
+	 * @param value {@link Object} to evaluate.
+	 * @return a boolean value indicating whether the given value is always written inline.
+	 */
+	public static boolean isInline(@Nullable Object value) {
+
+		return value == null
+			|| value instanceof Boolean
+			|| value instanceof Character
+			|| value instanceof Byte
+			|| value instanceof Short
+			|| value instanceof Integer
+			|| value instanceof Long
+			|| value instanceof Float
+			|| value instanceof Double
+			|| value instanceof Date
+			|| (value instanceof String && ((String) value).length() <= getInlineStringLength());
+	}
+
+	// A String of at most this many characters serializes to less than the chunking and compression thresholds
+	private static int getInlineStringLength() {
+
+		int threshold = CompressedValue.isCompressionEnabled()
+			? Math.min(getChunkingThreshold(), CompressedValue.getCompressionThreshold())
+			: getChunkingThreshold();
+
+		return threshold / 4;
+	}
+
+	/**
+	 * Writes the given value to the given {@link DataOutput} with the given {@link ObjectWriter}, inline if
+	 * the serialized value does not exceed the {@link #getChunkingThreshold() chunking threshold}, or as
+	 * a {@link ChunkedValue} otherwise.  When {@link CompressedValue#isCompressionEnabled() compression is enabled},
+	 * a serialized value of at least the {@link CompressedValue#getCompressionThreshold() compression threshold}
+	 * that compresses well is written as a {@link CompressedValue}.
+	 *
+	 * @param value {@link Object} to write.
+	 * @param out {@link DataOutput} to write the value to.
+	 * @param writer {@link ObjectWriter} used to serialize the value.
+	 * @throws IOException if the value could not be written.
+	 * @see #isInline(Object)
+	 */
+	public static void writeObject(@Nullable Object value, @NonNull DataOutput out, @NonNull ObjectWriter writer)
+			throws IOException {
+
+		if (isInline(value)) {
+			writer.write(value, out);
+		}
+		else {
+
+			ChunkingOutputStream chunkingOut = new ChunkingOutputStream(out, getChunkingThreshold());
+
+			try {
+				writer.write(value, new DataOutputStream(chunkingOut));
+				chunkingOut.finish();
+			}
+			finally {
+				chunkingOut.close();
+			}
+		}
+	}
+
+	/**
+	 * Writes the header of a {@link ChunkedValue} to the given {@link DataOutput}.  The header must be followed by
+	 * the serialized bytes of the value written to a {@link ChunkedOutputStream} on the same {@link DataOutput}.
+	 *
+	 * @param out {@link DataOutput} to write the header to.
+	 * @throws IOException if the header could not be written.
+	 */
+	static void writeHeader(@NonNull DataOutput out) throws IOException {
+		DataSerializer.writeObject(HEADER, out);
+	}
+
+	/**
+	 * Returns the wrapped value if the given value is a {@link ChunkedValue}, otherwise returns the given value.
+	 *
+	 * @param value {@link Object} read with {@link DataSerializer#readObject(DataInput)}.
+	 * @return the unwrapped value.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T unwrap(@Nullable Object value) {
+		return (T) (value instanceof ChunkedValue ? ((ChunkedValue) value).getValue() : value);
+	}
+
+	/**
+	 * Constructs a new, empty instance of {@link ChunkedValue} to be initialized with
+	 * {@link #fromData(DataInput)} during deserialization.
+	 */
+	public ChunkedValue() {
+		this(null, false);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ChunkedValue} wrapping the given value.
+	 *
+	 * @param value {@link Object} to wrap.
+	 */
+	public ChunkedValue(@Nullable Object value) {
+		this(value, false);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ChunkedValue} wrapping the given value, or representing only the header
+	 * of the serialized form when {@code header} is {@literal true}.
+	 *
+	 * @param value {@link Object} to wrap.
+	 * @param header boolean value indicating whether this {@link ChunkedValue} only writes the header.
+	 */
+	protected ChunkedValue(@Nullable Object value, boolean header) {
+		this.value = value;
+		this.header = header;
+	}
+
+	/**
+	 * Returns the wrapped value.
+	 *
+	 * @return the wrapped value.
+	 */
+	public @Nullable Object getValue() {
+		return this.value;
+	}
+
+	/**
+	 * Writes any metadata of this value following the version byte and preceding the chunks.
+	 *
+	 * @param out {@link DataOutput} to write the metadata to.
+	 * @throws IOException if the metadata could not be written.
+	 */
+	protected void writeMetadata(DataOutput out) throws IOException { }
+
+	/**
+	 * Reads the metadata written by {@link #writeMetadata(DataOutput)}.
+	 *
+	 * @param in {@link DataInput} to read the metadata from.
+	 * @throws IOException if the metadata could not be read.
+	 */
+	protected void readMetadata(DataInput in) throws IOException { }
+
+	/**
+	 * Returns the {@link OutputStream} to which the serialized value is written before it is written in chunks.
+	 *
+	 * @param chunks {@link ChunkedOutputStream} writing the chunks.
+	 * @return the {@link OutputStream} to which the serialized value is written.
+	 * @throws IOException if the {@link OutputStream} could not be created.
+	 */
+	protected OutputStream encode(ChunkedOutputStream chunks) throws IOException {
+		return chunks;
+	}
+
+	/**
+	 * Returns the {@link InputStream} from which the serialized value is read.
+	 *
+	 * @param chunks {@link ChunkedInputStream} reading the chunks.
+	 * @return the {@link InputStream} from which the serialized value is read.
+	 * @throws IOException if the {@link InputStream} could not be created.
+	 */
+	protected InputStream decode(ChunkedInputStream chunks) throws IOException {
+		return chunks;
+	}
+
+	/**
+	 * Writes the chunks of the serialized value.
+	 *
+	 * @param out {@link DataOutput} to write the chunks to.
+	 * @throws IOException if the value could not be written.
+	 */
+	protected void writeChunks(DataOutput out) throws IOException {
+
+		try (ChunkedOutputStream chunks = new ChunkedOutputStream(out); OutputStream encoded = encode(chunks)) {
+			DataSerializer.writeObject(this.value, new DataOutputStream(encoded));
+		}
+	}
+
+	@Override
+	public void toData(DataOutput out) throws IOException {
+
+		out.writeByte(VERSION);
+		writeMetadata(out);
+
+		if (!this.header) {
+			writeChunks(out);
+		}
+	}
+
+	@Override
+	public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+
+		byte version = in.readByte();
+
+		if (version != VERSION) {
+			throw new IOException(String.format("%1$s version [%2$d] is not supported",
+				getClass().getSimpleName(), version));
+		}
+
+		readMetadata(in);
+
+		try (ChunkedInputStream chunks = new ChunkedInputStream(in); InputStream decoded = decode(chunks)) {
+			this.value = DataSerializer.readObject(new DataInputStream(decoded));
+		}
+	}
+
+	@FunctionalInterface
+	public interface ObjectWriter {
+		void write(Object value, DataOutput out) throws IOException;
+	}
+}
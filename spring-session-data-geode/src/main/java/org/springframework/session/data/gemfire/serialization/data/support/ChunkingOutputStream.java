@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.serialization.data.support;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.lang.NonNull;
+import org.springframework.session.data.gemfire.support.SerializationBuffer;
+import org.springframework.session.data.gemfire.support.SerializationBufferPool;
+
+/**
+ * The {@link ChunkingOutputStream} class is an {@link OutputStream} buffering a serialized value up to
+ * a threshold and switching to the chunked serialized form of a {@link ChunkedValue} once the threshold is exceeded.
+ *
+ * When {@link CompressedValue#isCompressionEnabled() compression is enabled}, a value that compresses well
+ * is written in the serialized form of a {@link CompressedValue} instead.  The compressibility of a value exceeding
+ * the threshold is determined from the buffered bytes.
+ *
+ * @author John Blum
+ * @see org.springframework.session.data.gemfire.serialization.data.support.ChunkedOutputStream
+ * @see org.springframework.session.data.gemfire.serialization.data.support.ChunkedValue
+ * @see org.springframework.session.data.gemfire.serialization.data.support.CompressedValue
+ * @see org.springframework.session.data.gemfire.support.SerializationBuffer
+ * @since 2.1.3
+ */
+class ChunkingOutputStream extends OutputStream {
+
+	private ChunkedOutputStream chunkedOut;
+
+	private OutputStream chunkingOut;
+
+	private final int threshold;
+
+	private final DataOutput out;
+
+	private final SerializationBuffer buffer;
+
+	ChunkingOutputStream(@NonNull DataOutput out, int threshold) {
+		this.out = out;
+		this.threshold = threshold;
+		this.buffer = SerializationBufferPool.INSTANCE.acquire();
+	}
+
+	boolean isChunked() {
+		return this.chunkingOut != null;
+	}
+
+	private OutputStream outputFor(int length) throws IOException {
+
+		if (this.chunkingOut == null && this.buffer.size() + length > this.threshold) {
+			startChunking();
+		}
+
+		return this.chunkingOut != null ? this.chunkingOut : this.buffer;
+	}
+
+	private void startChunking() throws IOException {
+
+		CompressionCodec codec = CompressedValue.getCompressionCodec();
+
+		if (codec != null && isCompressible(codec)) {
+			CompressedValue.writeHeader(this.out, codec);
+			this.chunkedOut = new ChunkedOutputStream(this.out);
+			this.chunkingOut = codec.compress(this.chunkedOut);
+			this.chunkingOut.write(this.buffer.getBuffer(), 0, this.buffer.size());
+			this.buffer.reset();
+		}
+		else {
+			ChunkedValue.writeHeader(this.out);
+			this.chunkedOut = new ChunkedOutputStream(this.out, this.buffer, ChunkedOutputStream.DEFAULT_CHUNK_SIZE);
+			this.chunkingOut = this.chunkedOut;
+		}
+	}
+
+	private boolean isCompressible(CompressionCodec codec) throws IOException {
+
+		SerializationBuffer compressed = CompressedValue.compress(this.buffer, codec);
+
+		if (compressed != null) {
+			compressed.close();
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public void write(int value) throws IOException {
+		outputFor(1).write(value);
+	}
+
+	@Override
+	public void write(@NonNull byte[] bytes, int offset, int length) throws IOException {
+		outputFor(length).write(bytes, offset, length);
+	}
+
+	/**
+	 * Writes the buffered value inline or compressed, or terminates the chunks of a {@link ChunkedValue}.
+	 *
+	 * @throws IOException if the value could not be written.
+	 */
+	void finish() throws IOException {
+
+		if (this.chunkingOut != null) {
+			this.chunkingOut.close();
+			this.chunkedOut.close();
+		}
+		else if (!writeCompressed()) {
+			this.buffer.writeTo(this.out);
+		}
+	}
+
+	private boolean writeCompressed() throws IOException {
+
+		CompressionCodec codec = CompressedValue.getCompressionCodec();
+
+		if (codec != null && this.buffer.size() >= CompressedValue.getCompressionThreshold()) {
+
+			SerializationBuffer compressed = CompressedValue.compress(this.buffer, codec);
+
+			if (compressed != null) {
+				try {
+					CompressedValue.writeHeader(this.out, codec);
+					new ChunkedOutputStream(this.out, compressed, ChunkedOutputStream.DEFAULT_CHUNK_SIZE).close();
+					return true;
+				}
+				finally {
+					compressed.close();
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Releases the {@link SerializationBuffer} and any {@link CompressionCodec} resources.  The {@link DataOutput}
+	 * must be discarded if {@link #finish()} did not complete.
+	 */
+	@Override
+	public void close() {
+
+		try {
+			if (this.chunkingOut != null) {
+				this.chunkingOut.close();
+			}
+		}
+		catch (IOException ignore) { }
+		finally {
+			this.buffer.close();
+		}
+	}
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.serialization.data.support;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.geode.DataSerializer;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.data.gemfire.support.SerializationBuffer;
+import org.springframework.session.data.gemfire.support.SerializationBufferPool;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link CompressedValue} class is a {@link ChunkedValue} whose chunks contain the serialized bytes
+ * of the wrapped value compressed with a {@link CompressionCodec}.
+ *
+ * The serialized form is self-describing: the {@link CompressionCodec#getId() identifier}
+ * of the {@link CompressionCodec} follows the version byte.  Therefore, any member having the {@link CompressionCodec}
+ * {@link #registerCompressionCodec(CompressionCodec) registered} can read the value, regardless of
+ * the {@link #getCompressionCodec() CompressionCodec} used to write values, or whether compression is enabled at all.
+ * The {@link DeflaterCompressionCodec} is always registered.
+ *
+ * Compression is disabled by default and is enabled by {@link #setCompressionCodec(CompressionCodec) setting}
+ * a {@link CompressionCodec}.  Only serialized values of at least the {@link #getCompressionThreshold() compression
+ * threshold} are compressed, and only if compression reduces the size of the value by at least 10 percent.
+ *
+ * The {@link CompressionCodec} and compression threshold are static and therefore apply to every
+ * {@link org.springframework.session.data.gemfire.serialization.SessionSerializer} in the JVM (i.e. class loader).
+ * Configuring them for one Spring {@link org.springframework.context.ApplicationContext} changes them
+ * for all other {@link org.springframework.context.ApplicationContext ApplicationContexts} in the same JVM.
+ *
+ * @author John Blum
+ * @see org.springframework.session.data.gemfire.serialization.data.support.ChunkedValue
+ * @see org.springframework.session.data.gemfire.serialization.data.support.CompressionCodec
+ * @see org.springframework.session.data.gemfire.serialization.data.support.DeflaterCompressionCodec
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class CompressedValue extends ChunkedValue {
+
+	public static final int DEFAULT_COMPRESSION_THRESHOLD = 4 * 1024;
+
+	private static final long serialVersionUID = 1L;
+
+	private static final int MAXIMUM_COMPRESSED_SIZE_PERCENTAGE = 90;
+
+	private static final AtomicInteger compressionThreshold = new AtomicInteger(DEFAULT_COMPRESSION_THRESHOLD);
+
+	private static final AtomicReference<CompressionCodec> compressionCodec = new AtomicReference<>();
+
+	private static final AtomicReferenceArray<CompressionCodec> compressionCodecs = new AtomicReferenceArray<>(256);
+
+	// Separate from the SerializationBufferPool.INSTANCE holding the uncompressed bytes
+	private static final SerializationBufferPool compressionBufferPool = new SerializationBufferPool();
+
+	static {
+		registerCompressionCodec(DeflaterCompressionCodec.INSTANCE);
+	}
+
+	private transient byte[] compressedBytes;
+
+	private transient CompressionCodec codec;
+
+	/**
+	 * Sets the {@link CompressionCodec} used to compress values, registering the {@link CompressionCodec}.
+	 *
+	 * This is a JVM-wide setting.
+	 *
+	 * @param codec {@link CompressionCodec} used to compress values; {@literal null} disables compression.
+	 * @see #registerCompressionCodec(CompressionCodec)
+	 */
+	public static void setCompressionCodec(@Nullable CompressionCodec codec) {
+
+		if (codec != null) {
+			registerCompressionCodec(codec);
+		}
+
+		compressionCodec.set(codec);
+	}
+
+	/**
+	 * Returns the {@link CompressionCodec} used to compress values, or {@literal null} if compression is disabled.
+	 *
+	 * @return the {@link CompressionCodec} used to compress values, or {@literal null} if compression is disabled.
+	 */
+	public static @Nullable CompressionCodec getCompressionCodec() {
+		return compressionCodec.get();
+	}
+
+	/**
+	 * Determines whether values are compressed.
+	 *
+	 * @return a boolean value indicating whether values are compressed.
+	 * @see #getCompressionCodec()
+	 */
+	public static boolean isCompressionEnabled() {
+		return getCompressionCodec() != null;
+	}
+
+	/**
+	 * Sets the minimum size, in bytes, of a serialized value to be compressed.
+	 *
+	 * This is a JVM-wide setting.
+	 *
+	 * @param threshold minimum size, in bytes, of a serialized value to be compressed.
+	 * @throws IllegalArgumentException if the threshold is less than {@literal 1}.
+	 * @see #DEFAULT_COMPRESSION_THRESHOLD
+	 */
+	public static void setCompressionThreshold(int threshold) {
+
+		Assert.isTrue(threshold > 0,
+			() -> String.format("Compression threshold [%d] must be greater than 0", threshold));
+
+		compressionThreshold.set(threshold);
+	}
+
+	/**
+	 * Returns the minimum size, in bytes, of a serialized value to be compressed.
+	 *
+	 * @return the minimum size, in bytes, of a serialized value to be compressed.
+	 * @see #DEFAULT_COMPRESSION_THRESHOLD
+	 */
+	public static int getCompressionThreshold() {
+		return compressionThreshold.get();
+	}
+
+	/**
+	 * Registers the given {@link CompressionCodec} in order to read values compressed with the {@link CompressionCodec}.
+	 *
+	 * @param codec {@link CompressionCodec} to register.
+	 * @throws IllegalArgumentException if the {@link CompressionCodec} is {@literal null} or its identifier
+	 * is {@literal 0}.
+	 */
+	public static void registerCompressionCodec(@NonNull CompressionCodec codec) {
+
+		Assert.notNull(codec, "CompressionCodec is required");
+		Assert.isTrue(codec.getId() != 0,
+			() -> String.format("CompressionCodec [%s] identifier must not be 0", codec.getClass().getName()));
+
+		compressionCodecs.set(Byte.toUnsignedInt(codec.getId()), codec);
+	}
+
+	/**
+	 * Resolves the {@link #registerCompressionCodec(CompressionCodec) registered} {@link CompressionCodec}
+	 * with the given identifier.
+	 *
+	 * @param id identifier of the {@link CompressionCodec}.
+	 * @return the {@link CompressionCodec} with the given identifier.
+	 * @throws IOException if no {@link CompressionCodec} with the given identifier is registered.
+	 */
+	public static @NonNull CompressionCodec resolveCompressionCodec(byte id) throws IOException {
+
+		CompressionCodec codec = compressionCodecs.get(Byte.toUnsignedInt(id));
+
+		if (codec == null) {
+			throw new IOException(String.format("No CompressionCodec with identifier [%d] is registered", id));
+		}
+
+		return codec;
+	}
+
+	/**
+	 * Compresses the bytes written to the given {@link SerializationBuffer} with the given {@link CompressionCodec}.
+	 *
+	 * @param source {@link SerializationBuffer} containing the bytes to compress.
+	 * @param codec {@link CompressionCodec} used to compress the bytes.
+	 * @return a {@link SerializationBuffer} containing the compressed bytes, which must be
+	 * {@link SerializationBuffer#close() closed}, or {@literal null} if compression does not reduce the size
+	 * of the bytes sufficiently.
+	 * @throws IOException if the bytes could not be compressed.
+	 */
+	static @Nullable SerializationBuffer compress(@NonNull SerializationBuffer source, @NonNull CompressionCodec codec)
+			throws IOException {
+
+		SerializationBuffer compressed = compressionBufferPool.acquire();
+
+		try {
+			try (OutputStream compressing = codec.compress(compressed)) {
+				compressing.write(source.getBuffer(), 0, source.size());
+			}
+
+			if ((long) compressed.size() * 100 <= (long) source.size() * MAXIMUM_COMPRESSED_SIZE_PERCENTAGE) {
+				return compressed;
+			}
+		}
+		catch (IOException | RuntimeException cause) {
+			compressed.close();
+			throw cause;
+		}
+
+		compressed.close();
+
+		return null;
+	}
+
+	/**
+	 * Compresses the given value if {@link #isCompressionEnabled() compression is enabled},
+	 * the value serializes to at least the {@link #getCompressionThreshold() compression threshold}
+	 * and compression reduces the size of the serialized value sufficiently.
+	 *
+	 * @param value {@link Object} to compress.
+	 * @return a {@link CompressedValue} containing the compressed, serialized value, or {@literal null}
+	 * if the value is not compressed.
+	 * @throws IOException if the value could not be serialized or compressed.
+	 */
+	public static @Nullable CompressedValue compress(@Nullable Object value) throws IOException {
+
+		CompressionCodec codec = getCompressionCodec();
+
+		if (codec != null && !isInline(value)) {
+
+			try (SerializationBuffer buffer = SerializationBufferPool.INSTANCE.acquire()) {
+
+				DataSerializer.writeObject(value, buffer.getDataOutput());
+
+				if (buffer.size() >= getCompressionThreshold()) {
+
+					SerializationBuffer compressed = compress(buffer, codec);
+
+					if (compressed != null) {
+						try {
+							return new CompressedValue(value, codec, compressed.toByteArray());
+						}
+						finally {
+							compressed.close();
+						}
+					}
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Writes the header of a {@link CompressedValue} to the given {@link DataOutput}.  The header must be followed by
+	 * the bytes compressed with the given {@link CompressionCodec} written to a {@link ChunkedOutputStream}
+	 * on the same {@link DataOutput}.
+	 *
+	 * @param out {@link DataOutput} to write the header to.
+	 * @param codec {@link CompressionCodec} used to compress the bytes.
+	 * @throws IOException if the header could not be written.
+	 */
+	static void writeHeader(@NonNull DataOutput out, @NonNull CompressionCodec codec) throws IOException {
+		DataSerializer.writeObject(new CompressedValue(codec), out);
+	}
+
+	/**
+	 * Constructs a new, empty instance of {@link CompressedValue} to be initialized with
+	 * {@link #fromData(DataInput)} during deserialization.
+	 */
+	public CompressedValue() { }
+
+	/**
+	 * Constructs a new instance of {@link CompressedValue} wrapping the given value, which is compressed
+	 * with the given {@link CompressionCodec} when serialized.
+	 *
+	 * @param value {@link Object} to wrap.
+	 * @param codec {@link CompressionCodec} used to compress the value.
+	 * @throws IllegalArgumentException if the {@link CompressionCodec} is {@literal null}.
+	 */
+	public CompressedValue(@Nullable Object value, @NonNull CompressionCodec codec) {
+
+		super(value);
+
+		Assert.notNull(codec, "CompressionCodec is required");
+
+		this.codec = codec;
+	}
+
+	private CompressedValue(CompressionCodec codec) {
+		super(null, true);
+		this.codec = codec;
+	}
+
+	private CompressedValue(Object value, CompressionCodec codec, byte[] compressedBytes) {
+		super(value, false);
+		this.codec = codec;
+		this.compressedBytes = compressedBytes;
+	}
+
+	/**
+	 * Returns the {@link CompressionCodec} used to compress the value.
+	 *
+	 * @return the {@link CompressionCodec} used to compress the value.
+	 */
+	public CompressionCodec getCodec() {
+		return this.codec;
+	}
+
+	@Override
+	protected void writeMetadata(DataOutput out) throws IOException {
+		out.writeByte(this.codec.getId());
+	}
+
+	@Override
+	protected void readMetadata(DataInput in) throws IOException {
+		this.codec = resolveCompressionCodec(in.readByte());
+	}
+
+	@Override
+	protected OutputStream encode(ChunkedOutputStream chunks) throws IOException {
+		return this.codec.compress(chunks);
+	}
+
+	@Override
+	protected InputStream decode(ChunkedInputStream chunks) throws IOException {
+		return this.codec.decompress(chunks);
+	}
+
+	@Override
+	protected void writeChunks(DataOutput out) throws IOException {
+
+		if (this.compressedBytes != null) {
+			try (ChunkedOutputStream chunks = new ChunkedOutputStream(out)) {
+				chunks.write(this.compressedBytes);
+			}
+		}
+		else {
+			super.writeChunks(out);
+		}
+	}
+}
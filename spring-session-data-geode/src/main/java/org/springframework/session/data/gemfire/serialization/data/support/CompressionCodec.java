@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.serialization.data.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * The {@link CompressionCodec} interface defines a contract for compressing and decompressing
+ * the serialized bytes of a {@link org.springframework.session.Session} attribute value.
+ *
+ * Every {@link CompressionCodec} is identified by a unique {@link #getId() identifier}, which is written with
+ * the compressed bytes so that the bytes remain readable by any member having a {@link CompressionCodec}
+ * with the same identifier {@link CompressedValue#registerCompressionCodec(CompressionCodec) registered}.
+ * Identifier {@literal 0} is reserved.
+ *
+ * Closing a {@link #compress(OutputStream) compressing} {@link OutputStream} must finish compression,
+ * and closing either stream must release any resources held by the stream, but must not close the underlying stream.
+ *
+ * @author John Blum
+ * @see java.io.InputStream
+ * @see java.io.OutputStream
+ * @see org.springframework.session.data.gemfire.serialization.data.support.CompressedValue
+ * @see org.springframework.session.data.gemfire.serialization.data.support.DeflaterCompressionCodec
+ * @since 2.1.3
+ */
+public interface CompressionCodec {
+
+	/**
+	 * Returns the unique identifier of this {@link CompressionCodec}, which must not be {@literal 0}.
+	 *
+	 * @return the unique identifier of this {@link CompressionCodec}.
+	 */
+	byte getId();
+
+	/**
+	 * Returns an {@link OutputStream} compressing all bytes written to it into the given {@link OutputStream}.
+	 *
+	 * @param out {@link OutputStream} to write the compressed bytes to.
+	 * @return an {@link OutputStream} compressing all bytes written to it.
+	 * @throws IOException if the compressing {@link OutputStream} could not be created.
+	 * @see java.io.OutputStream
+	 */
+	@NonNull OutputStream compress(@NonNull OutputStream out) throws IOException;
+
+	/**
+	 * Returns an {@link InputStream} decompressing the bytes read from the given {@link InputStream}.
+	 *
+	 * @param in {@link InputStream} to read the compressed bytes from.
+	 * @return an {@link InputStream} decompressing the bytes read from the given {@link InputStream}.
+	 * @throws IOException if the decompressing {@link InputStream} could not be created.
+	 * @see java.io.InputStream
+	 */
+	@NonNull InputStream decompress(@NonNull InputStream in) throws IOException;
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.serialization.data.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link DeflaterCompressionCodec} class is the default {@link CompressionCodec} implementation
+ * using the JDK {@link Deflater} and {@link Inflater}.
+ *
+ * A {@link Deflater} and {@link Inflater} is retained per {@link Thread} and reset after each use, since creating
+ * and ending the native {@literal zlib} streams is considerably more expensive than compressing a small payload.
+ *
+ * @author John Blum
+ * @see java.util.zip.Deflater
+ * @see java.util.zip.Inflater
+ * @see org.springframework.session.data.gemfire.serialization.data.support.CompressionCodec
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class DeflaterCompressionCodec implements CompressionCodec {
+
+	public static final byte ID = 1;
+
+	public static final int DEFAULT_COMPRESSION_LEVEL = Deflater.BEST_SPEED;
+
+	public static final DeflaterCompressionCodec INSTANCE = new DeflaterCompressionCodec();
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final int compressionLevel;
+
+	private final ThreadLocal<Pooled<Deflater>> deflaters;
+
+	private final ThreadLocal<Pooled<Inflater>> inflaters = ThreadLocal.withInitial(() -> new Pooled<>(new Inflater()));
+
+	/**
+	 * Constructs a new instance of {@link DeflaterCompressionCodec} using the {@link #DEFAULT_COMPRESSION_LEVEL}.
+	 */
+	public DeflaterCompressionCodec() {
+		this(DEFAULT_COMPRESSION_LEVEL);
+	}
+
+	/**
+	 * Constructs a new instance of {@link DeflaterCompressionCodec} using the given {@link Deflater} compression level.
+	 *
+	 * @param compressionLevel {@link Deflater} compression level between {@literal 0} and {@literal 9}.
+	 * @throws IllegalArgumentException if the compression level is not valid.
+	 * @see java.util.zip.Deflater#setLevel(int)
+	 */
+	public DeflaterCompressionCodec(int compressionLevel) {
+
+		Assert.isTrue(compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION,
+			() -> String.format("Compression level [%d] must be between 0 and 9", compressionLevel));
+
+		this.compressionLevel = compressionLevel;
+		this.deflaters = ThreadLocal.withInitial(() -> new Pooled<>(new Deflater(compressionLevel)));
+	}
+
+	/**
+	 * Returns the {@link Deflater} compression level.
+	 *
+	 * @return the {@link Deflater} compression level.
+	 */
+	public int getCompressionLevel() {
+		return this.compressionLevel;
+	}
+
+	@Override
+	public byte getId() {
+		return ID;
+	}
+
+	@Override
+	public @NonNull OutputStream compress(@NonNull OutputStream out) {
+
+		Pooled<Deflater> pooledDeflater = this.deflaters.get();
+
+		// The Thread's Deflater is already in use during nested compression
+		boolean pooled = pooledDeflater.acquire();
+
+		Deflater deflater = pooled ? pooledDeflater.resource : new Deflater(this.compressionLevel);
+
+		return new DeflaterOutputStream(out, deflater, BUFFER_SIZE) {
+
+			private boolean closed;
+
+			@Override
+			public void close() throws IOException {
+
+				if (!this.closed) {
+					try {
+						finish();
+						flush();
+					}
+					finally {
+
+						this.closed = true;
+
+						if (pooled) {
+							deflater.reset();
+							pooledDeflater.release();
+						}
+						else {
+							deflater.end();
+						}
+					}
+				}
+			}
+		};
+	}
+
+	@Override
+	public @NonNull InputStream decompress(@NonNull InputStream in) {
+
+		Pooled<Inflater> pooledInflater = this.inflaters.get();
+
+		boolean pooled = pooledInflater.acquire();
+
+		Inflater inflater = pooled ? pooledInflater.resource : new Inflater();
+
+		return new InflaterInputStream(in, inflater, BUFFER_SIZE) {
+
+			private boolean closed;
+
+			@Override
+			public void close() {
+
+				if (!this.closed) {
+
+					this.closed = true;
+
+					if (pooled) {
+						inflater.reset();
+						pooledInflater.release();
+					}
+					else {
+						inflater.end();
+					}
+				}
+			}
+		};
+	}
+
+	private static final class Pooled<T> {
+
+		private boolean inUse;
+
+		private final T resource;
+
+		private Pooled(T resource) {
+			this.resource = resource;
+		}
+
+		private boolean acquire() {
+
+			if (this.inUse) {
+				return false;
+			}
+
+			this.inUse = true;
+
+			return true;
+		}
+
+		private void release() {
+			this.inUse = false;
+		}
+	}
+}
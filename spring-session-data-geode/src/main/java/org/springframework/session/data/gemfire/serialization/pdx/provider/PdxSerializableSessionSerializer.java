@@ -18,6 +18,7 @@ package org.springframework.session.data.gemfire.serialization.pdx.provider;
 
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
@@ -30,7 +31,10 @@ import org.apache.geode.pdx.PdxReader;
 import org.apache.geode.pdx.PdxWriter;
 
 import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.serialization.SerializationException;
 import org.springframework.session.data.gemfire.serialization.SessionSerializer;
+import org.springframework.session.data.gemfire.serialization.data.support.ChunkedValue;
+import org.springframework.session.data.gemfire.serialization.data.support.CompressedValue;
 import org.springframework.session.data.gemfire.serialization.pdx.AbstractPdxSerializableSessionSerializer;
 import org.springframework.session.data.gemfire.support.AbstractSession;
 
@@ -38,11 +42,22 @@ import org.springframework.session.data.gemfire.support.AbstractSession;
  * The {@link PdxSerializableSessionSerializer} class is an implementation of the {@link SessionSerializer} interface
  * used to serialize a Spring {@link Session} using the GemFire/Geode's PDX Serialization framework.
  *
+ * When {@link CompressedValue#isCompressionEnabled() compression is enabled}, {@link Session} attribute values
+ * that serialize to at least the {@link CompressedValue#getCompressionThreshold() compression threshold}
+ * are stored as {@link CompressedValue CompressedValues} in the PDX {@literal attributes} field.  The compression
+ * {@link CompressedValue#getCompressionCodec() codec} and threshold are static, JVM-wide settings shared with
+ * the Data Serialization {@link SessionSerializer SessionSerializers}, not settings of this serializer.
+ *
+ * The {@link Session} creation time is also written as the {@literal creationTimeInMillis} PDX field so that
+ * OQL queries and Indexes on {@literal creationTimeInMillis} evaluate to the same {@literal long} value
+ * whether the stored {@link Session} is read as a {@link org.apache.geode.pdx.PdxInstance} or deserialized.
+ *
  * @author John Blum
  * @see org.apache.geode.pdx.PdxReader
  * @see org.apache.geode.pdx.PdxWriter
  * @see org.springframework.session.Session
  * @see org.springframework.session.data.gemfire.serialization.SessionSerializer
+ * @see org.springframework.session.data.gemfire.serialization.data.support.CompressedValue
  * @see org.springframework.session.data.gemfire.serialization.pdx.AbstractPdxSerializableSessionSerializer
  * @since 2.0.0
  */
@@ -50,23 +65,69 @@ import org.springframework.session.data.gemfire.support.AbstractSession;
 public class PdxSerializableSessionSerializer extends AbstractPdxSerializableSessionSerializer<GemFireSession> {
 
 	@Override
-	@SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
 	public void serialize(GemFireSession session, PdxWriter writer) {
 
-		synchronized (session) {
-			writer.writeString("id", session.getId());
-			writer.writeLong("creationTime", session.getCreationTime().toEpochMilli());
-			writer.writeLong("lastAccessedTime", session.getLastAccessedTime().toEpochMilli());
-			writer.writeLong("maxInactiveIntervalInSeconds", session.getMaxInactiveInterval().getSeconds());
-			writer.writeString("principalName", session.getPrincipalName());
-			writer.writeObject("attributes", newMap(session.getAttributes()));
-		}
+		writer.writeString("id", session.getId());
+		writer.writeLong("creationTime", session.getCreationTime().toEpochMilli());
+		writer.writeLong("creationTimeInMillis", session.getCreationTimeInMillis());
+		writer.writeLong("lastAccessedTime", session.getLastAccessedTime().toEpochMilli());
+		writer.writeLong("maxInactiveIntervalInSeconds", session.getMaxInactiveInterval().getSeconds());
+		writer.writeString("principalName", session.getPrincipalName());
+		writer.writeObject("attributes", compressAttributes(newMap(session.getAttributes().getMap())));
+		writer.writeLong("version", session.getVersion());
 	}
 
 	protected <K, V> Map<K, V> newMap(Map<K, V> map) {
 		return new HashMap<>(map);
 	}
 
+	protected Map<String, Object> compressAttributes(Map<String, Object> attributes) {
+
+		if (CompressedValue.isCompressionEnabled()) {
+			for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+				try {
+					CompressedValue compressedValue = CompressedValue.compress(attribute.getValue());
+
+					if (compressedValue != null) {
+						attribute.setValue(compressedValue);
+					}
+				}
+				catch (IOException cause) {
+					throw new SerializationException(String.format("Failed to compress Session attribute [%s]",
+						attribute.getKey()), cause);
+				}
+			}
+		}
+
+		return attributes;
+	}
+
+	/**
+	 * Unwraps the {@link ChunkedValue ChunkedValues} read from the PDX {@literal attributes} field.
+	 *
+	 * A {@link CompressedValue} is a {@link ChunkedValue}, so unwrapping decompresses the compressed attribute values
+	 * and returns the values of any chunked attribute values.
+	 *
+	 * @param attributes {@link Map} of {@link Session} attributes read from the PDX {@literal attributes} field.
+	 * @return a {@link Map} of the unwrapped {@link Session} attributes, or the given {@link Map}
+	 * if it contains no {@link ChunkedValue ChunkedValues}.
+	 * @see org.springframework.session.data.gemfire.serialization.data.support.ChunkedValue#unwrap(Object)
+	 */
+	protected Map<String, Object> unwrapAttributes(Map<String, Object> attributes) {
+
+		if (attributes != null && attributes.values().stream().anyMatch(ChunkedValue.class::isInstance)) {
+
+			Map<String, Object> unwrappedAttributes = new HashMap<>(attributes.size());
+
+			attributes.forEach((attributeName, attributeValue) ->
+				unwrappedAttributes.put(attributeName, ChunkedValue.unwrap(attributeValue)));
+
+			return unwrappedAttributes;
+		}
+
+		return attributes;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public GemFireSession deserialize(PdxReader reader) {
@@ -100,7 +161,8 @@ public class PdxSerializableSessionSerializer extends AbstractPdxSerializableSes
 		});
 
 		session.setPrincipalName(reader.readString("principalName"));
-		session.getAttributes().from((Map<String, Object>) reader.readObject("attributes"));
+		session.getAttributes().from(unwrapAttributes((Map<String, Object>) reader.readObject("attributes")));
+		session.setVersion(reader.readLong("version"));
 
 		return session;
 	}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The {@link AsyncSessionRepository} class is a {@link CompletableFuture} based facade over an existing,
+ * data store specific, {@link SessionRepository} executing each (blocking) {@link SessionRepository} operation
+ * on a separate {@link Thread}.
+ *
+ * Unless an {@link Executor} is provided, the {@link SessionRepository} operations are executed on virtual
+ * {@link Thread Threads} when running on a Java Runtime that supports virtual {@link Thread Threads} (i.e. Java 21
+ * or later).  Virtual {@link Thread Threads} are resolved reflectively so that this class remains compatible with
+ * Java 8.  Otherwise, a cached pool of daemon {@link Thread Threads} is used.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see java.util.concurrent.Executor
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.session.FindByIndexNameSessionRepository
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.SessionRepository
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class AsyncSessionRepository<S extends Session> implements DisposableBean {
+
+	protected static final String THREAD_NAME_PREFIX = "spring-session-async-";
+
+	protected static final String VIRTUAL_THREAD_EXECUTOR_FACTORY_METHOD_NAME = "newVirtualThreadPerTaskExecutor";
+
+	/**
+	 * Determines whether the Java Runtime supports virtual {@link Thread Threads}.
+	 *
+	 * @return a boolean value indicating whether the Java Runtime supports virtual {@link Thread Threads}.
+	 */
+	public static boolean isVirtualThreadSupportPresent() {
+		return resolveVirtualThreadExecutorFactoryMethod() != null;
+	}
+
+	@Nullable
+	private static Method resolveVirtualThreadExecutorFactoryMethod() {
+		return ReflectionUtils.findMethod(Executors.class, VIRTUAL_THREAD_EXECUTOR_FACTORY_METHOD_NAME);
+	}
+
+	/**
+	 * Constructs a new {@link ExecutorService} that executes each task on a new virtual {@link Thread}, if supported
+	 * by the Java Runtime, or on a cached pool of daemon {@link Thread Threads} otherwise.
+	 *
+	 * @return a new {@link ExecutorService}.
+	 * @see java.util.concurrent.ExecutorService
+	 */
+	protected static ExecutorService newDefaultExecutorService() {
+
+		Method virtualThreadExecutorFactoryMethod = resolveVirtualThreadExecutorFactoryMethod();
+
+		return virtualThreadExecutorFactoryMethod != null
+			? (ExecutorService) ReflectionUtils.invokeMethod(virtualThreadExecutorFactoryMethod, null)
+			: Executors.newCachedThreadPool(newDaemonThreadFactory());
+	}
+
+	private static ThreadFactory newDaemonThreadFactory() {
+
+		AtomicInteger threadCount = new AtomicInteger(0);
+
+		return runnable -> {
+
+			Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+
+			thread.setDaemon(true);
+
+			return thread;
+		};
+	}
+
+	private final Executor executor;
+
+	private final ExecutorService ownedExecutorService;
+
+	private final SessionRepository<S> delegate;
+
+	/**
+	 * Constructs a new instance of {@link AsyncSessionRepository} initialized with the given,
+	 * data store specific {@link SessionRepository}, executing {@link SessionRepository} operations
+	 * on virtual {@link Thread Threads} when supported.
+	 *
+	 * @param sessionRepository {@link SessionRepository} delegate.
+	 * @throws IllegalArgumentException if {@link SessionRepository} is {@literal null}.
+	 * @see #newDefaultExecutorService()
+	 */
+	public AsyncSessionRepository(@NonNull SessionRepository<S> sessionRepository) {
+		this(sessionRepository, newDefaultExecutorService(), true);
+	}
+
+	/**
+	 * Constructs a new instance of {@link AsyncSessionRepository} initialized with the given,
+	 * data store specific {@link SessionRepository} and {@link Executor} used to execute
+	 * {@link SessionRepository} operations.
+	 *
+	 * The given {@link Executor} is not shutdown when this {@link AsyncSessionRepository} is destroyed.
+	 *
+	 * @param sessionRepository {@link SessionRepository} delegate.
+	 * @param executor {@link Executor} used to execute {@link SessionRepository} operations.
+	 * @throws IllegalArgumentException if {@link SessionRepository} or {@link Executor} is {@literal null}.
+	 */
+	public AsyncSessionRepository(@NonNull SessionRepository<S> sessionRepository, @NonNull Executor executor) {
+		this(sessionRepository, executor, false);
+	}
+
+	private AsyncSessionRepository(SessionRepository<S> sessionRepository, Executor executor, boolean owned) {
+
+		Assert.notNull(sessionRepository, "SessionRepository is required");
+		Assert.notNull(executor, "Executor is required");
+
+		this.delegate = sessionRepository;
+		this.executor = executor;
+		this.ownedExecutorService = owned ? (ExecutorService) executor : null;
+	}
+
+	/**
+	 * Returns a reference to the data store specific {@link SessionRepository}.
+	 *
+	 * @return a reference to the data store specific {@link SessionRepository}.
+	 * @see org.springframework.session.SessionRepository
+	 */
+	@NonNull
+	protected SessionRepository<S> getDelegate() {
+		return this.delegate;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to execute {@link SessionRepository} operations.
+	 *
+	 * @return the {@link Executor} used to execute {@link SessionRepository} operations.
+	 * @see java.util.concurrent.Executor
+	 */
+	@NonNull
+	protected Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Asynchronously creates a new {@link Session}.
+	 *
+	 * @return a {@link CompletableFuture} completed with the new {@link Session}.
+	 * @see org.springframework.session.SessionRepository#createSession()
+	 */
+	public CompletableFuture<S> createSession() {
+		return CompletableFuture.supplyAsync(() -> getDelegate().createSession(), getExecutor());
+	}
+
+	/**
+	 * Asynchronously finds the {@link Session} with the given {@link String ID}.
+	 *
+	 * @param id {@link String} containing the ID identifying the {@link Session} to lookup.
+	 * @return a {@link CompletableFuture} completed with the {@link Session} or {@literal null}
+	 * if no {@link Session} with the given {@link String ID} exists.
+	 * @see org.springframework.session.SessionRepository#findById(String)
+	 */
+	public CompletableFuture<S> findById(String id) {
+		return CompletableFuture.supplyAsync(() -> getDelegate().findById(id), getExecutor());
+	}
+
+	/**
+	 * Asynchronously finds all {@link Session Sessions} indexed with the given {@link String index name}
+	 * and {@link String value}.
+	 *
+	 * @param indexName {@link String name} of the index to query.
+	 * @param indexValue {@link String value} to match.
+	 * @return a {@link CompletableFuture} completed with a {@link Map} of {@link Session Sessions}
+	 * indexed by {@link Session#getId() ID}, or completed exceptionally with an
+	 * {@link UnsupportedOperationException} if the {@link #getDelegate() delegate} {@link SessionRepository}
+	 * is not a {@link FindByIndexNameSessionRepository}.
+	 * @see org.springframework.session.FindByIndexNameSessionRepository#findByIndexNameAndIndexValue(String, String)
+	 */
+	@SuppressWarnings("unchecked")
+	public CompletableFuture<Map<String, S>> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+
+		return CompletableFuture.supplyAsync(() -> {
+
+			SessionRepository<S> delegate = getDelegate();
+
+			if (delegate instanceof FindByIndexNameSessionRepository) {
+				return ((FindByIndexNameSessionRepository<S>) delegate)
+					.findByIndexNameAndIndexValue(indexName, indexValue);
+			}
+
+			throw new UnsupportedOperationException(String.format(
+				"SessionRepository [%s] does not support finding Sessions by index", delegate.getClass().getName()));
+
+		}, getExecutor());
+	}
+
+	/**
+	 * Asynchronously saves the given {@link Session}.
+	 *
+	 * @param session {@link Session} to save.
+	 * @return a {@link CompletableFuture} completed when the {@link Session} has been saved.
+	 * @see org.springframework.session.SessionRepository#save(Session)
+	 */
+	public CompletableFuture<Void> save(S session) {
+		return CompletableFuture.runAsync(() -> getDelegate().save(session), getExecutor());
+	}
+
+	/**
+	 * Asynchronously deletes the {@link Session} with the given {@link String ID}.
+	 *
+	 * @param id {@link String} containing the ID identifying the {@link Session} to delete.
+	 * @return a {@link CompletableFuture} completed when the {@link Session} has been deleted.
+	 * @see org.springframework.session.SessionRepository#deleteById(String)
+	 */
+	public CompletableFuture<Void> deleteById(String id) {
+		return CompletableFuture.runAsync(() -> getDelegate().deleteById(id), getExecutor());
+	}
+
+	/**
+	 * Shuts down the {@link ExecutorService} created by this {@link AsyncSessionRepository}, if any.
+	 *
+	 * @see java.util.concurrent.ExecutorService#shutdown()
+	 */
+	@Override
+	public void destroy() {
+
+		if (this.ownedExecutorService != null) {
+			this.ownedExecutorService.shutdown();
+		}
+	}
+}
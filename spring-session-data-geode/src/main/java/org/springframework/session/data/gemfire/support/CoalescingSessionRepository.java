@@ -0,0 +1,326 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link CoalescingSessionRepository} class is a {@link SessionRepository} implementation wrapping an existing,
+ * data store specific, {@link SessionRepository} in order to coalesce concurrent {@link #findById(String)} lookups
+ * for the same {@link Session#getId() Session ID} into a single lookup (i.e. single-flight).
+ *
+ * When many concurrent HTTP requests for the same user arrive at once (for example, a browser loading a page
+ * with many resources), each request would otherwise trigger a separate round trip to the cluster to read
+ * the very same {@link Session}.  With this {@link SessionRepository}, only the first {@link Thread} (the leader)
+ * performs the lookup while all other {@link Thread Threads} (waiters) requesting the same {@link Session}
+ * in the meantime wait for, and share, the leader's result.
+ *
+ * Since a {@link Session} is mutable, each caller receives its own copy of the {@link Session} as determined by
+ * the configured {@link Function copier}.  By default, {@link GemFireSession GemFireSessions} are copied with
+ * {@link GemFireSession#copyOf(GemFireSession)}.  If the copier is unable to copy a {@link Session} (returns
+ * {@literal null}), then the waiter falls back to performing its own lookup.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see java.util.function.Function
+ * @see org.springframework.session.FindByIndexNameSessionRepository
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.SessionRepository
+ * @see org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class CoalescingSessionRepository<S extends Session> implements FindByIndexNameSessionRepository<S> {
+
+	protected static final Function<Session, Session> DEFAULT_SESSION_COPIER = session ->
+		session instanceof GemFireSession ? GemFireSession.copyOf((GemFireSession<?>) session) : null;
+
+	private volatile boolean enabled = true;
+
+	private final AtomicLong coalescedLookupCount = new AtomicLong(0L);
+	private final AtomicLong lookupCount = new AtomicLong(0L);
+
+	private final ConcurrentMap<String, Lookup<S>> inFlightLookups = new ConcurrentHashMap<>();
+
+	private Function<S, S> sessionCopier;
+
+	private final SessionRepository<S> delegate;
+
+	/**
+	 * Constructs a new instance of {@link CoalescingSessionRepository} initialized with the given,
+	 * data store specific {@link SessionRepository}.
+	 *
+	 * @param sessionRepository {@link SessionRepository} delegate.
+	 * @throws IllegalArgumentException if {@link SessionRepository} is {@literal null}.
+	 * @see org.springframework.session.SessionRepository
+	 */
+	public CoalescingSessionRepository(@NonNull SessionRepository<S> sessionRepository) {
+
+		Assert.notNull(sessionRepository, "SessionRepository is required");
+
+		this.delegate = sessionRepository;
+	}
+
+	/**
+	 * Returns a reference to the data store specific {@link SessionRepository}.
+	 *
+	 * @return a reference to the data store specific {@link SessionRepository}.
+	 * @see org.springframework.session.SessionRepository
+	 */
+	@NonNull
+	protected SessionRepository<S> getDelegate() {
+		return this.delegate;
+	}
+
+	/**
+	 * Enables or disables the coalescing of concurrent {@link #findById(String)} lookups.
+	 *
+	 * @param enabled boolean value indicating whether concurrent lookups for the same {@link Session}
+	 * are coalesced into a single lookup.
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Determines whether concurrent {@link #findById(String)} lookups are coalesced.
+	 *
+	 * @return a boolean value indicating whether concurrent lookups for the same {@link Session}
+	 * are coalesced into a single lookup.
+	 */
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * Configures the {@link Function} used to copy the {@link Session} returned by the leader's lookup
+	 * for each caller sharing the result.
+	 *
+	 * The {@link Function} may return {@literal null} if the {@link Session} cannot be copied, in which case
+	 * the caller performs its own lookup.
+	 *
+	 * @param sessionCopier {@link Function} used to copy the {@link Session}.
+	 * @see java.util.function.Function
+	 */
+	public void setSessionCopier(@Nullable Function<S, S> sessionCopier) {
+		this.sessionCopier = sessionCopier;
+	}
+
+	/**
+	 * Returns the {@link Function} used to copy the {@link Session} returned by the leader's lookup
+	 * for each caller sharing the result.
+	 *
+	 * @return the {@link Function} used to copy the {@link Session}.
+	 * @see java.util.function.Function
+	 */
+	@SuppressWarnings("unchecked")
+	protected Function<S, S> getSessionCopier() {
+
+		return this.sessionCopier != null
+			? this.sessionCopier
+			: (Function<S, S>) DEFAULT_SESSION_COPIER;
+	}
+
+	/**
+	 * Returns the number of {@link #findById(String)} lookups that were coalesced with (i.e. shared the result of)
+	 * a concurrent lookup for the same {@link Session}.
+	 *
+	 * @return the number of coalesced {@link #findById(String)} lookups.
+	 */
+	public long getCoalescedLookupCount() {
+		return this.coalescedLookupCount.get();
+	}
+
+	/**
+	 * Returns the total number of {@link #findById(String)} lookups processed by this {@link SessionRepository}.
+	 *
+	 * @return the total number of {@link #findById(String)} lookups.
+	 */
+	public long getLookupCount() {
+		return this.lookupCount.get();
+	}
+
+	/**
+	 * Returns the ratio of coalesced {@link #findById(String)} lookups to the total number of lookups.
+	 *
+	 * @return the ratio of coalesced {@link #findById(String)} lookups to the total number of lookups;
+	 * returns {@literal 0.0d} if no lookups have been performed yet.
+	 * @see #getCoalescedLookupCount()
+	 * @see #getLookupCount()
+	 */
+	public double getCoalescingRate() {
+
+		long lookupCount = getLookupCount();
+
+		return lookupCount > 0L ? (double) getCoalescedLookupCount() / (double) lookupCount : 0.0d;
+	}
+
+	@Override
+	public S createSession() {
+		return getDelegate().createSession();
+	}
+
+	/**
+	 * Finds a {@link Session} with the given {@link String ID}.
+	 *
+	 * If a lookup for the same {@link String ID} is already in-flight, then the calling {@link Thread} waits for
+	 * and receives a copy of the result from the in-flight lookup rather than performing a separate lookup.
+	 *
+	 * @param id {@link String} containing the ID identifying the {@link Session} to lookup.
+	 * @return the {@link Session} with the given {@link String ID} or {@literal null} if no {@link Session}
+	 * with {@link String ID} exists.
+	 * @see org.springframework.session.Session
+	 */
+	@Override
+	public S findById(String id) {
+
+		this.lookupCount.incrementAndGet();
+
+		return isEnabled() && id != null ? coalescedFindById(id) : getDelegate().findById(id);
+	}
+
+	private S coalescedFindById(String id) {
+
+		Lookup<S> newLookup = new Lookup<>();
+
+		Lookup<S> lookup = this.inFlightLookups.compute(id, (key, inFlightLookup) ->
+			inFlightLookup != null ? inFlightLookup.join() : newLookup);
+
+		return lookup == newLookup ? lead(id, lookup) : await(id, lookup);
+	}
+
+	private S lead(String id, Lookup<S> lookup) {
+
+		S session;
+
+		try {
+			session = getDelegate().findById(id);
+		}
+		catch (RuntimeException | Error cause) {
+			this.inFlightLookups.remove(id, lookup);
+			lookup.result.completeExceptionally(cause);
+			throw cause;
+		}
+
+		this.inFlightLookups.remove(id, lookup);
+		lookup.result.complete(session);
+
+		// The Session returned by the delegate is used as the prototype for all waiters; therefore,
+		// the leader must not be handed the same instance when the result was shared.
+		return lookup.hasWaiters() ? copyOrFindById(id, session) : session;
+	}
+
+	private S await(String id, Lookup<S> lookup) {
+
+		S session;
+
+		try {
+			session = lookup.result.join();
+		}
+		catch (CompletionException cause) {
+
+			Throwable resolvedCause = cause.getCause();
+
+			if (resolvedCause instanceof RuntimeException) {
+				throw (RuntimeException) resolvedCause;
+			}
+
+			if (resolvedCause instanceof Error) {
+				throw (Error) resolvedCause;
+			}
+
+			throw cause;
+		}
+
+		this.coalescedLookupCount.incrementAndGet();
+
+		return copyOrFindById(id, session);
+	}
+
+	private S copyOrFindById(String id, @Nullable S session) {
+
+		return session != null
+			? Optional.ofNullable(getSessionCopier().apply(session)).orElseGet(() -> getDelegate().findById(id))
+			: null;
+	}
+
+	@Override
+	public void save(S session) {
+		getDelegate().save(session);
+	}
+
+	@Override
+	public void deleteById(String id) {
+		getDelegate().deleteById(id);
+	}
+
+	/**
+	 * Finds all {@link Session Sessions} indexed with the given {@link String index name} and {@link String value}.
+	 *
+	 * @param indexName {@link String name} of the index to query.
+	 * @param indexValue {@link String value} to match.
+	 * @return a {@link Map} of {@link Session Sessions} indexed by {@link Session#getId() ID}.
+	 * @throws UnsupportedOperationException if the {@link #getDelegate() delegate} {@link SessionRepository}
+	 * is not a {@link FindByIndexNameSessionRepository}.
+	 * @see org.springframework.session.FindByIndexNameSessionRepository
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<String, S> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+
+		SessionRepository<S> delegate = getDelegate();
+
+		if (delegate instanceof FindByIndexNameSessionRepository) {
+			return ((FindByIndexNameSessionRepository<S>) delegate).findByIndexNameAndIndexValue(indexName, indexValue);
+		}
+
+		throw new UnsupportedOperationException(String.format(
+			"SessionRepository [%s] does not support finding Sessions by index", delegate.getClass().getName()));
+	}
+
+	static class Lookup<S extends Session> {
+
+		private final AtomicInteger waiters = new AtomicInteger(0);
+
+		private final CompletableFuture<S> result = new CompletableFuture<>();
+
+		Lookup<S> join() {
+			this.waiters.incrementAndGet();
+			return this;
+		}
+
+		boolean hasWaiters() {
+			return this.waiters.get() > 0;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import java.util.function.Function;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+/**
+ * The {@link CoalescingSessionRepositoryBeanPostProcessor} class wraps an existing, data store specific,
+ * instance of {@link SessionRepository} in an instance of {@link CoalescingSessionRepository} in order to
+ * coalesce concurrent lookups for the same {@link Session}.
+ *
+ * @author John Blum
+ * @see java.util.function.Function
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.SessionRepository
+ * @see org.springframework.session.data.gemfire.support.CoalescingSessionRepository
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class CoalescingSessionRepositoryBeanPostProcessor implements BeanPostProcessor {
+
+	private final Function<Session, Session> sessionCopier;
+
+	/**
+	 * Constructs a new instance of {@link CoalescingSessionRepositoryBeanPostProcessor} using the default
+	 * {@link Session} copier.
+	 */
+	public CoalescingSessionRepositoryBeanPostProcessor() {
+		this(null);
+	}
+
+	/**
+	 * Constructs a new instance of {@link CoalescingSessionRepositoryBeanPostProcessor} initialized with
+	 * the given {@link Function} used to copy the {@link Session} shared by coalesced lookups.
+	 *
+	 * @param sessionCopier {@link Function} used to copy the {@link Session}; may be {@literal null}.
+	 * @see java.util.function.Function
+	 */
+	public CoalescingSessionRepositoryBeanPostProcessor(@Nullable Function<Session, Session> sessionCopier) {
+		this.sessionCopier = sessionCopier;
+	}
+
+	/**
+	 * Returns the configured {@link Function} used to copy the {@link Session} shared by coalesced lookups.
+	 *
+	 * @return the configured {@link Function} used to copy the {@link Session}; may be {@literal null}.
+	 * @see java.util.function.Function
+	 */
+	protected Function<Session, Session> getSessionCopier() {
+		return this.sessionCopier;
+	}
+
+	@Nullable @Override @SuppressWarnings("unchecked")
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+
+		if (bean instanceof SessionRepository && !(bean instanceof CoalescingSessionRepository)) {
+
+			CoalescingSessionRepository<Session> sessionRepository =
+				new CoalescingSessionRepository<>((SessionRepository<Session>) bean);
+
+			sessionRepository.setSessionCopier(getSessionCopier());
+
+			return sessionRepository;
+		}
+
+		return bean;
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.geode.DataSerializable;
+import org.apache.geode.DataSerializer;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ColdSession} class is the value stored in the cold {@link org.apache.geode.cache.Region}
+ * for a demoted {@link Session}, holding the {@link ColdSessionCodec cold form} of the {@link Session} along with
+ * the {@link Session#getId() ID} and the principal name of the {@link Session}.
+ *
+ * The principal name is kept outside of the compressed cold form so that demoted {@link Session Sessions} are found
+ * by principal name with an OQL query on the indexed {@literal principalName} field.
+ *
+ * @author John Blum
+ * @see org.apache.geode.DataSerializable
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.support.ColdSessionCodec
+ * @see org.springframework.session.data.gemfire.support.SessionTieringManager
+ * @since 2.1.3
+ */
+public class ColdSession implements DataSerializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private byte[] value;
+
+	private String id;
+	private String principalName;
+
+	/**
+	 * Constructs a new, uninitialized instance of {@link ColdSession} used for deserialization.
+	 */
+	public ColdSession() { }
+
+	/**
+	 * Constructs a new instance of {@link ColdSession} initialized with the given {@link Session#getId() ID},
+	 * principal name and {@link ColdSessionCodec cold form} of the {@link Session}.
+	 *
+	 * @param id {@link String} containing the {@link Session#getId() ID} of the {@link Session}.
+	 * @param principalName {@link String} containing the principal name of the {@link Session}; may be {@literal null}.
+	 * @param value {@link ColdSessionCodec cold form} of the {@link Session}.
+	 * @throws IllegalArgumentException if the {@link Session#getId() ID} is not specified or the value is not
+	 * the {@link ColdSessionCodec cold form} of a {@link Session}.
+	 */
+	public ColdSession(@NonNull String id, @Nullable String principalName, @NonNull byte[] value) {
+
+		Assert.hasText(id, "ID is required");
+		Assert.isTrue(ColdSessionCodec.isColdSession(value), "Value is not a cold Session");
+
+		this.id = id;
+		this.principalName = principalName;
+		this.value = value;
+	}
+
+	/**
+	 * Returns the {@link Session#getId() ID} of the {@link Session}.
+	 *
+	 * @return the {@link Session#getId() ID} of the {@link Session}.
+	 */
+	public String getId() {
+		return this.id;
+	}
+
+	/**
+	 * Returns the principal name of the {@link Session}.
+	 *
+	 * @return the principal name of the {@link Session}, or {@literal null} if the {@link Session} has no principal.
+	 */
+	public @Nullable String getPrincipalName() {
+		return this.principalName;
+	}
+
+	/**
+	 * Returns the {@link ColdSessionCodec cold form} of the {@link Session}.
+	 *
+	 * @return the {@link ColdSessionCodec cold form} of the {@link Session}.
+	 */
+	public byte[] getValue() {
+		return this.value;
+	}
+
+	/**
+	 * Returns the time at which the {@link Session} expires.
+	 *
+	 * @return the time, in milliseconds since the epoch, at which the {@link Session} expires;
+	 * {@literal 0} if the {@link Session} does not expire.
+	 * @see ColdSessionCodec#expirationTimeOf(byte[])
+	 */
+	public long getExpirationTime() {
+		return ColdSessionCodec.expirationTimeOf(this.value);
+	}
+
+	@Override
+	public void toData(DataOutput out) throws IOException {
+
+		DataSerializer.writeString(this.id, out);
+		DataSerializer.writeString(this.principalName, out);
+		DataSerializer.writeByteArray(this.value, out);
+	}
+
+	@Override
+	public void fromData(DataInput in) throws IOException {
+
+		this.id = DataSerializer.readString(in);
+		this.principalName = DataSerializer.readString(in);
+		this.value = DataSerializer.readByteArray(in);
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s{id=%2$s, principalName=%3$s}", getClass().getSimpleName(), this.id,
+			this.principalName);
+	}
+}
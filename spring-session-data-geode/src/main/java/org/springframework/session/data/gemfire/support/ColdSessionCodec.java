@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+import org.apache.geode.DataSerializer;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.serialization.data.support.CompressedValue;
+import org.springframework.session.data.gemfire.serialization.data.support.CompressionCodec;
+import org.springframework.session.data.gemfire.serialization.data.support.DeflaterCompressionCodec;
+
+/**
+ * The {@link ColdSessionCodec} class encodes a {@link Session} into, and decodes a {@link Session} from,
+ * the compact, cold form in which idle {@link Session Sessions} are stored.
+ *
+ * The cold form is a {@literal byte[]} containing a version, the identifier of the {@link CompressionCodec}
+ * and the time at which the {@link Session} expires, followed by the serialized {@link Session}
+ * compressed with the {@link CompressionCodec}.  The serialized {@link Session} is written with
+ * {@link DataSerializer#writeObject(Object, java.io.DataOutput)}, therefore a {@link Session} serialized with
+ * either PDX or Data Serialization is decoded in the same form, which includes
+ * a {@link org.apache.geode.pdx.PdxInstance} when PDX {@literal read-serialized} is enabled.
+ *
+ * @author John Blum
+ * @see org.apache.geode.DataSerializer
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.serialization.data.support.CompressedValue
+ * @see org.springframework.session.data.gemfire.serialization.data.support.CompressionCodec
+ * @since 2.1.3
+ */
+public abstract class ColdSessionCodec {
+
+	public static final byte VERSION = 1;
+
+	protected static final int HEADER_LENGTH = 10;
+
+	/**
+	 * Encodes the given {@link Session} value into the cold form, compressed with the configured
+	 * {@link CompressedValue#getCompressionCodec() CompressionCodec}, or {@link DeflaterCompressionCodec}
+	 * if {@link Session} attribute compression is disabled.
+	 *
+	 * @param value {@link Session} value to encode; may be a {@link org.apache.geode.pdx.PdxInstance}.
+	 * @param expirationTime time, in milliseconds since the epoch, at which the {@link Session} expires;
+	 * {@literal 0} if the {@link Session} does not expire.
+	 * @return the cold form of the {@link Session}.
+	 * @throws IOException if the {@link Session} could not be serialized.
+	 */
+	public static @NonNull byte[] encode(@NonNull Object value, long expirationTime) throws IOException {
+
+		CompressionCodec codec = Optional.ofNullable(CompressedValue.getCompressionCodec())
+			.orElse(DeflaterCompressionCodec.INSTANCE);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		DataOutputStream header = new DataOutputStream(bytes);
+
+		header.writeByte(VERSION);
+		header.writeByte(codec.getId());
+		header.writeLong(expirationTime);
+
+		try (DataOutputStream out = new DataOutputStream(codec.compress(bytes))) {
+			DataSerializer.writeObject(value, out);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Decodes the {@link Session} value from the given cold form.
+	 *
+	 * @param coldValue cold form of the {@link Session}.
+	 * @return the decoded {@link Session} value.
+	 * @throws IOException if the cold form is not valid or the {@link Session} could not be deserialized.
+	 */
+	public static @Nullable Object decode(@NonNull byte[] coldValue) throws IOException {
+
+		if (!isColdSession(coldValue)) {
+			throw new IOException("Value is not a cold Session");
+		}
+
+		CompressionCodec codec = CompressedValue.resolveCompressionCodec(coldValue[1]);
+
+		InputStream bytes = new ByteArrayInputStream(coldValue, HEADER_LENGTH, coldValue.length - HEADER_LENGTH);
+
+		try (DataInputStream in = new DataInputStream(codec.decompress(bytes))) {
+			return DataSerializer.readObject(in);
+		}
+		catch (ClassNotFoundException cause) {
+			throw new IOException("Failed to decode cold Session", cause);
+		}
+	}
+
+	/**
+	 * Returns the time at which the {@link Session} in the given cold form expires.
+	 *
+	 * @param coldValue cold form of the {@link Session}.
+	 * @return the time, in milliseconds since the epoch, at which the {@link Session} expires;
+	 * {@literal 0} if the {@link Session} does not expire.
+	 * @throws IllegalArgumentException if the given value is not the cold form of a {@link Session}.
+	 */
+	public static long expirationTimeOf(@NonNull byte[] coldValue) {
+
+		if (!isColdSession(coldValue)) {
+			throw new IllegalArgumentException("Value is not a cold Session");
+		}
+
+		return ByteBuffer.wrap(coldValue, 2, Long.BYTES).getLong();
+	}
+
+	/**
+	 * Determines whether the given value is the cold form of a {@link Session}.
+	 *
+	 * @param value {@link Object} to evaluate.
+	 * @return a boolean value indicating whether the given value is the cold form of a {@link Session}.
+	 */
+	public static boolean isColdSession(@Nullable Object value) {
+
+		return value instanceof byte[]
+			&& ((byte[]) value).length > HEADER_LENGTH
+			&& ((byte[]) value)[0] == VERSION;
+	}
+}
@@ -146,6 +146,28 @@ public abstract class GemFireUtils {
 		return region instanceof AbstractRegion && ((AbstractRegion) region).hasServerProxy();
 	}
 
+	/**
+	 * Determines whether the given {@link RegionShortcut} is a partition-based shortcut.
+	 *
+	 * @param shortcut {@link RegionShortcut} to evaluate.
+	 * @return a boolean value indicating whether the {@link RegionShortcut} refers to a {@literal PARTITION} shortcut.
+	 * @see org.apache.geode.cache.RegionShortcut#isPartition()
+	 */
+	public static boolean isPartition(@Nullable RegionShortcut shortcut) {
+		return shortcut != null && shortcut.isPartition();
+	}
+
+	/**
+	 * Determines whether the given {@link RegionShortcut} persists data to disk.
+	 *
+	 * @param shortcut {@link RegionShortcut} to evaluate.
+	 * @return a boolean value indicating whether the {@link RegionShortcut} is persistent or not.
+	 * @see org.apache.geode.cache.RegionShortcut#isPersistent()
+	 */
+	public static boolean isPersistent(@Nullable RegionShortcut shortcut) {
+		return shortcut != null && shortcut.isPersistent();
+	}
+
 	/**
 	 * Determines whether the given {@link ClientRegionShortcut} is a proxy-based shortcut.
 	 *
@@ -175,7 +197,7 @@ public abstract class GemFireUtils {
 	 */
 	public static boolean isProxy(Region<?, ?> region) {
 
-		RegionAttributes regionAttributes = region.getAttributes();
+		RegionAttributes<?, ?> regionAttributes = region.getAttributes();
 
 		DataPolicy regionDataPolicy = regionAttributes.getDataPolicy();
 
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link NegativeLookupCache} class is a small, time-bounded cache of {@link Session#getId() Session IDs}
+ * for which a lookup recently found no {@link Session}.
+ *
+ * Requests carrying stale or forged {@link Session} cookies (e.g. from bots and crawlers) repeatedly cause
+ * a {@link Session} lookup that results in a round trip to the cluster only to find no {@link Session}.
+ * The {@link NegativeLookupCache} allows the {@link org.springframework.session.SessionRepository} to answer
+ * repeated misses locally until the entry expires, the entry is evicted or the {@link Session#getId() Session ID}
+ * is invalidated, for instance, when the {@link Session} is created.
+ *
+ * A {@link Session} ID is only invalidated when this cache member observes the create event, i.e. when
+ * the {@link Session} is created by this member or the member receives events for the {@link Session Sessions}
+ * {@link org.apache.geode.cache.Region}.  A {@link Session} created by any other client is reported missing
+ * until the remembered miss expires.  Therefore, the {@link #getTimeToLive() time-to-live} is the only consistency
+ * bound for {@link Session Sessions} created by other clients and should be kept to a few seconds.
+ *
+ * The cache is lock-free; {@link Session#getId() Session IDs} are mapped to their expiration timestamp
+ * in a {@link ConcurrentHashMap}.  When the cache grows beyond its maximum size, eviction is approximate
+ * head-of-map eviction: the first few entries in {@link ConcurrentHashMap} iteration (i.e. hash) order
+ * are inspected, expired entries are removed and otherwise the entry expiring the soonest in the sample is evicted.
+ * The sample is not random, so a {@link Session#getId() Session ID} hashing to the head of the map is evicted
+ * sooner than others.  The size may also briefly exceed the maximum under contention.
+ *
+ * The {@link NegativeLookupCache} additionally records the number of lookups along with the number of misses
+ * by {@link MissSource source}.
+ *
+ * @author John Blum
+ * @see java.time.Clock
+ * @see java.time.Duration
+ * @see java.util.concurrent.ConcurrentHashMap
+ * @see org.springframework.session.Session
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class NegativeLookupCache {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+	protected static final int EVICTION_SAMPLE_SIZE = 8;
+
+	private final AtomicLong lookupCount = new AtomicLong(0L);
+
+	private final Clock clock;
+
+	private final Duration timeToLive;
+
+	private final int maximumSize;
+
+	private final Map<MissSource, AtomicLong> missCounts = new EnumMap<>(MissSource.class);
+
+	private final ConcurrentMap<String, Long> missedSessionIds = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new instance of {@link NegativeLookupCache} initialized with the given {@link Duration time-to-live}
+	 * and {@link Integer maximum size}.
+	 *
+	 * @param timeToLive {@link Duration} specifying how long a miss is remembered.
+	 * @param maximumSize maximum number of {@link Session#getId() Session IDs} remembered at any given time.
+	 * @throws IllegalArgumentException if {@link Duration time-to-live} is {@literal null}, zero or negative,
+	 * or the {@link Integer maximum size} is less than {@literal 1}.
+	 * @see java.time.Duration
+	 */
+	public NegativeLookupCache(@NonNull Duration timeToLive, int maximumSize) {
+		this(Clock.systemUTC(), timeToLive, maximumSize);
+	}
+
+	NegativeLookupCache(@NonNull Clock clock, @NonNull Duration timeToLive, int maximumSize) {
+
+		Assert.notNull(clock, "Clock is required");
+		Assert.notNull(timeToLive, "Time-to-live is required");
+		Assert.isTrue(!(timeToLive.isNegative() || timeToLive.isZero()),
+			() -> String.format("Time-to-live [%s] must be greater than 0", timeToLive));
+		Assert.isTrue(maximumSize > 0, () -> String.format("Maximum size [%d] must be greater than 0", maximumSize));
+
+		this.clock = clock;
+		this.timeToLive = timeToLive;
+		this.maximumSize = maximumSize;
+
+		for (MissSource missSource : MissSource.values()) {
+			this.missCounts.put(missSource, new AtomicLong(0L));
+		}
+	}
+
+	/**
+	 * Returns the maximum number of {@link Session#getId() Session IDs} remembered by this cache.
+	 *
+	 * @return the maximum number of {@link Session#getId() Session IDs} remembered by this cache.
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Returns the {@link Duration} for which a miss is remembered.
+	 *
+	 * @return the {@link Duration} for which a miss is remembered.
+	 * @see java.time.Duration
+	 */
+	public Duration getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Determines whether a lookup for the given {@link Session#getId() Session ID} recently found no {@link Session}.
+	 *
+	 * Expired entries are removed on access.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() ID} of the {@link Session}.
+	 * @return a boolean value indicating whether the given {@link Session#getId() Session ID} is known to be missing.
+	 */
+	public boolean isMissing(@Nullable String sessionId) {
+
+		if (sessionId != null) {
+
+			Long expiresAt = this.missedSessionIds.get(sessionId);
+
+			if (expiresAt != null) {
+
+				if (this.clock.millis() < expiresAt) {
+					return true;
+				}
+
+				this.missedSessionIds.remove(sessionId, expiresAt);
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Remembers that a lookup for the given {@link Session#getId() Session ID} found no {@link Session}.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() ID} of the missing {@link Session}.
+	 */
+	public void remember(@Nullable String sessionId) {
+
+		if (sessionId != null) {
+
+			long now = this.clock.millis();
+
+			this.missedSessionIds.put(sessionId, now + this.timeToLive.toMillis());
+
+			if (this.missedSessionIds.size() > this.maximumSize) {
+				evict(sessionId, now);
+			}
+		}
+	}
+
+	/**
+	 * Evicts entries until this cache is back within its {@link #getMaximumSize() maximum size}.
+	 *
+	 * Each round inspects at most the first {@link #EVICTION_SAMPLE_SIZE} entries in iteration order, removing
+	 * all expired entries found or, when none have expired, the sampled entry expiring the soonest.
+	 * The {@link Session#getId() Session ID} just remembered is never evicted.
+	 *
+	 * @param rememberedSessionId {@link String} containing the {@link Session#getId() Session ID} just remembered.
+	 * @param now {@link Long} containing the current time in milliseconds.
+	 */
+	private void evict(String rememberedSessionId, long now) {
+
+		while (this.missedSessionIds.size() > this.maximumSize) {
+
+			Iterator<Map.Entry<String, Long>> entries = this.missedSessionIds.entrySet().iterator();
+
+			Map.Entry<String, Long> candidate = null;
+
+			boolean expiredEntriesRemoved = false;
+
+			for (int sampled = 0; sampled < EVICTION_SAMPLE_SIZE && entries.hasNext(); sampled++) {
+
+				Map.Entry<String, Long> entry = entries.next();
+
+				if (entry.getValue() <= now) {
+					expiredEntriesRemoved |= this.missedSessionIds.remove(entry.getKey(), entry.getValue());
+				}
+				else if (!rememberedSessionId.equals(entry.getKey())
+						&& (candidate == null || entry.getValue() < candidate.getValue())) {
+					candidate = entry;
+				}
+			}
+
+			if (!expiredEntriesRemoved) {
+
+				if (candidate == null) {
+					break;
+				}
+
+				this.missedSessionIds.remove(candidate.getKey(), candidate.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Forgets the given {@link Session#getId() Session ID}, for instance, when the {@link Session} is created.
+	 *
+	 * @param sessionId {@link Object} containing the {@link Session#getId() ID} of the {@link Session}.
+	 */
+	public void invalidate(@Nullable Object sessionId) {
+
+		if (sessionId != null) {
+			this.missedSessionIds.remove(sessionId.toString());
+		}
+	}
+
+	/**
+	 * Forgets all {@link Session#getId() Session IDs}.
+	 */
+	public void clear() {
+		this.missedSessionIds.clear();
+	}
+
+	/**
+	 * Returns the number of {@link Session#getId() Session IDs} currently remembered, including those that
+	 * have expired but have not yet been removed.
+	 *
+	 * @return the number of {@link Session#getId() Session IDs} currently remembered.
+	 */
+	public int size() {
+		return this.missedSessionIds.size();
+	}
+
+	/**
+	 * Records a {@link Session} lookup.
+	 */
+	public void recordLookup() {
+		this.lookupCount.incrementAndGet();
+	}
+
+	/**
+	 * Records a {@link Session} lookup that found no {@link Session} from the given {@link MissSource source}.
+	 *
+	 * @param missSource {@link MissSource} identifying where the miss was determined.
+	 * @see MissSource
+	 */
+	public void recordMiss(@NonNull MissSource missSource) {
+		this.missCounts.get(missSource).incrementAndGet();
+	}
+
+	/**
+	 * Returns the total number of {@link Session} lookups recorded.
+	 *
+	 * @return the total number of {@link Session} lookups recorded.
+	 */
+	public long getLookupCount() {
+		return this.lookupCount.get();
+	}
+
+	/**
+	 * Returns the number of {@link Session} lookups that found no {@link Session}
+	 * from the given {@link MissSource source}.
+	 *
+	 * @param missSource {@link MissSource} identifying where the miss was determined.
+	 * @return the number of misses from the given {@link MissSource source}.
+	 * @see MissSource
+	 */
+	public long getMissCount(@NonNull MissSource missSource) {
+		return this.missCounts.get(missSource).get();
+	}
+
+	/**
+	 * Returns the ratio of {@link Session} lookups that found no {@link Session} from the given
+	 * {@link MissSource source} to the total number of lookups.
+	 *
+	 * @param missSource {@link MissSource} identifying where the miss was determined.
+	 * @return the ratio of misses from the given {@link MissSource source} to the total number of lookups;
+	 * returns {@literal 0.0d} if no lookups have been recorded.
+	 * @see #getMissCount(MissSource)
+	 * @see #getLookupCount()
+	 */
+	public double getMissRate(@NonNull MissSource missSource) {
+
+		long lookupCount = getLookupCount();
+
+		return lookupCount > 0L ? (double) getMissCount(missSource) / (double) lookupCount : 0.0d;
+	}
+
+	/**
+	 * Enumeration of the sources from which a {@link Session} lookup miss is determined.
+	 */
+	public enum MissSource {
+
+		/**
+		 * Miss answered locally by the {@link NegativeLookupCache} without a round trip to the cluster.
+		 */
+		NEGATIVE_LOOKUP_CACHE,
+
+		/**
+		 * No {@link Session} with the given ID was stored in the {@link Session Sessions}
+		 * {@link org.apache.geode.cache.Region}.
+		 */
+		SESSIONS_REGION,
+
+		/**
+		 * The {@link Session} was found, but had already expired.
+		 */
+		EXPIRED_SESSION
+
+	}
+}
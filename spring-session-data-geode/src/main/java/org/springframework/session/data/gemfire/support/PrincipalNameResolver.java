@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link PrincipalNameResolver} is a strategy interface used to configure Spring Session on how to resolve
+ * the name of the principal from the security context stored in a {@link org.springframework.session.Session}.
+ *
+ * The resolved principal name is cached by the {@link org.springframework.session.Session} until
+ * the security context changes.
+ *
+ * @author John Blum
+ * @see org.springframework.session.data.gemfire.support.SecurityContextPrincipalNameResolver
+ * @since 2.1.3
+ */
+@FunctionalInterface
+@SuppressWarnings("unused")
+public interface PrincipalNameResolver {
+
+	/**
+	 * Resolves the name of the principal from the given security context.
+	 *
+	 * @param securityContext {@link Object} referring to the security context stored in
+	 * the {@link org.springframework.session.Session}.
+	 * @return the {@link String name} of the principal or {@literal null} if the principal name
+	 * cannot be resolved.
+	 */
+	@Nullable
+	String resolvePrincipalName(@Nullable Object securityContext);
+
+}
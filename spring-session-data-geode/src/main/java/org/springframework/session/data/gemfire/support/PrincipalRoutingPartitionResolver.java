@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.apache.geode.cache.EntryOperation;
+import org.apache.geode.cache.PartitionResolver;
+import org.apache.geode.cache.Region;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link PrincipalRoutingPartitionResolver} class is an Apache Geode/Pivotal GemFire {@link PartitionResolver}
+ * that colocates all {@link Session Sessions} of the same principal in a single bucket of the partitioned
+ * {@link Session Sessions} {@link Region}.
+ *
+ * A {@link Session} routed by principal has an {@link Session#getId() ID} of the form
+ * {@literal <routing key>.<UUID>}, where the routing key is a fixed-length, hexadecimal hash of the principal name.
+ * The routing key, rather than the whole {@link Session#getId() Session ID}, is used as the routing object,
+ * so that queries and {@link org.apache.geode.cache.execute.Function Functions} on all {@link Session Sessions}
+ * of a principal are executed on the single member hosting the bucket by using the routing key as the filter.
+ *
+ * Keys without a routing key are routed by the key itself, as the {@link Region} does by default.
+ *
+ * @author John Blum
+ * @see java.util.UUID
+ * @see org.apache.geode.cache.EntryOperation
+ * @see org.apache.geode.cache.PartitionResolver
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.session.Session
+ * @since 2.1.3
+ */
+public class PrincipalRoutingPartitionResolver implements PartitionResolver<Object, Object> {
+
+	public static final char ROUTING_KEY_SEPARATOR = '.';
+
+	public static final int ROUTING_KEY_LENGTH = 8;
+
+	/**
+	 * Computes the routing key for the given principal name.
+	 *
+	 * @param principalName {@link String} containing the name of the principal.
+	 * @return the {@link String routing key} for the principal.
+	 * @throws IllegalArgumentException if the principal name is not specified.
+	 */
+	public static String routingKeyFor(@NonNull String principalName) {
+
+		Assert.hasText(principalName, "Principal name is required");
+
+		return String.format("%08x", principalName.hashCode());
+	}
+
+	/**
+	 * Returns the routing key embedded in the given key, if present.
+	 *
+	 * @param key {@link Object} key to evaluate; typically a {@link Session#getId() Session ID}.
+	 * @return an {@link Optional} {@link String routing key} embedded in the key.
+	 */
+	public static Optional<String> routingKeyOf(@Nullable Object key) {
+
+		return Optional.ofNullable(key)
+			.filter(String.class::isInstance)
+			.map(String.class::cast)
+			.filter(it -> it.length() > ROUTING_KEY_LENGTH && it.charAt(ROUTING_KEY_LENGTH) == ROUTING_KEY_SEPARATOR)
+			.map(it -> it.substring(0, ROUTING_KEY_LENGTH));
+	}
+
+	/**
+	 * Determines whether the {@link Session} with the given {@link Session#getId() ID} is routed by
+	 * the given principal.  If no principal is given, then there is nothing to route by.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() Session ID}.
+	 * @param principalName {@link String} containing the name of the principal.
+	 * @return a boolean value indicating whether the {@link Session} is routed by the principal.
+	 * @see #routingKeyFor(String)
+	 * @see #routingKeyOf(Object)
+	 */
+	public static boolean isRoutedBy(@Nullable String sessionId, @Nullable String principalName) {
+
+		return !StringUtils.hasText(principalName)
+			|| routingKeyOf(sessionId).filter(routingKeyFor(principalName)::equals).isPresent();
+	}
+
+	/**
+	 * Generates a new {@link Session#getId() Session ID} routed by the given principal.
+	 *
+	 * @param principalName {@link String} containing the name of the principal.
+	 * @return a new {@link String Session ID} prefixed with the routing key for the principal.
+	 * @throws IllegalArgumentException if the principal name is not specified.
+	 * @see #routingKeyFor(String)
+	 */
+	public static String newSessionId(@NonNull String principalName) {
+		return routingKeyFor(principalName) + ROUTING_KEY_SEPARATOR + UUID.randomUUID().toString();
+	}
+
+	@Override
+	public String getName() {
+		return getClass().getName();
+	}
+
+	@Override
+	public Object getRoutingObject(EntryOperation<Object, Object> entryOperation) {
+
+		Object key = entryOperation.getKey();
+
+		return routingKeyOf(key).<Object>map(it -> it).orElse(key);
+	}
+
+	@Override
+	public void close() { }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The {@link SecurityContextPrincipalNameResolver} class is the default {@link PrincipalNameResolver}
+ * resolving the principal name by navigating the {@literal authentication.name} property path
+ * of a Spring Security {@literal SecurityContext}.
+ *
+ * Property accessors are resolved once per {@link Class type} and cached.  A property is read with
+ * a {@link MethodHandle} bound to the public getter when one is available, otherwise with a compiled
+ * SpEL {@link Expression}.  Spring Security is not required on the classpath.
+ *
+ * @author John Blum
+ * @see java.lang.ClassValue
+ * @see java.lang.invoke.MethodHandle
+ * @see org.springframework.expression.Expression
+ * @see org.springframework.session.data.gemfire.support.PrincipalNameResolver
+ * @since 2.1.3
+ */
+public class SecurityContextPrincipalNameResolver implements PrincipalNameResolver {
+
+	public static final SecurityContextPrincipalNameResolver INSTANCE = new SecurityContextPrincipalNameResolver();
+
+	protected static final String AUTHENTICATION_PROPERTY_NAME = "authentication";
+	protected static final String NAME_PROPERTY_NAME = "name";
+
+	private static final MethodType PROPERTY_ACCESSOR_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private final ClassValue<Function<Object, Object>> authenticationAccessors =
+		newPropertyAccessorCache(AUTHENTICATION_PROPERTY_NAME);
+
+	private final ClassValue<Function<Object, Object>> nameAccessors =
+		newPropertyAccessorCache(NAME_PROPERTY_NAME);
+
+	private static ClassValue<Function<Object, Object>> newPropertyAccessorCache(String propertyName) {
+
+		return new ClassValue<Function<Object, Object>>() {
+
+			@Override
+			protected Function<Object, Object> computeValue(Class<?> type) {
+				return newPropertyAccessor(type, propertyName);
+			}
+		};
+	}
+
+	/**
+	 * Constructs a new {@link Function} used to read the named property from objects of the given {@link Class type}.
+	 *
+	 * @param type {@link Class type} declaring the property.
+	 * @param propertyName {@link String name} of the property to read.
+	 * @return a new {@link Function} used to read the named property.
+	 */
+	static Function<Object, Object> newPropertyAccessor(@NonNull Class<?> type, @NonNull String propertyName) {
+
+		MethodHandle getter = resolveGetter(type, propertyName);
+
+		if (getter != null) {
+			return target -> invoke(getter, target);
+		}
+
+		Expression expression = newCompiledExpression(type, propertyName);
+
+		return expression::getValue;
+	}
+
+	@Nullable
+	private static MethodHandle resolveGetter(Class<?> type, String propertyName) {
+
+		String getterName = "get" + Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+
+		Method getter = ClassUtils.getMethodIfAvailable(type, getterName);
+
+		if (getter != null && !Void.TYPE.equals(getter.getReturnType())
+				&& !Modifier.isStatic(getter.getModifiers())) {
+
+			getter = ClassUtils.getInterfaceMethodIfPossible(getter);
+
+			if (Modifier.isPublic(getter.getDeclaringClass().getModifiers())) {
+				try {
+					return MethodHandles.publicLookup().unreflect(getter).asType(PROPERTY_ACCESSOR_METHOD_TYPE);
+				}
+				catch (IllegalAccessException ignore) { }
+			}
+		}
+
+		return null;
+	}
+
+	private static Expression newCompiledExpression(Class<?> type, String propertyName) {
+
+		SpelParserConfiguration parserConfiguration =
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, type.getClassLoader());
+
+		return new SpelExpressionParser(parserConfiguration).parseExpression(propertyName);
+	}
+
+	private static Object invoke(MethodHandle getter, Object target) {
+
+		try {
+			return (Object) getter.invokeExact(target);
+		}
+		catch (Throwable cause) {
+			ReflectionUtils.rethrowRuntimeException(cause);
+			return null;
+		}
+	}
+
+	/**
+	 * Resolves the principal name by navigating the {@literal authentication.name} property path of the given
+	 * security context.
+	 *
+	 * @param securityContext {@link Object} referring to the security context.
+	 * @return the {@link String name} of the principal or {@literal null} if the security context
+	 * or the {@literal authentication} is {@literal null}.
+	 */
+	@Nullable @Override
+	public String resolvePrincipalName(@Nullable Object securityContext) {
+
+		Object authentication = readProperty(this.authenticationAccessors, securityContext);
+		Object principalName = readProperty(this.nameAccessors, authentication);
+
+		return principalName != null ? principalName.toString() : null;
+	}
+
+	@Nullable
+	private Object readProperty(ClassValue<Function<Object, Object>> propertyAccessors, @Nullable Object target) {
+		return target != null ? propertyAccessors.get(target.getClass()).apply(target) : null;
+	}
+}
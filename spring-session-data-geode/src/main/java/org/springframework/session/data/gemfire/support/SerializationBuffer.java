@@ -0,0 +1,262 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * The {@link SerializationBuffer} class is a growable, in-memory {@link OutputStream} used to serialize
+ * {@link org.springframework.session.Session} state into bytes before the bytes are written to
+ * the {@link DataOutput} provided by Apache Geode or Pivotal GemFire.
+ *
+ * The capacity of the buffer grows by powers of two, i.e. by size classes.  A {@link SerializationBuffer}
+ * acquired from a {@link SerializationBufferPool} must be {@link #close() closed} to be released back
+ * to the {@link SerializationBufferPool} and reused by subsequent serializations on the same {@link Thread}.
+ *
+ * A {@link SerializationBuffer} is not Thread-safe.
+ *
+ * @author John Blum
+ * @see java.io.DataOutput
+ * @see java.io.OutputStream
+ * @see org.springframework.session.data.gemfire.support.SerializationBufferPool
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class SerializationBuffer extends OutputStream {
+
+	private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private boolean inUse;
+
+	private byte[] buffer;
+
+	private int size;
+	private int underusedCount;
+
+	private final DataOutput dataOutput = new DataOutputStream(this);
+
+	private final SerializationBufferPool pool;
+
+	/**
+	 * Constructs a new instance of {@link SerializationBuffer}, which is not pooled, initialized with
+	 * the given {@link Integer capacity}.
+	 *
+	 * @param capacity initial capacity of the buffer, in bytes.
+	 */
+	public SerializationBuffer(int capacity) {
+		this(null, capacity);
+	}
+
+	SerializationBuffer(@Nullable SerializationBufferPool pool, int capacity) {
+		this.pool = pool;
+		this.buffer = new byte[capacityFor(capacity)];
+	}
+
+	/**
+	 * Returns the size class, which is the smallest power of two greater than or equal to the given size.
+	 *
+	 * @param size {@link Integer} specifying the required capacity in bytes.
+	 * @return the size class for the given size.
+	 * @throws OutOfMemoryError if the given size exceeds the maximum capacity of a Java array.
+	 */
+	static int capacityFor(int size) {
+
+		if (size < 0 || size > MAXIMUM_CAPACITY) {
+			throw new OutOfMemoryError(String.format("Required capacity [%d] is too large", size));
+		}
+
+		int capacity = Integer.highestOneBit(Math.max(size, 1));
+
+		return capacity < size
+			? (capacity << 1 > 0 ? capacity << 1 : MAXIMUM_CAPACITY)
+			: capacity;
+	}
+
+	/**
+	 * Returns a {@link DataOutput} writing to this {@link SerializationBuffer}.
+	 *
+	 * @return a {@link DataOutput} writing to this {@link SerializationBuffer}.
+	 * @see java.io.DataOutput
+	 */
+	public @NonNull DataOutput getDataOutput() {
+		return this.dataOutput;
+	}
+
+	/**
+	 * Returns the underlying byte array of this {@link SerializationBuffer}, which contains
+	 * {@link #size()} valid bytes.  The byte array must not be retained after the buffer is {@link #close() closed}.
+	 *
+	 * @return the underlying byte array of this {@link SerializationBuffer}.
+	 */
+	public @NonNull byte[] getBuffer() {
+		return this.buffer;
+	}
+
+	/**
+	 * Returns the current capacity of this {@link SerializationBuffer} in bytes.
+	 *
+	 * @return the current capacity of this {@link SerializationBuffer} in bytes.
+	 */
+	public int capacity() {
+		return this.buffer.length;
+	}
+
+	/**
+	 * Returns the number of bytes written to this {@link SerializationBuffer} since the last {@link #reset()}.
+	 *
+	 * @return the number of bytes written to this {@link SerializationBuffer}.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	boolean isInUse() {
+		return this.inUse;
+	}
+
+	void setInUse(boolean inUse) {
+		this.inUse = inUse;
+	}
+
+	boolean isPooledBy(SerializationBufferPool pool) {
+		return this.pool == pool;
+	}
+
+	int incrementUnderusedCount() {
+		return ++this.underusedCount;
+	}
+
+	void resetUnderusedCount() {
+		this.underusedCount = 0;
+	}
+
+	/**
+	 * Replaces the underlying byte array with a new byte array of the given {@link Integer capacity}.
+	 *
+	 * Must only be called on an empty buffer.
+	 *
+	 * @param capacity new capacity in bytes.
+	 */
+	void resize(int capacity) {
+		this.buffer = new byte[capacityFor(capacity)];
+		this.size = 0;
+		this.underusedCount = 0;
+	}
+
+	/**
+	 * Discards all bytes written to this {@link SerializationBuffer}, retaining its capacity.
+	 */
+	public void reset() {
+		this.size = 0;
+	}
+
+	/**
+	 * Returns a copy of the bytes written to this {@link SerializationBuffer}.
+	 *
+	 * @return a copy of the bytes written to this {@link SerializationBuffer}.
+	 */
+	public @NonNull byte[] toByteArray() {
+		return Arrays.copyOf(this.buffer, this.size);
+	}
+
+	private void ensureCapacity(int additionalBytes) {
+
+		int requiredCapacity = this.size + additionalBytes;
+
+		if (requiredCapacity < 0) {
+			throw new OutOfMemoryError("Required capacity is too large");
+		}
+
+		if (requiredCapacity > this.buffer.length) {
+			this.buffer = Arrays.copyOf(this.buffer, capacityFor(requiredCapacity));
+		}
+	}
+
+	@Override
+	public void write(int value) {
+		ensureCapacity(1);
+		this.buffer[this.size++] = (byte) value;
+	}
+
+	@Override
+	public void write(@NonNull byte[] bytes, int offset, int length) {
+
+		if (offset < 0 || length < 0 || length > bytes.length - offset) {
+			throw new IndexOutOfBoundsException(String.format("Offset [%1$d] and length [%2$d] are not valid"
+				+ " for an array of length [%3$d]", offset, length, bytes.length));
+		}
+
+		ensureCapacity(length);
+		System.arraycopy(bytes, offset, this.buffer, this.size, length);
+		this.size += length;
+	}
+
+	/**
+	 * Writes all bytes written to this {@link SerializationBuffer} to the given {@link DataOutput}.
+	 *
+	 * @param out {@link DataOutput} to write the bytes to.
+	 * @throws IOException if the bytes could not be written.
+	 * @see java.io.DataOutput
+	 */
+	public void writeTo(@NonNull DataOutput out) throws IOException {
+		out.write(this.buffer, 0, this.size);
+	}
+
+	/**
+	 * Writes the given range of the bytes written to this {@link SerializationBuffer} to the given {@link DataOutput}.
+	 *
+	 * @param out {@link DataOutput} to write the bytes to.
+	 * @param offset index of the first byte to write.
+	 * @param length number of bytes to write.
+	 * @throws IOException if the bytes could not be written.
+	 * @throws IndexOutOfBoundsException if the range is not within the bytes written to this buffer.
+	 * @see java.io.DataOutput
+	 */
+	public void writeTo(@NonNull DataOutput out, int offset, int length) throws IOException {
+
+		if (offset < 0 || length < 0 || length > this.size - offset) {
+			throw new IndexOutOfBoundsException(String.format("Offset [%1$d] and length [%2$d] are not valid"
+				+ " for a buffer of size [%3$d]", offset, length, this.size));
+		}
+
+		out.write(this.buffer, offset, length);
+	}
+
+	/**
+	 * Releases this {@link SerializationBuffer} back to the {@link SerializationBufferPool} from which it was acquired,
+	 * if any.
+	 *
+	 * @see org.springframework.session.data.gemfire.support.SerializationBufferPool#release(SerializationBuffer)
+	 */
+	@Override
+	public void close() {
+
+		if (this.pool != null) {
+			this.pool.release(this);
+		}
+		else {
+			reset();
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link SerializationBufferPool} class is a pool of {@link SerializationBuffer SerializationBuffers}
+ * retaining one {@link SerializationBuffer} per {@link Thread}.
+ *
+ * A {@link SerializationBuffer} grows by size classes (powers of two).  On release, a {@link SerializationBuffer}
+ * that grew beyond the {@link #getMaximumBufferSize() maximum buffer size} is not retained at that size, but is
+ * replaced by a buffer of the {@link #getMinimumBufferSize() minimum buffer size}.  A {@link SerializationBuffer}
+ * that was filled to no more than a quarter of its capacity for {@link #getShrinkThreshold() shrink threshold}
+ * consecutive uses shrinks to the next smaller size class.  Therefore, a few large {@link org.springframework.session.Session Sessions}
+ * do not pin large byte arrays to every {@link Thread}.
+ *
+ * A {@link SerializationBuffer} acquired while the {@link Thread Thread's} pooled {@link SerializationBuffer}
+ * is still in use (e.g. during nested serialization) is a new, unpooled {@link SerializationBuffer}.
+ *
+ * @author John Blum
+ * @see java.lang.ThreadLocal
+ * @see org.springframework.session.data.gemfire.support.SerializationBuffer
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class SerializationBufferPool {
+
+	public static final int DEFAULT_MINIMUM_BUFFER_SIZE = 1024;
+	public static final int DEFAULT_MAXIMUM_BUFFER_SIZE = 1024 * 1024;
+	public static final int DEFAULT_SHRINK_THRESHOLD = 32;
+
+	public static final SerializationBufferPool INSTANCE = new SerializationBufferPool();
+
+	private final int maximumBufferSize;
+	private final int minimumBufferSize;
+	private final int shrinkThreshold;
+
+	private final ThreadLocal<SerializationBuffer> buffers;
+
+	/**
+	 * Constructs a new instance of {@link SerializationBufferPool} initialized with the default settings.
+	 *
+	 * @see #DEFAULT_MINIMUM_BUFFER_SIZE
+	 * @see #DEFAULT_MAXIMUM_BUFFER_SIZE
+	 * @see #DEFAULT_SHRINK_THRESHOLD
+	 */
+	public SerializationBufferPool() {
+		this(DEFAULT_MINIMUM_BUFFER_SIZE, DEFAULT_MAXIMUM_BUFFER_SIZE, DEFAULT_SHRINK_THRESHOLD);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SerializationBufferPool} initialized with the given settings.
+	 *
+	 * @param minimumBufferSize initial and minimum capacity, in bytes, of a pooled {@link SerializationBuffer}.
+	 * @param maximumBufferSize maximum capacity, in bytes, of a {@link SerializationBuffer} retained by the pool.
+	 * @param shrinkThreshold number of consecutive uses filling no more than a quarter of the capacity
+	 * of a {@link SerializationBuffer} after which the {@link SerializationBuffer} shrinks.
+	 * @throws IllegalArgumentException if the minimum buffer size or shrink threshold is less than {@literal 1},
+	 * or the maximum buffer size is less than the minimum buffer size.
+	 */
+	public SerializationBufferPool(int minimumBufferSize, int maximumBufferSize, int shrinkThreshold) {
+
+		Assert.isTrue(minimumBufferSize > 0,
+			() -> String.format("Minimum buffer size [%d] must be greater than 0", minimumBufferSize));
+
+		Assert.isTrue(maximumBufferSize >= minimumBufferSize,
+			() -> String.format("Maximum buffer size [%1$d] must be greater than or equal to minimum buffer size [%2$d]",
+				maximumBufferSize, minimumBufferSize));
+
+		Assert.isTrue(shrinkThreshold > 0,
+			() -> String.format("Shrink threshold [%d] must be greater than 0", shrinkThreshold));
+
+		this.minimumBufferSize = SerializationBuffer.capacityFor(minimumBufferSize);
+		this.maximumBufferSize = SerializationBuffer.capacityFor(maximumBufferSize);
+		this.shrinkThreshold = shrinkThreshold;
+		this.buffers = ThreadLocal.withInitial(() -> new SerializationBuffer(this, this.minimumBufferSize));
+	}
+
+	/**
+	 * Returns the maximum capacity, in bytes, of a {@link SerializationBuffer} retained by this pool.
+	 *
+	 * @return the maximum capacity, in bytes, of a {@link SerializationBuffer} retained by this pool.
+	 */
+	public int getMaximumBufferSize() {
+		return this.maximumBufferSize;
+	}
+
+	/**
+	 * Returns the initial and minimum capacity, in bytes, of a {@link SerializationBuffer} retained by this pool.
+	 *
+	 * @return the initial and minimum capacity, in bytes, of a {@link SerializationBuffer} retained by this pool.
+	 */
+	public int getMinimumBufferSize() {
+		return this.minimumBufferSize;
+	}
+
+	/**
+	 * Returns the number of consecutive, underutilized uses after which a {@link SerializationBuffer} shrinks.
+	 *
+	 * @return the number of consecutive, underutilized uses after which a {@link SerializationBuffer} shrinks.
+	 */
+	public int getShrinkThreshold() {
+		return this.shrinkThreshold;
+	}
+
+	/**
+	 * Acquires an empty {@link SerializationBuffer} for use by the current {@link Thread}.
+	 *
+	 * The {@link SerializationBuffer} must be {@link SerializationBuffer#close() closed} when no longer needed.
+	 *
+	 * @return an empty {@link SerializationBuffer}.
+	 * @see org.springframework.session.data.gemfire.support.SerializationBuffer
+	 */
+	public @NonNull SerializationBuffer acquire() {
+
+		SerializationBuffer buffer = this.buffers.get();
+
+		if (buffer.isInUse()) {
+			return new SerializationBuffer(this.minimumBufferSize);
+		}
+
+		buffer.setInUse(true);
+
+		return buffer;
+	}
+
+	/**
+	 * Releases the given {@link SerializationBuffer} back to this pool, resizing the {@link SerializationBuffer}
+	 * if it grew beyond the {@link #getMaximumBufferSize() maximum buffer size} or has been underutilized
+	 * for {@link #getShrinkThreshold() shrink threshold} consecutive uses.
+	 *
+	 * @param buffer {@link SerializationBuffer} to release.
+	 */
+	void release(@NonNull SerializationBuffer buffer) {
+
+		if (buffer.isPooledBy(this) && buffer.isInUse()) {
+
+			int capacity = buffer.capacity();
+			int size = buffer.size();
+
+			if (capacity > this.maximumBufferSize) {
+				buffer.resize(this.minimumBufferSize);
+			}
+			else if (capacity > this.minimumBufferSize && size <= capacity / 4) {
+				if (buffer.incrementUnderusedCount() >= this.shrinkThreshold) {
+					buffer.resize(capacity / 2);
+				}
+			}
+			else {
+				buffer.resetUnderusedCount();
+			}
+
+			buffer.reset();
+			buffer.setInUse(false);
+		}
+	}
+}
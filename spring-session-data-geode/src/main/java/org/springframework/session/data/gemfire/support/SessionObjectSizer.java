@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import java.util.Map;
+
+import org.apache.geode.cache.util.ObjectSizer;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link SessionObjectSizer} class is an Apache Geode {@link ObjectSizer} estimating the heap size
+ * of a {@link Session} stored in a {@link org.apache.geode.cache.Region} configured with
+ * {@link org.apache.geode.cache.EvictionAlgorithm#LRU_HEAP heap} or
+ * {@link org.apache.geode.cache.EvictionAlgorithm#LRU_MEMORY memory} LRU eviction.
+ *
+ * Unlike the {@link ObjectSizer#DEFAULT reflection-based} {@link ObjectSizer}, the {@link SessionObjectSizer} does not
+ * walk the object graph of a {@link Session}.  The size of the {@link Session} is estimated from a fixed overhead,
+ * the lengths of the {@link Session#getId() Session ID} and {@link Session#getAttributeNames() attribute names},
+ * and the size of each {@link Session} attribute value.  Common attribute value types ({@link String},
+ * {@literal byte[]}, boxed primitives) are sized directly, while all other attribute values are sized with
+ * the given {@link ObjectSizer}, which defaults to {@link ObjectSizer#SIZE_CLASS_ONCE}.
+ *
+ * Sizing a {@link GemFireSession} reads its immutable snapshot of attributes and therefore neither acquires
+ * the {@link Session} lock nor affects the {@link Session} delta.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.util.ObjectSizer
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession
+ * @since 2.1.3
+ */
+public class SessionObjectSizer implements ObjectSizer {
+
+	public static final SessionObjectSizer INSTANCE = new SessionObjectSizer();
+
+	// Object header, id, principal name, time fields, Duration, lock and attributes container
+	protected static final int SESSION_OVERHEAD = 208;
+
+	// HashMap.Node plus its slot in the table
+	protected static final int ATTRIBUTE_OVERHEAD = 40;
+
+	// Object header, hash and char[] header
+	protected static final int STRING_OVERHEAD = 40;
+
+	protected static final int BYTE_ARRAY_OVERHEAD = 16;
+
+	protected static final int BOXED_PRIMITIVE_SIZE = 24;
+
+	private final ObjectSizer objectSizer;
+
+	/**
+	 * Constructs a new instance of {@link SessionObjectSizer} sizing attribute values of types not sized
+	 * directly with {@link ObjectSizer#SIZE_CLASS_ONCE}.
+	 */
+	public SessionObjectSizer() {
+		this(ObjectSizer.SIZE_CLASS_ONCE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionObjectSizer} initialized with the given {@link ObjectSizer}
+	 * used to size attribute values of types not sized directly.
+	 *
+	 * @param objectSizer {@link ObjectSizer} used to size attribute values of types not sized directly.
+	 * @throws IllegalArgumentException if {@link ObjectSizer} is {@literal null}.
+	 * @see org.apache.geode.cache.util.ObjectSizer
+	 */
+	public SessionObjectSizer(@NonNull ObjectSizer objectSizer) {
+
+		Assert.notNull(objectSizer, "ObjectSizer is required");
+
+		this.objectSizer = objectSizer;
+	}
+
+	/**
+	 * Returns the {@link ObjectSizer} used to size attribute values of types not sized directly.
+	 *
+	 * @return the {@link ObjectSizer} used to size attribute values of types not sized directly.
+	 * @see org.apache.geode.cache.util.ObjectSizer
+	 */
+	protected ObjectSizer getObjectSizer() {
+		return this.objectSizer;
+	}
+
+	@Override
+	public int sizeof(Object value) {
+
+		long size = value instanceof Session
+			? sizeofSession((Session) value)
+			: sizeofValue(value);
+
+		return (int) Math.min(size, Integer.MAX_VALUE);
+	}
+
+	protected long sizeofSession(@NonNull Session session) {
+
+		long size = SESSION_OVERHEAD + sizeofString(session.getId());
+
+		if (session instanceof GemFireSession) {
+			for (Map.Entry<String, Object> attribute : ((GemFireSession<?>) session).getAttributes().getMap().entrySet()) {
+				size += sizeofAttribute(attribute.getKey(), attribute.getValue());
+			}
+		}
+		else {
+			for (String attributeName : session.getAttributeNames()) {
+				size += sizeofAttribute(attributeName, session.getAttribute(attributeName));
+			}
+		}
+
+		return size;
+	}
+
+	protected long sizeofAttribute(@NonNull String attributeName, @Nullable Object attributeValue) {
+		return ATTRIBUTE_OVERHEAD + sizeofString(attributeName) + sizeofValue(attributeValue);
+	}
+
+	protected long sizeofValue(@Nullable Object value) {
+
+		if (value == null) {
+			return 0L;
+		}
+		else if (value instanceof String) {
+			return sizeofString((String) value);
+		}
+		else if (value instanceof byte[]) {
+			return BYTE_ARRAY_OVERHEAD + ((byte[]) value).length;
+		}
+		else if (isBoxedPrimitive(value)) {
+			return BOXED_PRIMITIVE_SIZE;
+		}
+
+		return getObjectSizer().sizeof(value);
+	}
+
+	private boolean isBoxedPrimitive(Object value) {
+
+		return value instanceof Boolean
+			|| value instanceof Byte
+			|| value instanceof Character
+			|| value instanceof Double
+			|| value instanceof Float
+			|| value instanceof Integer
+			|| value instanceof Long
+			|| value instanceof Short;
+	}
+
+	protected long sizeofString(@Nullable String value) {
+		return value != null ? STRING_OVERHEAD + 2L * value.length() : 0L;
+	}
+}
@@ -0,0 +1,803 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.TIERING_CALLBACK_ARGUMENT;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.CacheLoader;
+import org.apache.geode.cache.CacheLoaderException;
+import org.apache.geode.cache.CustomExpiry;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.EntryExistsException;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.ExpirationAction;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.LoaderHelper;
+import org.apache.geode.cache.PartitionAttributes;
+import org.apache.geode.cache.PartitionAttributesFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionFactory;
+import org.apache.geode.cache.StatisticsDisabledException;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.query.QueryException;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.RegionNotFoundException;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.apache.geode.pdx.PdxInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.gemfire.GemfireOperations;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+import org.springframework.session.data.gemfire.expiration.support.SessionExpirationPolicyCustomExpiryAdapter.PdxInstanceSession;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link SessionTieringManager} class manages two tiers of {@link Session} storage on a peer member storing
+ * {@link Session} state: the {@link Session Sessions} {@link Region} (the hot tier), storing {@link Session Sessions}
+ * as is, and a cold {@link Region}, storing idle {@link Session Sessions} in the compact, compressed
+ * {@link ColdSessionCodec cold form}.
+ *
+ * {@link Session Sessions} idle beyond the configured idle timeout are demoted to the cold {@link Region}
+ * in the background.  A {@link Session} is promoted back to the {@link Session Sessions} {@link Region},
+ * by a {@link CacheLoader}, when the {@link Session} is next accessed; therefore, promotion is transparent
+ * to {@link org.springframework.session.SessionRepository SessionRepositories} on both peers and clients.
+ * Demotion and promotion are not {@link Session} lifecycle events; the demoting destroy carries
+ * the {@link AbstractGemFireOperationsSessionRepository#TIERING_CALLBACK_ARGUMENT} and the promotion is a load
+ * (see {@link AbstractGemFireOperationsSessionRepository#isTieringEvent(EntryEvent)}).
+ *
+ * The cold {@link Region} has the same data policy as the {@link Session Sessions} {@link Region} and, when
+ * partitioned, is colocated with the {@link Session Sessions} {@link Region}.  Demoted {@link Session Sessions}
+ * are stored as {@link ColdSession ColdSessions}, keeping the principal name in an indexed field, and are found
+ * by principal name with the {@link #FIND_COLD_SESSION_IDS_BY_PRINCIPAL_NAME_QUERY}, for instance, by the
+ * {@link #newDemotedSessionsFinder(GemfireOperations, String) demoted Sessions finder} registered with
+ * the {@link AbstractGemFireOperationsSessionRepository}.
+ *
+ * Each {@link Session} expires from the cold {@link Region} when the {@link Session} would have expired.
+ * The expiration is then {@link #expire(Object, Object) mapped} to an expiration in the {@link Session Sessions}
+ * {@link Region} so that a {@link org.springframework.session.events.SessionExpiredEvent} is published
+ * as for any other {@link Session}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.CacheLoader
+ * @see org.apache.geode.cache.CustomExpiry
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.partition.PartitionRegionHelper
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.support.ColdSession
+ * @see org.springframework.session.data.gemfire.support.ColdSessionCodec
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class SessionTieringManager implements InitializingBean, DisposableBean {
+
+	public static final String COLD_PRINCIPAL_NAME_INDEX_NAME = "coldSessionPrincipalNameIndex";
+	public static final String COLD_REGION_NAME_SUFFIX = "Cold";
+
+	public static final String FIND_COLD_SESSION_IDS_BY_PRINCIPAL_NAME_QUERY =
+		"SELECT c.id FROM %1$s c WHERE c.principalName = $1";
+
+	protected static final Duration MAXIMUM_DEMOTION_INTERVAL = Duration.ofMinutes(1L);
+	protected static final Duration MINIMUM_DEMOTION_INTERVAL = Duration.ofSeconds(1L);
+
+	protected static final String DEMOTION_THREAD_NAME = "spring-session-demotion";
+	protected static final String PRINCIPAL_NAME_FIELD_NAME = "principalName";
+
+	/**
+	 * Returns the name of the cold {@link Region} of the given {@link Session Sessions} {@link Region}.
+	 *
+	 * @param sessionRegionName {@link String} containing the name of the {@link Session Sessions} {@link Region}.
+	 * @return the name of the cold {@link Region}.
+	 */
+	public static String coldRegionName(@NonNull String sessionRegionName) {
+		return sessionRegionName + COLD_REGION_NAME_SUFFIX;
+	}
+
+	/**
+	 * Constructs a new {@link Function} finding the {@link Session Sessions} of a principal that were demoted
+	 * to the cold {@link Region}, to register with
+	 * {@link AbstractGemFireOperationsSessionRepository#setDemotedSessionsFinder(Function)}.
+	 *
+	 * @param sessionsTemplate {@link GemfireOperations} used to access the {@link Session Sessions} {@link Region}.
+	 * @param sessionRegionPath {@link String} containing the full path of the {@link Session Sessions} {@link Region}.
+	 * @return a new {@link Function} finding the demoted {@link Session Sessions} of a principal.
+	 * @throws IllegalArgumentException if the {@link GemfireOperations} is {@literal null}
+	 * or the {@link Region} path is not specified.
+	 * @see DemotedSessionsFinder
+	 */
+	public static Function<String, List<Session>> newDemotedSessionsFinder(@NonNull GemfireOperations sessionsTemplate,
+			@NonNull String sessionRegionPath) {
+
+		return new DemotedSessionsFinder(sessionsTemplate, sessionRegionPath);
+	}
+
+	private final Duration idleTimeout;
+
+	private final GemFireCache gemfireCache;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private volatile Region<Object, Object> coldRegion;
+
+	private volatile ScheduledExecutorService demotionExecutor;
+
+	private SessionExpirationPolicy sessionExpirationPolicy;
+
+	private final String sessionRegionName;
+
+	/**
+	 * Constructs a new instance of {@link SessionTieringManager} initialized with the given {@link GemFireCache},
+	 * name of the {@link Session Sessions} {@link Region} and idle timeout after which {@link Session Sessions}
+	 * are demoted.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @param sessionRegionName {@link String} containing the name of the {@link Session Sessions} {@link Region}.
+	 * @param idleTimeout {@link Duration} after which an idle {@link Session} is demoted;
+	 * {@literal null}, zero or negative disables tiering.
+	 * @throws IllegalArgumentException if the {@link GemFireCache} is {@literal null}
+	 * or the {@link Region} name is not specified.
+	 */
+	public SessionTieringManager(@NonNull GemFireCache gemfireCache, @NonNull String sessionRegionName,
+			@Nullable Duration idleTimeout) {
+
+		Assert.notNull(gemfireCache, "GemFireCache is required");
+		Assert.hasText(sessionRegionName, "Session Region name is required");
+
+		this.gemfireCache = gemfireCache;
+		this.sessionRegionName = sessionRegionName;
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * Returns the {@link Duration} after which an idle {@link Session} is demoted.
+	 *
+	 * @return the {@link Duration} after which an idle {@link Session} is demoted.
+	 */
+	public @Nullable Duration getIdleTimeout() {
+		return this.idleTimeout;
+	}
+
+	/**
+	 * Returns the {@link Duration interval} between runs demoting idle {@link Session Sessions}, which is
+	 * half the {@link #getIdleTimeout() idle timeout}, bounded by {@literal 1 second} and {@literal 1 minute}.
+	 *
+	 * @return the {@link Duration interval} between runs demoting idle {@link Session Sessions}.
+	 */
+	public Duration getDemotionInterval() {
+
+		Duration interval = Optional.ofNullable(getIdleTimeout()).orElse(MAXIMUM_DEMOTION_INTERVAL).dividedBy(2L);
+
+		return interval.compareTo(MINIMUM_DEMOTION_INTERVAL) < 0 ? MINIMUM_DEMOTION_INTERVAL
+			: interval.compareTo(MAXIMUM_DEMOTION_INTERVAL) > 0 ? MAXIMUM_DEMOTION_INTERVAL
+			: interval;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Configures the {@link SessionExpirationPolicy} used to determine when a demoted {@link Session} expires.
+	 *
+	 * If not configured, a demoted {@link Session} expires after its
+	 * {@link Session#getMaxInactiveInterval() maximum inactive interval}.
+	 *
+	 * @param sessionExpirationPolicy {@link SessionExpirationPolicy} used to determine
+	 * when a demoted {@link Session} expires.
+	 */
+	public void setSessionExpirationPolicy(@Nullable SessionExpirationPolicy sessionExpirationPolicy) {
+		this.sessionExpirationPolicy = sessionExpirationPolicy;
+	}
+
+	protected Optional<SessionExpirationPolicy> getSessionExpirationPolicy() {
+		return Optional.ofNullable(this.sessionExpirationPolicy);
+	}
+
+	/**
+	 * Returns the cold {@link Region} once tiering has been initialized.
+	 *
+	 * @return the cold {@link Region}, or {@literal null} if tiering is not enabled.
+	 */
+	public @Nullable Region<Object, Object> getColdRegion() {
+		return this.coldRegion;
+	}
+
+	/**
+	 * Returns the {@link Session Sessions} {@link Region}.
+	 *
+	 * @return the {@link Session Sessions} {@link Region}, or {@literal null} if the {@link Region} does not exist.
+	 */
+	public @Nullable Region<Object, Object> getSessionRegion() {
+		return this.gemfireCache.getRegion(this.sessionRegionName);
+	}
+
+	/**
+	 * Determines whether {@link Session Sessions} are tiered, i.e. an {@link #getIdleTimeout() idle timeout} is set
+	 * and this member is a peer storing the data of the {@link Session Sessions} {@link Region}.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are tiered.
+	 */
+	public boolean isEnabled() {
+
+		Region<Object, Object> sessionRegion = getSessionRegion();
+
+		return getIdleTimeout() != null
+			&& !getIdleTimeout().isNegative()
+			&& !getIdleTimeout().isZero()
+			&& this.gemfireCache instanceof Cache
+			&& !GemFireUtils.isClient(this.gemfireCache)
+			&& sessionRegion != null
+			&& sessionRegion.getAttributes().getDataPolicy().withStorage();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void afterPropertiesSet() {
+
+		if (isEnabled()) {
+
+			Region<Object, Object> sessionRegion = getSessionRegion();
+
+			this.coldRegion = resolveColdRegion(sessionRegion);
+			this.coldRegion.getAttributesMutator().addCacheListener(new ColdSessionExpirationListener());
+
+			ensurePrincipalNameIndex(this.coldRegion);
+
+			sessionRegion.getAttributesMutator().setCacheLoader(new PromotingCacheLoader());
+
+			long demotionIntervalInMillis = getDemotionInterval().toMillis();
+
+			this.demotionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+				Thread thread = new Thread(runnable, DEMOTION_THREAD_NAME);
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+
+			this.demotionExecutor.scheduleWithFixedDelay(this::runDemotion,
+				demotionIntervalInMillis, demotionIntervalInMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Resolves the cold {@link Region}, creating the cold {@link Region} with the {@link Region#getAttributes()
+	 * attributes} of the {@link Session Sessions} {@link Region} if the cold {@link Region} does not exist.
+	 *
+	 * The cold {@link Region} has neither {@link CacheListener CacheListeners} nor a
+	 * {@link org.apache.geode.compression.Compressor}, since the cold form is already compressed, and entries expire
+	 * by a {@link CustomExpiry} at the time the {@link Session} expires.
+	 *
+	 * @param sessionRegion {@link Session Sessions} {@link Region}.
+	 * @return the cold {@link Region}.
+	 */
+	@SuppressWarnings("unchecked")
+	protected Region<Object, Object> resolveColdRegion(@NonNull Region<Object, Object> sessionRegion) {
+
+		String coldRegionName = coldRegionName(sessionRegion.getName());
+
+		Region<Object, Object> coldRegion = this.gemfireCache.getRegion(coldRegionName);
+
+		if (coldRegion == null) {
+
+			RegionFactory<Object, Object> coldRegionFactory =
+				((Cache) this.gemfireCache).createRegionFactory(sessionRegion.getAttributes());
+
+			coldRegionFactory.initCacheListeners(null);
+			coldRegionFactory.setCacheLoader(null);
+			coldRegionFactory.setCompressor(null);
+			coldRegionFactory.setCustomEntryIdleTimeout(null);
+			coldRegionFactory.setCustomEntryTimeToLive(new ColdSessionCustomExpiry());
+			coldRegionFactory.setEntryIdleTimeout(new ExpirationAttributes(0, ExpirationAction.DESTROY));
+			coldRegionFactory.setStatisticsEnabled(true);
+			coldRegionFactory.setValueConstraint(null);
+
+			PartitionAttributes<Object, Object> partitionAttributes =
+				sessionRegion.getAttributes().getPartitionAttributes();
+
+			if (partitionAttributes != null) {
+				coldRegionFactory.setPartitionAttributes(new PartitionAttributesFactory<>(partitionAttributes)
+					.setColocatedWith(sessionRegion.getFullPath())
+					.create());
+			}
+
+			coldRegion = coldRegionFactory.create(coldRegionName);
+		}
+
+		return coldRegion;
+	}
+
+	/**
+	 * Creates the {@link #COLD_PRINCIPAL_NAME_INDEX_NAME principal name Index} on the cold {@link Region}
+	 * unless the Index already exists.
+	 *
+	 * Failure to create the Index is logged and demoted {@link Session Sessions} are queried without the Index.
+	 *
+	 * @param coldRegion cold {@link Region}.
+	 */
+	protected void ensurePrincipalNameIndex(@NonNull Region<Object, Object> coldRegion) {
+
+		QueryService queryService = this.gemfireCache.getQueryService();
+
+		if (queryService.getIndex(coldRegion, COLD_PRINCIPAL_NAME_INDEX_NAME) == null) {
+			try {
+				queryService.createIndex(COLD_PRINCIPAL_NAME_INDEX_NAME, PRINCIPAL_NAME_FIELD_NAME,
+					coldRegion.getFullPath());
+			}
+			catch (QueryException | RuntimeException cause) {
+				getLogger().debug(String.format("Failed to create Index [%s] on Region [%s]",
+					COLD_PRINCIPAL_NAME_INDEX_NAME, coldRegion.getFullPath()), cause);
+			}
+		}
+	}
+
+	@Override
+	public void destroy() {
+
+		ScheduledExecutorService demotionExecutor = this.demotionExecutor;
+
+		if (demotionExecutor != null) {
+			demotionExecutor.shutdownNow();
+		}
+	}
+
+	private void runDemotion() {
+
+		try {
+			demoteIdleSessions();
+		}
+		catch (RuntimeException cause) {
+			getLogger().warn("Failed to demote idle Sessions", cause);
+		}
+	}
+
+	/**
+	 * Demotes all {@link Session Sessions} stored by this member (the primary copies, if partitioned) that have been
+	 * idle beyond the {@link #getIdleTimeout() idle timeout} and have not yet expired.
+	 *
+	 * When the {@link Region} has statistics enabled, the idle time is determined from the last access time
+	 * of the entry, avoiding deserialization of {@link Session Sessions} that are not idle.  Otherwise, the idle time
+	 * is determined from the {@link Session#getLastAccessedTime() last accessed time} of the {@link Session}.
+	 *
+	 * @return the number of demoted {@link Session Sessions}.
+	 */
+	public int demoteIdleSessions() {
+
+		Region<Object, Object> sessionRegion = getSessionRegion();
+
+		if (this.coldRegion == null || sessionRegion == null || sessionRegion.isDestroyed()) {
+			return 0;
+		}
+
+		Region<Object, Object> localSessions = PartitionRegionHelper.isPartitionedRegion(sessionRegion)
+			? PartitionRegionHelper.getLocalPrimaryData(sessionRegion)
+			: sessionRegion;
+
+		long idleSince = System.currentTimeMillis() - getIdleTimeout().toMillis();
+
+		int demotedSessionCount = 0;
+
+		for (Object sessionId : new ArrayList<>(localSessions.keySet())) {
+
+			Region.Entry<Object, Object> entry = localSessions.getEntry(sessionId);
+
+			boolean demoted = entry != null
+				&& isIdle(entry, idleSince)
+				&& demote(sessionRegion, sessionId, entry.getValue(), idleSince);
+
+			if (demoted) {
+				demotedSessionCount++;
+			}
+		}
+
+		return demotedSessionCount;
+	}
+
+	private boolean isIdle(Region.Entry<Object, Object> entry, long idleSince) {
+
+		try {
+			return entry.getStatistics().getLastAccessedTime() <= idleSince;
+		}
+		catch (StatisticsDisabledException | UnsupportedOperationException ignore) {
+			return true;
+		}
+	}
+
+	/**
+	 * Demotes the {@link Session} with the given {@link Session#getId() ID}.
+	 *
+	 * The cold form is stored before the {@link Session} is destroyed in the {@link Session Sessions} {@link Region}
+	 * so that the {@link Session} is always found in either tier.  If the destroyed {@link Session} was accessed
+	 * in the meantime, the {@link Session} is restored rather than demoted.
+	 *
+	 * @param sessionRegion {@link Session Sessions} {@link Region}.
+	 * @param sessionId {@link Session#getId() ID} of the {@link Session} to demote.
+	 * @param value {@link Session} value to demote.
+	 * @param idleSince time, in milliseconds since the epoch, before which the {@link Session} must have been
+	 * last accessed to be demoted.
+	 * @return a boolean value indicating whether the {@link Session} was demoted.
+	 */
+	protected boolean demote(@NonNull Region<Object, Object> sessionRegion, @NonNull Object sessionId,
+			@Nullable Object value, long idleSince) {
+
+		Session session = toSession(value);
+
+		if (session == null || session.getLastAccessedTime().toEpochMilli() > idleSince) {
+			return false;
+		}
+
+		long expirationTime = expirationTimeOf(session);
+
+		if (expirationTime > 0L && expirationTime <= System.currentTimeMillis()) {
+			return false;
+		}
+
+		try {
+			this.coldRegion.put(sessionId, new ColdSession(sessionId.toString(), principalNameOf(value, session),
+				ColdSessionCodec.encode(value, expirationTime)));
+		}
+		catch (IOException cause) {
+			getLogger().warn(String.format("Failed to demote Session [%s]", sessionId), cause);
+			return false;
+		}
+
+		Object destroyedValue;
+
+		try {
+			destroyedValue = sessionRegion.destroy(sessionId, TIERING_CALLBACK_ARGUMENT);
+		}
+		catch (EntryNotFoundException ignore) {
+			// The Session was deleted or expired while being demoted
+			this.coldRegion.remove(sessionId);
+			return false;
+		}
+
+		Session destroyedSession = toSession(destroyedValue);
+
+		if (destroyedSession != null && destroyedSession.getLastAccessedTime().isAfter(session.getLastAccessedTime())) {
+			this.coldRegion.remove(sessionId);
+			sessionRegion.put(sessionId, destroyedValue, TIERING_CALLBACK_ARGUMENT);
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Promotes the {@link Session} with the given {@link Session#getId() ID} from the cold {@link Region}.
+	 *
+	 * @param sessionId {@link Session#getId() ID} of the {@link Session} to promote.
+	 * @return the promoted {@link Session} value, or {@literal null} if the {@link Session} is not in the cold
+	 * {@link Region} or has expired.
+	 * @throws CacheLoaderException if the cold form of the {@link Session} could not be decoded.
+	 */
+	public @Nullable Object promote(@Nullable Object sessionId) {
+
+		Region<Object, Object> coldRegion = this.coldRegion;
+
+		Object coldValue = coldRegion != null && sessionId != null ? coldRegion.remove(sessionId) : null;
+
+		if (coldValue instanceof ColdSession) {
+
+			long expirationTime = ((ColdSession) coldValue).getExpirationTime();
+
+			if (expirationTime <= 0L || expirationTime > System.currentTimeMillis()) {
+				try {
+					return ColdSessionCodec.decode(((ColdSession) coldValue).getValue());
+				}
+				catch (IOException cause) {
+					throw new CacheLoaderException(String.format("Failed to promote Session [%s]", sessionId), cause);
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Maps the expiration of the demoted {@link Session} with the given {@link Session#getId() ID} from
+	 * the cold {@link Region} to an expiration in the {@link Session Sessions} {@link Region}.
+	 *
+	 * The {@link Session} is restored to the {@link Session Sessions} {@link Region}, with the
+	 * {@link AbstractGemFireOperationsSessionRepository#TIERING_CALLBACK_ARGUMENT}, and invalidated, the same
+	 * as a {@link Session} expiring in the {@link Session Sessions} {@link Region}, thereby publishing a
+	 * {@link org.springframework.session.events.SessionExpiredEvent} to all
+	 * {@link org.springframework.session.SessionRepository SessionRepositories} interested in the {@link Session}.
+	 * The invalid entry is destroyed by the
+	 * {@link org.springframework.session.data.gemfire.expiration.support.InvalidatedSessionReaper}, if enabled.
+	 *
+	 * @param sessionId {@link Session#getId() ID} of the expired {@link Session}.
+	 * @param coldValue {@link ColdSession} that expired from the cold {@link Region}.
+	 * @return a boolean value indicating whether the expiration was mapped.
+	 */
+	public boolean expire(@NonNull Object sessionId, @Nullable Object coldValue) {
+
+		Region<Object, Object> sessionRegion = getSessionRegion();
+
+		if (!(coldValue instanceof ColdSession) || sessionRegion == null || sessionRegion.isDestroyed()) {
+			return false;
+		}
+
+		Object value;
+
+		try {
+			value = ColdSessionCodec.decode(((ColdSession) coldValue).getValue());
+		}
+		catch (IOException cause) {
+			getLogger().warn(String.format("Failed to expire Session [%s]", sessionId), cause);
+			return false;
+		}
+
+		if (value == null) {
+			return false;
+		}
+
+		try {
+			sessionRegion.create(sessionId, value, TIERING_CALLBACK_ARGUMENT);
+			sessionRegion.invalidate(sessionId);
+			return true;
+		}
+		catch (EntryExistsException | EntryNotFoundException ignore) {
+			// The Session was recreated or removed while expiring
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the time at which the given {@link Session} expires, as determined by
+	 * the {@link SessionExpirationPolicy}, if configured, or the {@link Session#getMaxInactiveInterval()
+	 * maximum inactive interval} of the {@link Session}.
+	 *
+	 * @param session {@link Session} to evaluate.
+	 * @return the time, in milliseconds since the epoch, at which the {@link Session} expires;
+	 * {@literal 0} if the {@link Session} does not expire.
+	 */
+	protected long expirationTimeOf(@NonNull Session session) {
+
+		return getSessionExpirationPolicy()
+			.map(it -> it.determineExpirationTimeout(session)
+				.map(expirationTimeout -> System.currentTimeMillis() + Math.max(expirationTimeout.toMillis(), 0L))
+				.orElse(0L))
+			.orElseGet(() -> session.getMaxInactiveInterval().isNegative() ? 0L
+				: session.getLastAccessedTime().plus(session.getMaxInactiveInterval()).toEpochMilli());
+	}
+
+	/**
+	 * Returns a {@link Session} for the given {@link Session} value, which is a {@link PdxInstanceSession} view
+	 * reading the {@link Session} state from the fields of a {@link PdxInstance} without deserializing
+	 * the {@link Session}.
+	 *
+	 * @param value {@link Session} value; may be a {@link PdxInstance}.
+	 * @return a {@link Session} for the given value, or {@literal null} if the value is not a {@link Session}.
+	 * @see PdxInstanceSession#from(PdxInstance)
+	 */
+	private @Nullable Session toSession(@Nullable Object value) {
+
+		return value instanceof PdxInstance ? PdxInstanceSession.from((PdxInstance) value)
+			: value instanceof Session ? (Session) value
+			: null;
+	}
+
+	private @Nullable String principalNameOf(@NonNull Object value, @NonNull Session session) {
+
+		if (value instanceof PdxInstance && ((PdxInstance) value).hasField(PRINCIPAL_NAME_FIELD_NAME)) {
+
+			Object principalName = ((PdxInstance) value).getField(PRINCIPAL_NAME_FIELD_NAME);
+
+			return principalName instanceof String ? (String) principalName : null;
+		}
+
+		return session instanceof GemFireSession ? ((GemFireSession<?>) session).getPrincipalName()
+			: session.getAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME);
+	}
+
+	/**
+	 * {@link CacheLoader} promoting a {@link Session} from the cold {@link Region} on a miss
+	 * in the {@link Session Sessions} {@link Region}.
+	 */
+	protected class PromotingCacheLoader implements CacheLoader<Object, Object> {
+
+		@Override
+		public Object load(LoaderHelper<Object, Object> helper) {
+			return promote(helper.getKey());
+		}
+
+		@Override
+		public void close() { }
+
+	}
+
+	/**
+	 * {@link CacheListener} mapping the expiration of a {@link ColdSession} from the cold {@link Region}
+	 * to an expiration in the {@link Session Sessions} {@link Region} on the member where the expiration occurred.
+	 *
+	 * The expiration is mapped asynchronously, on the demotion {@link Thread}, rather than in the listener callback.
+	 *
+	 * @see #expire(Object, Object)
+	 */
+	protected class ColdSessionExpirationListener extends CacheListenerAdapter<Object, Object> {
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, Object> event) {
+
+			if (event.getOperation().isExpiration() && !event.isOriginRemote()) {
+
+				Object sessionId = event.getKey();
+				Object coldValue = event.getOldValue();
+
+				ScheduledExecutorService demotionExecutor = SessionTieringManager.this.demotionExecutor;
+
+				if (demotionExecutor == null) {
+					expire(sessionId, coldValue);
+				}
+				else if (!demotionExecutor.isShutdown()) {
+					try {
+						demotionExecutor.execute(() -> expire(sessionId, coldValue));
+					}
+					catch (RejectedExecutionException ignore) {
+						// The SessionTieringManager was destroyed while the Session expired
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * {@link Function} finding the {@link Session Sessions} of a principal that were demoted to the cold
+	 * {@link Region} with the {@link #FIND_COLD_SESSION_IDS_BY_PRINCIPAL_NAME_QUERY}, promoting each back
+	 * into the {@link Session Sessions} {@link Region} by getting it.
+	 *
+	 * The cold {@link Region} is no longer queried once it is known not to exist, i.e. when tiering
+	 * is not enabled on the members storing {@link Session} state.
+	 */
+	protected static class DemotedSessionsFinder implements Function<String, List<Session>> {
+
+		private static final Logger logger = LoggerFactory.getLogger(DemotedSessionsFinder.class);
+
+		private final AtomicBoolean coldRegionUnavailable = new AtomicBoolean(false);
+
+		private final GemfireOperations sessionsTemplate;
+
+		private final String query;
+
+		protected DemotedSessionsFinder(@NonNull GemfireOperations sessionsTemplate,
+				@NonNull String sessionRegionPath) {
+
+			Assert.notNull(sessionsTemplate, "GemfireOperations is required");
+			Assert.hasText(sessionRegionPath, "Session Region path is required");
+
+			this.sessionsTemplate = sessionsTemplate;
+			this.query = String.format(FIND_COLD_SESSION_IDS_BY_PRINCIPAL_NAME_QUERY,
+				coldRegionName(sessionRegionPath));
+		}
+
+		@Override
+		public List<Session> apply(String principalName) {
+
+			if (!this.coldRegionUnavailable.get()) {
+				try {
+
+					SelectResults<Object> sessionIds = this.sessionsTemplate.find(this.query, principalName);
+
+					List<Session> sessions = new ArrayList<>(sessionIds.size());
+
+					for (Object sessionId : sessionIds) {
+
+						Object session = this.sessionsTemplate.get(sessionId);
+
+						if (session instanceof Session) {
+							sessions.add((Session) session);
+						}
+					}
+
+					return sessions;
+				}
+				catch (RuntimeException cause) {
+
+					if (isRegionNotFound(cause)) {
+						if (this.coldRegionUnavailable.compareAndSet(false, true)) {
+							logger.debug("Demoted Sessions will not be queried; Session tiering is not enabled");
+						}
+					}
+					else {
+						logger.warn(String.format("Failed to query the demoted Sessions of principal [%s]",
+							principalName), cause);
+					}
+				}
+			}
+
+			return Collections.emptyList();
+		}
+
+		private boolean isRegionNotFound(Throwable cause) {
+
+			for (Throwable current = cause; current != null; current = current.getCause()) {
+
+				String message = String.valueOf(current.getMessage());
+
+				if (current instanceof RegionNotFoundException
+						|| message.contains(RegionNotFoundException.class.getSimpleName())) {
+
+					return true;
+				}
+			}
+
+			return false;
+		}
+	}
+
+	/**
+	 * {@link CustomExpiry} expiring a {@link ColdSession} at the time the {@link Session} expires.
+	 */
+	protected static class ColdSessionCustomExpiry implements CustomExpiry<Object, Object> {
+
+		@Override
+		public ExpirationAttributes getExpiry(Region.Entry<Object, Object> entry) {
+
+			Object coldValue = entry != null ? entry.getValue() : null;
+
+			if (coldValue instanceof ColdSession) {
+
+				long expirationTime = ((ColdSession) coldValue).getExpirationTime();
+
+				if (expirationTime > 0L) {
+
+					long timeToLiveInMillis = expirationTime - System.currentTimeMillis();
+
+					int timeToLiveInSeconds = (int) Math.max(TimeUnit.MILLISECONDS.toSeconds(timeToLiveInMillis
+						+ TimeUnit.SECONDS.toMillis(1L) - 1L), 1L);
+
+					return new ExpirationAttributes(timeToLiveInSeconds, ExpirationAction.DESTROY);
+				}
+			}
+
+			return null;
+		}
+
+		@Override
+		public void close() { }
+
+	}
+}
@@ -0,0 +1,509 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.lang.NonNull;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link ShardedSessionRepository} class is a {@link SessionRepository} implementation spreading
+ * {@link Session Sessions} over multiple, data store specific {@link SessionRepository SessionRepositories}
+ * (i.e. shards), for example, one {@link org.springframework.session.data.gemfire.GemFireOperationsSessionRepository}
+ * per {@link org.apache.geode.cache.client.Pool} connected to a different cluster, or per {@link Session Sessions}
+ * {@link org.apache.geode.cache.Region}.
+ *
+ * The shard owning a {@link Session} is determined by consistent hashing of the {@link Session#getId() Session ID}.
+ * Each shard is placed on a hash ring a number of times (i.e. virtual nodes) so that {@link Session Sessions}
+ * are spread evenly over all shards and adding a shard only moves the share of {@link Session Sessions}
+ * now owned by the new shard.
+ *
+ * After a shard is {@link #addShard(String, SessionRepository) added}, and until {@link #completeRebalancing()
+ * rebalancing is completed}, a {@link Session} not found in the shard now owning the {@link Session} is looked up
+ * in the shard that owned the {@link Session} before the shard was added.  A {@link Session} found there is copied
+ * to the shard now owning the {@link Session}.  Once copied, the {@link Session} is removed from the previous shard
+ * with the {@link GemFireOperationsSessionRepository#MIGRATION_CALLBACK_ARGUMENT}, without a {@link Session}
+ * lifecycle event, when the previous shard is a {@link GemFireOperationsSessionRepository}, and is otherwise left
+ * to expire.  Therefore, rebalancing can be completed safely once the maximum inactive interval of the
+ * {@link Session Sessions} has elapsed since the shard was added.
+ *
+ * @author John Blum
+ * @see java.util.NavigableMap
+ * @see org.springframework.session.FindByIndexNameSessionRepository
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.SessionRepository
+ * @since 2.1.3
+ */
+@SuppressWarnings("unused")
+public class ShardedSessionRepository<S extends Session> implements FindByIndexNameSessionRepository<S> {
+
+	public static final int DEFAULT_VIRTUAL_NODES_PER_SHARD = 160;
+
+	protected static final String VIRTUAL_NODE_NAME_FORMAT = "%s#%d";
+
+	private static final long FNV_64_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_64_PRIME = 0x100000001b3L;
+
+	/**
+	 * Computes a 64-bit hash of the given {@link String} used to place {@link Session Sessions}
+	 * and virtual nodes on the hash ring.
+	 *
+	 * The hash is the 64-bit FNV-1a hash of the UTF-8 encoded {@link String} followed by the MurmurHash3
+	 * 64-bit finalizer, which is stable across JVMs and spreads similar {@link String Strings} over the ring.
+	 *
+	 * @param value {@link String} to hash.
+	 * @return the 64-bit hash of the given {@link String}.
+	 */
+	static long hash(@NonNull String value) {
+
+		long hash = FNV_64_OFFSET_BASIS;
+
+		for (byte element : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= element & 0xff;
+			hash *= FNV_64_PRIME;
+		}
+
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+
+		return hash;
+	}
+
+	private final int virtualNodesPerShard;
+
+	private volatile List<Ring<S>> previousRings = Collections.emptyList();
+
+	private volatile Ring<S> ring;
+
+	/**
+	 * Constructs a new instance of {@link ShardedSessionRepository} initialized with the given shards,
+	 * each placed on the hash ring {@link #DEFAULT_VIRTUAL_NODES_PER_SHARD} times.
+	 *
+	 * @param shards {@link Map} of data store specific {@link SessionRepository SessionRepositories}
+	 * keyed by shard name.
+	 * @throws IllegalArgumentException if no shards are given.
+	 * @see #ShardedSessionRepository(Map, int)
+	 */
+	public ShardedSessionRepository(@NonNull Map<String, ? extends SessionRepository<S>> shards) {
+		this(shards, DEFAULT_VIRTUAL_NODES_PER_SHARD);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ShardedSessionRepository} initialized with the given shards,
+	 * each placed on the hash ring the given number of times.
+	 *
+	 * @param shards {@link Map} of data store specific {@link SessionRepository SessionRepositories}
+	 * keyed by shard name.
+	 * @param virtualNodesPerShard number of virtual nodes of each shard on the hash ring.
+	 * @throws IllegalArgumentException if no shards are given, a shard is {@literal null} or unnamed,
+	 * or the number of virtual nodes is less than {@literal 1}.
+	 */
+	public ShardedSessionRepository(@NonNull Map<String, ? extends SessionRepository<S>> shards,
+			int virtualNodesPerShard) {
+
+		Assert.notEmpty(shards, "Shards are required");
+		Assert.isTrue(virtualNodesPerShard > 0,
+			String.format("Virtual nodes per shard [%d] must be greater than 0", virtualNodesPerShard));
+
+		shards.forEach(this::assertShard);
+
+		this.virtualNodesPerShard = virtualNodesPerShard;
+		this.ring = new Ring<>(shards, virtualNodesPerShard);
+	}
+
+	private void assertShard(String shardName, SessionRepository<S> sessionRepository) {
+
+		Assert.hasText(shardName, "Shard name is required");
+		Assert.notNull(sessionRepository, String.format("SessionRepository for shard [%s] is required", shardName));
+	}
+
+	/**
+	 * Returns the number of virtual nodes of each shard on the hash ring.
+	 *
+	 * @return the number of virtual nodes of each shard on the hash ring.
+	 */
+	public int getVirtualNodesPerShard() {
+		return this.virtualNodesPerShard;
+	}
+
+	/**
+	 * Returns the names of all shards.
+	 *
+	 * @return a {@link Set} containing the names of all shards.
+	 */
+	public Set<String> getShardNames() {
+		return this.ring.shards.keySet();
+	}
+
+	/**
+	 * Returns the name of the shard owning the {@link Session} with the given {@link Session#getId() ID}.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() Session ID}.
+	 * @return the name of the shard owning the {@link Session}.
+	 * @throws IllegalArgumentException if the {@link Session#getId() Session ID} is not specified.
+	 */
+	public String getShardName(@NonNull String sessionId) {
+
+		Assert.hasText(sessionId, "Session ID is required");
+
+		return this.ring.shardNameFor(sessionId);
+	}
+
+	/**
+	 * Returns the data store specific {@link SessionRepository} of the shard owning the {@link Session}
+	 * with the given {@link Session#getId() ID}.
+	 *
+	 * @param sessionId {@link String} containing the {@link Session#getId() Session ID}.
+	 * @return the {@link SessionRepository} of the shard owning the {@link Session}.
+	 * @throws IllegalArgumentException if the {@link Session#getId() Session ID} is not specified.
+	 * @see #getShardName(String)
+	 */
+	@NonNull
+	protected SessionRepository<S> getShard(@NonNull String sessionId) {
+		return this.ring.shards.get(getShardName(sessionId));
+	}
+
+	/**
+	 * Adds a shard, placing the shard on the hash ring and starting rebalancing.
+	 *
+	 * Until {@link #completeRebalancing() rebalancing is completed}, {@link Session Sessions} not found in the shard
+	 * now owning the {@link Session} are looked up in the shard that previously owned the {@link Session}.
+	 *
+	 * @param shardName {@link String} containing the name of the shard.
+	 * @param sessionRepository data store specific {@link SessionRepository} of the shard.
+	 * @throws IllegalArgumentException if the shard is unnamed, {@literal null} or already exists.
+	 * @see #completeRebalancing()
+	 */
+	public synchronized void addShard(@NonNull String shardName, @NonNull SessionRepository<S> sessionRepository) {
+
+		assertShard(shardName, sessionRepository);
+
+		Ring<S> currentRing = this.ring;
+
+		Assert.isTrue(!currentRing.shards.containsKey(shardName),
+			String.format("Shard [%s] already exists", shardName));
+
+		Map<String, SessionRepository<S>> shards = new LinkedHashMap<>(currentRing.shards);
+
+		shards.put(shardName, sessionRepository);
+
+		List<Ring<S>> previousRings = new ArrayList<>(this.previousRings.size() + 1);
+
+		previousRings.add(currentRing);
+		previousRings.addAll(this.previousRings);
+
+		this.previousRings = Collections.unmodifiableList(previousRings);
+		this.ring = new Ring<>(shards, getVirtualNodesPerShard());
+	}
+
+	/**
+	 * Completes rebalancing, after which {@link Session Sessions} are only looked up in the shard
+	 * owning the {@link Session}.
+	 *
+	 * @see #addShard(String, SessionRepository)
+	 */
+	public synchronized void completeRebalancing() {
+		this.previousRings = Collections.emptyList();
+	}
+
+	/**
+	 * Determines whether {@link Session Sessions} are being rebalanced after a shard was added.
+	 *
+	 * @return a boolean value indicating whether {@link Session Sessions} are being rebalanced.
+	 * @see #addShard(String, SessionRepository)
+	 * @see #completeRebalancing()
+	 */
+	public boolean isRebalancing() {
+		return !this.previousRings.isEmpty();
+	}
+
+	/**
+	 * Creates a new {@link Session} with the first shard.
+	 *
+	 * A {@link Session} is not stored on creation, therefore the shard creating the {@link Session} is irrelevant;
+	 * the {@link Session} is saved to the shard owning the {@link Session}.
+	 *
+	 * @return a new {@link Session}.
+	 */
+	@Override
+	public S createSession() {
+		return this.ring.shards.values().iterator().next().createSession();
+	}
+
+	/**
+	 * Finds the {@link Session} with the given {@link String ID} in the shard owning the {@link Session}.
+	 *
+	 * While {@link #isRebalancing() rebalancing}, a {@link Session} not found in the shard owning the {@link Session}
+	 * is looked up in the shards that previously owned the {@link Session}, from the most to the least recent,
+	 * and migrated to the shard owning the {@link Session} when found.
+	 *
+	 * @param id {@link String} containing the ID identifying the {@link Session} to lookup.
+	 * @return the {@link Session} with the given {@link String ID} or {@literal null} if no {@link Session}
+	 * with {@link String ID} exists.
+	 * @see #migrate(Session, SessionRepository, SessionRepository)
+	 */
+	@Override
+	public S findById(String id) {
+
+		if (!StringUtils.hasText(id)) {
+			return null;
+		}
+
+		List<Ring<S>> previousRings = this.previousRings;
+
+		SessionRepository<S> owner = this.ring.shardFor(id);
+
+		S session = owner.findById(id);
+
+		if (session == null && !previousRings.isEmpty()) {
+
+			List<SessionRepository<S>> searchedShards = new ArrayList<>(previousRings.size() + 1);
+
+			searchedShards.add(owner);
+
+			for (Ring<S> previousRing : previousRings) {
+
+				SessionRepository<S> previousOwner = previousRing.shardFor(id);
+
+				if (!searchedShards.contains(previousOwner)) {
+
+					session = previousOwner.findById(id);
+
+					if (session != null) {
+						migrate(session, previousOwner, owner);
+						break;
+					}
+
+					searchedShards.add(previousOwner);
+				}
+			}
+		}
+
+		return session;
+	}
+
+	/**
+	 * Saves the given {@link Session} to the shard owning the {@link Session}.
+	 *
+	 * If the data store specific {@link SessionRepository} changes the {@link Session#getId() ID}
+	 * of the {@link Session} on save (e.g. when {@link Session Sessions} are routed by principal)
+	 * and the {@link Session} is now owned by a different shard, then the {@link Session} is migrated
+	 * to the shard now owning the {@link Session}.
+	 *
+	 * @param session {@link Session} to save.
+	 * @see #migrate(Session, SessionRepository, SessionRepository)
+	 */
+	@Override
+	public void save(S session) {
+
+		if (session != null) {
+
+			String id = session.getId();
+
+			SessionRepository<S> owner = getShard(id);
+
+			owner.save(session);
+
+			String savedId = session.getId();
+
+			if (!id.equals(savedId)) {
+
+				SessionRepository<S> newOwner = getShard(savedId);
+
+				if (newOwner != owner) {
+					migrate(session, owner, newOwner);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Migrates the given {@link Session} from one shard to another.
+	 *
+	 * Data store specific {@link SessionRepository SessionRepositories} generally only save changes,
+	 * therefore a {@link GemFireSession} is {@link GemFireSession#copy(Session) copied} in full before it is saved.
+	 * Once the copy is saved, the {@link Session} is removed from the shard it was migrated from
+	 * with the {@link GemFireOperationsSessionRepository#MIGRATION_CALLBACK_ARGUMENT} if that shard is
+	 * a {@link GemFireOperationsSessionRepository}, and is otherwise left to expire.
+	 *
+	 * @param session {@link Session} to migrate.
+	 * @param fromShard {@link SessionRepository} of the shard to migrate the {@link Session} from.
+	 * @param toShard {@link SessionRepository} of the shard to migrate the {@link Session} to.
+	 * @see org.springframework.session.data.gemfire.GemFireOperationsSessionRepository#deleteMigratedById(String)
+	 */
+	@SuppressWarnings("unchecked")
+	protected void migrate(@NonNull S session, @NonNull SessionRepository<S> fromShard,
+			@NonNull SessionRepository<S> toShard) {
+
+		toShard.save(session instanceof GemFireSession ? (S) GemFireSession.copy(session) : session);
+
+		if (fromShard instanceof GemFireOperationsSessionRepository) {
+			((GemFireOperationsSessionRepository) fromShard).deleteMigratedById(session.getId());
+		}
+	}
+
+	/**
+	 * Deletes the {@link Session} with the given {@link String ID} from the shard owning the {@link Session}
+	 * and, while {@link #isRebalancing() rebalancing}, from the shards that previously owned the {@link Session}.
+	 *
+	 * @param id {@link String} containing the ID identifying the {@link Session} to delete.
+	 */
+	@Override
+	public void deleteById(String id) {
+
+		if (StringUtils.hasText(id)) {
+
+			List<SessionRepository<S>> owners = new ArrayList<>(this.previousRings.size() + 1);
+
+			owners.add(this.ring.shardFor(id));
+
+			for (Ring<S> previousRing : this.previousRings) {
+
+				SessionRepository<S> previousOwner = previousRing.shardFor(id);
+
+				if (!owners.contains(previousOwner)) {
+					owners.add(previousOwner);
+				}
+			}
+
+			owners.forEach(owner -> owner.deleteById(id));
+		}
+	}
+
+	/**
+	 * Finds all {@link Session Sessions} indexed with the given {@link String index name} and {@link String value}
+	 * in all shards.
+	 *
+	 * A {@link Session} is only returned when found in the shard owning the {@link Session} or, while
+	 * {@link #isRebalancing() rebalancing}, in a shard that previously owned the {@link Session}, thereby ignoring
+	 * stale copies of the {@link Session} in any other shard.  If the same {@link Session} is found in more than
+	 * one of these shards, then the {@link Session} found in the most recent owner is returned.
+	 *
+	 * @param indexName {@link String name} of the index to query.
+	 * @param indexValue {@link String value} to match.
+	 * @return a {@link Map} of {@link Session Sessions} indexed by {@link Session#getId() ID}.
+	 * @throws UnsupportedOperationException if the {@link SessionRepository} of a shard
+	 * is not a {@link FindByIndexNameSessionRepository}.
+	 * @see org.springframework.session.FindByIndexNameSessionRepository
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<String, S> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+
+		Ring<S> ring = this.ring;
+
+		List<Ring<S>> previousRings = this.previousRings;
+
+		Map<String, S> sessions = new HashMap<>();
+		Map<String, Integer> owners = new HashMap<>();
+
+		ring.shards.forEach((shardName, shard) -> {
+
+			if (!(shard instanceof FindByIndexNameSessionRepository)) {
+				throw new UnsupportedOperationException(String.format(
+					"SessionRepository [%s] does not support finding Sessions by index", shard.getClass().getName()));
+			}
+
+			((FindByIndexNameSessionRepository<S>) shard).findByIndexNameAndIndexValue(indexName, indexValue)
+				.forEach((id, session) -> {
+
+					int owner = ownerIndexOf(shardName, id, ring, previousRings);
+
+					if (owner >= 0 && owner < owners.getOrDefault(id, Integer.MAX_VALUE)) {
+						sessions.put(id, session);
+						owners.put(id, owner);
+					}
+				});
+		});
+
+		return sessions;
+	}
+
+	/**
+	 * Returns how recently the named shard owned the {@link Session} with the given {@link String ID}:
+	 * {@literal 0} for the shard owning the {@link Session}, {@literal n} for the shard owning the {@link Session}
+	 * before the {@literal n}th most recently added shard, or {@literal -1} if the shard neither owns
+	 * nor previously owned the {@link Session}.
+	 */
+	private int ownerIndexOf(String shardName, String sessionId, Ring<S> ring, List<Ring<S>> previousRings) {
+
+		if (shardName.equals(ring.shardNameFor(sessionId))) {
+			return 0;
+		}
+
+		for (int index = 0; index < previousRings.size(); index++) {
+			if (shardName.equals(previousRings.get(index).shardNameFor(sessionId))) {
+				return index + 1;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Immutable hash ring of shards.
+	 */
+	static class Ring<S extends Session> {
+
+		private final Map<String, SessionRepository<S>> shards;
+
+		private final NavigableMap<Long, String> virtualNodes = new TreeMap<>();
+
+		Ring(Map<String, ? extends SessionRepository<S>> shards, int virtualNodesPerShard) {
+
+			this.shards = Collections.unmodifiableMap(new LinkedHashMap<>(shards));
+
+			for (String shardName : this.shards.keySet()) {
+				for (int index = 0; index < virtualNodesPerShard; index++) {
+					// On the rare hash collision, the first shard placed on the ring keeps the position
+					this.virtualNodes.putIfAbsent(hash(String.format(VIRTUAL_NODE_NAME_FORMAT, shardName, index)),
+						shardName);
+				}
+			}
+		}
+
+		String shardNameFor(String sessionId) {
+
+			Map.Entry<Long, String> virtualNode = this.virtualNodes.ceilingEntry(hash(sessionId));
+
+			return virtualNode != null ? virtualNode.getValue() : this.virtualNodes.firstEntry().getValue();
+		}
+
+		SessionRepository<S> shardFor(String sessionId) {
+			return this.shards.get(shardNameFor(sessionId));
+		}
+	}
+}
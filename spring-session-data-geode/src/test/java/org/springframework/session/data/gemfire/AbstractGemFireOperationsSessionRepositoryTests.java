@@ -17,8 +17,10 @@
 package org.springframework.session.data.gemfire;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
@@ -42,13 +44,20 @@ import static org.springframework.session.data.gemfire.AbstractGemFireOperations
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.DeltaCapableGemFireSessionAttributes;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSessionAttributes;
+import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.MIGRATION_CALLBACK_ARGUMENT;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.SessionEventHandlerCacheListenerAdapter;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.SessionIdInterestRegisteringCacheListener;
+import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.TIERING_CALLBACK_ARGUMENT;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInput;
+import java.io.DataInputStream;
 import java.io.DataOutput;
+import java.io.DataOutputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -57,10 +66,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -84,14 +95,21 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.gemfire.GemfireOperations;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.Session;
 import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
+import org.springframework.session.data.gemfire.serialization.data.support.ChunkedValue;
 import org.springframework.session.data.gemfire.support.DeltaAwareDirtyPredicate;
 import org.springframework.session.data.gemfire.support.EqualsDirtyPredicate;
 import org.springframework.session.data.gemfire.support.GemFireOperationsSessionRepositorySupport;
 import org.springframework.session.data.gemfire.support.IdentityEqualsDirtyPredicate;
 import org.springframework.session.data.gemfire.support.IsDirtyPredicate;
+import org.springframework.session.data.gemfire.support.NegativeLookupCache;
+import org.springframework.session.data.gemfire.support.PrincipalNameResolver;
+import org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver;
+import org.springframework.session.data.gemfire.support.SecurityContextPrincipalNameResolver;
 import org.springframework.session.data.gemfire.support.SessionIdHolder;
 import org.springframework.session.events.AbstractSessionEvent;
 import org.springframework.session.events.SessionCreatedEvent;
@@ -147,12 +165,19 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 
 		this.sessionRepository = new TestGemFireOperationsSessionRepository(new GemfireTemplate(this.mockRegion));
 		this.sessionRepository.setUseDataSerialization(false);
+		this.sessionRepository.setPrincipalNameResolver(null);
+		this.sessionRepository.setPrincipalRoutingEnabled(false);
 		this.sessionRepository = spy(this.sessionRepository);
 
 		doReturn(this.mockLog).when(this.sessionRepository).getLogger();
 		doReturn(this.mockRegion).when(this.sessionRepository).getSessionsRegion();
 	}
 
+	@After
+	public void tearDown() {
+		this.sessionRepository.setPrincipalRoutingEnabled(false);
+	}
+
 	@SuppressWarnings("unchecked")
 	private <K, V> EntryEvent<K, V> mockEntryEvent(Operation operation, K key, V oldValue, V newValue) {
 
@@ -170,7 +195,7 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 
 		String sessionId = UUID.randomUUID().toString();
 
-		Instant now = Instant.now();
+		Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 
 		Duration maxInactiveInterval = Duration.ofSeconds(MAX_INACTIVE_INTERVAL_IN_SECONDS);
 
@@ -471,6 +496,24 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		assertThat(GemFireOperationsSessionRepository.isUsingDataSerialization()).isFalse();
 	}
 
+	@Test
+	public void setAndGetPrincipalNameResolver() {
+
+		assertThat(this.sessionRepository.getPrincipalNameResolver())
+			.isSameAs(SecurityContextPrincipalNameResolver.INSTANCE);
+
+		PrincipalNameResolver mockPrincipalNameResolver = mock(PrincipalNameResolver.class);
+
+		this.sessionRepository.setPrincipalNameResolver(mockPrincipalNameResolver);
+
+		assertThat(this.sessionRepository.getPrincipalNameResolver()).isSameAs(mockPrincipalNameResolver);
+
+		this.sessionRepository.setPrincipalNameResolver(null);
+
+		assertThat(this.sessionRepository.getPrincipalNameResolver())
+			.isSameAs(SecurityContextPrincipalNameResolver.INSTANCE);
+	}
+
 	@Test
 	public void commitGemFireSessionIsCorrect() {
 
@@ -516,6 +559,31 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		verify(this.sessionRepository, times(1)).getMaxInactiveInterval();
 	}
 
+	@Test
+	public void configureWithGemFireSessionTracksBaseAttributeValuesOnlyWhenOptimisticConcurrencyIsEnabled() {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		this.sessionRepository.configure(session);
+
+		assertThat(session.getAttributes().isTrackingBaseAttributeValues()).isFalse();
+
+		this.sessionRepository.setOptimisticConcurrencyEnabled(true);
+		this.sessionRepository.configure(session);
+
+		assertThat(session.getAttributes().isTrackingBaseAttributeValues()).isTrue();
+
+		session.setAttribute("attributeOne", "testOne");
+
+		assertThat(session.getAttributes().getBaseAttributeValues()).containsOnlyKeys("attributeOne");
+
+		this.sessionRepository.setOptimisticConcurrencyEnabled(false);
+		this.sessionRepository.configure(session);
+
+		assertThat(session.getAttributes().isTrackingBaseAttributeValues()).isFalse();
+		assertThat(session.getAttributes().getBaseAttributeValues()).isEmpty();
+	}
+
 	@Test
 	public void configureWithNull() {
 
@@ -897,6 +965,34 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		verify(this.sessionRepository, times(1)).publishEvent(isA(SessionCreatedEvent.class));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void afterCreateInvalidatesNegativeLookupCache() {
+
+		NegativeLookupCache negativeLookupCache = new NegativeLookupCache(Duration.ofMinutes(1), 10);
+
+		negativeLookupCache.remember("1");
+		negativeLookupCache.remember("2");
+
+		this.sessionRepository.setNegativeLookupCache(negativeLookupCache);
+
+		SessionEventHandlerCacheListenerAdapter sessionEventHandler = this.sessionRepository.newSessionEventHandler();
+
+		EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn("1");
+		when(mockEntryEvent.getNewValue()).thenReturn(this.mockSession);
+		when(this.mockSession.getId()).thenReturn("1");
+		doNothing().when(this.sessionRepository).publishEvent(any(ApplicationEvent.class));
+
+		sessionEventHandler.afterCreate(mockEntryEvent);
+
+		assertThat(negativeLookupCache.isMissing("1")).isFalse();
+		assertThat(negativeLookupCache.isMissing("2")).isTrue();
+
+		verify(this.sessionRepository, times(1)).publishEvent(isA(SessionCreatedEvent.class));
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void afterCreateHandlesKnownSessionWillNotPublishSessionCreatedEvent() {
@@ -1037,6 +1133,27 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		}
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void afterCreateHandlesPromotionWillNotPublishSessionCreatedEvent() {
+
+		SessionEventHandlerCacheListenerAdapter sessionEventHandler =
+			spy(this.sessionRepository.newSessionEventHandler());
+
+		EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getOperation()).thenReturn(Operation.LOCAL_LOAD_CREATE);
+
+		sessionEventHandler.afterCreate(mockEntryEvent);
+
+		assertThat(sessionEventHandler.isRemembered("1")).isFalse();
+
+		verify(mockEntryEvent, never()).getNewValue();
+		verify(sessionEventHandler, never()).remember(any(EntryEvent.class));
+		verify(sessionEventHandler, never()).newSessionCreatedEvent(any(Session.class));
+		verify(this.sessionRepository, never()).publishEvent(any(ApplicationEvent.class));
+	}
+
 	@Test
 	public void afterDestroyIsNullSafe() {
 
@@ -1140,6 +1257,95 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		verify(this.sessionRepository, times(1)).publishEvent(isA(SessionDestroyedEvent.class));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void afterDestroyHandlesDemotionWillNotPublishSessionDestroyedEvent() {
+
+		SessionEventHandlerCacheListenerAdapter sessionEventHandler = this.sessionRepository.newSessionEventHandler();
+
+		EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getCallbackArgument()).thenReturn(TIERING_CALLBACK_ARGUMENT);
+
+		assertThat(sessionEventHandler.remember("1")).isTrue();
+
+		sessionEventHandler = spy(sessionEventHandler);
+		sessionEventHandler.afterDestroy(mockEntryEvent);
+
+		assertThat(sessionEventHandler.isRemembered("1")).isTrue();
+
+		verify(mockEntryEvent, never()).getKey();
+		verify(mockEntryEvent, never()).getOldValue();
+		verify(sessionEventHandler, never()).forget(any(EntryEvent.class));
+		verify(sessionEventHandler, never()).newSessionDestroyedEvent(any(Session.class));
+		verify(this.sessionRepository, never()).publishEvent(any(ApplicationEvent.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void afterDestroyHandlesMigrationForgetsSessionWillNotPublishSessionDestroyedEvent() {
+
+		SessionEventHandlerCacheListenerAdapter sessionEventHandler = this.sessionRepository.newSessionEventHandler();
+
+		EntryEvent mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getCallbackArgument()).thenReturn(MIGRATION_CALLBACK_ARGUMENT);
+		when(mockEntryEvent.getKey()).thenReturn("1");
+
+		assertThat(sessionEventHandler.remember("1")).isTrue();
+
+		sessionEventHandler = spy(sessionEventHandler);
+		sessionEventHandler.afterDestroy(mockEntryEvent);
+
+		assertThat(sessionEventHandler.isRemembered("1")).isFalse();
+
+		verify(mockEntryEvent, never()).getOldValue();
+		verify(sessionEventHandler, times(1)).forget(eq(mockEntryEvent));
+		verify(sessionEventHandler, never()).newSessionDestroyedEvent(any(Session.class));
+		verify(this.sessionRepository, never()).publishEvent(any(ApplicationEvent.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void isTieringEventForDemotionAndPromotion() {
+
+		EntryEvent<Object, Object> mockDemotionEvent = mock(EntryEvent.class);
+		EntryEvent<Object, Object> mockPromotionEvent = mock(EntryEvent.class);
+		EntryEvent<Object, Object> mockDestroyEvent = mock(EntryEvent.class);
+		EntryEvent<Object, Object> mockEventWithNoOperation = mock(EntryEvent.class);
+
+		when(mockDemotionEvent.getCallbackArgument()).thenReturn(TIERING_CALLBACK_ARGUMENT);
+		when(mockPromotionEvent.getOperation()).thenReturn(Operation.LOCAL_LOAD_CREATE);
+		when(mockDestroyEvent.getOperation()).thenReturn(Operation.DESTROY);
+
+		assertThat(AbstractGemFireOperationsSessionRepository.isTieringEvent(mockDemotionEvent)).isTrue();
+		assertThat(AbstractGemFireOperationsSessionRepository.isTieringEvent(mockPromotionEvent)).isTrue();
+		assertThat(AbstractGemFireOperationsSessionRepository.isTieringEvent(mockDestroyEvent)).isFalse();
+		assertThat(AbstractGemFireOperationsSessionRepository.isTieringEvent(mockEventWithNoOperation)).isFalse();
+		assertThat(AbstractGemFireOperationsSessionRepository.isTieringEvent(null)).isFalse();
+	}
+
+	@Test
+	public void isMigrationEventWithMigrationCallbackArgumentReturnsTrue() {
+
+		EntryEvent<?, ?> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getCallbackArgument()).thenReturn(MIGRATION_CALLBACK_ARGUMENT);
+
+		assertThat(AbstractGemFireOperationsSessionRepository.isMigrationEvent(mockEntryEvent)).isTrue();
+	}
+
+	@Test
+	public void isMigrationEventWithOtherCallbackArgumentOrNullEventReturnsFalse() {
+
+		EntryEvent<?, ?> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getCallbackArgument()).thenReturn("test");
+
+		assertThat(AbstractGemFireOperationsSessionRepository.isMigrationEvent(mockEntryEvent)).isFalse();
+		assertThat(AbstractGemFireOperationsSessionRepository.isMigrationEvent(null)).isFalse();
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void afterDestroyHandlesUnknownSessionWillNotPublishSessionDestroyedEvent() {
@@ -1853,7 +2059,7 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 	@Test
 	public void constructDefaultGemFireSession() {
 
-		Instant testCreationTime = Instant.now();
+		Instant testCreationTime = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 
 		GemFireSession session = new GemFireSession();
 
@@ -1869,7 +2075,7 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 	@Test
 	public void constructGemFireSessionWithId() {
 
-		Instant testCreationTime = Instant.now();
+		Instant testCreationTime = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 
 		GemFireSession session = new GemFireSession("1");
 
@@ -1968,7 +2174,7 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 
 		assertThat(AbstractGemFireOperationsSessionRepository.isUsingDataSerialization()).isFalse();
 
-		Instant testCreationTime = Instant.now();
+		Instant testCreationTime = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 
 		GemFireSession<?> session = GemFireSession.create();
 
@@ -1978,6 +2184,7 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		assertThat(session.getCreationTime()).isAfterOrEqualTo(testCreationTime);
 		assertThat(session.getCreationTime()).isBeforeOrEqualTo(Instant.now());
 		assertThat(session.hasDelta()).isTrue();
+		assertThat(session.isNew()).isTrue();
 		assertThat(session.getIsDirtyPredicate()).isEqualTo(DeltaAwareDirtyPredicate.INSTANCE);
 		assertThat(session.getLastAccessedTime()).isEqualTo(session.getCreationTime());
 		assertThat(session.getMaxInactiveInterval()).isEqualTo(Duration.ZERO);
@@ -1992,7 +2199,7 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 
 		assertThat(AbstractGemFireOperationsSessionRepository.isUsingDataSerialization()).isTrue();
 
-		Instant testCreationTime = Instant.now();
+		Instant testCreationTime = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 
 		GemFireSession<?> session = GemFireSession.create();
 
@@ -2001,6 +2208,7 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		assertThat(session.getCreationTime()).isAfterOrEqualTo(testCreationTime);
 		assertThat(session.getCreationTime()).isBeforeOrEqualTo(Instant.now());
 		assertThat(session.hasDelta()).isTrue();
+		assertThat(session.isNew()).isTrue();
 		assertThat(session.getIsDirtyPredicate()).isEqualTo(DeltaAwareDirtyPredicate.INSTANCE);
 		assertThat(session.getLastAccessedTime()).isEqualTo(session.getCreationTime());
 		assertThat(session.getMaxInactiveInterval()).isEqualTo(Duration.ZERO);
@@ -2084,6 +2292,146 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		verify(mockSession, times(1)).getAttribute(eq("attributeOne"));
 	}
 
+	@Test
+	public void copyOfGemFireSessionPreservesState() {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setAttribute("attributeOne", "test");
+		session.setMaxInactiveInterval(Duration.ofSeconds(MAX_INACTIVE_INTERVAL_IN_SECONDS));
+		session.configureWith(IsDirtyPredicate.ALWAYS_DIRTY);
+		session.setVersion(5L);
+		session.commit();
+
+		GemFireSession<?> sessionCopy = GemFireSession.copyOf(session);
+
+		assertThat(sessionCopy).isNotSameAs(session);
+		assertThat(sessionCopy.getAttributes()).isNotSameAs(session.getAttributes());
+		assertThat(sessionCopy.getId()).isEqualTo(session.getId());
+		assertThat(sessionCopy.getCreationTime()).isEqualTo(session.getCreationTime());
+		assertThat(sessionCopy.getLastAccessedTime()).isEqualTo(session.getLastAccessedTime());
+		assertThat(sessionCopy.getMaxInactiveInterval()).isEqualTo(session.getMaxInactiveInterval());
+		assertThat(sessionCopy.getIsDirtyPredicate()).isEqualTo(IsDirtyPredicate.ALWAYS_DIRTY);
+		assertThat(sessionCopy.<String>getAttribute("attributeOne")).isEqualTo("test");
+		assertThat(sessionCopy.getVersion()).isEqualTo(5L);
+		assertThat(sessionCopy.hasDelta()).isFalse();
+		assertThat(sessionCopy.isNew()).isFalse();
+
+		sessionCopy.setAttribute("attributeTwo", "mock");
+
+		assertThat(sessionCopy.hasDelta()).isTrue();
+		assertThat(session.hasDelta()).isFalse();
+		assertThat(session.getAttributeNames()).containsExactly("attributeOne");
+	}
+
+	@Test
+	public void copyOfGemFireSessionWithDeltaPreservesDelta() {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setAttribute("attributeOne", "test");
+
+		GemFireSession<?> sessionCopy = GemFireSession.copyOf(session);
+
+		assertThat(session.hasDelta()).isTrue();
+		assertThat(sessionCopy.hasDelta()).isTrue();
+		assertThat(sessionCopy.getAttributes().hasDelta()).isTrue();
+		assertThat(sessionCopy.isNew()).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("serial")
+	public void copyOfDeltaCapableGemFireSessionPreservesType() {
+
+		DeltaCapableGemFireSession session = new DeltaCapableGemFireSession();
+
+		session.setAttribute("attributeOne", "test");
+
+		GemFireSession<?> sessionCopy = GemFireSession.copyOf(session);
+
+		assertThat(sessionCopy).isInstanceOf(DeltaCapableGemFireSession.class);
+		assertThat(sessionCopy).isNotSameAs(session);
+		assertThat(sessionCopy.<String>getAttribute("attributeOne")).isEqualTo("test");
+	}
+
+	@Test
+	public void commitClearsNewGemFireSession() {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		assertThat(session.isNew()).isTrue();
+
+		session.commit();
+
+		assertThat(session.isNew()).isFalse();
+	}
+
+	@Test
+	public void mergeGemFireSessionKeepsLocalChangesAndAppliesStoredChanges() {
+
+		GemFireSession<?> session = GemFireSession.create().trackBaseAttributeValues(true);
+
+		session.setAttribute("attributeOne", "one");
+		session.setAttribute("attributeTwo", "two");
+		session.setAttribute("attributeThree", "three");
+		session.setVersion(1L);
+		session.commit();
+
+		GemFireSession<?> storedSession = GemFireSession.copy(session);
+
+		storedSession.setAttribute("attributeOne", "storedOne");
+		storedSession.setAttribute("attributeTwo", "storedTwo");
+		storedSession.removeAttribute("attributeThree");
+		storedSession.setAttribute("attributeFour", "storedFour");
+		storedSession.setLastAccessedTime(session.getLastAccessedTime().plusSeconds(10));
+		storedSession.setVersion(2L);
+
+		session.setAttribute("attributeOne", "localOne");
+		session.setAttribute("attributeFive", "localFive");
+
+		assertThat(session.merge(storedSession)).isEqualTo(1);
+		assertThat(session.getVersion()).isEqualTo(2L);
+		assertThat(session.getLastAccessedTime()).isEqualTo(storedSession.getLastAccessedTime());
+		assertThat(session.getAttributeNames())
+			.containsOnly("attributeOne", "attributeTwo", "attributeFour", "attributeFive");
+		assertThat(session.<String>getAttribute("attributeOne")).isEqualTo("localOne");
+		assertThat(session.<String>getAttribute("attributeTwo")).isEqualTo("storedTwo");
+		assertThat(session.<String>getAttribute("attributeFour")).isEqualTo("storedFour");
+		assertThat(session.<String>getAttribute("attributeFive")).isEqualTo("localFive");
+		assertThat(session.hasDelta()).isTrue();
+	}
+
+	@Test
+	public void mergeGemFireSessionKeepsLocalRemovals() {
+
+		GemFireSession<?> session = GemFireSession.create().trackBaseAttributeValues(true);
+
+		session.setAttribute("attributeOne", "one");
+		session.commit();
+
+		GemFireSession<?> storedSession = GemFireSession.copy(session);
+
+		storedSession.setLastAccessedTime(session.getLastAccessedTime().minusSeconds(10));
+		storedSession.setVersion(4L);
+
+		session.removeAttribute("attributeOne");
+
+		Instant lastAccessedTime = session.getLastAccessedTime();
+
+		assertThat(session.merge(storedSession)).isZero();
+		assertThat(session.getVersion()).isEqualTo(4L);
+		assertThat(session.getLastAccessedTime()).isEqualTo(lastAccessedTime);
+		assertThat(session.getAttributeNames()).isEmpty();
+	}
+
+	@Test
+	public void copiedGemFireSessionIsNotNew() {
+
+		GemFireSession<?> session = GemFireSession.copy(GemFireSession.create());
+
+		assertThat(session.isNew()).isFalse();
+	}
+
 	@Test
 	public void fromExistingGemFireSessionIsGemFireSession() {
 
@@ -2126,6 +2474,38 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		verify(mockSession, never()).getAttribute(anyString());
 	}
 
+	@Test
+	public void fromSessionStateWhenNotUsingDataSerialization() {
+
+		GemFireSession<?> session = GemFireSession.from("123", 1L, 2L, 60000L);
+
+		assertThat(session).isNotInstanceOf(DeltaCapableGemFireSession.class);
+		assertThat(session.getId()).isEqualTo("123");
+		assertThat(session.getCreationTime()).isEqualTo(Instant.ofEpochMilli(1L));
+		assertThat(session.getCreationTimeInMillis()).isEqualTo(1L);
+		assertThat(session.getLastAccessedTime()).isEqualTo(Instant.ofEpochMilli(2L));
+		assertThat(session.getLastAccessedTimeInMillis()).isEqualTo(2L);
+		assertThat(session.getMaxInactiveInterval()).isEqualTo(Duration.ofMinutes(1L));
+		assertThat(session.getMaxInactiveIntervalInSeconds()).isEqualTo(60L);
+		assertThat(session.getAttributeNames()).isEmpty();
+		assertThat(session.hasDelta()).isTrue();
+		assertThat(session.isNew()).isFalse();
+	}
+
+	@Test
+	public void fromSessionStateWhenUsingDataSerialization() {
+
+		this.sessionRepository.setUseDataSerialization(true);
+
+		GemFireSession<?> session = GemFireSession.from("123", 1L, 2L, 60000L);
+
+		assertThat(session).isInstanceOf(DeltaCapableGemFireSession.class);
+		assertThat(session.getId()).isEqualTo("123");
+		assertThat(session.getCreationTimeInMillis()).isEqualTo(1L);
+		assertThat(session.getLastAccessedTimeInMillis()).isEqualTo(2L);
+		assertThat(session.getMaxInactiveIntervalInSeconds()).isEqualTo(60L);
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void fromNullSessionThrowsIllegalArgumentException() {
 
@@ -2150,11 +2530,11 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 
 		assertThat(session.getIsDirtyPredicate()).isEqualTo(EqualsDirtyPredicate.INSTANCE);
 
-		GemFireSessionAttributes sessionAttributes = session.newSessionAttributes(session);
+		GemFireSessionAttributes sessionAttributes = session.newSessionAttributes(session.getLock());
 
 		assertThat(sessionAttributes).isNotNull();
 		assertThat(sessionAttributes.getIsDirtyPredicate()).isEqualTo(EqualsDirtyPredicate.INSTANCE);
-		assertThat(sessionAttributes.getLock()).isSameAs(session);
+		assertThat(sessionAttributes.getLock()).isSameAs(session.getLock());
 	}
 
 	@Test
@@ -2166,11 +2546,11 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 
 		assertThat(session.getIsDirtyPredicate()).isEqualTo(IdentityEqualsDirtyPredicate.INSTANCE);
 
-		DeltaCapableGemFireSessionAttributes sessionAttributes = session.newSessionAttributes(session);
+		DeltaCapableGemFireSessionAttributes sessionAttributes = session.newSessionAttributes(session.getLock());
 
 		assertThat(sessionAttributes).isNotNull();
 		assertThat(sessionAttributes.getIsDirtyPredicate()).isEqualTo(IdentityEqualsDirtyPredicate.INSTANCE);
-		assertThat(sessionAttributes.getLock()).isEqualTo(session);
+		assertThat(sessionAttributes.getLock()).isSameAs(session.getLock());
 	}
 
 	@Test
@@ -2185,6 +2565,73 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		assertThat(session.getId()).isNotEqualTo(sessionId);
 	}
 
+	@Test
+	public void setAndIsPrincipalRoutingEnabled() {
+
+		assertThat(this.sessionRepository.isPrincipalRoutingEnabled()).isFalse();
+
+		this.sessionRepository.setPrincipalRoutingEnabled(true);
+
+		assertThat(this.sessionRepository.isPrincipalRoutingEnabled()).isTrue();
+
+		this.sessionRepository.setPrincipalRoutingEnabled(false);
+
+		assertThat(this.sessionRepository.isPrincipalRoutingEnabled()).isFalse();
+	}
+
+	@Test
+	public void setAndIsSessionTieringEnabled() {
+
+		assertThat(this.sessionRepository.isSessionTieringEnabled()).isFalse();
+
+		this.sessionRepository.setSessionTieringEnabled(true);
+
+		assertThat(this.sessionRepository.isSessionTieringEnabled()).isTrue();
+
+		this.sessionRepository.setSessionTieringEnabled(false);
+
+		assertThat(this.sessionRepository.isSessionTieringEnabled()).isFalse();
+	}
+
+	@Test
+	public void changeSessionIdRoutesByPrincipalWhenPrincipalRoutingIsEnabled() {
+
+		this.sessionRepository.setPrincipalRoutingEnabled(true);
+
+		GemFireSession<?> session = (GemFireSession<?>) this.sessionRepository.configure(GemFireSession.create());
+
+		session.setPrincipalName("jxblum");
+
+		String sessionId = session.getId();
+
+		assertThat(PrincipalRoutingPartitionResolver.routingKeyOf(sessionId)).isNotPresent();
+		assertThat(session.changeSessionId()).isNotEqualTo(sessionId);
+		assertThat(PrincipalRoutingPartitionResolver.routingKeyOf(session.getId()))
+			.contains(PrincipalRoutingPartitionResolver.routingKeyFor("jxblum"));
+		assertThat(session.hasDelta()).isTrue();
+	}
+
+	@Test
+	public void changeSessionIdDoesNotRouteByPrincipalWhenPrincipalRoutingIsDisabled() {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setPrincipalName("jxblum");
+		session.changeSessionId();
+
+		assertThat(PrincipalRoutingPartitionResolver.routingKeyOf(session.getId())).isNotPresent();
+	}
+
+	@Test
+	public void changeSessionIdDoesNotRouteSessionWithoutPrincipal() {
+
+		GemFireSession<?> session = GemFireSession.create().routeByPrincipal(true);
+
+		session.changeSessionId();
+
+		assertThat(PrincipalRoutingPartitionResolver.routingKeyOf(session.getId())).isNotPresent();
+	}
+
 	@Test
 	public void setGetAndRemoveAttribute() {
 
@@ -2266,7 +2713,7 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		assertThat(session.getMaxInactiveInterval())
 			.isEqualTo(Duration.ofSeconds(expectedMaxInactiveIntervalInSeconds));
 
-		Instant now = Instant.now();
+		Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 
 		session.setLastAccessedTime(now);
 
@@ -2321,7 +2768,7 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 	@Test
 	public void setAndGetLastAccessedTime() {
 
-		Instant inTheBeginning = Instant.now();
+		Instant inTheBeginning = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 
 		GemFireSession<?> session = GemFireSession.create();
 
@@ -2331,7 +2778,7 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 
 		Instant lastAccessedTime = session.getLastAccessedTime();
 
-		session.setLastAccessedTime(Instant.now());
+		session.setLastAccessedTime(Instant.now().truncatedTo(ChronoUnit.MILLIS));
 
 		assertThat(session.getLastAccessedTime()).isAfterOrEqualTo(lastAccessedTime);
 		assertThat(session.getLastAccessedTime()).isBeforeOrEqualTo(Instant.now());
@@ -2410,6 +2857,103 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		assertThat(session.getPrincipalName()).isNull();
 	}
 
+	@Test
+	public void getPrincipalNameResolvesPrincipalNameFromSecurityContext() {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setAttribute(GemFireSession.SPRING_SECURITY_CONTEXT, new SecurityContextImpl(
+			new TestingAuthenticationToken("jxblum", "secret")));
+
+		assertThat(session.getPrincipalName()).isEqualTo("jxblum");
+
+		session.setPrincipalName("rwinch");
+
+		assertThat(session.getPrincipalName()).isEqualTo("rwinch");
+	}
+
+	@Test
+	public void getPrincipalNameCachesResolvedPrincipalNameUntilSecurityContextChanges() {
+
+		PrincipalNameResolver mockPrincipalNameResolver = mock(PrincipalNameResolver.class);
+
+		SecurityContextImpl securityContext = new SecurityContextImpl();
+
+		when(mockPrincipalNameResolver.resolvePrincipalName(any())).thenReturn("jxblum", "rwinch", "jblum");
+
+		GemFireSession<?> session = GemFireSession.create().configureWith(mockPrincipalNameResolver);
+
+		session.setAttribute(GemFireSession.SPRING_SECURITY_CONTEXT, securityContext);
+
+		assertThat(session.getPrincipalName()).isEqualTo("jxblum");
+		assertThat(session.getPrincipalName()).isEqualTo("jxblum");
+
+		verify(mockPrincipalNameResolver, times(1)).resolvePrincipalName(eq(securityContext));
+
+		// The SecurityContext is set again after being modified in place
+		session.setAttribute(GemFireSession.SPRING_SECURITY_CONTEXT, securityContext);
+
+		assertThat(session.getPrincipalName()).isEqualTo("rwinch");
+		assertThat(session.getPrincipalName()).isEqualTo("rwinch");
+
+		verify(mockPrincipalNameResolver, times(2)).resolvePrincipalName(eq(securityContext));
+
+		SecurityContextImpl newSecurityContext =
+			new SecurityContextImpl(new TestingAuthenticationToken("jblum", "secret"));
+
+		session.getAttributes().from(Collections.singletonMap(GemFireSession.SPRING_SECURITY_CONTEXT, newSecurityContext));
+
+		assertThat(session.getPrincipalName()).isEqualTo("jblum");
+
+		verify(mockPrincipalNameResolver, times(1)).resolvePrincipalName(eq(newSecurityContext));
+
+		session.removeAttribute(GemFireSession.SPRING_SECURITY_CONTEXT);
+
+		assertThat(session.getPrincipalName()).isNull();
+
+		verify(mockPrincipalNameResolver, times(3)).resolvePrincipalName(any());
+	}
+
+	@Test
+	public void configureWithGemFireSessionUsesPrincipalNameResolverOfSessionRepository() {
+
+		PrincipalNameResolver mockPrincipalNameResolverOne = mock(PrincipalNameResolver.class);
+		PrincipalNameResolver mockPrincipalNameResolverTwo = mock(PrincipalNameResolver.class);
+
+		when(mockPrincipalNameResolverOne.resolvePrincipalName(any())).thenReturn("jxblum");
+		when(mockPrincipalNameResolverTwo.resolvePrincipalName(any())).thenReturn("rwinch");
+
+		TestGemFireOperationsSessionRepository sessionRepositoryOne =
+			new TestGemFireOperationsSessionRepository(new GemfireTemplate(this.mockRegion));
+
+		TestGemFireOperationsSessionRepository sessionRepositoryTwo =
+			new TestGemFireOperationsSessionRepository(new GemfireTemplate(this.mockRegion));
+
+		sessionRepositoryOne.setPrincipalNameResolver(mockPrincipalNameResolverOne);
+		sessionRepositoryTwo.setPrincipalNameResolver(mockPrincipalNameResolverTwo);
+		sessionRepositoryTwo.setPrincipalRoutingEnabled(true);
+
+		assertThat(sessionRepositoryOne.isPrincipalRoutingEnabled()).isFalse();
+
+		GemFireSession<?> sessionOne = (GemFireSession<?>) sessionRepositoryOne.configure(GemFireSession.create());
+		GemFireSession<?> sessionTwo = (GemFireSession<?>) sessionRepositoryTwo.configure(GemFireSession.create());
+
+		SecurityContextImpl securityContext = new SecurityContextImpl();
+
+		sessionOne.setAttribute(GemFireSession.SPRING_SECURITY_CONTEXT, securityContext);
+		sessionTwo.setAttribute(GemFireSession.SPRING_SECURITY_CONTEXT, securityContext);
+
+		assertThat(sessionOne.getPrincipalName()).isEqualTo("jxblum");
+		assertThat(sessionTwo.getPrincipalName()).isEqualTo("rwinch");
+
+		sessionOne.changeSessionId();
+		sessionTwo.changeSessionId();
+
+		assertThat(PrincipalRoutingPartitionResolver.routingKeyOf(sessionOne.getId())).isNotPresent();
+		assertThat(PrincipalRoutingPartitionResolver.routingKeyOf(sessionTwo.getId()))
+			.contains(PrincipalRoutingPartitionResolver.routingKeyFor("rwinch"));
+	}
+
 	@Test
 	public void configuresIsDirtyPredicateReturnsGemFireSession() {
 
@@ -2453,6 +2997,7 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		verify(mockDataOutput, times(1)).writeUTF(eq(session.getId()));
 		verify(mockDataOutput, times(1)).writeLong(eq(lastAccessedTime.toEpochMilli()));
 		verify(mockDataOutput, times(1)).writeLong(eq(300L));
+		verify(mockDataOutput, times(2)).writeLong(anyLong());
 		verify(mockDataOutput, times(1)).writeInt(eq(1));
 		verify(mockDataOutput, times(1)).writeUTF(eq("attributeOne"));
 	}
@@ -2462,7 +3007,7 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 
 		DataInput mockDataInput = mock(DataInput.class);
 
-		Instant lastAccessedTime = Instant.now().plusSeconds(5);
+		Instant lastAccessedTime = Instant.now().truncatedTo(ChronoUnit.MILLIS).plusSeconds(5);
 
 		when(mockDataInput.readUTF()).thenReturn("1");
 		when(mockDataInput.readLong()).thenReturn(lastAccessedTime.toEpochMilli()).thenReturn(300L);
@@ -2696,7 +3241,7 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 	@Test
 	public void sessionCompareTo() {
 
-		Instant twoHoursAgo = Instant.now().minusMillis(TimeUnit.HOURS.toMillis(2));
+		Instant twoHoursAgo = Instant.now().truncatedTo(ChronoUnit.MILLIS).minusMillis(TimeUnit.HOURS.toMillis(2));
 
 		Session mockSession = mockSession("1", twoHoursAgo.toEpochMilli(), MAX_INACTIVE_INTERVAL_IN_SECONDS);
 
@@ -2828,6 +3373,92 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		assertThat(target.<String>getAttribute("attributeTwo")).isEqualTo("testTwo");
 	}
 
+	@Test
+	public void sessionAttributesFromMapSetsAndRemovesAttributesInSingleSnapshot() {
+
+		GemFireSessionAttributes target = new GemFireSessionAttributes();
+
+		target.setAttribute("attributeOne", "testOne");
+		target.setAttribute("attributeTwo", "testTwo");
+		target.commit();
+
+		Map<String, Object> snapshot = target.getMap();
+
+		Map<String, Object> source = new HashMap<>();
+
+		source.put("attributeOne", null);
+		source.put("attributeTwo", "testTwo");
+		source.put("attributeThree", "testThree");
+
+		target.from(source);
+
+		assertThat(target.getMap()).isNotSameAs(snapshot);
+		assertThat(target.getAttributeNames()).containsOnly("attributeTwo", "attributeThree");
+		assertThat(target.<String>getAttribute("attributeThree")).isEqualTo("testThree");
+		assertThat(target.hasDelta()).isTrue();
+		assertThat(snapshot).containsOnlyKeys("attributeOne", "attributeTwo");
+	}
+
+	@Test
+	public void sessionAttributesFromMapWithUnchangedAttributesHasNoDelta() {
+
+		GemFireSessionAttributes target = new GemFireSessionAttributes().configureWith(EqualsDirtyPredicate.INSTANCE);
+
+		target.setAttribute("attributeOne", "testOne");
+		target.commit();
+
+		target.from(Collections.singletonMap("attributeOne", "testOne"));
+
+		assertThat(target.<String>getAttribute("attributeOne")).isEqualTo("testOne");
+		assertThat(target.hasDelta()).isFalse();
+	}
+
+	@Test
+	public void sessionAttributesLoadDoesNotEvaluateIsDirtyPredicate() {
+
+		IsDirtyPredicate mockDirtyPredicate = mock(IsDirtyPredicate.class);
+
+		Map<String, Object> source = new HashMap<>();
+
+		source.put("attributeOne", "testOne");
+		source.put("attributeTwo", "testTwo");
+
+		GemFireSessionAttributes target = new GemFireSessionAttributes().configureWith(mockDirtyPredicate);
+
+		target.load(source);
+
+		assertThat(target.getMap()).isEqualTo(source);
+		assertThat(target.hasDelta()).isTrue();
+
+		verifyZeroInteractions(mockDirtyPredicate);
+	}
+
+	@Test
+	public void sessionAttributesLoadEmptyMapDoesNotPublishSnapshot() {
+
+		GemFireSessionAttributes sessionAttributes = new GemFireSessionAttributes();
+
+		Map<String, Object> snapshot = sessionAttributes.getMap();
+
+		sessionAttributes.load(Collections.emptyMap());
+
+		assertThat(sessionAttributes.getMap()).isSameAs(snapshot);
+		assertThat(sessionAttributes.hasDelta()).isFalse();
+	}
+
+	@Test
+	public void deltaCapableSessionAttributesLoadRecordsDeltas() {
+
+		DeltaCapableGemFireSessionAttributes sessionAttributes = new DeltaCapableGemFireSessionAttributes();
+
+		sessionAttributes.setAttribute("attributeOne", "testOne");
+		sessionAttributes.load(Collections.singletonMap("attributeTwo", "testTwo"));
+
+		assertThat(sessionAttributes.getAttributeNames()).containsOnly("attributeOne", "attributeTwo");
+		assertThat(sessionAttributes.getSessionAttributeDeltas()).containsOnly("attributeOne", "attributeTwo");
+		assertThat(sessionAttributes.hasDelta()).isTrue();
+	}
+
 	@Test
 	public void sessionAttributesFromSession() {
 
@@ -2952,6 +3583,31 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		verify(mockDataOutput, times(1)).writeUTF(eq("attributeTwo"));
 	}
 
+	@Test
+	public void sessionAttributesWithLargeValueToAndFromDelta() throws Exception {
+
+		byte[] largeValue = new byte[ChunkedValue.getChunkingThreshold() * 4];
+
+		Arrays.fill(largeValue, (byte) 0x0B);
+
+		DeltaCapableGemFireSessionAttributes sessionAttributes = new DeltaCapableGemFireSessionAttributes();
+
+		sessionAttributes.setAttribute("attributeOne", "testOne");
+		sessionAttributes.setAttribute("attributeTwo", largeValue);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		sessionAttributes.toDelta(new DataOutputStream(out));
+
+		DeltaCapableGemFireSessionAttributes sessionAttributesCopy = new DeltaCapableGemFireSessionAttributes();
+
+		sessionAttributesCopy.fromDelta(new DataInputStream(new ByteArrayInputStream(out.toByteArray())));
+
+		assertThat(sessionAttributesCopy.getAttributeNames()).containsOnly("attributeOne", "attributeTwo");
+		assertThat(sessionAttributesCopy.<String>getAttribute("attributeOne")).isEqualTo("testOne");
+		assertThat(sessionAttributesCopy.<byte[]>getAttribute("attributeTwo")).isEqualTo(largeValue);
+	}
+
 	@Test
 	public void sessionAttributesFromDelta() throws Exception {
 
@@ -3200,12 +3856,99 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		assertThat(sessionAttributes.hasDelta()).isFalse();
 	}
 
+	@Test
+	public void sessionAttributesRemembersBaseAttributeValuesUntilCommit() {
+
+		GemFireSessionAttributes sessionAttributes = new GemFireSessionAttributes();
+
+		sessionAttributes.setTrackBaseAttributeValues(true);
+
+		sessionAttributes.from(Collections.singletonMap("attributeOne", "testOne"));
+		sessionAttributes.commit();
+
+		assertThat(sessionAttributes.getBaseAttributeValues()).isEmpty();
+
+		sessionAttributes.removeAttribute("nonExistingAttribute");
+
+		assertThat(sessionAttributes.getBaseAttributeValues()).isEmpty();
+
+		sessionAttributes.setAttribute("attributeOne", "testTwo");
+		sessionAttributes.setAttribute("attributeOne", "testThree");
+		sessionAttributes.setAttribute("attributeTwo", "testFour");
+		sessionAttributes.removeAttribute("attributeTwo");
+
+		assertThat(sessionAttributes.getBaseAttributeValues()).hasSize(2);
+		assertThat(sessionAttributes.getBaseAttributeValues()).containsEntry("attributeOne", "testOne");
+		assertThat(sessionAttributes.getBaseAttributeValues()).containsEntry("attributeTwo", null);
+
+		sessionAttributes.commit();
+
+		assertThat(sessionAttributes.getBaseAttributeValues()).isEmpty();
+	}
+
+	@Test
+	public void sessionAttributesDoNotRememberBaseAttributeValuesByDefault() {
+
+		GemFireSessionAttributes sessionAttributes = new GemFireSessionAttributes();
+
+		sessionAttributes.setAttribute("attributeOne", "testOne");
+		sessionAttributes.from(Collections.singletonMap("attributeTwo", "testTwo"));
+		sessionAttributes.removeAttribute("attributeOne");
+
+		assertThat(sessionAttributes.isTrackingBaseAttributeValues()).isFalse();
+		assertThat(sessionAttributes.getBaseAttributeValues()).isEmpty();
+	}
+
+	@Test
+	public void deltaCapableSessionAttributesFromDeltaDoesNotRememberBaseAttributeValues() throws Exception {
+
+		DeltaCapableGemFireSessionAttributes sessionAttributes = new DeltaCapableGemFireSessionAttributes();
+
+		sessionAttributes.setAttribute("attributeOne", "testOne");
+		sessionAttributes.setAttribute("attributeTwo", "testTwo");
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		sessionAttributes.toDelta(new DataOutputStream(out));
+
+		DeltaCapableGemFireSessionAttributes sessionAttributesCopy = new DeltaCapableGemFireSessionAttributes();
+
+		sessionAttributesCopy.setTrackBaseAttributeValues(true);
+		sessionAttributesCopy.fromDelta(new DataInputStream(new ByteArrayInputStream(out.toByteArray())));
+
+		assertThat(sessionAttributesCopy.getAttributeNames()).containsOnly("attributeOne", "attributeTwo");
+		assertThat(sessionAttributesCopy.getBaseAttributeValues()).isEmpty();
+	}
+
+	@Test
+	public void sessionAttributesMergeWithoutLocalChangesAppliesStoredAttributes() {
+
+		GemFireSessionAttributes sessionAttributes = new GemFireSessionAttributes();
+
+		sessionAttributes.setAttribute("attributeOne", "testOne");
+		sessionAttributes.setAttribute("attributeTwo", "testTwo");
+		sessionAttributes.commit();
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.getAttributeNames()).thenReturn(asSet("attributeOne", "attributeThree"));
+		when(mockSession.getAttribute(eq("attributeOne"))).thenReturn("storedOne");
+		when(mockSession.getAttribute(eq("attributeThree"))).thenReturn("storedThree");
+
+		assertThat(sessionAttributes.merge(mockSession)).isZero();
+		assertThat(sessionAttributes.getAttributeNames()).containsOnly("attributeOne", "attributeThree");
+		assertThat(sessionAttributes.<String>getAttribute("attributeOne")).isEqualTo("storedOne");
+		assertThat(sessionAttributes.<String>getAttribute("attributeThree")).isEqualTo("storedThree");
+		assertThat(sessionAttributes.hasDelta()).isFalse();
+	}
+
 	@Test
 	public void deltaSessionAttributesHasDeltaAnytimeSetAttributeIsCalled() {
 
 		DeltaCapableGemFireSessionAttributes sessionAttributes = new DeltaCapableGemFireSessionAttributes();
 
-		sessionAttributes.getMap().put("1", "TEST");
+		sessionAttributes.setAttribute("1", "TEST");
+		sessionAttributes.commit();
 
 		assertThat(sessionAttributes.getIsDirtyPredicate()).isEqualTo(DeltaAwareDirtyPredicate.INSTANCE);
 		assertThat(sessionAttributes.<Delta>getAttribute("1")).isEqualTo("TEST");
@@ -3240,7 +3983,8 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 
 		DeltaCapableGemFireSessionAttributes sessionAttributes = new DeltaCapableGemFireSessionAttributes();
 
-		sessionAttributes.getMap().put("1", mockDelta);
+		sessionAttributes.setAttribute("1", mockDelta);
+		sessionAttributes.commit();
 
 		assertThat(sessionAttributes.getIsDirtyPredicate()).isEqualTo(DeltaAwareDirtyPredicate.INSTANCE);
 		assertThat(sessionAttributes.<Delta>getAttribute("1")).isEqualTo(mockDelta);
@@ -3265,7 +4009,8 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 
 		DeltaCapableGemFireSessionAttributes sessionAttributes = new DeltaCapableGemFireSessionAttributes();
 
-		sessionAttributes.getMap().put("1", new Tombstone());
+		sessionAttributes.setAttribute("1", new Tombstone());
+		sessionAttributes.commit();
 
 		assertThat(sessionAttributes.getIsDirtyPredicate()).isEqualTo(DeltaAwareDirtyPredicate.INSTANCE);
 		assertThat(sessionAttributes.<Tombstone>getAttribute("1")).isInstanceOf(Tombstone.class);
@@ -3311,7 +4056,8 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 
 		DeltaCapableGemFireSessionAttributes sessionAttributes = new DeltaCapableGemFireSessionAttributes();
 
-		sessionAttributes.getMap().put("1", mockDelta);
+		sessionAttributes.setAttribute("1", mockDelta);
+		sessionAttributes.commit();
 
 		assertThat(sessionAttributes.getIsDirtyPredicate()).isEqualTo(DeltaAwareDirtyPredicate.INSTANCE);
 		assertThat(sessionAttributes.<Delta>getAttribute("1")).isEqualTo(mockDelta);
@@ -3336,7 +4082,8 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 
 		DeltaCapableGemFireSessionAttributes sessionAttributes = new DeltaCapableGemFireSessionAttributes();
 
-		sessionAttributes.getMap().put("1", mockDelta);
+		sessionAttributes.setAttribute("1", mockDelta);
+		sessionAttributes.commit();
 
 		assertThat(sessionAttributes.getIsDirtyPredicate()).isEqualTo(DeltaAwareDirtyPredicate.INSTANCE);
 		assertThat(sessionAttributes.<Delta>getAttribute("1")).isEqualTo(mockDelta);
@@ -3362,7 +4109,8 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		DeltaCapableGemFireSessionAttributes sessionAttributes = new DeltaCapableGemFireSessionAttributes();
 
 		sessionAttributes.setIsDirtyPredicate(IsDirtyPredicate.ALWAYS_DIRTY);
-		sessionAttributes.getMap().put("1", mockDelta);
+		sessionAttributes.setAttribute("1", mockDelta);
+		sessionAttributes.commit();
 
 		assertThat(sessionAttributes.getIsDirtyPredicate()).isEqualTo(IsDirtyPredicate.ALWAYS_DIRTY);
 		assertThat(sessionAttributes.getAttributeNames()).containsExactly("1");
@@ -3508,6 +4256,77 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 		assertThat(entry.getValue()).isEqualTo("valueThree");
 	}
 
+	@Test
+	public void sessionAttributesSnapshotIsImmutable() {
+
+		GemFireSessionAttributes sessionAttributes = new GemFireSessionAttributes();
+
+		sessionAttributes.setAttribute("keyOne", "valueOne");
+
+		Map<String, Object> snapshot = sessionAttributes.getMap();
+		Set<String> attributeNames = sessionAttributes.getAttributeNames();
+
+		sessionAttributes.setAttribute("keyOne", "valueTwo");
+		sessionAttributes.setAttribute("keyTwo", "valueTwo");
+		sessionAttributes.removeAttribute("keyOne");
+
+		assertThat(snapshot).containsOnly(entry("keyOne", "valueOne"));
+		assertThat(attributeNames).containsExactly("keyOne");
+		assertThat(sessionAttributes.getMap()).containsOnly(entry("keyTwo", "valueTwo"));
+		assertThat(sessionAttributes.getMap()).isNotSameAs(snapshot);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void sessionAttributesSnapshotCannotBeModified() {
+
+		GemFireSessionAttributes sessionAttributes = new GemFireSessionAttributes();
+
+		sessionAttributes.setAttribute("keyOne", "valueOne");
+		sessionAttributes.getMap().put("keyTwo", "valueTwo");
+	}
+
+	@Test
+	public void sessionAttributesAreReadableWhileLocked() throws Exception {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setAttribute("keyOne", "valueOne");
+
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch unlock = new CountDownLatch(1);
+
+		Thread writer = new Thread(() -> {
+
+			session.getAttributes().getLock().lock();
+
+			try {
+				locked.countDown();
+				unlock.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+			finally {
+				session.getAttributes().getLock().unlock();
+			}
+		});
+
+		writer.start();
+
+		try {
+			assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(session.getId()).isNotNull();
+			assertThat(session.getLastAccessedTime()).isNotNull();
+			assertThat(session.<String>getAttribute("keyOne")).isEqualTo("valueOne");
+			assertThat(session.getAttributeNames()).containsExactly("keyOne");
+			assertThat(session.hasDelta()).isTrue();
+		}
+		finally {
+			unlock.countDown();
+			writer.join();
+		}
+	}
+
 	@Test
 	public void configuresIsDirtyPredicateReturnsGemFireSessionAttributes() {
 
@@ -3529,7 +4348,7 @@ public class AbstractGemFireOperationsSessionRepositoryTests {
 
 		private GemFireSession<?> session;
 
-		private final Instant beforeOrAtCreationTime = Instant.now();
+		private final Instant beforeOrAtCreationTime = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 
 		private volatile Instant expectedCreationTime;
 
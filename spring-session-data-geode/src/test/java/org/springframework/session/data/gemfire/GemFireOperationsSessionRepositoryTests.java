@@ -17,13 +17,17 @@
 package org.springframework.session.data.gemfire;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -35,15 +39,20 @@ import static org.mockito.Mockito.when;
 import static org.springframework.session.FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.DeltaCapableGemFireSession;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.MIGRATION_CALLBACK_ARGUMENT;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -52,18 +61,26 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.EntryNotFoundException;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.FunctionException;
 import org.apache.geode.cache.query.SelectResults;
 
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.gemfire.GemfireAccessor;
 import org.springframework.data.gemfire.GemfireOperations;
 import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.session.Session;
 import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.SessionEventHandlerCacheListenerAdapter;
+import org.springframework.session.data.gemfire.function.SessionAttributeOperationFunction.AttributeComputation;
+import org.springframework.session.data.gemfire.function.SessionAttributeOperationFunction.Operation;
 import org.springframework.session.data.gemfire.support.EqualsDirtyPredicate;
 import org.springframework.session.data.gemfire.support.IdentityEqualsDirtyPredicate;
+import org.springframework.session.data.gemfire.support.NegativeLookupCache;
+import org.springframework.session.data.gemfire.support.NegativeLookupCache.MissSource;
+import org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver;
 import org.springframework.session.events.AbstractSessionEvent;
 import org.springframework.session.events.SessionDeletedEvent;
 
@@ -135,6 +152,11 @@ public class GemFireOperationsSessionRepositoryTests {
 		verify(this.mockTemplate, times(1)).getRegion();
 	}
 
+	@After
+	public void tearDown() {
+		this.sessionRepository.setPrincipalRoutingEnabled(false);
+	}
+
 	private GemFireSession newNonDirtyGemFireSession() {
 
 		GemFireSession session = GemFireSession.create();
@@ -175,7 +197,7 @@ public class GemFireOperationsSessionRepositoryTests {
 	@Test
 	public void createProperlyInitializedSession() {
 
-		Instant beforeCreationTime = Instant.now();
+		Instant beforeCreationTime = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 
 		this.sessionRepository.setIsDirtyPredicate(EqualsDirtyPredicate.INSTANCE);
 
@@ -195,7 +217,7 @@ public class GemFireOperationsSessionRepositoryTests {
 	@Test
 	public void createProperlyInitializedDeltaAwareSession() {
 
-		Instant beforeCreationTime = Instant.now();
+		Instant beforeCreationTime = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 
 		this.sessionRepository.setIsDirtyPredicate(IdentityEqualsDirtyPredicate.INSTANCE);
 		this.sessionRepository.setMaxInactiveIntervalInSeconds(300);
@@ -218,7 +240,7 @@ public class GemFireOperationsSessionRepositoryTests {
 	@Test
 	public void findByIdReturnsMatchingNonExpiredSession() {
 
-		Instant expectedCreationTime = Instant.now();
+		Instant expectedCreationTime = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 		Instant currentLastAccessedTime = expectedCreationTime.plusMillis(TimeUnit.MINUTES.toMillis(5L));
 
 		Session mockSession = mock(Session.class);
@@ -312,6 +334,88 @@ public class GemFireOperationsSessionRepositoryTests {
 		verify(sessionRepositorySpy, never()).commit(any());
 	}
 
+	@Test
+	public void findByIdRemembersMissingSessionInNegativeLookupCache() {
+
+		NegativeLookupCache negativeLookupCache = new NegativeLookupCache(Duration.ofMinutes(1), 10);
+
+		when(this.mockTemplate.get(anyString())).thenReturn(null);
+
+		this.sessionRepository.setNegativeLookupCache(negativeLookupCache);
+
+		assertThat(this.sessionRepository.findById("1")).isNull();
+		assertThat(this.sessionRepository.findById("1")).isNull();
+		assertThat(this.sessionRepository.findById("1")).isNull();
+		assertThat(negativeLookupCache.getLookupCount()).isEqualTo(3L);
+		assertThat(negativeLookupCache.getMissCount(MissSource.SESSIONS_REGION)).isEqualTo(1L);
+		assertThat(negativeLookupCache.getMissCount(MissSource.NEGATIVE_LOOKUP_CACHE)).isEqualTo(2L);
+		assertThat(negativeLookupCache.getMissCount(MissSource.EXPIRED_SESSION)).isZero();
+
+		verify(this.mockTemplate, times(1)).get(eq("1"));
+	}
+
+	@Test
+	public void findByIdRemembersExpiredSessionInNegativeLookupCache() {
+
+		NegativeLookupCache negativeLookupCache = new NegativeLookupCache(Duration.ofMinutes(1), 10);
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.getId()).thenReturn("1");
+		when(mockSession.isExpired()).thenReturn(true);
+		when(this.mockTemplate.get(eq("1"))).thenReturn(mockSession);
+		when(this.mockTemplate.remove(eq("1"))).thenReturn(mockSession);
+
+		this.sessionRepository.setNegativeLookupCache(negativeLookupCache);
+
+		assertThat(this.sessionRepository.findById("1")).isNull();
+		assertThat(this.sessionRepository.findById("1")).isNull();
+		assertThat(negativeLookupCache.getMissCount(MissSource.EXPIRED_SESSION)).isEqualTo(1L);
+		assertThat(negativeLookupCache.getMissCount(MissSource.NEGATIVE_LOOKUP_CACHE)).isEqualTo(1L);
+
+		verify(this.mockTemplate, times(1)).get(eq("1"));
+		verify(this.mockTemplate, times(1)).remove(eq("1"));
+	}
+
+	@Test
+	public void findByIdDoesNotRememberExistingSessionInNegativeLookupCache() {
+
+		NegativeLookupCache negativeLookupCache = new NegativeLookupCache(Duration.ofMinutes(1), 10);
+
+		Session session = GemFireSession.create();
+
+		when(this.mockTemplate.get(eq(session.getId()))).thenReturn(session);
+
+		this.sessionRepository.setNegativeLookupCache(negativeLookupCache);
+
+		assertThat(this.sessionRepository.findById(session.getId())).isEqualTo(session);
+		assertThat(negativeLookupCache.isMissing(session.getId())).isFalse();
+		assertThat(negativeLookupCache.getLookupCount()).isEqualTo(1L);
+		assertThat(negativeLookupCache.size()).isZero();
+	}
+
+	@Test
+	public void saveInvalidatesNegativeLookupCache() {
+
+		NegativeLookupCache negativeLookupCache = new NegativeLookupCache(Duration.ofMinutes(1), 10);
+
+		GemFireSession session = GemFireSession.create();
+
+		session.setAttribute("attrOne", "test");
+
+		negativeLookupCache.remember(session.getId());
+
+		this.sessionRepository.setNegativeLookupCache(negativeLookupCache);
+
+		assertThat(negativeLookupCache.isMissing(session.getId())).isTrue();
+
+		this.sessionRepository.save(session);
+
+		assertThat(negativeLookupCache.isMissing(session.getId())).isFalse();
+
+		verify(this.mockTemplate, times(1)).put(eq(session.getId()), eq(session));
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void findByIndexNameAndIndexValueReturnsMatchingSession() {
@@ -442,6 +546,182 @@ public class GemFireOperationsSessionRepositoryTests {
 		verify(sessionRepositorySpy, never()).commit(any());
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findByPrincipalNameReturnsMatchingDemotedSessions() {
+
+		Session mockSessionOne = mock(Session.class, "MockSessionOne");
+		Session mockSessionTwo = mock(Session.class, "MockSessionTwo");
+
+		when(mockSessionOne.getId()).thenReturn("1");
+		when(mockSessionTwo.getId()).thenReturn("2");
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.asList()).thenReturn(Collections.singletonList(mockSessionOne));
+
+		String principalName = "jblum";
+
+		String expectedOql =
+			String.format(GemFireOperationsSessionRepository.FIND_SESSIONS_BY_PRINCIPAL_NAME_QUERY,
+				this.sessionRepository.getSessionsRegionName());
+
+		when(this.mockTemplate.find(eq(expectedOql), eq(principalName))).thenReturn(mockSelectResults);
+
+		Function<String, List<Session>> mockDemotedSessionsFinder = mock(Function.class);
+
+		when(mockDemotedSessionsFinder.apply(eq(principalName)))
+			.thenReturn(Collections.singletonList(mockSessionTwo));
+
+		this.sessionRepository.setDemotedSessionsFinder(mockDemotedSessionsFinder);
+
+		Map<String, Session> sessions =
+			this.sessionRepository.findByIndexNameAndIndexValue(PRINCIPAL_NAME_INDEX_NAME, principalName);
+
+		assertThat(sessions).hasSize(2);
+		assertThat(sessions.get("1")).isEqualTo(mockSessionOne);
+		assertThat(sessions.get("2")).isEqualTo(mockSessionTwo);
+
+		verify(mockDemotedSessionsFinder, times(1)).apply(eq(principalName));
+		verify(this.mockTemplate, times(1)).find(anyString(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findByIndexNameAndIndexValueDoesNotFindDemotedSessionsForOtherIndexes() {
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.asList()).thenReturn(Collections.emptyList());
+		when(this.mockTemplate.find(anyString(), eq("rwinch"))).thenReturn(mockSelectResults);
+
+		Function<String, List<Session>> mockDemotedSessionsFinder = mock(Function.class);
+
+		this.sessionRepository.setDemotedSessionsFinder(mockDemotedSessionsFinder);
+
+		assertThat(this.sessionRepository.findByIndexNameAndIndexValue("vip", "rwinch")).isEmpty();
+
+		verify(mockDemotedSessionsFinder, never()).apply(any());
+	}
+
+	@Test
+	public void findByPrincipalNameExecutesRoutedFunctionWhenPrincipalRoutingIsEnabled() {
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.getId()).thenReturn("1");
+
+		String principalName = "jblum";
+
+		GemFireOperationsSessionRepository sessionRepositorySpy = spy(this.sessionRepository);
+
+		sessionRepositorySpy.setPrincipalRoutingEnabled(true);
+
+		doReturn(Collections.singletonList(mockSession)).when(sessionRepositorySpy)
+			.findByRoutedPrincipalName(eq(principalName));
+
+		Map<String, Session> sessions =
+			sessionRepositorySpy.findByIndexNameAndIndexValue(PRINCIPAL_NAME_INDEX_NAME, principalName);
+
+		assertThat(sessions).hasSize(1);
+		assertThat(sessions.get("1")).isEqualTo(mockSession);
+
+		verify(sessionRepositorySpy, times(1)).findByRoutedPrincipalName(eq(principalName));
+		verify(sessionRepositorySpy, times(1)).touch(eq(mockSession));
+		verify(this.mockTemplate, never()).find(anyString(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findByPrincipalNameQueriesAllMembersWhenRoutedFunctionFails() {
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.asList()).thenReturn(Collections.emptyList());
+
+		String principalName = "jblum";
+
+		String expectedOql =
+			String.format(GemFireOperationsSessionRepository.FIND_SESSIONS_BY_PRINCIPAL_NAME_QUERY,
+				this.sessionRepository.getSessionsRegionName());
+
+		when(this.mockTemplate.find(eq(expectedOql), eq(principalName))).thenReturn(mockSelectResults);
+
+		GemFireOperationsSessionRepository sessionRepositorySpy = spy(this.sessionRepository);
+
+		sessionRepositorySpy.setPrincipalRoutingEnabled(true);
+
+		doReturn(null).when(sessionRepositorySpy).findByRoutedPrincipalName(eq(principalName));
+
+		assertThat(sessionRepositorySpy.findByIndexNameAndIndexValue(PRINCIPAL_NAME_INDEX_NAME, principalName))
+			.isEmpty();
+
+		verify(sessionRepositorySpy, times(1)).findByRoutedPrincipalName(eq(principalName));
+		verify(this.mockTemplate, times(1)).find(eq(expectedOql), eq(principalName));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findByPrincipalNameRetriesRoutedFunctionAfterRetryInterval() {
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.asList()).thenReturn(Collections.emptyList());
+
+		String principalName = "jblum";
+
+		String expectedOql =
+			String.format(GemFireOperationsSessionRepository.FIND_SESSIONS_BY_PRINCIPAL_NAME_QUERY,
+				this.sessionRepository.getSessionsRegionName());
+
+		when(this.mockTemplate.find(eq(expectedOql), eq(principalName))).thenReturn(mockSelectResults);
+
+		GemFireOperationsSessionRepository sessionRepositorySpy = spy(this.sessionRepository);
+
+		sessionRepositorySpy.setPrincipalRoutingEnabled(true);
+
+		doThrow(new FunctionException("TEST")).when(sessionRepositorySpy)
+			.executeFindByRoutedPrincipalName(eq(principalName));
+
+		long now = System.currentTimeMillis();
+
+		assertThat(sessionRepositorySpy.isFindByPrincipalNameFunctionAvailable(now)).isTrue();
+		assertThat(sessionRepositorySpy.findByIndexNameAndIndexValue(PRINCIPAL_NAME_INDEX_NAME, principalName))
+			.isEmpty();
+		assertThat(sessionRepositorySpy.findByIndexNameAndIndexValue(PRINCIPAL_NAME_INDEX_NAME, principalName))
+			.isEmpty();
+		assertThat(sessionRepositorySpy.isFindByPrincipalNameFunctionAvailable(now)).isFalse();
+		assertThat(sessionRepositorySpy.isFindByPrincipalNameFunctionAvailable(System.currentTimeMillis()
+			+ GemFireOperationsSessionRepository.FIND_BY_PRINCIPAL_NAME_FUNCTION_RETRY_INTERVAL_IN_MILLIS)).isTrue();
+
+		verify(sessionRepositorySpy, times(1)).executeFindByRoutedPrincipalName(eq(principalName));
+		verify(this.mockTemplate, times(2)).find(eq(expectedOql), eq(principalName));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findByIndexNameAndIndexValueQueriesAllMembersWhenPrincipalRoutingIsEnabled() {
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.asList()).thenReturn(Collections.emptyList());
+
+		String expectedOql =
+			String.format(GemFireOperationsSessionRepository.FIND_SESSIONS_BY_INDEX_NAME_AND_INDEX_VALUE_QUERY,
+				this.sessionRepository.getSessionsRegionName(), "vip");
+
+		when(this.mockTemplate.find(eq(expectedOql), eq("rwinch"))).thenReturn(mockSelectResults);
+
+		GemFireOperationsSessionRepository sessionRepositorySpy = spy(this.sessionRepository);
+
+		sessionRepositorySpy.setPrincipalRoutingEnabled(true);
+
+		assertThat(sessionRepositorySpy.findByIndexNameAndIndexValue("vip", "rwinch")).isEmpty();
+
+		verify(sessionRepositorySpy, never()).findByRoutedPrincipalName(anyString());
+		verify(this.mockTemplate, times(1)).find(eq(expectedOql), eq("rwinch"));
+	}
+
 	@Test
 	public void prepareQueryReturnsIndexNameAndIndexValueOql() {
 
@@ -479,7 +759,7 @@ public class GemFireOperationsSessionRepositoryTests {
 	@Test
 	public void saveStoresSession() {
 
-		Instant expectedCreationTime = Instant.now();
+		Instant expectedCreationTime = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 		Instant expectedLastAccessTime = expectedCreationTime.plusMillis(TimeUnit.MINUTES.toMillis(5L));
 
 		Duration expectedMaxInactiveInterval = Duration.ofSeconds(MAX_INACTIVE_INTERVAL_IN_SECONDS);
@@ -544,6 +824,346 @@ public class GemFireOperationsSessionRepositoryTests {
 		verify(this.mockTemplate, times(1)).put(eq(session.getId()), same(session));
 	}
 
+	@Test
+	public void saveStoresNewEmptyGemFireSessionByDefault() {
+
+		assertThat(this.sessionRepository.isSaveEmptyNewSessions()).isTrue();
+
+		Session session = this.sessionRepository.createSession();
+
+		this.sessionRepository.save(session);
+
+		verify(this.mockTemplate, times(1)).put(eq(session.getId()), eq(session));
+	}
+
+	@Test
+	public void saveWillNotStoreNewEmptyGemFireSessionWhenDisabled() {
+
+		this.sessionRepository.setSaveEmptyNewSessions(false);
+
+		Session session = this.sessionRepository.createSession();
+
+		session.setMaxInactiveInterval(Duration.ofSeconds(300));
+
+		this.sessionRepository.save(session);
+
+		assertThat(((GemFireSession) session).isNew()).isTrue();
+		assertThat(((GemFireSession) session).hasDelta()).isTrue();
+
+		verify(this.mockTemplate, never()).put(any(), any());
+	}
+
+	@Test
+	public void saveStoresNewGemFireSessionOnFirstAttributeWriteWhenDisablingEmptyNewSessions() {
+
+		this.sessionRepository.setSaveEmptyNewSessions(false);
+
+		Session session = this.sessionRepository.createSession();
+
+		this.sessionRepository.save(session);
+
+		verify(this.mockTemplate, never()).put(any(), any());
+
+		session.setAttribute("attrOne", "test");
+
+		this.sessionRepository.save(session);
+
+		assertThat(((GemFireSession) session).isNew()).isFalse();
+		assertThat(((GemFireSession) session).hasDelta()).isFalse();
+
+		verify(this.mockTemplate, times(1)).put(eq(session.getId()), eq(session));
+	}
+
+	@Test
+	public void saveStoresExistingEmptyGemFireSessionWhenDisablingEmptyNewSessions() {
+
+		this.sessionRepository.setSaveEmptyNewSessions(false);
+
+		GemFireSession session = GemFireSession.copy(GemFireSession.create());
+
+		assertThat(session.isNew()).isFalse();
+		assertThat(session.hasDelta()).isTrue();
+		assertThat(session.getAttributeNames()).isEmpty();
+
+		this.sessionRepository.save(session);
+
+		verify(this.mockTemplate, times(1)).put(eq(session.getId()), eq(session));
+	}
+
+	@Test
+	public void saveRoutesGemFireSessionByPrincipalWhenPrincipalRoutingIsEnabled() {
+
+		this.sessionRepository.setPrincipalRoutingEnabled(true);
+
+		GemFireSession session = newNonDirtyGemFireSession();
+
+		String previousSessionId = session.getId();
+
+		session.setPrincipalName("jblum");
+
+		this.sessionRepository.save(session);
+
+		assertThat(session.getId()).isNotEqualTo(previousSessionId);
+		assertThat(session.getId()).startsWith(PrincipalRoutingPartitionResolver.routingKeyFor("jblum") + ".");
+		assertThat(session.hasDelta()).isFalse();
+
+		verify(this.mockTemplate, times(1)).put(eq(session.getId()), eq(session));
+		verify(this.mockTemplate, never()).put(eq(previousSessionId), any());
+	}
+
+	@Test
+	public void saveDoesNotChangeIdOfGemFireSessionRoutedByPrincipal() {
+
+		this.sessionRepository.setPrincipalRoutingEnabled(true);
+
+		GemFireSession session = (GemFireSession) this.sessionRepository.createSession();
+
+		session.setPrincipalName("jblum");
+		session.changeSessionId();
+		session.commit();
+
+		String sessionId = session.getId();
+
+		assertThat(sessionId).startsWith(PrincipalRoutingPartitionResolver.routingKeyFor("jblum") + ".");
+
+		session.setAttribute("attrOne", "test");
+
+		this.sessionRepository.save(session);
+
+		assertThat(session.getId()).isEqualTo(sessionId);
+
+		verify(this.mockTemplate, times(1)).put(eq(sessionId), eq(session));
+	}
+
+	@Test
+	public void saveDoesNotRouteGemFireSessionWithoutPrincipal() {
+
+		this.sessionRepository.setPrincipalRoutingEnabled(true);
+
+		GemFireSession session = newNonDirtyGemFireSession();
+
+		String sessionId = session.getId();
+
+		session.setAttribute("attrOne", "test");
+
+		this.sessionRepository.save(session);
+
+		assertThat(session.getId()).isEqualTo(sessionId);
+		assertThat(PrincipalRoutingPartitionResolver.routingKeyOf(sessionId)).isNotPresent();
+
+		verify(this.mockTemplate, times(1)).put(eq(sessionId), eq(session));
+	}
+
+	@Test
+	public void saveDoesNotRouteGemFireSessionByPrincipalWhenPrincipalRoutingIsDisabled() {
+
+		GemFireSession session = newNonDirtyGemFireSession();
+
+		String sessionId = session.getId();
+
+		session.setPrincipalName("jblum");
+
+		this.sessionRepository.save(session);
+
+		assertThat(session.getId()).isEqualTo(sessionId);
+
+		verify(this.mockTemplate, times(1)).put(eq(sessionId), eq(session));
+	}
+
+	@Test
+	public void saveConditionallyStoresGemFireSessionWhenOptimisticConcurrencyIsEnabled() {
+
+		GemFireOperationsSessionRepository sessionRepository = spy(this.sessionRepository);
+
+		sessionRepository.setOptimisticConcurrencyEnabled(true);
+
+		GemFireSession session = newNonDirtyGemFireSession();
+
+		session.setVersion(2L);
+		session.setAttribute("attrOne", "test");
+
+		doReturn(Boolean.TRUE).when(sessionRepository).executeConditionalSave(any(GemFireSession.class), anyLong());
+
+		sessionRepository.save(session);
+
+		assertThat(session.getVersion()).isEqualTo(3L);
+		assertThat(session.hasDelta()).isFalse();
+		assertThat(sessionRepository.getSaveConflictCount()).isZero();
+
+		verify(sessionRepository, times(1)).executeConditionalSave(eq(session), eq(2L));
+		verify(this.mockTemplate, never()).put(any(), any());
+	}
+
+	@Test
+	public void saveMergesConflictingGemFireSessionAndRetries() {
+
+		GemFireOperationsSessionRepository sessionRepository = spy(this.sessionRepository);
+
+		sessionRepository.setOptimisticConcurrencyEnabled(true);
+
+		GemFireSession session = GemFireSession.create().trackBaseAttributeValues(true);
+
+		session.setAttribute("attrOne", "one");
+		session.setAttribute("attrTwo", "two");
+		session.setVersion(1L);
+		session.commit();
+
+		GemFireSession storedSession = GemFireSession.copy(session);
+
+		storedSession.setAttribute("attrOne", "storedOne");
+		storedSession.setAttribute("attrTwo", "storedTwo");
+		storedSession.setVersion(2L);
+
+		session.setAttribute("attrOne", "localOne");
+
+		doReturn(storedSession).doReturn(Boolean.TRUE)
+			.when(sessionRepository).executeConditionalSave(any(GemFireSession.class), anyLong());
+
+		sessionRepository.save(session);
+
+		assertThat(session.getVersion()).isEqualTo(3L);
+		assertThat(session.<String>getAttribute("attrOne")).isEqualTo("localOne");
+		assertThat(session.<String>getAttribute("attrTwo")).isEqualTo("storedTwo");
+		assertThat(session.hasDelta()).isFalse();
+		assertThat(sessionRepository.getSaveConflictCount()).isEqualTo(1L);
+		assertThat(sessionRepository.getAttributeConflictCount()).isEqualTo(1L);
+
+		verify(sessionRepository, times(1)).executeConditionalSave(eq(session), eq(1L));
+		verify(sessionRepository, times(1)).executeConditionalSave(eq(session), eq(2L));
+		verify(this.mockTemplate, never()).put(any(), any());
+	}
+
+	@Test(expected = OptimisticLockingFailureException.class)
+	public void saveFailsAfterRepeatedConflicts() {
+
+		GemFireOperationsSessionRepository sessionRepository = spy(this.sessionRepository);
+
+		sessionRepository.setOptimisticConcurrencyEnabled(true);
+
+		GemFireSession session = newNonDirtyGemFireSession();
+
+		GemFireSession storedSession = GemFireSession.copy(session);
+
+		storedSession.setVersion(5L);
+
+		session.setAttribute("attrOne", "test");
+
+		doReturn(storedSession).when(sessionRepository).executeConditionalSave(any(GemFireSession.class), anyLong());
+
+		try {
+			sessionRepository.save(session);
+		}
+		catch (OptimisticLockingFailureException expected) {
+
+			assertThat(expected).hasMessage("Failed to save Session [%1$s] after %2$d attempts"
+				+ " conflicting with concurrent saves", session.getId(),
+				GemFireOperationsSessionRepository.MAX_CONDITIONAL_SAVE_ATTEMPTS);
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+
+			assertThat(session.getVersion()).isEqualTo(5L);
+			assertThat(sessionRepository.getSaveConflictCount())
+				.isEqualTo(GemFireOperationsSessionRepository.MAX_CONDITIONAL_SAVE_ATTEMPTS);
+
+			verify(sessionRepository, times(GemFireOperationsSessionRepository.MAX_CONDITIONAL_SAVE_ATTEMPTS))
+				.executeConditionalSave(eq(session), anyLong());
+			verify(this.mockTemplate, never()).put(any(), any());
+		}
+	}
+
+	@Test
+	public void saveFailsEveryTimeTheConditionalSaveFunctionFails() {
+
+		GemFireOperationsSessionRepository sessionRepository = spy(this.sessionRepository);
+
+		sessionRepository.setOptimisticConcurrencyEnabled(true);
+
+		GemFireSession session = newNonDirtyGemFireSession();
+
+		session.setAttribute("attrOne", "test");
+
+		FunctionException cause = new FunctionException("TEST");
+
+		doThrow(cause).when(sessionRepository).executeConditionalSave(any(GemFireSession.class), anyLong());
+
+		for (int count = 0; count < 2; count++) {
+			try {
+				sessionRepository.save(session);
+				fail("Expected FunctionException");
+			}
+			catch (FunctionException expected) {
+				assertThat(expected).isSameAs(cause);
+			}
+		}
+
+		assertThat(session.getVersion()).isZero();
+		assertThat(session.hasDelta()).isTrue();
+
+		verify(sessionRepository, times(2)).executeConditionalSave(eq(session), eq(0L));
+		verify(this.mockTemplate, never()).put(any(), any());
+	}
+
+	@Test
+	public void attributeOperationsExecuteOnServer() {
+
+		AttributeComputation computation = value -> "computed";
+
+		GemFireOperationsSessionRepository sessionRepository = spy(this.sessionRepository);
+
+		doReturn(7L).when(sessionRepository)
+			.executeAttributeOperation(eq("1"), eq(Operation.INCREMENT), eq("counter"), eq(2L));
+
+		doReturn("existing").when(sessionRepository)
+			.executeAttributeOperation(eq("1"), eq(Operation.PUT_IF_ABSENT), eq("token"), eq("value"));
+
+		doReturn(Boolean.TRUE).when(sessionRepository)
+			.executeAttributeOperation(eq("1"), eq(Operation.ADD_TO_SET), eq("roles"), eq("admin"));
+
+		doReturn("computed").when(sessionRepository)
+			.executeAttributeOperation(eq("1"), eq(Operation.COMPUTE), eq("name"), same(computation));
+
+		assertThat(sessionRepository.incrementAttribute("1", "counter", 2L)).isEqualTo(7L);
+		assertThat(sessionRepository.<String>putIfAbsentAttribute("1", "token", "value")).isEqualTo("existing");
+		assertThat(sessionRepository.addToSetAttribute("1", "roles", "admin")).isTrue();
+		assertThat(sessionRepository.<String>computeAttribute("1", "name", computation)).isEqualTo("computed");
+
+		verify(this.mockTemplate, never()).get(any());
+		verify(this.mockTemplate, never()).put(any(), any());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void attributeOperationWithNoAttributeNameThrowsIllegalArgumentException() {
+
+		try {
+			this.sessionRepository.incrementAttribute("1", "  ", 1L);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Attribute name is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void attributeOperationWithNoSessionIdThrowsIllegalArgumentException() {
+
+		try {
+			this.sessionRepository.addToSetAttribute(null, "roles", "admin");
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Session ID is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void saveWillNotStoreNonDirtyGemFireSessions() {
@@ -638,6 +1258,77 @@ public class GemFireOperationsSessionRepositoryTests {
 			.publishEvent(isA(SessionDeletedEvent.class));
 	}
 
+	@Test
+	public void deleteByIdPromotesAndRemovesDemotedSessionWhenSessionTieringIsEnabled() {
+
+		Session mockSession = mock(Session.class);
+
+		when(this.mockTemplate.remove(eq("1"))).thenReturn(null).thenReturn(mockSession);
+		when(this.mockTemplate.get(eq("1"))).thenReturn(mockSession);
+
+		this.sessionRepository.setSessionTieringEnabled(true);
+		this.sessionRepository.deleteById("1");
+
+		InOrder inOrder = inOrder(this.mockTemplate);
+
+		inOrder.verify(this.mockTemplate, times(1)).remove(eq("1"));
+		inOrder.verify(this.mockTemplate, times(1)).get(eq("1"));
+		inOrder.verify(this.mockTemplate, times(1)).remove(eq("1"));
+
+		verify(this.mockApplicationEventPublisher, times(1))
+			.publishEvent(argThat(event -> event instanceof SessionDeletedEvent
+				&& ((SessionDeletedEvent) event).getSession() == mockSession));
+	}
+
+	@Test
+	public void deleteByIdDoesNotPromoteSessionWhenSessionTieringIsDisabled() {
+
+		when(this.mockTemplate.remove(eq("1"))).thenReturn(null);
+
+		this.sessionRepository.deleteById("1");
+
+		verify(this.mockTemplate, times(1)).remove(eq("1"));
+		verify(this.mockTemplate, never()).get(any());
+		verify(this.mockApplicationEventPublisher, times(1)).publishEvent(isA(SessionDeletedEvent.class));
+	}
+
+	@Test
+	public void deleteMigratedByIdDestroysSessionWithMigrationCallbackArgument() {
+
+		Region<Object, Session> mockRegion = this.sessionRepository.getSessionsRegion();
+
+		this.sessionRepository.deleteMigratedById("1");
+
+		verify(mockRegion, times(1)).destroy(eq("1"), eq(MIGRATION_CALLBACK_ARGUMENT));
+		verify(this.mockTemplate, never()).remove(any());
+		verify(this.mockTemplate, never()).get(any());
+		verify(this.mockApplicationEventPublisher, never()).publishEvent(any(ApplicationEvent.class));
+	}
+
+	@Test
+	public void deleteMigratedByIdPromotesAndDestroysDemotedSessionWhenSessionTieringIsEnabled() {
+
+		Region<Object, Session> mockRegion = this.sessionRepository.getSessionsRegion();
+
+		Session mockSession = mock(Session.class);
+
+		doThrow(new EntryNotFoundException("test")).doReturn(mockSession).when(mockRegion)
+			.destroy(eq("1"), eq(MIGRATION_CALLBACK_ARGUMENT));
+
+		when(this.mockTemplate.get(eq("1"))).thenReturn(mockSession);
+
+		this.sessionRepository.setSessionTieringEnabled(true);
+		this.sessionRepository.deleteMigratedById("1");
+
+		InOrder inOrder = inOrder(mockRegion, this.mockTemplate);
+
+		inOrder.verify(mockRegion, times(1)).destroy(eq("1"), eq(MIGRATION_CALLBACK_ARGUMENT));
+		inOrder.verify(this.mockTemplate, times(1)).get(eq("1"));
+		inOrder.verify(mockRegion, times(1)).destroy(eq("1"), eq(MIGRATION_CALLBACK_ARGUMENT));
+
+		verify(this.mockApplicationEventPublisher, never()).publishEvent(any(ApplicationEvent.class));
+	}
+
 	protected abstract class GemfireOperationsAccessor extends GemfireAccessor implements GemfireOperations { }
 
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.DeltaCapableGemFireSession;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.session.data.gemfire.support.DeltaAwareDirtyPredicate;
+import org.springframework.session.data.gemfire.support.IsDirtyPredicate;
+import org.springframework.session.data.gemfire.support.SecurityContextPrincipalNameResolver;
+
+/**
+ * Memory footprint tests for {@link GemFireSession} using the Java Object Layout (JOL) tool.
+ *
+ * The footprint of a {@link GemFireSession} is compared with the footprint of a copy of the previous
+ * {@link GemFireSession} layout, which held {@link Instant} and {@link Duration} objects for the timestamps,
+ * a {@link SpelExpressionParser} per instance and an eagerly allocated {@link Set} of attribute deltas.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.openjdk.jol.info.GraphLayout
+ * @see org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession
+ * @since 2.1.3
+ */
+public class GemFireSessionMemoryFootprintTests {
+
+	private static long footprintOf(Object... objects) {
+		return GraphLayout.parseInstance(objects).totalSize();
+	}
+
+	// Excludes the IsDirtyPredicate and PrincipalNameResolver singletons shared by all Sessions
+	private static long sessionFootprintOf(Object session) {
+
+		Object dirtyPredicate = DeltaAwareDirtyPredicate.INSTANCE;
+		Object principalNameResolver = SecurityContextPrincipalNameResolver.INSTANCE;
+
+		return footprintOf(session, dirtyPredicate, principalNameResolver)
+			- footprintOf(dirtyPredicate, principalNameResolver);
+	}
+
+	private void assertCompactLayout(GemFireSession<?> session, PreviousGemFireSessionLayout previousSession) {
+
+		Set<Class<?>> classes = GraphLayout.parseInstance(session).getClasses();
+
+		assertThat(classes).doesNotContain(SpelExpressionParser.class, Instant.class, Duration.class, HashSet.class);
+		assertThat(sessionFootprintOf(session)).isLessThan(sessionFootprintOf(previousSession));
+	}
+
+	@Test
+	public void gemfireSessionHasCompactLayout() {
+
+		GemFireSession<?> session = new GemFireSession<>();
+
+		session.setMaxInactiveInterval(Duration.ofMinutes(30));
+
+		assertCompactLayout(session, new PreviousGemFireSessionLayout(new PreviousGemFireSessionAttributesLayout()));
+	}
+
+	@Test
+	public void deltaCapableGemFireSessionHasCompactLayout() {
+
+		DeltaCapableGemFireSession session = new DeltaCapableGemFireSession();
+
+		session.setMaxInactiveInterval(Duration.ofMinutes(30));
+
+		assertCompactLayout(session,
+			new PreviousGemFireSessionLayout(new PreviousDeltaCapableGemFireSessionAttributesLayout()));
+	}
+
+	@Test
+	public void gemfireSessionsShareConfiguration() {
+
+		GemFireSession<?> sessionOne = new GemFireSession<>();
+		GemFireSession<?> sessionTwo = new GemFireSession<>();
+
+		assertThat(sessionOne.getIsDirtyPredicate()).isSameAs(sessionTwo.getIsDirtyPredicate());
+		assertThat(footprintOf(sessionOne, sessionTwo))
+			.isLessThanOrEqualTo(footprintOf(sessionOne) + footprintOf(sessionTwo)
+				- footprintOf(DeltaAwareDirtyPredicate.INSTANCE));
+	}
+
+	/**
+	 * Copy of the fields of the previous {@link GemFireSession} layout.
+	 */
+	@SuppressWarnings("unused")
+	static class PreviousGemFireSessionLayout {
+
+		private transient volatile boolean delta = true;
+		private transient volatile boolean newSession = false;
+
+		private volatile long version;
+
+		private volatile Duration maxInactiveInterval = Duration.ofMinutes(30);
+
+		private final Instant creationTime = Instant.now();
+
+		private volatile Instant lastAccessedTime = this.creationTime;
+
+		private transient volatile IsDirtyPredicate dirtyPredicate = DeltaAwareDirtyPredicate.INSTANCE;
+
+		private transient final SpelExpressionParser parser = new SpelExpressionParser();
+
+		private volatile String id = UUID.randomUUID().toString();
+
+		private transient final Lock lock = new ReentrantLock();
+
+		private transient final PreviousGemFireSessionAttributesLayout sessionAttributes;
+
+		PreviousGemFireSessionLayout(PreviousGemFireSessionAttributesLayout sessionAttributes) {
+			this.sessionAttributes = sessionAttributes.with(this.lock);
+		}
+	}
+
+	/**
+	 * Copy of the fields of the previous {@link AbstractGemFireOperationsSessionRepository.GemFireSessionAttributes}
+	 * layout.
+	 */
+	@SuppressWarnings("unused")
+	static class PreviousGemFireSessionAttributesLayout extends AbstractMap<String, Object> {
+
+		private transient volatile boolean delta = false;
+
+		private transient volatile IsDirtyPredicate dirtyPredicate = DeltaAwareDirtyPredicate.INSTANCE;
+
+		private transient Map<String, Object> baseAttributeValues;
+
+		private transient volatile Map<String, Object> sessionAttributes = Collections.emptyMap();
+
+		private transient Lock lock;
+
+		PreviousGemFireSessionAttributesLayout with(Lock lock) {
+			this.lock = lock;
+			return this;
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return this.sessionAttributes.entrySet();
+		}
+	}
+
+	/**
+	 * Copy of the fields of the previous
+	 * {@link AbstractGemFireOperationsSessionRepository.DeltaCapableGemFireSessionAttributes} layout.
+	 */
+	@SuppressWarnings("unused")
+	static class PreviousDeltaCapableGemFireSessionAttributesLayout extends PreviousGemFireSessionAttributesLayout {
+
+		private transient final Set<String> sessionAttributeDeltas = new HashSet<>();
+	}
+}
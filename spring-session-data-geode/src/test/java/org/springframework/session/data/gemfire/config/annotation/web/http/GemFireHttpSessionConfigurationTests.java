@@ -33,21 +33,30 @@ import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.DiskStore;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAlgorithm;
+import org.apache.geode.cache.EvictionAttributes;
 import org.apache.geode.cache.ExpirationAction;
 import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.PartitionAttributes;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.compression.Compressor;
 
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
@@ -61,14 +70,33 @@ import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.RegionAttributesFactoryBean;
+import org.springframework.data.gemfire.eviction.EvictionPolicyType;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.session.Session;
 import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
 import org.springframework.session.data.gemfire.config.annotation.web.http.support.SessionCacheTypeAwareRegionFactoryBean;
 import org.springframework.session.data.gemfire.config.annotation.web.http.support.SpringSessionGemFireConfigurer;
+import org.springframework.session.data.gemfire.expiration.support.InvalidatedSessionReaper;
+import org.springframework.session.data.gemfire.expiration.support.TimingWheelSessionExpirer;
+import org.springframework.session.data.gemfire.function.ConditionalSaveSessionFunction;
+import org.springframework.session.data.gemfire.function.DestroyInvalidatedSessionsFunction;
+import org.springframework.session.data.gemfire.function.ExpireSessionsByCreationTimeFunction;
+import org.springframework.session.data.gemfire.function.FindSessionsByPrincipalNameFunction;
+import org.springframework.session.data.gemfire.function.SessionAttributeOperationFunction;
+import org.springframework.session.data.gemfire.function.SessionFunctionRegistrar;
+import org.springframework.session.data.gemfire.serialization.data.support.ChunkedValue;
+import org.springframework.session.data.gemfire.serialization.data.support.CompressedValue;
+import org.springframework.session.data.gemfire.serialization.data.support.CompressionCodec;
+import org.springframework.session.data.gemfire.serialization.data.support.DeflaterCompressionCodec;
 import org.springframework.session.data.gemfire.support.DeltaAwareDirtyPredicate;
 import org.springframework.session.data.gemfire.support.EqualsDirtyPredicate;
 import org.springframework.session.data.gemfire.support.IsDirtyPredicate;
+import org.springframework.session.data.gemfire.support.NegativeLookupCache;
+import org.springframework.session.data.gemfire.support.PrincipalNameResolver;
+import org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver;
+import org.springframework.session.data.gemfire.support.SecurityContextPrincipalNameResolver;
+import org.springframework.session.data.gemfire.support.SessionObjectSizer;
+import org.springframework.session.data.gemfire.support.SessionTieringManager;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -136,6 +164,13 @@ public class GemFireHttpSessionConfigurationTests {
 
 	private GemFireHttpSessionConfiguration gemfireConfiguration;
 
+	@After
+	public void tearDown() {
+		ChunkedValue.setChunkingThreshold(ChunkedValue.DEFAULT_CHUNKING_THRESHOLD);
+		CompressedValue.setCompressionCodec(null);
+		CompressedValue.setCompressionThreshold(CompressedValue.DEFAULT_COMPRESSION_THRESHOLD);
+	}
+
 	@Before
 	public void setup() {
 
@@ -182,6 +217,43 @@ public class GemFireHttpSessionConfigurationTests {
 			GemFireHttpSessionConfiguration.DEFAULT_CLIENT_REGION_SHORTCUT);
 	}
 
+	@Test
+	public void setAndGetSessionAttributeChunkingThreshold() {
+
+		assertThat(this.gemfireConfiguration.getSessionAttributeChunkingThreshold())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_ATTRIBUTE_CHUNKING_THRESHOLD);
+
+		this.gemfireConfiguration.setSessionAttributeChunkingThreshold(65536);
+
+		assertThat(this.gemfireConfiguration.getSessionAttributeChunkingThreshold()).isEqualTo(65536);
+	}
+
+	@Test
+	public void setAndGetSessionAttributeCompressionCodecBeanName() {
+
+		assertThat(this.gemfireConfiguration.getSessionAttributeCompressionCodecBeanName().isPresent()).isFalse();
+
+		this.gemfireConfiguration.setSessionAttributeCompressionCodecBeanName("TestCompressionCodec");
+
+		assertThat(this.gemfireConfiguration.getSessionAttributeCompressionCodecBeanName().orElse(null))
+			.isEqualTo("TestCompressionCodec");
+
+		this.gemfireConfiguration.setSessionAttributeCompressionCodecBeanName("  ");
+
+		assertThat(this.gemfireConfiguration.getSessionAttributeCompressionCodecBeanName().isPresent()).isFalse();
+	}
+
+	@Test
+	public void setAndGetSessionAttributeCompressionThreshold() {
+
+		assertThat(this.gemfireConfiguration.getSessionAttributeCompressionThreshold())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_ATTRIBUTE_COMPRESSION_THRESHOLD);
+
+		this.gemfireConfiguration.setSessionAttributeCompressionThreshold(1024);
+
+		assertThat(this.gemfireConfiguration.getSessionAttributeCompressionThreshold()).isEqualTo(1024);
+	}
+
 	@Test
 	public void setAndGetExposeConfigurationAsProperties() {
 
@@ -238,6 +310,24 @@ public class GemFireHttpSessionConfigurationTests {
 		assertThat(this.gemfireConfiguration.getIsDirtyPredicate()).isEqualTo(EqualsDirtyPredicate.INSTANCE);
 	}
 
+	@Test
+	public void setAndGetPrincipalNameResolver() {
+
+		assertThat(this.gemfireConfiguration.getPrincipalNameResolver())
+			.isEqualTo(SecurityContextPrincipalNameResolver.INSTANCE);
+
+		PrincipalNameResolver mockPrincipalNameResolver = mock(PrincipalNameResolver.class);
+
+		this.gemfireConfiguration.setPrincipalNameResolver(mockPrincipalNameResolver);
+
+		assertThat(this.gemfireConfiguration.getPrincipalNameResolver()).isEqualTo(mockPrincipalNameResolver);
+
+		this.gemfireConfiguration.setPrincipalNameResolver(null);
+
+		assertThat(this.gemfireConfiguration.getPrincipalNameResolver())
+			.isEqualTo(SecurityContextPrincipalNameResolver.INSTANCE);
+	}
+
 	@Test
 	public void setAndGetMaxInactiveIntervalInSeconds() {
 
@@ -261,6 +351,79 @@ public class GemFireHttpSessionConfigurationTests {
 		assertThat(this.gemfireConfiguration.getMaxInactiveIntervalInSeconds()).isEqualTo(Integer.MIN_VALUE);
 	}
 
+	@Test
+	public void setAndGetNegativeLookupCacheMaximumSize() {
+
+		assertThat(this.gemfireConfiguration.getNegativeLookupCacheMaximumSize())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_NEGATIVE_LOOKUP_CACHE_MAXIMUM_SIZE);
+
+		this.gemfireConfiguration.setNegativeLookupCacheMaximumSize(100);
+
+		assertThat(this.gemfireConfiguration.getNegativeLookupCacheMaximumSize()).isEqualTo(100);
+
+		this.gemfireConfiguration.setNegativeLookupCacheMaximumSize(0);
+
+		assertThat(this.gemfireConfiguration.getNegativeLookupCacheMaximumSize())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_NEGATIVE_LOOKUP_CACHE_MAXIMUM_SIZE);
+
+		this.gemfireConfiguration.setNegativeLookupCacheMaximumSize(-1);
+
+		assertThat(this.gemfireConfiguration.getNegativeLookupCacheMaximumSize())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_NEGATIVE_LOOKUP_CACHE_MAXIMUM_SIZE);
+	}
+
+	@Test
+	public void setAndGetNegativeLookupCacheTimeToLiveInSeconds() {
+
+		assertThat(this.gemfireConfiguration.getNegativeLookupCacheTimeToLiveInSeconds())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_NEGATIVE_LOOKUP_CACHE_TIME_TO_LIVE_IN_SECONDS);
+
+		this.gemfireConfiguration.setNegativeLookupCacheTimeToLiveInSeconds(5);
+
+		assertThat(this.gemfireConfiguration.getNegativeLookupCacheTimeToLiveInSeconds()).isEqualTo(5);
+
+		this.gemfireConfiguration.setNegativeLookupCacheTimeToLiveInSeconds(-1);
+
+		assertThat(this.gemfireConfiguration.getNegativeLookupCacheTimeToLiveInSeconds()).isEqualTo(-1);
+	}
+
+	@Test
+	public void setAndGetDemotionIdleTimeoutSeconds() {
+
+		assertThat(this.gemfireConfiguration.getDemotionIdleTimeoutSeconds())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_DEMOTION_IDLE_TIMEOUT_SECONDS);
+
+		this.gemfireConfiguration.setDemotionIdleTimeoutSeconds(600);
+
+		assertThat(this.gemfireConfiguration.getDemotionIdleTimeoutSeconds()).isEqualTo(600);
+
+		this.gemfireConfiguration.setDemotionIdleTimeoutSeconds(-1);
+
+		assertThat(this.gemfireConfiguration.getDemotionIdleTimeoutSeconds()).isEqualTo(-1);
+	}
+
+	@Test
+	public void setAndGetInvalidatedSessionReapBatchSize() {
+
+		assertThat(this.gemfireConfiguration.getInvalidatedSessionReapBatchSize())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_INVALIDATED_SESSION_REAP_BATCH_SIZE);
+
+		this.gemfireConfiguration.setInvalidatedSessionReapBatchSize(500);
+
+		assertThat(this.gemfireConfiguration.getInvalidatedSessionReapBatchSize()).isEqualTo(500);
+	}
+
+	@Test
+	public void setAndGetInvalidatedSessionReapIntervalSeconds() {
+
+		assertThat(this.gemfireConfiguration.getInvalidatedSessionReapIntervalSeconds())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_INVALIDATED_SESSION_REAP_INTERVAL_SECONDS);
+
+		this.gemfireConfiguration.setInvalidatedSessionReapIntervalSeconds(120);
+
+		assertThat(this.gemfireConfiguration.getInvalidatedSessionReapIntervalSeconds()).isEqualTo(120);
+	}
+
 	@Test
 	public void setAndGetPoolName() {
 
@@ -287,6 +450,96 @@ public class GemFireHttpSessionConfigurationTests {
 			GemFireHttpSessionConfiguration.DEFAULT_POOL_NAME);
 	}
 
+	@Test
+	public void setAndIsOptimisticConcurrencyEnabled() {
+
+		assertThat(this.gemfireConfiguration.isOptimisticConcurrencyEnabled())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_OPTIMISTIC_CONCURRENCY_ENABLED);
+
+		this.gemfireConfiguration.setOptimisticConcurrencyEnabled(true);
+
+		assertThat(this.gemfireConfiguration.isOptimisticConcurrencyEnabled()).isTrue();
+
+		this.gemfireConfiguration.setOptimisticConcurrencyEnabled(false);
+
+		assertThat(this.gemfireConfiguration.isOptimisticConcurrencyEnabled()).isFalse();
+	}
+
+	@Test
+	public void setAndIsPrincipalRoutingEnabled() {
+
+		assertThat(this.gemfireConfiguration.isPrincipalRoutingEnabled())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_PRINCIPAL_ROUTING_ENABLED);
+
+		this.gemfireConfiguration.setPrincipalRoutingEnabled(true);
+
+		assertThat(this.gemfireConfiguration.isPrincipalRoutingEnabled()).isTrue();
+
+		this.gemfireConfiguration.setPrincipalRoutingEnabled(false);
+
+		assertThat(this.gemfireConfiguration.isPrincipalRoutingEnabled()).isFalse();
+	}
+
+	@Test
+	public void setAndIsTimingWheelExpirationEnabled() {
+
+		assertThat(this.gemfireConfiguration.isTimingWheelExpirationEnabled())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_TIMING_WHEEL_EXPIRATION_ENABLED);
+
+		this.gemfireConfiguration.setTimingWheelExpirationEnabled(true);
+
+		assertThat(this.gemfireConfiguration.isTimingWheelExpirationEnabled()).isTrue();
+
+		this.gemfireConfiguration.setTimingWheelExpirationEnabled(false);
+
+		assertThat(this.gemfireConfiguration.isTimingWheelExpirationEnabled()).isFalse();
+	}
+
+	@Test
+	public void setAndIsSessionRegionOffHeap() {
+
+		assertThat(this.gemfireConfiguration.isSessionRegionOffHeap())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_OFF_HEAP);
+
+		this.gemfireConfiguration.setSessionRegionOffHeap(true);
+
+		assertThat(this.gemfireConfiguration.isSessionRegionOffHeap()).isTrue();
+
+		this.gemfireConfiguration.setSessionRegionOffHeap(false);
+
+		assertThat(this.gemfireConfiguration.isSessionRegionOffHeap()).isFalse();
+	}
+
+	@Test
+	public void setAndIsSessionRegionDiskSynchronous() {
+
+		assertThat(this.gemfireConfiguration.isSessionRegionDiskSynchronous())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_DISK_SYNCHRONOUS);
+
+		this.gemfireConfiguration.setSessionRegionDiskSynchronous(false);
+
+		assertThat(this.gemfireConfiguration.isSessionRegionDiskSynchronous()).isFalse();
+
+		this.gemfireConfiguration.setSessionRegionDiskSynchronous(true);
+
+		assertThat(this.gemfireConfiguration.isSessionRegionDiskSynchronous()).isTrue();
+	}
+
+	@Test
+	public void setAndIsSaveEmptyNewSessions() {
+
+		assertThat(this.gemfireConfiguration.isSaveEmptyNewSessions())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SAVE_EMPTY_NEW_SESSIONS);
+
+		this.gemfireConfiguration.setSaveEmptyNewSessions(false);
+
+		assertThat(this.gemfireConfiguration.isSaveEmptyNewSessions()).isFalse();
+
+		this.gemfireConfiguration.setSaveEmptyNewSessions(true);
+
+		assertThat(this.gemfireConfiguration.isSaveEmptyNewSessions()).isTrue();
+	}
+
 	@Test
 	public void setAndGetServerRegionShortcut() {
 
@@ -337,6 +590,76 @@ public class GemFireHttpSessionConfigurationTests {
 		assertThat(this.gemfireConfiguration.getSessionExpirationPolicyBeanName().orElse(null)).isNull();
 	}
 
+	@Test
+	public void setAndGetSessionRegionCompressorBeanName() {
+
+		assertThat(this.gemfireConfiguration.getSessionRegionCompressorBeanName().orElse(null)).isNull();
+
+		this.gemfireConfiguration.setSessionRegionCompressorBeanName("TestCompressor");
+
+		assertThat(this.gemfireConfiguration.getSessionRegionCompressorBeanName().orElse(null))
+			.isEqualTo("TestCompressor");
+
+		this.gemfireConfiguration.setSessionRegionCompressorBeanName("  ");
+
+		assertThat(this.gemfireConfiguration.getSessionRegionCompressorBeanName().orElse(null)).isNull();
+
+		this.gemfireConfiguration.setSessionRegionCompressorBeanName(null);
+
+		assertThat(this.gemfireConfiguration.getSessionRegionCompressorBeanName().orElse(null)).isNull();
+	}
+
+	@Test
+	public void setAndGetSessionRegionDiskStoreName() {
+
+		assertThat(this.gemfireConfiguration.getSessionRegionDiskStoreName().orElse(null)).isNull();
+
+		this.gemfireConfiguration.setSessionRegionDiskStoreName("TestDiskStore");
+
+		assertThat(this.gemfireConfiguration.getSessionRegionDiskStoreName().orElse(null))
+			.isEqualTo("TestDiskStore");
+
+		this.gemfireConfiguration.setSessionRegionDiskStoreName("  ");
+
+		assertThat(this.gemfireConfiguration.getSessionRegionDiskStoreName().orElse(null)).isNull();
+
+		this.gemfireConfiguration.setSessionRegionDiskStoreName(null);
+
+		assertThat(this.gemfireConfiguration.getSessionRegionDiskStoreName().orElse(null)).isNull();
+	}
+
+	@Test
+	public void setAndGetSessionRegionEvictionMaximum() {
+
+		assertThat(this.gemfireConfiguration.getSessionRegionEvictionMaximum())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_EVICTION_MAXIMUM);
+
+		this.gemfireConfiguration.setSessionRegionEvictionMaximum(1000);
+
+		assertThat(this.gemfireConfiguration.getSessionRegionEvictionMaximum()).isEqualTo(1000);
+
+		this.gemfireConfiguration.setSessionRegionEvictionMaximum(-1);
+
+		assertThat(this.gemfireConfiguration.getSessionRegionEvictionMaximum()).isEqualTo(-1);
+	}
+
+	@Test
+	public void setAndGetSessionRegionEvictionPolicyType() {
+
+		assertThat(this.gemfireConfiguration.getSessionRegionEvictionPolicyType())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_EVICTION_POLICY_TYPE);
+
+		this.gemfireConfiguration.setSessionRegionEvictionPolicyType(EvictionPolicyType.HEAP_PERCENTAGE);
+
+		assertThat(this.gemfireConfiguration.getSessionRegionEvictionPolicyType())
+			.isEqualTo(EvictionPolicyType.HEAP_PERCENTAGE);
+
+		this.gemfireConfiguration.setSessionRegionEvictionPolicyType(null);
+
+		assertThat(this.gemfireConfiguration.getSessionRegionEvictionPolicyType())
+			.isEqualTo(EvictionPolicyType.NONE);
+	}
+
 	@Test
 	public void setAndGetSessionRegionName() {
 
@@ -425,11 +748,29 @@ public class GemFireHttpSessionConfigurationTests {
 
 		Map<String, Object> annotationAttributes = new HashMap<>(4);
 
+		annotationAttributes.put("attributeChunkingThreshold", 65536);
+		annotationAttributes.put("attributeCompressionCodecBeanName", "testCompressionCodec");
+		annotationAttributes.put("attributeCompressionThreshold", 1024);
 		annotationAttributes.put("clientRegionShortcut", ClientRegionShortcut.CACHING_PROXY);
+		annotationAttributes.put("compressorBeanName", "testCompressor");
+		annotationAttributes.put("diskStoreName", "testDiskStore");
+		annotationAttributes.put("diskSynchronous", Boolean.FALSE);
+		annotationAttributes.put("evictionMaximum", 10000);
+		annotationAttributes.put("evictionPolicyType", EvictionPolicyType.ENTRY_COUNT);
 		annotationAttributes.put("exposeConfigurationAsProperties", Boolean.TRUE);
 		annotationAttributes.put("indexableSessionAttributes", ArrayUtils.asArray("one", "two", "three"));
 		annotationAttributes.put("maxInactiveIntervalInSeconds", 600);
+		annotationAttributes.put("negativeLookupCacheMaximumSize", 500);
+		annotationAttributes.put("negativeLookupCacheTimeToLiveInSeconds", 15);
+		annotationAttributes.put("demotionIdleTimeoutSeconds", 15);
+		annotationAttributes.put("invalidatedSessionReapBatchSize", 500);
+		annotationAttributes.put("invalidatedSessionReapIntervalSeconds", 120);
+		annotationAttributes.put("offHeap", Boolean.TRUE);
+		annotationAttributes.put("optimisticConcurrencyEnabled", Boolean.TRUE);
 		annotationAttributes.put("poolName", "TestPool");
+		annotationAttributes.put("principalRoutingEnabled", Boolean.TRUE);
+		annotationAttributes.put("timingWheelExpirationEnabled", Boolean.TRUE);
+		annotationAttributes.put("saveEmptyNewSessions", Boolean.FALSE);
 		annotationAttributes.put("serverRegionShortcut", RegionShortcut.REPLICATE);
 		annotationAttributes.put("regionName", "TEST");
 		annotationAttributes.put("sessionExpirationPolicyBeanName", "testSessionExpirationPolicy");
@@ -440,14 +781,36 @@ public class GemFireHttpSessionConfigurationTests {
 
 		this.gemfireConfiguration.setImportMetadata(mockAnnotationMetadata);
 
+		assertThat(this.gemfireConfiguration.getSessionAttributeChunkingThreshold()).isEqualTo(65536);
+		assertThat(this.gemfireConfiguration.getSessionAttributeCompressionCodecBeanName().orElse(null))
+			.isEqualTo("testCompressionCodec");
+		assertThat(this.gemfireConfiguration.getSessionAttributeCompressionThreshold()).isEqualTo(1024);
 		assertThat(this.gemfireConfiguration.getClientRegionShortcut()).isEqualTo(ClientRegionShortcut.CACHING_PROXY);
 		assertThat(this.gemfireConfiguration.isExposeConfigurationAsProperties()).isTrue();
 		assertThat(this.gemfireConfiguration.getIndexableSessionAttributes())
 			.isEqualTo(ArrayUtils.asArray("one", "two", "three"));
 		assertThat(this.gemfireConfiguration.getMaxInactiveIntervalInSeconds()).isEqualTo(600);
+		assertThat(this.gemfireConfiguration.getNegativeLookupCacheMaximumSize()).isEqualTo(500);
+		assertThat(this.gemfireConfiguration.getNegativeLookupCacheTimeToLiveInSeconds()).isEqualTo(15);
+		assertThat(this.gemfireConfiguration.getDemotionIdleTimeoutSeconds()).isEqualTo(15);
+		assertThat(this.gemfireConfiguration.getInvalidatedSessionReapBatchSize()).isEqualTo(500);
+		assertThat(this.gemfireConfiguration.getInvalidatedSessionReapIntervalSeconds()).isEqualTo(120);
+		assertThat(this.gemfireConfiguration.isSessionRegionOffHeap()).isTrue();
+		assertThat(this.gemfireConfiguration.isOptimisticConcurrencyEnabled()).isTrue();
 		assertThat(this.gemfireConfiguration.getPoolName()).isEqualTo("TestPool");
+		assertThat(this.gemfireConfiguration.isPrincipalRoutingEnabled()).isTrue();
+		assertThat(this.gemfireConfiguration.isTimingWheelExpirationEnabled()).isTrue();
+		assertThat(this.gemfireConfiguration.isSaveEmptyNewSessions()).isFalse();
 		assertThat(this.gemfireConfiguration.getServerRegionShortcut()).isEqualTo(RegionShortcut.REPLICATE);
 		assertThat(this.gemfireConfiguration.getSessionRegionName()).isEqualTo("TEST");
+		assertThat(this.gemfireConfiguration.getSessionRegionCompressorBeanName().orElse(null))
+			.isEqualTo("testCompressor");
+		assertThat(this.gemfireConfiguration.getSessionRegionDiskStoreName().orElse(null))
+			.isEqualTo("testDiskStore");
+		assertThat(this.gemfireConfiguration.isSessionRegionDiskSynchronous()).isFalse();
+		assertThat(this.gemfireConfiguration.getSessionRegionEvictionMaximum()).isEqualTo(10000);
+		assertThat(this.gemfireConfiguration.getSessionRegionEvictionPolicyType())
+			.isEqualTo(EvictionPolicyType.ENTRY_COUNT);
 		assertThat(this.gemfireConfiguration.getSessionExpirationPolicyBeanName().orElse(null))
 			.isEqualTo("testSessionExpirationPolicy");
 		assertThat(this.gemfireConfiguration.getSessionSerializerBeanName()).isEqualTo("testSessionSerializer");
@@ -464,11 +827,29 @@ public class GemFireHttpSessionConfigurationTests {
 		SpringSessionGemFireConfigurer mockConfigurer = mock(SpringSessionGemFireConfigurer.class);
 
 		when(mockApplicationContext.getBean(eq(SpringSessionGemFireConfigurer.class))).thenReturn(mockConfigurer);
+		when(mockConfigurer.getAttributeChunkingThreshold()).thenReturn(131072);
+		when(mockConfigurer.getAttributeCompressionCodecBeanName()).thenReturn("TestCompressionCodec");
+		when(mockConfigurer.getAttributeCompressionThreshold()).thenReturn(2048);
 		when(mockConfigurer.getClientRegionShortcut()).thenReturn(ClientRegionShortcut.CACHING_PROXY);
+		when(mockConfigurer.getCompressorBeanName()).thenReturn("TestCompressor");
+		when(mockConfigurer.getDiskStoreName()).thenReturn("TestDiskStore");
+		when(mockConfigurer.getDiskSynchronous()).thenReturn(false);
+		when(mockConfigurer.getEvictionMaximum()).thenReturn(5000);
+		when(mockConfigurer.getEvictionPolicyType()).thenReturn(EvictionPolicyType.MEMORY_SIZE);
 		when(mockConfigurer.getExposeConfigurationAsProperties()).thenReturn(true);
 		when(mockConfigurer.getIndexableSessionAttributes()).thenReturn(new String[] { "one", "two" });
 		when(mockConfigurer.getMaxInactiveIntervalInSeconds()).thenReturn(300);
+		when(mockConfigurer.getNegativeLookupCacheMaximumSize()).thenReturn(250);
+		when(mockConfigurer.getNegativeLookupCacheTimeToLiveInSeconds()).thenReturn(30);
+		when(mockConfigurer.getDemotionIdleTimeoutSeconds()).thenReturn(30);
+		when(mockConfigurer.getInvalidatedSessionReapBatchSize()).thenReturn(250);
+		when(mockConfigurer.getInvalidatedSessionReapIntervalSeconds()).thenReturn(60);
+		when(mockConfigurer.getOffHeap()).thenReturn(true);
+		when(mockConfigurer.getOptimisticConcurrencyEnabled()).thenReturn(true);
 		when(mockConfigurer.getPoolName()).thenReturn("DeadPool");
+		when(mockConfigurer.getPrincipalRoutingEnabled()).thenReturn(true);
+		when(mockConfigurer.getTimingWheelExpirationEnabled()).thenReturn(true);
+		when(mockConfigurer.getSaveEmptyNewSessions()).thenReturn(false);
 		when(mockConfigurer.getRegionName()).thenReturn("Sessions");
 		when(mockConfigurer.getServerRegionShortcut()).thenReturn(RegionShortcut.PARTITION_REDUNDANT);
 		when(mockConfigurer.getSessionExpirationPolicyBeanName()).thenReturn("TestSessionExpirationPolicy");
@@ -477,22 +858,62 @@ public class GemFireHttpSessionConfigurationTests {
 		this.gemfireConfiguration.setApplicationContext(mockApplicationContext);
 		this.gemfireConfiguration.applySpringSessionGemFireConfigurer();
 
+		assertThat(this.gemfireConfiguration.getSessionAttributeChunkingThreshold()).isEqualTo(131072);
+		assertThat(this.gemfireConfiguration.getSessionAttributeCompressionCodecBeanName().orElse(null))
+			.isEqualTo("TestCompressionCodec");
+		assertThat(this.gemfireConfiguration.getSessionAttributeCompressionThreshold()).isEqualTo(2048);
 		assertThat(this.gemfireConfiguration.getClientRegionShortcut()).isEqualTo(ClientRegionShortcut.CACHING_PROXY);
 		assertThat(this.gemfireConfiguration.isExposeConfigurationAsProperties()).isEqualTo(true);
 		assertThat(this.gemfireConfiguration.getIndexableSessionAttributes()).containsExactly("one", "two");
 		assertThat(this.gemfireConfiguration.getMaxInactiveIntervalInSeconds()).isEqualTo(300);
+		assertThat(this.gemfireConfiguration.getNegativeLookupCacheMaximumSize()).isEqualTo(250);
+		assertThat(this.gemfireConfiguration.getNegativeLookupCacheTimeToLiveInSeconds()).isEqualTo(30);
+		assertThat(this.gemfireConfiguration.getDemotionIdleTimeoutSeconds()).isEqualTo(30);
+		assertThat(this.gemfireConfiguration.getInvalidatedSessionReapBatchSize()).isEqualTo(250);
+		assertThat(this.gemfireConfiguration.getInvalidatedSessionReapIntervalSeconds()).isEqualTo(60);
+		assertThat(this.gemfireConfiguration.isSessionRegionOffHeap()).isTrue();
+		assertThat(this.gemfireConfiguration.isOptimisticConcurrencyEnabled()).isTrue();
 		assertThat(this.gemfireConfiguration.getPoolName()).isEqualTo("DeadPool");
+		assertThat(this.gemfireConfiguration.isPrincipalRoutingEnabled()).isTrue();
+		assertThat(this.gemfireConfiguration.isTimingWheelExpirationEnabled()).isTrue();
+		assertThat(this.gemfireConfiguration.isSaveEmptyNewSessions()).isFalse();
 		assertThat(this.gemfireConfiguration.getServerRegionShortcut()).isEqualTo(RegionShortcut.PARTITION_REDUNDANT);
 		assertThat(this.gemfireConfiguration.getSessionRegionName()).isEqualTo("Sessions");
+		assertThat(this.gemfireConfiguration.getSessionRegionCompressorBeanName().orElse(null))
+			.isEqualTo("TestCompressor");
+		assertThat(this.gemfireConfiguration.getSessionRegionDiskStoreName().orElse(null))
+			.isEqualTo("TestDiskStore");
+		assertThat(this.gemfireConfiguration.isSessionRegionDiskSynchronous()).isFalse();
+		assertThat(this.gemfireConfiguration.getSessionRegionEvictionMaximum()).isEqualTo(5000);
+		assertThat(this.gemfireConfiguration.getSessionRegionEvictionPolicyType())
+			.isEqualTo(EvictionPolicyType.MEMORY_SIZE);
 		assertThat(this.gemfireConfiguration.getSessionExpirationPolicyBeanName().orElse(null))
 			.isEqualTo("TestSessionExpirationPolicy");
 		assertThat(this.gemfireConfiguration.getSessionSerializerBeanName()).isEqualTo("TestSessionSerializer");
 
+		verify(mockConfigurer, times(1)).getAttributeChunkingThreshold();
+		verify(mockConfigurer, times(1)).getAttributeCompressionCodecBeanName();
+		verify(mockConfigurer, times(1)).getAttributeCompressionThreshold();
 		verify(mockConfigurer, times(1)).getClientRegionShortcut();
+		verify(mockConfigurer, times(1)).getCompressorBeanName();
+		verify(mockConfigurer, times(1)).getDiskStoreName();
+		verify(mockConfigurer, times(1)).getDiskSynchronous();
+		verify(mockConfigurer, times(1)).getEvictionMaximum();
+		verify(mockConfigurer, times(1)).getEvictionPolicyType();
 		verify(mockConfigurer, times(1)).getExposeConfigurationAsProperties();
 		verify(mockConfigurer, times(1)).getIndexableSessionAttributes();
 		verify(mockConfigurer, times(1)).getMaxInactiveIntervalInSeconds();
+		verify(mockConfigurer, times(1)).getNegativeLookupCacheMaximumSize();
+		verify(mockConfigurer, times(1)).getNegativeLookupCacheTimeToLiveInSeconds();
+		verify(mockConfigurer, times(1)).getDemotionIdleTimeoutSeconds();
+		verify(mockConfigurer, times(1)).getInvalidatedSessionReapBatchSize();
+		verify(mockConfigurer, times(1)).getInvalidatedSessionReapIntervalSeconds();
+		verify(mockConfigurer, times(1)).getOffHeap();
+		verify(mockConfigurer, times(1)).getOptimisticConcurrencyEnabled();
 		verify(mockConfigurer, times(1)).getPoolName();
+		verify(mockConfigurer, times(1)).getPrincipalRoutingEnabled();
+		verify(mockConfigurer, times(1)).getTimingWheelExpirationEnabled();
+		verify(mockConfigurer, times(1)).getSaveEmptyNewSessions();
 		verify(mockConfigurer, times(1)).getRegionName();
 		verify(mockConfigurer, times(1)).getServerRegionShortcut();
 		verify(mockConfigurer, times(1)).getSessionExpirationPolicyBeanName();
@@ -504,14 +925,32 @@ public class GemFireHttpSessionConfigurationTests {
 
 		this.gemfireConfiguration.applySpringSessionGemFireConfigurer();
 
+		verify(this.gemfireConfiguration, never()).setSessionAttributeChunkingThreshold(anyInt());
+		verify(this.gemfireConfiguration, never()).setSessionAttributeCompressionCodecBeanName(anyString());
+		verify(this.gemfireConfiguration, never()).setSessionAttributeCompressionThreshold(anyInt());
 		verify(this.gemfireConfiguration, never()).setClientRegionShortcut(any(ClientRegionShortcut.class));
 		verify(this.gemfireConfiguration, never()).setExposeConfigurationAsProperties(anyBoolean());
 		verify(this.gemfireConfiguration, never()).setIndexableSessionAttributes(any(String[].class));
 		verify(this.gemfireConfiguration, never()).setMaxInactiveIntervalInSeconds(anyInt());
+		verify(this.gemfireConfiguration, never()).setNegativeLookupCacheMaximumSize(anyInt());
+		verify(this.gemfireConfiguration, never()).setNegativeLookupCacheTimeToLiveInSeconds(anyInt());
+		verify(this.gemfireConfiguration, never()).setDemotionIdleTimeoutSeconds(anyInt());
+		verify(this.gemfireConfiguration, never()).setInvalidatedSessionReapBatchSize(anyInt());
+		verify(this.gemfireConfiguration, never()).setInvalidatedSessionReapIntervalSeconds(anyInt());
+		verify(this.gemfireConfiguration, never()).setOptimisticConcurrencyEnabled(anyBoolean());
 		verify(this.gemfireConfiguration, never()).setPoolName(anyString());
+		verify(this.gemfireConfiguration, never()).setPrincipalRoutingEnabled(anyBoolean());
+		verify(this.gemfireConfiguration, never()).setTimingWheelExpirationEnabled(anyBoolean());
+		verify(this.gemfireConfiguration, never()).setSaveEmptyNewSessions(anyBoolean());
 		verify(this.gemfireConfiguration, never()).setServerRegionShortcut(any(RegionShortcut.class));
 		verify(this.gemfireConfiguration, never()).setSessionExpirationPolicyBeanName(anyString());
 		verify(this.gemfireConfiguration, never()).setSessionRegionName(anyString());
+		verify(this.gemfireConfiguration, never()).setSessionRegionCompressorBeanName(anyString());
+		verify(this.gemfireConfiguration, never()).setSessionRegionDiskStoreName(anyString());
+		verify(this.gemfireConfiguration, never()).setSessionRegionDiskSynchronous(anyBoolean());
+		verify(this.gemfireConfiguration, never()).setSessionRegionEvictionMaximum(anyInt());
+		verify(this.gemfireConfiguration, never()).setSessionRegionEvictionPolicyType(any(EvictionPolicyType.class));
+		verify(this.gemfireConfiguration, never()).setSessionRegionOffHeap(anyBoolean());
 		verify(this.gemfireConfiguration, never()).setSessionSerializerBeanName(anyString());
 	}
 
@@ -536,14 +975,32 @@ public class GemFireHttpSessionConfigurationTests {
 			throw expected;
 		}
 		finally {
+			verify(this.gemfireConfiguration, never()).setSessionAttributeChunkingThreshold(anyInt());
+			verify(this.gemfireConfiguration, never()).setSessionAttributeCompressionCodecBeanName(anyString());
+			verify(this.gemfireConfiguration, never()).setSessionAttributeCompressionThreshold(anyInt());
 			verify(this.gemfireConfiguration, never()).setClientRegionShortcut(any(ClientRegionShortcut.class));
 			verify(this.gemfireConfiguration, never()).setExposeConfigurationAsProperties(anyBoolean());
 			verify(this.gemfireConfiguration, never()).setIndexableSessionAttributes(any(String[].class));
 			verify(this.gemfireConfiguration, never()).setMaxInactiveIntervalInSeconds(anyInt());
+			verify(this.gemfireConfiguration, never()).setNegativeLookupCacheMaximumSize(anyInt());
+			verify(this.gemfireConfiguration, never()).setNegativeLookupCacheTimeToLiveInSeconds(anyInt());
+			verify(this.gemfireConfiguration, never()).setDemotionIdleTimeoutSeconds(anyInt());
+			verify(this.gemfireConfiguration, never()).setInvalidatedSessionReapBatchSize(anyInt());
+			verify(this.gemfireConfiguration, never()).setInvalidatedSessionReapIntervalSeconds(anyInt());
+			verify(this.gemfireConfiguration, never()).setOptimisticConcurrencyEnabled(anyBoolean());
 			verify(this.gemfireConfiguration, never()).setPoolName(anyString());
+			verify(this.gemfireConfiguration, never()).setPrincipalRoutingEnabled(anyBoolean());
+			verify(this.gemfireConfiguration, never()).setTimingWheelExpirationEnabled(anyBoolean());
+			verify(this.gemfireConfiguration, never()).setSaveEmptyNewSessions(anyBoolean());
 			verify(this.gemfireConfiguration, never()).setServerRegionShortcut(any(RegionShortcut.class));
 			verify(this.gemfireConfiguration, never()).setSessionExpirationPolicyBeanName(anyString());
 			verify(this.gemfireConfiguration, never()).setSessionRegionName(anyString());
+			verify(this.gemfireConfiguration, never()).setSessionRegionCompressorBeanName(anyString());
+			verify(this.gemfireConfiguration, never()).setSessionRegionDiskStoreName(anyString());
+			verify(this.gemfireConfiguration, never()).setSessionRegionDiskSynchronous(anyBoolean());
+			verify(this.gemfireConfiguration, never()).setSessionRegionEvictionMaximum(anyInt());
+			verify(this.gemfireConfiguration, never()).setSessionRegionEvictionPolicyType(any(EvictionPolicyType.class));
+			verify(this.gemfireConfiguration, never()).setSessionRegionOffHeap(anyBoolean());
 			verify(this.gemfireConfiguration, never()).setSessionSerializerBeanName(anyString());
 		}
 	}
@@ -554,14 +1011,32 @@ public class GemFireHttpSessionConfigurationTests {
 		ConfigurableEnvironment environment = new StandardEnvironment();
 
 		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+		this.gemfireConfiguration.setSessionAttributeChunkingThreshold(131072);
+		this.gemfireConfiguration.setSessionAttributeCompressionCodecBeanName("TestCompressionCodec");
+		this.gemfireConfiguration.setSessionAttributeCompressionThreshold(2048);
 		this.gemfireConfiguration.setEnvironment(environment);
 		this.gemfireConfiguration.setExposeConfigurationAsProperties(true);
 		this.gemfireConfiguration.setIndexableSessionAttributes(ArrayUtils.asArray("one", "two"));
 		this.gemfireConfiguration.setMaxInactiveIntervalInSeconds(300);
+		this.gemfireConfiguration.setNegativeLookupCacheMaximumSize(250);
+		this.gemfireConfiguration.setNegativeLookupCacheTimeToLiveInSeconds(30);
+		this.gemfireConfiguration.setDemotionIdleTimeoutSeconds(30);
+		this.gemfireConfiguration.setInvalidatedSessionReapBatchSize(250);
+		this.gemfireConfiguration.setInvalidatedSessionReapIntervalSeconds(60);
+		this.gemfireConfiguration.setOptimisticConcurrencyEnabled(true);
 		this.gemfireConfiguration.setPoolName("DeadPool");
+		this.gemfireConfiguration.setPrincipalRoutingEnabled(true);
+		this.gemfireConfiguration.setTimingWheelExpirationEnabled(true);
+		this.gemfireConfiguration.setSaveEmptyNewSessions(false);
 		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION_REDUNDANT);
 		this.gemfireConfiguration.setSessionExpirationPolicyBeanName("TestSessionExpirationPolicy");
+		this.gemfireConfiguration.setSessionRegionCompressorBeanName("TestCompressor");
+		this.gemfireConfiguration.setSessionRegionDiskStoreName("TestDiskStore");
+		this.gemfireConfiguration.setSessionRegionDiskSynchronous(false);
+		this.gemfireConfiguration.setSessionRegionEvictionMaximum(85);
+		this.gemfireConfiguration.setSessionRegionEvictionPolicyType(EvictionPolicyType.HEAP_PERCENTAGE);
 		this.gemfireConfiguration.setSessionRegionName("Sessions");
+		this.gemfireConfiguration.setSessionRegionOffHeap(true);
 		this.gemfireConfiguration.setSessionSerializerBeanName("TestSessionSerializer");
 		this.gemfireConfiguration.setExposeConfigurationAsProperties(true);
 		this.gemfireConfiguration.exposeSpringSessionGemFireConfiguration();
@@ -574,6 +1049,15 @@ public class GemFireHttpSessionConfigurationTests {
 		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.cache.client.region.shortcut"))
 			.isEqualTo(ClientRegionShortcut.CACHING_PROXY.name());
 
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.attributes.chunking.threshold"))
+			.isEqualTo("131072");
+
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.attributes.compression.codec.bean-name"))
+			.isEqualTo("TestCompressionCodec");
+
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.attributes.compression.threshold"))
+			.isEqualTo("2048");
+
 		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.configuration.expose"))
 			.isEqualTo(Boolean.TRUE.toString());
 
@@ -586,28 +1070,91 @@ public class GemFireHttpSessionConfigurationTests {
 		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.expiration.max-inactive-interval-seconds"))
 			.isEqualTo("300");
 
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.negative-lookup-cache.maximum-size"))
+			.isEqualTo("250");
+
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.negative-lookup-cache.time-to-live-seconds"))
+			.isEqualTo("30");
+
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.region.demotion.idle-timeout-seconds"))
+			.isEqualTo("30");
+
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.region.invalidated-sessions.reap-batch-size"))
+			.isEqualTo("250");
+
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.region.invalidated-sessions.reap-interval-seconds"))
+			.isEqualTo("60");
+
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.optimistic-concurrency.enabled"))
+			.isEqualTo(Boolean.TRUE.toString());
+
 		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.cache.client.pool.name"))
 			.isEqualTo("DeadPool");
 
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.principal-routing.enabled"))
+			.isEqualTo(Boolean.TRUE.toString());
+
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.expiration.timing-wheel.enabled"))
+			.isEqualTo(Boolean.TRUE.toString());
+
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.save-empty-new-sessions"))
+			.isEqualTo(Boolean.FALSE.toString());
+
 		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.cache.server.region.shortcut"))
 			.isEqualTo(RegionShortcut.PARTITION_REDUNDANT.name());
 
 		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.expiration.bean-name"))
 			.isEqualTo("TestSessionExpirationPolicy");
 
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.region.compressor.bean-name"))
+			.isEqualTo("TestCompressor");
+
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.region.disk-store.name"))
+			.isEqualTo("TestDiskStore");
+
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.region.disk-store.synchronous"))
+			.isEqualTo(Boolean.FALSE.toString());
+
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.region.eviction.maximum"))
+			.isEqualTo("85");
+
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.region.eviction.policy"))
+			.isEqualTo(EvictionPolicyType.HEAP_PERCENTAGE.name());
+
 		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.region.name"))
 			.isEqualTo("Sessions");
 
+		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.region.off-heap"))
+			.isEqualTo(Boolean.TRUE.toString());
+
 		assertThat(springSessionGemFirePropertySource.getProperty("spring.session.data.gemfire.session.serializer.bean-name"))
 			.isEqualTo("TestSessionSerializer");
 
+		verify(this.gemfireConfiguration, times(1)).getSessionAttributeChunkingThreshold();
+		verify(this.gemfireConfiguration, times(1)).getSessionAttributeCompressionCodecBeanName();
+		verify(this.gemfireConfiguration, times(1)).getSessionAttributeCompressionThreshold();
 		verify(this.gemfireConfiguration, times(1)).getClientRegionShortcut();
 		verify(this.gemfireConfiguration, times(1)).getEnvironment();
 		verify(this.gemfireConfiguration, times(2)).isExposeConfigurationAsProperties();
 		verify(this.gemfireConfiguration, times(2)).getIndexableSessionAttributes();
 		verify(this.gemfireConfiguration, times(1)).getMaxInactiveIntervalInSeconds();
+		verify(this.gemfireConfiguration, times(1)).getNegativeLookupCacheMaximumSize();
+		verify(this.gemfireConfiguration, times(1)).getNegativeLookupCacheTimeToLiveInSeconds();
+		verify(this.gemfireConfiguration, times(1)).getDemotionIdleTimeoutSeconds();
+		verify(this.gemfireConfiguration, times(1)).getInvalidatedSessionReapBatchSize();
+		verify(this.gemfireConfiguration, times(1)).getInvalidatedSessionReapIntervalSeconds();
+		verify(this.gemfireConfiguration, times(1)).isOptimisticConcurrencyEnabled();
 		verify(this.gemfireConfiguration, times(1)).getPoolName();
+		verify(this.gemfireConfiguration, times(1)).isPrincipalRoutingEnabled();
+		verify(this.gemfireConfiguration, times(1)).isTimingWheelExpirationEnabled();
+		verify(this.gemfireConfiguration, times(1)).isSaveEmptyNewSessions();
+		verify(this.gemfireConfiguration, times(1)).getSessionRegionCompressorBeanName();
+		verify(this.gemfireConfiguration, times(1)).getSessionRegionDiskStoreName();
+		verify(this.gemfireConfiguration, times(1)).isSessionRegionDiskSynchronous();
+		verify(this.gemfireConfiguration, times(1)).getSessionRegionEvictionMaximum();
+		verify(this.gemfireConfiguration, times(1)).getSessionRegionEvictionPolicyType();
 		verify(this.gemfireConfiguration, times(1)).getSessionRegionName();
+		verify(this.gemfireConfiguration, times(1)).isSessionRegionOffHeap();
 		verify(this.gemfireConfiguration, times(1)).getServerRegionShortcut();
 		verify(this.gemfireConfiguration, times(1)).getSessionExpirationPolicyBeanName();
 		verify(this.gemfireConfiguration, times(1)).getSessionSerializerBeanName();
@@ -621,13 +1168,31 @@ public class GemFireHttpSessionConfigurationTests {
 		this.gemfireConfiguration.setExposeConfigurationAsProperties(true);
 		this.gemfireConfiguration.exposeSpringSessionGemFireConfiguration();
 
+		verify(this.gemfireConfiguration, never()).getSessionAttributeChunkingThreshold();
+		verify(this.gemfireConfiguration, never()).getSessionAttributeCompressionCodecBeanName();
+		verify(this.gemfireConfiguration, never()).getSessionAttributeCompressionThreshold();
 		verify(this.gemfireConfiguration, never()).getClientRegionShortcut();
 		verify(this.gemfireConfiguration, times(1)).getEnvironment();
 		verify(this.gemfireConfiguration, times(1)).isExposeConfigurationAsProperties();
 		verify(this.gemfireConfiguration, never()).getIndexableSessionAttributes();
 		verify(this.gemfireConfiguration, never()).getMaxInactiveIntervalInSeconds();
+		verify(this.gemfireConfiguration, never()).getNegativeLookupCacheMaximumSize();
+		verify(this.gemfireConfiguration, never()).getNegativeLookupCacheTimeToLiveInSeconds();
+		verify(this.gemfireConfiguration, never()).getDemotionIdleTimeoutSeconds();
+		verify(this.gemfireConfiguration, never()).getInvalidatedSessionReapBatchSize();
+		verify(this.gemfireConfiguration, never()).getInvalidatedSessionReapIntervalSeconds();
+		verify(this.gemfireConfiguration, never()).isOptimisticConcurrencyEnabled();
 		verify(this.gemfireConfiguration, never()).getPoolName();
+		verify(this.gemfireConfiguration, never()).isPrincipalRoutingEnabled();
+		verify(this.gemfireConfiguration, never()).isTimingWheelExpirationEnabled();
+		verify(this.gemfireConfiguration, never()).isSaveEmptyNewSessions();
+		verify(this.gemfireConfiguration, never()).getSessionRegionCompressorBeanName();
+		verify(this.gemfireConfiguration, never()).getSessionRegionDiskStoreName();
+		verify(this.gemfireConfiguration, never()).isSessionRegionDiskSynchronous();
+		verify(this.gemfireConfiguration, never()).getSessionRegionEvictionMaximum();
+		verify(this.gemfireConfiguration, never()).getSessionRegionEvictionPolicyType();
 		verify(this.gemfireConfiguration, never()).getSessionRegionName();
+		verify(this.gemfireConfiguration, never()).isSessionRegionOffHeap();
 		verify(this.gemfireConfiguration, never()).getServerRegionShortcut();
 		verify(this.gemfireConfiguration, never()).getSessionExpirationPolicyBeanName();
 		verify(this.gemfireConfiguration, never()).getSessionSerializerBeanName();
@@ -642,13 +1207,31 @@ public class GemFireHttpSessionConfigurationTests {
 		this.gemfireConfiguration.setExposeConfigurationAsProperties(false);
 		this.gemfireConfiguration.exposeSpringSessionGemFireConfiguration();
 
+		verify(this.gemfireConfiguration, never()).getSessionAttributeChunkingThreshold();
+		verify(this.gemfireConfiguration, never()).getSessionAttributeCompressionCodecBeanName();
+		verify(this.gemfireConfiguration, never()).getSessionAttributeCompressionThreshold();
 		verify(this.gemfireConfiguration, never()).getClientRegionShortcut();
 		verify(this.gemfireConfiguration, never()).getEnvironment();
 		verify(this.gemfireConfiguration, times(1)).isExposeConfigurationAsProperties();
 		verify(this.gemfireConfiguration, never()).getIndexableSessionAttributes();
 		verify(this.gemfireConfiguration, never()).getMaxInactiveIntervalInSeconds();
+		verify(this.gemfireConfiguration, never()).getNegativeLookupCacheMaximumSize();
+		verify(this.gemfireConfiguration, never()).getNegativeLookupCacheTimeToLiveInSeconds();
+		verify(this.gemfireConfiguration, never()).getDemotionIdleTimeoutSeconds();
+		verify(this.gemfireConfiguration, never()).getInvalidatedSessionReapBatchSize();
+		verify(this.gemfireConfiguration, never()).getInvalidatedSessionReapIntervalSeconds();
+		verify(this.gemfireConfiguration, never()).isOptimisticConcurrencyEnabled();
 		verify(this.gemfireConfiguration, never()).getPoolName();
+		verify(this.gemfireConfiguration, never()).isPrincipalRoutingEnabled();
+		verify(this.gemfireConfiguration, never()).isTimingWheelExpirationEnabled();
+		verify(this.gemfireConfiguration, never()).isSaveEmptyNewSessions();
+		verify(this.gemfireConfiguration, never()).getSessionRegionCompressorBeanName();
+		verify(this.gemfireConfiguration, never()).getSessionRegionDiskStoreName();
+		verify(this.gemfireConfiguration, never()).isSessionRegionDiskSynchronous();
+		verify(this.gemfireConfiguration, never()).getSessionRegionEvictionMaximum();
+		verify(this.gemfireConfiguration, never()).getSessionRegionEvictionPolicyType();
 		verify(this.gemfireConfiguration, never()).getSessionRegionName();
+		verify(this.gemfireConfiguration, never()).isSessionRegionOffHeap();
 		verify(this.gemfireConfiguration, never()).getServerRegionShortcut();
 		verify(this.gemfireConfiguration, never()).getSessionExpirationPolicyBeanName();
 		verify(this.gemfireConfiguration, never()).getSessionSerializerBeanName();
@@ -664,13 +1247,31 @@ public class GemFireHttpSessionConfigurationTests {
 		this.gemfireConfiguration.setExposeConfigurationAsProperties(true);
 		this.gemfireConfiguration.exposeSpringSessionGemFireConfiguration();
 
+		verify(this.gemfireConfiguration, never()).getSessionAttributeChunkingThreshold();
+		verify(this.gemfireConfiguration, never()).getSessionAttributeCompressionCodecBeanName();
+		verify(this.gemfireConfiguration, never()).getSessionAttributeCompressionThreshold();
 		verify(this.gemfireConfiguration, never()).getClientRegionShortcut();
 		verify(this.gemfireConfiguration, times(1)).getEnvironment();
 		verify(this.gemfireConfiguration, times(1)).isExposeConfigurationAsProperties();
 		verify(this.gemfireConfiguration, never()).getIndexableSessionAttributes();
 		verify(this.gemfireConfiguration, never()).getMaxInactiveIntervalInSeconds();
+		verify(this.gemfireConfiguration, never()).getNegativeLookupCacheMaximumSize();
+		verify(this.gemfireConfiguration, never()).getNegativeLookupCacheTimeToLiveInSeconds();
+		verify(this.gemfireConfiguration, never()).getDemotionIdleTimeoutSeconds();
+		verify(this.gemfireConfiguration, never()).getInvalidatedSessionReapBatchSize();
+		verify(this.gemfireConfiguration, never()).getInvalidatedSessionReapIntervalSeconds();
+		verify(this.gemfireConfiguration, never()).isOptimisticConcurrencyEnabled();
 		verify(this.gemfireConfiguration, never()).getPoolName();
+		verify(this.gemfireConfiguration, never()).isPrincipalRoutingEnabled();
+		verify(this.gemfireConfiguration, never()).isTimingWheelExpirationEnabled();
+		verify(this.gemfireConfiguration, never()).isSaveEmptyNewSessions();
+		verify(this.gemfireConfiguration, never()).getSessionRegionCompressorBeanName();
+		verify(this.gemfireConfiguration, never()).getSessionRegionDiskStoreName();
+		verify(this.gemfireConfiguration, never()).isSessionRegionDiskSynchronous();
+		verify(this.gemfireConfiguration, never()).getSessionRegionEvictionMaximum();
+		verify(this.gemfireConfiguration, never()).getSessionRegionEvictionPolicyType();
 		verify(this.gemfireConfiguration, never()).getSessionRegionName();
+		verify(this.gemfireConfiguration, never()).isSessionRegionOffHeap();
 		verify(this.gemfireConfiguration, never()).getServerRegionShortcut();
 		verify(this.gemfireConfiguration, never()).getSessionExpirationPolicyBeanName();
 		verify(this.gemfireConfiguration, never()).getSessionSerializerBeanName();
@@ -700,6 +1301,43 @@ public class GemFireHttpSessionConfigurationTests {
 			eq(GemFireHttpSessionConfiguration.SESSION_SERIALIZER_BEAN_ALIAS));
 	}
 
+	@Test
+	public void configureSessionAttributeChunkingAppliesChunkingThreshold() {
+
+		this.gemfireConfiguration.setSessionAttributeChunkingThreshold(65536);
+		this.gemfireConfiguration.configureSessionAttributeChunking();
+
+		assertThat(ChunkedValue.getChunkingThreshold()).isEqualTo(65536);
+	}
+
+	@Test
+	public void configureSessionAttributeCompressionAppliesCompressionCodecAndThreshold() {
+
+		ApplicationContext mockApplicationContext = this.gemfireConfiguration.getApplicationContext();
+
+		when(mockApplicationContext.containsBean(eq("TestCompressionCodec"))).thenReturn(true);
+		when(mockApplicationContext.getBean(eq("TestCompressionCodec"), eq(CompressionCodec.class)))
+			.thenReturn(DeflaterCompressionCodec.INSTANCE);
+
+		this.gemfireConfiguration.setSessionAttributeCompressionCodecBeanName("TestCompressionCodec");
+		this.gemfireConfiguration.setSessionAttributeCompressionThreshold(1024);
+		this.gemfireConfiguration.configureSessionAttributeCompression();
+
+		assertThat(CompressedValue.getCompressionCodec()).isSameAs(DeflaterCompressionCodec.INSTANCE);
+		assertThat(CompressedValue.getCompressionThreshold()).isEqualTo(1024);
+	}
+
+	@Test
+	public void configureSessionAttributeCompressionWithoutCompressionCodecBeanLeavesCompressionDisabled() {
+
+		this.gemfireConfiguration.setSessionAttributeCompressionCodecBeanName("NonExistingCompressionCodec");
+		this.gemfireConfiguration.configureSessionAttributeCompression();
+
+		assertThat(CompressedValue.isCompressionEnabled()).isFalse();
+		assertThat(CompressedValue.getCompressionThreshold())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_ATTRIBUTE_COMPRESSION_THRESHOLD);
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void createsAndInitializesSessionRepositoryBean() {
@@ -719,82 +1357,479 @@ public class GemFireHttpSessionConfigurationTests {
 		assertThat(sessionRepository).isNotNull();
 		assertThat(sessionRepository.getIsDirtyPredicate()).isEqualTo(EqualsDirtyPredicate.INSTANCE);
 		assertThat(sessionRepository.getMaxInactiveIntervalInSeconds()).isEqualTo(120);
+		assertThat(sessionRepository.getNegativeLookupCache().map(NegativeLookupCache::getTimeToLive).orElse(null))
+			.isEqualTo(Duration.ofSeconds(
+				GemFireHttpSessionConfiguration.DEFAULT_NEGATIVE_LOOKUP_CACHE_TIME_TO_LIVE_IN_SECONDS));
+		assertThat(sessionRepository.isOptimisticConcurrencyEnabled()).isFalse();
+		assertThat(sessionRepository.isSaveEmptyNewSessions()).isTrue();
 		assertThat(sessionRepository.getSessionsTemplate()).isSameAs(mockGemfireOperations);
 	}
 
 	@Test
 	@SuppressWarnings("unchecked")
-	public void createsAndInitializesSessionRegionTemplateBean() {
+	public void createsSessionRepositoryBeanWithNegativeLookupCache() {
 
-		GemFireCache mockGemFireCache = mock(GemFireCache.class);
+		Region<Object, Session> mockRegion = mock(Region.class);
 
-		Region<Object, Object> mockRegion = mock(Region.class);
+		GemfireTemplate mockGemfireOperations = mock(GemfireTemplate.class);
 
-		given(mockGemFireCache.getRegion(eq("Example"))).willReturn(mockRegion);
+		doReturn(mockRegion).when(mockGemfireOperations).getRegion();
 
-		this.gemfireConfiguration.setSessionRegionName("Example");
+		this.gemfireConfiguration.setNegativeLookupCacheMaximumSize(100);
+		this.gemfireConfiguration.setNegativeLookupCacheTimeToLiveInSeconds(5);
 
-		GemfireTemplate template = this.gemfireConfiguration.sessionRegionTemplate(mockGemFireCache);
+		GemFireOperationsSessionRepository sessionRepository =
+			this.gemfireConfiguration.sessionRepository(mockGemfireOperations);
 
-		assertThat(this.gemfireConfiguration.getSessionRegionName()).isEqualTo("Example");
-		assertThat(template).isNotNull();
-		assertThat(template.getRegion()).isSameAs(mockRegion);
+		assertThat(sessionRepository).isNotNull();
 
-		verify(mockGemFireCache, times(1)).getRegion(eq("Example"));
+		NegativeLookupCache negativeLookupCache = sessionRepository.getNegativeLookupCache().orElse(null);
+
+		assertThat(negativeLookupCache).isNotNull();
+		assertThat(negativeLookupCache.getMaximumSize()).isEqualTo(100);
+		assertThat(negativeLookupCache.getTimeToLive()).isEqualTo(Duration.ofSeconds(5));
 	}
 
 	@Test
 	@SuppressWarnings("unchecked")
-	public void createsAndInitializesSessionRegionBean() {
+	public void createsSessionRepositoryBeanWithoutNegativeLookupCacheWhenDisabled() {
 
-		GemFireCache mockGemFireCache = mock(GemFireCache.class);
+		Region<Object, Session> mockRegion = mock(Region.class);
 
-		RegionAttributes<Object, Session> mockRegionAttributes = mock(RegionAttributes.class);
+		GemfireTemplate mockGemfireOperations = mock(GemfireTemplate.class);
 
-		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
-		this.gemfireConfiguration.setPoolName("TestPool");
-		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION_REDUNDANT);
-		this.gemfireConfiguration.setSessionRegionName("TestRegion");
+		doReturn(mockRegion).when(mockGemfireOperations).getRegion();
 
-		SessionCacheTypeAwareRegionFactoryBean<Object, Session> sessionRegionFactoryBean =
-			this.gemfireConfiguration.sessionRegion(mockGemFireCache, mockRegionAttributes);
+		this.gemfireConfiguration.setNegativeLookupCacheTimeToLiveInSeconds(0);
 
-		assertThat(sessionRegionFactoryBean).isNotNull();
-		assertThat(sessionRegionFactoryBean.getClientRegionShortcut()).isEqualTo(ClientRegionShortcut.CACHING_PROXY);
-		assertThat(sessionRegionFactoryBean.getCache()).isEqualTo(mockGemFireCache);
-		assertThat(this.<String>getField(sessionRegionFactoryBean, "poolName")).isEqualTo("TestPool");
-		assertThat(this.<RegionAttributes<Object, Session>>getField(sessionRegionFactoryBean,
-			"regionAttributes")).isEqualTo(mockRegionAttributes);
-		assertThat(this.<String>getField(sessionRegionFactoryBean, "regionName")).isEqualTo("TestRegion");
-		assertThat(sessionRegionFactoryBean.getServerRegionShortcut()).isEqualTo(RegionShortcut.PARTITION_REDUNDANT);
+		GemFireOperationsSessionRepository sessionRepository =
+			this.gemfireConfiguration.sessionRepository(mockGemfireOperations);
 
-		verifyZeroInteractions(mockGemFireCache);
-		verifyZeroInteractions(mockRegionAttributes);
+		assertThat(sessionRepository).isNotNull();
+		assertThat(sessionRepository.getNegativeLookupCache().isPresent()).isFalse();
 	}
 
 	@Test
 	@SuppressWarnings("unchecked")
-	public void createsAndInitializesSessionRegionAttributesWithExpiration() throws Exception {
+	public void createsSessionRepositoryBeanWithSessionTieringEnabled() {
 
-		Cache mockCache = mock(Cache.class);
+		Region<Object, Session> mockRegion = mock(Region.class);
 
-		this.gemfireConfiguration.setMaxInactiveIntervalInSeconds(300);
-		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.LOCAL);
+		GemfireTemplate mockGemfireOperations = mock(GemfireTemplate.class);
 
-		RegionAttributesFactoryBean regionAttributesFactory =
-			this.gemfireConfiguration.sessionRegionAttributes(mockCache);
+		doReturn(mockRegion).when(mockGemfireOperations).getRegion();
 
-		assertThat(regionAttributesFactory).isNotNull();
+		this.gemfireConfiguration.setDemotionIdleTimeoutSeconds(600);
 
-		regionAttributesFactory.afterPropertiesSet();
+		GemFireOperationsSessionRepository sessionRepository =
+			this.gemfireConfiguration.sessionRepository(mockGemfireOperations);
 
-		RegionAttributes<Object, Session> sessionRegionAttributes = regionAttributesFactory.getObject();
+		assertThat(sessionRepository).isNotNull();
+		assertThat(sessionRepository.isSessionTieringEnabled()).isTrue();
+	}
 
-		assertThat(sessionRegionAttributes).isNotNull();
-		assertThat(sessionRegionAttributes.getKeyConstraint())
-			.isEqualTo(GemFireHttpSessionConfiguration.SESSION_REGION_KEY_CONSTRAINT);
-		assertThat(sessionRegionAttributes.getValueConstraint())
-			.isEqualTo(GemFireHttpSessionConfiguration.SESSION_REGION_VALUE_CONSTRAINT);
+	@Test
+	public void createsSessionTieringManagerBean() {
+
+		this.gemfireConfiguration.setDemotionIdleTimeoutSeconds(600);
+
+		SessionTieringManager sessionTieringManager =
+			this.gemfireConfiguration.sessionTieringManager(mock(Cache.class));
+
+		assertThat(sessionTieringManager).isNotNull();
+		assertThat(sessionTieringManager.getIdleTimeout()).isEqualTo(Duration.ofSeconds(600));
+		assertThat(sessionTieringManager.getDemotionInterval()).isEqualTo(Duration.ofMinutes(1));
+	}
+
+	@Test
+	public void createsDisabledInvalidatedSessionReaperBeanByDefault() {
+
+		InvalidatedSessionReaper invalidatedSessionReaper =
+			this.gemfireConfiguration.invalidatedSessionReaper(mock(Cache.class));
+
+		assertThat(invalidatedSessionReaper).isNotNull();
+		assertThat(invalidatedSessionReaper.isEnabled()).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsInvalidatedSessionReaperBean() {
+
+		Cache mockCache = mock(Cache.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		when(mockCache.getRegion(eq(GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_NAME)))
+			.thenReturn(mockRegion);
+
+		this.gemfireConfiguration.setInvalidatedSessionReapBatchSize(500);
+		this.gemfireConfiguration.setInvalidatedSessionReapIntervalSeconds(120);
+
+		InvalidatedSessionReaper invalidatedSessionReaper = this.gemfireConfiguration.invalidatedSessionReaper(mockCache);
+
+		assertThat(invalidatedSessionReaper).isNotNull();
+		assertThat(invalidatedSessionReaper.getBatchSize()).isEqualTo(500);
+		assertThat(invalidatedSessionReaper.getReapInterval()).isEqualTo(Duration.ofSeconds(120));
+		assertThat(invalidatedSessionReaper.isEnabled()).isTrue();
+	}
+
+	@Test
+	public void createsTimingWheelSessionExpirerBean() {
+
+		this.gemfireConfiguration.setTimingWheelExpirationEnabled(true);
+
+		TimingWheelSessionExpirer timingWheelSessionExpirer =
+			this.gemfireConfiguration.timingWheelSessionExpirer(mock(Cache.class));
+
+		assertThat(timingWheelSessionExpirer).isNotNull();
+		assertThat(timingWheelSessionExpirer.isEnabled()).isFalse();
+	}
+
+	@Test
+	public void createsSessionFunctionRegistrarBean() {
+
+		SessionFunctionRegistrar sessionFunctionRegistrar =
+			this.gemfireConfiguration.sessionFunctionRegistrar(mock(Cache.class));
+
+		assertThat(sessionFunctionRegistrar).isNotNull();
+		assertThat(sessionFunctionRegistrar.getFunctions()).hasSize(5);
+		assertThat(sessionFunctionRegistrar.getFunctions().get(0)).isInstanceOf(ConditionalSaveSessionFunction.class);
+		assertThat(sessionFunctionRegistrar.getFunctions().get(1)).isInstanceOf(FindSessionsByPrincipalNameFunction.class);
+		assertThat(sessionFunctionRegistrar.getFunctions().get(2)).isInstanceOf(SessionAttributeOperationFunction.class);
+		assertThat(sessionFunctionRegistrar.getFunctions().get(3))
+			.isInstanceOf(ExpireSessionsByCreationTimeFunction.class);
+		assertThat(sessionFunctionRegistrar.getFunctions().get(4))
+			.isInstanceOf(DestroyInvalidatedSessionsFunction.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesSessionRegionTemplateBean() {
+
+		GemFireCache mockGemFireCache = mock(GemFireCache.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		given(mockGemFireCache.getRegion(eq("Example"))).willReturn(mockRegion);
+
+		this.gemfireConfiguration.setSessionRegionName("Example");
+
+		GemfireTemplate template = this.gemfireConfiguration.sessionRegionTemplate(mockGemFireCache);
+
+		assertThat(this.gemfireConfiguration.getSessionRegionName()).isEqualTo("Example");
+		assertThat(template).isNotNull();
+		assertThat(template.getRegion()).isSameAs(mockRegion);
+
+		verify(mockGemFireCache, times(1)).getRegion(eq("Example"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesSessionRegionBean() {
+
+		GemFireCache mockGemFireCache = mock(GemFireCache.class);
+
+		RegionAttributes<Object, Session> mockRegionAttributes = mock(RegionAttributes.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+		this.gemfireConfiguration.setPoolName("TestPool");
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION_REDUNDANT);
+		this.gemfireConfiguration.setSessionRegionName("TestRegion");
+
+		SessionCacheTypeAwareRegionFactoryBean<Object, Session> sessionRegionFactoryBean =
+			this.gemfireConfiguration.sessionRegion(mockGemFireCache, mockRegionAttributes);
+
+		assertThat(sessionRegionFactoryBean).isNotNull();
+		assertThat(sessionRegionFactoryBean.getClientRegionShortcut()).isEqualTo(ClientRegionShortcut.CACHING_PROXY);
+		assertThat(sessionRegionFactoryBean.getCache()).isEqualTo(mockGemFireCache);
+		assertThat(this.<String>getField(sessionRegionFactoryBean, "poolName")).isEqualTo("TestPool");
+		assertThat(this.<RegionAttributes<Object, Session>>getField(sessionRegionFactoryBean,
+			"regionAttributes")).isEqualTo(mockRegionAttributes);
+		assertThat(this.<String>getField(sessionRegionFactoryBean, "regionName")).isEqualTo("TestRegion");
+		assertThat(sessionRegionFactoryBean.getServerRegionShortcut()).isEqualTo(RegionShortcut.PARTITION_REDUNDANT);
+
+		verifyZeroInteractions(mockGemFireCache);
+		verifyZeroInteractions(mockRegionAttributes);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesSessionRegionBeanWithCompressionAndOffHeap() {
+
+		ApplicationContext mockApplicationContext = mock(ApplicationContext.class);
+
+		Cache mockCache = mock(Cache.class);
+
+		Compressor mockCompressor = mock(Compressor.class);
+
+		RegionAttributes<Object, Session> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockApplicationContext.containsBean(eq("TestCompressor"))).thenReturn(true);
+		when(mockApplicationContext.getBean(eq("TestCompressor"), eq(Compressor.class))).thenReturn(mockCompressor);
+
+		this.gemfireConfiguration.setApplicationContext(mockApplicationContext);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+		this.gemfireConfiguration.setSessionRegionCompressorBeanName("TestCompressor");
+		this.gemfireConfiguration.setSessionRegionOffHeap(true);
+
+		SessionCacheTypeAwareRegionFactoryBean<Object, Session> sessionRegionFactoryBean =
+			this.gemfireConfiguration.sessionRegion(mockCache, mockRegionAttributes);
+
+		assertThat(sessionRegionFactoryBean).isNotNull();
+		assertThat(this.<Compressor>getField(sessionRegionFactoryBean, "compressor")).isSameAs(mockCompressor);
+		assertThat(this.<Boolean>getField(sessionRegionFactoryBean, "offHeap")).isTrue();
+
+		verify(mockApplicationContext, times(1)).getBean(eq("TestCompressor"), eq(Compressor.class));
+		verifyZeroInteractions(mockCache);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesSessionRegionBeanWithMissingCompressorBean() {
+
+		ApplicationContext mockApplicationContext = mock(ApplicationContext.class);
+
+		when(mockApplicationContext.containsBean(anyString())).thenReturn(false);
+
+		this.gemfireConfiguration.setApplicationContext(mockApplicationContext);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+		this.gemfireConfiguration.setSessionRegionCompressorBeanName("NonExistingCompressor");
+
+		SessionCacheTypeAwareRegionFactoryBean<Object, Session> sessionRegionFactoryBean =
+			this.gemfireConfiguration.sessionRegion(mock(Cache.class), mock(RegionAttributes.class));
+
+		assertThat(sessionRegionFactoryBean).isNotNull();
+		assertThat(this.<Compressor>getField(sessionRegionFactoryBean, "compressor")).isNull();
+		assertThat(this.<Boolean>getField(sessionRegionFactoryBean, "offHeap")).isFalse();
+
+		verify(mockApplicationContext, never()).getBean(anyString(), eq(Compressor.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesProxySessionRegionBeanWithoutCompressionAndOffHeap() {
+
+		ApplicationContext mockApplicationContext = mock(ApplicationContext.class);
+
+		this.gemfireConfiguration.setApplicationContext(mockApplicationContext);
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.PROXY);
+		this.gemfireConfiguration.setSessionRegionCompressorBeanName("TestCompressor");
+		this.gemfireConfiguration.setSessionRegionOffHeap(true);
+
+		SessionCacheTypeAwareRegionFactoryBean<Object, Session> sessionRegionFactoryBean =
+			this.gemfireConfiguration.sessionRegion(mock(ClientCache.class), mock(RegionAttributes.class));
+
+		assertThat(sessionRegionFactoryBean).isNotNull();
+		assertThat(this.<Compressor>getField(sessionRegionFactoryBean, "compressor")).isNull();
+		assertThat(this.<Boolean>getField(sessionRegionFactoryBean, "offHeap")).isFalse();
+
+		verify(mockApplicationContext, never()).containsBean(anyString());
+		verify(mockApplicationContext, never()).getBean(anyString(), eq(Compressor.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesSessionRegionBeanWithDiskStore() {
+
+		ApplicationContext mockApplicationContext = mock(ApplicationContext.class);
+
+		Cache mockCache = mock(Cache.class);
+
+		DiskStore mockDiskStore = mock(DiskStore.class);
+
+		when(mockApplicationContext.containsBean(eq("TestDiskStore"))).thenReturn(true);
+		when(mockApplicationContext.getBean(eq("TestDiskStore"), eq(DiskStore.class))).thenReturn(mockDiskStore);
+
+		this.gemfireConfiguration.setApplicationContext(mockApplicationContext);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+		this.gemfireConfiguration.setSessionRegionDiskStoreName("TestDiskStore");
+		this.gemfireConfiguration.setSessionRegionEvictionMaximum(1000);
+		this.gemfireConfiguration.setSessionRegionEvictionPolicyType(EvictionPolicyType.ENTRY_COUNT);
+
+		SessionCacheTypeAwareRegionFactoryBean<Object, Session> sessionRegionFactoryBean =
+			this.gemfireConfiguration.sessionRegion(mockCache, mock(RegionAttributes.class));
+
+		assertThat(sessionRegionFactoryBean).isNotNull();
+		assertThat(this.<String>getField(sessionRegionFactoryBean, "diskStoreName")).isEqualTo("TestDiskStore");
+
+		verify(mockApplicationContext, times(1)).getBean(eq("TestDiskStore"), eq(DiskStore.class));
+		verifyZeroInteractions(mockCache);
+		verifyZeroInteractions(mockDiskStore);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesSessionRegionBeanWithUndeclaredDiskStore() {
+
+		ApplicationContext mockApplicationContext = mock(ApplicationContext.class);
+
+		when(mockApplicationContext.containsBean(anyString())).thenReturn(false);
+
+		this.gemfireConfiguration.setApplicationContext(mockApplicationContext);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+		this.gemfireConfiguration.setSessionRegionDiskStoreName("TestDiskStore");
+
+		SessionCacheTypeAwareRegionFactoryBean<Object, Session> sessionRegionFactoryBean =
+			this.gemfireConfiguration.sessionRegion(mock(Cache.class), mock(RegionAttributes.class));
+
+		assertThat(this.<String>getField(sessionRegionFactoryBean, "diskStoreName")).isEqualTo("TestDiskStore");
+
+		verify(mockApplicationContext, never()).getBean(anyString(), eq(DiskStore.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesSessionRegionBeanWithEvictionHeapPercentageLeavesResourceManagerUnchanged() {
+
+		Cache mockCache = mock(Cache.class);
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+		this.gemfireConfiguration.setSessionRegionEvictionMaximum(75);
+		this.gemfireConfiguration.setSessionRegionEvictionPolicyType(EvictionPolicyType.HEAP_PERCENTAGE);
+
+		SessionCacheTypeAwareRegionFactoryBean<Object, Session> sessionRegionFactoryBean =
+			this.gemfireConfiguration.sessionRegion(mockCache, mock(RegionAttributes.class));
+
+		assertThat(sessionRegionFactoryBean).isNotNull();
+		assertThat(this.<String>getField(sessionRegionFactoryBean, "diskStoreName")).isNull();
+
+		verify(mockCache, never()).getResourceManager();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesProxySessionRegionBeanWithoutDiskStoreAndEvictionHeapPercentage() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.PROXY);
+		this.gemfireConfiguration.setSessionRegionDiskStoreName("TestDiskStore");
+		this.gemfireConfiguration.setSessionRegionEvictionMaximum(75);
+		this.gemfireConfiguration.setSessionRegionEvictionPolicyType(EvictionPolicyType.HEAP_PERCENTAGE);
+
+		SessionCacheTypeAwareRegionFactoryBean<Object, Session> sessionRegionFactoryBean =
+			this.gemfireConfiguration.sessionRegion(mockClientCache, mock(RegionAttributes.class));
+
+		assertThat(this.<String>getField(sessionRegionFactoryBean, "diskStoreName")).isNull();
+
+		verify(mockClientCache, never()).getResourceManager();
+	}
+
+	@Test
+	public void createsAndInitializesSessionRegionAttributesWithEntryCountEvictionOverflowingToDisk() throws Exception {
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+		this.gemfireConfiguration.setSessionRegionEvictionMaximum(1000);
+		this.gemfireConfiguration.setSessionRegionEvictionPolicyType(EvictionPolicyType.ENTRY_COUNT);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mock(Cache.class));
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		EvictionAttributes evictionAttributes = regionAttributesFactory.getObject().getEvictionAttributes();
+
+		assertThat(evictionAttributes).isNotNull();
+		assertThat(evictionAttributes.getAction()).isEqualTo(EvictionAction.OVERFLOW_TO_DISK);
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionAlgorithm.LRU_ENTRY);
+		assertThat(evictionAttributes.getMaximum()).isEqualTo(1000);
+	}
+
+	@Test
+	public void createsAndInitializesSessionRegionAttributesWithHeapPercentageEvictionOverflowingToDisk()
+			throws Exception {
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+		this.gemfireConfiguration.setSessionRegionEvictionMaximum(75);
+		this.gemfireConfiguration.setSessionRegionEvictionPolicyType(EvictionPolicyType.HEAP_PERCENTAGE);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mock(Cache.class));
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		EvictionAttributes evictionAttributes = regionAttributesFactory.getObject().getEvictionAttributes();
+
+		assertThat(evictionAttributes).isNotNull();
+		assertThat(evictionAttributes.getAction()).isEqualTo(EvictionAction.OVERFLOW_TO_DISK);
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionAlgorithm.LRU_HEAP);
+		assertThat(evictionAttributes.getObjectSizer()).isSameAs(SessionObjectSizer.INSTANCE);
+	}
+
+	@Test
+	public void createsAndInitializesSessionRegionAttributesWithMemorySizeEvictionUsingDefaultMaximum()
+			throws Exception {
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+		this.gemfireConfiguration.setSessionRegionEvictionPolicyType(EvictionPolicyType.MEMORY_SIZE);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mock(Cache.class));
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		EvictionAttributes evictionAttributes = regionAttributesFactory.getObject().getEvictionAttributes();
+
+		assertThat(evictionAttributes).isNotNull();
+		assertThat(evictionAttributes.getAction()).isEqualTo(EvictionAction.OVERFLOW_TO_DISK);
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionAlgorithm.LRU_MEMORY);
+		assertThat(evictionAttributes.getObjectSizer()).isSameAs(SessionObjectSizer.INSTANCE);
+	}
+
+	@Test
+	public void createsAndInitializesSessionRegionAttributesWithoutEviction() throws Exception {
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mock(Cache.class));
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		EvictionAttributes evictionAttributes = regionAttributesFactory.getObject().getEvictionAttributes();
+
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionAlgorithm.NONE);
+	}
+
+	@Test
+	public void createsAndInitializesProxySessionRegionAttributesWithoutEviction() throws Exception {
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.PROXY);
+		this.gemfireConfiguration.setSessionRegionEvictionPolicyType(EvictionPolicyType.ENTRY_COUNT);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mock(ClientCache.class));
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		EvictionAttributes evictionAttributes = regionAttributesFactory.getObject().getEvictionAttributes();
+
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionAlgorithm.NONE);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesSessionRegionAttributesWithExpiration() throws Exception {
+
+		Cache mockCache = mock(Cache.class);
+
+		this.gemfireConfiguration.setMaxInactiveIntervalInSeconds(300);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.LOCAL);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mockCache);
+
+		assertThat(regionAttributesFactory).isNotNull();
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		RegionAttributes<Object, Session> sessionRegionAttributes = regionAttributesFactory.getObject();
+
+		assertThat(sessionRegionAttributes).isNotNull();
+		assertThat(sessionRegionAttributes.getKeyConstraint())
+			.isEqualTo(GemFireHttpSessionConfiguration.SESSION_REGION_KEY_CONSTRAINT);
+		assertThat(sessionRegionAttributes.getValueConstraint())
+			.isEqualTo(GemFireHttpSessionConfiguration.SESSION_REGION_VALUE_CONSTRAINT);
 
 		ExpirationAttributes entryIdleTimeoutExpiration = sessionRegionAttributes.getEntryIdleTimeout();
 
@@ -833,6 +1868,103 @@ public class GemFireHttpSessionConfigurationTests {
 		assertThat(entryIdleTimeoutExpiration.getTimeout()).isEqualTo(0);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesClientSessionRegionAttributesWithTimingWheelExpiration() throws Exception {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+		this.gemfireConfiguration.setMaxInactiveIntervalInSeconds(300);
+		this.gemfireConfiguration.setTimingWheelExpirationEnabled(true);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mockClientCache);
+
+		assertThat(regionAttributesFactory).isNotNull();
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		RegionAttributes<Object, Session> sessionRegionAttributes = regionAttributesFactory.getObject();
+
+		assertThat(sessionRegionAttributes).isNotNull();
+		assertThat(sessionRegionAttributes.getStatisticsEnabled()).isFalse();
+		assertThat(sessionRegionAttributes.getCustomEntryIdleTimeout()).isNull();
+
+		ExpirationAttributes entryIdleTimeoutExpiration = sessionRegionAttributes.getEntryIdleTimeout();
+
+		assertThat(entryIdleTimeoutExpiration).isNotNull();
+		assertThat(entryIdleTimeoutExpiration.getTimeout()).isEqualTo(0);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsAndInitializesPersistentSessionRegionAttributesWithAsynchronousDiskWrites() throws Exception {
+
+		this.gemfireConfiguration.setMaxInactiveIntervalInSeconds(300);
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION_PERSISTENT);
+		this.gemfireConfiguration.setSessionRegionDiskSynchronous(false);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mock(Cache.class));
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		RegionAttributes<Object, Session> sessionRegionAttributes = regionAttributesFactory.getObject();
+
+		assertThat(sessionRegionAttributes.isDiskSynchronous()).isFalse();
+		assertThat(sessionRegionAttributes.getEntryIdleTimeout().getTimeout()).isEqualTo(300);
+	}
+
+	@Test
+	public void createsAndInitializesSessionRegionAttributesRoutingSessionsByPrincipal() throws Exception {
+
+		this.gemfireConfiguration.setPrincipalRoutingEnabled(true);
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mock(Cache.class));
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		PartitionAttributes<?, ?> partitionAttributes = regionAttributesFactory.getObject().getPartitionAttributes();
+
+		assertThat(partitionAttributes).isNotNull();
+		assertThat(partitionAttributes.getPartitionResolver()).isInstanceOf(PrincipalRoutingPartitionResolver.class);
+	}
+
+	@Test
+	public void principalRoutingIsConfiguredForPeerPartitionRegions() {
+
+		Cache mockCache = mock(Cache.class);
+
+		assertThat(this.gemfireConfiguration.isPrincipalRoutingConfigured(mockCache)).isFalse();
+
+		this.gemfireConfiguration.setPrincipalRoutingEnabled(true);
+
+		Arrays.stream(RegionShortcut.values()).forEach(shortcut -> {
+
+			this.gemfireConfiguration.setServerRegionShortcut(shortcut);
+
+			assertThat(this.gemfireConfiguration.isPrincipalRoutingConfigured(mockCache))
+				.isEqualTo(shortcut.isPartition());
+		});
+	}
+
+	@Test
+	public void principalRoutingIsNotConfiguredForClientRegions() throws Exception {
+
+		this.gemfireConfiguration.setPrincipalRoutingEnabled(true);
+
+		assertThat(this.gemfireConfiguration.isPrincipalRoutingConfigured(mock(ClientCache.class))).isFalse();
+
+		RegionAttributesFactoryBean regionAttributesFactory =
+			this.gemfireConfiguration.sessionRegionAttributes(mock(ClientCache.class));
+
+		regionAttributesFactory.afterPropertiesSet();
+
+		assertThat(regionAttributesFactory.getObject().getPartitionAttributes()).isNull();
+	}
+
 	@Test
 	public void clientExpirationIsAllowed() {
 
@@ -865,6 +1997,40 @@ public class GemFireHttpSessionConfigurationTests {
 		assertThat(this.gemfireConfiguration.isExpirationAllowed(mockCache)).isTrue();
 	}
 
+	@Test
+	public void timingWheelExpirationIsConfiguredOnClientStoringSessionsLocally() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.LOCAL);
+		this.gemfireConfiguration.setTimingWheelExpirationEnabled(true);
+
+		assertThat(this.gemfireConfiguration.isTimingWheelExpirationConfigured(mockClientCache)).isTrue();
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+
+		assertThat(this.gemfireConfiguration.isTimingWheelExpirationConfigured(mockClientCache)).isTrue();
+	}
+
+	@Test
+	public void timingWheelExpirationIsNotConfigured() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.CACHING_PROXY);
+
+		assertThat(this.gemfireConfiguration.isTimingWheelExpirationConfigured(mockClientCache)).isFalse();
+
+		this.gemfireConfiguration.setTimingWheelExpirationEnabled(true);
+		this.gemfireConfiguration.setClientRegionShortcut(ClientRegionShortcut.PROXY);
+
+		assertThat(this.gemfireConfiguration.isTimingWheelExpirationConfigured(mockClientCache)).isFalse();
+
+		this.gemfireConfiguration.setServerRegionShortcut(RegionShortcut.PARTITION);
+
+		assertThat(this.gemfireConfiguration.isTimingWheelExpirationConfigured(mock(Cache.class))).isFalse();
+	}
+
 	@Test
 	public void clientExpirationIsNotAllowed() {
 
@@ -29,6 +29,7 @@ import org.junit.Test;
 import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.client.ClientRegionShortcut;
 
+import org.springframework.data.gemfire.eviction.EvictionPolicyType;
 import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
 
 /**
@@ -55,21 +56,106 @@ public class SpringSessionGemFireConfigurerUnitTests {
 				return new String[] { "fieldOne", "fieldTwo" };
 			}
 
+			@Override
+			public int getInvalidatedSessionReapBatchSize() {
+				return 500;
+			}
+
+			@Override
+			public int getInvalidatedSessionReapIntervalSeconds() {
+				return 120;
+			}
+
 			@Override
 			public int getMaxInactiveIntervalInSeconds() {
 				return 300;
 			}
 
+			@Override
+			public int getAttributeChunkingThreshold() {
+				return 65536;
+			}
+
+			@Override
+			public String getAttributeCompressionCodecBeanName() {
+				return "MockCompressionCodec";
+			}
+
+			@Override
+			public int getAttributeCompressionThreshold() {
+				return 1024;
+			}
+
+			@Override
+			public String getCompressorBeanName() {
+				return "MockCompressor";
+			}
+
+			@Override
+			public int getDemotionIdleTimeoutSeconds() {
+				return 600;
+			}
+
+			@Override
+			public String getDiskStoreName() {
+				return "MockDiskStore";
+			}
+
+			@Override
+			public boolean getDiskSynchronous() {
+				return false;
+			}
+
+			@Override
+			public int getEvictionMaximum() {
+				return 1000;
+			}
+
+			@Override
+			public EvictionPolicyType getEvictionPolicyType() {
+				return EvictionPolicyType.ENTRY_COUNT;
+			}
+
+			@Override
+			public int getNegativeLookupCacheMaximumSize() {
+				return 100;
+			}
+
+			@Override
+			public int getNegativeLookupCacheTimeToLiveInSeconds() {
+				return 5;
+			}
+
+			@Override
+			public boolean getOffHeap() {
+				return true;
+			}
+
+			@Override
+			public boolean getOptimisticConcurrencyEnabled() {
+				return true;
+			}
+
 			@Override
 			public String getPoolName() {
 				return "MockPool";
 			}
 
+			@Override
+			public boolean getPrincipalRoutingEnabled() {
+				return true;
+			}
+
 			@Override
 			public String getRegionName() {
 				return "MockRegion";
 			}
 
+			@Override
+			public boolean getSaveEmptyNewSessions() {
+				return false;
+			}
+
 			@Override
 			public RegionShortcut getServerRegionShortcut() {
 				return RegionShortcut.REPLICATE;
@@ -84,6 +170,11 @@ public class SpringSessionGemFireConfigurerUnitTests {
 			public String getSessionSerializerBeanName() {
 				return "MockSerializer";
 			}
+
+			@Override
+			public boolean getTimingWheelExpirationEnabled() {
+				return true;
+			}
 		};
 	}
 
@@ -136,14 +227,32 @@ public class SpringSessionGemFireConfigurerUnitTests {
 		SpringSessionGemFireConfigurer testConfigurer = newTestConfigurerWithAllOverrides();
 
 		assertThat(testConfigurer).isNotNull();
+		assertThat(testConfigurer.getAttributeChunkingThreshold()).isEqualTo(65536);
+		assertThat(testConfigurer.getAttributeCompressionCodecBeanName()).isEqualTo("MockCompressionCodec");
+		assertThat(testConfigurer.getAttributeCompressionThreshold()).isEqualTo(1024);
 		assertThat(testConfigurer.getClientRegionShortcut()).isEqualTo(ClientRegionShortcut.LOCAL);
+		assertThat(testConfigurer.getCompressorBeanName()).isEqualTo("MockCompressor");
+		assertThat(testConfigurer.getDemotionIdleTimeoutSeconds()).isEqualTo(600);
+		assertThat(testConfigurer.getDiskStoreName()).isEqualTo("MockDiskStore");
+		assertThat(testConfigurer.getDiskSynchronous()).isFalse();
+		assertThat(testConfigurer.getEvictionMaximum()).isEqualTo(1000);
+		assertThat(testConfigurer.getEvictionPolicyType()).isEqualTo(EvictionPolicyType.ENTRY_COUNT);
 		assertThat(testConfigurer.getIndexableSessionAttributes()).containsExactly("fieldOne", "fieldTwo");
+		assertThat(testConfigurer.getInvalidatedSessionReapBatchSize()).isEqualTo(500);
+		assertThat(testConfigurer.getInvalidatedSessionReapIntervalSeconds()).isEqualTo(120);
 		assertThat(testConfigurer.getMaxInactiveIntervalInSeconds()).isEqualTo(300);
+		assertThat(testConfigurer.getNegativeLookupCacheMaximumSize()).isEqualTo(100);
+		assertThat(testConfigurer.getNegativeLookupCacheTimeToLiveInSeconds()).isEqualTo(5);
+		assertThat(testConfigurer.getOffHeap()).isTrue();
+		assertThat(testConfigurer.getOptimisticConcurrencyEnabled()).isTrue();
 		assertThat(testConfigurer.getPoolName()).isEqualTo("MockPool");
+		assertThat(testConfigurer.getPrincipalRoutingEnabled()).isTrue();
 		assertThat(testConfigurer.getRegionName()).isEqualTo("MockRegion");
+		assertThat(testConfigurer.getSaveEmptyNewSessions()).isFalse();
 		assertThat(testConfigurer.getServerRegionShortcut()).isEqualTo(RegionShortcut.REPLICATE);
 		assertThat(testConfigurer.getSessionExpirationPolicyBeanName()).isEqualTo("MockExpirationPolicy");
 		assertThat(testConfigurer.getSessionSerializerBeanName()).isEqualTo("MockSerializer");
+		assertThat(testConfigurer.getTimingWheelExpirationEnabled()).isTrue();
 
 		Method[] declaredMethods = filterDeclaredMethods(testConfigurer.getClass().getDeclaredMethods());
 
@@ -151,12 +260,18 @@ public class SpringSessionGemFireConfigurerUnitTests {
 			Arrays.stream(declaredMethods).map(Method::getName).sorted().collect(Collectors.toList());
 
 		assertThat(declaredMethods).isNotNull();
-		assertThat(declaredMethods).hasSize(8);
+		assertThat(declaredMethods).hasSize(26);
 
 		assertThat(declaredMethodNames)
-			.containsExactly("getClientRegionShortcut", "getIndexableSessionAttributes",
-				"getMaxInactiveIntervalInSeconds", "getPoolName", "getRegionName", "getServerRegionShortcut",
-				"getSessionExpirationPolicyBeanName", "getSessionSerializerBeanName");
+			.containsExactly("getAttributeChunkingThreshold", "getAttributeCompressionCodecBeanName",
+				"getAttributeCompressionThreshold",
+				"getClientRegionShortcut", "getCompressorBeanName",
+				"getDemotionIdleTimeoutSeconds", "getDiskStoreName", "getDiskSynchronous", "getEvictionMaximum", "getEvictionPolicyType", "getIndexableSessionAttributes",
+				"getInvalidatedSessionReapBatchSize", "getInvalidatedSessionReapIntervalSeconds",
+				"getMaxInactiveIntervalInSeconds", "getNegativeLookupCacheMaximumSize",
+				"getNegativeLookupCacheTimeToLiveInSeconds", "getOffHeap", "getOptimisticConcurrencyEnabled", "getPoolName",
+				"getPrincipalRoutingEnabled", "getRegionName", "getSaveEmptyNewSessions", "getServerRegionShortcut",
+				"getSessionExpirationPolicyBeanName", "getSessionSerializerBeanName", "getTimingWheelExpirationEnabled");
 	}
 
 	@Test
@@ -165,22 +280,58 @@ public class SpringSessionGemFireConfigurerUnitTests {
 		SpringSessionGemFireConfigurer testConfigurer = newTestConfigurerWithNoOverrides();
 
 		assertThat(testConfigurer).isNotNull();
+		assertThat(testConfigurer.getAttributeChunkingThreshold())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_ATTRIBUTE_CHUNKING_THRESHOLD);
+		assertThat(testConfigurer.getAttributeCompressionCodecBeanName())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_ATTRIBUTE_COMPRESSION_CODEC_BEAN_NAME);
+		assertThat(testConfigurer.getAttributeCompressionThreshold())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_ATTRIBUTE_COMPRESSION_THRESHOLD);
 		assertThat(testConfigurer.getClientRegionShortcut())
 			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_CLIENT_REGION_SHORTCUT);
+		assertThat(testConfigurer.getCompressorBeanName())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_COMPRESSOR_BEAN_NAME);
+		assertThat(testConfigurer.getDemotionIdleTimeoutSeconds())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_DEMOTION_IDLE_TIMEOUT_SECONDS);
+		assertThat(testConfigurer.getDiskStoreName())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_DISK_STORE_NAME);
+		assertThat(testConfigurer.getDiskSynchronous())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_DISK_SYNCHRONOUS);
+		assertThat(testConfigurer.getEvictionMaximum())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_EVICTION_MAXIMUM);
+		assertThat(testConfigurer.getEvictionPolicyType())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_EVICTION_POLICY_TYPE);
 		assertThat(testConfigurer.getIndexableSessionAttributes())
 			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_INDEXABLE_SESSION_ATTRIBUTES);
+		assertThat(testConfigurer.getInvalidatedSessionReapBatchSize())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_INVALIDATED_SESSION_REAP_BATCH_SIZE);
+		assertThat(testConfigurer.getInvalidatedSessionReapIntervalSeconds())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_INVALIDATED_SESSION_REAP_INTERVAL_SECONDS);
 		assertThat(testConfigurer.getMaxInactiveIntervalInSeconds())
 			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_MAX_INACTIVE_INTERVAL_IN_SECONDS);
+		assertThat(testConfigurer.getNegativeLookupCacheMaximumSize())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_NEGATIVE_LOOKUP_CACHE_MAXIMUM_SIZE);
+		assertThat(testConfigurer.getNegativeLookupCacheTimeToLiveInSeconds())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_NEGATIVE_LOOKUP_CACHE_TIME_TO_LIVE_IN_SECONDS);
+		assertThat(testConfigurer.getOffHeap())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_OFF_HEAP);
+		assertThat(testConfigurer.getOptimisticConcurrencyEnabled())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_OPTIMISTIC_CONCURRENCY_ENABLED);
 		assertThat(testConfigurer.getPoolName())
 			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_POOL_NAME);
+		assertThat(testConfigurer.getPrincipalRoutingEnabled())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_PRINCIPAL_ROUTING_ENABLED);
 		assertThat(testConfigurer.getRegionName())
 			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_NAME);
+		assertThat(testConfigurer.getSaveEmptyNewSessions())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SAVE_EMPTY_NEW_SESSIONS);
 		assertThat(testConfigurer.getServerRegionShortcut())
 			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SERVER_REGION_SHORTCUT);
 		assertThat(testConfigurer.getSessionExpirationPolicyBeanName())
 			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_EXPIRATION_POLICY_BEAN_NAME);
 		assertThat(testConfigurer.getSessionSerializerBeanName())
 			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_SESSION_SERIALIZER_BEAN_NAME);
+		assertThat(testConfigurer.getTimingWheelExpirationEnabled())
+			.isEqualTo(GemFireHttpSessionConfiguration.DEFAULT_TIMING_WHEEL_EXPIRATION_ENABLED);
 
 		Method[] declaredMethods = filterDeclaredMethods(testConfigurer.getClass().getDeclaredMethods());
 
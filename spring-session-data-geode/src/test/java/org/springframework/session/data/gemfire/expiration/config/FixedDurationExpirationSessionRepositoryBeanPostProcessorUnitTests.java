@@ -18,14 +18,21 @@ package org.springframework.session.data.gemfire.expiration.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
 import java.time.Duration;
 
 import org.junit.Test;
 
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.session.SessionRepository;
+import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
 import org.springframework.session.data.gemfire.expiration.repository.FixedDurationExpirationSessionRepository;
+import org.springframework.session.data.gemfire.expiration.support.FixedDurationExpirationSessionSweeper;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -94,4 +101,65 @@ public class FixedDurationExpirationSessionRepositoryBeanPostProcessorUnitTests
 		assertThat(this.<SessionRepository<?>>invokeMethod(sessionRepository, "getDelegate"))
 			.isEqualTo(mockSessionRepository);
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void processesGemFireSessionRepositoryBeanStartsSessionSweeper() {
+
+		Duration expirationTimeout = Duration.ofMinutes(30);
+
+		Cache mockCache = mock(Cache.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		when(mockRegion.getFullPath()).thenReturn("/Sessions");
+		when(mockRegion.getRegionService()).thenReturn(mockCache);
+
+		GemFireOperationsSessionRepository mockSessionRepository = mock(GemFireOperationsSessionRepository.class);
+
+		when(mockSessionRepository.getSessionsTemplate()).thenReturn(new GemfireTemplate(mockRegion));
+
+		FixedDurationExpirationSessionRepositoryBeanPostProcessor beanPostProcessor =
+			new FixedDurationExpirationSessionRepositoryBeanPostProcessor(expirationTimeout);
+
+		try {
+			Object sessionRepository =
+				beanPostProcessor.postProcessAfterInitialization(mockSessionRepository, "sessionRepository");
+
+			assertThat(sessionRepository).isInstanceOf(FixedDurationExpirationSessionRepository.class);
+			assertThat(beanPostProcessor.getSessionSweepers()).hasSize(1);
+
+			FixedDurationExpirationSessionSweeper sessionSweeper = beanPostProcessor.getSessionSweepers().get(0);
+
+			assertThat(sessionSweeper.getExpirationTimeout()).isEqualTo(expirationTimeout);
+			assertThat(sessionSweeper.getBatchSize()).isEqualTo(FixedDurationExpirationSessionSweeper.DEFAULT_BATCH_SIZE);
+		}
+		finally {
+			beanPostProcessor.destroy();
+		}
+	}
+
+	@Test
+	public void processesSessionRepositoryBeanWithoutExpirationTimeoutDoesNotStartSessionSweeper() {
+
+		GemFireOperationsSessionRepository mockSessionRepository = mock(GemFireOperationsSessionRepository.class);
+
+		FixedDurationExpirationSessionRepositoryBeanPostProcessor beanPostProcessor =
+			new FixedDurationExpirationSessionRepositoryBeanPostProcessor(null);
+
+		beanPostProcessor.postProcessAfterInitialization(mockSessionRepository, "sessionRepository");
+
+		assertThat(beanPostProcessor.getSessionSweepers()).isEmpty();
+	}
+
+	@Test
+	public void processesNonGemFireSessionRepositoryBeanDoesNotStartSessionSweeper() {
+
+		FixedDurationExpirationSessionRepositoryBeanPostProcessor beanPostProcessor =
+			new FixedDurationExpirationSessionRepositoryBeanPostProcessor(Duration.ofMinutes(30));
+
+		beanPostProcessor.postProcessAfterInitialization(mock(SessionRepository.class), "sessionRepository");
+
+		assertThat(beanPostProcessor.getSessionSweepers()).isEmpty();
+	}
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.expiration.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.client.ClientCache;
+
+/**
+ * Unit tests for {@link FixedDurationExpirationSessionSweeper}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.session.data.gemfire.expiration.support.FixedDurationExpirationSessionSweeper
+ * @since 2.1.3
+ */
+public class FixedDurationExpirationSessionSweeperUnitTests {
+
+	private static final Duration EXPIRATION_TIMEOUT = Duration.ofMinutes(60L);
+
+	private static final String SESSION_REGION_NAME = "Sessions";
+
+	private Cache mockCache;
+
+	private FixedDurationExpirationSessionSweeper sessionSweeper;
+
+	private Region<Object, Object> mockSessionRegion;
+
+	private RegionAttributes<Object, Object> mockRegionAttributes;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.mockCache = mock(Cache.class);
+		this.mockSessionRegion = mock(Region.class);
+		this.mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(this.mockCache.getRegion(eq(SESSION_REGION_NAME))).thenReturn(this.mockSessionRegion);
+		when(this.mockSessionRegion.getAttributes()).thenReturn(this.mockRegionAttributes);
+
+		this.sessionSweeper =
+			spy(new FixedDurationExpirationSessionSweeper(this.mockCache, SESSION_REGION_NAME, EXPIRATION_TIMEOUT));
+	}
+
+	@After
+	public void tearDown() {
+		this.sessionSweeper.destroy();
+	}
+
+	@Test
+	public void constructFixedDurationExpirationSessionSweeper() {
+
+		assertThat(this.sessionSweeper.getBatchSize())
+			.isEqualTo(FixedDurationExpirationSessionSweeper.DEFAULT_BATCH_SIZE);
+		assertThat(this.sessionSweeper.getExpirationTimeout()).isEqualTo(EXPIRATION_TIMEOUT);
+		assertThat(this.sessionSweeper.getSessionRegion()).isSameAs(this.mockSessionRegion);
+		assertThat(this.sessionSweeper.getSweepInterval())
+			.isEqualTo(FixedDurationExpirationSessionSweeper.DEFAULT_SWEEP_INTERVAL);
+		assertThat(this.sessionSweeper.getLastReapedCount()).isZero();
+		assertThat(this.sessionSweeper.getReapedCount()).isZero();
+		assertThat(this.sessionSweeper.getSweepCount()).isZero();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullGemFireCacheThrowsIllegalArgumentException() {
+
+		try {
+			new FixedDurationExpirationSessionSweeper(null, SESSION_REGION_NAME, EXPIRATION_TIMEOUT);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("GemFireCache is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNoSessionRegionNameThrowsIllegalArgumentException() {
+
+		try {
+			new FixedDurationExpirationSessionSweeper(this.mockCache, "  ", EXPIRATION_TIMEOUT);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Session Region name is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithZeroExpirationTimeoutThrowsIllegalArgumentException() {
+
+		try {
+			new FixedDurationExpirationSessionSweeper(this.mockCache, SESSION_REGION_NAME, Duration.ZERO);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Expiration timeout [PT0S] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void setAndGetBatchSize() {
+
+		this.sessionSweeper.setBatchSize(100);
+
+		assertThat(this.sessionSweeper.getBatchSize()).isEqualTo(100);
+
+		this.sessionSweeper.setBatchSize(0);
+
+		assertThat(this.sessionSweeper.getBatchSize())
+			.isEqualTo(FixedDurationExpirationSessionSweeper.DEFAULT_BATCH_SIZE);
+	}
+
+	@Test
+	public void setAndGetSweepInterval() {
+
+		this.sessionSweeper.setSweepInterval(Duration.ofSeconds(5L));
+
+		assertThat(this.sessionSweeper.getSweepInterval()).isEqualTo(Duration.ofSeconds(5L));
+
+		this.sessionSweeper.setSweepInterval(null);
+
+		assertThat(this.sessionSweeper.getSweepInterval())
+			.isEqualTo(FixedDurationExpirationSessionSweeper.DEFAULT_SWEEP_INTERVAL);
+	}
+
+	@Test
+	public void isEnabledOnPeer() {
+		assertThat(this.sessionSweeper.isEnabled()).isTrue();
+	}
+
+	@Test
+	public void isEnabledOnClientWithPool() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		when(mockClientCache.getRegion(eq(SESSION_REGION_NAME))).thenReturn(this.mockSessionRegion);
+		when(this.mockRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+
+		assertThat(new FixedDurationExpirationSessionSweeper(mockClientCache, SESSION_REGION_NAME, EXPIRATION_TIMEOUT)
+			.isEnabled()).isTrue();
+	}
+
+	@Test
+	public void isNotEnabledOnClientWithLocalRegion() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		when(mockClientCache.getRegion(eq(SESSION_REGION_NAME))).thenReturn(this.mockSessionRegion);
+
+		assertThat(new FixedDurationExpirationSessionSweeper(mockClientCache, SESSION_REGION_NAME, EXPIRATION_TIMEOUT)
+			.isEnabled()).isFalse();
+	}
+
+	@Test
+	public void isNotEnabledWhenSessionRegionDoesNotExist() {
+
+		when(this.mockCache.getRegion(eq(SESSION_REGION_NAME))).thenReturn(null);
+
+		assertThat(this.sessionSweeper.isEnabled()).isFalse();
+	}
+
+	@Test
+	public void sweepExecutesFunctionAndRecordsReapedSessions() {
+
+		doReturn(Arrays.asList(2, 3)).when(this.sessionSweeper).execute(any(), anyLong(), anyInt());
+
+		this.sessionSweeper.setBatchSize(100);
+
+		assertThat(this.sessionSweeper.sweep(EXPIRATION_TIMEOUT.toMillis() + 1000L)).isEqualTo(5L);
+
+		verify(this.sessionSweeper).execute(eq(this.mockSessionRegion), eq(1000L), eq(100));
+
+		doReturn(Arrays.asList(1, new RuntimeException("TEST"))).when(this.sessionSweeper)
+			.execute(any(), anyLong(), anyInt());
+
+		assertThat(this.sessionSweeper.sweep()).isEqualTo(1L);
+		assertThat(this.sessionSweeper.getLastReapedCount()).isEqualTo(1L);
+		assertThat(this.sessionSweeper.getReapedCount()).isEqualTo(6L);
+		assertThat(this.sessionSweeper.getSweepCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void sweepWhenNotEnabledDoesNothing() {
+
+		when(this.mockCache.getRegion(eq(SESSION_REGION_NAME))).thenReturn(null);
+
+		assertThat(this.sessionSweeper.sweep()).isZero();
+		assertThat(this.sessionSweeper.getSweepCount()).isZero();
+
+		verify(this.sessionSweeper, never()).execute(any(), anyLong(), anyInt());
+	}
+
+	@Test
+	public void sweepWhenSessionRegionIsDestroyedDoesNothing() {
+
+		when(this.mockSessionRegion.isDestroyed()).thenReturn(true);
+
+		assertThat(this.sessionSweeper.sweep()).isZero();
+		assertThat(this.sessionSweeper.getSweepCount()).isZero();
+
+		verify(this.sessionSweeper, never()).execute(any(), anyLong(), anyInt());
+	}
+}
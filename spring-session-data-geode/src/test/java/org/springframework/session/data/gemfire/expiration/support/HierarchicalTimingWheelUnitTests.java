@@ -0,0 +1,224 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.expiration.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link HierarchicalTimingWheel}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.expiration.support.HierarchicalTimingWheel
+ * @since 2.1.3
+ */
+public class HierarchicalTimingWheelUnitTests {
+
+	private static final Duration TICK = Duration.ofMillis(10L);
+
+	private static final long START_TIME = 1000000L;
+
+	private final HierarchicalTimingWheel<String> timingWheel = new HierarchicalTimingWheel<>(TICK, START_TIME);
+
+	private List<String> advanceTo(long now) {
+		return this.timingWheel.advance(now, Integer.MAX_VALUE);
+	}
+
+	@Test
+	public void constructHierarchicalTimingWheel() {
+
+		assertThat(this.timingWheel.getTick()).isEqualTo(TICK);
+		assertThat(this.timingWheel.getLevels()).isEqualTo(HierarchicalTimingWheel.DEFAULT_LEVELS);
+		assertThat(this.timingWheel.size()).isZero();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithZeroTickThrowsIllegalArgumentException() {
+
+		try {
+			new HierarchicalTimingWheel<>(Duration.ZERO, START_TIME);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Tick must be at least 1 millisecond");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidLevelsThrowsIllegalArgumentException() {
+
+		try {
+			new HierarchicalTimingWheel<>(TICK, 0, START_TIME);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Levels [0] must be between 1 and 8");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void scheduleNullKeyThrowsIllegalArgumentException() {
+
+		try {
+			this.timingWheel.schedule(null, START_TIME);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Key is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void keyExpiresAfterTheTickContainingItsDeadline() {
+
+		this.timingWheel.schedule("one", START_TIME + 25L);
+
+		assertThat(this.timingWheel.isScheduled("one")).isTrue();
+		assertThat(this.timingWheel.getDeadline("one")).isEqualTo(START_TIME + 25L);
+		assertThat(advanceTo(START_TIME + 25L)).isEmpty();
+		assertThat(advanceTo(START_TIME + 29L)).isEmpty();
+		assertThat(advanceTo(START_TIME + 30L)).containsExactly("one");
+		assertThat(this.timingWheel.isScheduled("one")).isFalse();
+		assertThat(this.timingWheel.getDeadline("one")).isNull();
+		assertThat(this.timingWheel.size()).isZero();
+	}
+
+	@Test
+	public void keyWithDeadlineInThePastExpiresOnNextTick() {
+
+		this.timingWheel.schedule("one", 0L);
+
+		assertThat(advanceTo(START_TIME)).isEmpty();
+		assertThat(advanceTo(START_TIME + TICK.toMillis())).containsExactly("one");
+	}
+
+	@Test
+	public void rescheduleReplacesDeadline() {
+
+		this.timingWheel.schedule("one", START_TIME + 10L);
+		this.timingWheel.schedule("one", START_TIME + 1000L);
+
+		assertThat(this.timingWheel.size()).isEqualTo(1);
+		assertThat(advanceTo(START_TIME + 500L)).isEmpty();
+		assertThat(advanceTo(START_TIME + 1010L)).containsExactly("one");
+	}
+
+	@Test
+	public void cancelRemovesKey() {
+
+		this.timingWheel.schedule("one", START_TIME + 10L);
+		this.timingWheel.schedule("two", START_TIME + 10L);
+
+		assertThat(this.timingWheel.cancel("one")).isTrue();
+		assertThat(this.timingWheel.cancel("one")).isFalse();
+		assertThat(this.timingWheel.cancel(null)).isFalse();
+		assertThat(advanceTo(START_TIME + 100L)).containsExactly("two");
+	}
+
+	@Test
+	public void clearRemovesAllKeys() {
+
+		this.timingWheel.schedule("one", START_TIME + 10L);
+		this.timingWheel.schedule("two", START_TIME + 100000L);
+		this.timingWheel.clear();
+
+		assertThat(this.timingWheel.size()).isZero();
+		assertThat(advanceTo(START_TIME + 1000000L)).isEmpty();
+	}
+
+	@Test
+	public void advanceReturnsAtMostTheMaximumNumberOfKeys() {
+
+		for (int index = 0; index < 10; index++) {
+			this.timingWheel.schedule("key" + index, START_TIME + index);
+		}
+
+		long now = START_TIME + 1000L;
+
+		assertThat(this.timingWheel.advance(now, 4)).hasSize(4);
+		assertThat(this.timingWheel.advance(now, 4)).hasSize(4);
+		assertThat(this.timingWheel.advance(now, 4)).hasSize(2);
+		assertThat(this.timingWheel.advance(now, 4)).isEmpty();
+		assertThat(this.timingWheel.size()).isZero();
+	}
+
+	@Test
+	public void keysBeyondTheRangeOfTheWheelExpireAtTheirDeadline() {
+
+		HierarchicalTimingWheel<String> timingWheel = new HierarchicalTimingWheel<>(TICK, 2, START_TIME);
+
+		long deadline = START_TIME + TICK.toMillis() * 64L * 64L * 3L + 5L;
+
+		timingWheel.schedule("one", deadline);
+
+		assertThat(timingWheel.advance(deadline, Integer.MAX_VALUE)).isEmpty();
+		assertThat(timingWheel.advance(deadline + TICK.toMillis(), Integer.MAX_VALUE)).containsExactly("one");
+	}
+
+	@Test
+	public void keysCascadeAndExpireInDeadlineOrderAtTickGranularity() {
+
+		Random random = new Random(2019L);
+
+		Map<String, Long> deadlines = new HashMap<>();
+
+		for (int index = 0; index < 5000; index++) {
+
+			long deadline = START_TIME + (long) random.nextInt(5000000);
+
+			deadlines.put("key" + index, deadline);
+			this.timingWheel.schedule("key" + index, deadline);
+		}
+
+		List<String> expiredKeys = new ArrayList<>();
+
+		for (long now = START_TIME; now <= START_TIME + 5010000L; now += 997L) {
+
+			for (String key : this.timingWheel.advance(now, Integer.MAX_VALUE)) {
+
+				long deadline = deadlines.get(key);
+
+				assertThat(deadline).isLessThan(now);
+				assertThat(deadline / TICK.toMillis()).isGreaterThanOrEqualTo((now - 997L) / TICK.toMillis() - 1L);
+
+				expiredKeys.add(key);
+			}
+		}
+
+		assertThat(expiredKeys).hasSize(deadlines.size());
+		assertThat(expiredKeys).containsOnlyElementsOf(deadlines.keySet());
+		assertThat(this.timingWheel.size()).isZero();
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.expiration.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.client.ClientCache;
+
+/**
+ * Unit tests for {@link InvalidatedSessionReaper}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.session.data.gemfire.expiration.support.InvalidatedSessionReaper
+ * @since 2.1.3
+ */
+public class InvalidatedSessionReaperUnitTests {
+
+	private static final String SESSION_REGION_NAME = "Sessions";
+
+	private Cache mockCache;
+
+	private InvalidatedSessionReaper sessionReaper;
+
+	private Region<Object, Object> mockSessionRegion;
+
+	private RegionAttributes<Object, Object> mockRegionAttributes;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.mockCache = mock(Cache.class);
+		this.mockSessionRegion = mock(Region.class);
+		this.mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(this.mockCache.getRegion(eq(SESSION_REGION_NAME))).thenReturn(this.mockSessionRegion);
+		when(this.mockSessionRegion.getAttributes()).thenReturn(this.mockRegionAttributes);
+
+		this.sessionReaper = spy(new InvalidatedSessionReaper(this.mockCache, SESSION_REGION_NAME));
+	}
+
+	@After
+	public void tearDown() {
+		this.sessionReaper.destroy();
+	}
+
+	@Test
+	public void constructInvalidatedSessionReaper() {
+
+		assertThat(this.sessionReaper.getBatchSize()).isEqualTo(InvalidatedSessionReaper.DEFAULT_BATCH_SIZE);
+		assertThat(this.sessionReaper.getReapInterval()).isEqualTo(InvalidatedSessionReaper.DEFAULT_REAP_INTERVAL);
+		assertThat(this.sessionReaper.getSessionRegion()).isSameAs(this.mockSessionRegion);
+		assertThat(this.sessionReaper.getLastReapedCount()).isZero();
+		assertThat(this.sessionReaper.getReapCount()).isZero();
+		assertThat(this.sessionReaper.getReapedCount()).isZero();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullGemFireCacheThrowsIllegalArgumentException() {
+
+		try {
+			new InvalidatedSessionReaper(null, SESSION_REGION_NAME);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("GemFireCache is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNoSessionRegionNameThrowsIllegalArgumentException() {
+
+		try {
+			new InvalidatedSessionReaper(this.mockCache, "  ");
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Session Region name is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void setAndGetBatchSize() {
+
+		this.sessionReaper.setBatchSize(100);
+
+		assertThat(this.sessionReaper.getBatchSize()).isEqualTo(100);
+
+		this.sessionReaper.setBatchSize(-1);
+
+		assertThat(this.sessionReaper.getBatchSize()).isEqualTo(InvalidatedSessionReaper.DEFAULT_BATCH_SIZE);
+	}
+
+	@Test
+	public void setAndGetReapInterval() {
+
+		this.sessionReaper.setReapInterval(Duration.ofSeconds(5L));
+
+		assertThat(this.sessionReaper.getReapInterval()).isEqualTo(Duration.ofSeconds(5L));
+
+		this.sessionReaper.setReapInterval(Duration.ZERO);
+
+		assertThat(this.sessionReaper.getReapInterval()).isEqualTo(InvalidatedSessionReaper.DEFAULT_REAP_INTERVAL);
+	}
+
+	@Test
+	public void isEnabledOnPeer() {
+		assertThat(this.sessionReaper.isEnabled()).isTrue();
+	}
+
+	@Test
+	public void isEnabledOnClientWithPool() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		when(mockClientCache.getRegion(eq(SESSION_REGION_NAME))).thenReturn(this.mockSessionRegion);
+		when(this.mockRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+
+		assertThat(new InvalidatedSessionReaper(mockClientCache, SESSION_REGION_NAME).isEnabled()).isTrue();
+	}
+
+	@Test
+	public void isNotEnabledOnClientWithLocalRegion() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		when(mockClientCache.getRegion(eq(SESSION_REGION_NAME))).thenReturn(this.mockSessionRegion);
+
+		assertThat(new InvalidatedSessionReaper(mockClientCache, SESSION_REGION_NAME).isEnabled()).isFalse();
+	}
+
+	@Test
+	public void isNotEnabledWhenDisabled() {
+
+		this.sessionReaper.setEnabled(false);
+
+		assertThat(this.sessionReaper.isEnabled()).isFalse();
+	}
+
+	@Test
+	public void isNotEnabledWhenSessionRegionDoesNotExist() {
+
+		when(this.mockCache.getRegion(eq(SESSION_REGION_NAME))).thenReturn(null);
+
+		assertThat(this.sessionReaper.isEnabled()).isFalse();
+	}
+
+	@Test
+	public void reapExecutesFunctionAndRecordsReapedEntries() {
+
+		doReturn(Arrays.asList(2, 3)).when(this.sessionReaper).execute(any(), anyInt());
+
+		this.sessionReaper.setBatchSize(100);
+
+		assertThat(this.sessionReaper.reap()).isEqualTo(5L);
+
+		verify(this.sessionReaper).execute(eq(this.mockSessionRegion), eq(100));
+
+		doReturn(Arrays.asList(1, new RuntimeException("TEST"))).when(this.sessionReaper).execute(any(), anyInt());
+
+		assertThat(this.sessionReaper.reap()).isEqualTo(1L);
+		assertThat(this.sessionReaper.getLastReapedCount()).isEqualTo(1L);
+		assertThat(this.sessionReaper.getReapedCount()).isEqualTo(6L);
+		assertThat(this.sessionReaper.getReapCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void reapWhenNotEnabledDoesNothing() {
+
+		when(this.mockCache.getRegion(eq(SESSION_REGION_NAME))).thenReturn(null);
+
+		assertThat(this.sessionReaper.reap()).isZero();
+		assertThat(this.sessionReaper.getReapCount()).isZero();
+
+		verify(this.sessionReaper, never()).execute(any(), anyInt());
+	}
+
+	@Test
+	public void reapWhenDisabledDoesNothing() {
+
+		this.sessionReaper.setEnabled(false);
+
+		assertThat(this.sessionReaper.reap()).isZero();
+		assertThat(this.sessionReaper.getReapCount()).isZero();
+
+		verify(this.sessionReaper, never()).execute(any(), anyInt());
+	}
+
+	@Test
+	public void reapWhenSessionRegionIsDestroyedDoesNothing() {
+
+		when(this.mockSessionRegion.isDestroyed()).thenReturn(true);
+
+		assertThat(this.sessionReaper.reap()).isZero();
+		assertThat(this.sessionReaper.getReapCount()).isZero();
+
+		verify(this.sessionReaper, never()).execute(any(), anyInt());
+	}
+}
@@ -27,6 +27,7 @@ import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 
 import org.junit.Test;
@@ -41,6 +42,7 @@ import org.apache.geode.pdx.PdxInstance;
 
 import org.springframework.session.Session;
 import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+import org.springframework.session.data.gemfire.expiration.support.SessionExpirationPolicyCustomExpiryAdapter.PdxInstanceSession;
 
 /**
  * Unit tests for {@link SessionExpirationPolicyCustomExpiryAdapter}.
@@ -275,4 +277,140 @@ public class SessionExpirationPolicyCustomExpiryAdapterUnitTests {
 		verify(this.mockSessionExpirationPolicy, times(1)).determineExpirationTimeout(eq(mockSession));
 		verify(this.mockSessionExpirationPolicy, times(1)).getExpirationAction();
 	}
+
+	@SuppressWarnings("unchecked")
+	private Region.Entry<String, Object> mockRegionEntry(Object value) {
+
+		Region.Entry<String, Object> mockRegionEntry = mock(Region.Entry.class);
+
+		when(mockRegionEntry.getValue()).thenReturn(value);
+
+		return mockRegionEntry;
+	}
+
+	private PdxInstance mockPdxInstanceSession(long creationTime, long lastAccessedTime,
+			long maxInactiveIntervalInSeconds) {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.getField(eq("creationTime"))).thenReturn(creationTime);
+		when(mockPdxInstance.getField(eq("lastAccessedTime"))).thenReturn(lastAccessedTime);
+		when(mockPdxInstance.getField(eq("maxInactiveIntervalInSeconds"))).thenReturn(maxInactiveIntervalInSeconds);
+
+		return mockPdxInstance;
+	}
+
+	@Test
+	public void getExpiryWithPdxInstanceSessionDoesNotDeserializeSession() {
+
+		PdxInstance mockPdxInstance = mockPdxInstanceSession(1000L, 2000L, 600L);
+
+		when(this.mockSessionExpirationPolicy.determineExpirationTimeout(any(Session.class)))
+			.thenAnswer(invocation -> {
+
+				Session session = invocation.getArgument(0);
+
+				assertThat(session).isInstanceOf(PdxInstanceSession.class);
+				assertThat(session.getCreationTime()).isEqualTo(Instant.ofEpochMilli(1000L));
+				assertThat(session.getLastAccessedTime()).isEqualTo(Instant.ofEpochMilli(2000L));
+				assertThat(session.getMaxInactiveInterval()).isEqualTo(Duration.ofSeconds(600L));
+
+				return Optional.of(session.getMaxInactiveInterval());
+			});
+
+		when(this.mockSessionExpirationPolicy.getExpirationAction())
+			.thenReturn(SessionExpirationPolicy.ExpirationAction.INVALIDATE);
+
+		ExpirationAttributes expirationAttributes =
+			new SessionExpirationPolicyCustomExpiryAdapter(this.mockSessionExpirationPolicy)
+				.getExpiry(mockRegionEntry(mockPdxInstance));
+
+		assertThat(expirationAttributes).isNotNull();
+		assertThat(expirationAttributes.getAction()).isEqualTo(ExpirationAction.INVALIDATE);
+		assertThat(expirationAttributes.getTimeout()).isEqualTo(600);
+
+		verify(mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	public void getExpiryReturnsCachedExpirationAttributesForSameExpirationTimeoutAndAction() {
+
+		when(this.mockSessionExpirationPolicy.determineExpirationTimeout(any(Session.class)))
+			.thenReturn(Optional.of(Duration.ofMinutes(30L)));
+
+		when(this.mockSessionExpirationPolicy.getExpirationAction())
+			.thenReturn(SessionExpirationPolicy.ExpirationAction.INVALIDATE);
+
+		SessionExpirationPolicyCustomExpiryAdapter adapter =
+			new SessionExpirationPolicyCustomExpiryAdapter(this.mockSessionExpirationPolicy);
+
+		ExpirationAttributes expirationAttributes = adapter.getExpiry(mockRegionEntry(mock(Session.class)));
+
+		assertThat(expirationAttributes).isNotNull();
+		assertThat(expirationAttributes.getTimeout()).isEqualTo(1800);
+		assertThat(adapter.getExpiry(mockRegionEntry(mock(Session.class)))).isSameAs(expirationAttributes);
+
+		when(this.mockSessionExpirationPolicy.getExpirationAction())
+			.thenReturn(SessionExpirationPolicy.ExpirationAction.DESTROY);
+
+		ExpirationAttributes destroyExpirationAttributes = adapter.getExpiry(mockRegionEntry(mock(Session.class)));
+
+		assertThat(destroyExpirationAttributes).isNotSameAs(expirationAttributes);
+		assertThat(destroyExpirationAttributes.getAction()).isEqualTo(ExpirationAction.DESTROY);
+		assertThat(destroyExpirationAttributes.getTimeout()).isEqualTo(1800);
+	}
+
+	@Test
+	public void pdxInstanceSessionIsExpired() {
+
+		long now = System.currentTimeMillis();
+
+		assertThat(PdxInstanceSession.from(mockPdxInstanceSession(now, now - 120000L, 60L)).isExpired()).isTrue();
+		assertThat(PdxInstanceSession.from(mockPdxInstanceSession(now, now, 60L)).isExpired()).isFalse();
+		assertThat(PdxInstanceSession.from(mockPdxInstanceSession(now, now - 120000L, -1L)).isExpired()).isFalse();
+	}
+
+	@Test
+	public void pdxInstanceSessionDeserializesSessionForAttributesOnce() {
+
+		PdxInstance mockPdxInstance = mockPdxInstanceSession(1000L, 2000L, 600L);
+
+		Session mockSession = mock(Session.class);
+
+		when(mockPdxInstance.getField(eq("id"))).thenReturn("123");
+		when(mockPdxInstance.getObject()).thenReturn(mockSession);
+		when(mockSession.getAttribute(eq("attributeName"))).thenReturn("TEST");
+
+		Session session = PdxInstanceSession.from(mockPdxInstance);
+
+		assertThat(session).isInstanceOf(PdxInstanceSession.class);
+		assertThat(session.getId()).isEqualTo("123");
+
+		verify(mockPdxInstance, never()).getObject();
+
+		assertThat(session.<String>getAttribute("attributeName")).isEqualTo("TEST");
+		assertThat(session.<String>getAttribute("attributeName")).isEqualTo("TEST");
+
+		verify(mockPdxInstance, times(1)).getObject();
+		verify(mockSession, times(2)).getAttribute(eq("attributeName"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void pdxInstanceSessionIsReadOnly() {
+
+		PdxInstance mockPdxInstance = mockPdxInstanceSession(1000L, 2000L, 600L);
+
+		when(mockPdxInstance.getField(eq("id"))).thenReturn("123");
+
+		try {
+			PdxInstanceSession.from(mockPdxInstance).setAttribute("attributeName", "TEST");
+		}
+		catch (UnsupportedOperationException expected) {
+
+			assertThat(expected).hasMessage("Session [123] is read-only");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
 }
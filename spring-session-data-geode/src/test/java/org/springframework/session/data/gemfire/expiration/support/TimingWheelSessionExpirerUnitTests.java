@@ -0,0 +1,462 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.expiration.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.client.ClientCache;
+
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+
+/**
+ * Unit tests for {@link TimingWheelSessionExpirer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.client.ClientCache
+ * @see org.springframework.session.data.gemfire.expiration.support.TimingWheelSessionExpirer
+ * @since 2.1.3
+ */
+public class TimingWheelSessionExpirerUnitTests {
+
+	private static final String SESSION_REGION_NAME = "Sessions";
+
+	private AttributesMutator<Object, Object> mockAttributesMutator;
+
+	private ClientCache mockClientCache;
+
+	private Region<Object, Object> mockSessionRegion;
+
+	private RegionAttributes<Object, Object> mockRegionAttributes;
+
+	private TimingWheelSessionExpirer sessionExpirer;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.mockAttributesMutator = mock(AttributesMutator.class);
+		this.mockClientCache = mock(ClientCache.class);
+		this.mockSessionRegion = mock(Region.class);
+		this.mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(this.mockClientCache.getRegion(eq(SESSION_REGION_NAME))).thenReturn(this.mockSessionRegion);
+		when(this.mockSessionRegion.getAttributes()).thenReturn(this.mockRegionAttributes);
+		when(this.mockSessionRegion.getAttributesMutator()).thenReturn(this.mockAttributesMutator);
+		when(this.mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.NORMAL);
+
+		this.sessionExpirer = new TimingWheelSessionExpirer(this.mockClientCache, SESSION_REGION_NAME);
+	}
+
+	@After
+	public void tearDown() {
+		this.sessionExpirer.destroy();
+	}
+
+	@SuppressWarnings("unchecked")
+	private CacheListener<Object, Object> initializedSessionExpirer() {
+
+		this.sessionExpirer.afterPropertiesSet();
+
+		ArgumentCaptor<CacheListener<Object, Object>> cacheListener = ArgumentCaptor.forClass(CacheListener.class);
+
+		verify(this.mockAttributesMutator).addCacheListener(cacheListener.capture());
+
+		assertThat(cacheListener.getValue()).isInstanceOf(TimingWheelSessionExpirer.SchedulingCacheListener.class);
+
+		return cacheListener.getValue();
+	}
+
+	@SuppressWarnings("unchecked")
+	private EntryEvent<Object, Object> mockEntryEvent(Object key, Object newValue) {
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn(key);
+		when(mockEntryEvent.getNewValue()).thenReturn(newValue);
+
+		return mockEntryEvent;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Region.Entry<Object, Object> mockRegionEntry(Object key, Object value) {
+
+		Region.Entry<Object, Object> mockRegionEntry = mock(Region.Entry.class);
+
+		when(mockRegionEntry.getKey()).thenReturn(key);
+		when(mockRegionEntry.getValue()).thenReturn(value);
+		when(this.mockSessionRegion.getEntry(eq(key))).thenReturn(mockRegionEntry);
+
+		return mockRegionEntry;
+	}
+
+	private MapSession newSession(String id, Instant lastAccessedTime, Duration maxInactiveInterval) {
+
+		MapSession session = new MapSession(id);
+
+		session.setLastAccessedTime(lastAccessedTime);
+		session.setMaxInactiveInterval(maxInactiveInterval);
+
+		return session;
+	}
+
+	private int expireSessionsAfterNextTick() {
+		return this.sessionExpirer.expireSessions(System.currentTimeMillis() + 2000L);
+	}
+
+	private MapSession newExpiredSession(String id) {
+		return newSession(id, Instant.now().minus(Duration.ofMinutes(31L)), Duration.ofMinutes(30L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullCacheThrowsIllegalArgumentException() {
+
+		try {
+			new TimingWheelSessionExpirer(null, SESSION_REGION_NAME);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("GemFireCache is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNoRegionNameThrowsIllegalArgumentException() {
+
+		try {
+			new TimingWheelSessionExpirer(this.mockClientCache, "  ");
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Session Region name is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void setAndGetBatchSizeAndTick() {
+
+		assertThat(this.sessionExpirer.getBatchSize()).isEqualTo(TimingWheelSessionExpirer.DEFAULT_BATCH_SIZE);
+		assertThat(this.sessionExpirer.getTick()).isEqualTo(TimingWheelSessionExpirer.DEFAULT_TICK);
+
+		this.sessionExpirer.setBatchSize(100);
+		this.sessionExpirer.setTick(Duration.ofMillis(250L));
+
+		assertThat(this.sessionExpirer.getBatchSize()).isEqualTo(100);
+		assertThat(this.sessionExpirer.getTick()).isEqualTo(Duration.ofMillis(250L));
+
+		this.sessionExpirer.setBatchSize(0);
+		this.sessionExpirer.setTick(null);
+
+		assertThat(this.sessionExpirer.getBatchSize()).isEqualTo(TimingWheelSessionExpirer.DEFAULT_BATCH_SIZE);
+		assertThat(this.sessionExpirer.getTick()).isEqualTo(TimingWheelSessionExpirer.DEFAULT_TICK);
+	}
+
+	@Test
+	public void isEnabledOnClientStoringSessionsLocally() {
+		assertThat(this.sessionExpirer.isEnabled()).isTrue();
+	}
+
+	@Test
+	public void isNotEnabledWhenDisabled() {
+
+		this.sessionExpirer.setEnabled(false);
+
+		assertThat(this.sessionExpirer.isEnabled()).isFalse();
+	}
+
+	@Test
+	public void isNotEnabledOnPeer() {
+
+		Cache mockCache = mock(Cache.class);
+
+		assertThat(new TimingWheelSessionExpirer(mockCache, SESSION_REGION_NAME).isEnabled()).isFalse();
+	}
+
+	@Test
+	public void isNotEnabledForProxyRegion() {
+
+		when(this.mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.EMPTY);
+
+		assertThat(this.sessionExpirer.isEnabled()).isFalse();
+	}
+
+	@Test
+	public void isNotEnabledWhenRegionDoesNotExist() {
+
+		when(this.mockClientCache.getRegion(eq(SESSION_REGION_NAME))).thenReturn(null);
+
+		assertThat(this.sessionExpirer.isEnabled()).isFalse();
+	}
+
+	@Test
+	public void afterPropertiesSetWhenDisabledDoesNothing() {
+
+		this.sessionExpirer.setEnabled(false);
+		this.sessionExpirer.afterPropertiesSet();
+
+		assertThat(this.sessionExpirer.getTimingWheel()).isNull();
+		assertThat(this.sessionExpirer.expireSessions()).isZero();
+
+		verify(this.mockAttributesMutator, never()).addCacheListener(any());
+	}
+
+	@Test
+	public void afterPropertiesSetSchedulesExistingSessions() {
+
+		MapSession session = newSession("1", Instant.ofEpochMilli(5000L), Duration.ofSeconds(60L));
+
+		when(this.mockSessionRegion.keySet()).thenReturn(Collections.singleton("1"));
+
+		mockRegionEntry("1", session);
+
+		initializedSessionExpirer();
+
+		assertThat(this.sessionExpirer.getTimingWheel().getDeadline("1")).isEqualTo(65000L);
+	}
+
+	@Test
+	public void expirationTimeOfSessionWithoutSessionExpirationPolicy() {
+
+		MapSession session = newSession("1", Instant.ofEpochMilli(5000L), Duration.ofSeconds(60L));
+
+		assertThat(this.sessionExpirer.expirationTimeOf(session)).isEqualTo(65000L);
+		assertThat(this.sessionExpirer.expirationTimeOf(null)).isZero();
+		assertThat(this.sessionExpirer.expirationTimeOf("test")).isZero();
+
+		session.setMaxInactiveInterval(Duration.ofSeconds(-1L));
+
+		assertThat(this.sessionExpirer.expirationTimeOf(session)).isZero();
+	}
+
+	@Test
+	public void expirationTimeOfSessionWithSessionExpirationPolicy() {
+
+		SessionExpirationPolicy mockSessionExpirationPolicy = mock(SessionExpirationPolicy.class);
+
+		MapSession session = newSession("1", Instant.ofEpochMilli(5000L), Duration.ofSeconds(60L));
+
+		when(mockSessionExpirationPolicy.determineExpirationTimeout(eq(session)))
+			.thenReturn(Optional.of(Duration.ofMinutes(10L)))
+			.thenReturn(Optional.empty());
+
+		this.sessionExpirer.setSessionExpirationPolicy(mockSessionExpirationPolicy);
+
+		long before = System.currentTimeMillis();
+
+		assertThat(this.sessionExpirer.expirationTimeOf(session))
+			.isBetween(before + 600000L, System.currentTimeMillis() + 600000L);
+
+		assertThat(this.sessionExpirer.expirationTimeOf(session)).isEqualTo(65000L);
+	}
+
+	@Test
+	public void cacheListenerSchedulesAndCancelsSessions() {
+
+		CacheListener<Object, Object> cacheListener = initializedSessionExpirer();
+
+		MapSession session = newSession("1", Instant.ofEpochMilli(5000L), Duration.ofSeconds(60L));
+
+		cacheListener.afterCreate(mockEntryEvent("1", session));
+
+		assertThat(this.sessionExpirer.getTimingWheel().getDeadline("1")).isEqualTo(65000L);
+
+		session.setLastAccessedTime(Instant.ofEpochMilli(10000L));
+
+		cacheListener.afterUpdate(mockEntryEvent("1", session));
+
+		assertThat(this.sessionExpirer.getTimingWheel().getDeadline("1")).isEqualTo(70000L);
+
+		cacheListener.afterInvalidate(mockEntryEvent("1", null));
+
+		assertThat(this.sessionExpirer.getTimingWheel().isScheduled("1")).isFalse();
+
+		cacheListener.afterCreate(mockEntryEvent("2", session));
+		cacheListener.afterDestroy(mockEntryEvent("2", null));
+
+		assertThat(this.sessionExpirer.getTimingWheel().isScheduled("2")).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void cacheListenerClearsTimingWheelOnRegionClear() {
+
+		CacheListener<Object, Object> cacheListener = initializedSessionExpirer();
+
+		cacheListener.afterCreate(mockEntryEvent("1", newExpiredSession("1")));
+		cacheListener.afterRegionClear(mock(RegionEvent.class));
+
+		assertThat(this.sessionExpirer.getTimingWheel().size()).isZero();
+	}
+
+	@Test
+	public void cacheListenerCancelsSessionThatDoesNotExpire() {
+
+		CacheListener<Object, Object> cacheListener = initializedSessionExpirer();
+
+		MapSession session = newSession("1", Instant.ofEpochMilli(5000L), Duration.ofSeconds(60L));
+
+		cacheListener.afterCreate(mockEntryEvent("1", session));
+
+		session.setMaxInactiveInterval(Duration.ofSeconds(-1L));
+
+		cacheListener.afterUpdate(mockEntryEvent("1", session));
+
+		assertThat(this.sessionExpirer.getTimingWheel().isScheduled("1")).isFalse();
+	}
+
+	@Test
+	public void expireSessionsInvalidatesExpiredSessionsLocally() {
+
+		CacheListener<Object, Object> cacheListener = initializedSessionExpirer();
+
+		MapSession sessionOne = newExpiredSession("1");
+		MapSession sessionTwo = newExpiredSession("2");
+
+		mockRegionEntry("1", sessionOne);
+		mockRegionEntry("2", sessionTwo);
+
+		cacheListener.afterCreate(mockEntryEvent("1", sessionOne));
+		cacheListener.afterCreate(mockEntryEvent("2", sessionTwo));
+
+		this.sessionExpirer.setBatchSize(1);
+
+		assertThat(expireSessionsAfterNextTick()).isEqualTo(2);
+		assertThat(this.sessionExpirer.getTimingWheel().size()).isZero();
+
+		verify(this.mockSessionRegion).localInvalidate(eq("1"));
+		verify(this.mockSessionRegion).localInvalidate(eq("2"));
+		verify(this.mockSessionRegion, never()).localDestroy(any());
+	}
+
+	@Test
+	public void expireSessionsDestroysExpiredSessionsLocallyWhenExpirationActionIsDestroy() {
+
+		this.sessionExpirer.setSessionExpirationPolicy(new SessionExpirationPolicy() {
+
+			@Override
+			public Optional<Duration> determineExpirationTimeout(Session session) {
+				return Optional.empty();
+			}
+
+			@Override
+			public ExpirationAction getExpirationAction() {
+				return ExpirationAction.DESTROY;
+			}
+		});
+
+		CacheListener<Object, Object> cacheListener = initializedSessionExpirer();
+
+		MapSession session = newExpiredSession("1");
+
+		mockRegionEntry("1", session);
+
+		cacheListener.afterCreate(mockEntryEvent("1", session));
+
+		assertThat(expireSessionsAfterNextTick()).isEqualTo(1);
+
+		verify(this.mockSessionRegion).localDestroy(eq("1"));
+		verify(this.mockSessionRegion, never()).localInvalidate(any());
+	}
+
+	@Test
+	public void expireRescheduledSessionThatHasNotExpired() {
+
+		initializedSessionExpirer();
+
+		long now = System.currentTimeMillis();
+
+		MapSession session = newSession("1", Instant.ofEpochMilli(now), Duration.ofMinutes(30L));
+
+		mockRegionEntry("1", session);
+
+		assertThat(this.sessionExpirer.expire(this.mockSessionRegion, "1", now)).isFalse();
+		assertThat(this.sessionExpirer.getTimingWheel().getDeadline("1")).isEqualTo(now + 1800000L);
+
+		verify(this.mockSessionRegion, never()).localInvalidate(any());
+	}
+
+	@Test
+	public void expireSessionThatNoLongerExistsReturnsFalse() {
+
+		initializedSessionExpirer();
+
+		assertThat(this.sessionExpirer.expire(this.mockSessionRegion, "1", System.currentTimeMillis())).isFalse();
+
+		verify(this.mockSessionRegion, never()).localInvalidate(any());
+	}
+
+	@Test
+	public void expireHandlesEntryNotFoundException() {
+
+		initializedSessionExpirer();
+
+		mockRegionEntry("1", newExpiredSession("1"));
+
+		doThrow(new EntryNotFoundException("TEST")).when(this.mockSessionRegion).localInvalidate(eq("1"));
+
+		assertThat(this.sessionExpirer.expire(this.mockSessionRegion, "1", System.currentTimeMillis())).isFalse();
+	}
+
+	@Test
+	public void expireSessionsWhenRegionIsDestroyedReturnsZero() {
+
+		initializedSessionExpirer();
+
+		when(this.mockSessionRegion.isDestroyed()).thenReturn(true);
+
+		assertThat(this.sessionExpirer.expireSessions()).isZero();
+
+		verify(this.mockSessionRegion, never()).getEntry(isA(Object.class));
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+
+/**
+ * Unit tests for {@link ConditionalSaveSessionFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.springframework.session.data.gemfire.function.ConditionalSaveSessionFunction
+ * @since 2.1.3
+ */
+public class ConditionalSaveSessionFunctionUnitTests {
+
+	private ConditionalSaveSessionFunction function;
+
+	private Region<Object, Object> mockRegion;
+
+	private RegionFunctionContext mockFunctionContext;
+
+	private ResultSender<Object> mockResultSender;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.function = new ConditionalSaveSessionFunction();
+		this.mockRegion = mock(Region.class);
+		this.mockFunctionContext = mock(RegionFunctionContext.class);
+		this.mockResultSender = mock(ResultSender.class);
+
+		doReturn(this.mockRegion).when(this.mockFunctionContext).getDataSet();
+		doReturn(this.mockResultSender).when(this.mockFunctionContext).getResultSender();
+	}
+
+	private void withArguments(Object... arguments) {
+		when(this.mockFunctionContext.getArguments()).thenReturn(arguments);
+	}
+
+	private void withFilter(Object sessionId) {
+		doReturn(Collections.singleton(sessionId)).when(this.mockFunctionContext).getFilter();
+	}
+
+	@Test
+	public void functionIsConfiguredCorrectly() {
+
+		assertThat(this.function.getId()).isEqualTo(ConditionalSaveSessionFunction.ID);
+		assertThat(this.function.hasResult()).isTrue();
+		assertThat(this.function.isHA()).isFalse();
+		assertThat(this.function.optimizeForWrite()).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeSavesNewSession() {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		withArguments(0L, session);
+		withFilter(session.getId());
+
+		this.function.execute(this.mockFunctionContext);
+
+		verify(this.mockRegion, times(1)).get(eq(session.getId()));
+		verify(this.mockRegion, times(1)).put(eq(session.getId()), eq(session));
+		verify(this.mockResultSender, times(1)).lastResult(eq(Boolean.TRUE));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeSavesSessionWhenStoredVersionMatchesExpectedVersion() {
+
+		GemFireSession<?> storedSession = GemFireSession.create();
+
+		storedSession.setVersion(4L);
+
+		GemFireSession<?> session = GemFireSession.copy(storedSession);
+
+		session.setVersion(5L);
+
+		withArguments(4L, session);
+		withFilter(session.getId());
+
+		when(this.mockRegion.get(eq(session.getId()))).thenReturn(storedSession);
+
+		this.function.execute(this.mockFunctionContext);
+
+		verify(this.mockRegion, times(1)).put(eq(session.getId()), eq(session));
+		verify(this.mockResultSender, times(1)).lastResult(eq(Boolean.TRUE));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeReturnsStoredSessionWhenStoredVersionDiffers() {
+
+		GemFireSession<?> storedSession = GemFireSession.create();
+
+		storedSession.setVersion(6L);
+
+		GemFireSession<?> session = GemFireSession.copy(storedSession);
+
+		withArguments(4L, session);
+		withFilter(session.getId());
+
+		when(this.mockRegion.get(eq(session.getId()))).thenReturn(storedSession);
+
+		this.function.execute(this.mockFunctionContext);
+
+		verify(this.mockRegion, never()).put(any(), any());
+		verify(this.mockResultSender, times(1)).lastResult(eq(storedSession));
+	}
+
+	@Test(expected = FunctionException.class)
+	public void executeWithInvalidArgumentsThrowsFunctionException() {
+
+		withArguments("4", GemFireSession.create());
+		withFilter("1");
+
+		try {
+			this.function.execute(this.mockFunctionContext);
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected)
+				.hasMessage("Function [ConditionalSaveSessionFunction] requires the expected version and the Session");
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = FunctionException.class)
+	@SuppressWarnings("unchecked")
+	public void executeOnNonRegionFunctionContextThrowsFunctionException() {
+
+		try {
+			this.function.execute(mock(FunctionContext.class));
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Function [ConditionalSaveSessionFunction] must be executed on a Region");
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void versionOfPdxInstance() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.hasField(eq("version"))).thenReturn(true);
+		when(mockPdxInstance.getField(eq("version"))).thenReturn(8L);
+
+		assertThat(this.function.versionOf(mockPdxInstance)).isEqualTo(8L);
+	}
+
+	@Test
+	public void versionOfUnversionedSessionIsZero() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.hasField(eq("version"))).thenReturn(false);
+
+		assertThat(this.function.versionOf(mockPdxInstance)).isZero();
+		assertThat(this.function.versionOf(mock(Session.class))).isZero();
+		assertThat(this.function.versionOf(null)).isZero();
+	}
+}
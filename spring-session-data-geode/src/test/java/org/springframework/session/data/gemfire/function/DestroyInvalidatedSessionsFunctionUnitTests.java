@@ -0,0 +1,201 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+
+/**
+ * Unit tests for {@link DestroyInvalidatedSessionsFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.springframework.session.data.gemfire.function.DestroyInvalidatedSessionsFunction
+ * @since 2.1.3
+ */
+public class DestroyInvalidatedSessionsFunctionUnitTests {
+
+	private DestroyInvalidatedSessionsFunction function;
+
+	private Region<Object, Object> mockRegion;
+
+	private RegionFunctionContext mockFunctionContext;
+
+	private ResultSender<Object> mockResultSender;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.function = new DestroyInvalidatedSessionsFunction();
+		this.mockRegion = mock(Region.class);
+		this.mockFunctionContext = mock(RegionFunctionContext.class);
+		this.mockResultSender = mock(ResultSender.class);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(this.mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.REPLICATE);
+
+		doReturn(this.mockRegion).when(this.mockFunctionContext).getDataSet();
+		doReturn(this.mockResultSender).when(this.mockFunctionContext).getResultSender();
+	}
+
+	private void withArguments(Object... arguments) {
+		when(this.mockFunctionContext.getArguments()).thenReturn(arguments);
+	}
+
+	private void withEntries(Object... keys) {
+		when(this.mockRegion.keySet()).thenReturn(new LinkedHashSet<>(Arrays.asList(keys)));
+	}
+
+	private void withInvalidatedEntries(Object... keys) {
+
+		for (Object key : keys) {
+			when(this.mockRegion.containsValueForKey(eq(key))).thenReturn(false);
+			when(this.mockRegion.remove(eq(key), isNull())).thenReturn(true);
+		}
+	}
+
+	private void withValidEntries(Object... keys) {
+
+		for (Object key : keys) {
+			when(this.mockRegion.containsValueForKey(eq(key))).thenReturn(true);
+		}
+	}
+
+	@Test
+	public void functionIsConfiguredCorrectly() {
+
+		assertThat(this.function.getId()).isEqualTo(DestroyInvalidatedSessionsFunction.ID);
+		assertThat(this.function.hasResult()).isTrue();
+		assertThat(this.function.isHA()).isTrue();
+		assertThat(this.function.optimizeForWrite()).isTrue();
+	}
+
+	@Test
+	public void executeDestroysOnlyInvalidatedEntries() {
+
+		withArguments(10);
+		withEntries("1", "2", "3");
+		withInvalidatedEntries("1", "3");
+		withValidEntries("2");
+
+		this.function.execute(this.mockFunctionContext);
+
+		verify(this.mockRegion, times(1)).remove(eq("1"), isNull());
+		verify(this.mockRegion, never()).remove(eq("2"), any());
+		verify(this.mockRegion, times(1)).remove(eq("3"), isNull());
+		verify(this.mockRegion, never()).destroy(any());
+		verify(this.mockResultSender, times(1)).lastResult(eq(2));
+	}
+
+	@Test
+	public void executeDestroysAtMostBatchSizeEntries() {
+
+		withArguments(2);
+		withEntries("1", "2", "3");
+		withInvalidatedEntries("1", "2", "3");
+
+		this.function.execute(this.mockFunctionContext);
+
+		verify(this.mockRegion, times(1)).remove(eq("1"), isNull());
+		verify(this.mockRegion, times(1)).remove(eq("2"), isNull());
+		verify(this.mockRegion, never()).remove(eq("3"), any());
+		verify(this.mockResultSender, times(1)).lastResult(eq(2));
+	}
+
+	@Test
+	public void executeCountsOnlyEntriesThatWereStillInvalid() {
+
+		withArguments(10);
+		withEntries("1", "2", "3");
+		withInvalidatedEntries("1", "2", "3");
+
+		when(this.mockRegion.remove(eq("2"), isNull())).thenReturn(false);
+		doThrow(new EntryNotFoundException("TEST")).when(this.mockRegion).remove(eq("3"), isNull());
+
+		this.function.execute(this.mockFunctionContext);
+
+		verify(this.mockResultSender, times(1)).lastResult(eq(1));
+	}
+
+	@Test(expected = FunctionException.class)
+	public void executeWithoutBatchSizeThrowsFunctionException() {
+
+		withArguments();
+
+		try {
+			this.function.execute(this.mockFunctionContext);
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Function [%s] requires the batch size",
+				DestroyInvalidatedSessionsFunction.ID);
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(this.mockResultSender, never()).lastResult(any());
+		}
+	}
+
+	@Test(expected = FunctionException.class)
+	@SuppressWarnings("unchecked")
+	public void executeOnNonRegionThrowsFunctionException() {
+
+		try {
+			this.function.execute(mock(FunctionContext.class));
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Function [%s] must be executed on a Region",
+				DestroyInvalidatedSessionsFunction.ID);
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
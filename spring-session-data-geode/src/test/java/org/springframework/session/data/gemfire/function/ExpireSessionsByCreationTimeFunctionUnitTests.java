@@ -0,0 +1,274 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryInvocationTargetException;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+
+/**
+ * Unit tests for {@link ExpireSessionsByCreationTimeFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.apache.geode.cache.query.Query
+ * @see org.springframework.session.data.gemfire.function.ExpireSessionsByCreationTimeFunction
+ * @since 2.1.3
+ */
+public class ExpireSessionsByCreationTimeFunctionUnitTests {
+
+	private ExpireSessionsByCreationTimeFunction function;
+
+	private Query mockQuery;
+
+	private QueryService mockQueryService;
+
+	private Region<Object, Object> mockRegion;
+
+	private RegionAttributes<Object, Object> mockRegionAttributes;
+
+	private RegionFunctionContext mockFunctionContext;
+
+	private ResultSender<Object> mockResultSender;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.function = new ExpireSessionsByCreationTimeFunction();
+		this.mockQuery = mock(Query.class);
+		this.mockQueryService = mock(QueryService.class);
+		this.mockRegion = mock(Region.class);
+		this.mockRegionAttributes = mock(RegionAttributes.class);
+		this.mockFunctionContext = mock(RegionFunctionContext.class);
+		this.mockResultSender = mock(ResultSender.class);
+
+		RegionService mockRegionService = mock(RegionService.class);
+
+		when(this.mockRegion.getAttributes()).thenReturn(this.mockRegionAttributes);
+		when(this.mockRegion.getFullPath()).thenReturn("/Sessions");
+		when(this.mockRegion.getRegionService()).thenReturn(mockRegionService);
+		when(mockRegionService.getQueryService()).thenReturn(this.mockQueryService);
+		when(this.mockQueryService.newQuery(any())).thenReturn(this.mockQuery);
+		when(this.mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.REPLICATE);
+
+		doReturn(this.mockRegion).when(this.mockFunctionContext).getDataSet();
+		doReturn(this.mockResultSender).when(this.mockFunctionContext).getResultSender();
+	}
+
+	private void withArguments(Object... arguments) {
+		when(this.mockFunctionContext.getArguments()).thenReturn(arguments);
+	}
+
+	@SuppressWarnings("unchecked")
+	private SelectResults<Object> results(Object... results) {
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.size()).thenReturn(results.length);
+		when(mockSelectResults.iterator()).thenReturn(Arrays.asList(results).iterator());
+
+		return mockSelectResults;
+	}
+
+	@Test
+	public void functionIsConfiguredCorrectly() {
+
+		assertThat(this.function.getId()).isEqualTo(ExpireSessionsByCreationTimeFunction.ID);
+		assertThat(this.function.hasResult()).isTrue();
+		assertThat(this.function.isHA()).isTrue();
+		assertThat(this.function.optimizeForWrite()).isTrue();
+	}
+
+	@Test
+	public void executeDestroysSessionsCreatedBeforeTimeInBatches() throws Exception {
+
+		SelectResults<Object> firstBatch = results("1", "2");
+		SelectResults<Object> secondBatch = results("3");
+
+		withArguments(1000L, 2);
+
+		when(this.mockQuery.execute((Object[]) any())).thenReturn(firstBatch, secondBatch);
+
+		this.function.execute(this.mockFunctionContext);
+
+		verify(this.mockQueryService, times(1))
+			.createIndex(eq(ExpireSessionsByCreationTimeFunction.CREATION_TIME_INDEX_NAME), eq("creationTimeInMillis"),
+				eq("/Sessions"));
+
+		verify(this.mockQueryService, times(1))
+			.newQuery(eq("SELECT DISTINCT s.id FROM /Sessions s WHERE s.creationTimeInMillis < $1 LIMIT 2"));
+
+		verify(this.mockQuery, times(2)).execute(eq(1000L));
+
+		verify(this.mockRegion, times(1)).destroy(eq("1"));
+		verify(this.mockRegion, times(1)).destroy(eq("2"));
+		verify(this.mockRegion, times(1)).destroy(eq("3"));
+		verify(this.mockResultSender, times(1)).lastResult(eq(3));
+	}
+
+	@Test
+	public void executeQueriesLocalBucketsOfPartitionedRegion() throws Exception {
+
+		SelectResults<Object> batch = results("1");
+
+		withArguments(1000L, 10);
+
+		when(this.mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.PARTITION);
+		when(this.mockQuery.execute(any(RegionFunctionContext.class), any(Object[].class))).thenReturn(batch);
+
+		this.function.execute(this.mockFunctionContext);
+
+		verify(this.mockQuery, times(1)).execute(eq(this.mockFunctionContext),
+			argThat((Object[] parameters) -> Arrays.equals(parameters, new Object[] { 1000L })));
+
+		verify(this.mockQuery, never()).execute((Object[]) any());
+		verify(this.mockRegion, times(1)).destroy(eq("1"));
+		verify(this.mockResultSender, times(1)).lastResult(eq(1));
+	}
+
+	@Test
+	public void executeCountsOnlyDestroyedSessions() throws Exception {
+
+		SelectResults<Object> batch = results("1", "2");
+
+		withArguments(1000L, 10);
+
+		when(this.mockQuery.execute((Object[]) any())).thenReturn(batch);
+
+		doThrow(new EntryNotFoundException("TEST")).when(this.mockRegion).destroy(eq("1"));
+
+		this.function.execute(this.mockFunctionContext);
+
+		verify(this.mockRegion, times(1)).destroy(eq("1"));
+		verify(this.mockRegion, times(1)).destroy(eq("2"));
+		verify(this.mockResultSender, times(1)).lastResult(eq(1));
+	}
+
+	@Test
+	public void executeDoesNotCreateExistingIndex() throws Exception {
+
+		SelectResults<Object> batch = results();
+
+		withArguments(1000L, 10);
+
+		when(this.mockQueryService.getIndex(eq(this.mockRegion),
+			eq(ExpireSessionsByCreationTimeFunction.CREATION_TIME_INDEX_NAME))).thenReturn(mock(Index.class));
+
+		when(this.mockQuery.execute((Object[]) any())).thenReturn(batch);
+
+		this.function.execute(this.mockFunctionContext);
+		this.function.execute(this.mockFunctionContext);
+
+		verify(this.mockQueryService, times(1)).getIndex(eq(this.mockRegion),
+			eq(ExpireSessionsByCreationTimeFunction.CREATION_TIME_INDEX_NAME));
+
+		verify(this.mockQueryService, never()).createIndex(anyString(), anyString(), anyString());
+		verify(this.mockResultSender, times(2)).lastResult(eq(0));
+	}
+
+	@Test(expected = FunctionException.class)
+	public void executeWithoutBatchSizeThrowsFunctionException() {
+
+		withArguments(1000L);
+
+		try {
+			this.function.execute(this.mockFunctionContext);
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Function [%s] requires the creation time before which Sessions expire"
+				+ " and the batch size", ExpireSessionsByCreationTimeFunction.ID);
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(this.mockResultSender, never()).lastResult(any());
+		}
+	}
+
+	@Test(expected = FunctionException.class)
+	@SuppressWarnings("unchecked")
+	public void executeOnNonRegionThrowsFunctionException() {
+
+		try {
+			this.function.execute(mock(FunctionContext.class));
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Function [%s] must be executed on a Region",
+				ExpireSessionsByCreationTimeFunction.ID);
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = FunctionException.class)
+	public void executeWithFailingQueryThrowsFunctionException() throws Exception {
+
+		QueryInvocationTargetException cause = new QueryInvocationTargetException("TEST");
+
+		withArguments(1000L, 10);
+
+		when(this.mockQuery.execute((Object[]) any())).thenThrow(cause);
+
+		try {
+			this.function.execute(this.mockFunctionContext);
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Function [%s] failed to query the Sessions created before [1000]",
+				ExpireSessionsByCreationTimeFunction.ID);
+			assertThat(expected).hasCause(cause);
+
+			throw expected;
+		}
+	}
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryInvocationTargetException;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.session.data.gemfire.support.SessionTieringManager;
+
+/**
+ * Unit tests for {@link FindSessionsByPrincipalNameFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.apache.geode.cache.query.Query
+ * @see org.springframework.session.data.gemfire.function.FindSessionsByPrincipalNameFunction
+ * @since 2.1.3
+ */
+public class FindSessionsByPrincipalNameFunctionUnitTests {
+
+	private FindSessionsByPrincipalNameFunction function;
+
+	private Query mockQuery;
+
+	private QueryService mockQueryService;
+
+	private Region<Object, Object> mockRegion;
+
+	private RegionFunctionContext mockFunctionContext;
+
+	private RegionService mockRegionService;
+
+	private ResultSender<Object> mockResultSender;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.function = new FindSessionsByPrincipalNameFunction();
+		this.mockQuery = mock(Query.class);
+		this.mockQueryService = mock(QueryService.class);
+		this.mockFunctionContext = mock(RegionFunctionContext.class);
+		this.mockResultSender = mock(ResultSender.class);
+
+		this.mockRegion = mock(Region.class);
+		this.mockRegionService = mock(RegionService.class);
+
+		when(this.mockRegion.getFullPath()).thenReturn("/Sessions");
+		when(this.mockRegion.getRegionService()).thenReturn(this.mockRegionService);
+		when(this.mockRegionService.getQueryService()).thenReturn(this.mockQueryService);
+		when(this.mockQueryService.newQuery(any())).thenReturn(this.mockQuery);
+
+		doReturn(this.mockRegion).when(this.mockFunctionContext).getDataSet();
+		doReturn(this.mockResultSender).when(this.mockFunctionContext).getResultSender();
+	}
+
+	private void withArguments(Object... arguments) {
+		when(this.mockFunctionContext.getArguments()).thenReturn(arguments);
+	}
+
+	@SuppressWarnings("unchecked")
+	private SelectResults<Object> mockSelectResults(Object... results) {
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.size()).thenReturn(results.length);
+		when(mockSelectResults.iterator()).thenReturn(Arrays.asList(results).iterator());
+
+		return mockSelectResults;
+	}
+
+	private void withResults(Object... results) throws Exception {
+
+		SelectResults<Object> mockSelectResults = mockSelectResults(results);
+
+		when(this.mockQuery.execute(any(RegionFunctionContext.class), any(Object[].class)))
+			.thenReturn(mockSelectResults);
+	}
+
+	@Test
+	public void functionIsConfiguredCorrectly() {
+
+		assertThat(this.function.getId()).isEqualTo(FindSessionsByPrincipalNameFunction.ID);
+		assertThat(this.function.hasResult()).isTrue();
+		assertThat(this.function.isHA()).isTrue();
+		assertThat(this.function.optimizeForWrite()).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeQueriesFilteredBucketsForSessionsOfPrincipal() throws Exception {
+
+		GemFireSession<?> sessionOne = GemFireSession.create();
+		GemFireSession<?> sessionTwo = GemFireSession.create();
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.getObject()).thenReturn(sessionTwo);
+
+		withArguments("jxblum");
+		withResults(sessionOne, mockPdxInstance);
+
+		this.function.execute(this.mockFunctionContext);
+
+		verify(this.mockQueryService, times(1))
+			.newQuery(eq("SELECT s FROM /Sessions s WHERE s.principalName = $1"));
+
+		verify(this.mockQuery, times(1)).execute(eq(this.mockFunctionContext),
+			argThat((Object[] parameters) -> Arrays.equals(parameters, new Object[] { "jxblum" })));
+
+		verify(this.mockResultSender, times(1)).lastResult(argThat(result -> {
+
+			List<Session> sessions = (List<Session>) result;
+
+			assertThat(sessions).extracting(Session::getId).containsExactly(sessionOne.getId(), sessionTwo.getId());
+
+			return true;
+		}));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeQueriesColdRegionAndPromotesDemotedSessionsOfPrincipal() throws Exception {
+
+		GemFireSession<?> hotSession = GemFireSession.create();
+		GemFireSession<?> demotedSession = GemFireSession.create();
+
+		Region<Object, Object> mockColdRegion = mock(Region.class);
+
+		Query mockColdQuery = mock(Query.class);
+
+		SelectResults<Object> hotResults = mockSelectResults(hotSession);
+		SelectResults<Object> coldResults = mockSelectResults(demotedSession.getId());
+
+		when(mockColdRegion.getFullPath()).thenReturn("/SessionsCold");
+		when(mockColdRegion.getRegionService()).thenReturn(this.mockRegionService);
+		doReturn(mockColdRegion).when(this.mockRegionService).getRegion(eq("/SessionsCold"));
+		when(this.mockQueryService.newQuery(eq("SELECT c.id FROM /SessionsCold c WHERE c.principalName = $1")))
+			.thenReturn(mockColdQuery);
+		when(this.mockQuery.execute(any(RegionFunctionContext.class), any(Object[].class))).thenReturn(hotResults);
+		when(mockColdQuery.execute(any(RegionFunctionContext.class), any(Object[].class))).thenReturn(coldResults);
+		when(this.mockRegion.get(eq(demotedSession.getId()))).thenReturn(demotedSession);
+
+		withArguments("jxblum");
+
+		this.function.execute(this.mockFunctionContext);
+
+		assertThat(SessionTieringManager.coldRegionName("/Sessions")).isEqualTo("/SessionsCold");
+
+		verify(mockColdQuery, times(1)).execute(eq(this.mockFunctionContext),
+			argThat((Object[] parameters) -> Arrays.equals(parameters, new Object[] { "jxblum" })));
+
+		verify(this.mockRegion, times(1)).get(eq(demotedSession.getId()));
+
+		verify(this.mockResultSender, times(1)).lastResult(argThat(result -> {
+
+			List<Session> sessions = (List<Session>) result;
+
+			assertThat(sessions).extracting(Session::getId)
+				.containsExactly(hotSession.getId(), demotedSession.getId());
+
+			return true;
+		}));
+	}
+
+	@Test(expected = FunctionException.class)
+	public void executeWithoutPrincipalNameThrowsFunctionException() {
+
+		withArguments();
+
+		try {
+			this.function.execute(this.mockFunctionContext);
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Function [%s] requires the principal name",
+				FindSessionsByPrincipalNameFunction.ID);
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(this.mockResultSender, never()).lastResult(any());
+		}
+	}
+
+	@Test(expected = FunctionException.class)
+	@SuppressWarnings("unchecked")
+	public void executeOnNonRegionThrowsFunctionException() {
+
+		try {
+			this.function.execute(mock(FunctionContext.class));
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Function [%s] must be executed on a Region",
+				FindSessionsByPrincipalNameFunction.ID);
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = FunctionException.class)
+	public void executeWithFailingQueryThrowsFunctionException() throws Exception {
+
+		QueryInvocationTargetException cause = new QueryInvocationTargetException("TEST");
+
+		withArguments("jxblum");
+
+		when(this.mockQuery.execute(any(RegionFunctionContext.class), any(Object[].class))).thenThrow(cause);
+
+		try {
+			this.function.execute(this.mockFunctionContext);
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Function [%s] failed to query the Sessions of principal [jxblum]",
+				FindSessionsByPrincipalNameFunction.ID);
+			assertThat(expected).hasCause(cause);
+
+			throw expected;
+		}
+	}
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.DataOutput;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.WritablePdxInstance;
+
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.DeltaCapableGemFireSession;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.session.data.gemfire.function.SessionAttributeOperationFunction.AttributeComputation;
+import org.springframework.session.data.gemfire.function.SessionAttributeOperationFunction.Operation;
+
+/**
+ * Unit tests for {@link SessionAttributeOperationFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.springframework.session.data.gemfire.function.SessionAttributeOperationFunction
+ * @since 2.1.3
+ */
+public class SessionAttributeOperationFunctionUnitTests {
+
+	private GemFireSession<?> storedSession;
+
+	private Region<Object, Object> mockRegion;
+
+	private RegionFunctionContext mockFunctionContext;
+
+	private ResultSender<Object> mockResultSender;
+
+	private SessionAttributeOperationFunction function;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.function = new SessionAttributeOperationFunction();
+		this.mockRegion = mock(Region.class);
+		this.mockFunctionContext = mock(RegionFunctionContext.class);
+		this.mockResultSender = mock(ResultSender.class);
+		this.storedSession = GemFireSession.create();
+		this.storedSession.setVersion(2L);
+
+		doReturn(this.mockRegion).when(this.mockFunctionContext).getDataSet();
+		doReturn(this.mockResultSender).when(this.mockFunctionContext).getResultSender();
+		doReturn(Collections.singleton(this.storedSession.getId())).when(this.mockFunctionContext).getFilter();
+		doReturn(this.storedSession).when(this.mockRegion).get(eq(this.storedSession.getId()));
+	}
+
+	private Object execute(Operation operation, String attributeName, Object operand) {
+
+		when(this.mockFunctionContext.getArguments()).thenReturn(new Object[] { operation, attributeName, operand });
+
+		this.function.execute(this.mockFunctionContext);
+
+		ArgumentCaptor<Object> result = ArgumentCaptor.forClass(Object.class);
+
+		verify(this.mockResultSender, times(1)).lastResult(result.capture());
+
+		return result.getValue();
+	}
+
+	private GemFireSession<?> savedSession() {
+
+		ArgumentCaptor<GemFireSession> session = ArgumentCaptor.forClass(GemFireSession.class);
+
+		verify(this.mockRegion, times(1)).put(eq(this.storedSession.getId()), session.capture());
+
+		return session.getValue();
+	}
+
+	@Test
+	public void functionIsConfiguredCorrectly() {
+
+		assertThat(this.function.getId()).isEqualTo(SessionAttributeOperationFunction.ID);
+		assertThat(this.function.hasResult()).isTrue();
+		assertThat(this.function.optimizeForWrite()).isTrue();
+	}
+
+	@Test
+	public void incrementMissingAttribute() {
+
+		assertThat(execute(Operation.INCREMENT, "counter", 5L)).isEqualTo(5L);
+
+		GemFireSession<?> savedSession = savedSession();
+
+		assertThat(savedSession).isNotSameAs(this.storedSession);
+		assertThat(savedSession.<Long>getAttribute("counter")).isEqualTo(5L);
+		assertThat(savedSession.getVersion()).isEqualTo(3L);
+		assertThat(this.storedSession.<Long>getAttribute("counter")).isNull();
+	}
+
+	@Test
+	public void incrementExistingAttribute() {
+
+		this.storedSession.setAttribute("counter", 41);
+
+		assertThat(execute(Operation.INCREMENT, "counter", 1L)).isEqualTo(42L);
+		assertThat(savedSession().<Long>getAttribute("counter")).isEqualTo(42L);
+	}
+
+	@Test(expected = FunctionException.class)
+	public void incrementNonNumericAttributeThrowsFunctionException() {
+
+		this.storedSession.setAttribute("counter", "one");
+
+		try {
+			execute(Operation.INCREMENT, "counter", 1L);
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Cannot increment attribute [counter] with value [one] by [1]");
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void putIfAbsentSetsMissingAttribute() {
+
+		assertThat(execute(Operation.PUT_IF_ABSENT, "token", "abc")).isNull();
+		assertThat(savedSession().<String>getAttribute("token")).isEqualTo("abc");
+	}
+
+	@Test
+	public void putIfAbsentReturnsExistingAttribute() {
+
+		this.storedSession.setAttribute("token", "xyz");
+
+		assertThat(execute(Operation.PUT_IF_ABSENT, "token", "abc")).isEqualTo("xyz");
+
+		verify(this.mockRegion, never()).put(any(), any());
+	}
+
+	@Test
+	public void addToSetAddsElement() {
+
+		this.storedSession.setAttribute("roles", Collections.singleton("user"));
+
+		assertThat(execute(Operation.ADD_TO_SET, "roles", "admin")).isEqualTo(Boolean.TRUE);
+		assertThat(savedSession().<Set<String>>getAttribute("roles")).containsOnly("user", "admin");
+	}
+
+	@Test
+	public void addToSetWithExistingElementReturnsFalse() {
+
+		this.storedSession.setAttribute("roles", Collections.singleton("user"));
+
+		assertThat(execute(Operation.ADD_TO_SET, "roles", "user")).isEqualTo(Boolean.FALSE);
+
+		verify(this.mockRegion, never()).put(any(), any());
+	}
+
+	@Test
+	public void computeSetsAndRemovesAttribute() {
+
+		this.storedSession.setAttribute("name", "jon");
+
+		AttributeComputation toUpperCase = value -> value != null ? value.toString().toUpperCase() : null;
+
+		assertThat(execute(Operation.COMPUTE, "name", toUpperCase)).isEqualTo("JON");
+		assertThat(savedSession().<String>getAttribute("name")).isEqualTo("JON");
+	}
+
+	@Test
+	public void computeReturningNullRemovesAttribute() {
+
+		this.storedSession.setAttribute("name", "jon");
+
+		AttributeComputation remove = value -> null;
+
+		assertThat(execute(Operation.COMPUTE, "name", remove)).isNull();
+		assertThat(savedSession().getAttributeNames()).doesNotContain("name");
+	}
+
+	@Test
+	public void incrementPutsCopyOfStoredDeltaCapableSessionWithOnlyTheModifiedAttributeAsDelta()
+			throws Exception {
+
+		DeltaCapableGemFireSession storedSession = new DeltaCapableGemFireSession();
+
+		storedSession.setAttribute("other", "value");
+		storedSession.setVersion(4L);
+
+		doReturn(storedSession).when(this.mockRegion).get(eq(this.storedSession.getId()));
+
+		assertThat(execute(Operation.INCREMENT, "counter", 1L)).isEqualTo(1L);
+
+		GemFireSession<?> savedSession = savedSession();
+
+		assertThat(savedSession).isInstanceOf(DeltaCapableGemFireSession.class);
+		assertThat(savedSession).isNotSameAs(storedSession);
+		assertThat(savedSession.getVersion()).isEqualTo(5L);
+		assertThat(savedSession.<String>getAttribute("other")).isEqualTo("value");
+		assertThat(storedSession.getVersion()).isEqualTo(4L);
+		assertThat(storedSession.getAttributeNames()).containsExactly("other");
+		assertThat(storedSession.hasDelta()).isTrue();
+
+		DataOutput mockDataOutput = mock(DataOutput.class);
+
+		((DeltaCapableGemFireSession) savedSession).toDelta(mockDataOutput);
+
+		verify(mockDataOutput, times(1)).writeInt(eq(1));
+		verify(mockDataOutput, times(1)).writeUTF(eq("counter"));
+		verify(mockDataOutput, never()).writeUTF(eq("other"));
+	}
+
+	private PdxInstance mockPdxSession(Map<String, Object> attributes, WritablePdxInstance mockWritablePdxInstance) {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.hasField(eq("version"))).thenReturn(true);
+		when(mockPdxInstance.hasField(eq("principalName"))).thenReturn(true);
+		when(mockPdxInstance.getField(eq("attributes"))).thenReturn(attributes);
+		when(mockPdxInstance.getField(eq("version"))).thenReturn(2L);
+		when(mockPdxInstance.createWriter()).thenReturn(mockWritablePdxInstance);
+
+		doReturn(mockPdxInstance).when(this.mockRegion).get(eq(this.storedSession.getId()));
+
+		return mockPdxInstance;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void incrementModifiesStoredPdxSessionWithWritablePdxInstance() {
+
+		Map<String, Object> attributes = new HashMap<>();
+
+		attributes.put("counter", 41L);
+		attributes.put("other", "value");
+
+		WritablePdxInstance mockWritablePdxInstance = mock(WritablePdxInstance.class);
+
+		PdxInstance mockPdxInstance = mockPdxSession(attributes, mockWritablePdxInstance);
+
+		assertThat(execute(Operation.INCREMENT, "counter", 1L)).isEqualTo(42L);
+
+		ArgumentCaptor<Object> savedAttributes = ArgumentCaptor.forClass(Object.class);
+
+		verify(mockWritablePdxInstance, times(1)).setField(eq("attributes"), savedAttributes.capture());
+		verify(mockWritablePdxInstance, times(1)).setField(eq("version"), eq(3L));
+		verify(mockWritablePdxInstance, never()).setField(eq("principalName"), any());
+		verify(this.mockRegion, times(1)).put(eq(this.storedSession.getId()), eq(mockWritablePdxInstance));
+		verify(mockPdxInstance, never()).getObject();
+
+		assertThat((Map<String, Object>) savedAttributes.getValue())
+			.containsEntry("counter", 42L)
+			.containsEntry("other", "value");
+
+		assertThat(attributes).containsEntry("counter", 41L);
+	}
+
+	@Test
+	public void putIfAbsentOfPrincipalNameOnStoredPdxSessionSetsPrincipalNameField() {
+
+		WritablePdxInstance mockWritablePdxInstance = mock(WritablePdxInstance.class);
+
+		mockPdxSession(new HashMap<>(), mockWritablePdxInstance);
+
+		assertThat(execute(Operation.PUT_IF_ABSENT, FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME,
+			"jonDoe")).isNull();
+
+		verify(mockWritablePdxInstance, times(1)).setField(eq("principalName"), eq("jonDoe"));
+		verify(this.mockRegion, times(1)).put(eq(this.storedSession.getId()), eq(mockWritablePdxInstance));
+	}
+
+	@Test
+	public void putIfAbsentWithExistingAttributeDoesNotModifyStoredPdxSession() {
+
+		WritablePdxInstance mockWritablePdxInstance = mock(WritablePdxInstance.class);
+
+		PdxInstance mockPdxInstance =
+			mockPdxSession(Collections.singletonMap("token", "xyz"), mockWritablePdxInstance);
+
+		assertThat(execute(Operation.PUT_IF_ABSENT, "token", "abc")).isEqualTo("xyz");
+
+		verify(mockPdxInstance, never()).createWriter();
+		verify(this.mockRegion, never()).put(any(), any());
+	}
+
+	@Test
+	public void executeOnMissingSessionReturnsNull() {
+
+		doReturn(null).when(this.mockRegion).get(eq(this.storedSession.getId()));
+
+		assertThat(execute(Operation.INCREMENT, "counter", 1L)).isNull();
+
+		verify(this.mockRegion, never()).put(any(), any());
+	}
+
+	@Test(expected = FunctionException.class)
+	public void executeWithInvalidArgumentsThrowsFunctionException() {
+
+		try {
+			execute(null, "counter", 1L);
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Function [SessionAttributeOperationFunction] requires"
+				+ " the operation, the attribute name and the operand");
+
+			throw expected;
+		}
+	}
+}
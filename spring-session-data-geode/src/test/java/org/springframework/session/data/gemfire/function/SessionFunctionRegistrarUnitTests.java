@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.execute.Function;
+
+/**
+ * Unit tests for {@link SessionFunctionRegistrar}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.session.data.gemfire.function.SessionFunctionRegistrar
+ * @since 2.1.3
+ */
+public class SessionFunctionRegistrarUnitTests {
+
+	@SuppressWarnings("unchecked")
+	private Function<Object> mockFunction(String id) {
+
+		Function<Object> mockFunction = mock(Function.class);
+
+		when(mockFunction.getId()).thenReturn(id);
+
+		return mockFunction;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullCacheThrowsIllegalArgumentException() {
+
+		try {
+			new SessionFunctionRegistrar(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("GemFireCache is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void registersFunctionsOnPeerCache() {
+
+		Function<Object> mockFunction = mockFunction("MockPeerFunction");
+
+		SessionFunctionRegistrar registrar = spy(new SessionFunctionRegistrar(mock(Cache.class), mockFunction));
+
+		doNothing().when(registrar).register(any());
+
+		registrar.afterPropertiesSet();
+
+		assertThat(registrar.getFunctions()).containsExactly(mockFunction);
+
+		verify(registrar, times(1)).register(mockFunction);
+	}
+
+	@Test
+	public void doesNotRegisterFunctionsOnClientCache() {
+
+		SessionFunctionRegistrar registrar =
+			spy(new SessionFunctionRegistrar(mock(ClientCache.class), mockFunction("MockClientFunction")));
+
+		registrar.afterPropertiesSet();
+
+		verify(registrar, never()).register(any());
+	}
+
+	@Test
+	public void constructWithNoFunctionsIsNullSafe() {
+
+		SessionFunctionRegistrar registrar = new SessionFunctionRegistrar(mock(Cache.class), (Function<?>[]) null);
+
+		registrar.afterPropertiesSet();
+
+		assertThat(registrar.getFunctions()).isEmpty();
+	}
+}
@@ -29,13 +29,22 @@ import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.DeltaCapableGemFireSessionAttributes;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSessionAttributes;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInput;
+import java.io.DataInputStream;
 import java.io.DataOutput;
+import java.io.DataOutputStream;
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.junit.After;
 import org.junit.Test;
 
+import org.springframework.session.data.gemfire.serialization.data.support.ChunkedValue;
+import org.springframework.session.data.gemfire.serialization.data.support.CompressedValue;
+import org.springframework.session.data.gemfire.serialization.data.support.DeflaterCompressionCodec;
+
 /**
  * Unit tests for {@link DataSerializableSessionAttributesSerializer}.
  *
@@ -53,6 +62,12 @@ public class DataSerializableSessionAttributesSerializerTests {
 	private DataSerializableSessionAttributesSerializer sessionAttributesSerializer =
 		spy(new DataSerializableSessionAttributesSerializer());
 
+	@After
+	public void tearDown() {
+		ChunkedValue.setChunkingThreshold(ChunkedValue.DEFAULT_CHUNKING_THRESHOLD);
+		CompressedValue.setCompressionCodec(null);
+	}
+
 	@Test
 	public void getIdReturnsSameValue() {
 
@@ -129,4 +144,83 @@ public class DataSerializableSessionAttributesSerializerTests {
 		verify(mockDataInput, times(1)).readInt();
 		verify(mockDataInput, times(2)).readUTF();
 	}
+
+	@Test
+	public void sessionAttributesWithLargeValueRoundTripsInChunks() {
+
+		ChunkedValue.setChunkingThreshold(4096);
+
+		byte[] largeValue = new byte[2 * 1024 * 1024];
+
+		Arrays.fill(largeValue, (byte) 0x0A);
+
+		GemFireSessionAttributes sessionAttributes = GemFireSessionAttributes.create();
+
+		sessionAttributes.setAttribute("small", "test");
+		sessionAttributes.setAttribute("large", largeValue);
+		sessionAttributes.setAttribute("medium", new byte[1024]);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		this.sessionAttributesSerializer.serialize(sessionAttributes, new DataOutputStream(out));
+
+		GemFireSessionAttributes deserializedSessionAttributes = this.sessionAttributesSerializer
+			.deserialize(new DataInputStream(new ByteArrayInputStream(out.toByteArray())));
+
+		assertThat(deserializedSessionAttributes.getAttributeNames()).containsOnly("small", "large", "medium");
+		assertThat(deserializedSessionAttributes.<String>getAttribute("small")).isEqualTo("test");
+		assertThat(deserializedSessionAttributes.<byte[]>getAttribute("large")).isEqualTo(largeValue);
+		assertThat(deserializedSessionAttributes.<byte[]>getAttribute("medium")).isEqualTo(new byte[1024]);
+	}
+
+	@Test
+	public void sessionAttributesBelowThresholdAreSerializedInline() throws Exception {
+
+		GemFireSessionAttributes sessionAttributes = GemFireSessionAttributes.create();
+
+		sessionAttributes.setAttribute("attrOne", new byte[] { 1, 2, 3 });
+
+		ByteArrayOutputStream actual = new ByteArrayOutputStream();
+
+		this.sessionAttributesSerializer.serialize(sessionAttributes, new DataOutputStream(actual));
+
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		DataOutputStream expectedOut = new DataOutputStream(expected);
+
+		expectedOut.writeInt(1);
+		expectedOut.writeUTF("attrOne");
+		this.sessionAttributesSerializer.serializeObject(new byte[] { 1, 2, 3 }, expectedOut);
+
+		assertThat(actual.toByteArray()).isEqualTo(expected.toByteArray());
+	}
+
+	@Test
+	public void sessionAttributesWithCompressibleValueRoundTripsCompressed() {
+
+		CompressedValue.setCompressionCodec(DeflaterCompressionCodec.INSTANCE);
+
+		StringBuilder html = new StringBuilder();
+
+		while (html.length() < 64 * 1024) {
+			html.append("<tr><td>").append(html.length() % 13).append("</td></tr>");
+		}
+
+		GemFireSessionAttributes sessionAttributes = GemFireSessionAttributes.create();
+
+		sessionAttributes.setAttribute("small", "test");
+		sessionAttributes.setAttribute("html", html.toString());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		this.sessionAttributesSerializer.serialize(sessionAttributes, new DataOutputStream(out));
+
+		assertThat(out.size()).isLessThan(html.length() / 4);
+
+		GemFireSessionAttributes deserializedSessionAttributes = this.sessionAttributesSerializer
+			.deserialize(new DataInputStream(new ByteArrayInputStream(out.toByteArray())));
+
+		assertThat(deserializedSessionAttributes.getAttributeNames()).containsOnly("small", "html");
+		assertThat(deserializedSessionAttributes.<String>getAttribute("small")).isEqualTo("test");
+		assertThat(deserializedSessionAttributes.<String>getAttribute("html")).isEqualTo(html.toString());
+	}
 }
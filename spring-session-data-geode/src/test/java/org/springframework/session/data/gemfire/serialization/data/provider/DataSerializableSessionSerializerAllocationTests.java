@@ -0,0 +1,197 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.serialization.data.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSessionAttributes;
+
+/**
+ * Allocation profiling tests for {@link DataSerializableSessionSerializer}
+ * and {@link DataSerializableSessionAttributesSerializer}.
+ *
+ * The bytes allocated by the current {@link Thread} are measured with the HotSpot
+ * {@link com.sun.management.ThreadMXBean}.  Serializing a {@link GemFireSession} with many attributes must allocate
+ * no more than serializing a {@link GemFireSession} with few attributes, i.e. no garbage is produced per field.
+ *
+ * @author John Blum
+ * @see com.sun.management.ThreadMXBean
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.serialization.data.provider.DataSerializableSessionAttributesSerializer
+ * @see org.springframework.session.data.gemfire.serialization.data.provider.DataSerializableSessionSerializer
+ * @since 2.1.3
+ */
+public class DataSerializableSessionSerializerAllocationTests {
+
+	private static final int FEW_ATTRIBUTES = 8;
+	private static final int MANY_ATTRIBUTES = 64;
+	private static final int MEASUREMENT_ITERATIONS = 20000;
+	private static final int WARMUP_ITERATIONS = 100000;
+
+	private com.sun.management.ThreadMXBean threadMXBean;
+
+	private final DataOutput output = new DiscardingDataOutput();
+
+	private final DataSerializableSessionAttributesSerializer sessionAttributesSerializer =
+		new DataSerializableSessionAttributesSerializer();
+
+	// Serializes the Session attributes directly rather than through the DataSerializer registry
+	private final DataSerializableSessionSerializer sessionSerializer = new DataSerializableSessionSerializer() {
+
+		@Override
+		public void serializeObject(Object obj, DataOutput out) throws IOException {
+
+			if (obj instanceof GemFireSessionAttributes) {
+				sessionAttributesSerializer.serialize((GemFireSessionAttributes) obj, out);
+			}
+			else {
+				super.serializeObject(obj, out);
+			}
+		}
+	};
+
+	@Before
+	public void setup() {
+
+		java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+		assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+
+		this.threadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+
+		assumeTrue(this.threadMXBean.isThreadAllocatedMemorySupported());
+
+		this.threadMXBean.setThreadAllocatedMemoryEnabled(true);
+	}
+
+	private GemFireSession<?> newSession(int attributeCount) {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setMaxInactiveInterval(Duration.ofMinutes(30L));
+		session.setPrincipalName("jxblum");
+
+		for (int index = 0; index < attributeCount; index++) {
+			session.setAttribute("attribute" + index, "value" + index);
+		}
+
+		return session;
+	}
+
+	private long allocatedBytesPerOperation(Runnable operation) {
+
+		for (int count = 0; count < WARMUP_ITERATIONS; count++) {
+			operation.run();
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long allocatedBytesBefore = this.threadMXBean.getThreadAllocatedBytes(threadId);
+
+		for (int count = 0; count < MEASUREMENT_ITERATIONS; count++) {
+			operation.run();
+		}
+
+		long allocatedBytes = this.threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+
+		return allocatedBytes / MEASUREMENT_ITERATIONS;
+	}
+
+	@Test
+	public void serializeSessionAttributesAllocatesNothingPerField() {
+
+		GemFireSessionAttributes fewSessionAttributes = newSession(FEW_ATTRIBUTES).getAttributes();
+		GemFireSessionAttributes manySessionAttributes = newSession(MANY_ATTRIBUTES).getAttributes();
+
+		long fewAttributesAllocatedBytes = allocatedBytesPerOperation(() ->
+			this.sessionAttributesSerializer.serialize(fewSessionAttributes, this.output));
+
+		long manyAttributesAllocatedBytes = allocatedBytesPerOperation(() ->
+			this.sessionAttributesSerializer.serialize(manySessionAttributes, this.output));
+
+		assertThat(manyAttributesAllocatedBytes).isLessThanOrEqualTo(fewAttributesAllocatedBytes);
+	}
+
+	@Test
+	public void serializeSessionAllocatesNothingPerField() {
+
+		GemFireSession<?> fewAttributesSession = newSession(FEW_ATTRIBUTES);
+		GemFireSession<?> manyAttributesSession = newSession(MANY_ATTRIBUTES);
+
+		long fewAttributesAllocatedBytes = allocatedBytesPerOperation(() ->
+			this.sessionSerializer.serialize(fewAttributesSession, this.output));
+
+		long manyAttributesAllocatedBytes = allocatedBytesPerOperation(() ->
+			this.sessionSerializer.serialize(manyAttributesSession, this.output));
+
+		assertThat(manyAttributesAllocatedBytes).isLessThanOrEqualTo(fewAttributesAllocatedBytes);
+	}
+
+	private static final class DiscardingDataOutput implements DataOutput {
+
+		@Override
+		public void write(int value) { }
+
+		@Override
+		public void write(byte[] bytes) { }
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) { }
+
+		@Override
+		public void writeBoolean(boolean value) { }
+
+		@Override
+		public void writeByte(int value) { }
+
+		@Override
+		public void writeShort(int value) { }
+
+		@Override
+		public void writeChar(int value) { }
+
+		@Override
+		public void writeInt(int value) { }
+
+		@Override
+		public void writeLong(long value) { }
+
+		@Override
+		public void writeFloat(float value) { }
+
+		@Override
+		public void writeDouble(double value) { }
+
+		@Override
+		public void writeBytes(String value) { }
+
+		@Override
+		public void writeChars(String value) { }
+
+		@Override
+		public void writeUTF(String value) { }
+	}
+}
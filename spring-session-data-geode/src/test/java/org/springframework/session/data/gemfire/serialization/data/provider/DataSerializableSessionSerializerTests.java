@@ -40,6 +40,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -168,7 +169,7 @@ public class DataSerializableSessionSerializerTests {
 	public void sessionToDataThenFromDataWhenPrincipalNameIsNullGetsHandledProperly()
 			throws ClassNotFoundException, IOException {
 
-		Instant beforeOrAtCreationTime = Instant.now();
+		Instant beforeOrAtCreationTime = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 
 		GemFireSession<?> expectedSession = GemFireSession.create();
 
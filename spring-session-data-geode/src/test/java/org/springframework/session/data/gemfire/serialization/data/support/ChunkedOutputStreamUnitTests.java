@@ -0,0 +1,196 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.serialization.data.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.springframework.session.data.gemfire.support.SerializationBuffer;
+
+/**
+ * Unit tests for {@link ChunkedOutputStream} and {@link ChunkedInputStream}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.serialization.data.support.ChunkedInputStream
+ * @see org.springframework.session.data.gemfire.serialization.data.support.ChunkedOutputStream
+ * @since 2.1.3
+ */
+public class ChunkedOutputStreamUnitTests {
+
+	private static byte[] randomBytes(int length) {
+
+		byte[] bytes = new byte[length];
+
+		new Random(length).nextBytes(bytes);
+
+		return bytes;
+	}
+
+	private static byte[] readFully(DataInputStream in) throws IOException {
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (ChunkedInputStream chunks = new ChunkedInputStream(in)) {
+
+			byte[] buffer = new byte[100];
+
+			for (int count = chunks.read(buffer); count != -1; count = chunks.read(buffer)) {
+				bytes.write(buffer, 0, count);
+			}
+		}
+
+		return bytes.toByteArray();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullDataOutput() {
+
+		try {
+			new ChunkedOutputStream(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("DataOutput is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidChunkSize() {
+
+		try {
+			new ChunkedOutputStream(new DataOutputStream(new ByteArrayOutputStream()), 0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Chunk size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void writesChunksOfChunkSizeTerminatedByZeroLength() throws IOException {
+
+		byte[] bytes = randomBytes(250);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (ChunkedOutputStream chunks = new ChunkedOutputStream(new DataOutputStream(out), 100)) {
+			chunks.write(bytes, 0, 20);
+			chunks.write(bytes[20]);
+			chunks.write(bytes, 21, 229);
+		}
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+
+		assertThat(in.readInt()).isEqualTo(100);
+		in.skipBytes(100);
+		assertThat(in.readInt()).isEqualTo(100);
+		in.skipBytes(100);
+		assertThat(in.readInt()).isEqualTo(50);
+		in.skipBytes(50);
+		assertThat(in.readInt()).isEqualTo(0);
+		assertThat(in.read()).isEqualTo(-1);
+	}
+
+	@Test
+	public void roundTripsLargeValue() throws IOException {
+
+		byte[] bytes = randomBytes(1024 * 1024 + 17);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		DataOutputStream dataOut = new DataOutputStream(out);
+
+		try (ChunkedOutputStream chunks = new ChunkedOutputStream(dataOut)) {
+			chunks.write(bytes);
+		}
+
+		dataOut.writeUTF("next");
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+
+		assertThat(Arrays.equals(readFully(in), bytes)).isTrue();
+		assertThat(in.readUTF()).isEqualTo("next");
+	}
+
+	@Test
+	public void writesBytesAlreadyInBufferFirst() throws IOException {
+
+		byte[] bytes = randomBytes(300);
+
+		SerializationBuffer buffer = new SerializationBuffer(16);
+
+		buffer.write(bytes, 0, 250);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (ChunkedOutputStream chunks = new ChunkedOutputStream(new DataOutputStream(out), buffer, 100)) {
+			chunks.write(bytes, 250, 50);
+		}
+
+		assertThat(buffer.size()).isZero();
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+
+		assertThat(Arrays.equals(readFully(in), bytes)).isTrue();
+	}
+
+	@Test
+	public void closingInputStreamSkipsRemainingChunks() throws IOException {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		DataOutputStream dataOut = new DataOutputStream(out);
+
+		try (ChunkedOutputStream chunks = new ChunkedOutputStream(dataOut, 10)) {
+			chunks.write(randomBytes(95));
+		}
+
+		dataOut.writeInt(42);
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+
+		try (ChunkedInputStream chunks = new ChunkedInputStream(in)) {
+			assertThat(chunks.read(new byte[15])).isEqualTo(10);
+			assertThat(chunks.read()).isNotEqualTo(-1);
+		}
+
+		assertThat(in.readInt()).isEqualTo(42);
+	}
+
+	@Test(expected = IOException.class)
+	public void writeAfterCloseThrowsIOException() throws IOException {
+
+		ChunkedOutputStream chunks = new ChunkedOutputStream(new DataOutputStream(new ByteArrayOutputStream()));
+
+		chunks.close();
+		chunks.write(1);
+	}
+}
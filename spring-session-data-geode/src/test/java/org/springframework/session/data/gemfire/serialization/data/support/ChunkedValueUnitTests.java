@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.serialization.data.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.geode.DataSerializer;
+
+/**
+ * Unit tests for {@link ChunkedValue}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.DataSerializer
+ * @see org.springframework.session.data.gemfire.serialization.data.support.ChunkedValue
+ * @since 2.1.3
+ */
+public class ChunkedValueUnitTests {
+
+	@After
+	public void tearDown() {
+		ChunkedValue.setChunkingThreshold(ChunkedValue.DEFAULT_CHUNKING_THRESHOLD);
+	}
+
+	private static byte[] randomBytes(int length) {
+
+		byte[] bytes = new byte[length];
+
+		new Random(length).nextBytes(bytes);
+
+		return bytes;
+	}
+
+	private static byte[] serialize(Object value) throws IOException {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		ChunkedValue.writeObject(value, new DataOutputStream(out), DataSerializer::writeObject);
+
+		return out.toByteArray();
+	}
+
+	private static byte[] serializeInline(Object value) throws IOException {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		DataSerializer.writeObject(value, new DataOutputStream(out));
+
+		return out.toByteArray();
+	}
+
+	private static <T> T deserialize(byte[] bytes) throws ClassNotFoundException, IOException {
+		return ChunkedValue.unwrap(DataSerializer.readObject(new DataInputStream(new ByteArrayInputStream(bytes))));
+	}
+
+	@Test
+	public void defaultChunkingThreshold() {
+		assertThat(ChunkedValue.getChunkingThreshold()).isEqualTo(ChunkedValue.DEFAULT_CHUNKING_THRESHOLD);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setChunkingThresholdToInvalidValue() {
+
+		try {
+			ChunkedValue.setChunkingThreshold(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Chunking threshold [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			assertThat(ChunkedValue.getChunkingThreshold()).isEqualTo(ChunkedValue.DEFAULT_CHUNKING_THRESHOLD);
+		}
+	}
+
+	@Test
+	public void isInlineForSmallSimpleValues() {
+
+		ChunkedValue.setChunkingThreshold(16);
+
+		assertThat(ChunkedValue.isInline(null)).isTrue();
+		assertThat(ChunkedValue.isInline(Boolean.TRUE)).isTrue();
+		assertThat(ChunkedValue.isInline(42L)).isTrue();
+		assertThat(ChunkedValue.isInline("four")).isTrue();
+		assertThat(ChunkedValue.isInline("five!")).isFalse();
+		assertThat(ChunkedValue.isInline(new byte[0])).isFalse();
+	}
+
+	@Test
+	public void writeObjectBelowThresholdIsIdenticalToInlineSerialization() throws Exception {
+
+		byte[] value = randomBytes(1024);
+
+		byte[] bytes = serialize(value);
+
+		assertThat(Arrays.equals(bytes, serializeInline(value))).isTrue();
+		assertThat(Arrays.equals(deserialize(bytes), value)).isTrue();
+	}
+
+	@Test
+	public void writeObjectAboveThresholdWritesChunkedValue() throws Exception {
+
+		ChunkedValue.setChunkingThreshold(1024);
+
+		byte[] value = randomBytes(3 * 1024 * 1024);
+
+		byte[] bytes = serialize(value);
+
+		assertThat(bytes.length).isGreaterThan(value.length);
+		assertThat(DataSerializer.<Object>readObject(new DataInputStream(new ByteArrayInputStream(bytes))))
+			.isInstanceOf(ChunkedValue.class);
+		assertThat(Arrays.equals(deserialize(bytes), value)).isTrue();
+	}
+
+	@Test
+	public void chunkedValueRoundTrips() throws Exception {
+
+		byte[] value = randomBytes(256 * 1024);
+
+		byte[] bytes = serializeInline(new ChunkedValue(value));
+
+		assertThat(Arrays.equals(deserialize(bytes), value)).isTrue();
+	}
+
+	@Test
+	public void unwrapReturnsValue() {
+
+		Object value = new Object();
+
+		assertThat(ChunkedValue.<Object>unwrap(new ChunkedValue(value))).isSameAs(value);
+		assertThat(ChunkedValue.<Object>unwrap(value)).isSameAs(value);
+		assertThat(ChunkedValue.<Object>unwrap(null)).isNull();
+	}
+}
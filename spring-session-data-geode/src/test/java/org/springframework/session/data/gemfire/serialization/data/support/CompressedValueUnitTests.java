@@ -0,0 +1,295 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.serialization.data.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.SerializationException;
+
+/**
+ * Unit tests for {@link CompressedValue}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.DataSerializer
+ * @see org.springframework.session.data.gemfire.serialization.data.support.CompressedValue
+ * @since 2.1.3
+ */
+public class CompressedValueUnitTests {
+
+	@After
+	public void tearDown() {
+		CompressedValue.setCompressionCodec(null);
+		CompressedValue.setCompressionThreshold(CompressedValue.DEFAULT_COMPRESSION_THRESHOLD);
+		ChunkedValue.setChunkingThreshold(ChunkedValue.DEFAULT_CHUNKING_THRESHOLD);
+	}
+
+	private static String newText(int length) {
+
+		StringBuilder text = new StringBuilder(length);
+
+		while (text.length() < length) {
+			text.append("<div class=\"row\"><span>").append(text.length() % 97).append("</span></div>");
+		}
+
+		return text.toString();
+	}
+
+	private static byte[] randomBytes(int length) {
+
+		byte[] bytes = new byte[length];
+
+		new Random(length).nextBytes(bytes);
+
+		return bytes;
+	}
+
+	private static byte[] serialize(Object value) throws IOException {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		ChunkedValue.writeObject(value, new DataOutputStream(out), DataSerializer::writeObject);
+
+		return out.toByteArray();
+	}
+
+	private static byte[] serializeInline(Object value) throws IOException {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		DataSerializer.writeObject(value, new DataOutputStream(out));
+
+		return out.toByteArray();
+	}
+
+	private static Object readObject(byte[] bytes) throws ClassNotFoundException, IOException {
+		return DataSerializer.readObject(new DataInputStream(new ByteArrayInputStream(bytes)));
+	}
+
+	@Test
+	public void compressionIsDisabledByDefault() {
+
+		assertThat(CompressedValue.isCompressionEnabled()).isFalse();
+		assertThat(CompressedValue.getCompressionCodec()).isNull();
+		assertThat(CompressedValue.getCompressionThreshold()).isEqualTo(CompressedValue.DEFAULT_COMPRESSION_THRESHOLD);
+	}
+
+	@Test
+	public void setCompressionCodecEnablesCompression() {
+
+		CompressedValue.setCompressionCodec(DeflaterCompressionCodec.INSTANCE);
+
+		assertThat(CompressedValue.isCompressionEnabled()).isTrue();
+		assertThat(CompressedValue.getCompressionCodec()).isSameAs(DeflaterCompressionCodec.INSTANCE);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setCompressionThresholdToInvalidValue() {
+
+		try {
+			CompressedValue.setCompressionThreshold(-1);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Compression threshold [-1] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void registerCompressionCodecWithReservedIdentifier() {
+
+		try {
+			CompressedValue.registerCompressionCodec(new TestCompressionCodec((byte) 0));
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("CompressionCodec [%s] identifier must not be 0",
+				TestCompressionCodec.class.getName());
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void writeObjectWithCompressionDisabledIsInline() throws Exception {
+
+		String text = newText(16 * 1024);
+
+		assertThat(serialize(text)).isEqualTo(serializeInline(text));
+	}
+
+	@Test
+	public void writeObjectBelowCompressionThresholdIsInline() throws Exception {
+
+		CompressedValue.setCompressionCodec(DeflaterCompressionCodec.INSTANCE);
+
+		String text = newText(512);
+
+		assertThat(serialize(text)).isEqualTo(serializeInline(text));
+	}
+
+	@Test
+	public void writeObjectCompressesCompressibleValue() throws Exception {
+
+		CompressedValue.setCompressionCodec(DeflaterCompressionCodec.INSTANCE);
+
+		String text = newText(64 * 1024);
+
+		byte[] bytes = serialize(text);
+
+		assertThat(bytes.length).isLessThan(serializeInline(text).length / 4);
+		assertThat(readObject(bytes)).isInstanceOf(CompressedValue.class);
+		assertThat(ChunkedValue.<String>unwrap(readObject(bytes))).isEqualTo(text);
+	}
+
+	@Test
+	public void writeObjectDoesNotCompressIncompressibleValue() throws Exception {
+
+		CompressedValue.setCompressionCodec(DeflaterCompressionCodec.INSTANCE);
+
+		byte[] value = randomBytes(64 * 1024);
+
+		assertThat(serialize(value)).isEqualTo(serializeInline(value));
+	}
+
+	@Test
+	public void writeObjectCompressesLargeValueInChunks() throws Exception {
+
+		CompressedValue.setCompressionCodec(DeflaterCompressionCodec.INSTANCE);
+		ChunkedValue.setChunkingThreshold(8 * 1024);
+
+		String text = newText(4 * 1024 * 1024);
+
+		byte[] bytes = serialize(text);
+
+		assertThat(bytes.length).isLessThan(text.length() / 4);
+		assertThat(readObject(bytes)).isInstanceOf(CompressedValue.class);
+		assertThat(ChunkedValue.<String>unwrap(readObject(bytes))).isEqualTo(text);
+	}
+
+	@Test
+	public void writeObjectChunksLargeIncompressibleValue() throws Exception {
+
+		CompressedValue.setCompressionCodec(DeflaterCompressionCodec.INSTANCE);
+		ChunkedValue.setChunkingThreshold(8 * 1024);
+
+		byte[] value = randomBytes(1024 * 1024);
+
+		byte[] bytes = serialize(value);
+
+		assertThat(readObject(bytes)).isExactlyInstanceOf(ChunkedValue.class);
+		assertThat(Arrays.equals(ChunkedValue.unwrap(readObject(bytes)), value)).isTrue();
+	}
+
+	@Test
+	public void compressedValueIsReadableWithCompressionDisabled() throws Exception {
+
+		CompressedValue.setCompressionCodec(DeflaterCompressionCodec.INSTANCE);
+
+		String text = newText(64 * 1024);
+
+		byte[] bytes = serialize(text);
+
+		CompressedValue.setCompressionCodec(null);
+
+		assertThat(ChunkedValue.<String>unwrap(readObject(bytes))).isEqualTo(text);
+	}
+
+	@Test
+	public void compressedValueUsingCustomCompressionCodec() throws Exception {
+
+		CompressedValue.setCompressionCodec(new TestCompressionCodec((byte) 42));
+
+		String text = newText(64 * 1024);
+
+		CompressedValue compressedValue = CompressedValue.compress(text);
+
+		assertThat(compressedValue).isNotNull();
+		assertThat(compressedValue.getCodec().getId()).isEqualTo((byte) 42);
+		assertThat(compressedValue.getValue()).isEqualTo(text);
+		assertThat(ChunkedValue.<String>unwrap(readObject(serializeInline(compressedValue)))).isEqualTo(text);
+	}
+
+	@Test
+	public void compressReturnsNullForInlineValues() throws Exception {
+
+		CompressedValue.setCompressionCodec(DeflaterCompressionCodec.INSTANCE);
+
+		assertThat(CompressedValue.compress(null)).isNull();
+		assertThat(CompressedValue.compress(1L)).isNull();
+		assertThat(CompressedValue.compress("test")).isNull();
+	}
+
+	@Test(expected = SerializationException.class)
+	public void readCompressedValueWithUnregisteredCompressionCodecThrowsException() throws Exception {
+
+		byte[] bytes = serializeInline(new CompressedValue("test", new TestCompressionCodec((byte) 99)));
+
+		try {
+			readObject(bytes);
+		}
+		catch (SerializationException expected) {
+
+			assertThat(expected).hasRootCauseInstanceOf(IOException.class);
+			assertThat(expected).hasStackTraceContaining("No CompressionCodec with identifier [99] is registered");
+
+			throw expected;
+		}
+	}
+
+	private static final class TestCompressionCodec implements CompressionCodec {
+
+		private final byte id;
+
+		TestCompressionCodec(byte id) {
+			this.id = id;
+		}
+
+		@Override
+		public byte getId() {
+			return this.id;
+		}
+
+		@Override
+		public OutputStream compress(OutputStream out) {
+			return DeflaterCompressionCodec.INSTANCE.compress(out);
+		}
+
+		@Override
+		public InputStream decompress(InputStream in) {
+			return DeflaterCompressionCodec.INSTANCE.decompress(in);
+		}
+	}
+}
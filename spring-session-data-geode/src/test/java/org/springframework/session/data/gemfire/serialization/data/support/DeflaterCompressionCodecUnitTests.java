@@ -0,0 +1,147 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.serialization.data.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+
+import org.junit.Test;
+
+import org.springframework.util.StreamUtils;
+
+/**
+ * Unit tests for {@link DeflaterCompressionCodec}.
+ *
+ * @author John Blum
+ * @see java.util.zip.Deflater
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.serialization.data.support.DeflaterCompressionCodec
+ * @since 2.1.3
+ */
+public class DeflaterCompressionCodecUnitTests {
+
+	private final DeflaterCompressionCodec codec = new DeflaterCompressionCodec();
+
+	private static byte[] newText() {
+
+		StringBuilder text = new StringBuilder();
+
+		for (int count = 0; count < 1000; count++) {
+			text.append("{\"id\":").append(count).append(",\"name\":\"test\"}");
+		}
+
+		return text.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private byte[] compress(byte[] bytes) throws IOException {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (OutputStream compressing = this.codec.compress(out)) {
+			compressing.write(bytes);
+		}
+
+		return out.toByteArray();
+	}
+
+	private byte[] decompress(byte[] bytes) throws IOException {
+
+		try (InputStream decompressing = this.codec.decompress(new ByteArrayInputStream(bytes))) {
+			return StreamUtils.copyToByteArray(decompressing);
+		}
+	}
+
+	@Test
+	public void defaultCompressionLevelIsBestSpeed() {
+
+		assertThat(this.codec.getId()).isEqualTo(DeflaterCompressionCodec.ID);
+		assertThat(this.codec.getCompressionLevel()).isEqualTo(Deflater.BEST_SPEED);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidCompressionLevel() {
+
+		try {
+			new DeflaterCompressionCodec(10);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Compression level [10] must be between 0 and 9");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void compressAndDecompressRoundTrips() throws IOException {
+
+		byte[] text = newText();
+
+		byte[] compressed = compress(text);
+
+		assertThat(compressed.length).isLessThan(text.length / 4);
+		assertThat(decompress(compressed)).isEqualTo(text);
+
+		// The Thread's Deflater and Inflater are reused
+		assertThat(decompress(compress(text))).isEqualTo(text);
+	}
+
+	@Test
+	public void nestedCompressionDoesNotShareDeflater() throws IOException {
+
+		byte[] text = newText();
+
+		ByteArrayOutputStream outer = new ByteArrayOutputStream();
+
+		try (OutputStream outerCompressing = this.codec.compress(outer)) {
+
+			outerCompressing.write(text, 0, 100);
+
+			byte[] nested = compress(text);
+
+			assertThat(decompress(nested)).isEqualTo(text);
+
+			outerCompressing.write(text, 100, text.length - 100);
+		}
+
+		assertThat(decompress(outer.toByteArray())).isEqualTo(text);
+	}
+
+	@Test
+	public void closingStreamsDoesNotCloseUnderlyingStreams() throws IOException {
+
+		OutputStream mockOutputStream = mock(OutputStream.class);
+		InputStream mockInputStream = mock(InputStream.class);
+
+		this.codec.compress(mockOutputStream).close();
+		this.codec.decompress(mockInputStream).close();
+
+		verify(mockOutputStream, never()).close();
+		verify(mockInputStream, never()).close();
+	}
+}
@@ -18,27 +18,39 @@ package org.springframework.session.data.gemfire.serialization.pdx.provider;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.DeltaCapableGemFireSession;
 import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.DataSerializer;
 import org.apache.geode.pdx.PdxReader;
 import org.apache.geode.pdx.PdxWriter;
 
 import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.data.gemfire.serialization.data.support.CompressedValue;
+import org.springframework.session.data.gemfire.serialization.data.support.DeflaterCompressionCodec;
 
 /**
  * The PdxSerializableSessionSerializerTests class...
@@ -57,6 +69,11 @@ public class PdxSerializableSessionSerializerTests {
 
 	private PdxSerializableSessionSerializer sessionSerializer = new PdxSerializableSessionSerializer();
 
+	@After
+	public void tearDown() {
+		CompressedValue.setCompressionCodec(null);
+	}
+
 	@Test
 	public void serializeSessionIsCorrect() {
 
@@ -65,6 +82,7 @@ public class PdxSerializableSessionSerializerTests {
 		session.setMaxInactiveInterval(Duration.ofMinutes(30));
 		session.setAttribute("attributeOne", "valueOne");
 		session.setAttribute("attributeTwo", "valueTwo");
+		session.setVersion(3L);
 
 		this.sessionSerializer.serialize(session, this.mockPdxWriter);
 
@@ -74,6 +92,9 @@ public class PdxSerializableSessionSerializerTests {
 		verify(this.mockPdxWriter, times(1))
 			.writeLong(eq("creationTime"), eq(session.getCreationTime().toEpochMilli()));
 
+		verify(this.mockPdxWriter, times(1))
+			.writeLong(eq("creationTimeInMillis"), eq(session.getCreationTime().toEpochMilli()));
+
 		verify(this.mockPdxWriter, times(1))
 			.writeLong(eq("lastAccessedTime"), eq(session.getLastAccessedTime().toEpochMilli()));
 
@@ -85,6 +106,8 @@ public class PdxSerializableSessionSerializerTests {
 
 		verify(this.mockPdxWriter, times(1))
 			.writeObject(eq("attributes"), eq(new HashMap<>(session.getAttributes())));
+
+		verify(this.mockPdxWriter, times(1)).writeLong(eq("version"), eq(3L));
 	}
 
 	@Test
@@ -104,8 +127,8 @@ public class PdxSerializableSessionSerializerTests {
 
 		Duration expectedMaxInactiveInterval = Duration.ofMinutes(30);
 
-		Instant expectedCreationTime = Instant.now();
-		Instant expectedLastAccessedTime = Instant.now();
+		Instant expectedCreationTime = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+		Instant expectedLastAccessedTime = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 
 		Map<String, String> expectedAttributes = new HashMap<>(2);
 
@@ -124,6 +147,7 @@ public class PdxSerializableSessionSerializerTests {
 
 		when(this.mockPdxReader.readString(eq("principalName"))).thenReturn("jonDoe");
 		when(this.mockPdxReader.readObject(eq("attributes"))).thenReturn(expectedAttributes);
+		when(this.mockPdxReader.readLong(eq("version"))).thenReturn(7L);
 
 		GemFireSession session = this.sessionSerializer.deserialize(this.mockPdxReader);
 
@@ -134,6 +158,7 @@ public class PdxSerializableSessionSerializerTests {
 		assertThat(session.getMaxInactiveInterval()).isEqualTo(expectedMaxInactiveInterval);
 		assertThat(session.getPrincipalName()).isEqualTo("jonDoe");
 		assertThat(this.sessionSerializer.newMap(session.getAttributes())).isEqualTo(expectedAttributes);
+		assertThat(session.getVersion()).isEqualTo(7L);
 
 		verify(this.mockPdxReader, times(1)).readString(eq("id"));
 		verify(this.mockPdxReader, times(1)).readLong(eq("creationTime"));
@@ -141,6 +166,7 @@ public class PdxSerializableSessionSerializerTests {
 		verify(this.mockPdxReader, times(1)).readLong(eq("maxInactiveIntervalInSeconds"));
 		verify(this.mockPdxReader, times(1)).readString(eq("principalName"));
 		verify(this.mockPdxReader, times(1)).readObject(eq("attributes"));
+		verify(this.mockPdxReader, times(1)).readLong(eq("version"));
 	}
 
 	@Test
@@ -162,4 +188,55 @@ public class PdxSerializableSessionSerializerTests {
 	public void canSerializeNullClassTypeIsFalse() {
 		assertThat(this.sessionSerializer.canSerialize(null)).isFalse();
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void serializeAndDeserializeSessionWithCompressedAttribute() throws Exception {
+
+		CompressedValue.setCompressionCodec(DeflaterCompressionCodec.INSTANCE);
+
+		StringBuilder json = new StringBuilder();
+
+		while (json.length() < CompressedValue.getCompressionThreshold() * 2) {
+			json.append("{\"name\":\"value\",\"items\":[1,2,3]}");
+		}
+
+		GemFireSession session = GemFireSession.create();
+
+		session.setAttribute("small", "test");
+		session.setAttribute("json", json.toString());
+
+		this.sessionSerializer.serialize(session, this.mockPdxWriter);
+
+		ArgumentCaptor<Object> attributes = ArgumentCaptor.forClass(Object.class);
+
+		verify(this.mockPdxWriter, times(1)).writeObject(eq("attributes"), attributes.capture());
+
+		Map<String, Object> serializedAttributes = (Map<String, Object>) attributes.getValue();
+
+		assertThat(serializedAttributes.get("small")).isEqualTo("test");
+		assertThat(serializedAttributes.get("json")).isInstanceOf(CompressedValue.class);
+
+		assertThat(serialize(serializedAttributes.get("json")).length).isLessThan(json.length() / 4);
+
+		PdxReader mockPdxReader = mock(PdxReader.class);
+
+		when(mockPdxReader.readString(eq("id"))).thenReturn(session.getId());
+		when(mockPdxReader.readObject(eq("attributes"))).thenReturn(DataSerializer.readObject(
+			new DataInputStream(new ByteArrayInputStream(serialize(serializedAttributes)))));
+
+		GemFireSession deserializedSession = this.sessionSerializer.deserialize(mockPdxReader);
+
+		assertThat(deserializedSession.<String>getAttribute("small")).isEqualTo("test");
+		assertThat(deserializedSession.<String>getAttribute("json")).isEqualTo(json.toString());
+	}
+
+	private static byte[] serialize(Object value) throws IOException {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		DataSerializer.writeObject(value, new DataOutputStream(out));
+
+		return out.toByteArray();
+	}
 }
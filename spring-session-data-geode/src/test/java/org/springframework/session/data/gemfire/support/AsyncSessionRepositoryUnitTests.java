@@ -0,0 +1,199 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+/**
+ * Unit tests for {@link AsyncSessionRepository}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.Mockito
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.springframework.session.SessionRepository
+ * @see org.springframework.session.data.gemfire.support.AsyncSessionRepository
+ * @since 2.1.3
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncSessionRepositoryUnitTests {
+
+	private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+	@Mock
+	private SessionRepository<Session> mockSessionRepository;
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructAsyncSessionRepositoryWithNullSessionRepository() {
+
+		try {
+			new AsyncSessionRepository<>(null, DIRECT_EXECUTOR);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("SessionRepository is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructAsyncSessionRepositoryWithNullExecutor() {
+
+		try {
+			new AsyncSessionRepository<>(this.mockSessionRepository, null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Executor is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void repositoryOperationsCallDelegate() {
+
+		Session mockSession = mock(Session.class);
+
+		when(this.mockSessionRepository.createSession()).thenReturn(mockSession);
+		when(this.mockSessionRepository.findById(eq("1"))).thenReturn(mockSession);
+
+		AsyncSessionRepository<Session> sessionRepository =
+			new AsyncSessionRepository<>(this.mockSessionRepository, DIRECT_EXECUTOR);
+
+		assertThat(sessionRepository.getDelegate()).isSameAs(this.mockSessionRepository);
+		assertThat(sessionRepository.getExecutor()).isSameAs(DIRECT_EXECUTOR);
+		assertThat(sessionRepository.createSession().join()).isSameAs(mockSession);
+		assertThat(sessionRepository.findById("1").join()).isSameAs(mockSession);
+
+		sessionRepository.save(mockSession).join();
+		sessionRepository.deleteById("1").join();
+
+		verify(this.mockSessionRepository, times(1)).createSession();
+		verify(this.mockSessionRepository, times(1)).findById(eq("1"));
+		verify(this.mockSessionRepository, times(1)).save(eq(mockSession));
+		verify(this.mockSessionRepository, times(1)).deleteById(eq("1"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findByIndexNameAndIndexValueCallsDelegate() {
+
+		FindByIndexNameSessionRepository<Session> mockSessionRepository = mock(FindByIndexNameSessionRepository.class);
+
+		Map<String, Session> sessions = Collections.singletonMap("1", mock(Session.class));
+
+		when(mockSessionRepository.findByIndexNameAndIndexValue(any(), any())).thenReturn(sessions);
+
+		AsyncSessionRepository<Session> sessionRepository =
+			new AsyncSessionRepository<>(mockSessionRepository, DIRECT_EXECUTOR);
+
+		assertThat(sessionRepository.findByIndexNameAndIndexValue("principalName", "jonDoe").join())
+			.isSameAs(sessions);
+
+		verify(mockSessionRepository, times(1))
+			.findByIndexNameAndIndexValue(eq("principalName"), eq("jonDoe"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void findByIndexNameAndIndexValueWithNonIndexingDelegateCompletesExceptionally() throws Throwable {
+
+		try {
+			new AsyncSessionRepository<>(this.mockSessionRepository, DIRECT_EXECUTOR)
+				.findByIndexNameAndIndexValue("principalName", "jonDoe").join();
+		}
+		catch (CompletionException expected) {
+			throw expected.getCause();
+		}
+	}
+
+	@Test
+	public void defaultExecutorRunsOperationsOnSeparateThreads() throws Exception {
+
+		AtomicReference<Thread> operationThread = new AtomicReference<>();
+
+		when(this.mockSessionRepository.findById(eq("1"))).thenAnswer(invocation -> {
+			operationThread.set(Thread.currentThread());
+			return null;
+		});
+
+		AsyncSessionRepository<Session> sessionRepository = new AsyncSessionRepository<>(this.mockSessionRepository);
+
+		try {
+			assertThat(sessionRepository.findById("1").get(5, TimeUnit.SECONDS)).isNull();
+			assertThat(operationThread.get()).isNotNull();
+			assertThat(operationThread.get()).isNotSameAs(Thread.currentThread());
+		}
+		finally {
+			sessionRepository.destroy();
+		}
+
+		assertThat(((ExecutorService) sessionRepository.getExecutor()).isShutdown()).isTrue();
+	}
+
+	@Test
+	public void destroyDoesNotShutdownProvidedExecutor() {
+
+		ExecutorService mockExecutorService = mock(ExecutorService.class);
+
+		new AsyncSessionRepository<>(this.mockSessionRepository, mockExecutorService).destroy();
+
+		verify(mockExecutorService, times(0)).shutdown();
+	}
+
+	@Test
+	public void newDefaultExecutorServiceMatchesVirtualThreadSupport() {
+
+		ExecutorService executorService = AsyncSessionRepository.newDefaultExecutorService();
+
+		try {
+			assertThat(executorService).isNotNull();
+			assertThat(executorService.getClass().getName().contains("ThreadPerTask"))
+				.isEqualTo(AsyncSessionRepository.isVirtualThreadSupportPresent());
+		}
+		finally {
+			executorService.shutdown();
+		}
+	}
+}
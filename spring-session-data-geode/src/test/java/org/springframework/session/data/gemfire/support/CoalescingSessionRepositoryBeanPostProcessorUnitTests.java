@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+/**
+ * Unit tests for {@link CoalescingSessionRepositoryBeanPostProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.support.CoalescingSessionRepositoryBeanPostProcessor
+ * @since 2.1.3
+ */
+public class CoalescingSessionRepositoryBeanPostProcessorUnitTests {
+
+	@Test
+	public void doesNotProcessNonSessionRepositoryBeans() {
+
+		Object bean = new CoalescingSessionRepositoryBeanPostProcessor()
+			.postProcessAfterInitialization("test", "testBean");
+
+		assertThat(bean).isEqualTo("test");
+	}
+
+	@Test
+	@SuppressWarnings("all")
+	public void processesSessionRepositoryBean() {
+
+		Function<Session, Session> sessionCopier = Function.identity();
+
+		SessionRepository<?> mockSessionRepository = mock(SessionRepository.class);
+
+		Object sessionRepository = new CoalescingSessionRepositoryBeanPostProcessor(sessionCopier)
+			.postProcessAfterInitialization(mockSessionRepository, "sessionRepository");
+
+		assertThat(sessionRepository).isInstanceOf(CoalescingSessionRepository.class);
+		assertThat(((CoalescingSessionRepository<?>) sessionRepository).getDelegate())
+			.isEqualTo(mockSessionRepository);
+		assertThat(((CoalescingSessionRepository<?>) sessionRepository).getSessionCopier())
+			.isEqualTo(sessionCopier);
+	}
+
+	@Test
+	@SuppressWarnings("all")
+	public void doesNotProcessCoalescingSessionRepositoryBean() {
+
+		CoalescingSessionRepository<?> sessionRepository =
+			new CoalescingSessionRepository<>(mock(SessionRepository.class));
+
+		assertThat(new CoalescingSessionRepositoryBeanPostProcessor()
+			.postProcessAfterInitialization(sessionRepository, "sessionRepository")).isSameAs(sessionRepository);
+	}
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+
+/**
+ * Unit tests for {@link CoalescingSessionRepository}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.Mockito
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.SessionRepository
+ * @see org.springframework.session.data.gemfire.support.CoalescingSessionRepository
+ * @since 2.1.3
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CoalescingSessionRepositoryUnitTests {
+
+	@Mock
+	private SessionRepository<Session> mockSessionRepository;
+
+	@Test
+	public void constructsCoalescingSessionRepository() {
+
+		CoalescingSessionRepository<Session> sessionRepository =
+			new CoalescingSessionRepository<>(this.mockSessionRepository);
+
+		assertThat(sessionRepository.getDelegate()).isEqualTo(this.mockSessionRepository);
+		assertThat(sessionRepository.isEnabled()).isTrue();
+		assertThat(sessionRepository.getSessionCopier()).isSameAs(CoalescingSessionRepository.DEFAULT_SESSION_COPIER);
+		assertThat(sessionRepository.getLookupCount()).isZero();
+		assertThat(sessionRepository.getCoalescedLookupCount()).isZero();
+		assertThat(sessionRepository.getCoalescingRate()).isZero();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructCoalescingSessionRepositoryWithNullSessionRepository() {
+
+		try {
+			new CoalescingSessionRepository<>(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("SessionRepository is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void createSaveAndDeleteCallDelegate() {
+
+		Session mockSession = mock(Session.class);
+
+		when(this.mockSessionRepository.createSession()).thenReturn(mockSession);
+
+		CoalescingSessionRepository<Session> sessionRepository =
+			new CoalescingSessionRepository<>(this.mockSessionRepository);
+
+		assertThat(sessionRepository.createSession()).isSameAs(mockSession);
+
+		sessionRepository.save(mockSession);
+		sessionRepository.deleteById("1");
+
+		verify(this.mockSessionRepository, times(1)).createSession();
+		verify(this.mockSessionRepository, times(1)).save(mockSession);
+		verify(this.mockSessionRepository, times(1)).deleteById("1");
+	}
+
+	@Test
+	public void uncontendedFindByIdReturnsSessionFromDelegate() {
+
+		Session mockSession = mock(Session.class);
+
+		when(this.mockSessionRepository.findById(anyString())).thenReturn(mockSession);
+
+		CoalescingSessionRepository<Session> sessionRepository =
+			new CoalescingSessionRepository<>(this.mockSessionRepository);
+
+		assertThat(sessionRepository.findById("1")).isSameAs(mockSession);
+		assertThat(sessionRepository.findById("1")).isSameAs(mockSession);
+		assertThat(sessionRepository.getLookupCount()).isEqualTo(2L);
+		assertThat(sessionRepository.getCoalescedLookupCount()).isZero();
+
+		verify(this.mockSessionRepository, times(2)).findById(anyString());
+	}
+
+	@Test
+	public void findByIdReturnsNullWhenSessionDoesNotExist() {
+
+		CoalescingSessionRepository<Session> sessionRepository =
+			new CoalescingSessionRepository<>(this.mockSessionRepository);
+
+		assertThat(sessionRepository.findById("1")).isNull();
+
+		verify(this.mockSessionRepository, times(1)).findById("1");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void concurrentFindByIdForSameSessionIsCoalesced() throws Exception {
+
+		int threadCount = 8;
+
+		CountDownLatch leaderStarted = new CountDownLatch(1);
+		CountDownLatch leaderRelease = new CountDownLatch(1);
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setAttribute("attributeOne", "test");
+
+		when(this.mockSessionRepository.findById(session.getId())).thenAnswer(invocation -> {
+			leaderStarted.countDown();
+			leaderRelease.await(5, TimeUnit.SECONDS);
+			return session;
+		});
+
+		CoalescingSessionRepository<Session> sessionRepository =
+			new CoalescingSessionRepository<>(this.mockSessionRepository);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+		try {
+
+			List<Thread> waiterThreads = Collections.synchronizedList(new ArrayList<>());
+			List<Future<Session>> results = new ArrayList<>();
+
+			results.add(executorService.submit(() -> sessionRepository.findById(session.getId())));
+
+			assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+			for (int count = 1; count < threadCount; count++) {
+				results.add(executorService.submit(() -> {
+					waiterThreads.add(Thread.currentThread());
+					return sessionRepository.findById(session.getId());
+				}));
+			}
+
+			waitForWaiters(waiterThreads, threadCount - 1);
+
+			leaderRelease.countDown();
+
+			List<Session> sessions = new ArrayList<>();
+
+			for (Future<Session> result : results) {
+				sessions.add(result.get(5, TimeUnit.SECONDS));
+			}
+
+			assertThat(sessions).hasSize(threadCount);
+
+			sessions.forEach(it -> {
+				assertThat(it).isNotSameAs(session);
+				assertThat(it).isInstanceOf(GemFireSession.class);
+				assertThat(it.getId()).isEqualTo(session.getId());
+				assertThat(it.<String>getAttribute("attributeOne")).isEqualTo("test");
+			});
+
+			assertThat(sessions.stream().distinct().count()).isEqualTo(1L);
+			assertThat(sessions.stream().map(System::identityHashCode).distinct().count())
+				.isEqualTo(threadCount);
+
+			assertThat(sessionRepository.getLookupCount()).isEqualTo(threadCount);
+			assertThat(sessionRepository.getCoalescedLookupCount()).isEqualTo(threadCount - 1);
+			assertThat(sessionRepository.getCoalescingRate()).isEqualTo((threadCount - 1) / (double) threadCount);
+
+			verify(this.mockSessionRepository, times(1)).findById(session.getId());
+			verifyNoMoreInteractions(this.mockSessionRepository);
+		}
+		finally {
+			leaderRelease.countDown();
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void concurrentFindByIdPropagatesDelegateExceptionToWaiters() throws Exception {
+
+		CountDownLatch leaderStarted = new CountDownLatch(1);
+		CountDownLatch leaderRelease = new CountDownLatch(1);
+
+		when(this.mockSessionRepository.findById("1")).thenAnswer(invocation -> {
+			leaderStarted.countDown();
+			leaderRelease.await(5, TimeUnit.SECONDS);
+			throw new IllegalStateException("TEST");
+		});
+
+		CoalescingSessionRepository<Session> sessionRepository =
+			new CoalescingSessionRepository<>(this.mockSessionRepository);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+
+			List<Thread> waiterThreads = Collections.synchronizedList(new ArrayList<>());
+
+			Future<Session> leader = executorService.submit(() -> sessionRepository.findById("1"));
+
+			assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+			Future<Session> waiter = executorService.submit(() -> {
+				waiterThreads.add(Thread.currentThread());
+				return sessionRepository.findById("1");
+			});
+
+			waitForWaiters(waiterThreads, 1);
+
+			leaderRelease.countDown();
+
+			assertFailedWithIllegalStateException(leader);
+			assertFailedWithIllegalStateException(waiter);
+
+			verify(this.mockSessionRepository, times(1)).findById("1");
+		}
+		finally {
+			leaderRelease.countDown();
+			executorService.shutdownNow();
+		}
+	}
+
+	private void assertFailedWithIllegalStateException(Future<Session> future) throws Exception {
+
+		try {
+			future.get(5, TimeUnit.SECONDS);
+			throw new AssertionError("Expected IllegalStateException");
+		}
+		catch (java.util.concurrent.ExecutionException expected) {
+			assertThat(expected.getCause()).isInstanceOf(IllegalStateException.class);
+			assertThat(expected.getCause()).hasMessage("TEST");
+		}
+	}
+
+	private void waitForWaiters(List<Thread> waiterThreads, int expectedWaiters) throws InterruptedException {
+
+		long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+
+		while (System.currentTimeMillis() < timeout) {
+
+			synchronized (waiterThreads) {
+				if (waiterThreads.size() == expectedWaiters && waiterThreads.stream()
+						.allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+					return;
+				}
+			}
+
+			Thread.sleep(10L);
+		}
+
+		throw new AssertionError(String.format("Expected [%d] waiters", expectedWaiters));
+	}
+
+	@Test
+	public void lookupTracksWaitersAndDefaultCopierDoesNotCopyNonGemFireSessions() {
+
+		Session mockSession = mock(Session.class);
+
+		CoalescingSessionRepository<Session> sessionRepository =
+			new CoalescingSessionRepository<>(this.mockSessionRepository);
+
+		CoalescingSessionRepository.Lookup<Session> lookup = new CoalescingSessionRepository.Lookup<>();
+
+		assertThat(lookup.hasWaiters()).isFalse();
+		assertThat(lookup.join()).isSameAs(lookup);
+		assertThat(lookup.hasWaiters()).isTrue();
+		assertThat(sessionRepository.getSessionCopier().apply(mockSession)).isNull();
+	}
+
+	@Test
+	public void disabledCoalescingCallsDelegateDirectly() {
+
+		Session mockSession = mock(Session.class);
+
+		when(this.mockSessionRepository.findById("1")).thenReturn(mockSession);
+
+		CoalescingSessionRepository<Session> sessionRepository =
+			new CoalescingSessionRepository<>(this.mockSessionRepository);
+
+		sessionRepository.setEnabled(false);
+
+		assertThat(sessionRepository.isEnabled()).isFalse();
+		assertThat(sessionRepository.findById("1")).isSameAs(mockSession);
+		assertThat(sessionRepository.getLookupCount()).isEqualTo(1L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findByIndexNameAndIndexValueCallsFindByIndexNameSessionRepositoryDelegate() {
+
+		FindByIndexNameSessionRepository<Session> mockSessionRepository =
+			mock(FindByIndexNameSessionRepository.class);
+
+		Map<String, Session> sessions = Collections.singletonMap("1", mock(Session.class));
+
+		when(mockSessionRepository.findByIndexNameAndIndexValue("name", "value")).thenReturn(sessions);
+
+		assertThat(new CoalescingSessionRepository<>(mockSessionRepository)
+			.findByIndexNameAndIndexValue("name", "value")).isEqualTo(sessions);
+
+		verify(mockSessionRepository, times(1)).findByIndexNameAndIndexValue("name", "value");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void findByIndexNameAndIndexValueThrowsUnsupportedOperationException() {
+		new CoalescingSessionRepository<>(this.mockSessionRepository).findByIndexNameAndIndexValue("name", "value");
+	}
+}
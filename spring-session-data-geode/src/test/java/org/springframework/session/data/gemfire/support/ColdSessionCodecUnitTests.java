@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.Test;
+
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+/**
+ * Unit tests for {@link ColdSessionCodec}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.MapSession
+ * @see org.springframework.session.data.gemfire.support.ColdSessionCodec
+ * @since 2.1.3
+ */
+public class ColdSessionCodecUnitTests {
+
+	@Test
+	public void encodeAndDecodeSessionRoundTrips() throws IOException {
+
+		MapSession session = new MapSession("123");
+
+		session.setAttribute("attributeOne", "test");
+		session.setAttribute("attributeTwo", 2);
+		session.setLastAccessedTime(Instant.ofEpochMilli(1000L));
+		session.setMaxInactiveInterval(Duration.ofMinutes(30L));
+
+		byte[] coldValue = ColdSessionCodec.encode(session, 5000L);
+
+		assertThat(ColdSessionCodec.isColdSession(coldValue)).isTrue();
+		assertThat(ColdSessionCodec.expirationTimeOf(coldValue)).isEqualTo(5000L);
+
+		Object decodedValue = ColdSessionCodec.decode(coldValue);
+
+		assertThat(decodedValue).isInstanceOf(MapSession.class);
+		assertThat(decodedValue).isNotSameAs(session);
+
+		Session decodedSession = (Session) decodedValue;
+
+		assertThat(decodedSession.getId()).isEqualTo("123");
+		assertThat(decodedSession.getAttributeNames()).containsExactlyInAnyOrder("attributeOne", "attributeTwo");
+		assertThat(decodedSession.<String>getAttribute("attributeOne")).isEqualTo("test");
+		assertThat(decodedSession.<Integer>getAttribute("attributeTwo")).isEqualTo(2);
+		assertThat(decodedSession.getLastAccessedTime()).isEqualTo(Instant.ofEpochMilli(1000L));
+		assertThat(decodedSession.getMaxInactiveInterval()).isEqualTo(Duration.ofMinutes(30L));
+	}
+
+	@Test
+	public void encodeCompressesRepetitiveSessionState() throws IOException {
+
+		StringBuilder value = new StringBuilder();
+
+		for (int count = 0; count < 1000; count++) {
+			value.append("test");
+		}
+
+		byte[] coldValue = ColdSessionCodec.encode(value.toString(), 0L);
+
+		assertThat(coldValue.length).isLessThan(value.length() / 10);
+		assertThat(ColdSessionCodec.expirationTimeOf(coldValue)).isZero();
+		assertThat(ColdSessionCodec.decode(coldValue)).isEqualTo(value.toString());
+	}
+
+	@Test
+	public void isColdSessionWithInvalidValuesIsFalse() {
+
+		byte[] wrongVersion = new byte[32];
+
+		wrongVersion[0] = ColdSessionCodec.VERSION + 1;
+
+		assertThat(ColdSessionCodec.isColdSession(null)).isFalse();
+		assertThat(ColdSessionCodec.isColdSession("test")).isFalse();
+		assertThat(ColdSessionCodec.isColdSession(new byte[0])).isFalse();
+		assertThat(ColdSessionCodec.isColdSession(new byte[] { ColdSessionCodec.VERSION })).isFalse();
+		assertThat(ColdSessionCodec.isColdSession(wrongVersion)).isFalse();
+	}
+
+	@Test(expected = IOException.class)
+	public void decodeInvalidValueThrowsIOException() throws IOException {
+
+		try {
+			ColdSessionCodec.decode(new byte[] { 1, 2, 3 });
+		}
+		catch (IOException expected) {
+
+			assertThat(expected).hasMessage("Value is not a cold Session");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void expirationTimeOfInvalidValueThrowsIllegalArgumentException() {
+
+		try {
+			ColdSessionCodec.expirationTimeOf(new byte[] { 1, 2, 3 });
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Value is not a cold Session");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import org.springframework.session.MapSession;
+
+/**
+ * Unit tests for {@link ColdSession}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.support.ColdSession
+ * @see org.springframework.session.data.gemfire.support.ColdSessionCodec
+ * @since 2.1.3
+ */
+public class ColdSessionUnitTests {
+
+	@Test
+	public void constructColdSession() throws IOException {
+
+		byte[] coldValue = ColdSessionCodec.encode(new MapSession("123"), 5000L);
+
+		ColdSession coldSession = new ColdSession("123", "jonDoe", coldValue);
+
+		assertThat(coldSession.getId()).isEqualTo("123");
+		assertThat(coldSession.getPrincipalName()).isEqualTo("jonDoe");
+		assertThat(coldSession.getValue()).isSameAs(coldValue);
+		assertThat(coldSession.getExpirationTime()).isEqualTo(5000L);
+		assertThat(coldSession.toString()).isEqualTo("ColdSession{id=123, principalName=jonDoe}");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructColdSessionWithNoIdThrowsIllegalArgumentException() throws IOException {
+
+		try {
+			new ColdSession(" ", "jonDoe", ColdSessionCodec.encode(new MapSession("123"), 0L));
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("ID is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructColdSessionWithNonColdValueThrowsIllegalArgumentException() {
+
+		try {
+			new ColdSession("123", "jonDoe", new byte[] { 1 });
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Value is not a cold Session");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void toDataAndFromDataRoundTrips() throws IOException {
+
+		MapSession session = new MapSession("123");
+
+		session.setAttribute("attribute", "test");
+
+		ColdSession coldSession = new ColdSession("123", null, ColdSessionCodec.encode(session, 5000L));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		coldSession.toData(new DataOutputStream(out));
+
+		ColdSession copy = new ColdSession();
+
+		copy.fromData(new DataInputStream(new ByteArrayInputStream(out.toByteArray())));
+
+		assertThat(copy.getId()).isEqualTo("123");
+		assertThat(copy.getPrincipalName()).isNull();
+		assertThat(copy.getValue()).isEqualTo(coldSession.getValue());
+		assertThat(copy.getExpirationTime()).isEqualTo(5000L);
+		assertThat(ColdSessionCodec.decode(copy.getValue())).isEqualTo(session);
+	}
+}
@@ -420,4 +420,40 @@ public class GemFireUtilsTests {
 			.filter(it -> !it.name().toLowerCase().contains("proxy"))
 			.forEach(it -> assertThat(GemFireUtils.isProxy(it)).isFalse());
 	}
+
+	@Test
+	public void regionShortcutIsPartition() {
+
+		Arrays.stream(RegionShortcut.values())
+			.filter(it -> it.name().toLowerCase().startsWith("partition"))
+			.forEach(it -> assertThat(GemFireUtils.isPartition(it)).isTrue());
+	}
+
+	@Test
+	public void regionShortcutIsNotPartition() {
+
+		Arrays.stream(RegionShortcut.values())
+			.filter(it -> !it.name().toLowerCase().startsWith("partition"))
+			.forEach(it -> assertThat(GemFireUtils.isPartition(it)).isFalse());
+
+		assertThat(GemFireUtils.isPartition(null)).isFalse();
+	}
+
+	@Test
+	public void regionShortcutIsPersistent() {
+
+		Arrays.stream(RegionShortcut.values())
+			.filter(it -> it.name().toLowerCase().contains("persistent"))
+			.forEach(it -> assertThat(GemFireUtils.isPersistent(it)).isTrue());
+	}
+
+	@Test
+	public void regionShortcutIsNotPersistent() {
+
+		Arrays.stream(RegionShortcut.values())
+			.filter(it -> !it.name().toLowerCase().contains("persistent"))
+			.forEach(it -> assertThat(GemFireUtils.isPersistent(it)).isFalse());
+
+		assertThat(GemFireUtils.isPersistent((RegionShortcut) null)).isFalse();
+	}
 }
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.session.data.gemfire.support.NegativeLookupCache.MissSource;
+
+/**
+ * Unit tests for {@link NegativeLookupCache}.
+ *
+ * @author John Blum
+ * @see java.time.Clock
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.data.gemfire.support.NegativeLookupCache
+ * @since 2.1.3
+ */
+public class NegativeLookupCacheUnitTests {
+
+	private Clock mockClock;
+
+	@Before
+	public void setup() {
+
+		this.mockClock = mock(Clock.class);
+
+		when(this.mockClock.millis()).thenReturn(1000L);
+	}
+
+	@Test
+	public void constructNegativeLookupCache() {
+
+		NegativeLookupCache negativeLookupCache = new NegativeLookupCache(Duration.ofSeconds(5), 100);
+
+		assertThat(negativeLookupCache.getTimeToLive()).isEqualTo(Duration.ofSeconds(5));
+		assertThat(negativeLookupCache.getMaximumSize()).isEqualTo(100);
+		assertThat(negativeLookupCache.getLookupCount()).isZero();
+		assertThat(negativeLookupCache.size()).isZero();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullTimeToLiveThrowsIllegalArgumentException() {
+
+		try {
+			new NegativeLookupCache(null, 100);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Time-to-live is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithZeroTimeToLiveThrowsIllegalArgumentException() {
+
+		try {
+			new NegativeLookupCache(Duration.ZERO, 100);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Time-to-live [PT0S] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidMaximumSizeThrowsIllegalArgumentException() {
+
+		try {
+			new NegativeLookupCache(Duration.ofSeconds(5), 0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Maximum size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void rememberedSessionIdIsMissingUntilExpired() {
+
+		NegativeLookupCache negativeLookupCache =
+			new NegativeLookupCache(this.mockClock, Duration.ofSeconds(5), 100);
+
+		assertThat(negativeLookupCache.isMissing("1")).isFalse();
+
+		negativeLookupCache.remember("1");
+
+		assertThat(negativeLookupCache.isMissing("1")).isTrue();
+		assertThat(negativeLookupCache.isMissing("2")).isFalse();
+
+		when(this.mockClock.millis()).thenReturn(5999L);
+
+		assertThat(negativeLookupCache.isMissing("1")).isTrue();
+
+		when(this.mockClock.millis()).thenReturn(6000L);
+
+		assertThat(negativeLookupCache.isMissing("1")).isFalse();
+		assertThat(negativeLookupCache.size()).isZero();
+	}
+
+	@Test
+	public void invalidateForgetsSessionId() {
+
+		NegativeLookupCache negativeLookupCache =
+			new NegativeLookupCache(this.mockClock, Duration.ofSeconds(5), 100);
+
+		negativeLookupCache.remember("1");
+		negativeLookupCache.remember("2");
+
+		assertThat(negativeLookupCache.size()).isEqualTo(2);
+
+		negativeLookupCache.invalidate("1");
+
+		assertThat(negativeLookupCache.isMissing("1")).isFalse();
+		assertThat(negativeLookupCache.isMissing("2")).isTrue();
+
+		negativeLookupCache.clear();
+
+		assertThat(negativeLookupCache.isMissing("2")).isFalse();
+		assertThat(negativeLookupCache.size()).isZero();
+	}
+
+	@Test
+	public void evictsSessionIdExpiringSoonestWhenFull() {
+
+		NegativeLookupCache negativeLookupCache =
+			new NegativeLookupCache(this.mockClock, Duration.ofSeconds(5), 2);
+
+		negativeLookupCache.remember("1");
+
+		when(this.mockClock.millis()).thenReturn(1001L);
+
+		negativeLookupCache.remember("2");
+
+		when(this.mockClock.millis()).thenReturn(1002L);
+
+		negativeLookupCache.remember("3");
+
+		assertThat(negativeLookupCache.size()).isEqualTo(2);
+		assertThat(negativeLookupCache.isMissing("1")).isFalse();
+		assertThat(negativeLookupCache.isMissing("2")).isTrue();
+		assertThat(negativeLookupCache.isMissing("3")).isTrue();
+	}
+
+	@Test
+	public void evictsExpiredSessionIdsBeforeLiveSessionIdsWhenFull() {
+
+		NegativeLookupCache negativeLookupCache =
+			new NegativeLookupCache(this.mockClock, Duration.ofSeconds(5), 3);
+
+		negativeLookupCache.remember("1");
+		negativeLookupCache.remember("2");
+
+		when(this.mockClock.millis()).thenReturn(5000L);
+
+		negativeLookupCache.remember("3");
+
+		when(this.mockClock.millis()).thenReturn(6000L);
+
+		negativeLookupCache.remember("4");
+
+		assertThat(negativeLookupCache.size()).isEqualTo(2);
+		assertThat(negativeLookupCache.isMissing("3")).isTrue();
+		assertThat(negativeLookupCache.isMissing("4")).isTrue();
+	}
+
+	@Test
+	public void staysWithinMaximumSizeWhenManySessionIdsAreRemembered() {
+
+		NegativeLookupCache negativeLookupCache =
+			new NegativeLookupCache(this.mockClock, Duration.ofSeconds(5), 10);
+
+		for (int id = 0; id < 1000; id++) {
+			negativeLookupCache.remember(String.valueOf(id));
+		}
+
+		assertThat(negativeLookupCache.size()).isEqualTo(10);
+		assertThat(negativeLookupCache.isMissing("999")).isTrue();
+	}
+
+	@Test
+	public void isNullSafe() {
+
+		NegativeLookupCache negativeLookupCache =
+			new NegativeLookupCache(this.mockClock, Duration.ofSeconds(5), 100);
+
+		negativeLookupCache.remember(null);
+		negativeLookupCache.invalidate(null);
+
+		assertThat(negativeLookupCache.isMissing(null)).isFalse();
+		assertThat(negativeLookupCache.size()).isZero();
+	}
+
+	@Test
+	public void recordsLookupsAndMissesBySource() {
+
+		NegativeLookupCache negativeLookupCache = new NegativeLookupCache(Duration.ofSeconds(5), 100);
+
+		assertThat(negativeLookupCache.getMissRate(MissSource.SESSIONS_REGION)).isEqualTo(0.0d);
+
+		for (int count = 0; count < 4; count++) {
+			negativeLookupCache.recordLookup();
+		}
+
+		negativeLookupCache.recordMiss(MissSource.SESSIONS_REGION);
+		negativeLookupCache.recordMiss(MissSource.NEGATIVE_LOOKUP_CACHE);
+		negativeLookupCache.recordMiss(MissSource.NEGATIVE_LOOKUP_CACHE);
+
+		assertThat(negativeLookupCache.getLookupCount()).isEqualTo(4L);
+		assertThat(negativeLookupCache.getMissCount(MissSource.SESSIONS_REGION)).isEqualTo(1L);
+		assertThat(negativeLookupCache.getMissCount(MissSource.NEGATIVE_LOOKUP_CACHE)).isEqualTo(2L);
+		assertThat(negativeLookupCache.getMissCount(MissSource.EXPIRED_SESSION)).isZero();
+		assertThat(negativeLookupCache.getMissRate(MissSource.SESSIONS_REGION)).isEqualTo(0.25d);
+		assertThat(negativeLookupCache.getMissRate(MissSource.NEGATIVE_LOOKUP_CACHE)).isEqualTo(0.5d);
+	}
+}
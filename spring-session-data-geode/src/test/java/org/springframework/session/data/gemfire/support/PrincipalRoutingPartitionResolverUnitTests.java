@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.EntryOperation;
+
+/**
+ * Unit tests for {@link PrincipalRoutingPartitionResolver}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.EntryOperation
+ * @see org.springframework.session.data.gemfire.support.PrincipalRoutingPartitionResolver
+ * @since 2.1.3
+ */
+public class PrincipalRoutingPartitionResolverUnitTests {
+
+	private final PrincipalRoutingPartitionResolver partitionResolver = new PrincipalRoutingPartitionResolver();
+
+	@SuppressWarnings("unchecked")
+	private Object routingObjectFor(Object key) {
+
+		EntryOperation<Object, Object> mockEntryOperation = mock(EntryOperation.class);
+
+		when(mockEntryOperation.getKey()).thenReturn(key);
+
+		return this.partitionResolver.getRoutingObject(mockEntryOperation);
+	}
+
+	@Test
+	public void routingKeyForPrincipalIsFixedLengthAndStable() {
+
+		String routingKey = PrincipalRoutingPartitionResolver.routingKeyFor("jxblum");
+
+		assertThat(routingKey).hasSize(PrincipalRoutingPartitionResolver.ROUTING_KEY_LENGTH);
+		assertThat(routingKey).matches("[0-9a-f]{8}");
+		assertThat(routingKey).isEqualTo(String.format("%08x", "jxblum".hashCode()));
+		assertThat(PrincipalRoutingPartitionResolver.routingKeyFor("jxblum")).isEqualTo(routingKey);
+		assertThat(PrincipalRoutingPartitionResolver.routingKeyFor("a")).hasSize(8);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void routingKeyForNullPrincipalThrowsIllegalArgumentException() {
+
+		try {
+			PrincipalRoutingPartitionResolver.routingKeyFor(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Principal name is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void newSessionIdIsPrefixedWithRoutingKey() {
+
+		String sessionId = PrincipalRoutingPartitionResolver.newSessionId("jxblum");
+
+		assertThat(sessionId).startsWith(PrincipalRoutingPartitionResolver.routingKeyFor("jxblum") + ".");
+		assertThat(PrincipalRoutingPartitionResolver.routingKeyOf(sessionId))
+			.contains(PrincipalRoutingPartitionResolver.routingKeyFor("jxblum"));
+		assertThat(PrincipalRoutingPartitionResolver.newSessionId("jxblum")).isNotEqualTo(sessionId);
+	}
+
+	@Test
+	public void routingKeyOfUnroutedKeysIsNotPresent() {
+
+		assertThat(PrincipalRoutingPartitionResolver.routingKeyOf(null)).isNotPresent();
+		assertThat(PrincipalRoutingPartitionResolver.routingKeyOf(1L)).isNotPresent();
+		assertThat(PrincipalRoutingPartitionResolver.routingKeyOf("12345678")).isNotPresent();
+		assertThat(PrincipalRoutingPartitionResolver.routingKeyOf(UUID.randomUUID().toString())).isNotPresent();
+	}
+
+	@Test
+	public void isRoutedByPrincipal() {
+
+		String sessionId = PrincipalRoutingPartitionResolver.newSessionId("jxblum");
+
+		assertThat(PrincipalRoutingPartitionResolver.isRoutedBy(sessionId, "jxblum")).isTrue();
+		assertThat(PrincipalRoutingPartitionResolver.isRoutedBy(sessionId, "jdoe")).isFalse();
+		assertThat(PrincipalRoutingPartitionResolver.isRoutedBy(UUID.randomUUID().toString(), "jxblum")).isFalse();
+	}
+
+	@Test
+	public void isRoutedByWithoutPrincipalIsTrue() {
+
+		assertThat(PrincipalRoutingPartitionResolver.isRoutedBy(UUID.randomUUID().toString(), null)).isTrue();
+		assertThat(PrincipalRoutingPartitionResolver.isRoutedBy(UUID.randomUUID().toString(), "  ")).isTrue();
+	}
+
+	@Test
+	public void routingObjectOfRoutedSessionIdsIsRoutingKey() {
+
+		String routingKey = PrincipalRoutingPartitionResolver.routingKeyFor("jxblum");
+
+		assertThat(routingObjectFor(PrincipalRoutingPartitionResolver.newSessionId("jxblum"))).isEqualTo(routingKey);
+		assertThat(routingObjectFor(PrincipalRoutingPartitionResolver.newSessionId("jxblum"))).isEqualTo(routingKey);
+		assertThat(routingObjectFor(routingKey)).isEqualTo(routingKey);
+	}
+
+	@Test
+	public void routingObjectOfUnroutedKeysIsKey() {
+
+		String sessionId = UUID.randomUUID().toString();
+
+		assertThat(routingObjectFor(sessionId)).isEqualTo(sessionId);
+		assertThat(routingObjectFor(1L)).isEqualTo(1L);
+	}
+
+	@Test
+	public void nameIsClassName() {
+		assertThat(this.partitionResolver.getName()).isEqualTo(PrincipalRoutingPartitionResolver.class.getName());
+	}
+}
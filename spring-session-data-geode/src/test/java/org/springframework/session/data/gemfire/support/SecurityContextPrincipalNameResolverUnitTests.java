@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.Principal;
+
+import org.junit.Test;
+
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+/**
+ * Unit tests for {@link SecurityContextPrincipalNameResolver}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.security.core.context.SecurityContextImpl
+ * @see org.springframework.session.data.gemfire.support.SecurityContextPrincipalNameResolver
+ * @since 2.1.3
+ */
+public class SecurityContextPrincipalNameResolverUnitTests {
+
+	private final SecurityContextPrincipalNameResolver resolver = new SecurityContextPrincipalNameResolver();
+
+	@Test
+	public void resolvePrincipalNameFromSecurityContext() {
+
+		SecurityContextImpl securityContext =
+			new SecurityContextImpl(new TestingAuthenticationToken("jxblum", "secret"));
+
+		assertThat(this.resolver.resolvePrincipalName(securityContext)).isEqualTo("jxblum");
+		assertThat(this.resolver.resolvePrincipalName(
+			new SecurityContextImpl(new TestingAuthenticationToken("rwinch", "secret")))).isEqualTo("rwinch");
+	}
+
+	@Test
+	public void resolvePrincipalNameFromSecurityContextWithNoAuthenticationReturnsNull() {
+		assertThat(this.resolver.resolvePrincipalName(new SecurityContextImpl())).isNull();
+	}
+
+	@Test
+	public void resolvePrincipalNameFromNullReturnsNull() {
+		assertThat(this.resolver.resolvePrincipalName(null)).isNull();
+	}
+
+	@Test
+	public void resolvePrincipalNameFromNonPublicTypes() {
+		assertThat(this.resolver.resolvePrincipalName(new NonPublicSecurityContext(() -> "jonDoe")))
+			.isEqualTo("jonDoe");
+	}
+
+	@Test
+	public void resolvePrincipalNameFromFields() {
+		assertThat(this.resolver.resolvePrincipalName(new FieldSecurityContext("janeDoe"))).isEqualTo("janeDoe");
+	}
+
+	@Test(expected = SpelEvaluationException.class)
+	public void resolvePrincipalNameFromObjectWithNoAuthenticationProperty() {
+		this.resolver.resolvePrincipalName(new Object());
+	}
+
+	@Test
+	public void defaultInstanceIsShared() {
+		assertThat(SecurityContextPrincipalNameResolver.INSTANCE).isNotNull();
+		assertThat(SecurityContextPrincipalNameResolver.INSTANCE).isSameAs(SecurityContextPrincipalNameResolver.INSTANCE);
+	}
+
+	private static class NonPublicSecurityContext {
+
+		private final Principal authentication;
+
+		NonPublicSecurityContext(Principal authentication) {
+			this.authentication = authentication;
+		}
+
+		public Principal getAuthentication() {
+			return this.authentication;
+		}
+	}
+
+	public static class FieldSecurityContext {
+
+		public final FieldAuthentication authentication;
+
+		FieldSecurityContext(String name) {
+			this.authentication = new FieldAuthentication(name);
+		}
+	}
+
+	public static class FieldAuthentication {
+
+		public final String name;
+
+		FieldAuthentication(String name) {
+			this.name = name;
+		}
+	}
+}
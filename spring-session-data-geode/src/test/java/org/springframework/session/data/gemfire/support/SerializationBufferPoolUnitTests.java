@@ -0,0 +1,274 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SerializationBufferPool}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.support.SerializationBuffer
+ * @see org.springframework.session.data.gemfire.support.SerializationBufferPool
+ * @since 2.1.3
+ */
+public class SerializationBufferPoolUnitTests {
+
+	private static void fill(SerializationBuffer buffer, int size) {
+
+		for (int count = 0; count < size; count++) {
+			buffer.write(count);
+		}
+	}
+
+	@Test
+	public void constructDefaultSerializationBufferPool() {
+
+		SerializationBufferPool pool = new SerializationBufferPool();
+
+		assertThat(pool.getMinimumBufferSize()).isEqualTo(SerializationBufferPool.DEFAULT_MINIMUM_BUFFER_SIZE);
+		assertThat(pool.getMaximumBufferSize()).isEqualTo(SerializationBufferPool.DEFAULT_MAXIMUM_BUFFER_SIZE);
+		assertThat(pool.getShrinkThreshold()).isEqualTo(SerializationBufferPool.DEFAULT_SHRINK_THRESHOLD);
+	}
+
+	@Test
+	public void constructSerializationBufferPoolRoundsBufferSizesToSizeClasses() {
+
+		SerializationBufferPool pool = new SerializationBufferPool(100, 1000, 4);
+
+		assertThat(pool.getMinimumBufferSize()).isEqualTo(128);
+		assertThat(pool.getMaximumBufferSize()).isEqualTo(1024);
+		assertThat(pool.getShrinkThreshold()).isEqualTo(4);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructSerializationBufferPoolWithInvalidMinimumBufferSize() {
+
+		try {
+			new SerializationBufferPool(0, 1024, 4);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Minimum buffer size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructSerializationBufferPoolWithMaximumLessThanMinimumBufferSize() {
+
+		try {
+			new SerializationBufferPool(1024, 512, 4);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected)
+				.hasMessage("Maximum buffer size [512] must be greater than or equal to minimum buffer size [1024]");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructSerializationBufferPoolWithInvalidShrinkThreshold() {
+
+		try {
+			new SerializationBufferPool(512, 1024, 0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Shrink threshold [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void acquireReusesReleasedBufferOnSameThread() {
+
+		SerializationBufferPool pool = new SerializationBufferPool(64, 1024, 4);
+
+		SerializationBuffer buffer = pool.acquire();
+
+		fill(buffer, 10);
+		buffer.close();
+
+		SerializationBuffer reacquiredBuffer = pool.acquire();
+
+		assertThat(reacquiredBuffer).isSameAs(buffer);
+		assertThat(reacquiredBuffer.size()).isZero();
+
+		reacquiredBuffer.close();
+	}
+
+	@Test
+	public void acquireWhileInUseReturnsUnpooledBuffer() {
+
+		SerializationBufferPool pool = new SerializationBufferPool(64, 1024, 4);
+
+		try (SerializationBuffer buffer = pool.acquire(); SerializationBuffer nestedBuffer = pool.acquire()) {
+
+			assertThat(nestedBuffer).isNotSameAs(buffer);
+			assertThat(nestedBuffer.isPooledBy(pool)).isFalse();
+			assertThat(nestedBuffer.capacity()).isEqualTo(64);
+		}
+
+		try (SerializationBuffer buffer = pool.acquire()) {
+			assertThat(buffer.isPooledBy(pool)).isTrue();
+		}
+	}
+
+	@Test
+	public void acquireOnDifferentThreadsReturnsDifferentBuffers() throws Exception {
+
+		SerializationBufferPool pool = new SerializationBufferPool(64, 1024, 4);
+
+		try (SerializationBuffer buffer = pool.acquire()) {
+
+			SerializationBuffer otherThreadBuffer = CompletableFuture.supplyAsync(() -> {
+				try (SerializationBuffer it = pool.acquire()) {
+					return it;
+				}
+			}).get();
+
+			assertThat(otherThreadBuffer).isNotSameAs(buffer);
+			assertThat(otherThreadBuffer.isPooledBy(pool)).isTrue();
+		}
+	}
+
+	@Test
+	public void releaseBufferLargerThanMaximumBufferSizeShrinksToMinimumBufferSize() {
+
+		SerializationBufferPool pool = new SerializationBufferPool(64, 1024, 4);
+
+		SerializationBuffer buffer = pool.acquire();
+
+		fill(buffer, 1025);
+
+		assertThat(buffer.capacity()).isEqualTo(2048);
+
+		buffer.close();
+
+		assertThat(buffer.capacity()).isEqualTo(64);
+		assertThat(buffer.isInUse()).isFalse();
+	}
+
+	@Test
+	public void releaseBufferRetainsCapacityUpToMaximumBufferSize() {
+
+		SerializationBufferPool pool = new SerializationBufferPool(64, 1024, 4);
+
+		SerializationBuffer buffer = pool.acquire();
+
+		fill(buffer, 1000);
+		buffer.close();
+
+		assertThat(buffer.capacity()).isEqualTo(1024);
+	}
+
+	@Test
+	public void releaseUnderutilizedBufferShrinksAfterShrinkThreshold() {
+
+		SerializationBufferPool pool = new SerializationBufferPool(64, 1024, 4);
+
+		SerializationBuffer buffer = pool.acquire();
+
+		fill(buffer, 1000);
+		buffer.close();
+
+		for (int count = 1; count < pool.getShrinkThreshold(); count++) {
+			fill(pool.acquire(), 100);
+			buffer.close();
+			assertThat(buffer.capacity()).isEqualTo(1024);
+		}
+
+		// A well utilized use resets the count
+		fill(pool.acquire(), 500);
+		buffer.close();
+
+		for (int count = 1; count <= pool.getShrinkThreshold(); count++) {
+			fill(pool.acquire(), 100);
+			buffer.close();
+		}
+
+		assertThat(buffer.capacity()).isEqualTo(512);
+	}
+
+	@Test
+	public void releaseIsIgnoredForBufferNotInUse() {
+
+		SerializationBufferPool pool = new SerializationBufferPool(64, 1024, 4);
+
+		SerializationBuffer buffer = pool.acquire();
+
+		buffer.close();
+		buffer.close();
+
+		assertThat(pool.acquire()).isSameAs(buffer);
+		assertThat(pool.acquire()).isNotSameAs(buffer);
+	}
+
+	@Test
+	public void acquireAndReleaseAllocatesNothing() throws IOException {
+
+		java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+		assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+
+		com.sun.management.ThreadMXBean hotSpotThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+
+		assumeTrue(hotSpotThreadMXBean.isThreadAllocatedMemorySupported());
+
+		hotSpotThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+		SerializationBufferPool pool = new SerializationBufferPool();
+
+		byte[] value = new byte[4096];
+
+		for (int count = 0; count < 100000; count++) {
+			try (SerializationBuffer buffer = pool.acquire()) {
+				buffer.write(value, 0, value.length);
+			}
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long allocatedBytesBefore = hotSpotThreadMXBean.getThreadAllocatedBytes(threadId);
+
+		for (int count = 0; count < 10000; count++) {
+			try (SerializationBuffer buffer = pool.acquire()) {
+				buffer.write(value, 0, value.length);
+			}
+		}
+
+		long allocatedBytes = hotSpotThreadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+
+		// Far less than one 4 KB buffer per use
+		assertThat(allocatedBytes / 10000).isLessThan(64L);
+	}
+}
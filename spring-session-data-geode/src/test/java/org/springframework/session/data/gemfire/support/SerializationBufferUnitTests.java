@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SerializationBuffer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.session.data.gemfire.support.SerializationBuffer
+ * @since 2.1.3
+ */
+public class SerializationBufferUnitTests {
+
+	@Test
+	public void capacityForRoundsUpToPowerOfTwo() {
+
+		assertThat(SerializationBuffer.capacityFor(0)).isEqualTo(1);
+		assertThat(SerializationBuffer.capacityFor(1)).isEqualTo(1);
+		assertThat(SerializationBuffer.capacityFor(5)).isEqualTo(8);
+		assertThat(SerializationBuffer.capacityFor(1024)).isEqualTo(1024);
+		assertThat(SerializationBuffer.capacityFor(1025)).isEqualTo(2048);
+		assertThat(SerializationBuffer.capacityFor((1 << 30) + 1)).isEqualTo(Integer.MAX_VALUE - 8);
+	}
+
+	@Test(expected = OutOfMemoryError.class)
+	public void capacityForNegativeSizeThrowsOutOfMemoryError() {
+		SerializationBuffer.capacityFor(-1);
+	}
+
+	@Test
+	public void writesThroughDataOutputAndGrowsBySizeClass() throws IOException {
+
+		SerializationBuffer buffer = new SerializationBuffer(4);
+
+		assertThat(buffer.capacity()).isEqualTo(4);
+		assertThat(buffer.size()).isZero();
+
+		buffer.getDataOutput().writeUTF("jxblum");
+		buffer.getDataOutput().writeLong(123L);
+
+		assertThat(buffer.size()).isEqualTo(16);
+		assertThat(buffer.capacity()).isEqualTo(16);
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+
+		assertThat(in.readUTF()).isEqualTo("jxblum");
+		assertThat(in.readLong()).isEqualTo(123L);
+	}
+
+	@Test
+	public void resetRetainsCapacity() {
+
+		SerializationBuffer buffer = new SerializationBuffer(2);
+
+		buffer.write(new byte[] { 1, 2, 3 }, 0, 3);
+
+		assertThat(buffer.capacity()).isEqualTo(4);
+
+		buffer.reset();
+
+		assertThat(buffer.size()).isZero();
+		assertThat(buffer.capacity()).isEqualTo(4);
+		assertThat(buffer.toByteArray()).isEmpty();
+	}
+
+	@Test
+	public void writeToDataOutput() throws IOException {
+
+		DataOutput mockDataOutput = mock(DataOutput.class);
+
+		SerializationBuffer buffer = new SerializationBuffer(8);
+
+		buffer.write(new byte[] { 1, 2, 3, 4, 5 }, 1, 3);
+		buffer.writeTo(mockDataOutput);
+		buffer.writeTo(mockDataOutput, 1, 2);
+
+		verify(mockDataOutput).write(same(buffer.getBuffer()), eq(0), eq(3));
+		verify(mockDataOutput).write(same(buffer.getBuffer()), eq(1), eq(2));
+		assertThat(buffer.toByteArray()).containsExactly(2, 3, 4);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void writeToWithInvalidRangeThrowsIndexOutOfBoundsException() throws IOException {
+
+		SerializationBuffer buffer = new SerializationBuffer(8);
+
+		buffer.write(1);
+		buffer.writeTo(mock(DataOutput.class), 0, 2);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void writeWithInvalidRangeThrowsIndexOutOfBoundsException() {
+		new SerializationBuffer(8).write(new byte[2], 1, 2);
+	}
+
+	@Test
+	public void closeUnpooledBufferResetsBuffer() {
+
+		SerializationBuffer buffer = new SerializationBuffer(8);
+
+		buffer.write(1);
+		buffer.close();
+
+		assertThat(buffer.size()).isZero();
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.util.ObjectSizer;
+
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+
+/**
+ * Unit tests for {@link SessionObjectSizer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.util.ObjectSizer
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.support.SessionObjectSizer
+ * @since 2.1.3
+ */
+public class SessionObjectSizerUnitTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullObjectSizer() {
+
+		try {
+			new SessionObjectSizer(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("ObjectSizer is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void sizeofSessionWithoutAttributes() {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		assertThat(SessionObjectSizer.INSTANCE.sizeof(session)).isEqualTo(SessionObjectSizer.SESSION_OVERHEAD
+			+ SessionObjectSizer.STRING_OVERHEAD + 2 * session.getId().length());
+	}
+
+	@Test
+	public void sizeofSessionIncreasesWithAttributeValueSize() {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		int emptySessionSize = SessionObjectSizer.INSTANCE.sizeof(session);
+
+		session.setAttribute("cart", "abc");
+
+		int smallSessionSize = SessionObjectSizer.INSTANCE.sizeof(session);
+
+		assertThat(smallSessionSize).isEqualTo(emptySessionSize + SessionObjectSizer.ATTRIBUTE_OVERHEAD
+			+ 2 * (SessionObjectSizer.STRING_OVERHEAD + 2 * 4) - 2);
+
+		session.setAttribute("cart", new String(new char[10000]));
+
+		assertThat(SessionObjectSizer.INSTANCE.sizeof(session))
+			.isEqualTo(smallSessionSize + 2 * (10000 - 3));
+	}
+
+	@Test
+	public void sizeofSessionDoesNotAcquireSessionLock() throws Exception {
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setAttribute("bytes", new byte[1024]);
+
+		boolean delta = session.hasDelta();
+
+		session.getAttributes().getLock().lock();
+
+		try {
+			int size = CompletableFuture.supplyAsync(() -> SessionObjectSizer.INSTANCE.sizeof(session))
+				.get(5, TimeUnit.SECONDS);
+
+			assertThat(size).isGreaterThan(1024);
+			assertThat(session.hasDelta()).isEqualTo(delta);
+		}
+		finally {
+			session.getAttributes().getLock().unlock();
+		}
+	}
+
+	@Test
+	public void sizeofSessionUsesObjectSizerForOtherAttributeValues() {
+
+		ObjectSizer mockObjectSizer = mock(ObjectSizer.class);
+
+		Instant now = Instant.now();
+
+		when(mockObjectSizer.sizeof(eq(now))).thenReturn(4096);
+
+		SessionObjectSizer sessionObjectSizer = new SessionObjectSizer(mockObjectSizer);
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		session.setAttribute("long", 1L);
+		session.setAttribute("timestamp", now);
+
+		assertThat(sessionObjectSizer.sizeof(session)).isGreaterThan(4096 + SessionObjectSizer.BOXED_PRIMITIVE_SIZE);
+
+		verify(mockObjectSizer, times(1)).sizeof(eq(now));
+		verify(mockObjectSizer, never()).sizeof(eq(1L));
+	}
+
+	@Test
+	public void sizeofNonGemFireSession() {
+
+		Session mockSession = mock(Session.class);
+
+		when(mockSession.getId()).thenReturn("123");
+		when(mockSession.getAttributeNames()).thenReturn(new HashSet<>(Arrays.asList("one", "two")));
+		when(mockSession.getAttribute(eq("one"))).thenReturn(new byte[100]);
+		when(mockSession.getAttribute(eq("two"))).thenReturn(null);
+
+		assertThat(SessionObjectSizer.INSTANCE.sizeof(mockSession)).isEqualTo(SessionObjectSizer.SESSION_OVERHEAD
+			+ SessionObjectSizer.STRING_OVERHEAD + 6
+			+ 2 * (SessionObjectSizer.ATTRIBUTE_OVERHEAD + SessionObjectSizer.STRING_OVERHEAD + 6)
+			+ SessionObjectSizer.BYTE_ARRAY_OVERHEAD + 100);
+	}
+
+	@Test
+	public void sizeofValues() {
+
+		ObjectSizer mockObjectSizer = mock(ObjectSizer.class);
+
+		SessionObjectSizer sessionObjectSizer = new SessionObjectSizer(mockObjectSizer);
+
+		assertThat(sessionObjectSizer.sizeof(null)).isZero();
+		assertThat(sessionObjectSizer.sizeof("test")).isEqualTo(SessionObjectSizer.STRING_OVERHEAD + 8);
+		assertThat(sessionObjectSizer.sizeof(new byte[64])).isEqualTo(SessionObjectSizer.BYTE_ARRAY_OVERHEAD + 64);
+		assertThat(sessionObjectSizer.sizeof(42)).isEqualTo(SessionObjectSizer.BOXED_PRIMITIVE_SIZE);
+		assertThat(sessionObjectSizer.sizeof(true)).isEqualTo(SessionObjectSizer.BOXED_PRIMITIVE_SIZE);
+
+		verify(mockObjectSizer, never()).sizeof(any());
+	}
+}
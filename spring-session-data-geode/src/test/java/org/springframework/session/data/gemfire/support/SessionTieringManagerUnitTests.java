@@ -0,0 +1,752 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.TIERING_CALLBACK_ARGUMENT;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheLoaderException;
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.EntryExistsException;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.ExpirationAction;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.PartitionAttributes;
+import org.apache.geode.cache.PartitionAttributesFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionFactory;
+import org.apache.geode.cache.StatisticsDisabledException;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.IndexNameConflictException;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.RegionNotFoundException;
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.data.gemfire.GemfireOperations;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.expiration.SessionExpirationPolicy;
+
+/**
+ * Unit tests for {@link SessionTieringManager}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.Cache
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.session.data.gemfire.support.ColdSession
+ * @see org.springframework.session.data.gemfire.support.ColdSessionCodec
+ * @see org.springframework.session.data.gemfire.support.SessionTieringManager
+ * @since 2.1.3
+ */
+public class SessionTieringManagerUnitTests {
+
+	private static final String SESSION_REGION_NAME = "Sessions";
+
+	private AttributesMutator<Object, Object> mockAttributesMutator;
+	private AttributesMutator<Object, Object> mockColdAttributesMutator;
+
+	private Cache mockCache;
+
+	private QueryService mockQueryService;
+
+	private Region<Object, Object> mockColdRegion;
+	private Region<Object, Object> mockSessionRegion;
+
+	private RegionAttributes<Object, Object> mockRegionAttributes;
+
+	private SessionTieringManager sessionTieringManager;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.mockAttributesMutator = mock(AttributesMutator.class);
+		this.mockColdAttributesMutator = mock(AttributesMutator.class);
+		this.mockCache = mock(Cache.class);
+		this.mockColdRegion = mock(Region.class);
+		this.mockQueryService = mock(QueryService.class);
+		this.mockSessionRegion = mock(Region.class);
+		this.mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(this.mockCache.getRegion(eq(SESSION_REGION_NAME))).thenReturn(this.mockSessionRegion);
+		when(this.mockCache.getQueryService()).thenReturn(this.mockQueryService);
+		when(this.mockColdRegion.getFullPath()).thenReturn(Region.SEPARATOR + "SessionsCold");
+		when(this.mockColdRegion.getAttributesMutator()).thenReturn(this.mockColdAttributesMutator);
+		when(this.mockSessionRegion.getName()).thenReturn(SESSION_REGION_NAME);
+		when(this.mockSessionRegion.getFullPath()).thenReturn(Region.SEPARATOR + SESSION_REGION_NAME);
+		when(this.mockSessionRegion.getAttributes()).thenReturn(this.mockRegionAttributes);
+		when(this.mockSessionRegion.getAttributesMutator()).thenReturn(this.mockAttributesMutator);
+		when(this.mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.REPLICATE);
+
+		this.sessionTieringManager =
+			new SessionTieringManager(this.mockCache, SESSION_REGION_NAME, Duration.ofMinutes(30L));
+	}
+
+	@After
+	public void tearDown() {
+		this.sessionTieringManager.destroy();
+	}
+
+	private SessionTieringManager initializedSessionTieringManager() {
+
+		when(this.mockCache.getRegion(eq(SessionTieringManager.coldRegionName(SESSION_REGION_NAME))))
+			.thenReturn(this.mockColdRegion);
+
+		this.sessionTieringManager.afterPropertiesSet();
+
+		return this.sessionTieringManager;
+	}
+
+	private MapSession newSession(String id, Instant lastAccessedTime, Duration maxInactiveInterval) {
+
+		MapSession session = new MapSession(id);
+
+		session.setAttribute("attribute", "test");
+		session.setLastAccessedTime(lastAccessedTime);
+		session.setMaxInactiveInterval(maxInactiveInterval);
+
+		return session;
+	}
+
+	private ColdSession newColdSession(String id, Object value, long expirationTime) throws IOException {
+		return new ColdSession(id, null, ColdSessionCodec.encode(value, expirationTime));
+	}
+
+	@SuppressWarnings("unchecked")
+	private EntryEvent<Object, Object> mockEvent(Operation operation, boolean originRemote, Object oldValue) {
+
+		EntryEvent<Object, Object> mockEvent = mock(EntryEvent.class);
+
+		when(mockEvent.getOperation()).thenReturn(operation);
+		when(mockEvent.isOriginRemote()).thenReturn(originRemote);
+		when(mockEvent.getKey()).thenReturn("1");
+		when(mockEvent.getOldValue()).thenReturn(oldValue);
+
+		return mockEvent;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Region.Entry<Object, Object> mockEntry(Object value, Long lastAccessedTime) {
+
+		Region.Entry<Object, Object> mockEntry = mock(Region.Entry.class);
+
+		when(mockEntry.getValue()).thenReturn(value);
+
+		if (lastAccessedTime != null) {
+
+			CacheStatistics mockStatistics = mock(CacheStatistics.class);
+
+			when(mockStatistics.getLastAccessedTime()).thenReturn(lastAccessedTime);
+			when(mockEntry.getStatistics()).thenReturn(mockStatistics);
+		}
+		else {
+			when(mockEntry.getStatistics()).thenThrow(new StatisticsDisabledException("test"));
+		}
+
+		return mockEntry;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructSessionTieringManagerWithNullCacheThrowsIllegalArgumentException() {
+
+		try {
+			new SessionTieringManager(null, SESSION_REGION_NAME, Duration.ofMinutes(30L));
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("GemFireCache is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructSessionTieringManagerWithNoRegionNameThrowsIllegalArgumentException() {
+
+		try {
+			new SessionTieringManager(this.mockCache, "  ", Duration.ofMinutes(30L));
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Session Region name is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void coldRegionNameIsSessionRegionNameWithSuffix() {
+		assertThat(SessionTieringManager.coldRegionName("Sessions")).isEqualTo("SessionsCold");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void demotedSessionsFinderQueriesColdRegionAndPromotesDemotedSessions() {
+
+		GemfireOperations mockSessionsTemplate = mock(GemfireOperations.class);
+
+		SelectResults<Object> mockColdSelectResults = mock(SelectResults.class);
+
+		Session mockSession = mock(Session.class);
+
+		String expectedColdOql = String.format(SessionTieringManager.FIND_COLD_SESSION_IDS_BY_PRINCIPAL_NAME_QUERY,
+			"/SessionsCold");
+
+		when(mockColdSelectResults.iterator()).thenReturn(Arrays.<Object>asList("1", "2").iterator());
+		when(mockSessionsTemplate.find(eq(expectedColdOql), eq("jblum"))).thenReturn(mockColdSelectResults);
+		when(mockSessionsTemplate.get(eq("1"))).thenReturn(mockSession);
+
+		Function<String, List<Session>> demotedSessionsFinder =
+			SessionTieringManager.newDemotedSessionsFinder(mockSessionsTemplate, "/Sessions");
+
+		assertThat(demotedSessionsFinder.apply("jblum")).containsExactly(mockSession);
+
+		verify(mockSessionsTemplate, times(1)).find(eq(expectedColdOql), eq("jblum"));
+		verify(mockSessionsTemplate, times(1)).get(eq("1"));
+		verify(mockSessionsTemplate, times(1)).get(eq("2"));
+	}
+
+	@Test
+	public void demotedSessionsFinderStopsQueryingWhenColdRegionIsNotFound() {
+
+		GemfireOperations mockSessionsTemplate = mock(GemfireOperations.class);
+
+		when(mockSessionsTemplate.find(anyString(), eq("jblum")))
+			.thenThrow(new IllegalStateException(new RegionNotFoundException("test")));
+
+		Function<String, List<Session>> demotedSessionsFinder =
+			SessionTieringManager.newDemotedSessionsFinder(mockSessionsTemplate, "/Sessions");
+
+		assertThat(demotedSessionsFinder.apply("jblum")).isEmpty();
+		assertThat(demotedSessionsFinder.apply("jblum")).isEmpty();
+
+		verify(mockSessionsTemplate, times(1)).find(anyString(), eq("jblum"));
+	}
+
+	@Test
+	public void demotedSessionsFinderKeepsQueryingAfterOtherFailures() {
+
+		GemfireOperations mockSessionsTemplate = mock(GemfireOperations.class);
+
+		when(mockSessionsTemplate.find(anyString(), eq("jblum"))).thenThrow(new IllegalStateException("test"));
+
+		Function<String, List<Session>> demotedSessionsFinder =
+			SessionTieringManager.newDemotedSessionsFinder(mockSessionsTemplate, "/Sessions");
+
+		assertThat(demotedSessionsFinder.apply("jblum")).isEmpty();
+		assertThat(demotedSessionsFinder.apply("jblum")).isEmpty();
+
+		verify(mockSessionsTemplate, times(2)).find(anyString(), eq("jblum"));
+	}
+
+	@Test
+	public void demotionIntervalIsHalfTheIdleTimeoutBounded() {
+
+		assertThat(new SessionTieringManager(this.mockCache, SESSION_REGION_NAME, Duration.ofSeconds(60L))
+			.getDemotionInterval()).isEqualTo(Duration.ofSeconds(30L));
+
+		assertThat(new SessionTieringManager(this.mockCache, SESSION_REGION_NAME, Duration.ofMillis(500L))
+			.getDemotionInterval()).isEqualTo(Duration.ofSeconds(1L));
+
+		assertThat(new SessionTieringManager(this.mockCache, SESSION_REGION_NAME, Duration.ofHours(1L))
+			.getDemotionInterval()).isEqualTo(Duration.ofMinutes(1L));
+
+		assertThat(new SessionTieringManager(this.mockCache, SESSION_REGION_NAME, null)
+			.getDemotionInterval()).isEqualTo(Duration.ofSeconds(30L));
+	}
+
+	@Test
+	public void isEnabledForPeerRegionStoringSessions() {
+		assertThat(this.sessionTieringManager.isEnabled()).isTrue();
+	}
+
+	@Test
+	public void isNotEnabledWithNoIdleTimeout() {
+
+		assertThat(new SessionTieringManager(this.mockCache, SESSION_REGION_NAME, null).isEnabled()).isFalse();
+		assertThat(new SessionTieringManager(this.mockCache, SESSION_REGION_NAME, Duration.ZERO).isEnabled())
+			.isFalse();
+		assertThat(new SessionTieringManager(this.mockCache, SESSION_REGION_NAME, Duration.ofSeconds(-1L))
+			.isEnabled()).isFalse();
+	}
+
+	@Test
+	public void isNotEnabledForClientCache() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		doReturn(this.mockSessionRegion).when(mockClientCache).getRegion(eq(SESSION_REGION_NAME));
+
+		assertThat(new SessionTieringManager(mockClientCache, SESSION_REGION_NAME, Duration.ofMinutes(30L))
+			.isEnabled()).isFalse();
+	}
+
+	@Test
+	public void isNotEnabledForRegionNotStoringSessions() {
+
+		when(this.mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.EMPTY);
+
+		assertThat(this.sessionTieringManager.isEnabled()).isFalse();
+	}
+
+	@Test
+	public void isNotEnabledWhenRegionDoesNotExist() {
+		assertThat(new SessionTieringManager(this.mockCache, "NonExistingRegion", Duration.ofMinutes(30L))
+			.isEnabled()).isFalse();
+	}
+
+	@Test
+	public void afterPropertiesSetWhenDisabledDoesNothing() {
+
+		when(this.mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.EMPTY);
+
+		this.sessionTieringManager.afterPropertiesSet();
+
+		assertThat(this.sessionTieringManager.getColdRegion()).isNull();
+		assertThat(this.sessionTieringManager.demoteIdleSessions()).isZero();
+
+		verifyZeroInteractions(this.mockAttributesMutator);
+	}
+
+	@Test
+	public void afterPropertiesSetUsesExistingColdRegionAndInstallsPromotingCacheLoader() {
+
+		SessionTieringManager sessionTieringManager = initializedSessionTieringManager();
+
+		assertThat(sessionTieringManager.getColdRegion()).isSameAs(this.mockColdRegion);
+
+		verify(this.mockAttributesMutator).setCacheLoader(isA(SessionTieringManager.PromotingCacheLoader.class));
+		verify(this.mockColdAttributesMutator)
+			.addCacheListener(isA(SessionTieringManager.ColdSessionExpirationListener.class));
+		verify(this.mockCache, never()).createRegionFactory(any(RegionAttributes.class));
+	}
+
+	@Test
+	public void afterPropertiesSetCreatesPrincipalNameIndexOnColdRegion() throws Exception {
+
+		initializedSessionTieringManager();
+
+		verify(this.mockQueryService).createIndex(eq(SessionTieringManager.COLD_PRINCIPAL_NAME_INDEX_NAME),
+			eq("principalName"), eq("/SessionsCold"));
+	}
+
+	@Test
+	public void afterPropertiesSetUsesExistingPrincipalNameIndex() throws Exception {
+
+		when(this.mockQueryService.getIndex(eq(this.mockColdRegion),
+			eq(SessionTieringManager.COLD_PRINCIPAL_NAME_INDEX_NAME))).thenReturn(mock(Index.class));
+
+		initializedSessionTieringManager();
+
+		verify(this.mockQueryService, never()).createIndex(anyString(), anyString(), anyString());
+	}
+
+	@Test
+	public void afterPropertiesSetIgnoresPrincipalNameIndexCreationFailure() throws Exception {
+
+		when(this.mockQueryService.createIndex(anyString(), anyString(), anyString()))
+			.thenThrow(new IndexNameConflictException("test"));
+
+		assertThat(initializedSessionTieringManager().getColdRegion()).isSameAs(this.mockColdRegion);
+
+		verify(this.mockAttributesMutator).setCacheLoader(isA(SessionTieringManager.PromotingCacheLoader.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void afterPropertiesSetCreatesColdRegionColocatedWithSessionRegion() {
+
+		PartitionAttributes<Object, Object> partitionAttributes =
+			new PartitionAttributesFactory<>().setRedundantCopies(1).setTotalNumBuckets(37).create();
+
+		RegionFactory<Object, Object> mockRegionFactory = mock(RegionFactory.class);
+
+		when(this.mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.PARTITION);
+		when(this.mockRegionAttributes.getPartitionAttributes()).thenReturn(partitionAttributes);
+		when(this.mockCache.createRegionFactory(eq(this.mockRegionAttributes))).thenReturn(mockRegionFactory);
+		when(mockRegionFactory.create(anyString())).thenReturn(this.mockColdRegion);
+
+		this.sessionTieringManager.afterPropertiesSet();
+
+		assertThat(this.sessionTieringManager.getColdRegion()).isSameAs(this.mockColdRegion);
+
+		verify(mockRegionFactory).initCacheListeners(null);
+		verify(mockRegionFactory).setCacheLoader(null);
+		verify(mockRegionFactory).setCompressor(null);
+		verify(mockRegionFactory).setCustomEntryTimeToLive(isA(SessionTieringManager.ColdSessionCustomExpiry.class));
+		verify(mockRegionFactory).setPartitionAttributes(argThat(it ->
+			"/Sessions".equals(it.getColocatedWith())
+				&& it.getRedundantCopies() == 1
+				&& it.getTotalNumBuckets() == 37));
+		verify(mockRegionFactory).create(eq("SessionsCold"));
+	}
+
+	@Test
+	public void demoteIdleSessionsDemotesOnlyIdleSessions() throws IOException {
+
+		long now = System.currentTimeMillis();
+
+		MapSession idleSession = newSession("1", Instant.ofEpochMilli(now).minus(Duration.ofHours(1L)),
+			Duration.ofHours(2L));
+
+		MapSession activeSession = newSession("2", Instant.ofEpochMilli(now), Duration.ofHours(2L));
+
+		Region.Entry<Object, Object> idleEntry = mockEntry(idleSession, null);
+		Region.Entry<Object, Object> activeEntry = mockEntry(activeSession, now);
+
+		when(this.mockSessionRegion.keySet()).thenReturn(new HashSet<>(Arrays.asList("1", "2")));
+		when(this.mockSessionRegion.getEntry(eq("1"))).thenReturn(idleEntry);
+		when(this.mockSessionRegion.getEntry(eq("2"))).thenReturn(activeEntry);
+		when(this.mockSessionRegion.destroy(eq("1"), eq(TIERING_CALLBACK_ARGUMENT)))
+			.thenReturn(idleSession);
+
+		assertThat(initializedSessionTieringManager().demoteIdleSessions()).isEqualTo(1);
+
+		ArgumentCaptor<Object> coldValue = ArgumentCaptor.forClass(Object.class);
+
+		verify(this.mockColdRegion).put(eq("1"), coldValue.capture());
+		verify(this.mockColdRegion, never()).put(eq("2"), any());
+		verify(this.mockSessionRegion, never()).destroy(eq("2"), any());
+
+		assertThat(coldValue.getValue()).isInstanceOf(ColdSession.class);
+
+		ColdSession coldSession = (ColdSession) coldValue.getValue();
+
+		assertThat(coldSession.getId()).isEqualTo("1");
+		assertThat(coldSession.getPrincipalName()).isNull();
+		assertThat(coldSession.getExpirationTime())
+			.isEqualTo(idleSession.getLastAccessedTime().plus(Duration.ofHours(2L)).toEpochMilli());
+		assertThat(ColdSessionCodec.decode(coldSession.getValue())).isEqualTo(idleSession);
+	}
+
+	@Test
+	public void demoteKeepsPrincipalNameOfSession() {
+
+		MapSession session = newSession("1", Instant.now().minus(Duration.ofHours(1L)), Duration.ofHours(2L));
+
+		session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "jonDoe");
+
+		when(this.mockSessionRegion.destroy(eq("1"), eq(TIERING_CALLBACK_ARGUMENT)))
+			.thenReturn(session);
+
+		assertThat(initializedSessionTieringManager()
+			.demote(this.mockSessionRegion, "1", session, System.currentTimeMillis())).isTrue();
+
+		ArgumentCaptor<Object> coldValue = ArgumentCaptor.forClass(Object.class);
+
+		verify(this.mockColdRegion).put(eq("1"), coldValue.capture());
+
+		assertThat(coldValue.getValue()).isInstanceOf(ColdSession.class);
+		assertThat(((ColdSession) coldValue.getValue()).getPrincipalName()).isEqualTo("jonDoe");
+	}
+
+	@Test
+	public void demoteSkipsRecentlyAccessedSession() {
+
+		long idleSince = System.currentTimeMillis() - Duration.ofMinutes(30L).toMillis();
+
+		MapSession session = newSession("1", Instant.now(), Duration.ofHours(2L));
+
+		assertThat(initializedSessionTieringManager().demote(this.mockSessionRegion, "1", session, idleSince))
+			.isFalse();
+
+		verify(this.mockColdRegion, never()).put(any(), any());
+		verify(this.mockColdRegion, never()).remove(any());
+		verify(this.mockSessionRegion, never()).destroy(any(), any());
+	}
+
+	@Test
+	public void demoteSkipsExpiredSession() {
+
+		MapSession session = newSession("1", Instant.now().minus(Duration.ofHours(1L)), Duration.ofMinutes(30L));
+
+		assertThat(initializedSessionTieringManager()
+			.demote(this.mockSessionRegion, "1", session, System.currentTimeMillis())).isFalse();
+
+		verify(this.mockColdRegion, never()).put(any(), any());
+		verify(this.mockColdRegion, never()).remove(any());
+		verify(this.mockSessionRegion, never()).destroy(any(), any());
+	}
+
+	@Test
+	public void demoteSkipsNonSessionValue() {
+
+		assertThat(initializedSessionTieringManager()
+			.demote(this.mockSessionRegion, "1", "test", System.currentTimeMillis())).isFalse();
+
+		verify(this.mockColdRegion, never()).put(any(), any());
+		verify(this.mockColdRegion, never()).remove(any());
+	}
+
+	@Test
+	public void demoteRemovesColdSessionWhenSessionWasDeleted() {
+
+		MapSession session = newSession("1", Instant.now().minus(Duration.ofHours(1L)), Duration.ofHours(2L));
+
+		doThrow(new EntryNotFoundException("test")).when(this.mockSessionRegion)
+			.destroy(eq("1"), eq(TIERING_CALLBACK_ARGUMENT));
+
+		assertThat(initializedSessionTieringManager()
+			.demote(this.mockSessionRegion, "1", session, System.currentTimeMillis())).isFalse();
+
+		verify(this.mockColdRegion).put(eq("1"), any());
+		verify(this.mockColdRegion).remove(eq("1"));
+	}
+
+	@Test
+	public void demoteRestoresSessionAccessedWhileDemoting() {
+
+		Instant lastAccessedTime = Instant.now().minus(Duration.ofHours(1L));
+
+		MapSession session = newSession("1", lastAccessedTime, Duration.ofHours(2L));
+		MapSession accessedSession = newSession("1", Instant.now(), Duration.ofHours(2L));
+
+		when(this.mockSessionRegion.destroy(eq("1"), eq(TIERING_CALLBACK_ARGUMENT)))
+			.thenReturn(accessedSession);
+
+		assertThat(initializedSessionTieringManager()
+			.demote(this.mockSessionRegion, "1", session, System.currentTimeMillis())).isFalse();
+
+		verify(this.mockColdRegion).put(eq("1"), any());
+		verify(this.mockColdRegion).remove(eq("1"));
+		verify(this.mockSessionRegion)
+			.put(eq("1"), eq(accessedSession), eq(TIERING_CALLBACK_ARGUMENT));
+	}
+
+	@Test
+	public void demoteUsesSessionExpirationPolicy() {
+
+		SessionExpirationPolicy mockSessionExpirationPolicy = mock(SessionExpirationPolicy.class);
+
+		MapSession session = newSession("1", Instant.now().minus(Duration.ofHours(1L)), Duration.ofHours(2L));
+
+		when(mockSessionExpirationPolicy.determineExpirationTimeout(any()))
+			.thenReturn(Optional.of(Duration.ofMinutes(10L)));
+
+		when(this.mockSessionRegion.destroy(eq("1"), eq(TIERING_CALLBACK_ARGUMENT)))
+			.thenReturn(session);
+
+		SessionTieringManager sessionTieringManager = initializedSessionTieringManager();
+
+		sessionTieringManager.setSessionExpirationPolicy(mockSessionExpirationPolicy);
+
+		long before = System.currentTimeMillis();
+
+		assertThat(sessionTieringManager.demote(this.mockSessionRegion, "1", session, before)).isTrue();
+
+		long after = System.currentTimeMillis();
+
+		ArgumentCaptor<Object> coldValue = ArgumentCaptor.forClass(Object.class);
+
+		verify(this.mockColdRegion).put(eq("1"), coldValue.capture());
+
+		assertThat(((ColdSession) coldValue.getValue()).getExpirationTime())
+			.isBetween(before + Duration.ofMinutes(10L).toMillis(), after + Duration.ofMinutes(10L).toMillis());
+	}
+
+	@Test
+	public void promoteDecodesAndRemovesColdSession() throws IOException {
+
+		MapSession session = newSession("1", Instant.now(), Duration.ofHours(2L));
+
+		long expirationTime = System.currentTimeMillis() + Duration.ofHours(2L).toMillis();
+
+		when(this.mockColdRegion.remove(eq("1"))).thenReturn(newColdSession("1", session, expirationTime));
+
+		Object promotedValue = initializedSessionTieringManager().promote("1");
+
+		assertThat(promotedValue).isInstanceOf(Session.class);
+		assertThat(promotedValue).isEqualTo(session);
+		assertThat(((Session) promotedValue).<String>getAttribute("attribute")).isEqualTo("test");
+
+		verify(this.mockColdRegion).remove(eq("1"));
+	}
+
+	@Test
+	public void promoteExpiredColdSessionReturnsNull() throws IOException {
+
+		MapSession session = newSession("1", Instant.now(), Duration.ofHours(2L));
+
+		when(this.mockColdRegion.remove(eq("1")))
+			.thenReturn(newColdSession("1", session, System.currentTimeMillis() - 1000L));
+
+		assertThat(initializedSessionTieringManager().promote("1")).isNull();
+	}
+
+	@Test
+	public void promoteMissingColdSessionReturnsNull() {
+
+		assertThat(initializedSessionTieringManager().promote("1")).isNull();
+		assertThat(this.sessionTieringManager.promote(null)).isNull();
+	}
+
+	@Test
+	public void promoteWhenNotInitializedReturnsNull() {
+		assertThat(this.sessionTieringManager.promote("1")).isNull();
+	}
+
+	@Test(expected = CacheLoaderException.class)
+	public void promoteCorruptColdSessionThrowsCacheLoaderException() {
+
+		byte[] corruptColdValue = new byte[32];
+
+		corruptColdValue[0] = ColdSessionCodec.VERSION;
+		corruptColdValue[1] = 0;
+
+		when(this.mockColdRegion.remove(eq("1"))).thenReturn(new ColdSession("1", null, corruptColdValue));
+
+		try {
+			initializedSessionTieringManager().promote("1");
+		}
+		catch (CacheLoaderException expected) {
+
+			assertThat(expected).hasMessage("Failed to promote Session [1]");
+			assertThat(expected).hasCauseInstanceOf(IOException.class);
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void coldSessionCustomExpiryExpiresAtSessionExpirationTime() throws IOException {
+
+		SessionTieringManager.ColdSessionCustomExpiry customExpiry = new SessionTieringManager.ColdSessionCustomExpiry();
+
+		Region.Entry<Object, Object> expiringEntry = mockEntry(newColdSession("1", "test",
+			System.currentTimeMillis() + Duration.ofSeconds(90L).toMillis()), null);
+
+		Region.Entry<Object, Object> nonExpiringEntry = mockEntry(newColdSession("2", "test", 0L), null);
+
+		ExpirationAttributes expirationAttributes = customExpiry.getExpiry(expiringEntry);
+
+		assertThat(expirationAttributes).isNotNull();
+		assertThat(expirationAttributes.getTimeout()).isBetween(89, 90);
+		assertThat(expirationAttributes.getAction()).isEqualTo(ExpirationAction.DESTROY);
+		assertThat(customExpiry.getExpiry(nonExpiringEntry)).isNull();
+		assertThat(customExpiry.getExpiry(mockEntry("test", null))).isNull();
+		assertThat(customExpiry.getExpiry(mockEntry(ColdSessionCodec.encode("test", 0L), null))).isNull();
+		assertThat(customExpiry.getExpiry(null)).isNull();
+	}
+
+	@Test
+	public void expireRestoresAndInvalidatesSession() throws IOException {
+
+		MapSession session = newSession("1", Instant.now().minus(Duration.ofHours(3L)), Duration.ofHours(2L));
+
+		assertThat(initializedSessionTieringManager().expire("1", newColdSession("1", session, 1L))).isTrue();
+
+		verify(this.mockSessionRegion)
+			.create(eq("1"), eq(session), eq(TIERING_CALLBACK_ARGUMENT));
+		verify(this.mockSessionRegion).invalidate(eq("1"));
+	}
+
+	@Test
+	public void expireDoesNotInvalidateRecreatedSession() throws IOException {
+
+		MapSession session = newSession("1", Instant.now().minus(Duration.ofHours(3L)), Duration.ofHours(2L));
+
+		doThrow(new EntryExistsException("test", null)).when(this.mockSessionRegion)
+			.create(eq("1"), any(), eq(TIERING_CALLBACK_ARGUMENT));
+
+		assertThat(initializedSessionTieringManager().expire("1", newColdSession("1", session, 1L))).isFalse();
+
+		verify(this.mockSessionRegion, never()).invalidate(any());
+	}
+
+	@Test
+	public void expireIgnoresNonColdSessionValue() throws IOException {
+
+		assertThat(initializedSessionTieringManager().expire("1", ColdSessionCodec.encode("test", 1L))).isFalse();
+		assertThat(this.sessionTieringManager.expire("1", null)).isFalse();
+
+		verify(this.mockSessionRegion, never()).create(any(), any(), any());
+		verify(this.mockSessionRegion, never()).invalidate(any());
+	}
+
+	@Test
+	public void coldSessionExpirationListenerExpiresSessionOnLocalExpiration() throws IOException {
+
+		MapSession session = newSession("1", Instant.now().minus(Duration.ofHours(3L)), Duration.ofHours(2L));
+
+		ColdSession coldSession = newColdSession("1", session, 1L);
+
+		SessionTieringManager.ColdSessionExpirationListener listener =
+			this.sessionTieringManager.new ColdSessionExpirationListener();
+
+		listener.afterDestroy(mockEvent(Operation.EXPIRE_DESTROY, false, coldSession));
+
+		verify(this.mockSessionRegion, times(1))
+			.create(eq("1"), eq(session), eq(TIERING_CALLBACK_ARGUMENT));
+		verify(this.mockSessionRegion, times(1)).invalidate(eq("1"));
+	}
+
+	@Test
+	public void coldSessionExpirationListenerIgnoresPromotionAndRemoteExpiration() throws IOException {
+
+		MapSession session = newSession("1", Instant.now().minus(Duration.ofHours(3L)), Duration.ofHours(2L));
+
+		ColdSession coldSession = newColdSession("1", session, 1L);
+
+		SessionTieringManager.ColdSessionExpirationListener listener =
+			this.sessionTieringManager.new ColdSessionExpirationListener();
+
+		listener.afterDestroy(mockEvent(Operation.DESTROY, false, coldSession));
+		listener.afterDestroy(mockEvent(Operation.EXPIRE_DESTROY, true, coldSession));
+
+		verify(this.mockSessionRegion, never()).create(any(), any(), any());
+		verify(this.mockSessionRegion, never()).invalidate(any());
+	}
+}
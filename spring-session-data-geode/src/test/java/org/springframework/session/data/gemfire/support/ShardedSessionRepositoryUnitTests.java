@@ -0,0 +1,585 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
+
+/**
+ * Unit tests for {@link ShardedSessionRepository}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.session.FindByIndexNameSessionRepository
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.data.gemfire.support.ShardedSessionRepository
+ * @since 2.1.3
+ */
+public class ShardedSessionRepositoryUnitTests {
+
+	private static final int SESSION_COUNT = 3000;
+
+	private Map<String, FindByIndexNameSessionRepository<Session>> shards;
+
+	@Before
+	public void setup() {
+
+		this.shards = new LinkedHashMap<>();
+		this.shards.put("one", mockShard());
+		this.shards.put("two", mockShard());
+		this.shards.put("three", mockShard());
+	}
+
+	@SuppressWarnings("unchecked")
+	private FindByIndexNameSessionRepository<Session> mockShard() {
+		return mock(FindByIndexNameSessionRepository.class);
+	}
+
+	private String sessionIdOwnedBy(ShardedSessionRepository<Session> sessionRepository, String shardName) {
+
+		return shardNamesOf(sessionRepository).entrySet().stream()
+			.filter(entry -> entry.getValue().equals(shardName))
+			.map(Map.Entry::getKey)
+			.findFirst()
+			.orElseThrow(IllegalStateException::new);
+	}
+
+	private Map<String, String> shardNamesOf(ShardedSessionRepository<Session> sessionRepository) {
+
+		return IntStream.range(0, SESSION_COUNT)
+			.mapToObj(count -> UUID.randomUUID().toString())
+			.collect(Collectors.toMap(Function.identity(), sessionRepository::getShardName));
+	}
+
+	@Test
+	public void constructsShardedSessionRepository() {
+
+		ShardedSessionRepository<Session> sessionRepository = new ShardedSessionRepository<>(this.shards);
+
+		assertThat(sessionRepository.getShardNames()).containsExactly("one", "two", "three");
+		assertThat(sessionRepository.getVirtualNodesPerShard())
+			.isEqualTo(ShardedSessionRepository.DEFAULT_VIRTUAL_NODES_PER_SHARD);
+		assertThat(sessionRepository.isRebalancing()).isFalse();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructShardedSessionRepositoryWithNoShardsThrowsIllegalArgumentException() {
+
+		try {
+			new ShardedSessionRepository<>(Collections.emptyMap());
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Shards are required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructShardedSessionRepositoryWithNullShardThrowsIllegalArgumentException() {
+
+		this.shards.put("four", null);
+
+		try {
+			new ShardedSessionRepository<>(this.shards);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("SessionRepository for shard [four] is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructShardedSessionRepositoryWithNoVirtualNodesThrowsIllegalArgumentException() {
+
+		try {
+			new ShardedSessionRepository<>(this.shards, 0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Virtual nodes per shard [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void hashIsStable() {
+
+		assertThat(ShardedSessionRepository.hash("test")).isEqualTo(ShardedSessionRepository.hash("test"));
+		assertThat(ShardedSessionRepository.hash("one#1")).isNotEqualTo(ShardedSessionRepository.hash("one#2"));
+	}
+
+	@Test
+	public void sessionsAreSpreadEvenlyOverShards() {
+
+		ShardedSessionRepository<Session> sessionRepository = new ShardedSessionRepository<>(this.shards);
+
+		Map<String, Long> sessionCountPerShard = shardNamesOf(sessionRepository).values().stream()
+			.collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+		assertThat(sessionCountPerShard).containsOnlyKeys("one", "two", "three");
+		assertThat(sessionCountPerShard.values())
+			.allSatisfy(sessionCount -> assertThat(sessionCount).isBetween(SESSION_COUNT / 4L, SESSION_COUNT / 2L));
+	}
+
+	@Test
+	public void sessionsAreOwnedByTheSameShardAcrossInstances() {
+
+		ShardedSessionRepository<Session> sessionRepository = new ShardedSessionRepository<>(this.shards);
+
+		Map<String, String> shardNames = shardNamesOf(sessionRepository);
+
+		ShardedSessionRepository<Session> otherSessionRepository = new ShardedSessionRepository<>(this.shards);
+
+		shardNames.forEach((sessionId, shardName) ->
+			assertThat(otherSessionRepository.getShardName(sessionId)).isEqualTo(shardName));
+	}
+
+	@Test
+	public void addShardOnlyMovesSessionsToNewShard() {
+
+		ShardedSessionRepository<Session> sessionRepository = new ShardedSessionRepository<>(this.shards);
+
+		Map<String, String> shardNames = shardNamesOf(sessionRepository);
+
+		sessionRepository.addShard("four", mockShard());
+
+		assertThat(sessionRepository.getShardNames()).containsExactly("one", "two", "three", "four");
+		assertThat(sessionRepository.isRebalancing()).isTrue();
+
+		long movedSessionCount = shardNames.entrySet().stream()
+			.filter(entry -> !sessionRepository.getShardName(entry.getKey()).equals(entry.getValue()))
+			.peek(entry -> assertThat(sessionRepository.getShardName(entry.getKey())).isEqualTo("four"))
+			.count();
+
+		assertThat(movedSessionCount).isBetween(SESSION_COUNT / 8L, SESSION_COUNT / 3L);
+
+		sessionRepository.completeRebalancing();
+
+		assertThat(sessionRepository.isRebalancing()).isFalse();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void addExistingShardThrowsIllegalArgumentException() {
+
+		ShardedSessionRepository<Session> sessionRepository = new ShardedSessionRepository<>(this.shards);
+
+		try {
+			sessionRepository.addShard("two", mockShard());
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Shard [two] already exists");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			assertThat(sessionRepository.isRebalancing()).isFalse();
+		}
+	}
+
+	@Test
+	public void createSessionUsesFirstShard() {
+
+		Session mockSession = mock(Session.class);
+
+		when(this.shards.get("one").createSession()).thenReturn(mockSession);
+
+		assertThat(new ShardedSessionRepository<>(this.shards).createSession()).isSameAs(mockSession);
+	}
+
+	@Test
+	public void findByIdFindsSessionInOwningShard() {
+
+		ShardedSessionRepository<Session> sessionRepository = new ShardedSessionRepository<>(this.shards);
+
+		Session mockSession = mock(Session.class);
+
+		String sessionId = UUID.randomUUID().toString();
+
+		SessionRepository<Session> owner = this.shards.get(sessionRepository.getShardName(sessionId));
+
+		when(owner.findById(eq(sessionId))).thenReturn(mockSession);
+
+		assertThat(sessionRepository.findById(sessionId)).isSameAs(mockSession);
+
+		this.shards.values().stream()
+			.filter(shard -> shard != owner)
+			.forEach(shard -> verify(shard, never()).findById(any()));
+	}
+
+	@Test
+	public void findByIdWithNoIdReturnsNull() {
+
+		ShardedSessionRepository<Session> sessionRepository = new ShardedSessionRepository<>(this.shards);
+
+		assertThat(sessionRepository.findById(null)).isNull();
+		assertThat(sessionRepository.findById("  ")).isNull();
+
+		this.shards.values().forEach(shard -> verify(shard, never()).findById(any()));
+	}
+
+	@Test
+	public void findByIdWhileRebalancingMigratesSessionFromPreviousShard() {
+
+		ShardedSessionRepository<Session> sessionRepository = new ShardedSessionRepository<>(this.shards);
+
+		Map<String, String> shardNames = shardNamesOf(sessionRepository);
+
+		FindByIndexNameSessionRepository<Session> newShard = mockShard();
+
+		sessionRepository.addShard("four", newShard);
+
+		String sessionId = shardNames.keySet().stream()
+			.filter(id -> sessionRepository.getShardName(id).equals("four"))
+			.findFirst()
+			.orElseThrow(IllegalStateException::new);
+
+		GemFireSession<?> session = GemFireSession.from(sessionId, 1L, 2L, 1000L);
+
+		SessionRepository<Session> previousOwner = this.shards.get(shardNames.get(sessionId));
+
+		when(previousOwner.findById(eq(sessionId))).thenReturn(session);
+
+		assertThat(sessionRepository.findById(sessionId)).isSameAs(session);
+
+		verify(newShard, times(1)).findById(eq(sessionId));
+		verify(previousOwner, times(1)).findById(eq(sessionId));
+		verify(newShard, times(1)).save(argThat(migratedSession -> {
+
+			assertThat(migratedSession).isNotSameAs(session);
+			assertThat(migratedSession.getId()).isEqualTo(sessionId);
+			assertThat(((GemFireSession<?>) migratedSession).hasDelta()).isTrue();
+
+			return true;
+		}));
+
+		verify(previousOwner, never()).deleteById(any());
+
+		sessionRepository.completeRebalancing();
+
+		assertThat(sessionRepository.findById(sessionId)).isNull();
+
+		verify(newShard, times(2)).findById(eq(sessionId));
+		verify(previousOwner, times(1)).findById(eq(sessionId));
+	}
+
+	@Test
+	public void findByIdWhileRebalancingRemovesSessionMigratedFromPreviousGemFireShard() {
+
+		GemFireOperationsSessionRepository previousOwner = mock(GemFireOperationsSessionRepository.class);
+
+		ShardedSessionRepository<Session> sessionRepository =
+			new ShardedSessionRepository<>(Collections.singletonMap("one", previousOwner));
+
+		FindByIndexNameSessionRepository<Session> newShard = mockShard();
+
+		sessionRepository.addShard("two", newShard);
+
+		String sessionId = sessionIdOwnedBy(sessionRepository, "two");
+
+		GemFireSession<?> session = GemFireSession.from(sessionId, 1L, 2L, 1000L);
+
+		when(previousOwner.findById(eq(sessionId))).thenReturn(session);
+
+		assertThat(sessionRepository.findById(sessionId)).isSameAs(session);
+
+		InOrder inOrder = inOrder(newShard, previousOwner);
+
+		inOrder.verify(newShard, times(1)).save(argThat(migratedSession -> sessionId.equals(migratedSession.getId())));
+		inOrder.verify(previousOwner, times(1)).deleteMigratedById(eq(sessionId));
+
+		verify(previousOwner, never()).deleteById(any());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void findByIdWhileRebalancingKeepsSessionInPreviousShardWhenMigrationFails() {
+
+		GemFireOperationsSessionRepository previousOwner = mock(GemFireOperationsSessionRepository.class);
+
+		ShardedSessionRepository<Session> sessionRepository =
+			new ShardedSessionRepository<>(Collections.singletonMap("one", previousOwner));
+
+		FindByIndexNameSessionRepository<Session> newShard = mockShard();
+
+		sessionRepository.addShard("two", newShard);
+
+		String sessionId = sessionIdOwnedBy(sessionRepository, "two");
+
+		when(previousOwner.findById(eq(sessionId))).thenReturn(GemFireSession.from(sessionId, 1L, 2L, 1000L));
+
+		doThrow(new IllegalStateException("test")).when(newShard).save(any());
+
+		try {
+			sessionRepository.findById(sessionId);
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("test");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(previousOwner, never()).deleteMigratedById(any());
+			verify(previousOwner, never()).deleteById(any());
+		}
+	}
+
+	@Test
+	public void saveSavesSessionToOwningShard() {
+
+		ShardedSessionRepository<Session> sessionRepository = new ShardedSessionRepository<>(this.shards);
+
+		GemFireSession<?> session = GemFireSession.create();
+
+		SessionRepository<Session> owner = this.shards.get(sessionRepository.getShardName(session.getId()));
+
+		sessionRepository.save(session);
+		sessionRepository.save(null);
+
+		verify(owner, times(1)).save(eq(session));
+
+		this.shards.values().stream()
+			.filter(shard -> shard != owner)
+			.forEach(shard -> verify(shard, never()).save(any()));
+	}
+
+	@Test
+	public void saveMigratesSessionWhenIdChangedToIdOwnedByOtherShard() {
+
+		ShardedSessionRepository<Session> sessionRepository = new ShardedSessionRepository<>(this.shards);
+
+		Session mockSession = mock(Session.class);
+
+		String sessionId = UUID.randomUUID().toString();
+		String otherShardName = sessionRepository.getShardName(sessionId);
+
+		String changedSessionId = shardNamesOf(sessionRepository).entrySet().stream()
+			.filter(entry -> !entry.getValue().equals(otherShardName))
+			.map(Map.Entry::getKey)
+			.findFirst()
+			.orElseThrow(IllegalStateException::new);
+
+		when(mockSession.getId()).thenReturn(sessionId, changedSessionId);
+
+		sessionRepository.save(mockSession);
+
+		verify(this.shards.get(otherShardName), times(1)).save(eq(mockSession));
+		verify(this.shards.get(sessionRepository.getShardName(changedSessionId)), times(1))
+			.save(eq(mockSession));
+	}
+
+	@Test
+	public void saveRemovesSessionMigratedFromGemFireShardWhenIdChanged() {
+
+		GemFireOperationsSessionRepository mockGemFireShard = mock(GemFireOperationsSessionRepository.class);
+
+		Map<String, SessionRepository<Session>> shards = new LinkedHashMap<>();
+
+		shards.put("one", mockGemFireShard);
+		shards.put("two", mockShard());
+
+		ShardedSessionRepository<Session> sessionRepository = new ShardedSessionRepository<>(shards);
+
+		Session mockSession = mock(Session.class);
+
+		String sessionId = sessionIdOwnedBy(sessionRepository, "one");
+		String changedSessionId = sessionIdOwnedBy(sessionRepository, "two");
+
+		when(mockSession.getId()).thenReturn(sessionId, changedSessionId);
+
+		sessionRepository.save(mockSession);
+
+		InOrder inOrder = inOrder(mockGemFireShard, shards.get("two"));
+
+		inOrder.verify(mockGemFireShard, times(1)).save(eq(mockSession));
+		inOrder.verify(shards.get("two"), times(1)).save(eq(mockSession));
+		inOrder.verify(mockGemFireShard, times(1)).deleteMigratedById(eq(changedSessionId));
+	}
+
+	@Test
+	public void deleteByIdWhileRebalancingDeletesSessionFromCurrentAndPreviousShards() {
+
+		ShardedSessionRepository<Session> sessionRepository = new ShardedSessionRepository<>(this.shards);
+
+		Map<String, String> shardNames = shardNamesOf(sessionRepository);
+
+		FindByIndexNameSessionRepository<Session> newShard = mockShard();
+
+		sessionRepository.addShard("four", newShard);
+
+		String movedSessionId = shardNames.keySet().stream()
+			.filter(id -> sessionRepository.getShardName(id).equals("four"))
+			.findFirst()
+			.orElseThrow(IllegalStateException::new);
+
+		sessionRepository.deleteById(movedSessionId);
+
+		verify(newShard, times(1)).deleteById(eq(movedSessionId));
+		verify(this.shards.get(shardNames.get(movedSessionId)), times(1)).deleteById(eq(movedSessionId));
+
+		sessionRepository.completeRebalancing();
+		sessionRepository.deleteById(movedSessionId);
+
+		verify(newShard, times(2)).deleteById(eq(movedSessionId));
+		verify(this.shards.get(shardNames.get(movedSessionId)), times(1)).deleteById(eq(movedSessionId));
+	}
+
+	@Test
+	public void findByIndexNameAndIndexValueMergesSessionsFromOwningShards() {
+
+		ShardedSessionRepository<Session> sessionRepository = new ShardedSessionRepository<>(this.shards);
+
+		String indexName = FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME;
+
+		String sessionId = sessionIdOwnedBy(sessionRepository, "one");
+		String sessionIdOwnedByThree = sessionIdOwnedBy(sessionRepository, "three");
+		String staleSessionId = shardNamesOf(sessionRepository).entrySet().stream()
+			.filter(entry -> entry.getValue().equals("one") && !entry.getKey().equals(sessionId))
+			.map(Map.Entry::getKey)
+			.findFirst()
+			.orElseThrow(IllegalStateException::new);
+
+		Session ownedSession = mock(Session.class);
+		Session sessionThree = mock(Session.class);
+		Session staleSession = mock(Session.class);
+
+		Map<String, Session> staleSessions = new LinkedHashMap<>();
+
+		staleSessions.put(sessionId, staleSession);
+		staleSessions.put(staleSessionId, staleSession);
+
+		Map<String, Session> sessionsOfThree = new LinkedHashMap<>();
+
+		sessionsOfThree.put(sessionId, staleSession);
+		sessionsOfThree.put(sessionIdOwnedByThree, sessionThree);
+
+		when(this.shards.get("one").findByIndexNameAndIndexValue(eq(indexName), eq("jxblum")))
+			.thenReturn(Collections.singletonMap(sessionId, ownedSession));
+		when(this.shards.get("two").findByIndexNameAndIndexValue(eq(indexName), eq("jxblum")))
+			.thenReturn(staleSessions);
+		when(this.shards.get("three").findByIndexNameAndIndexValue(eq(indexName), eq("jxblum")))
+			.thenReturn(sessionsOfThree);
+
+		Map<String, Session> sessions = sessionRepository.findByIndexNameAndIndexValue(indexName, "jxblum");
+
+		assertThat(sessions).containsOnlyKeys(sessionId, sessionIdOwnedByThree);
+		assertThat(sessions.get(sessionId)).isSameAs(ownedSession);
+		assertThat(sessions.get(sessionIdOwnedByThree)).isSameAs(sessionThree);
+
+		this.shards.values().forEach(shard ->
+			verify(shard, times(1)).findByIndexNameAndIndexValue(eq(indexName), eq("jxblum")));
+	}
+
+	@Test
+	public void findByIndexNameAndIndexValueWhileRebalancingAcceptsSessionsFromPreviousOwner() {
+
+		ShardedSessionRepository<Session> sessionRepository = new ShardedSessionRepository<>(this.shards);
+
+		Map<String, String> shardNames = shardNamesOf(sessionRepository);
+
+		FindByIndexNameSessionRepository<Session> newShard = mockShard();
+
+		sessionRepository.addShard("four", newShard);
+
+		String indexName = FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME;
+
+		String movedSessionId = shardNames.keySet().stream()
+			.filter(id -> sessionRepository.getShardName(id).equals("four"))
+			.findFirst()
+			.orElseThrow(IllegalStateException::new);
+
+		String previousOwnerName = shardNames.get(movedSessionId);
+
+		Session movedSession = mock(Session.class);
+		Session staleSession = mock(Session.class);
+
+		when(newShard.findByIndexNameAndIndexValue(eq(indexName), eq("jxblum"))).thenReturn(Collections.emptyMap());
+
+		this.shards.forEach((shardName, shard) ->
+			when(shard.findByIndexNameAndIndexValue(eq(indexName), eq("jxblum")))
+				.thenReturn(Collections.singletonMap(movedSessionId,
+					shardName.equals(previousOwnerName) ? movedSession : staleSession)));
+
+		assertThat(sessionRepository.findByIndexNameAndIndexValue(indexName, "jxblum"))
+			.containsOnlyKeys(movedSessionId)
+			.containsValue(movedSession);
+
+		sessionRepository.completeRebalancing();
+
+		assertThat(sessionRepository.findByIndexNameAndIndexValue(indexName, "jxblum")).isEmpty();
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	@SuppressWarnings("unchecked")
+	public void findByIndexNameAndIndexValueWithNonIndexingShardThrowsUnsupportedOperationException() {
+
+		SessionRepository<Session> mockSessionRepository = mock(SessionRepository.class);
+
+		ShardedSessionRepository<Session> sessionRepository =
+			new ShardedSessionRepository<>(Collections.singletonMap("one", mockSessionRepository));
+
+		try {
+			sessionRepository.findByIndexNameAndIndexValue("name", "value");
+		}
+		catch (UnsupportedOperationException expected) {
+
+			assertThat(expected).hasMessage("SessionRepository [%s] does not support finding Sessions by index",
+				mockSessionRepository.getClass().getName());
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}